@@ -0,0 +1,45 @@
+package com.warehouse.config;
+
+import com.warehouse.service.ItemIdCache;
+import com.warehouse.service.QrCodeService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Счётчики кэшей инстанса — в метрики actuator (management-порт, см. application.yml), а не в API:
+ * кэши общие для всех компаний, поэтому пользователям компаний их не показываем.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MeterBinder itemIdCacheMetrics(ItemIdCache itemIdCache) {
+        return registry -> bind(registry, "warehouse.cache.item-id", itemIdCache, ItemIdCache::stats,
+                List.of("hits", "misses", "evictions", "stale"), List.of("entries"));
+    }
+
+    @Bean
+    public MeterBinder qrCacheMetrics(QrCodeService qrCodeService) {
+        return registry -> bind(registry, "warehouse.cache.qr", qrCodeService, QrCodeService::cacheStats,
+                List.of("hits", "misses", "evictions"), List.of("entries", "bytes", "maxBytes"));
+    }
+
+    // Монотонные счётчики — FunctionCounter, текущие размеры — Gauge; значения читаются из stats() при сборе метрик
+    private static <T> void bind(MeterRegistry registry, String prefix, T cache, Function<T, Map<String, Long>> stats,
+                                 List<String> counters, List<String> gauges) {
+        for (String key : counters) {
+            FunctionCounter.builder(prefix + "." + key, cache, c -> stats.apply(c).get(key)).register(registry);
+        }
+        for (String key : gauges) {
+            Gauge.builder(prefix + "." + key, cache, c -> stats.apply(c).get(key)).register(registry);
+        }
+    }
+}
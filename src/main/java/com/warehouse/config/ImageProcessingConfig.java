@@ -0,0 +1,27 @@
+package com.warehouse.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+    // Декодирование фото съедает память и CPU — держим мало потоков и ограниченную очередь;
+    // при переполнении задачу выполняет вызывающий поток (естественный backpressure для загрузок)
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(@Value("${app.images.variant-threads:2}") int threads,
+                                                       @Value("${app.images.variant-queue:500}") int queue) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queue);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
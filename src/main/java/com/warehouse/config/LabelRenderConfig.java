@@ -0,0 +1,18 @@
+package com.warehouse.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class LabelRenderConfig {
+
+    // Отдельный ограниченный пул: большой лист этикеток не должен занимать common pool и все ядра
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool labelRenderPool(@Value("${app.labels.render-parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors());
+        return new ForkJoinPool(threads);
+    }
+}
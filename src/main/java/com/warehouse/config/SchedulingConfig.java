@@ -0,0 +1,10 @@
+package com.warehouse.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Фоновые задачи по расписанию (@Scheduled), например чистка журнала изменений в SyncService
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
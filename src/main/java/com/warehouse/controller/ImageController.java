@@ -0,0 +1,61 @@
+package com.warehouse.controller;
+
+import com.warehouse.service.ItemImageService;
+import com.warehouse.storage.BlobKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    // Ключ — хэш содержимого: по этому URL всегда отдаётся один и тот же файл
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final ItemImageService itemImageService;
+
+    @GetMapping("/{key}")
+    public ResponseEntity<InputStreamResource> getImage(@PathVariable String key, WebRequest webRequest) throws IOException {
+        if (!BlobKeys.isKey(key)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        String etag = "\"" + key + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build();
+        }
+        Optional<InputStream> image = itemImageService.open(key);
+        if (image.isEmpty() && BlobKeys.isVariant(key)) {
+            // Уменьшенная копия ещё строится — отдаём оригинал, но без долгого кэширования
+            image = itemImageService.open(BlobKeys.originalKey(key));
+            if (image.isPresent()) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(BlobKeys.contentType(key)))
+                        .cacheControl(CacheControl.noCache())
+                        .body(new InputStreamResource(image.get()));
+            }
+        }
+        if (image.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(BlobKeys.contentType(key)))
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .body(new InputStreamResource(image.get()));
+    }
+}
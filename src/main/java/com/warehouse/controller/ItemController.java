@@ -2,20 +2,33 @@ package com.warehouse.controller;
 
 import com.warehouse.model.Item;
 import com.warehouse.model.dto.ItemDTO;
+import com.warehouse.model.dto.ItemImportResultDTO;
+import com.warehouse.model.dto.StockAdjustmentDTO;
+import com.warehouse.model.dto.StockAdjustmentResultDTO;
+import com.warehouse.service.DataVersionService;
+import com.warehouse.service.ExportService;
+import com.warehouse.service.ItemImportService;
 import com.warehouse.service.ItemService;
-import com.warehouse.utils.ItemComparator;
+import com.warehouse.service.QrCodeService;
+import com.warehouse.utils.ExportFormat;
+import com.warehouse.utils.FieldSelection;
+import com.warehouse.utils.ItemSortField;
+import com.warehouse.utils.QrFormat;
+import com.warehouse.utils.TrigramIndex;
 import com.warehouse.service.mapper.interfaces.ItemMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/items")
@@ -24,15 +37,18 @@ import java.util.List;
 public class ItemController {
     private final ItemService itemService;
     private final ItemMapper itemMapper;
+    private final QrCodeService qrCodeService;
+    private final ExportService exportService;
+    private final DataVersionService dataVersionService;
+    private final ItemImportService itemImportService;
 
     @PostMapping
     public ResponseEntity<ItemDTO> addItem(@RequestBody ItemDTO itemDTO) {
         try {
             var itemEntity = itemMapper.toEntity(itemDTO);
             var savedItem = itemService.addItem(itemEntity);
-            String qrCodeBase64 = itemMapper.mapQrCodeToString(savedItem.getQrCode());
             ItemDTO responseDTO = itemMapper.toDTO(savedItem);
-            responseDTO.setQrCode(qrCodeBase64);
+            responseDTO.setQrCode(qrCodeService.renderBase64(savedItem.getId()));
             return ResponseEntity.ok(responseDTO);
         } catch (IllegalArgumentException e) {
             // Логируем ошибку перед возвратом BAD_REQUEST
@@ -46,12 +62,36 @@ public class ItemController {
     }
 
     @GetMapping("/{id}/download-qrcode")
-    public ResponseEntity<ByteArrayResource> downloadQRCode(@PathVariable String id) {
+    public ResponseEntity<ByteArrayResource> downloadQRCode(@PathVariable String id,
+                                                            @RequestParam(value = "format", defaultValue = "png") String format,
+                                                            @RequestParam(value = "size", defaultValue = "200") int size,
+                                                            @RequestParam(value = "margin", defaultValue = "4") int margin,
+                                                            WebRequest webRequest) {
+        QrFormat qrFormat;
+        String etag;
         try {
-            byte[] qrCodeBytes = itemService.getQRCode(id);
+            qrFormat = QrFormat.from(format);
+            etag = qrCodeService.etag(id, qrFormat, size, margin);
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        try {
+            if (!itemService.existsById(id)) {
+                throw new IllegalArgumentException("Item not found for ID: " + id);
+            }
+            // If-None-Match совпал — отвечаем 304 без рендера и тела
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(QrCodeService.DOWNLOAD_CACHE_CONTROL)
+                        .build();
+            }
+            byte[] qrCodeBytes = qrCodeService.render(id, qrFormat, size, margin);
             return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + id + ".png")
-                    .contentType(MediaType.IMAGE_PNG)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + id + "." + qrFormat.getExtension())
+                    .eTag(etag)
+                    .cacheControl(QrCodeService.DOWNLOAD_CACHE_CONTROL)
+                    .contentType(qrFormat.getMediaType())
                     .contentLength(qrCodeBytes.length)
                     .body(new ByteArrayResource(qrCodeBytes));
         } catch (IllegalArgumentException e) {
@@ -89,29 +129,86 @@ public class ItemController {
         }
     }
 
+    // Массовая загрузка каталога из .xlsx/.csv: upsert по названию, в ответе — отчёт по ошибочным строкам
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ItemImportResultDTO> importItems(@RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.ok(itemImportService.importItems(file));
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (java.io.IOException e) {
+            throw new org.springframework.web.server.ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Не удалось прочитать файл: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Без параметров пагинации — прежний полный список (совместимость с текущим фронтом).
+     * С ?limit= и/или ?after= — keyset-страница {items, nextCursor, total}, отсортированная в БД по sortBy.
+     */
     @GetMapping
-    public List<ItemDTO> getAllItems() {
+    public ResponseEntity<?> getAllItems(@RequestParam(value = "after", required = false) String after,
+                                         @RequestParam(value = "limit", required = false) Integer limit,
+                                         @RequestParam(value = "sortBy", required = false) String sortBy,
+                                         @RequestParam(value = "withTotal", defaultValue = "true") boolean withTotal,
+                                         @RequestParam(value = "fields", required = false) String fields,
+                                         WebRequest webRequest) {
+        // Данные компании не менялись с прошлого опроса — 304 без обращения к товарам
+        String etag = dataVersionService.currentEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         try {
-            List<Item> items = itemService.getAllItems();
-            return itemMapper.toDTOList(items);
+            Set<String> selected = FieldSelection.parse(fields, ItemService.LIST_FIELDS);
+            if (selected != null) {
+                if (after != null || limit != null) {
+                    throw new IllegalArgumentException("Параметр fields не поддерживается вместе с after/limit.");
+                }
+                return listResponse(etag, itemService.getItemFields(ItemSortField.from(sortBy), selected));
+            }
+            if (after == null && limit == null) {
+                List<Item> items = itemService.getAllItems();
+                return listResponse(etag, qrCodeService.withItemQrCodes(itemMapper.toDTOList(items)));
+            }
+            return listResponse(etag, itemService.getItemsPage(after, limit, sortBy, withTotal));
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         } catch (Exception e) {
             throw new RuntimeException("Ошибка при получении всех товаров.", e);
         }
     }
 
+    /**
+     * Пакетная корректировка остатков (приёмка поставки): результат по каждой строке в порядке запроса.
+     * 400 — пустой или слишком большой пакет.
+     */
+    @PostMapping("/stock-adjustments")
+    public ResponseEntity<List<StockAdjustmentResultDTO>> applyStockAdjustments(@RequestBody List<StockAdjustmentDTO> lines) {
+        if (lines == null || lines.isEmpty()) {
+            return ResponseEntity.badRequest().body(List.of());
+        }
+        try {
+            return ResponseEntity.ok(itemService.applyStockAdjustments(lines));
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     @GetMapping("/sorted")
-    public List<ItemDTO> getSortedItems(@RequestParam("sortBy") String sortBy) {
-        try {
-            switch (sortBy.toLowerCase()) {
-                case "name":
-                    return itemMapper.toDTOList(itemService.getAllItemsSorted(ItemComparator.BY_NAME));
-                case "quantity":
-                    return itemMapper.toDTOList(itemService.getAllItemsSorted(ItemComparator.BY_QUANTITY));
-                case "sold":
-                    return itemMapper.toDTOList(itemService.getAllItemsSorted(ItemComparator.BY_SOLD));
-                default:
-                    throw new IllegalArgumentException("Параметр sortBy недействителен. Используйте 'name', 'quantity' или 'sold'.");
+    public ResponseEntity<?> getSortedItems(@RequestParam("sortBy") String sortBy,
+                                            @RequestParam(value = "fields", required = false) String fields,
+                                            WebRequest webRequest) {
+        String etag = dataVersionService.currentEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        try {
+            Set<String> selected = FieldSelection.parse(fields, ItemService.LIST_FIELDS);
+            if (selected != null) {
+                return listResponse(etag, itemService.getItemFields(ItemSortField.from(sortBy), selected));
             }
+            List<ItemDTO> items = itemMapper.toDTOList(itemService.getAllItemsSorted(ItemSortField.from(sortBy)));
+            return listResponse(etag, qrCodeService.withItemQrCodes(items));
         } catch (IllegalArgumentException e) {
             throw new org.springframework.web.server.ResponseStatusException(
                     org.springframework.http.HttpStatus.BAD_REQUEST, e.getMessage(), e
@@ -123,11 +220,27 @@ public class ItemController {
         }
     }
 
+    @PutMapping("/sort-locale")
+    public ResponseEntity<Void> changeSortLocale(@RequestParam("lang") String lang) {
+        try {
+            itemService.changeSortLocale(lang);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
     @GetMapping("/sold")
-    public ResponseEntity<List<ItemDTO>> getAllItemsWithSoldData() {
+    public ResponseEntity<List<ItemDTO>> getAllItemsWithSoldData(WebRequest webRequest) {
+        String etag = dataVersionService.currentEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
         try {
             List<ItemDTO> items = itemService.getAllItemsWithSoldData();
-            return ResponseEntity.ok(items);
+            return listResponse(etag, qrCodeService.withItemQrCodes(items));
         } catch (Exception e) {
             throw new RuntimeException("Ошибка при получении товаров с данными о продажах.", e);
         }
@@ -146,20 +259,21 @@ public class ItemController {
     }
 
     @GetMapping("/download/excel")
-    public ResponseEntity<InputStreamResource> downloadExcelFile() {
-        try {
-            List<Item> items = itemService.getAllItems();
-            InputStream excelFile = itemService.generateExcelFile(items);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.add("Content-Disposition", "attachment; filename=items.xlsx");
+    public ResponseEntity<StreamingResponseBody> downloadExcelFile() {
+        return export("xlsx");
+    }
 
+    // Потоковая выгрузка каталога: ?format=xlsx|csv
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
             return ResponseEntity.ok()
-                    .headers(headers)
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .body(new InputStreamResource(excelFile));
-        } catch (Exception e) {
-            throw new RuntimeException("Ошибка при генерации Excel-файла с товарами.", e);
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=items." + exportFormat.getExtension())
+                    .contentType(exportFormat.getMediaType())
+                    .body(exportService.exportItems(exportFormat));
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
     }
 
@@ -176,10 +290,54 @@ public class ItemController {
         }
     }
 
+    // Поиск по подстроке названия/описания для подсказок при вводе: ?q=&limit=
+    @GetMapping("/search")
+    public ResponseEntity<List<TrigramIndex.Hit>> search(@RequestParam("q") String query,
+                                                         @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(itemService.searchItems(query, limit));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ItemDTO> getItem(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(itemService.getItem(id));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    // Картинка файлом вместо Base64 в PUT /items/{id}; в ответе — товар с URL картинок
+    @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ItemDTO> uploadImage(@PathVariable String id, @RequestParam("file") MultipartFile file) {
+        if (!itemService.existsById(id)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        try {
+            return ResponseEntity.ok(itemService.addImage(id, file));
+        } catch (IllegalArgumentException e) {
+            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (java.io.IOException e) {
+            throw new RuntimeException("Не удалось сохранить картинку товара ID: " + id, e);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ItemDTO> update(@PathVariable String id, @RequestBody ItemDTO patch) {
         ItemDTO updated = itemService.updateItem(id, patch);
         return ResponseEntity.ok(updated);
     }
 
-}
\ No newline at end of file
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(DataVersionService.LIST_CACHE_CONTROL)
+                .build();
+    }
+
+    private static <T> ResponseEntity<T> listResponse(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(DataVersionService.LIST_CACHE_CONTROL)
+                .body(body);
+    }
+}
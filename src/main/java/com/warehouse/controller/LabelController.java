@@ -0,0 +1,39 @@
+package com.warehouse.controller;
+
+import com.warehouse.model.dto.LabelSheetRequestDTO;
+import com.warehouse.service.LabelSheetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/labels")
+@RequiredArgsConstructor
+public class LabelController {
+
+    private final LabelSheetService labelSheetService;
+
+    // Готовый к печати HTML (A4, сетка этикеток, разрывы страниц) — печатается/сохраняется в PDF из браузера
+    @PostMapping("/sheet")
+    public ResponseEntity<StreamingResponseBody> printSheet(@RequestBody LabelSheetRequestDTO request) {
+        try {
+            StreamingResponseBody body = labelSheetService.buildSheet(request);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=labels.html")
+                    .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
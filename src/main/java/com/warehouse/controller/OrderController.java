@@ -0,0 +1,49 @@
+package com.warehouse.controller;
+
+import com.warehouse.model.Reservation;
+import com.warehouse.model.dto.OrderReservationDTO;
+import com.warehouse.model.dto.OrderReservationRequestDTO;
+import com.warehouse.service.QrCodeService;
+import com.warehouse.service.ReservationService;
+import com.warehouse.service.mapper.interfaces.ReservationMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final ReservationService reservationService;
+    private final ReservationMapper reservationMapper;
+    private final QrCodeService qrCodeService;
+
+    /**
+     * Резервация всех строк заказа одним запросом: всё или ничего.
+     * 400 — неизвестный товар или некорректная строка, 409 — заказ с таким номером уже есть
+     * или не хватает остатка (ничего не зарезервировано).
+     */
+    @PostMapping("/{orderNumber}/reserve")
+    public ResponseEntity<OrderReservationDTO> reserveOrder(@PathVariable String orderNumber,
+                                                            @RequestBody OrderReservationRequestDTO request) {
+        List<Reservation> reservations;
+        try {
+            reservations = reservationService.reserveOrder(orderNumber, request.getReservationWeek(), request.getLines());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage(), e);
+        }
+
+        OrderReservationDTO response = new OrderReservationDTO();
+        response.setOrderNumber(orderNumber);
+        response.setQrCode(qrCodeService.renderBase64(orderNumber));
+        response.setReservations(reservationMapper.toDTOList(reservations));
+        return ResponseEntity.ok(response);
+    }
+}
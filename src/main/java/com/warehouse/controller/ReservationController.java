@@ -2,18 +2,32 @@ package com.warehouse.controller;
 
 import com.warehouse.model.Reservation;
 import com.warehouse.model.dto.ReservationDTO;
+import com.warehouse.model.dto.ReservationPageDTO;
 import com.warehouse.model.dto.ReservationRequestDTO;
+import com.warehouse.service.DataVersionService;
+import com.warehouse.service.ExportService;
+import com.warehouse.service.QrCodeService;
 import com.warehouse.service.ReservationService;
 import com.warehouse.service.mapper.interfaces.ReservationMapper;
+import com.warehouse.utils.ExportFormat;
+import com.warehouse.utils.FieldSelection;
+import com.warehouse.utils.QrFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
-import java.util.Base64;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/reservations")
@@ -22,6 +36,9 @@ public class ReservationController {
 
     private final ReservationService reservationService;
     private final ReservationMapper reservationMapper;
+    private final QrCodeService qrCodeService;
+    private final ExportService exportService;
+    private final DataVersionService dataVersionService;
 
     @PostMapping
     public ResponseEntity<ReservationDTO> reserveItem(@RequestBody ReservationRequestDTO requestDTO) {
@@ -35,10 +52,10 @@ public class ReservationController {
 
             // Формируем DTO
             ReservationDTO responseDTO = reservationMapper.toDTO(reservation);
-            responseDTO.setQrCode(Base64.getEncoder().encodeToString(reservation.getQrCode())); // Конвертация в Base64
+            responseDTO.setQrCode(qrCodeService.renderBase64(reservation.getOrderNumber()));
 
             return ResponseEntity.ok(responseDTO);
-        } catch (IllegalArgumentException | IOException e) {
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(null);
         }
     }
@@ -77,22 +94,51 @@ public class ReservationController {
         }
     }
 
+    /**
+     * Активные резервации. Без параметров пагинации — прежний полный список;
+     * с ?limit= и/или ?after= — keyset-страница {items, nextCursor} (новые сверху, без QR).
+     */
     @GetMapping
-    public ResponseEntity<List<ReservationDTO>> getAllReservations(@RequestParam(required = false) String reservationWeek) {
+    public ResponseEntity<?> getAllReservations(@RequestParam(required = false) String reservationWeek,
+                                                @RequestParam(value = "fields", required = false) String fields,
+                                                @RequestParam(value = "after", required = false) String after,
+                                                @RequestParam(value = "limit", required = false) Integer limit,
+                                                @RequestParam(value = "withQr", defaultValue = "false") boolean withQr,
+                                                WebRequest webRequest) {
+        Set<String> selected = parseFields(fields);
+        boolean paged = after != null || limit != null;
+        if (paged && (selected != null || reservationWeek != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Параметры fields и reservationWeek не поддерживаются вместе с after/limit.");
+        }
+        // Данные компании не менялись с прошлого опроса — 304 без обращения к резервациям
+        String etag = dataVersionService.currentEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        if (paged) {
+            return listResponse(etag, page("RESERVED", after, limit, null, null));
+        }
+        if (selected != null) {
+            // Те же строки, что и без fields: и общий список, и список за неделю — только RESERVED
+            return listResponse(etag, reservationService.getReservationFields("RESERVED", reservationWeek, selected));
+        }
         List<Reservation> reservations = (reservationWeek == null)
                 ? reservationService.getAllReservations()
                 : reservationService.getReservationsByWeekForCompany(reservationWeek);
-        return ResponseEntity.ok(reservationMapper.toDTOList(reservations));
+        return listResponse(etag, toListDTOs(reservations, withQr));
     }
 
     @GetMapping("/sorted")
-    public ResponseEntity<List<ReservationDTO>> getSortedReservationsByWeek(@RequestParam String reservationWeek) {
+    public ResponseEntity<List<ReservationDTO>> getSortedReservationsByWeek(@RequestParam String reservationWeek,
+                                                                            @RequestParam(value = "withQr", defaultValue = "false") boolean withQr) {
         List<Reservation> sortedReservations = reservationService.getReservationsByWeekForCompany(reservationWeek);
-        return ResponseEntity.ok(reservationMapper.toDTOList(sortedReservations));
+        return ResponseEntity.ok(toListDTOs(sortedReservations, withQr));
     }
 
     @GetMapping("/search/by-order-prefix")
-    public ResponseEntity<List<ReservationDTO>> getReservationsByOrderPrefix(@RequestParam String orderPrefix) {
+    public ResponseEntity<List<ReservationDTO>> getReservationsByOrderPrefix(@RequestParam String orderPrefix,
+                                                                             @RequestParam(value = "withQr", defaultValue = "false") boolean withQr) {
         if (orderPrefix == null || orderPrefix.trim().isEmpty()) {
             return ResponseEntity.badRequest().body(List.of());
         }
@@ -102,7 +148,7 @@ public class ReservationController {
             return ResponseEntity.noContent().build(); // 204 No Content
         }
 
-        return ResponseEntity.ok(reservationMapper.toDTOList(reservations));
+        return ResponseEntity.ok(toListDTOs(reservations, withQr));
     }
 
 
@@ -124,38 +170,180 @@ public class ReservationController {
         }
     }
 
+    /**
+     * Проданные резервации. С ?limit=/?after=/?saleFrom=/?saleTo= (даты ISO, включительно) —
+     * keyset-страница {items, nextCursor}; без них — прежний полный список.
+     */
     @GetMapping("/sold")
-    public ResponseEntity<List<ReservationDTO>> getSoldReservations() {
+    public ResponseEntity<?> getSoldReservations(@RequestParam(value = "fields", required = false) String fields,
+                                                 @RequestParam(value = "after", required = false) String after,
+                                                 @RequestParam(value = "limit", required = false) Integer limit,
+                                                 @RequestParam(value = "saleFrom", required = false)
+                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate saleFrom,
+                                                 @RequestParam(value = "saleTo", required = false)
+                                                 @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate saleTo,
+                                                 @RequestParam(value = "withQr", defaultValue = "false") boolean withQr,
+                                                 WebRequest webRequest) {
+        Set<String> selected = parseFields(fields);
+        boolean paged = after != null || limit != null || saleFrom != null || saleTo != null;
+        if (paged && selected != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Параметр fields не поддерживается вместе с after/limit/saleFrom/saleTo.");
+        }
+        String etag = dataVersionService.currentEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        if (paged) {
+            return listResponse(etag, page("SOLD", after, limit, saleFrom, saleTo));
+        }
+        if (selected != null) {
+            return listResponse(etag, reservationService.getReservationFields("SOLD", null, selected));
+        }
         List<Reservation> soldReservations = reservationService.getSoldReservations();
-        return ResponseEntity.ok(reservationMapper.toDTOList(soldReservations));
+        return listResponse(etag, toListDTOs(soldReservations, withQr));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(DataVersionService.LIST_CACHE_CONTROL)
+                .build();
+    }
+
+    private static <T> ResponseEntity<T> listResponse(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(DataVersionService.LIST_CACHE_CONTROL)
+                .body(body);
+    }
+
+    /**
+     * QR в списках только по ?withQr=true: Base64-PNG — около 68% объёма строки списка (376 из 556 байт),
+     * а картинку по номеру заказа отдаёт /{id}/download-qrcode (с ETag, кэшируется клиентом).
+     * Клиенты, которые рисуют qrCode из списка (галерея QR во фронте из static/), передают ?withQr=true.
+     */
+    private List<ReservationDTO> toListDTOs(List<Reservation> reservations, boolean withQr) {
+        List<ReservationDTO> dtos = reservationMapper.toDTOList(reservations);
+        return withQr ? qrCodeService.withReservationQrCodes(dtos) : dtos;
+    }
+
+    private ReservationPageDTO page(String status, String after, Integer limit, LocalDate saleFrom, LocalDate saleTo) {
+        try {
+            return reservationService.getReservationsPage(status, after, limit, saleFrom, saleTo);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    private static Set<String> parseFields(String fields) {
+        try {
+            return FieldSelection.parse(fields, ReservationService.LIST_FIELDS);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /* ==== Потоковые выгрузки: ?format=xlsx|csv ==== */
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportActive(@RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        return export("reservations", format, exportService::exportActiveReservations);
+    }
+
+    @GetMapping("/export/week")
+    public ResponseEntity<StreamingResponseBody> exportByWeek(@RequestParam String reservationWeek,
+                                                              @RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        return export("reservations_" + reservationWeek, format,
+                exportFormat -> exportService.exportReservationsByWeek(reservationWeek, exportFormat));
+    }
+
+    @GetMapping("/export/sold")
+    public ResponseEntity<StreamingResponseBody> exportSold(@RequestParam(value = "format", defaultValue = "xlsx") String format) {
+        return export("sold", format, exportService::exportSoldReservations);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String fileName, String format,
+                                                         Function<ExportFormat, StreamingResponseBody> body) {
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
+            ContentDisposition disposition = ContentDisposition.attachment()
+                    .filename(fileName + "." + exportFormat.getExtension(), StandardCharsets.UTF_8)
+                    .build();
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                    .contentType(exportFormat.getMediaType())
+                    .body(body.apply(exportFormat));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
     }
 
     @GetMapping("/{id}/download-qrcode")
-    public ResponseEntity<byte[]> downloadQrCode(@PathVariable Long id) {
+    public ResponseEntity<byte[]> downloadQrCode(@PathVariable Long id,
+                                                 @RequestParam(value = "format", defaultValue = "png") String format,
+                                                 @RequestParam(value = "size", defaultValue = "200") int size,
+                                                 @RequestParam(value = "margin", defaultValue = "4") int margin,
+                                                 WebRequest webRequest) {
+        QrFormat qrFormat;
+        try {
+            qrFormat = QrFormat.from(format);
+            qrCodeService.checkRenderOptions(size, margin);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
         try {
             // Получаем резервацию по ID
             Reservation reservation = reservationService.getReservationById(id);
 
-            if (reservation == null || reservation.getQrCode() == null) {
-                // Если резервация не найдена или QR-код отсутствует
+            if (reservation == null || reservation.getOrderNumber() == null || reservation.getOrderNumber().isBlank()) {
+                // Если резервация не найдена или номера заказа нет (QR кодирует именно его)
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
 
-            // Возвращаем QR-код как бинарный файл
+            // If-None-Match совпал — отвечаем 304 без рендера и тела
+            String etag = qrCodeService.etag(reservation.getOrderNumber(), qrFormat, size, margin);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(QrCodeService.DOWNLOAD_CACHE_CONTROL)
+                        .build();
+            }
+
+            // Строим QR-код из номера заказа и возвращаем как бинарный файл
             return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, "image/png") // MIME-тип — PNG
+                    .contentType(qrFormat.getMediaType())
                     .header(HttpHeaders.CONTENT_DISPOSITION,
-                            String.format("attachment; filename=%s_qrcode.png", reservation.getOrderNumber())) // Название файла с использованием orderNumber
-                    .body(reservation.getQrCode());
+                            String.format("attachment; filename=%s_qrcode.%s", reservation.getOrderNumber(), qrFormat.getExtension())) // Название файла с использованием orderNumber
+                    .eTag(etag)
+                    .cacheControl(QrCodeService.DOWNLOAD_CACHE_CONTROL)
+                    .body(qrCodeService.render(reservation.getOrderNumber(), qrFormat, size, margin));
         } catch (RuntimeException ex) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
+    /**
+     * Поиск по названию товара и номеру заказа: ?q=&status=&after=&limit=.
+     * QR-коды в выдачу не входят — их отдаёт /{id}/download-qrcode.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ReservationPageDTO> searchReservations(@RequestParam("q") String query,
+                                                                 @RequestParam(value = "status", required = false) String status,
+                                                                 @RequestParam(value = "after", required = false) String after,
+                                                                 @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(reservationService.searchReservations(query, status, after, limit));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
     @GetMapping("/search/by-item-name")
-    public ResponseEntity<List<ReservationDTO>> searchReservationsByItemName(@RequestParam String itemName) {
+    public ResponseEntity<List<ReservationDTO>> searchReservationsByItemName(@RequestParam String itemName,
+                                                                             @RequestParam(value = "withQr", defaultValue = "false") boolean withQr) {
         List<Reservation> reservations = reservationService.searchReservationsByItemNameForCompany(itemName);
-        return ResponseEntity.ok(reservationMapper.toDTOList(reservations));
+        return ResponseEntity.ok(toListDTOs(reservations, withQr));
     }
 
 }
\ No newline at end of file
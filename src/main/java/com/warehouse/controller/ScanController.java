@@ -0,0 +1,34 @@
+package com.warehouse.controller;
+
+import com.warehouse.model.dto.ScanEventDTO;
+import com.warehouse.model.dto.ScanResultDTO;
+import com.warehouse.service.ScanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/scans")
+@RequiredArgsConstructor
+public class ScanController {
+
+    private final ScanService scanService;
+
+    /**
+     * Пачка сканов с устройства (офлайн-очередь): результат на каждый скан в порядке запроса.
+     * Повтор scan_id не продаёт заказ второй раз — возвращается сохранённый результат с replayed = true.
+     * 400 — пустая или слишком большая пачка.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ScanResultDTO>> processBatch(@RequestBody List<ScanEventDTO> events) {
+        try {
+            return ResponseEntity.ok(scanService.processBatch(events));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.warehouse.controller;
+
+import com.warehouse.model.dto.SyncChangesDTO;
+import com.warehouse.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Изменения товаров и резерваций после курсора ?since=.
+     * Без since — только текущий курсор (взять его до полной загрузки списков).
+     * 410 Gone — курсор устарел, клиент заново загружает /items и /reservations.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesDTO> getChanges(@RequestParam(value = "since", required = false) String since,
+                                                     @RequestParam(value = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(syncService.getChanges(since, limit));
+        } catch (SyncService.CursorExpiredException e) {
+            throw new ResponseStatusException(HttpStatus.GONE, e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
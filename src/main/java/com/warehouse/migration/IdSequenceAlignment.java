@@ -0,0 +1,55 @@
+package com.warehouse.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Переход reservation/users/companies/payments с IDENTITY на пулы из sequence (allocationSize = 50).
+ * Sequence создаёт Hibernate (ddl-auto: update) со значением 1, а в таблицах уже есть строки —
+ * поднимаем sequence до MAX(id), иначе новые id совпадут со старыми. У колонок снимаем IDENTITY:
+ * id теперь всегда приходит из приложения. Идемпотентно: sequence только растёт.
+ * Выполняется до старта веб-сервера (SmartInitializingSingleton, а не ApplicationRunner),
+ * чтобы ни один запрос не успел вставить строку с id из невыровненной sequence.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAlignment implements SmartInitializingSingleton {
+
+    // таблица → sequence (см. @SequenceGenerator в сущностях)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "reservation", "reservation_seq",
+            "users", "users_seq",
+            "companies", "companies_seq",
+            "payments", "payments_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            return;
+        }
+        SEQUENCES.forEach((table, sequence) -> {
+            Boolean ready = jdbcTemplate.queryForObject(
+                    "SELECT to_regclass(?) IS NOT NULL AND to_regclass(?) IS NOT NULL", Boolean.class, table, sequence);
+            if (!Boolean.TRUE.equals(ready)) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            // pooled-оптимизатор выдаёт id из диапазона (значение sequence - 50, значение], поэтому хватает MAX(id)
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 0) FROM " + table + "), " +
+                            "(SELECT last_value FROM " + sequence + ")))",
+                    Long.class);
+            log.debug("Sequence {} выровнена по {}: {}", sequence, table, value);
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package com.warehouse.migration;
+
+import com.warehouse.service.ItemImageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Переносит Base64-картинки из item_image.data (TEXT) в BlobStore: в строке остаётся только ключ (blob_key),
+ * затем колонка data удаляется. Строки без PK, поэтому адресуем их по ctid (PostgreSQL).
+ * Строки, которые не удалось декодировать, не удаляются бесследно: они переносятся как есть
+ * в item_image_quarantine (разбирать вручную), и только после этого колонка data удаляется.
+ * Выполняется до старта веб-сервера (SmartInitializingSingleton, как ItemSoldCounterBackfill):
+ * Item.images уже читает blob_key, поэтому запрос во время переноса увидел бы NULL-ключи,
+ * а сохранение товара перезаписало бы коллекцию и удалило ещё не перенесённые строки data.
+ * Идемпотентно: после удаления колонки ничего не делает.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemImageBlobMigration implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 100;
+
+    // Перенос строки в карантин одним запросом: удалённая строка и вставленная копия — атомарно
+    private static final String QUARANTINE_SQL =
+            "WITH moved AS (DELETE FROM item_image WHERE %s RETURNING item_id, data) " +
+                    "INSERT INTO item_image_quarantine (item_id, data, reason) SELECT item_id, data, ? FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemImageService itemImageService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer legacyColumn = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns " +
+                        "WHERE table_schema = current_schema() AND table_name = 'item_image' AND column_name = 'data'",
+                Integer.class);
+        if (legacyColumn == null || legacyColumn == 0) return;
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item_image_quarantine (" +
+                "item_id varchar(255), data text, reason text, quarantined_at timestamp NOT NULL DEFAULT now())");
+
+        int moved = 0;
+        int quarantined = 0;
+        while (true) {
+            // Картинки по несколько МБ — берём небольшими пачками
+            List<String[]> rows = jdbcTemplate.query(
+                    "SELECT ctid::text AS row_id, data FROM item_image " +
+                            "WHERE blob_key IS NULL AND data IS NOT NULL LIMIT " + BATCH_SIZE,
+                    (rs, rowNum) -> new String[]{rs.getString("row_id"), rs.getString("data")});
+            if (rows.isEmpty()) break;
+
+            for (String[] row : rows) {
+                try {
+                    String key = itemImageService.store(ItemImageService.decode(row[1]));
+                    jdbcTemplate.update("UPDATE item_image SET blob_key = ?, data = NULL WHERE ctid = ?::tid", key, row[0]);
+                    moved++;
+                } catch (IllegalArgumentException e) {
+                    // Не картинка и не Base64 — показать её нельзя, но и терять данные клиента нельзя
+                    log.warn("item_image {}: картинку не удалось перенести, строка в item_image_quarantine: {}",
+                            row[0], e.getMessage());
+                    jdbcTemplate.update(QUARANTINE_SQL.formatted("ctid = ?::tid"), row[0], e.getMessage());
+                    quarantined++;
+                }
+            }
+        }
+        // Строки без картинки (data IS NULL) — тоже в карантин, а не DELETE
+        quarantined += jdbcTemplate.update(QUARANTINE_SQL.formatted("blob_key IS NULL"), "нет данных картинки");
+        jdbcTemplate.execute("ALTER TABLE item_image DROP COLUMN data");
+        log.info("Картинки товаров перенесены в хранилище блобов: {} перенесено, {} в item_image_quarantine",
+                moved, quarantined);
+    }
+}
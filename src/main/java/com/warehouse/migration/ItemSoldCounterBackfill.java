@@ -0,0 +1,30 @@
+package com.warehouse.migration;
+
+import com.warehouse.repository.ItemSoldCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Первичное заполнение item_sold_counter из уже проданных резерваций (только если таблица пуста).
+ * Выполняется до старта веб-сервера (SmartInitializingSingleton, как IdSequenceAlignment): продажа,
+ * записанная во время заполнения, иначе либо отменила бы его (таблица уже не пуста), либо посчиталась бы дважды.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSoldCounterBackfill implements SmartInitializingSingleton {
+
+    private final ItemSoldCounterRepository counterRepository;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // Только первый запуск: дальше счётчики ведутся инкрементально
+        if (counterRepository.count() > 0) return;
+        int inserted = counterRepository.backfillFromSoldReservations();
+        if (inserted > 0) {
+            log.info("item_sold_counter: добавлено {} счётчиков из истории продаж", inserted);
+        }
+    }
+}
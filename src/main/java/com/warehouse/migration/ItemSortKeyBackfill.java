@@ -0,0 +1,24 @@
+package com.warehouse.migration;
+
+import com.warehouse.service.ItemSortKeyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Схему обновляет Hibernate (ddl-auto: update), а данные для новых колонок
+ * заполняются здесь, при старте приложения. Идемпотентно.
+ * Выполняется до старта веб-сервера (SmartInitializingSingleton, как ItemSoldCounterBackfill):
+ * товар с NULL name_sort_key выпадает из keyset-страниц /items и сортируется последним.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemSortKeyBackfill implements SmartInitializingSingleton {
+
+    private final ItemSortKeyService itemSortKeyService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        itemSortKeyService.backfillMissing();
+    }
+}
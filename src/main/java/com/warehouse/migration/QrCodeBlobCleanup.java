@@ -0,0 +1,42 @@
+package com.warehouse.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Удаляет сохранённые PNG QR-кодов (item.qr_code, reservation.qr_code) — теперь они строятся по запросу.
+ * ddl-auto: update колонки не удаляет, поэтому делаем это здесь. Идемпотентно.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrCodeBlobCleanup implements ApplicationRunner {
+
+    private static final List<String> TABLES = List.of("item", "reservation");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String table : TABLES) {
+            List<String> types = jdbcTemplate.queryForList(
+                    "SELECT data_type FROM information_schema.columns " +
+                            "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'qr_code'",
+                    String.class, table);
+            if (types.isEmpty()) continue;
+
+            // @Lob byte[] в Postgres хранился как large object (oid) — освобождаем их до удаления колонки
+            if ("oid".equalsIgnoreCase(types.get(0))) {
+                jdbcTemplate.query("SELECT lo_unlink(qr_code) FROM " + table + " WHERE qr_code IS NOT NULL", rs -> {});
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP COLUMN qr_code");
+            log.info("Колонка {}.qr_code удалена: QR-коды строятся по запросу", table);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.warehouse.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Триграммные GIN-индексы для поиска резерваций (GET /reservations/search):
+ * LOWER(...) LIKE '%q%' по ним идёт без полного скана таблицы.
+ * Только PostgreSQL с расширением pg_trgm; без прав на CREATE EXTENSION поиск работает
+ * тем же запросом, просто без индекса.
+ * CONCURRENTLY — чтобы не блокировать запись в reservation. Прерванный CREATE INDEX CONCURRENTLY
+ * оставляет невалидный индекс, который IF NOT EXISTS уже не пересоздаст, поэтому такой индекс
+ * (pg_index.indisvalid = false) удаляется и строится заново.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSearchIndexes implements ApplicationRunner {
+
+    // имя индекса → определение
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_reservation_item_name_trgm", "reservation USING gin (lower(item_name) gin_trgm_ops)",
+            "idx_reservation_order_number_trgm", "reservation USING gin (lower(order_number) gin_trgm_ops)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(database)) {
+            log.info("Триграммные индексы резерваций пропущены: БД {}", database);
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            INDEXES.forEach(this::createIndex);
+        } catch (DataAccessException e) {
+            log.warn("Триграммные индексы резерваций не созданы, поиск будет без индекса: {}", e.getMessage());
+        }
+    }
+
+    private void createIndex(String name, String definition) {
+        List<Boolean> valid = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+                        "WHERE c.relname = ? AND c.relnamespace = (SELECT oid FROM pg_namespace WHERE nspname = current_schema())",
+                Boolean.class, name);
+        if (!valid.isEmpty() && Boolean.FALSE.equals(valid.get(0))) {
+            log.warn("Индекс {} невалиден (прерванное построение), пересоздаём", name);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + definition);
+    }
+}
@@ -0,0 +1,48 @@
+package com.warehouse.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Журнал изменений для дельта-синхронизации сканеров (GET /sync/changes).
+ * version — версия данных компании (CompanyDataVersion), в которой изменилась сущность;
+ * deleted = true — «надгробие»: сущность удалена, клиент убирает её у себя.
+ * Пишется в транзакции изменения (DataVersionService.record), старые записи чистит SyncService.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        @Index(name = "idx_change_log_company_version", columnList = "company_id, version, id"),
+        @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+public class ChangeLogEntry {
+
+    public static final String ITEM = "ITEM";
+    public static final String RESERVATION = "RESERVATION";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false, length = 64)
+    private String entityId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
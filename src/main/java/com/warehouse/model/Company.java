@@ -11,7 +11,8 @@ import java.time.Instant;
 public class Company {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+    @SequenceGenerator(name = "companies_seq", sequenceName = "companies_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -36,6 +37,10 @@ public class Company {
     @Column(name = "identifier", unique = true, length = 64, nullable = false)
     private String identifier;
 
+    // Язык сортировки названий товаров (ru | pl | de | en), null = ru
+    @Column(name = "sort_locale", length = 8)
+    private String sortLocale;
+
     // --- getters / setters ---
 
     public Long getId() { return id; }
@@ -69,6 +74,9 @@ public class Company {
     public String getIdentifier() { return identifier; }
     public void setIdentifier(String identifier) { this.identifier = identifier; }
 
+    public String getSortLocale() { return sortLocale; }
+    public void setSortLocale(String sortLocale) { this.sortLocale = sortLocale; }
+
     @Transient
     public String getSubscriptionStatus() {
         Instant now = Instant.now();
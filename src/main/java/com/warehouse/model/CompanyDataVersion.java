@@ -0,0 +1,30 @@
+package com.warehouse.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Версия данных компании: растёт при каждом изменении товаров и резерваций.
+ * Из неё строится ETag списков (/items, /reservations) — неизменившийся список отдаётся как 304 —
+ * и курсор дельта-синхронизации (/sync/changes).
+ */
+@Entity
+@Table(name = "company_data_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyDataVersion {
+
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(nullable = false)
+    private long version;
+
+    // Журнал изменений до этой версии включительно уже удалён; курсор старше — только полная загрузка
+    @Column(name = "log_floor", nullable = false, columnDefinition = "bigint default 0")
+    private long logFloor;
+}
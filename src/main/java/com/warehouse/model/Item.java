@@ -2,6 +2,7 @@ package com.warehouse.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -11,11 +12,22 @@ import java.util.List;
 
 
 @Entity
+@Table(indexes = {
+        // Индексы под keyset-пагинацию: WHERE company_id = ? ORDER BY <поле>, id
+        @Index(name = "idx_item_company_name_sort_key", columnList = "company_id, name_sort_key, id"),
+        @Index(name = "idx_item_company_quantity", columnList = "company_id, quantity, id"),
+        @Index(name = "idx_item_company_sold", columnList = "company_id, sold, id")
+})
 @Data
 public class Item {
     @Id
     private String id;
     private String name;
+
+    // Ключ сортировки по имени (см. ItemSortKeys); COLLATE "C" — побайтовое сравнение независимо от локали БД
+    @Column(name = "name_sort_key", columnDefinition = "varchar(1024) collate \"C\"")
+    private String nameSortKey;
+
     private int quantity;
     private int sold;
 
@@ -29,15 +41,11 @@ public class Item {
     private String currency;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 100) // при маппинге списков картинки догружаются пачками, а не запросом на товар
     @CollectionTable(name = "item_image", joinColumns = @JoinColumn(name = "item_id"))
-    @Column(name = "data", columnDefinition = "TEXT")
+    @Column(name = "blob_key", length = 80) // ключ в BlobStore (см. ItemImageService), не сама картинка
     private List<String> images = new ArrayList<>();
 
-
-    @Basic(fetch = FetchType.LAZY)
-    @Column(name = "qr_code", columnDefinition = "bytea")
-    private byte[] qrCode; // QR-код теперь хранится как массив байт
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false) // Связь с компанией
     private Company company;
@@ -0,0 +1,39 @@
+package com.warehouse.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Счётчик проданных единиц по (компания, название товара).
+ * Обновляется инкрементально при продаже (скан резервации, снятие со склада),
+ * чтобы /items/sold не пересчитывал SUM по всей истории резерваций.
+ */
+@Entity
+@Table(name = "item_sold_counter")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemSoldCounter {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long sold;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Column(name = "company_id", nullable = false)
+        private Long companyId;
+
+        @Column(name = "item_name", nullable = false)
+        private String itemName;
+    }
+}
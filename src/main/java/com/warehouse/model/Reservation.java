@@ -7,11 +7,20 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
+@Table(indexes = {
+        // Списки по статусу (активные / проданные) с keyset по id и фильтром по дате продажи
+        @Index(name = "idx_reservation_company_status_id", columnList = "company_id, status, id"),
+        @Index(name = "idx_reservation_company_status_sale_date", columnList = "company_id, status, sale_date"),
+        // Скан по номеру заказа (в том числе пакетный, /scans/batch)
+        @Index(name = "idx_reservation_company_order_number", columnList = "company_id, order_number")
+})
 @Data
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Пул из 50 id на одно обращение к sequence: с IDENTITY Hibernate не может батчить INSERT
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     private String orderNumber; // Номер заказа в формате "2515303-01-01"
@@ -20,9 +29,6 @@ public class Reservation {
     private String reservationWeek; // Например, "KW22"
     private String status;     // Статус резервации ("RESERVED", "SOLD")
     private LocalDateTime saleDate;
-    @Lob // Для хранения длинных строк (Base64 содержимого QR-кода)
-    @Column(name = "qr_code")
-    private byte[] qrCode; // QR-код резервации в формате Base64
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id", nullable = false) // Связь с компанией
@@ -0,0 +1,51 @@
+package com.warehouse.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Обработанный скан со сканера (POST /scans/batch), ключ — (компания, scan_id клиента).
+ * Повторная отправка того же scan_id (офлайн-очередь сканера, обрыв связи) не продаёт заказ ещё раз,
+ * а возвращает сохранённый результат. Старые записи чистит ScanService.
+ */
+@Entity
+@Table(name = "scan_event", indexes = {
+        @Index(name = "idx_scan_event_processed_at", columnList = "processed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanEvent {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "order_number")
+    private String orderNumber;
+
+    @Column(nullable = false, length = 32)
+    private String outcome;
+
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Column(name = "company_id", nullable = false)
+        private Long companyId;
+
+        @Column(name = "scan_id", nullable = false, length = 64)
+        private String scanId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ItemImportResultDTO {
+    private int rows;       // строк с данными (без заголовка и пустых)
+    private int inserted;
+    private int updated;
+    private int failed;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated; // ошибок больше, чем попало в отчёт
+
+    @Data
+    public static class RowError {
+        private final int row;  // номер строки в файле, как в Excel
+        private final String message;
+    }
+}
@@ -0,0 +1,14 @@
+package com.warehouse.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemPageDTO {
+    private List<ItemDTO> items;
+    private String nextCursor; // null — это последняя страница
+    private Long total;        // null, если подсчёт отключён (?withTotal=false)
+}
@@ -0,0 +1,16 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class LabelSheetRequestDTO {
+    private List<String> itemIds;        // QR с id товара
+    private List<Long> reservationIds;   // QR с номером заказа
+    private Integer columns;             // этикеток в ряду, по умолчанию 3
+    private Integer rows;                // рядов на странице, по умолчанию 8
+    private Double labelWidthMm;         // по умолчанию 70
+    private Double labelHeightMm;        // по умолчанию 37
+    private List<String> captionFields;  // name, orderNumber, id, quantity, week; по умолчанию name + orderNumber
+}
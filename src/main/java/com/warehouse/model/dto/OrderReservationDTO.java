@@ -0,0 +1,12 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OrderReservationDTO {
+    private String orderNumber;
+    private String qrCode;                    // один QR на заказ (кодирует номер заказа), Base64 PNG
+    private List<ReservationDTO> reservations; // по резервации на строку, в порядке строк запроса
+}
@@ -0,0 +1,17 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class OrderReservationRequestDTO {
+    private String reservationWeek;
+    private List<Line> lines;
+
+    @Data
+    public static class Line {
+        private String itemName;
+        private int quantity;
+    }
+}
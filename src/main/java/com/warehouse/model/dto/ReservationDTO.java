@@ -1,5 +1,6 @@
 package com.warehouse.model.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ public class ReservationDTO {
     private String reservationWeek;
     private String status;
     private LocalDateTime saleDate;
+    @JsonInclude(JsonInclude.Include.NON_NULL) // в списках только по ?withQr=true
     private String qrCode; // Новое поле для URL QR-кода
 
 }
@@ -0,0 +1,13 @@
+package com.warehouse.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReservationPageDTO {
+    private List<ReservationDTO> items;
+    private String nextCursor; // null — это последняя страница
+}
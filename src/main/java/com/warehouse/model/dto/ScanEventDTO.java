@@ -0,0 +1,12 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+
+@Data
+public class ScanEventDTO {
+    private String scanId;           // id скана на устройстве (идемпотентность), до 64 символов
+    private String orderNumber;
+    private OffsetDateTime scannedAt; // время скана на устройстве; станет saleDate
+}
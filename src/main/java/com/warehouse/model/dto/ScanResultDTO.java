@@ -0,0 +1,15 @@
+package com.warehouse.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScanResultDTO {
+    private String scanId;
+    private String orderNumber;
+    private String outcome;   // "SOLD", "NOT_FOUND", "NOT_AVAILABLE", "ITEM_NOT_FOUND", "INVALID"
+    private boolean replayed; // true — scanId уже обрабатывался, outcome из первой обработки
+}
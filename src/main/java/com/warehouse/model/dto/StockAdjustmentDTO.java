@@ -0,0 +1,9 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+@Data
+public class StockAdjustmentDTO {
+    private String itemId;
+    private int delta; // > 0 — приход, < 0 — списание
+}
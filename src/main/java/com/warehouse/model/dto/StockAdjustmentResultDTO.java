@@ -0,0 +1,18 @@
+package com.warehouse.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StockAdjustmentResultDTO {
+    private int line;          // индекс строки в запросе
+    private String itemId;
+    private int delta;
+    private String status;     // "APPLIED", "NOT_FOUND", "INSUFFICIENT_STOCK", "INVALID"
+    private Integer quantity;  // остаток после применения этой строки (только для APPLIED)
+}
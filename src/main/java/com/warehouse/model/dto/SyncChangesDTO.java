@@ -0,0 +1,16 @@
+package com.warehouse.model.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class SyncChangesDTO {
+    private List<ItemDTO> items = new ArrayList<>();                 // созданные/изменённые (без QR, картинки — превью)
+    private List<ReservationDTO> reservations = new ArrayList<>();
+    private List<String> deletedItemIds = new ArrayList<>();         // «надгробия»
+    private List<Long> deletedReservationIds = new ArrayList<>();
+    private String cursor;   // передать в следующий ?since=
+    private boolean hasMore; // true — сразу запросить следующую страницу
+}
@@ -0,0 +1,14 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.CompanyDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CompanyDataVersionRepository extends JpaRepository<CompanyDataVersion, Long> {
+
+    @Query("SELECT v.version FROM CompanyDataVersion v WHERE v.companyId = :companyId")
+    Optional<Long> findVersion(@Param("companyId") Long companyId);
+}
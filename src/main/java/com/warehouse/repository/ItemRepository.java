@@ -2,18 +2,81 @@ package com.warehouse.repository;
 
 import com.warehouse.model.Company;
 import com.warehouse.model.Item;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ItemRepository extends JpaRepository<Item, String> {
+public interface ItemRepository extends JpaRepository<Item, String>, ItemRepositoryCustom {
     @Query("SELECT i FROM Item i WHERE i.name = :name AND i.company = :company")
     Optional<Item> findByNameAndCompany(@Param("name") String name, @Param("company") Company company);
 
     List<Item> findAllByCompany(Company company);
-}
 
+    List<Item> findAllByCompany(Company company, Sort sort);
+
+    long countByCompany(Company company);
+
+    // Товары компании вместе со счётчиком продаж — один запрос вместо SUM по каждому товару
+    @Query("SELECT i, COALESCE(c.sold, 0) FROM Item i " +
+            "LEFT JOIN ItemSoldCounter c ON c.id.companyId = i.company.id AND c.id.itemName = i.name " +
+            "WHERE i.company = :company ORDER BY i.nameSortKey, i.id")
+    List<Object[]> findAllWithSoldByCompany(@Param("company") Company company);
+
+    // Выгрузка: скалярные строки (без сущностей в persistence context) курсором по 500 —
+    // вызывать внутри транзакции и закрывать Stream
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i.id, i.name, i.quantity, COALESCE(c.sold, 0) FROM Item i " +
+            "LEFT JOIN ItemSoldCounter c ON c.id.companyId = i.company.id AND c.id.itemName = i.name " +
+            "WHERE i.company.id = :companyId ORDER BY i.nameSortKey, i.id")
+    Stream<Object[]> streamExportRows(@Param("companyId") Long companyId);
+
+    @Query("SELECT i.id FROM Item i WHERE i.name = :name AND i.company = :company")
+    Optional<String> findIdByNameAndCompany(@Param("name") String name, @Param("company") Company company);
+
+    // Проверка попадания ItemIdCache: товар с этим id по-прежнему так называется и принадлежит компании
+    @Query("SELECT COUNT(i) > 0 FROM Item i WHERE i.id = :id AND i.name = :name AND i.company.id = :companyId")
+    boolean existsByIdAndNameAndCompanyId(@Param("id") String id, @Param("name") String name,
+                                          @Param("companyId") Long companyId);
 
+    @Query("SELECT i.quantity FROM Item i WHERE i.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") String id);
+
+    /* ==== Атомарные изменения остатка (см. StockService) ====
+       Один условный UPDATE вместо read-modify-write в Java: БД сама сериализует
+       конкурентные изменения строки, поэтому обновления не теряются и остаток не уходит в минус.
+       Возвращают число изменённых строк (0 = товара нет или не хватает количества). */
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Item i SET i.quantity = i.quantity + :amount WHERE i.id = :id")
+    int increaseQuantity(@Param("id") String id, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Item i SET i.quantity = i.quantity - :amount WHERE i.id = :id AND i.quantity >= :amount")
+    int decreaseQuantityIfAvailable(@Param("id") String id, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Item i SET i.quantity = i.quantity - :amount, i.sold = i.sold + :amount " +
+            "WHERE i.id = :id AND i.quantity >= :amount")
+    int sellIfAvailable(@Param("id") String id, @Param("amount") int amount);
+
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Item i SET i.sold = i.sold + :amount WHERE i.id = :id")
+    int increaseSold(@Param("id") String id, @Param("amount") int amount);
+}
@@ -0,0 +1,23 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.utils.ItemSortField;
+import com.warehouse.utils.KeysetCursor;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ItemRepositoryCustom {
+
+    // Keyset-страница товаров компании: строки строго после курсора в порядке (sort, id)
+    List<Item> findPage(Company company, ItemSortField sort, KeysetCursor after, int limit);
+
+    // Только выбранные колонки (id + columns) — без сущностей и без коллекции картинок
+    List<Tuple> findColumns(Company company, ItemSortField sort, Collection<String> columns);
+
+    // Ключи картинок для набора товаров: id товара → ключи
+    Map<String, List<String>> findImageKeys(Collection<String> itemIds);
+}
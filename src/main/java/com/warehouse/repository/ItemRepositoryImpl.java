@@ -0,0 +1,84 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.utils.ItemSortField;
+import com.warehouse.utils.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+    // Простые колонки Item, которые можно запросить через ?fields=
+    private static final Set<String> COLUMNS =
+            Set.of("id", "name", "quantity", "sold", "description", "price", "currency");
+    private static final int IN_CHUNK = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Item> findPage(Company company, ItemSortField sort, KeysetCursor after, int limit) {
+        String column = "i." + sort.getProperty();
+
+        StringBuilder jpql = new StringBuilder("SELECT i FROM Item i WHERE i.company = :company");
+        if (after != null) {
+            // (column, id) > (:value, :id) — раскрыто вручную, т.к. JPQL не поддерживает сравнение кортежей
+            jpql.append(" AND (").append(column).append(" > :value OR (")
+                    .append(column).append(" = :value AND i.id > :id))");
+        }
+        jpql.append(" ORDER BY ").append(column).append(", i.id");
+
+        TypedQuery<Item> query = entityManager.createQuery(jpql.toString(), Item.class)
+                .setParameter("company", company)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("value", sort.parseValue(after.getValue()));
+            query.setParameter("id", after.getId());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Tuple> findColumns(Company company, ItemSortField sort, Collection<String> columns) {
+        StringBuilder jpql = new StringBuilder("SELECT i.id AS id");
+        for (String column : columns) {
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Колонка недоступна для выборки: " + column);
+            }
+            if (!"id".equals(column)) {
+                jpql.append(", i.").append(column).append(" AS ").append(column);
+            }
+        }
+        jpql.append(" FROM Item i WHERE i.company = :company ORDER BY i.")
+                .append(sort.getProperty()).append(", i.id");
+        return entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("company", company)
+                .getResultList();
+    }
+
+    @Override
+    public Map<String, List<String>> findImageKeys(Collection<String> itemIds) {
+        Map<String, List<String>> keys = new HashMap<>();
+        List<String> ids = new ArrayList<>(itemIds);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK) {
+            List<Object[]> rows = entityManager.createQuery(
+                            "SELECT i.id, k FROM Item i JOIN i.images k WHERE i.id IN :ids", Object[].class)
+                    .setParameter("ids", ids.subList(from, Math.min(from + IN_CHUNK, ids.size())))
+                    .getResultList();
+            for (Object[] row : rows) {
+                keys.computeIfAbsent((String) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return keys;
+    }
+}
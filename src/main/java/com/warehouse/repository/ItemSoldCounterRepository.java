@@ -0,0 +1,34 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.ItemSoldCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ItemSoldCounterRepository extends JpaRepository<ItemSoldCounter, ItemSoldCounter.Key> {
+
+    // Атомарный upsert: конкурентные продажи одного товара не теряют инкременты
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO item_sold_counter (company_id, item_name, sold) VALUES (:companyId, :itemName, :quantity) " +
+            "ON CONFLICT (company_id, item_name) DO UPDATE SET sold = item_sold_counter.sold + EXCLUDED.sold",
+            nativeQuery = true)
+    void increment(@Param("companyId") Long companyId, @Param("itemName") String itemName, @Param("quantity") long quantity);
+
+    @Query("SELECT c.sold FROM ItemSoldCounter c WHERE c.id.companyId = :companyId AND c.id.itemName = :itemName")
+    Optional<Long> findSold(@Param("companyId") Long companyId, @Param("itemName") String itemName);
+
+    // Заполнение из истории SOLD-резерваций (одним INSERT ... SELECT)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO item_sold_counter (company_id, item_name, sold) " +
+            "SELECT r.company_id, r.item_name, SUM(r.reserved_quantity) FROM reservation r " +
+            "WHERE r.status = 'SOLD' AND r.item_name IS NOT NULL GROUP BY r.company_id, r.item_name " +
+            "ON CONFLICT (company_id, item_name) DO NOTHING",
+            nativeQuery = true)
+    int backfillFromSoldReservations();
+}
@@ -3,13 +3,19 @@ package com.warehouse.repository;
 import com.warehouse.model.Company;
 import com.warehouse.model.Reservation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
 
     List<Reservation> findByReservationWeek(String reservationWeek);
 
@@ -23,10 +29,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
 
 
-    Optional<Reservation> findByOrderNumber(String orderNumber);
+    // Все строки заказа компании: заказ из многих строк (POST /orders/{orderNumber}/reserve) — по резервации на строку
+    @Query("SELECT r FROM Reservation r WHERE r.orderNumber = :orderNumber AND r.company = :company ORDER BY r.id")
+    List<Reservation> findByOrderNumberAndCompany(@Param("orderNumber") String orderNumber, @Param("company") Company company);
 
-    @Query("SELECT SUM(r.reservedQuantity) FROM Reservation r WHERE r.itemName = :itemName AND r.status = 'SOLD'")
-    Optional<Integer> getTotalSoldQuantityForItem(@Param("itemName") String itemName);
+    boolean existsByOrderNumberAndCompany(String orderNumber, Company company);
 
     @Query("SELECT r FROM Reservation r WHERE LOWER(r.itemName) LIKE LOWER(CONCAT('%', :searchQuery, '%')) AND r.company = :company")
     List<Reservation> findByItemNameContainingIgnoreCaseAndCompany(@Param("searchQuery") String searchQuery, @Param("company") Company company);
@@ -34,4 +41,34 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT r FROM Reservation r WHERE r.company = :company")
     List<Reservation> findByCompany(@Param("company") Company company);
 
-}
\ No newline at end of file
+    @Query("SELECT r FROM Reservation r WHERE r.company = :company AND r.status = :status ORDER BY r.id")
+    List<Reservation> findByCompanyAndStatus(@Param("company") Company company, @Param("status") String status);
+
+    /* ==== Выгрузки (см. ExportService): скалярные строки курсором, внутри транзакции ==== */
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.id, r.orderNumber, r.itemName, r.reservedQuantity, r.reservationWeek, r.status, r.saleDate " +
+            "FROM Reservation r WHERE r.company.id = :companyId AND r.status = :status ORDER BY r.id")
+    Stream<Object[]> streamExportRowsByStatus(@Param("companyId") Long companyId, @Param("status") String status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.id, r.orderNumber, r.itemName, r.reservedQuantity, r.reservationWeek, r.status, r.saleDate " +
+            "FROM Reservation r WHERE r.company.id = :companyId AND r.reservationWeek = :reservationWeek " +
+            "AND r.status = 'RESERVED' ORDER BY r.itemName, r.id")
+    Stream<Object[]> streamExportRowsByWeek(@Param("companyId") Long companyId,
+                                            @Param("reservationWeek") String reservationWeek);
+
+    // Условный переход статуса: 0 — резервация уже не в статусе from (обработана другим запросом)
+    @Modifying(flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE Reservation r SET r.status = :to, r.saleDate = :saleDate WHERE r.id = :id AND r.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to,
+                         @Param("saleDate") LocalDateTime saleDate);
+
+}
@@ -0,0 +1,28 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Reservation;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationRepositoryCustom {
+
+    // Только выбранные колонки резерваций компании в статусе status (и неделе, если задана)
+    List<Tuple> findColumns(Company company, String status, String reservationWeek, Collection<String> columns);
+
+    /**
+     * Поиск по подстроке в названии товара или номере заказа, новые сверху, keyset по id.
+     * На PostgreSQL LOWER(...) LIKE '%q%' обслуживают GIN-индексы pg_trgm (см. ReservationSearchIndexes).
+     */
+    List<Reservation> search(Company company, String query, String status, Long beforeId, int limit);
+
+    /**
+     * Страница резерваций со статусом status, новые сверху, keyset по id.
+     * saleFrom/saleTo (необязательные) — диапазон saleDate [saleFrom, saleTo).
+     */
+    List<Reservation> findPage(Company company, String status, LocalDateTime saleFrom, LocalDateTime saleTo,
+                               Long beforeId, int limit);
+}
@@ -0,0 +1,111 @@
+package com.warehouse.repository;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Reservation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
+
+    private static final Set<String> COLUMNS = Set.of(
+            "id", "orderNumber", "itemName", "reservedQuantity", "reservationWeek", "status", "saleDate");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findColumns(Company company, String status, String reservationWeek, Collection<String> columns) {
+        StringBuilder jpql = new StringBuilder("SELECT r.id AS id");
+        for (String column : columns) {
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Колонка недоступна для выборки: " + column);
+            }
+            if (!"id".equals(column)) {
+                jpql.append(", r.").append(column).append(" AS ").append(column);
+            }
+        }
+        jpql.append(" FROM Reservation r WHERE r.company = :company AND r.status = :status");
+        if (reservationWeek != null) {
+            // Тот же порядок, что у findByReservationWeekAndCompanyOrderByItemName
+            jpql.append(" AND r.reservationWeek = :reservationWeek ORDER BY r.itemName, r.id");
+        } else {
+            jpql.append(" ORDER BY r.id");
+        }
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class)
+                .setParameter("company", company)
+                .setParameter("status", status);
+        if (reservationWeek != null) {
+            query.setParameter("reservationWeek", reservationWeek);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Reservation> search(Company company, String query, String status, Long beforeId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT r FROM Reservation r WHERE r.company = :company")
+                .append(" AND (LOWER(r.itemName) LIKE :pattern ESCAPE '\\' OR LOWER(r.orderNumber) LIKE :pattern ESCAPE '\\')");
+        if (status != null) {
+            jpql.append(" AND r.status = :status");
+        }
+        if (beforeId != null) {
+            jpql.append(" AND r.id < :beforeId");
+        }
+        jpql.append(" ORDER BY r.id DESC");
+
+        TypedQuery<Reservation> typed = entityManager.createQuery(jpql.toString(), Reservation.class)
+                .setParameter("company", company)
+                .setParameter("pattern", "%" + escapeLike(query.toLowerCase(Locale.ROOT)) + "%")
+                .setMaxResults(limit);
+        if (status != null) {
+            typed.setParameter("status", status);
+        }
+        if (beforeId != null) {
+            typed.setParameter("beforeId", beforeId);
+        }
+        return typed.getResultList();
+    }
+
+    @Override
+    public List<Reservation> findPage(Company company, String status, LocalDateTime saleFrom, LocalDateTime saleTo,
+                                      Long beforeId, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT r FROM Reservation r WHERE r.company = :company AND r.status = :status");
+        if (saleFrom != null) {
+            jpql.append(" AND r.saleDate >= :saleFrom");
+        }
+        if (saleTo != null) {
+            jpql.append(" AND r.saleDate < :saleTo");
+        }
+        if (beforeId != null) {
+            jpql.append(" AND r.id < :beforeId");
+        }
+        jpql.append(" ORDER BY r.id DESC");
+
+        TypedQuery<Reservation> typed = entityManager.createQuery(jpql.toString(), Reservation.class)
+                .setParameter("company", company)
+                .setParameter("status", status)
+                .setMaxResults(limit);
+        if (saleFrom != null) {
+            typed.setParameter("saleFrom", saleFrom);
+        }
+        if (saleTo != null) {
+            typed.setParameter("saleTo", saleTo);
+        }
+        if (beforeId != null) {
+            typed.setParameter("beforeId", beforeId);
+        }
+        return typed.getResultList();
+    }
+
+    // % и _ из пользовательского ввода ищутся буквально
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
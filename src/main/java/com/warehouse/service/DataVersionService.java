@@ -0,0 +1,97 @@
+package com.warehouse.service;
+
+import com.warehouse.model.ChangeLogEntry;
+import com.warehouse.model.Company;
+import com.warehouse.repository.CompanyDataVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Счётчик версии данных компании для условных GET списков и журнал изменений для /sync/changes.
+ * record() вызывается в транзакции изменения последним шагом: версия, журнал и данные коммитятся вместе.
+ * Строка счётчика блокируется до конца транзакции, поэтому версии одной компании коммитятся
+ * строго по возрастанию — клиент, дочитавший журнал до версии N, не пропустит запись с меньшей версией.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataVersionService {
+
+    // Браузер и клиенты хранят ответ, но каждый раз перепроверяют его по ETag
+    public static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private static final String BUMP_SQL =
+            "INSERT INTO company_data_version (company_id, version, log_floor) VALUES (?, 1, 0) " +
+                    "ON CONFLICT (company_id) DO UPDATE SET version = company_data_version.version + 1 " +
+                    "RETURNING version";
+    private static final String LOG_SQL =
+            "INSERT INTO change_log (company_id, version, entity_type, entity_id, deleted, changed_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final CompanyDataVersionRepository versionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserService userService;
+
+    /** Изменение сущности для журнала; deleted = true — удаление. */
+    public record Change(String entityType, String entityId, boolean deleted) {
+        public static Change item(String id) { return new Change(ChangeLogEntry.ITEM, id, false); }
+        public static Change itemDeleted(String id) { return new Change(ChangeLogEntry.ITEM, id, true); }
+        public static Change reservation(Long id) { return new Change(ChangeLogEntry.RESERVATION, String.valueOf(id), false); }
+        public static Change reservationDeleted(Long id) { return new Change(ChangeLogEntry.RESERVATION, String.valueOf(id), true); }
+    }
+
+    /** Новая версия без записей в журнал (например, сменился только порядок сортировки). */
+    @Transactional
+    public long bump(Long companyId) {
+        if (companyId == null) return 0;
+        Long version = jdbcTemplate.queryForObject(BUMP_SQL, Long.class, companyId);
+        return version == null ? 0 : version;
+    }
+
+    @Transactional
+    public void record(Long companyId, Change... changes) {
+        record(companyId, List.of(changes));
+    }
+
+    /** Одна новая версия на всю пачку изменений (импорт, приёмка поставки). */
+    @Transactional
+    public void record(Long companyId, Collection<Change> changes) {
+        if (companyId == null) return;
+        long version = bump(companyId);
+        if (changes.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            rows.add(new Object[]{companyId, version, change.entityType(), change.entityId(), change.deleted(), now});
+        }
+        jdbcTemplate.batchUpdate(LOG_SQL, rows);
+    }
+
+    @Transactional(readOnly = true)
+    public long current(Long companyId) {
+        return versionRepository.findVersion(companyId).orElse(0L);
+    }
+
+    /**
+     * Слабый ETag списков текущей компании. Один счётчик на товары и резервации:
+     * продажа по резервации меняет и sold в /items. Версия рендера QR входит в ETag,
+     * так как списки по умолчанию несут Base64-QR.
+     */
+    @Transactional(readOnly = true)
+    public String currentEtag() {
+        Company company = userService.getCurrentUser().getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена.");
+        }
+        return "W/\"" + company.getId() + "-" + current(company.getId()) + "-" + QrCodeService.RENDER_VERSION + "\"";
+    }
+}
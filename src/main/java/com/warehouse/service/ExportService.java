@@ -0,0 +1,104 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.utils.ExportFormat;
+import com.warehouse.utils.TableExportWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Потоковые выгрузки в XLSX/CSV. Строки читаются курсором (fetch size в репозиториях)
+ * и сразу пишутся в ответ, поэтому память не растёт с размером каталога.
+ * Компания определяется в потоке запроса; запись идёт уже в async-потоке MVC —
+ * там нет SecurityContext, поэтому дальше передаётся только companyId.
+ */
+@Service
+public class ExportService {
+
+    private static final String[] ITEM_COLUMNS = {"ID", "Name", "Quantity", "Sold"};
+    private static final String[] RESERVATION_COLUMNS =
+            {"ID", "Order number", "Item name", "Quantity", "Week", "Status", "Sale date"};
+
+    private final ItemRepository itemRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserService userService;
+    private final TransactionTemplate readOnlyTx;
+
+    public ExportService(ItemRepository itemRepository,
+                         ReservationRepository reservationRepository,
+                         UserService userService,
+                         PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.reservationRepository = reservationRepository;
+        this.userService = userService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportItems(ExportFormat format) {
+        Long companyId = currentCompanyId();
+        return export(format, "Items", ITEM_COLUMNS, () -> itemRepository.streamExportRows(companyId));
+    }
+
+    public StreamingResponseBody exportActiveReservations(ExportFormat format) {
+        Long companyId = currentCompanyId();
+        return export(format, "Reservations", RESERVATION_COLUMNS,
+                () -> reservationRepository.streamExportRowsByStatus(companyId, "RESERVED"));
+    }
+
+    public StreamingResponseBody exportReservationsByWeek(String reservationWeek, ExportFormat format) {
+        if (reservationWeek == null || reservationWeek.isBlank()) {
+            throw new IllegalArgumentException("Не указана неделя резервации.");
+        }
+        Long companyId = currentCompanyId();
+        return export(format, reservationWeek, RESERVATION_COLUMNS,
+                () -> reservationRepository.streamExportRowsByWeek(companyId, reservationWeek));
+    }
+
+    public StreamingResponseBody exportSoldReservations(ExportFormat format) {
+        Long companyId = currentCompanyId();
+        return export(format, "Sold", RESERVATION_COLUMNS,
+                () -> reservationRepository.streamExportRowsByStatus(companyId, "SOLD"));
+    }
+
+    private StreamingResponseBody export(ExportFormat format, String sheetName, String[] columns,
+                                         Supplier<Stream<Object[]>> rows) {
+        return out -> {
+            try (TableExportWriter writer = TableExportWriter.open(format, out, sheetName)) {
+                writer.header(columns);
+                // Курсор Postgres работает только внутри транзакции (без autocommit)
+                readOnlyTx.executeWithoutResult(status -> {
+                    try (Stream<Object[]> stream = rows.get()) {
+                        stream.forEach(row -> {
+                            try {
+                                writer.row(row);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                    }
+                });
+                writer.finish();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private Long currentCompanyId() {
+        Company company = userService.getCurrentUser().getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена. Свяжите пользователя с компанией.");
+        }
+        return company.getId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.warehouse.service;
+
+import com.warehouse.storage.BlobKeys;
+import com.warehouse.storage.BlobStore;
+import com.warehouse.utils.ImageScaler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Строит уменьшенные копии картинок в фоне: display (для карточки товара) и thumb (для списков).
+ * Пока копии нет, ImageController отдаёт по её URL оригинал.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final BlobStore blobStore;
+    private final TaskExecutor imageVariantExecutor;
+    private final int displaySize;
+    private final int thumbSize;
+
+    public ImageVariantService(BlobStore blobStore,
+                               @Qualifier("imageVariantExecutor") TaskExecutor imageVariantExecutor,
+                               @Value("${app.images.display-size:1280}") int displaySize,
+                               @Value("${app.images.thumb-size:320}") int thumbSize) {
+        this.blobStore = blobStore;
+        this.imageVariantExecutor = imageVariantExecutor;
+        this.displaySize = displaySize;
+        this.thumbSize = thumbSize;
+    }
+
+    public void schedule(String key) {
+        if (BlobKeys.hasVariants(key) && !BlobKeys.isVariant(key)) {
+            imageVariantExecutor.execute(() -> generate(key));
+        }
+    }
+
+    private void generate(String key) {
+        String format = key.substring(key.lastIndexOf('.') + 1);
+        try {
+            createVariant(key, BlobKeys.DISPLAY, displaySize, format);
+            createVariant(key, BlobKeys.THUMB, thumbSize, format);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Не удалось построить уменьшенные копии {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void createVariant(String key, String variant, int maxSide, String format) throws IOException {
+        String variantKey = BlobKeys.variantKey(key, variant);
+        if (blobStore.exists(variantKey)) {
+            return;
+        }
+        Optional<InputStream> source = blobStore.open(key);
+        if (source.isEmpty()) {
+            return;
+        }
+        byte[] scaled;
+        try (InputStream in = source.get()) {
+            scaled = ImageScaler.scale(in, maxSide, format);
+        }
+        blobStore.put(variantKey, scaled);
+    }
+}
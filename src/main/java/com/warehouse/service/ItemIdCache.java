@@ -0,0 +1,126 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.repository.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Кэш (компания, название товара) → id товара. Резервации хранят itemName, поэтому каждая операция
+ * с резервацией сначала ищет товар по имени; с кэшем дальше идёт только обращение по первичному ключу.
+ * Промахи (товара нет) не кэшируются. Переименование и удаление товара вытесняют запись сразу
+ * и ещё раз после commit; загрузка, начавшаяся до вытеснения, свой результат в кэш не кладёт.
+ * Кэш локален для инстанса, как и поисковый индекс (ItemSearchService): о переименовании на другом
+ * инстансе он не узнает. Поэтому каждое попадание перепроверяется по первичному ключу
+ * (id, название, компания); устаревшая запись вытесняется, и id ищется заново по названию.
+ */
+@Service
+public class ItemIdCache {
+
+    private record Key(Long companyId, String name) {}
+
+    private final ItemRepository itemRepository;
+    private final int maxEntries;
+    private final LinkedHashMap<Key, String> entries;
+
+    // Растёт при каждом вытеснении; загрузка сохраняет результат, только если счётчик не изменился
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong(); // попадания, не прошедшие проверку по первичному ключу
+
+    public ItemIdCache(ItemRepository itemRepository,
+                       @Value("${app.items.id-cache-max-entries:100000}") int maxEntries) {
+        this.itemRepository = itemRepository;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() > ItemIdCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<String> resolve(Company company, String name) {
+        if (company == null || name == null) {
+            return Optional.empty();
+        }
+        Key key = new Key(company.getId(), name);
+        String cached;
+        long loadGeneration;
+        synchronized (this) {
+            cached = entries.get(key);
+            loadGeneration = generation;
+        }
+        if (cached != null) {
+            if (itemRepository.existsByIdAndNameAndCompanyId(cached, name, company.getId())) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            stale.incrementAndGet();
+            synchronized (this) {
+                if (entries.remove(key, cached)) {
+                    generation++;
+                }
+                loadGeneration = generation;
+            }
+        }
+        misses.incrementAndGet();
+        Optional<String> id = itemRepository.findIdByNameAndCompany(name, company);
+        if (id.isPresent()) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, id.get());
+                }
+            }
+        }
+        return id;
+    }
+
+    /** Товар переименован (oldName → newName) или удалён (newName = null). */
+    public void onItemRenamedOrDeleted(Long companyId, String oldName, String newName) {
+        Runnable evict = () -> {
+            synchronized (this) {
+                generation++;
+                entries.remove(new Key(companyId, oldName));
+                if (newName != null) {
+                    entries.remove(new Key(companyId, newName));
+                }
+            }
+        };
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    public synchronized Map<String, Long> stats() {
+        long total = hits.get() + misses.get();
+        return Map.of(
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "evictions", evictions.get(),
+                "stale", stale.get(),
+                "entries", (long) entries.size(),
+                "hitRatePercent", total == 0 ? 0 : hits.get() * 100 / total
+        );
+    }
+}
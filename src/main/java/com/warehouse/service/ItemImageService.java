@@ -0,0 +1,143 @@
+package com.warehouse.service;
+
+import com.warehouse.storage.BlobKeys;
+import com.warehouse.storage.BlobStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Картинки товаров в BlobStore. В Item.images лежат только ключи оригиналов,
+ * наружу (ItemDTO.images) уходят URL /api/images/{ключ} уменьшенных копий (см. ImageVariantService).
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemImageService {
+
+    public static final int MAX_IMAGE_BYTES = 10 * 1024 * 1024;
+    public static final long MAX_UPLOAD_BYTES = 25L * 1024 * 1024;
+
+    private final BlobStore blobStore;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * Список картинок из запроса → ключи. Фронт присылает вперемешку URL уже сохранённых картинок
+     * и новые картинки как data URL (data:image/...;base64,...) или просто Base64.
+     */
+    public List<String> toKeys(List<String> images) {
+        if (images == null) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>(images.size());
+        for (String image : images) {
+            if (image == null || image.isBlank()) {
+                continue;
+            }
+            String key = BlobKeys.fromUrl(image);
+            if (key == null && BlobKeys.isKey(image)) {
+                key = image;
+            }
+            // Клиент мог вернуть URL превью — в товаре храним ключ оригинала
+            keys.add(key != null ? BlobKeys.originalKey(key) : store(decode(image)));
+        }
+        return keys;
+    }
+
+    public String store(byte[] data) {
+        if (data.length > MAX_IMAGE_BYTES) {
+            throw new IllegalArgumentException("Картинка больше " + MAX_IMAGE_BYTES / (1024 * 1024) + " МБ.");
+        }
+        String extension = BlobKeys.sniffExtension(data);
+        if (extension == null) {
+            throw new IllegalArgumentException("Неподдерживаемый формат картинки (ожидается JPEG, PNG, GIF или WebP).");
+        }
+        String key = BlobKeys.keyFor(data, extension);
+        try {
+            blobStore.put(key, data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось сохранить картинку", e);
+        }
+        imageVariantService.schedule(key);
+        return key;
+    }
+
+    /**
+     * Загрузка файла (multipart): копируем во временный файл, по пути считая SHA-256,
+     * и кладём в хранилище из файла — картинка целиком в память не читается.
+     */
+    public String storeUpload(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Файл не передан или пуст.");
+        }
+        if (file.getSize() > MAX_UPLOAD_BYTES) {
+            throw new IllegalArgumentException("Картинка больше " + MAX_UPLOAD_BYTES / (1024 * 1024) + " МБ.");
+        }
+        Path temp = Files.createTempFile("image-upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            byte[] head = new byte[16];
+            int headLength;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                headLength = in.readNBytes(head, 0, head.length);
+                out.write(head, 0, headLength);
+                in.transferTo(out);
+            }
+            String extension = BlobKeys.sniffExtension(Arrays.copyOf(head, headLength));
+            if (extension == null) {
+                throw new IllegalArgumentException("Неподдерживаемый формат картинки (ожидается JPEG, PNG, GIF или WebP).");
+            }
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            blobStore.put(key, temp);
+            imageVariantService.schedule(key);
+            return key;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+
+    public Optional<InputStream> open(String key) throws IOException {
+        return BlobKeys.isKey(key) ? blobStore.open(key) : Optional.empty();
+    }
+
+    /** data URL или голый Base64 → байты. */
+    public static byte[] decode(String image) {
+        String base64 = image;
+        if (image.startsWith("data:")) {
+            int comma = image.indexOf(',');
+            if (comma < 0 || !image.substring(0, comma).endsWith(";base64")) {
+                throw new IllegalArgumentException("Ожидается data URL в Base64.");
+            }
+            base64 = image.substring(comma + 1);
+        }
+        try {
+            return Base64.getMimeDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Картинка не является корректным Base64.", e);
+        }
+    }
+}
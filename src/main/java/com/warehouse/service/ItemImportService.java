@@ -0,0 +1,310 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.dto.ItemImportResultDTO;
+import com.warehouse.service.DataVersionService.Change;
+import com.warehouse.utils.ExportFormat;
+import com.warehouse.utils.ItemSortKeys;
+import com.warehouse.utils.TableImportReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Массовый импорт товаров из XLSX/CSV. Файл читается построчно (TableImportReader),
+ * строки валидируются и пачками по CHUNK_SIZE пишутся upsert'ом по (компания, имя) через JDBC-батчи —
+ * без сущностей Item и без save() на каждую строку. Каждая пачка — своя транзакция,
+ * поэтому память не зависит от размера файла. Ошибочные строки пропускаются и попадают в отчёт.
+ */
+@Slf4j
+@Service
+public class ItemImportService {
+
+    public static final int MAX_ROWS = 100_000;
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_CURRENCY_LENGTH = 8;
+
+    // Заголовки колонок: английские (как в выгрузке /items/export) и русские
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("name", "name"), Map.entry("название", "name"),
+            Map.entry("quantity", "quantity"), Map.entry("количество", "quantity"),
+            Map.entry("description", "description"), Map.entry("описание", "description"),
+            Map.entry("price", "price"), Map.entry("цена", "price"),
+            Map.entry("currency", "currency"), Map.entry("валюта", "currency"));
+
+    private static final String INSERT_SQL =
+            "INSERT INTO item (id, name, name_sort_key, quantity, sold, description, price, currency, company_id) " +
+                    "VALUES (?, ?, ?, ?, 0, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+            Types.VARCHAR, Types.NUMERIC, Types.VARCHAR, Types.BIGINT};
+
+    // Пустая ячейка в файле не затирает существующее значение
+    private static final String UPDATE_SQL =
+            "UPDATE item SET quantity = COALESCE(?, quantity), description = COALESCE(?, description), " +
+                    "price = COALESCE(?, price), currency = COALESCE(?, currency) WHERE id = ?";
+    private static final int[] UPDATE_TYPES = {Types.INTEGER, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR, Types.VARCHAR};
+
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ItemSearchService itemSearchService;
+    private final DataVersionService dataVersionService;
+
+    public ItemImportService(UserService userService,
+                             JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ItemSearchService itemSearchService,
+                             DataVersionService dataVersionService) {
+        this.userService = userService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.itemSearchService = itemSearchService;
+        this.dataVersionService = dataVersionService;
+    }
+
+    public ItemImportResultDTO importItems(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Файл не передан или пуст.");
+        }
+        ExportFormat format = ExportFormat.from(extension(file.getOriginalFilename()));
+        Company company = userService.getCurrentUser().getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена.");
+        }
+
+        ImportRun run = new ImportRun(company);
+        // Multipart уже лежит на диске; XLSX-пакет читается из файла, а не из памяти
+        Path temp = Files.createTempFile("item-import-", "." + format.getExtension());
+        try {
+            file.transferTo(temp);
+            TableImportReader.read(format, temp, run::row);
+            run.flush();
+        } finally {
+            Files.deleteIfExists(temp);
+            // Пачки уже закоммичены (даже если импорт упал посередине) — индекс перестроится при поиске
+            itemSearchService.invalidate(company.getId());
+        }
+        if (run.columns == null) {
+            throw new IllegalArgumentException("Файл пуст: нет строки заголовков.");
+        }
+        log.info("Импорт товаров для компании {}: {} строк, добавлено {}, обновлено {}, ошибок {}",
+                company.getId(), run.result.getRows(), run.result.getInserted(),
+                run.result.getUpdated(), run.result.getFailed());
+        return run.result;
+    }
+
+    private record ImportRow(String name, Integer quantity, String description,
+                             BigDecimal price, String currency) {}
+
+    /** Состояние одного импорта: заголовки, текущая пачка и отчёт. */
+    private final class ImportRun {
+        private final Company company;
+        private final ItemImportResultDTO result = new ItemImportResultDTO();
+        // Повтор имени внутри пачки — побеждает последняя строка
+        private final Map<String, ImportRow> chunk = new LinkedHashMap<>();
+        private Map<String, Integer> columns;
+
+        ImportRun(Company company) {
+            this.company = company;
+        }
+
+        void row(int rowNum, List<String> cells) {
+            if (cells.stream().allMatch(cell -> cell == null || cell.isBlank())) {
+                return;
+            }
+            if (columns == null) {
+                columns = parseHeader(cells);
+                return;
+            }
+            result.setRows(result.getRows() + 1);
+            if (result.getRows() > MAX_ROWS) {
+                if (result.getRows() == MAX_ROWS + 1) {
+                    error(rowNum, "Превышен лимит в " + MAX_ROWS + " строк — остальные строки пропущены.");
+                }
+                result.setFailed(result.getFailed() + 1);
+                return;
+            }
+            try {
+                ImportRow row = parseRow(cells);
+                chunk.put(row.name(), row);
+            } catch (IllegalArgumentException e) {
+                result.setFailed(result.getFailed() + 1);
+                error(rowNum, e.getMessage());
+                return;
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private Map<String, Integer> parseHeader(List<String> cells) {
+            Map<String, Integer> mapping = new HashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                String column = HEADER_ALIASES.get(cells.get(i).trim().toLowerCase(Locale.ROOT));
+                if (column != null) {
+                    mapping.putIfAbsent(column, i);
+                }
+            }
+            if (!mapping.containsKey("name")) {
+                throw new IllegalArgumentException("В строке заголовков нет колонки name (название).");
+            }
+            return mapping;
+        }
+
+        private ImportRow parseRow(List<String> cells) {
+            String name = cell(cells, "name");
+            if (name == null) {
+                throw new IllegalArgumentException("Не указано название товара.");
+            }
+            if (name.length() > MAX_NAME_LENGTH) {
+                throw new IllegalArgumentException("Название длиннее " + MAX_NAME_LENGTH + " символов.");
+            }
+            String currency = cell(cells, "currency");
+            if (currency != null) {
+                currency = currency.toUpperCase(Locale.ROOT);
+                if (currency.length() > MAX_CURRENCY_LENGTH) {
+                    throw new IllegalArgumentException("Некорректная валюта: " + currency);
+                }
+            }
+            return new ImportRow(name, parseQuantity(cell(cells, "quantity")),
+                    cell(cells, "description"), parsePrice(cell(cells, "price")), currency);
+        }
+
+        private String cell(List<String> cells, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private Integer parseQuantity(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                // Excel может отдать «12», «12.0» или «1 200»
+                int quantity = new BigDecimal(value.replace(" ", "").replace(',', '.')).intValueExact();
+                if (quantity < 0) {
+                    throw new IllegalArgumentException("Количество не может быть отрицательным: " + value);
+                }
+                return quantity;
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new IllegalArgumentException("Некорректное количество: " + value);
+            }
+        }
+
+        private BigDecimal parsePrice(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                BigDecimal price = new BigDecimal(value.replace(" ", "").replace(',', '.')).stripTrailingZeros();
+                if (price.signum() < 0 || price.scale() > 2 || price.precision() - price.scale() > 12) {
+                    throw new IllegalArgumentException("Некорректная цена: " + value);
+                }
+                return price;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Некорректная цена: " + value);
+            }
+        }
+
+        private void error(int rowNum, String message) {
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new ItemImportResultDTO.RowError(rowNum, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<ImportRow> rows = new ArrayList<>(chunk.values());
+            chunk.clear();
+
+            // Ключи сортировки — самая дорогая производная часть строки, считаем параллельно
+            String lang = company.getSortLocale();
+            List<String> sortKeys = rows.parallelStream()
+                    .map(row -> ItemSortKeys.of(row.name(), lang))
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, List<String>> existing = findExistingIds(rows);
+                List<Object[]> inserts = new ArrayList<>();
+                List<Object[]> updates = new ArrayList<>();
+                List<Change> changes = new ArrayList<>();
+                for (int i = 0; i < rows.size(); i++) {
+                    ImportRow row = rows.get(i);
+                    List<String> ids = existing.get(row.name());
+                    if (ids == null) {
+                        inserts.add(new Object[]{UUID.randomUUID().toString(), row.name(), sortKeys.get(i),
+                                row.quantity() != null ? row.quantity() : 0, row.description(), row.price(),
+                                row.currency(), company.getId()});
+                        changes.add(Change.item((String) inserts.get(inserts.size() - 1)[0]));
+                    } else {
+                        for (String id : ids) {
+                            updates.add(new Object[]{row.quantity(), row.description(), row.price(), row.currency(), id});
+                            changes.add(Change.item(id));
+                        }
+                    }
+                }
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, inserts, INSERT_TYPES);
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, updates, UPDATE_TYPES);
+                }
+                // Версия и журнал — в транзакции пачки: закоммиченная пачка видна и /sync/changes
+                dataVersionService.record(company.getId(), changes);
+                result.setInserted(result.getInserted() + inserts.size());
+                result.setUpdated(result.getUpdated() + rows.size() - inserts.size());
+            });
+        }
+
+        private Map<String, List<String>> findExistingIds(List<ImportRow> rows) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("companyId", company.getId())
+                    .addValue("names", rows.stream().map(ImportRow::name).toList());
+            Map<String, List<String>> existing = new HashMap<>();
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, name FROM item WHERE company_id = :companyId AND name IN (:names)", params,
+                    rs -> {
+                        existing.computeIfAbsent(rs.getString("name"), k -> new ArrayList<>()).add(rs.getString("id"));
+                    });
+            return existing;
+        }
+    }
+
+    private static String extension(String fileName) {
+        if (fileName == null || fileName.lastIndexOf('.') < 0) {
+            throw new IllegalArgumentException("Не удалось определить формат файла: ожидается .xlsx или .csv");
+        }
+        return fileName.substring(fileName.lastIndexOf('.') + 1);
+    }
+}
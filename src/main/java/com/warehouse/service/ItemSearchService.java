@@ -0,0 +1,150 @@
+package com.warehouse.service;
+
+import com.warehouse.utils.TrigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Поиск товаров по подстроке (typeahead) по in-memory триграммному индексу компании.
+ * Индекс строится лениво при первом поиске компании (один SELECT id, name, description)
+ * и дальше поддерживается инкрементально из ItemService. Массовые изменения (импорт) просто
+ * сбрасывают индекс — он перестроится при следующем поиске.
+ * Изменения применяются после commit, чтобы откат транзакции не оставил в индексе лишнего.
+ * SELECT построения идёт вне блокировок карты; изменения, закоммиченные, пока индекс строится,
+ * копятся в очереди и применяются к построенному индексу — иначе товар, не попавший в снимок SELECT,
+ * пропал бы из поиска до рестарта.
+ * Индекс локален для инстанса: при нескольких инстансах другие увидят изменения после сброса/рестарта.
+ */
+@Slf4j
+@Service
+public class ItemSearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, CompanyIndex> indexes = new ConcurrentHashMap<>();
+
+    public ItemSearchService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<TrigramIndex.Hit> search(Long companyId, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        int max = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        // computeIfAbsent только создаёт пустой слот; запрос к БД — вне блокировки карты
+        CompanyIndex slot = indexes.computeIfAbsent(companyId, id -> new CompanyIndex());
+        return slot.get(companyId).search(query, max);
+    }
+
+    public void onItemSaved(Long companyId, String id, String name, String description) {
+        afterCommit(() -> apply(companyId, index -> index.put(id, name, description)));
+    }
+
+    public void onItemDeleted(Long companyId, String id) {
+        afterCommit(() -> apply(companyId, index -> index.remove(id)));
+    }
+
+    public void invalidate(Long companyId) {
+        afterCommit(() -> indexes.remove(companyId));
+    }
+
+    // Слота нет — индекс не строился и не строится: будущий SELECT начнётся после commit и увидит изменение
+    private void apply(Long companyId, Consumer<TrigramIndex> change) {
+        CompanyIndex slot = indexes.get(companyId);
+        if (slot != null) {
+            slot.apply(change);
+        }
+    }
+
+    private final class CompanyIndex {
+        private TrigramIndex index;
+        private CompletableFuture<TrigramIndex> building;
+        private final List<Consumer<TrigramIndex>> pending = new ArrayList<>();
+
+        TrigramIndex get(Long companyId) {
+            CompletableFuture<TrigramIndex> future;
+            synchronized (this) {
+                if (index != null) {
+                    return index;
+                }
+                if (building != null) {
+                    future = building;
+                } else {
+                    building = new CompletableFuture<>();
+                    future = null;
+                }
+            }
+            if (future != null) {
+                return future.join();
+            }
+
+            TrigramIndex built;
+            try {
+                built = build(companyId);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    building.completeExceptionally(e);
+                    building = null;
+                    pending.clear();
+                }
+                indexes.remove(companyId, this);
+                throw e;
+            }
+            synchronized (this) {
+                pending.forEach(change -> change.accept(built));
+                pending.clear();
+                index = built;
+                building.complete(built);
+                building = null;
+            }
+            return built;
+        }
+
+        synchronized void apply(Consumer<TrigramIndex> change) {
+            if (index != null) {
+                change.accept(index);
+            } else if (building != null) {
+                pending.add(change);
+            }
+        }
+    }
+
+    private TrigramIndex build(Long companyId) {
+        long start = System.nanoTime();
+        TrigramIndex index = new TrigramIndex();
+        jdbcTemplate.query("SELECT id, name, description FROM item WHERE company_id = ?",
+                rs -> {
+                    index.put(rs.getString("id"), rs.getString("name"), rs.getString("description"));
+                },
+                companyId);
+        log.info("Поисковый индекс компании {} построен: {} товаров за {} мс",
+                companyId, index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
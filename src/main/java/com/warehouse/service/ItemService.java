@@ -1,55 +1,88 @@
 package com.warehouse.service;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.WriterException;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.QRCodeWriter;
 import com.warehouse.model.Company;
 import com.warehouse.model.Item;
 import com.warehouse.model.dto.ItemDTO;
+import com.warehouse.model.dto.ItemPageDTO;
+import com.warehouse.model.dto.StockAdjustmentDTO;
+import com.warehouse.model.dto.StockAdjustmentResultDTO;
 import com.warehouse.repository.ItemRepository;
-import com.warehouse.repository.ReservationRepository;
+import com.warehouse.service.DataVersionService.Change;
 import com.warehouse.service.mapper.interfaces.ItemMapper;
+import com.warehouse.repository.CompanyRepository;
+import com.warehouse.storage.BlobKeys;
+import com.warehouse.utils.ItemSortField;
+import com.warehouse.utils.ItemSortKeys;
+import com.warehouse.utils.KeysetCursor;
+import com.warehouse.utils.TrigramIndex;
+import jakarta.persistence.Tuple;
 import org.springframework.transaction.annotation.Transactional;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class ItemService {
     private static final String QR_PATH = "qrcodes/";
+    // Поля, доступные в ?fields= (имена как в ItemDTO)
+    public static final Set<String> LIST_FIELDS =
+            Set.of("id", "name", "quantity", "sold", "description", "price", "currency", "images", "qrCode");
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
     private final ItemRepository itemRepository;
-    private final ReservationRepository reservationRepository;
     private final UserService userService;
     private final ItemMapper itemMapper;
+    private final CompanyRepository companyRepository;
+    private final ItemSortKeyService itemSortKeyService;
+    private final ItemSoldCounterService soldCounterService;
+    private final StockService stockService;
+    private final ItemImageService itemImageService;
+    private final QrCodeService qrCodeService;
+    private final ItemSearchService itemSearchService;
+    private final DataVersionService dataVersionService;
+    private final ItemIdCache itemIdCache;
 
     @Value("${app.qrcode-base-url}")
     private String qrCodeBaseUrl; // Значение из application.yml
 
     public ItemService(ItemRepository itemRepository,
-                       ReservationRepository reservationRepository,
                        ItemMapper itemMapper,
-                       UserService userService) {
+                       UserService userService,
+                       CompanyRepository companyRepository,
+                       ItemSortKeyService itemSortKeyService,
+                       ItemSoldCounterService soldCounterService,
+                       StockService stockService,
+                       ItemImageService itemImageService,
+                       QrCodeService qrCodeService,
+                       ItemSearchService itemSearchService,
+                       DataVersionService dataVersionService,
+                       ItemIdCache itemIdCache) {
         this.itemRepository = itemRepository;
-        this.reservationRepository = reservationRepository;
         this.userService = userService;
         this.itemMapper = itemMapper;
+        this.companyRepository = companyRepository;
+        this.itemSortKeyService = itemSortKeyService;
+        this.soldCounterService = soldCounterService;
+        this.stockService = stockService;
+        this.itemImageService = itemImageService;
+        this.qrCodeService = qrCodeService;
+        this.itemSearchService = itemSearchService;
+        this.dataVersionService = dataVersionService;
+        this.itemIdCache = itemIdCache;
         try {
             Files.createDirectories(Paths.get(QR_PATH));
         } catch (IOException e) {
@@ -59,11 +92,13 @@ public class ItemService {
 
     public String getQrCodeUrl(String id) {
         // return qrCodeBaseUrl + id + ".png";
-        throw new UnsupportedOperationException("QR-коды хранятся в базе данных в формате Base64. Используйте Base64 строку.");
+        throw new UnsupportedOperationException("QR-коды строятся по запросу. Используйте /items/{id}/download-qrcode.");
     }
 
     @Transactional
     public Item addItem(Item item) {
+        // До try: ошибка в картинке — это 400, а не «обратитесь к администратору»
+        item.setImages(item.getImages() != null ? itemImageService.toKeys(item.getImages()) : new ArrayList<>());
         try {
             var currentUser = userService.getCurrentUser();
             if (currentUser == null) {
@@ -81,14 +116,13 @@ public class ItemService {
             if (item.getId() == null || item.getId().isEmpty()) {
                 item.setId(UUID.randomUUID().toString());
             }
+            item.setNameSortKey(ItemSortKeys.of(item.getName(), currentCompany.getSortLocale()));
 
-            Item savedItem = itemRepository.save(item);
-
-            // Генерация QR-кода (в bytes)
-            byte[] qrCodeBytes = generateQRCodeAsBytes(savedItem.getId());
-            savedItem.setQrCode(qrCodeBytes);
-
-            return itemRepository.save(savedItem);
+            // QR-код не сохраняем: он строится из id по запросу (QrCodeService), поэтому хватает одного save
+            Item saved = itemRepository.save(item);
+            itemSearchService.onItemSaved(currentCompany.getId(), saved.getId(), saved.getName(), saved.getDescription());
+            dataVersionService.record(currentCompany.getId(), Change.item(saved.getId()));
+            return saved;
         } catch (Exception e) {
             System.err.println("Ошибка при добавлении товара: " + e.getMessage());
             e.printStackTrace();
@@ -104,6 +138,9 @@ public class ItemService {
             item.getImages().clear();
         }
         itemRepository.deleteById(id);
+        itemSearchService.onItemDeleted(item.getCompany().getId(), id);
+        itemIdCache.onItemRenamedOrDeleted(item.getCompany().getId(), item.getName(), null);
+        dataVersionService.record(item.getCompany().getId(), Change.itemDeleted(id));
     }
 
     /* ========================= NEW: Частичное обновление товара =========================
@@ -117,67 +154,114 @@ public class ItemService {
         Item entity = itemRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + id));
 
+        String oldName = entity.getName();
+
         // Копируем только присланные поля (description/price/currency и пр.)
         itemMapper.updateEntityFromDto(patch, entity);
+        soldCounterService.rename(entity.getCompany().getId(), oldName, entity.getName());
+        if (!Objects.equals(oldName, entity.getName())) {
+            itemIdCache.onItemRenamedOrDeleted(entity.getCompany().getId(), oldName, entity.getName());
+        }
+        entity.setNameSortKey(ItemSortKeys.of(entity.getName(), entity.getCompany().getSortLocale()));
 
         // ВАЖНО: именно так позволяем "стереть" картинки — если пришёл пустой список,
         // он заменит существующую коллекцию; если пришёл null — оставим как было.
         if (patch.getImages() != null) {
-            entity.setImages(patch.getImages());
+            entity.setImages(itemImageService.toKeys(patch.getImages()));
         }
 
         // Если на фронте убрали цену (price=null), можно дополнительно обнулить валюту:
         // if (patch.getPrice() == null) entity.setCurrency(null);
 
         Item saved = itemRepository.save(entity);
+        itemSearchService.onItemSaved(saved.getCompany().getId(), saved.getId(), saved.getName(), saved.getDescription());
+        dataVersionService.record(saved.getCompany().getId(), Change.item(saved.getId()));
         return itemMapper.toDTO(saved);
     }
     /* ================================================================================== */
 
+    // Загрузка картинки файлом (POST /items/{id}/images); превью строятся в фоне
+    @Transactional
+    public ItemDTO addImage(String id, MultipartFile file) throws IOException {
+        Item entity = itemRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + id));
+        String key = itemImageService.storeUpload(file);
+        if (!entity.getImages().contains(key)) {
+            entity.getImages().add(key);
+        }
+        Item saved = itemRepository.save(entity);
+        dataVersionService.record(saved.getCompany().getId(), Change.item(saved.getId()));
+        return itemMapper.toDTO(saved);
+    }
+
+    @Transactional
+    public ItemDTO getItem(String id) {
+        return itemRepository.findById(id)
+                .map(itemMapper::toDTO)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + id));
+    }
+
+    // Остаток меняется атомарно в StockService; сущность читается уже после UPDATE — со свежими значениями
+    @Transactional
     public Optional<Item> updateQuantity(String id, int quantity) {
-        Optional<Item> itemOpt = itemRepository.findById(id);
-        if (itemOpt.isPresent()) {
-            Item item = itemOpt.get();
-            item.setQuantity(item.getQuantity() + quantity);
-            return Optional.of(itemRepository.save(item));
+        if (stockService.increase(id, quantity).isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        Optional<Item> item = itemRepository.findById(id);
+        item.ifPresent(i -> dataVersionService.record(i.getCompany().getId(), Change.item(i.getId())));
+        return item;
     }
 
+    // Пакетная приёмка/списание по текущей компании (POST /items/stock-adjustments)
+    @Transactional
+    public List<StockAdjustmentResultDTO> applyStockAdjustments(List<StockAdjustmentDTO> lines) {
+        Company company = getCurrentCompany();
+        List<StockAdjustmentResultDTO> results = stockService.applyAdjustments(company.getId(), lines);
+        List<Change> changes = results.stream()
+                .filter(r -> "APPLIED".equals(r.getStatus()))
+                .map(StockAdjustmentResultDTO::getItemId)
+                .distinct()
+                .map(Change::item)
+                .toList();
+        if (!changes.isEmpty()) {
+            dataVersionService.record(company.getId(), changes);
+        }
+        return results;
+    }
+
+    @Transactional
     public Optional<Item> removeQuantity(String id, int quantity) {
-        Optional<Item> itemOpt = itemRepository.findById(id);
-        if (itemOpt.isPresent()) {
-            Item item = itemOpt.get();
-            if (item.getQuantity() >= quantity) {
-                item.setQuantity(item.getQuantity() - quantity);
-                item.setSold(item.getSold() + quantity);
-                return Optional.of(itemRepository.save(item));
-            }
+        if (stockService.sell(id, quantity).isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        Item item = itemRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + id));
+        soldCounterService.increment(item.getCompany().getId(), item.getName(), quantity);
+        dataVersionService.record(item.getCompany().getId(), Change.item(item.getId()));
+        return Optional.of(item);
     }
 
     // Метод для получения количества проданных товаров
+    @Transactional(readOnly = true)
     public int getSoldQuantityForItem(String itemId) {
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + itemId));
 
-        // Суммируем из Reservation по имени товара
-        return reservationRepository.getTotalSoldQuantityForItem(item.getName())
-                .orElse(0);
+        return soldCounterService.getSold(item.getCompany().getId(), item.getName());
     }
 
-    // Новый метод: Вернуть список всех товаров с подсчётом проданных штук
+    // Список товаров компании с проданными штуками: один запрос с LEFT JOIN на item_sold_counter
+    @Transactional(readOnly = true)
     public List<ItemDTO> getAllItemsWithSoldData() {
-        List<Item> items = itemRepository.findAll();
-
-        List<ItemDTO> itemDTOs = itemMapper.toDTOList(items);
-        itemDTOs.forEach(itemDTO -> {
-            int soldQuantity = reservationRepository.getTotalSoldQuantityForItem(itemDTO.getName()).orElse(0);
-            itemDTO.setSold(soldQuantity);
-        });
-
-        return itemDTOs;
+        Company company = getCurrentCompany();
+
+        return itemRepository.findAllWithSoldByCompany(company).stream()
+                .map(row -> {
+                    ItemDTO itemDTO = itemMapper.toListDTO((Item) row[0]);
+                    itemDTO.setSold(((Number) row[1]).intValue());
+                    return itemDTO;
+                })
+                .toList();
     }
 
     @Transactional
@@ -220,65 +304,115 @@ public class ItemService {
         }
     }
 
+    public boolean existsById(String id) {
+        return itemRepository.existsById(id);
+    }
+
     @Transactional
     public Optional<Item> getItemByName(String name) {
         Company currentCompany = userService.getCurrentUser().getCompany();
         return itemRepository.findByNameAndCompany(name, currentCompany);
     }
 
-    // ItemService.java
-    public List<Item> getAllItemsSorted(Comparator<Item> comparator) {
-        List<Item> items = getAllItems();
-        items.sort(Comparator.nullsLast(comparator));
-        return items;
+    // Полный список, отсортированный в БД (ORDER BY поле, id) вместо сортировки в памяти
+    @Transactional(readOnly = true)
+    public List<Item> getAllItemsSorted(ItemSortField sortField) {
+        Company company = getCurrentCompany();
+        return itemRepository.findAllByCompany(company, Sort.by(sortField.getProperty(), "id"));
     }
 
-    // Генерация QR-кода в виде массива байт
-    private byte[] generateQRCodeAsBytes(String id) {
-        try {
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(id, BarcodeFormat.QR_CODE, 200, 200);
-
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
+    // Typeahead по названию и описанию (GET /items/search)
+    public List<TrigramIndex.Hit> searchItems(String query, Integer limit) {
+        return itemSearchService.search(getCurrentCompany().getId(), query, limit);
+    }
 
-            return outputStream.toByteArray();
-        } catch (WriterException | IOException e) {
-            throw new RuntimeException("Failed to generate QR code: " + e.getMessage());
+    /**
+     * Список с выбранными полями (?fields=): простые поля читаются одной tuple-выборкой,
+     * картинки (превью) — отдельным запросом только если запрошены, QR — только если запрошен.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getItemFields(ItemSortField sortField, Set<String> fields) {
+        Company company = getCurrentCompany();
+        List<String> columns = fields.stream()
+                .filter(field -> !"images".equals(field) && !"qrCode".equals(field))
+                .toList();
+        List<Tuple> tuples = itemRepository.findColumns(company, sortField, columns);
+        Map<String, List<String>> imageKeys = fields.contains("images")
+                ? itemRepository.findImageKeys(tuples.stream().map(t -> t.get("id", String.class)).toList())
+                : Map.of();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            String id = tuple.get("id", String.class);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                switch (field) {
+                    case "images" -> row.put(field, BlobKeys.toUrls(imageKeys.getOrDefault(id, List.of()), BlobKeys.THUMB));
+                    case "qrCode" -> row.put(field, qrCodeService.renderBase64(id));
+                    default -> row.put(field, tuple.get(field));
+                }
+            }
+            rows.add(row);
         }
+        return rows;
     }
 
-    // Возвращаем QR-код из базы в виде массива байт
-    public byte[] getQRCode(String itemId) {
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("Item not found for ID: " + itemId));
-        return item.getQrCode();
+    /**
+     * Keyset-пагинация товаров текущей компании.
+     * Загружается limit + 1 строк: лишняя строка только сигнализирует, что есть следующая страница.
+     */
+    @Transactional(readOnly = true)
+    public ItemPageDTO getItemsPage(String after, Integer limit, String sortBy, boolean withTotal) {
+        Company company = getCurrentCompany();
+        ItemSortField sortField = ItemSortField.from(sortBy);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        List<Item> rows = itemRepository.findPage(company, sortField, cursor, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<Item> pageItems = hasMore ? rows.subList(0, pageSize) : rows;
+
+        ItemPageDTO page = new ItemPageDTO();
+        page.setItems(itemMapper.toDTOList(pageItems));
+        if (hasMore) {
+            Item last = pageItems.get(pageItems.size() - 1);
+            page.setNextCursor(new KeysetCursor(sortField.valueOf(last), last.getId()).encode());
+        }
+        if (withTotal) {
+            page.setTotal(itemRepository.countByCompany(company));
+        }
+        return page;
     }
 
-    public InputStream generateExcelFile(List<Item> items) {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Items");
-
-            Row headerRow = sheet.createRow(0);
-            String[] columns = {"ID", "Name", "Quantity"};
-            for (int i = 0; i < columns.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
-            }
-
-            int rowNum = 1;
-            for (Item item : items) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(item.getId());
-                row.createCell(1).setCellValue(item.getName());
-                row.createCell(2).setCellValue(item.getQuantity());
-            }
+    /**
+     * Смена языка сортировки названий для компании (только ROLE_ADMIN).
+     * Ключи всех товаров компании пересчитываются сразу, в той же транзакции.
+     */
+    @Transactional
+    public void changeSortLocale(String lang) {
+        var currentUser = userService.getCurrentUser();
+        if (!"ROLE_ADMIN".equalsIgnoreCase(currentUser.getRole())) {
+            throw new IllegalStateException("Недостаточно прав. Требуется ROLE_ADMIN.");
+        }
+        if (!ItemSortKeys.isSupported(lang)) {
+            throw new IllegalArgumentException("Неподдерживаемый язык сортировки: " + lang + ". Используйте ru, pl, de или en.");
+        }
+        Company company = currentUser.getCompany();
+        company.setSortLocale(lang.toLowerCase());
+        companyRepository.save(company);
+        itemSortKeyService.rebuildForCompany(company.getId(), company.getSortLocale());
+        dataVersionService.bump(company.getId()); // меняется порядок в /items/sorted
+    }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            workbook.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate Excel file", e);
+    private Company getCurrentCompany() {
+        var currentUser = userService.getCurrentUser();
+        if (currentUser == null) {
+            throw new IllegalStateException("Текущий пользователь не определен. Авторизация отсутствует.");
+        }
+        Company company = currentUser.getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена. Свяжите пользователя с компанией.");
         }
+        return company;
     }
 }
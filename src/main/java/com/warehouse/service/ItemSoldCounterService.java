@@ -0,0 +1,63 @@
+package com.warehouse.service;
+
+import com.warehouse.model.ItemSoldCounter;
+import com.warehouse.repository.ItemSoldCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Инкрементальный счётчик продаж по (company_id, item_name).
+ * Вызывается внутри транзакций продажи, поэтому счётчик и статус резервации/остаток меняются атомарно.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemSoldCounterService {
+
+    private final ItemSoldCounterRepository counterRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void increment(Long companyId, String itemName, int quantity) {
+        if (itemName == null || quantity == 0) return;
+        counterRepository.increment(companyId, itemName, quantity);
+    }
+
+    /** Пачка инкрементов одним JDBC-батчем, в порядке названий (одинаковый порядок блокировок). */
+    @Transactional
+    public void incrementAll(Long companyId, Map<String, Integer> quantities) {
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        new TreeMap<>(quantities).forEach((itemName, quantity) -> {
+            if (itemName != null && quantity != 0) {
+                batchArgs.add(new Object[]{companyId, itemName, (long) quantity});
+            }
+        });
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO item_sold_counter (company_id, item_name, sold) VALUES (?, ?, ?) " +
+                    "ON CONFLICT (company_id, item_name) DO UPDATE SET sold = item_sold_counter.sold + EXCLUDED.sold", batchArgs);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public int getSold(Long companyId, String itemName) {
+        return counterRepository.findSold(companyId, itemName).map(Long::intValue).orElse(0);
+    }
+
+    /** Резервации ссылаются на товар по имени, поэтому при переименовании переносим счётчик. */
+    @Transactional
+    public void rename(Long companyId, String oldName, String newName) {
+        if (oldName == null || newName == null || Objects.equals(oldName, newName)) return;
+        counterRepository.findById(new ItemSoldCounter.Key(companyId, oldName)).ifPresent(counter -> {
+            counterRepository.delete(counter);
+            counterRepository.flush();
+            counterRepository.increment(companyId, newName, counter.getSold());
+        });
+    }
+}
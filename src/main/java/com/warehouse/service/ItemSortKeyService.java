@@ -0,0 +1,55 @@
+package com.warehouse.service;
+
+import com.warehouse.utils.ItemSortKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Массовый пересчёт name_sort_key: при смене языка сортировки компании и для заполнения старых строк.
+ * Работает через JDBC-батчи, чтобы не поднимать сущности Item (с картинками и QR) в память.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemSortKeyService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public int rebuildForCompany(Long companyId, String lang) {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, name FROM item WHERE company_id = ?",
+                (rs, rowNum) -> new Object[]{ItemSortKeys.of(rs.getString("name"), lang), rs.getString("id")},
+                companyId);
+        jdbcTemplate.batchUpdate("UPDATE item SET name_sort_key = ? WHERE id = ?", rows);
+        return rows.size();
+    }
+
+    /** Заполняет ключи у товаров, созданных до появления колонки. Повторный вызов безопасен. */
+    public int backfillMissing() {
+        int total = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT i.id, i.name, c.sort_locale FROM item i JOIN companies c ON c.id = i.company_id " +
+                            "WHERE i.name_sort_key IS NULL LIMIT " + BATCH_SIZE,
+                    (rs, rowNum) -> new Object[]{
+                            ItemSortKeys.of(rs.getString("name"), rs.getString("sort_locale")),
+                            rs.getString("id")
+                    });
+            if (rows.isEmpty()) break;
+            jdbcTemplate.batchUpdate("UPDATE item SET name_sort_key = ? WHERE id = ?", rows);
+            total += rows.size();
+        }
+        if (total > 0) {
+            log.info("name_sort_key заполнен для {} товаров", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,245 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.Reservation;
+import com.warehouse.model.dto.LabelSheetRequestDTO;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.utils.QrFormat;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Лист этикеток для печати: много QR-кодов одним запросом вместо скачивания по одному.
+ * Документ — HTML с A4-страницами и разрывами страниц — пишется в ответ потоком, пачками по RENDER_CHUNK:
+ * пока пишется одна пачка, следующая рендерится параллельно в labelRenderPool. В памяти — не больше двух пачек SVG.
+ * Коды рендерятся мимо общего кэша QrCodeService: разовая печать не должна вытеснять кэш скачиваний.
+ */
+@Service
+public class LabelSheetService {
+
+    public static final int MAX_LABELS = 2000;
+    private static final int RENDER_CHUNK = 64;
+
+    private static final Set<String> CAPTION_FIELDS = Set.of("name", "orderNumber", "id", "quantity", "week");
+    private static final List<String> DEFAULT_CAPTION_FIELDS = List.of("name", "orderNumber");
+
+    private final ItemRepository itemRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserService userService;
+    private final QrCodeService qrCodeService;
+    private final ForkJoinPool labelRenderPool;
+
+    public LabelSheetService(ItemRepository itemRepository,
+                             ReservationRepository reservationRepository,
+                             UserService userService,
+                             QrCodeService qrCodeService,
+                             @Qualifier("labelRenderPool") ForkJoinPool labelRenderPool) {
+        this.itemRepository = itemRepository;
+        this.reservationRepository = reservationRepository;
+        this.userService = userService;
+        this.qrCodeService = qrCodeService;
+        this.labelRenderPool = labelRenderPool;
+    }
+
+    /**
+     * Всё, что требует БД и контекста безопасности, делается здесь, в потоке запроса;
+     * возвращаемое тело только пишет уже готовые строки.
+     */
+    public StreamingResponseBody buildSheet(LabelSheetRequestDTO request) {
+        Layout layout = Layout.from(request);
+        List<String> captionFields = captionFields(request.getCaptionFields());
+        Company company = userService.getCurrentUser().getCompany();
+
+        List<Label> labels = new ArrayList<>();
+        labels.addAll(itemLabels(request.getItemIds(), company));
+        labels.addAll(reservationLabels(request.getReservationIds(), company));
+        if (labels.isEmpty()) {
+            throw new IllegalArgumentException("Не выбрано ни одной этикетки.");
+        }
+        if (labels.size() > MAX_LABELS) {
+            throw new IllegalArgumentException("Слишком много этикеток: " + labels.size() + " (максимум " + MAX_LABELS + ").");
+        }
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            writeHeader(writer, layout);
+            ForkJoinTask<List<String>> next = renderChunk(labels, 0);
+            for (int from = 0; from < labels.size(); from += RENDER_CHUNK) {
+                List<String> svgs = next.join();
+                int nextFrom = from + RENDER_CHUNK;
+                next = nextFrom < labels.size() ? renderChunk(labels, nextFrom) : null;
+                for (int i = 0; i < svgs.size(); i++) {
+                    writeLabel(writer, layout, captionFields, from + i, labels.get(from + i), svgs.get(i));
+                }
+                writer.flush();
+            }
+            writer.write("</div></body></html>");
+            writer.flush();
+        };
+    }
+
+    // parallelStream, запущенный из задачи пула, выполняется в этом же пуле
+    private ForkJoinTask<List<String>> renderChunk(List<Label> labels, int from) {
+        List<Label> chunk = labels.subList(from, Math.min(from + RENDER_CHUNK, labels.size()));
+        return labelRenderPool.submit(() -> chunk.parallelStream()
+                .map(label -> new String(qrCodeService.renderUncached(label.payload(), QrFormat.SVG,
+                        QrCodeService.DEFAULT_SIZE, QrCodeService.DEFAULT_MARGIN), StandardCharsets.UTF_8))
+                .toList());
+    }
+
+    private List<Label> itemLabels(List<String> ids, Company company) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Item> found = itemRepository.findAllById(new LinkedHashSet<>(ids)).stream()
+                .filter(item -> item.getCompany().getId().equals(company.getId()))
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Label> labels = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Item item = found.get(id);
+            if (item == null) {
+                throw new IllegalArgumentException("Товар не найден: " + id);
+            }
+            labels.add(new Label(item.getId(), Map.of(
+                    "name", nullToEmpty(item.getName()),
+                    "id", item.getId(),
+                    "quantity", String.valueOf(item.getQuantity()))));
+        }
+        return labels;
+    }
+
+    private List<Label> reservationLabels(List<Long> ids, Company company) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Reservation> found = reservationRepository.findAllById(new LinkedHashSet<>(ids)).stream()
+                .filter(reservation -> reservation.getCompany().getId().equals(company.getId()))
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        List<Label> labels = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Reservation reservation = found.get(id);
+            if (reservation == null) {
+                throw new IllegalArgumentException("Резервация не найдена: " + id);
+            }
+            if (reservation.getOrderNumber() == null || reservation.getOrderNumber().isBlank()) {
+                throw new IllegalArgumentException("У резервации " + id + " нет номера заказа.");
+            }
+            labels.add(new Label(reservation.getOrderNumber(), Map.of(
+                    "name", nullToEmpty(reservation.getItemName()),
+                    "orderNumber", reservation.getOrderNumber(),
+                    "id", String.valueOf(reservation.getId()),
+                    "quantity", String.valueOf(reservation.getReservedQuantity()),
+                    "week", nullToEmpty(reservation.getReservationWeek()))));
+        }
+        return labels;
+    }
+
+    private static List<String> captionFields(List<String> requested) {
+        if (requested == null) {
+            return DEFAULT_CAPTION_FIELDS;
+        }
+        for (String field : requested) {
+            if (!CAPTION_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Неизвестное поле подписи: " + field + ". Допустимо: " + CAPTION_FIELDS);
+            }
+        }
+        return requested;
+    }
+
+    private static void writeHeader(Writer w, Layout layout) throws IOException {
+        double qrMm = layout.labelHeightMm() - 4;
+        w.write("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Labels</title><style>");
+        w.write("@page{size:A4;margin:10mm}");
+        w.write("body{margin:0;font-family:Arial,Helvetica,sans-serif}");
+        w.write(String.format(Locale.ROOT,
+                ".sheet{display:grid;grid-template-columns:repeat(%d,%.1fmm);grid-auto-rows:%.1fmm;break-after:page;page-break-after:always}",
+                layout.columns(), layout.labelWidthMm(), layout.labelHeightMm()));
+        w.write(".sheet:last-child{break-after:auto;page-break-after:auto}");
+        w.write(".label{box-sizing:border-box;display:flex;align-items:center;gap:2mm;padding:2mm;overflow:hidden}");
+        w.write(String.format(Locale.ROOT, ".label svg{flex:none;width:%.1fmm;height:%.1fmm}", qrMm, qrMm));
+        w.write(".caption{font-size:9pt;line-height:1.2;overflow:hidden;overflow-wrap:anywhere}");
+        w.write("</style></head><body>");
+    }
+
+    private static void writeLabel(Writer w, Layout layout, List<String> captionFields,
+                                   int index, Label label, String svg) throws IOException {
+        int perPage = layout.columns() * layout.rows();
+        if (index % perPage == 0) {
+            if (index > 0) {
+                w.write("</div>");
+            }
+            w.write("<div class=\"sheet\">");
+        }
+        w.write("<div class=\"label\">");
+        w.write(svg);
+        w.write("<div class=\"caption\">");
+        Map<String, String> captions = label.captions();
+        for (String field : captionFields) {
+            String value = captions.get(field);
+            if (value != null && !value.isEmpty()) {
+                w.write("<div>");
+                w.write(escapeHtml(value));
+                w.write("</div>");
+            }
+        }
+        w.write("</div></div>");
+    }
+
+    private static String escapeHtml(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private record Label(String payload, Map<String, String> captions) {}
+
+    private record Layout(int columns, int rows, double labelWidthMm, double labelHeightMm) {
+
+        static Layout from(LabelSheetRequestDTO request) {
+            int columns = request.getColumns() != null ? request.getColumns() : 3;
+            int rows = request.getRows() != null ? request.getRows() : 8;
+            double width = request.getLabelWidthMm() != null ? request.getLabelWidthMm() : 70;
+            double height = request.getLabelHeightMm() != null ? request.getLabelHeightMm() : 37;
+            if (columns < 1 || columns > 10 || rows < 1 || rows > 30) {
+                throw new IllegalArgumentException("Сетка должна быть от 1x1 до 10x30 этикеток.");
+            }
+            if (width < 15 || width > 300 || height < 15 || height > 300) {
+                throw new IllegalArgumentException("Размер этикетки должен быть от 15 до 300 мм.");
+            }
+            return new Layout(columns, rows, width, height);
+        }
+    }
+}
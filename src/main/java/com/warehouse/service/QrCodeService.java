@@ -0,0 +1,125 @@
+package com.warehouse.service;
+
+import com.warehouse.model.dto.ItemDTO;
+import com.warehouse.model.dto.ReservationDTO;
+import com.warehouse.utils.LruByteCache;
+import com.warehouse.utils.QRCodeGenerator;
+import com.warehouse.utils.QrFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * QR-коды больше не хранятся в БД: картинка — чистая функция от содержимого
+ * (id товара или номер заказа резервации), поэтому строится по запросу.
+ * Готовые PNG держим в ограниченном по размеру LRU-кэше — при перепечатке этикеток
+ * одни и те же коды запрашиваются многократно.
+ */
+@Service
+public class QrCodeService {
+
+    // Картинка для данного содержимого не меняется — клиенты могут долго держать её в кэше
+    public static final CacheControl DOWNLOAD_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(30)).cachePrivate();
+
+    // Меняется вместе с алгоритмом рендера — тогда меняются и ETag, и ключи кэша
+    static final String RENDER_VERSION = "v2";
+    public static final int DEFAULT_SIZE = 200;
+    public static final int DEFAULT_MARGIN = 4;
+    private static final int MIN_SIZE = 32;
+    private static final int MAX_SIZE = 2048;
+    private static final int MAX_MARGIN = 16;
+
+    private final LruByteCache<QrKey> cache;
+
+    public QrCodeService(@Value("${app.qrcode.cache-max-bytes:33554432}") long cacheMaxBytes) {
+        this.cache = new LruByteCache<>(cacheMaxBytes);
+    }
+
+    public byte[] renderPng(String payload) {
+        return render(payload, QrFormat.PNG, DEFAULT_SIZE, DEFAULT_MARGIN);
+    }
+
+    public byte[] render(String payload, QrFormat format, int size, int margin) {
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("Пустое содержимое QR-кода.");
+        }
+        checkRenderOptions(size, margin);
+        return cache.get(new QrKey(payload, size, format, margin),
+                () -> QRCodeGenerator.generateQRCode(payload, format, size, margin));
+    }
+
+    /**
+     * Рендер мимо общего кэша — для разовой массовой печати (лист этикеток): тысячи кодов,
+     * которые больше не запросят, иначе вытеснили бы из кэша скачивания всех компаний.
+     */
+    public byte[] renderUncached(String payload, QrFormat format, int size, int margin) {
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("Пустое содержимое QR-кода.");
+        }
+        checkRenderOptions(size, margin);
+        return QRCodeGenerator.generateQRCode(payload, format, size, margin);
+    }
+
+    public String renderBase64(String payload) {
+        return Base64.getEncoder().encodeToString(renderPng(payload));
+    }
+
+    /**
+     * Сильный ETag считается из параметров рендера, без самого рендера:
+     * на If-None-Match можно ответить 304, не трогая ни кэш, ни кодировщик.
+     */
+    public String etag(String payload) {
+        return etag(payload, QrFormat.PNG, DEFAULT_SIZE, DEFAULT_MARGIN);
+    }
+
+    public String etag(String payload, QrFormat format, int size, int margin) {
+        checkRenderOptions(size, margin);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String source = RENDER_VERSION + '|' + format.getExtension() + '|' + size + '|' + margin + '|' + payload;
+            byte[] hash = digest.digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+
+    public void checkRenderOptions(int size, int margin) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Размер QR-кода должен быть от " + MIN_SIZE + " до " + MAX_SIZE + " пикселей.");
+        }
+        if (margin < 0 || margin > MAX_MARGIN) {
+            throw new IllegalArgumentException("Отступ QR-кода должен быть от 0 до " + MAX_MARGIN + " модулей.");
+        }
+    }
+
+    public Map<String, Long> cacheStats() {
+        return cache.stats();
+    }
+
+    // Для списков, где фронт ожидает qrCode в Base64 (галерея QR-кодов)
+    public List<ItemDTO> withItemQrCodes(List<ItemDTO> items) {
+        items.forEach(item -> item.setQrCode(renderBase64(item.getId())));
+        return items;
+    }
+
+    public List<ReservationDTO> withReservationQrCodes(List<ReservationDTO> reservations) {
+        reservations.forEach(reservation -> {
+            if (reservation.getOrderNumber() != null && !reservation.getOrderNumber().isBlank()) {
+                reservation.setQrCode(renderBase64(reservation.getOrderNumber()));
+            }
+        });
+        return reservations;
+    }
+
+    private record QrKey(String payload, int size, QrFormat format, int margin) {}
+}
@@ -1,29 +1,53 @@
 package com.warehouse.service;
 
 import com.warehouse.model.Company;
-import com.warehouse.model.Item;
 import com.warehouse.model.Reservation;
-import com.warehouse.repository.ItemRepository;
+import com.warehouse.model.dto.OrderReservationRequestDTO;
+import com.warehouse.model.dto.ReservationPageDTO;
 import com.warehouse.repository.ReservationRepository;
-import com.warehouse.utils.QRCodeGenerator;
+import com.warehouse.service.DataVersionService.Change;
+import com.warehouse.service.mapper.interfaces.ReservationMapper;
+import com.warehouse.utils.KeysetCursor;
+import jakarta.persistence.Tuple;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
-    private final ItemRepository itemRepository;
+    private final ItemIdCache itemIdCache; // (компания, название) → id товара
     private final UserService userService; // Новый сервис пользователя для извлечения компании
+    private final ItemSoldCounterService soldCounterService;
+    private final StockService stockService;
+    private final QrCodeService qrCodeService;
+    private final ReservationMapper reservationMapper;
+    private final DataVersionService dataVersionService;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Поля, доступные в ?fields= (имена как в ReservationDTO)
+    public static final Set<String> LIST_FIELDS = Set.of("id", "orderNumber", "itemName", "reservedQuantity",
+            "reservationWeek", "status", "saleDate", "qrCode");
+    public static final Set<String> STATUSES = Set.of("RESERVED", "COMPLETED", "SOLD");
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_ORDER_LINES = 1000;
 
 
     @Value("${app.reservation-base-url}")
@@ -32,25 +56,22 @@ public class ReservationService {
     /**
      * Создание резервации
      */
-    @Transactional // Обеспечивает транзакционность для работы с LOB
-    public Reservation reserveItem(String orderNumber, String itemName, int quantity, String reservationWeek) throws IOException {
+    @Transactional
+    public Reservation reserveItem(String orderNumber, String itemName, int quantity, String reservationWeek) {
 
         // Получаем текущую компанию
         Company currentCompany = userService.getCurrentUser().getCompany();
         System.out.println("Резервация для компании: " + currentCompany.getName()); // Лог для проверки текущей компании
 
         // Поиск товара
-        Item item = itemRepository.findByNameAndCompany(itemName, currentCompany).orElseThrow(() ->
+        String itemId = itemIdCache.resolve(currentCompany, itemName).orElseThrow(() ->
                 new IllegalArgumentException("Item not found: " + itemName));
 
-        // Проверяем, хватает ли количества на складе
-        if (item.getQuantity() < quantity) {
+        // Списываем атомарно: UPDATE пройдёт только если на складе хватает количества
+        if (stockService.decrease(itemId, quantity).isEmpty()) {
             throw new IllegalStateException("Not enough quantity available for item: " + itemName);
         }
 
-        item.setQuantity(item.getQuantity() - quantity);
-        itemRepository.save(item);
-
         // Создаем резервацию
         Reservation reservation = new Reservation();
         reservation.setOrderNumber(orderNumber);
@@ -60,20 +81,95 @@ public class ReservationService {
         reservation.setStatus("RESERVED");
         reservation.setCompany(currentCompany);
 
-        // Генерация QR-кода
-        try {
-            byte[] qrCodeBytes = QRCodeGenerator.generateQRCodeAsBytes(orderNumber); // Генерируем массив байтов
-            reservation.setQrCode(qrCodeBytes); // Сохраняем как byte[]
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate QR code for reservation: " + orderNumber, e);
-        }
-
+        // QR-код по orderNumber строится при скачивании (QrCodeService), в транзакции его не рендерим
         // Сохраняем резервацию
-        return reservationRepository.save(reservation);
+        Reservation saved = reservationRepository.save(reservation);
+        dataVersionService.record(currentCompany.getId(), Change.item(itemId), Change.reservation(saved.getId()));
+        return saved;
     }
 
 
 
+    /**
+     * Резервация заказа из многих строк в одной транзакции: либо зарезервированы все строки, либо ни одна.
+     * Остатки списываются одним батчем в порядке id товаров (StockService.decreaseAll),
+     * резервации сохраняются одним saveAll — по резервации на строку.
+     */
+    @Transactional
+    public List<Reservation> reserveOrder(String orderNumber, String reservationWeek, List<OrderReservationRequestDTO.Line> lines) {
+        if (orderNumber == null || orderNumber.isBlank()) {
+            throw new IllegalArgumentException("Не указан номер заказа.");
+        }
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("В заказе нет строк.");
+        }
+        if (lines.size() > MAX_ORDER_LINES) {
+            throw new IllegalArgumentException("Слишком много строк: " + lines.size() + " (максимум " + MAX_ORDER_LINES + ").");
+        }
+        Company currentCompany = userService.getCurrentUser().getCompany();
+
+        // Номер заказа в схеме не уникален (по строке на товар): проверку и вставку сериализует
+        // блокировка на (компания, заказ) до конца транзакции, иначе два запроса создадут заказ дважды
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(?, 0))",
+                Integer.class, currentCompany.getId() + ":" + orderNumber);
+        if (reservationRepository.existsByOrderNumberAndCompany(orderNumber, currentCompany)) {
+            throw new IllegalStateException("Заказ " + orderNumber + " уже зарезервирован.");
+        }
+
+        // Имя → id товара; одинаковые товары в разных строках списываются одной суммой
+        Map<String, String> itemIds = new HashMap<>();
+        Map<String, Integer> quantities = new HashMap<>();
+        List<String> unknown = new ArrayList<>();
+        for (OrderReservationRequestDTO.Line line : lines) {
+            if (line == null || line.getItemName() == null || line.getItemName().isBlank()) {
+                throw new IllegalArgumentException("Не указано название товара в строке заказа.");
+            }
+            if (line.getQuantity() <= 0) {
+                throw new IllegalArgumentException("Количество должно быть больше нуля: " + line.getItemName());
+            }
+            String itemId = itemIds.computeIfAbsent(line.getItemName(),
+                    name -> itemIdCache.resolve(currentCompany, name).orElse(null));
+            if (itemId == null) {
+                unknown.add(line.getItemName());
+                continue;
+            }
+            quantities.merge(itemId, line.getQuantity(), Integer::sum);
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Item not found: " + String.join(", ", new LinkedHashSet<>(unknown)));
+        }
+
+        List<String> failed = stockService.decreaseAll(currentCompany.getId(), quantities);
+        if (!failed.isEmpty()) {
+            // Откат транзакции возвращает уже списанные строки батча
+            List<String> names = itemIds.entrySet().stream()
+                    .filter(entry -> failed.contains(entry.getValue()))
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toList();
+            throw new IllegalStateException("Not enough quantity available for items: " + String.join(", ", names));
+        }
+
+        List<Reservation> reservations = new ArrayList<>(lines.size());
+        for (OrderReservationRequestDTO.Line line : lines) {
+            Reservation reservation = new Reservation();
+            reservation.setOrderNumber(orderNumber);
+            reservation.setItemName(line.getItemName());
+            reservation.setReservedQuantity(line.getQuantity());
+            reservation.setReservationWeek(reservationWeek);
+            reservation.setStatus("RESERVED");
+            reservation.setCompany(currentCompany);
+            reservations.add(reservation);
+        }
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+
+        List<Change> changes = new ArrayList<>();
+        quantities.keySet().forEach(itemId -> changes.add(Change.item(itemId)));
+        saved.forEach(reservation -> changes.add(Change.reservation(reservation.getId())));
+        dataVersionService.record(currentCompany.getId(), changes);
+        return saved;
+    }
+
     public String getReservationQrUrl(String orderNumber) {
         return reservationBaseUrl + orderNumber + ".png"; // Формирование полного URL
     }
@@ -106,72 +202,73 @@ public class ReservationService {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found with ID: " + id));
 
-        // Проверяем текущий статус. Только "RESERVED" можно завершить
-        if (!"RESERVED".equals(reservation.getStatus())) {
-            throw new IllegalStateException("Only RESERVED reservations can be completed.");
-        }
-
         // Получаем текущую компанию
         Company currentCompany = userService.getCurrentUser().getCompany();
 
-
-        // Обработка товара
         // Находим товар по имени, связанному с резервацией
-        Item item = itemRepository.findByNameAndCompany(reservation.getItemName(), currentCompany)
+        String itemId = itemIdCache.resolve(currentCompany, reservation.getItemName())
                 .orElseThrow(() -> new RuntimeException("Item not found: " + reservation.getItemName()));
 
+        // Переводим статус условным UPDATE: из двух параллельных запросов пройдёт только один
+        if (reservationRepository.transitionStatus(id, "RESERVED", "COMPLETED", reservation.getSaleDate()) == 0) {
+            throw new IllegalStateException("Only RESERVED reservations can be completed.");
+        }
+
         // Списываем окончательно зарезервированную продукцию
-        if (item.getQuantity() >= reservation.getReservedQuantity()) {
-            item.setQuantity(item.getQuantity() - reservation.getReservedQuantity());
-        } else {
+        if (stockService.decrease(itemId, reservation.getReservedQuantity()).isEmpty()) {
             throw new IllegalStateException("Insufficient stock to complete the reservation.");
         }
-        itemRepository.save(item);
-
-        // Обновляем статус резервации на COMPLETED
-        reservation.setStatus("COMPLETED");
-        reservationRepository.save(reservation);
+        dataVersionService.record(currentCompany.getId(), Change.item(itemId), Change.reservation(id));
 
         return true; // Операция завершена успешно
     }
 
     /**
-     * Обработка сканирования QR-кода
+     * Обработка сканирования QR-кода: продаются все активные строки заказа.
      */
     @Transactional
     public void handleScannedQRCode(String orderNumber) {
-        // Ищем резервацию по номеру
-        Reservation reservation = reservationRepository.findByOrderNumber(orderNumber)
-                .orElseThrow(() -> new RuntimeException("Reservation not found: " + orderNumber));
-
-        // Если статус не "RESERVED", кидаем ошибку
-        if (!"RESERVED".equals(reservation.getStatus())) {
-            throw new IllegalStateException("Reservation is not available for selling");
-        }
-
         // Получаем текущую компанию
         Company currentCompany = userService.getCurrentUser().getCompany();
 
+        // Заказ может состоять из многих строк (POST /orders/{orderNumber}/reserve) — как в ScanService
+        List<Reservation> lines = reservationRepository.findByOrderNumberAndCompany(orderNumber, currentCompany);
+        if (lines.isEmpty()) {
+            throw new RuntimeException("Reservation not found: " + orderNumber);
+        }
 
-        // Обновляем статус резервации
-        reservation.setStatus("SOLD");
-        reservation.setSaleDate(LocalDateTime.now(ZoneId.systemDefault()));
-        reservationRepository.save(reservation);
-
-        // Обновляем статистику в Item
-        Item item = itemRepository.findByNameAndCompany(reservation.getItemName(), currentCompany)
-                .orElseThrow(() -> new RuntimeException("Item not found: " + reservation.getItemName()));
-        item.setSold(item.getSold() + reservation.getReservedQuantity()); // Увеличиваем количество проданных
-        itemRepository.save(item);
+        Map<String, String> itemIds = new HashMap<>();
+        for (Reservation line : lines) {
+            if ("RESERVED".equals(line.getStatus())) {
+                itemIds.computeIfAbsent(line.getItemName(), name -> itemIdCache.resolve(currentCompany, name)
+                        .orElseThrow(() -> new RuntimeException("Item not found: " + name)));
+            }
+        }
 
-        // Удаляем QR-код
-        String qrCodePath = "reservation/" + orderNumber + ".png";
-        try {
-            java.nio.file.Files.deleteIfExists(java.nio.file.Paths.get(qrCodePath));
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to delete QR Code for order " + orderNumber, e);
+        // Обновляем статусы условным UPDATE; строку, проданную повторным/параллельным сканом, пропускаем
+        LocalDateTime saleDate = LocalDateTime.now(ZoneId.systemDefault());
+        Map<String, Integer> soldByItemId = new HashMap<>();
+        Map<String, Integer> soldByName = new HashMap<>();
+        List<Change> changes = new ArrayList<>();
+        for (Reservation line : lines) {
+            if (!"RESERVED".equals(line.getStatus())
+                    || reservationRepository.transitionStatus(line.getId(), "RESERVED", "SOLD", saleDate) == 0) {
+                continue;
+            }
+            soldByItemId.merge(itemIds.get(line.getItemName()), line.getReservedQuantity(), Integer::sum);
+            soldByName.merge(line.getItemName(), line.getReservedQuantity(), Integer::sum);
+            changes.add(Change.reservation(line.getId()));
+        }
+        if (changes.isEmpty()) {
+            throw new IllegalStateException("Reservation is not available for selling");
         }
 
+        // Обновляем статистику в Item
+        stockService.addSoldAll(currentCompany.getId(), soldByItemId); // Увеличиваем количество проданных
+        soldCounterService.incrementAll(currentCompany.getId(), soldByName);
+        soldByItemId.keySet().forEach(itemId -> changes.add(Change.item(itemId)));
+        dataVersionService.record(currentCompany.getId(), changes);
+        // Файлов QR больше нет (строятся по запросу), удалять с диска нечего
     }
 
     /**
@@ -181,10 +278,40 @@ public class ReservationService {
     public List<Reservation> getAllReservations() {
         Company currentCompany = userService.getCurrentUser().getCompany(); // Получение текущей компании
 
-        return reservationRepository.findByCompany(currentCompany).stream()
-                .filter(reservation -> "RESERVED".equals(reservation.getStatus())) // Только активные резервы
-                .toList();
+        // Только активные резервы — фильтр в БД (idx_reservation_company_status_id), а не по всей истории
+        return reservationRepository.findByCompanyAndStatus(currentCompany, "RESERVED");
+    }
 
+    /**
+     * Список резерваций со статусом status с выбранными полями (?fields=) — tuple-выборка без сущностей.
+     * qrCode строится из номера заказа, поэтому при его запросе orderNumber читается всегда.
+     */
+    @Transactional
+    public List<Map<String, Object>> getReservationFields(String status, String reservationWeek, Set<String> fields) {
+        Company company = userService.getCurrentUser().getCompany();
+        Set<String> columns = new LinkedHashSet<>(fields);
+        columns.remove("qrCode");
+        if (fields.contains("qrCode")) {
+            columns.add("orderNumber");
+        }
+        List<Tuple> tuples = reservationRepository.findColumns(company, status, reservationWeek, columns);
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : fields) {
+                if ("qrCode".equals(field)) {
+                    String orderNumber = tuple.get("orderNumber", String.class);
+                    if (orderNumber != null && !orderNumber.isBlank()) {
+                        row.put(field, qrCodeService.renderBase64(orderNumber));
+                    }
+                } else {
+                    row.put(field, tuple.get(field));
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
     }
 
     /**
@@ -226,15 +353,15 @@ public class ReservationService {
         Company currentCompany = userService.getCurrentUser().getCompany();
 
         // Получаем связанную запись товара
-        Item item = itemRepository.findByNameAndCompany(reservation.getItemName(),currentCompany)
+        String itemId = itemIdCache.resolve(currentCompany, reservation.getItemName())
                 .orElseThrow(() -> new RuntimeException("Item not found: " + reservation.getItemName()));
 
         // Возвращаем зарезервированное количество обратно в склад
-        item.setQuantity(item.getQuantity() + reservation.getReservedQuantity());
-        itemRepository.save(item);
+        stockService.increase(itemId, reservation.getReservedQuantity());
 
         // Удаляем резервацию
         reservationRepository.delete(reservation);
+        dataVersionService.record(currentCompany.getId(), Change.item(itemId), Change.reservationDeleted(reservationId));
 
         // Возвращаем удаленную резервацию как подтверждение
         return reservation;
@@ -245,7 +372,12 @@ public class ReservationService {
      */
     @Transactional
     public List<Reservation> saveAll(List<Reservation> reservations) {
-        return reservationRepository.saveAll(reservations);
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        Company company = userService.getCurrentUser().getCompany();
+        if (company != null) {
+            dataVersionService.record(company.getId(), saved.stream().map(r -> Change.reservation(r.getId())).toList());
+        }
+        return saved;
     }
 
     /**
@@ -255,9 +387,27 @@ public class ReservationService {
     public List<Reservation> getSoldReservations() {
         Company currentCompany = userService.getCurrentUser().getCompany(); // Получение текущей компании
 
-        return reservationRepository.findByCompany(currentCompany).stream()
-                .filter(reservation -> "SOLD".equals(reservation.getStatus()))
-                .toList();
+        return reservationRepository.findByCompanyAndStatus(currentCompany, "SOLD");
+    }
+
+    /**
+     * Страница резерваций со статусом status (новые сверху) для ?after=/?limit=,
+     * для проданных — с фильтром по дате продажи [saleFrom, saleTo] (обе даты включительно).
+     */
+    @Transactional
+    public ReservationPageDTO getReservationsPage(String status, String after, Integer limit,
+                                                  LocalDate saleFrom, LocalDate saleTo) {
+        if (saleFrom != null && saleTo != null && saleTo.isBefore(saleFrom)) {
+            throw new IllegalArgumentException("Дата saleTo раньше saleFrom.");
+        }
+        Long beforeId = decodeBeforeId(after);
+        int pageSize = pageSize(limit);
+        Company company = userService.getCurrentUser().getCompany();
+        List<Reservation> rows = reservationRepository.findPage(company, status,
+                saleFrom == null ? null : saleFrom.atStartOfDay(),
+                saleTo == null ? null : saleTo.plusDays(1).atStartOfDay(),
+                beforeId, pageSize + 1);
+        return toPage(rows, pageSize);
     }
 
     @Transactional
@@ -273,5 +423,60 @@ public class ReservationService {
         return reservationRepository.findByItemNameContainingIgnoreCaseAndCompany(searchQuery, company);
     }
 
+    /**
+     * Поиск по подстроке в названии товара и номере заказа, опционально по статусу.
+     * Страницы по 50 (максимум 200), новые сверху; следующая страница — по nextCursor в ?after=.
+     */
+    @Transactional
+    public ReservationPageDTO searchReservations(String query, String status, String after, Integer limit) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Пустой поисковый запрос.");
+        }
+        String statusFilter = null;
+        if (status != null && !status.isBlank()) {
+            statusFilter = status.trim().toUpperCase();
+            if (!STATUSES.contains(statusFilter)) {
+                throw new IllegalArgumentException("Неизвестный статус: " + status + ". Используйте " + STATUSES + ".");
+            }
+        }
+        Long beforeId = decodeBeforeId(after);
+        int pageSize = pageSize(limit);
+
+        Company company = userService.getCurrentUser().getCompany();
+        List<Reservation> rows = reservationRepository.search(company, trimmed, statusFilter, beforeId, pageSize + 1);
+        return toPage(rows, pageSize);
+    }
+
+    // Курсор страниц резерваций — только id последней строки (порядок id DESC)
+    private static Long decodeBeforeId(String after) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor.getId());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный курсор пагинации.", e);
+        }
+    }
+
+    private static int pageSize(Integer limit) {
+        return (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // rows — выборка pageSize + 1: лишняя строка означает, что есть следующая страница
+    private ReservationPageDTO toPage(List<Reservation> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<Reservation> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        ReservationPageDTO page = new ReservationPageDTO();
+        page.setItems(reservationMapper.toDTOList(pageRows));
+        if (hasMore) {
+            page.setNextCursor(new KeysetCursor(null, String.valueOf(pageRows.get(pageRows.size() - 1).getId())).encode());
+        }
+        return page;
+    }
+
 
 }
\ No newline at end of file
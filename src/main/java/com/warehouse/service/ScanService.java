@@ -0,0 +1,274 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.dto.ScanEventDTO;
+import com.warehouse.model.dto.ScanResultDTO;
+import com.warehouse.service.DataVersionService.Change;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Пакетная обработка сканов со сканеров (POST /scans/batch): офлайн-очередь устройства отправляется
+ * одним запросом и обрабатывается в одной транзакции набором батчей вместо запроса на каждый скан.
+ *
+ * Порядок внутри транзакции:
+ * 1) scan_id «занимаются» INSERT ... ON CONFLICT DO NOTHING — повтор (в том числе параллельный)
+ *    не обрабатывается второй раз, а получает сохранённый результат;
+ * 2) резервации всех заказов пачки читаются одним запросом, сканы применяются в порядке времени скана;
+ * 3) RESERVED → SOLD, sold у товаров и счётчики продаж — батчами в порядке ключей (как StockService),
+ *    saleDate — время скана на устройстве.
+ * Скан продаёт все RESERVED-строки заказа (заказ из нескольких товаров, /orders/{orderNumber}/reserve).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScanService {
+
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_SCAN_ID_LENGTH = 64;
+    // Часы сканера могут спешить; время скана «из будущего» заменяем временем обработки
+    private static final long MAX_CLOCK_SKEW_MINUTES = 5;
+
+    private final UserService userService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ItemIdCache itemIdCache;
+    private final StockService stockService;
+    private final ItemSoldCounterService soldCounterService;
+    private final DataVersionService dataVersionService;
+
+    @Value("${app.scans.retention-days:30}")
+    private int retentionDays;
+
+    private record ReservationRow(long id, String orderNumber, String itemName, int quantity, String status) {}
+
+    @Transactional
+    public List<ScanResultDTO> processBatch(List<ScanEventDTO> events) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("Пустая пачка сканов.");
+        }
+        if (events.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Слишком много сканов: " + events.size() + " (максимум " + MAX_BATCH_SIZE + ").");
+        }
+        Company company = userService.getCurrentUser().getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена.");
+        }
+        Long companyId = company.getId();
+        LocalDateTime now = LocalDateTime.now(ZoneId.systemDefault());
+
+        ScanResultDTO[] results = new ScanResultDTO[events.size()];
+        Map<String, Integer> firstIndex = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            ScanEventDTO event = events.get(i);
+            String scanId = event == null ? null : event.getScanId();
+            String orderNumber = event == null ? null : event.getOrderNumber();
+            if (scanId == null || scanId.isBlank() || scanId.length() > MAX_SCAN_ID_LENGTH
+                    || orderNumber == null || orderNumber.isBlank()) {
+                results[i] = new ScanResultDTO(scanId, orderNumber, "INVALID", false);
+            } else {
+                firstIndex.putIfAbsent(scanId, i);
+            }
+        }
+
+        // 1) Занимаем scan_id; не занятые — уже обработаны (или обрабатываются другой пачкой, INSERT ждёт её commit)
+        List<String> scanIds = firstIndex.keySet().stream().sorted().toList();
+        Set<String> fresh = claim(companyId, scanIds, events, firstIndex, now);
+        List<String> replayed = scanIds.stream().filter(scanId -> !fresh.contains(scanId)).toList();
+        Map<String, String> storedOutcomes = readOutcomes(companyId, replayed);
+
+        // 2) Резервации всех заказов пачки одним запросом
+        Set<String> orderNumbers = new HashSet<>();
+        fresh.forEach(scanId -> orderNumbers.add(events.get(firstIndex.get(scanId)).getOrderNumber()));
+        Map<String, List<ReservationRow>> byOrder = readReservations(companyId, orderNumbers);
+
+        // Сканы применяются в порядке времени скана: из двух сканов одного заказа продаёт ранний
+        List<Integer> order = fresh.stream()
+                .map(firstIndex::get)
+                .sorted(Comparator.comparing((Integer i) -> scannedAt(events.get(i), now)).thenComparing(i -> i))
+                .toList();
+        Map<Integer, List<ReservationRow>> toSell = new HashMap<>();
+        Map<String, String> itemIds = new HashMap<>();
+        Set<Long> taken = new HashSet<>();
+        for (int i : order) {
+            ScanEventDTO event = events.get(i);
+            List<ReservationRow> lines = byOrder.getOrDefault(event.getOrderNumber(), List.of());
+            List<ReservationRow> reserved = lines.stream()
+                    .filter(row -> "RESERVED".equals(row.status()) && !taken.contains(row.id()))
+                    .toList();
+            String outcome;
+            if (lines.isEmpty()) {
+                outcome = "NOT_FOUND";
+            } else if (reserved.isEmpty()) {
+                outcome = "NOT_AVAILABLE";
+            } else if (reserved.stream().anyMatch(row -> itemIds.computeIfAbsent(row.itemName(),
+                    name -> itemIdCache.resolve(company, name).orElse(null)) == null)) {
+                outcome = "ITEM_NOT_FOUND";
+            } else {
+                outcome = "SOLD";
+                reserved.forEach(row -> taken.add(row.id()));
+                toSell.put(i, reserved);
+            }
+            results[i] = new ScanResultDTO(event.getScanId(), event.getOrderNumber(), outcome, false);
+        }
+
+        // 3) RESERVED → SOLD одним батчем в порядке id; строку, проданную параллельным одиночным сканом, пропускаем
+        List<Object[]> transitions = new ArrayList<>();
+        List<ReservationRow> transitionRows = new ArrayList<>();
+        toSell.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(row -> Map.entry(entry.getKey(), row)))
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().id()))
+                .forEach(entry -> {
+                    LocalDateTime saleDate = scannedAt(events.get(entry.getKey()), now);
+                    transitions.add(new Object[]{Timestamp.valueOf(saleDate), entry.getValue().id()});
+                    transitionRows.add(entry.getValue());
+                });
+        int[] updated = transitions.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(
+                "UPDATE reservation SET status = 'SOLD', sale_date = ? WHERE id = ? AND status = 'RESERVED'", transitions);
+
+        Map<String, Integer> soldByItemId = new HashMap<>();
+        Map<String, Integer> soldByName = new HashMap<>();
+        Set<Long> soldIds = new HashSet<>();
+        List<Change> changes = new ArrayList<>();
+        for (int k = 0; k < updated.length; k++) {
+            if (updated[k] == 0) continue;
+            ReservationRow row = transitionRows.get(k);
+            soldIds.add(row.id());
+            soldByItemId.merge(itemIds.get(row.itemName()), row.quantity(), Integer::sum);
+            soldByName.merge(row.itemName(), row.quantity(), Integer::sum);
+            changes.add(Change.reservation(row.id()));
+        }
+        toSell.forEach((i, rows) -> {
+            if (rows.stream().noneMatch(row -> soldIds.contains(row.id()))) {
+                results[i].setOutcome("NOT_AVAILABLE");
+            }
+        });
+        stockService.addSoldAll(companyId, soldByItemId);
+        soldCounterService.incrementAll(companyId, soldByName);
+        soldByItemId.keySet().forEach(itemId -> changes.add(Change.item(itemId)));
+        if (!changes.isEmpty()) {
+            dataVersionService.record(companyId, changes);
+        }
+
+        // Результаты занятых scan_id сохраняем для повторов
+        List<Object[]> outcomes = new ArrayList<>();
+        for (String scanId : scanIds) {
+            if (fresh.contains(scanId)) {
+                outcomes.add(new Object[]{results[firstIndex.get(scanId)].getOutcome(), companyId, scanId});
+            }
+        }
+        if (!outcomes.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE scan_event SET outcome = ? WHERE company_id = ? AND scan_id = ?", outcomes);
+        }
+
+        // Повторы: сохранённый результат; повтор scan_id внутри пачки — результат его первого вхождения
+        IntStream.range(0, events.size()).filter(i -> results[i] == null).forEach(i -> {
+            ScanEventDTO event = events.get(i);
+            String scanId = event.getScanId();
+            String outcome = fresh.contains(scanId)
+                    ? results[firstIndex.get(scanId)].getOutcome()
+                    : storedOutcomes.getOrDefault(scanId, "PENDING");
+            results[i] = new ScanResultDTO(scanId, event.getOrderNumber(), outcome, true);
+        });
+        return List.of(results);
+    }
+
+    /**
+     * Один multi-row INSERT ... RETURNING: занятые этой пачкой scan_id возвращает сам INSERT.
+     * Счётчики JDBC-батча для этого не годятся — с reWriteBatchedInserts=true драйвер
+     * переписывает батч INSERT в один запрос и отдаёт SUCCESS_NO_INFO вместо числа строк.
+     * MAX_BATCH_SIZE × 5 параметров укладывается в предел PostgreSQL (32767).
+     */
+    private Set<String> claim(Long companyId, List<String> scanIds, List<ScanEventDTO> events,
+                              Map<String, Integer> firstIndex, LocalDateTime now) {
+        Set<String> fresh = new HashSet<>();
+        if (scanIds.isEmpty()) {
+            return fresh;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO scan_event (company_id, scan_id, order_number, outcome, scanned_at, processed_at) VALUES ");
+        List<Object> args = new ArrayList<>(scanIds.size() * 5);
+        for (String scanId : scanIds) {
+            ScanEventDTO event = events.get(firstIndex.get(scanId));
+            sql.append(args.isEmpty() ? "" : ", ").append("(?, ?, ?, 'PENDING', ?, ?)");
+            args.add(companyId);
+            args.add(scanId);
+            args.add(event.getOrderNumber());
+            args.add(Timestamp.valueOf(scannedAt(event, now)));
+            args.add(Timestamp.valueOf(now));
+        }
+        sql.append(" ON CONFLICT (company_id, scan_id) DO NOTHING RETURNING scan_id");
+        fresh.addAll(jdbcTemplate.queryForList(sql.toString(), String.class, args.toArray()));
+        return fresh;
+    }
+
+    private Map<String, String> readOutcomes(Long companyId, List<String> scanIds) {
+        Map<String, String> outcomes = new HashMap<>();
+        if (scanIds.isEmpty()) {
+            return outcomes;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT scan_id, outcome FROM scan_event WHERE company_id = :companyId AND scan_id IN (:scanIds)",
+                new MapSqlParameterSource().addValue("companyId", companyId).addValue("scanIds", scanIds),
+                rs -> {
+                    outcomes.put(rs.getString("scan_id"), rs.getString("outcome"));
+                });
+        return outcomes;
+    }
+
+    private Map<String, List<ReservationRow>> readReservations(Long companyId, Set<String> orderNumbers) {
+        Map<String, List<ReservationRow>> byOrder = new HashMap<>();
+        if (orderNumbers.isEmpty()) {
+            return byOrder;
+        }
+        namedParameterJdbcTemplate.query(
+                "SELECT id, order_number, item_name, reserved_quantity, status FROM reservation " +
+                        "WHERE company_id = :companyId AND order_number IN (:orderNumbers) ORDER BY id",
+                new MapSqlParameterSource().addValue("companyId", companyId).addValue("orderNumbers", orderNumbers),
+                rs -> {
+                    ReservationRow row = new ReservationRow(rs.getLong("id"), rs.getString("order_number"),
+                            rs.getString("item_name"), rs.getInt("reserved_quantity"), rs.getString("status"));
+                    byOrder.computeIfAbsent(row.orderNumber(), k -> new ArrayList<>()).add(row);
+                });
+        return byOrder;
+    }
+
+    private static LocalDateTime scannedAt(ScanEventDTO event, LocalDateTime now) {
+        if (event.getScannedAt() == null) {
+            return now;
+        }
+        LocalDateTime scannedAt = event.getScannedAt().atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        return scannedAt.isAfter(now.plusMinutes(MAX_CLOCK_SKEW_MINUTES)) ? now : scannedAt;
+    }
+
+    // Повторы старше app.scans.retention-days уже не придут — офлайн-очередь сканера столько не живёт
+    @Scheduled(cron = "${app.scans.prune-cron:0 45 3 * * *}")
+    @Transactional
+    public void pruneScanEvents() {
+        int deleted = jdbcTemplate.update("DELETE FROM scan_event WHERE processed_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted > 0) {
+            log.info("Журнал сканов: удалено {} записей старше {} дней", deleted, retentionDays);
+        }
+    }
+}
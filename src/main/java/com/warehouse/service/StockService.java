@@ -0,0 +1,196 @@
+package com.warehouse.service;
+
+import com.warehouse.model.dto.StockAdjustmentDTO;
+import com.warehouse.model.dto.StockAdjustmentResultDTO;
+import com.warehouse.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * Единая точка изменения остатков товара.
+ * Каждое изменение — один условный UPDATE; новое значение читается в той же транзакции,
+ * пока строка ещё заблокирована нашим UPDATE, поэтому возвращается именно наш результат.
+ *
+ * Важно: вызывающий код не должен менять и сохранять загруженную ранее сущность Item
+ * в той же транзакции — её quantity/sold устарели и перезапишут атомарное изменение.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+    public static final int MAX_ADJUSTMENT_LINES = 5000;
+
+    private static final String ADJUST_SQL =
+            "UPDATE item SET quantity = quantity + ? WHERE id = ? AND company_id = ? AND quantity + ? >= 0";
+
+    private final ItemRepository itemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /** Приход на склад. Пусто — товар не найден. */
+    @Transactional
+    public OptionalInt increase(String itemId, int amount) {
+        requireNonNegative(amount);
+        if (itemRepository.increaseQuantity(itemId, amount) == 0) {
+            return OptionalInt.empty();
+        }
+        return currentQuantity(itemId);
+    }
+
+    /** Списание (резерв). Пусто — товар не найден или остатка меньше amount. */
+    @Transactional
+    public OptionalInt decrease(String itemId, int amount) {
+        requireNonNegative(amount);
+        if (itemRepository.decreaseQuantityIfAvailable(itemId, amount) == 0) {
+            return OptionalInt.empty();
+        }
+        return currentQuantity(itemId);
+    }
+
+    /** Продажа со склада: quantity -= amount, sold += amount одним UPDATE. */
+    @Transactional
+    public OptionalInt sell(String itemId, int amount) {
+        requireNonNegative(amount);
+        if (itemRepository.sellIfAvailable(itemId, amount) == 0) {
+            return OptionalInt.empty();
+        }
+        return currentQuantity(itemId);
+    }
+
+    /** Учёт продажи уже зарезервированного (списанного) количества. */
+    @Transactional
+    public boolean addSold(String itemId, int amount) {
+        requireNonNegative(amount);
+        return itemRepository.increaseSold(itemId, amount) > 0;
+    }
+
+    /**
+     * Пакетная корректировка остатков (приёмка поставки) в одной транзакции.
+     * Строки выполняются одним JDBC-батчем в порядке itemId — все транзакции блокируют строки
+     * в одном и том же порядке, поэтому параллельные пакеты не взаимоблокируются.
+     * Строка, которая увела бы остаток в минус или ссылается на чужой/несуществующий товар,
+     * не применяется; остальные применяются. Итоговые остатки читаются одним запросом.
+     */
+    @Transactional
+    public List<StockAdjustmentResultDTO> applyAdjustments(Long companyId, List<StockAdjustmentDTO> lines) {
+        if (lines.size() > MAX_ADJUSTMENT_LINES) {
+            throw new IllegalArgumentException("Слишком много строк: " + lines.size() + " (максимум " + MAX_ADJUSTMENT_LINES + ").");
+        }
+
+        StockAdjustmentResultDTO[] results = new StockAdjustmentResultDTO[lines.size()];
+        List<Integer> order = IntStream.range(0, lines.size())
+                .filter(i -> {
+                    StockAdjustmentDTO line = lines.get(i);
+                    if (line == null || line.getItemId() == null || line.getItemId().isBlank()) {
+                        results[i] = new StockAdjustmentResultDTO(i, line == null ? null : line.getItemId(),
+                                line == null ? 0 : line.getDelta(), "INVALID", null);
+                        return false;
+                    }
+                    return true;
+                })
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> lines.get(i).getItemId()).thenComparing(i -> i))
+                .toList();
+        if (order.isEmpty()) {
+            return List.of(results);
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(order.size());
+        for (int i : order) {
+            StockAdjustmentDTO line = lines.get(i);
+            batchArgs.add(new Object[]{line.getDelta(), line.getItemId(), companyId, line.getDelta()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(ADJUST_SQL, batchArgs);
+
+        Map<String, Integer> finalQuantities = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT id, quantity FROM item WHERE company_id = :companyId AND id IN (:ids)",
+                new MapSqlParameterSource()
+                        .addValue("companyId", companyId)
+                        .addValue("ids", order.stream().map(i -> lines.get(i).getItemId()).distinct().toList()),
+                rs -> {
+                    finalQuantities.put(rs.getString("id"), rs.getInt("quantity"));
+                });
+
+        // Остаток после каждой строки: идём с конца, «откатывая» применённые дельты от итогового значения
+        Map<String, Integer> running = new HashMap<>(finalQuantities);
+        for (int k = order.size() - 1; k >= 0; k--) {
+            int i = order.get(k);
+            StockAdjustmentDTO line = lines.get(i);
+            String itemId = line.getItemId();
+            if (updated[k] > 0) {
+                int after = running.get(itemId);
+                results[i] = new StockAdjustmentResultDTO(i, itemId, line.getDelta(), "APPLIED", after);
+                running.put(itemId, after - line.getDelta());
+            } else {
+                String status = finalQuantities.containsKey(itemId) ? "INSUFFICIENT_STOCK" : "NOT_FOUND";
+                results[i] = new StockAdjustmentResultDTO(i, itemId, line.getDelta(), status, null);
+            }
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Списание под резерв нескольких товаров сразу (заказ из многих строк).
+     * UPDATE идут одним батчем в порядке id — параллельные заказы блокируют строки в одном порядке
+     * и не взаимоблокируются. Возвращает id товаров, которым не хватило остатка (или чужих/несуществующих);
+     * непустой результат — вызывающий код обязан откатить транзакцию, часть строк уже списана.
+     */
+    @Transactional
+    public List<String> decreaseAll(Long companyId, Map<String, Integer> quantities) {
+        List<String> itemIds = quantities.keySet().stream().sorted().toList();
+        List<Object[]> batchArgs = new ArrayList<>(itemIds.size());
+        for (String itemId : itemIds) {
+            int amount = quantities.get(itemId);
+            requireNonNegative(amount);
+            batchArgs.add(new Object[]{-amount, itemId, companyId, -amount});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(ADJUST_SQL, batchArgs);
+
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                failed.add(itemIds.get(i));
+            }
+        }
+        return failed;
+    }
+
+    /** Учёт продаж нескольких товаров одним батчем (пакетный скан), в порядке id — как decreaseAll. */
+    @Transactional
+    public void addSoldAll(Long companyId, Map<String, Integer> amounts) {
+        List<Object[]> batchArgs = new ArrayList<>(amounts.size());
+        amounts.keySet().stream().sorted().forEach(itemId -> {
+            int amount = amounts.get(itemId);
+            requireNonNegative(amount);
+            batchArgs.add(new Object[]{amount, itemId, companyId});
+        });
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE item SET sold = sold + ? WHERE id = ? AND company_id = ?", batchArgs);
+        }
+    }
+
+    private OptionalInt currentQuantity(String itemId) {
+        return itemRepository.findQuantityById(itemId)
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+    }
+
+    private static void requireNonNegative(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Количество не может быть отрицательным: " + amount);
+        }
+    }
+}
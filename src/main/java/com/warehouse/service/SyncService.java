@@ -0,0 +1,170 @@
+package com.warehouse.service;
+
+import com.warehouse.model.ChangeLogEntry;
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.Reservation;
+import com.warehouse.model.dto.SyncChangesDTO;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.service.mapper.interfaces.ItemMapper;
+import com.warehouse.service.mapper.interfaces.ReservationMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Дельта-синхронизация для сканеров: что изменилось в товарах и резервациях после версии since.
+ * Курсор — версия данных компании (DataVersionService). Клиент берёт курсор без since,
+ * затем один раз загружает полные списки, а дальше запрашивает только изменения.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 2000;
+
+    private final UserService userService;
+    private final DataVersionService dataVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemRepository itemRepository;
+    private final ReservationRepository reservationRepository;
+    private final ItemMapper itemMapper;
+    private final ReservationMapper reservationMapper;
+
+    @Value("${app.sync.retention-days:30}")
+    private int retentionDays;
+
+    /** Курсор старше журнала (записи удалены) или из чужой истории — нужна полная загрузка. */
+    public static class CursorExpiredException extends RuntimeException {
+        public CursorExpiredException(String message) {
+            super(message);
+        }
+    }
+
+    private record LogRow(long version, String entityType, String entityId, boolean deleted) {}
+
+    @Transactional(readOnly = true)
+    public SyncChangesDTO getChanges(String since, Integer limit) {
+        Company company = userService.getCurrentUser().getCompany();
+        if (company == null) {
+            throw new IllegalStateException("Компания текущего пользователя не определена.");
+        }
+        Long companyId = company.getId();
+        long current = dataVersionService.current(companyId);
+
+        SyncChangesDTO result = new SyncChangesDTO();
+        if (since == null || since.isBlank()) {
+            result.setCursor(String.valueOf(current));
+            return result;
+        }
+        long from;
+        try {
+            from = Long.parseLong(since.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный курсор синхронизации: " + since);
+        }
+        Long floor = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(log_floor), 0) FROM company_data_version WHERE company_id = ?", Long.class, companyId);
+        if (from < 0 || from > current || (floor != null && from < floor)) {
+            throw new CursorExpiredException("Курсор синхронизации устарел — загрузите списки заново.");
+        }
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        List<LogRow> rows = readLog(companyId, "version > ? ORDER BY version, id LIMIT " + (pageSize + 1), from);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            // Версию не режем пополам: курсор — номер версии, поэтому она уходит клиенту целиком
+            long lastVersion = rows.get(pageSize).version();
+            if (rows.get(0).version() == lastVersion) {
+                rows = readLog(companyId, "version = ? ORDER BY id", lastVersion);
+            } else {
+                rows = rows.stream().filter(row -> row.version() < lastVersion).toList();
+            }
+        }
+        if (rows.isEmpty()) {
+            result.setCursor(String.valueOf(current));
+            return result;
+        }
+
+        // По каждой сущности важна только последняя запись
+        Map<String, LogRow> latest = new LinkedHashMap<>();
+        for (LogRow row : rows) {
+            latest.put(row.entityType() + ':' + row.entityId(), row);
+        }
+        List<String> itemIds = new ArrayList<>();
+        List<Long> reservationIds = new ArrayList<>();
+        for (LogRow row : latest.values()) {
+            boolean item = ChangeLogEntry.ITEM.equals(row.entityType());
+            if (row.deleted()) {
+                if (item) result.getDeletedItemIds().add(row.entityId());
+                else result.getDeletedReservationIds().add(Long.valueOf(row.entityId()));
+            } else {
+                if (item) itemIds.add(row.entityId());
+                else reservationIds.add(Long.valueOf(row.entityId()));
+            }
+        }
+
+        List<Item> items = itemRepository.findAllById(itemIds);
+        result.setItems(itemMapper.toDTOList(items));
+        Set<String> foundItems = items.stream().map(Item::getId).collect(Collectors.toSet());
+        // Удалена уже после этой страницы — для клиента это тоже удаление
+        itemIds.stream().filter(id -> !foundItems.contains(id)).forEach(result.getDeletedItemIds()::add);
+
+        List<Reservation> reservations = reservationRepository.findAllById(reservationIds);
+        result.setReservations(reservationMapper.toDTOList(reservations));
+        Set<Long> foundReservations = reservations.stream().map(Reservation::getId).collect(Collectors.toSet());
+        reservationIds.stream().filter(id -> !foundReservations.contains(id)).forEach(result.getDeletedReservationIds()::add);
+
+        // Версии одной компании коммитятся по порядку (DataVersionService), поэтому всё до lastVersion уже прочитано
+        long lastVersion = rows.get(rows.size() - 1).version();
+        result.setCursor(String.valueOf(hasMore ? lastVersion : Math.max(current, lastVersion)));
+        result.setHasMore(hasMore);
+        return result;
+    }
+
+    private List<LogRow> readLog(Long companyId, String condition, long version) {
+        return jdbcTemplate.query(
+                "SELECT version, entity_type, entity_id, deleted FROM change_log WHERE company_id = ? AND " + condition,
+                (rs, rowNum) -> new LogRow(rs.getLong("version"), rs.getString("entity_type"),
+                        rs.getString("entity_id"), rs.getBoolean("deleted")),
+                companyId, version);
+    }
+
+    /**
+     * Чистка журнала старше app.sync.retention-days. Граница удалённого сохраняется в log_floor,
+     * чтобы клиент с более старым курсором получил 410, а не молча пропустил изменения.
+     */
+    @Scheduled(cron = "${app.sync.prune-cron:0 30 3 * * *}")
+    @Transactional
+    public void pruneChangeLog() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        jdbcTemplate.update(
+                "UPDATE company_data_version v SET log_floor = p.max_version " +
+                        "FROM (SELECT company_id, MAX(version) AS max_version FROM change_log " +
+                        "WHERE changed_at < ? GROUP BY company_id) p " +
+                        "WHERE v.company_id = p.company_id AND p.max_version > v.log_floor",
+                threshold);
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM change_log c USING company_data_version v " +
+                        "WHERE c.company_id = v.company_id AND c.version <= v.log_floor");
+        if (deleted > 0) {
+            log.info("Журнал изменений: удалено {} записей старше {} дней", deleted, retentionDays);
+        }
+    }
+}
@@ -2,9 +2,9 @@ package com.warehouse.service.mapper.interfaces;
 
 import com.warehouse.model.Item;
 import com.warehouse.model.dto.ItemDTO;
+import com.warehouse.storage.BlobKeys;
 import org.mapstruct.*;
 
-import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 
@@ -12,19 +12,38 @@ import java.util.Objects;
 public interface ItemMapper {
 
     /* ======== Entity -> DTO ======== */
-    @Mapping(source = "qrCode", target = "qrCode", qualifiedByName = "mapQrCodeToString")
+    @Mapping(target = "qrCode", ignore = true) // QR строится по запросу (QrCodeService)
+    @Mapping(target = "images", qualifiedByName = "displayImageUrls")
     ItemDTO toDTO(Item item);
 
+    // Для списков — только превью: карточки в списке не тянут полноразмерные фото
+    @Named("listItem")
+    @Mapping(target = "qrCode", ignore = true)
+    @Mapping(target = "images", qualifiedByName = "thumbnailImageUrls")
+    ItemDTO toListDTO(Item item);
+
+    // В сущности — ключи блобов, клиенту — URL для <img src>
+    @Named("displayImageUrls")
+    default List<String> displayImageUrls(List<String> keys) {
+        return BlobKeys.toUrls(keys, BlobKeys.DISPLAY);
+    }
+
+    @Named("thumbnailImageUrls")
+    default List<String> thumbnailImageUrls(List<String> keys) {
+        return BlobKeys.toUrls(keys, BlobKeys.THUMB);
+    }
+
     /* ======== DTO -> Entity (create) ======== */
-    @Mapping(source = "qrCode", target = "qrCode", qualifiedByName = "mapStringToQrCode")
+    @Mapping(target = "nameSortKey", ignore = true)
     Item toEntity(ItemDTO itemDTO);
 
     /* ======== Частичное обновление Entity из DTO (PUT /items/{id}) ========
        IGNORE = не перезаписывать поля null-значениями.
-       Пустой список images из DTO заменит текущие картинки (т.е. можно очистить).
+       images здесь не копируются: их переводит в ключи блобов ItemService.updateItem.
     */
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
-    @Mapping(source = "qrCode", target = "qrCode", qualifiedByName = "mapStringToQrCode")
+    @Mapping(target = "nameSortKey", ignore = true)
+    @Mapping(target = "images", ignore = true)
     void updateEntityFromDto(ItemDTO patch, @MappingTarget Item entity);
 
     /* ======== Списки ======== */
@@ -36,20 +55,7 @@ public interface ItemMapper {
         System.out.println("Преобразование списка товаров в список DTO. Количество элементов: " + items.size());
         return items.stream()
                 .filter(Objects::nonNull)
-                .map(this::toDTO)
+                .map(this::toListDTO)
                 .toList();
     }
-
-    /* ======== QR helpers ======== */
-    @Named("mapQrCodeToString")
-    default String mapQrCodeToString(byte[] qrCode) {
-        if (qrCode == null) return null;
-        return Base64.getEncoder().encodeToString(qrCode);
-    }
-
-    @Named("mapStringToQrCode")
-    default byte[] mapStringToQrCode(String qrCode) {
-        if (qrCode == null || qrCode.isBlank()) return null;
-        return Base64.getDecoder().decode(qrCode);
-    }
 }
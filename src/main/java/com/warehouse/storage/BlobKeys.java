@@ -0,0 +1,133 @@
+package com.warehouse.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Ключи блобов картинок и их URL. Ключ — sha256(содержимое) в hex + расширение по типу файла,
+ * например "3a7b…e1.jpg"; URL для фронта — /api/images/{ключ} (см. ImageController).
+ * Уменьшенные копии JPEG/PNG лежат под производными ключами "3a7b…e1-thumb.jpg" / "-display.jpg"
+ * (см. ImageVariantService) — их URL известен сразу, ещё до того, как копия построена.
+ */
+public final class BlobKeys {
+
+    public static final String URL_PREFIX = "/api/images/";
+
+    public static final String THUMB = "thumb";
+    public static final String DISPLAY = "display";
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}(-(thumb|display))?\\.(jpg|png|gif|webp)");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private BlobKeys() {}
+
+    public static String keyFor(byte[] data, String extension) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(hash) + "." + extension;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен", e);
+        }
+    }
+
+    public static boolean isKey(String value) {
+        return value != null && KEY.matcher(value).matches();
+    }
+
+    public static String contentType(String key) {
+        return CONTENT_TYPES.get(key.substring(key.lastIndexOf('.') + 1));
+    }
+
+    /** Расширение по сигнатуре файла или null, если это не поддерживаемая картинка. */
+    public static String sniffExtension(byte[] data) {
+        if (data.length >= 8 && (data[0] & 0xFF) == 0x89 && data[1] == 'P' && data[2] == 'N' && data[3] == 'G') {
+            return "png";
+        }
+        if (data.length >= 3 && (data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xD8 && (data[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (data.length >= 6 && data[0] == 'G' && data[1] == 'I' && data[2] == 'F' && data[3] == '8') {
+            return "gif";
+        }
+        if (data.length >= 12 && data[0] == 'R' && data[1] == 'I' && data[2] == 'F' && data[3] == 'F'
+                && data[8] == 'W' && data[9] == 'E' && data[10] == 'B' && data[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    /** Есть ли у картинки уменьшенные копии: ImageIO без плагинов читает только JPEG/PNG. */
+    public static boolean hasVariants(String key) {
+        return key.endsWith(".jpg") || key.endsWith(".png");
+    }
+
+    public static String variantKey(String key, String variant) {
+        if (!hasVariants(key) || isVariant(key)) {
+            return key;
+        }
+        int dot = key.lastIndexOf('.');
+        return key.substring(0, dot) + "-" + variant + key.substring(dot);
+    }
+
+    public static boolean isVariant(String key) {
+        return key.contains("-");
+    }
+
+    public static String originalKey(String key) {
+        int dash = key.indexOf('-');
+        return dash < 0 ? key : key.substring(0, dash) + key.substring(key.lastIndexOf('.'));
+    }
+
+    public static String toUrl(String key) {
+        return URL_PREFIX + key;
+    }
+
+    public static List<String> toUrls(List<String> keys) {
+        if (keys == null) {
+            return null;
+        }
+        List<String> urls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            // NULL-ключ — строка item_image без блоба (не перенесённая из data): показывать нечего
+            if (key != null) {
+                urls.add(toUrl(key));
+            }
+        }
+        return urls;
+    }
+
+    public static List<String> toUrls(List<String> keys, String variant) {
+        if (keys == null) {
+            return null;
+        }
+        List<String> urls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (key != null) {
+                urls.add(toUrl(variantKey(key, variant)));
+            }
+        }
+        return urls;
+    }
+
+    /** Ключ из URL вида /api/images/{ключ} (в том числе абсолютного) или null. */
+    public static String fromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        int index = url.indexOf(URL_PREFIX);
+        if (index < 0) {
+            return null;
+        }
+        String key = url.substring(index + URL_PREFIX.length());
+        return isKey(key) ? key : null;
+    }
+}
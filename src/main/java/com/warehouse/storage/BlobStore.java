@@ -0,0 +1,25 @@
+package com.warehouse.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Хранилище бинарных файлов (картинки товаров), адресуемое по содержимому:
+ * ключ = SHA-256 содержимого + расширение (см. BlobKeys). Одинаковый файл хранится один раз,
+ * а объект под ключом никогда не меняется — его можно кэшировать навсегда.
+ * Реализация выбирается свойством app.storage.type: local (по умолчанию) или s3.
+ */
+public interface BlobStore {
+
+    /** Сохраняет содержимое, если такого ключа ещё нет. */
+    void put(String key, byte[] data) throws IOException;
+
+    /** То же для содержимого во временном файле — без чтения в память (загрузки через multipart). */
+    void put(String key, Path file) throws IOException;
+
+    Optional<InputStream> open(String key) throws IOException;
+
+    boolean exists(String key) throws IOException;
+}
@@ -0,0 +1,83 @@
+package com.warehouse.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Блобы в локальной папке: {root}/{первые 2 символа ключа}/{ключ}.
+ * Запись через временный файл и атомарный rename — читатели не увидят недописанный файл.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalFileBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalFileBlobStore(@Value("${app.storage.local.root:./data/blobs}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, byte[] data) throws IOException {
+        Path target = path(key);
+        if (Files.exists(target)) {
+            return; // тот же ключ = то же содержимое
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+        try {
+            Files.write(temp, data);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // параллельная запись того же содержимого
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void put(String key, Path file) throws IOException {
+        Path target = path(key);
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+        try {
+            Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // параллельная запись того же содержимого
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) throws IOException {
+        Path path = path(key);
+        return Files.exists(path) ? Optional.of(Files.newInputStream(path)) : Optional.empty();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(path(key));
+    }
+
+    private Path path(String key) {
+        if (!BlobKeys.isKey(key)) {
+            throw new IllegalArgumentException("Некорректный ключ блоба: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
@@ -0,0 +1,110 @@
+package com.warehouse.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Блобы в S3-совместимом хранилище (AWS S3, DigitalOcean Spaces, MinIO).
+ * Для не-AWS задаётся app.storage.s3.endpoint — тогда используется path-style доступ.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    // Объект под ключом неизменяем — клиенты и CDN могут кэшировать без ограничений
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    public S3BlobStore(@Value("${app.storage.s3.bucket}") String bucket,
+                       @Value("${app.storage.s3.region:us-east-1}") String region,
+                       @Value("${app.storage.s3.endpoint:}") String endpoint,
+                       @Value("${app.storage.s3.access-key:}") String accessKey,
+                       @Value("${app.storage.s3.secret-key:}") String secretKey,
+                       @Value("${app.storage.s3.prefix:images/}") String prefix) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        this.s3 = builder.build();
+        this.bucket = bucket;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void put(String key, byte[] data) {
+        if (exists(key)) {
+            return;
+        }
+        s3.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey(key))
+                        .contentType(BlobKeys.contentType(key))
+                        .cacheControl(CACHE_CONTROL)
+                        .build(),
+                RequestBody.fromBytes(data));
+    }
+
+    @Override
+    public void put(String key, Path file) {
+        if (exists(key)) {
+            return;
+        }
+        s3.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey(key))
+                        .contentType(BlobKeys.contentType(key))
+                        .cacheControl(CACHE_CONTROL)
+                        .build(),
+                RequestBody.fromFile(file));
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        try {
+            return Optional.of(s3.getObject(GetObjectRequest.builder().bucket(bucket).key(objectKey(key)).build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    private String objectKey(String key) {
+        if (!BlobKeys.isKey(key)) {
+            throw new IllegalArgumentException("Некорректный ключ блоба: " + key);
+        }
+        return prefix + key;
+    }
+}
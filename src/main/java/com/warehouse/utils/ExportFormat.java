@@ -0,0 +1,39 @@
+package com.warehouse.utils;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public enum ExportFormat {
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return XLSX;
+        }
+        for (ExportFormat value : values()) {
+            if (value.extension.equals(format.trim().toLowerCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Неподдерживаемый формат выгрузки: " + format + " (xlsx или csv)");
+    }
+}
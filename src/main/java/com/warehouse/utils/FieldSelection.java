@@ -0,0 +1,33 @@
+package com.warehouse.utils;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Разбор параметра ?fields=id,name,quantity для списков (sparse fieldsets).
+ * id добавляется всегда — по нему фронт различает строки.
+ */
+public final class FieldSelection {
+
+    private FieldSelection() {}
+
+    /** null, если параметр не передан — тогда отдаётся полный DTO. */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String raw : fields.split(",")) {
+            String field = raw.trim();
+            if (field.isEmpty()) continue;
+            if (!allowed.contains(field)) {
+                throw new IllegalArgumentException("Неизвестное поле: " + field + ". Допустимо: "
+                        + String.join(", ", new TreeSet<>(allowed)));
+            }
+            selected.add(field);
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,53 @@
+package com.warehouse.utils;
+
+import com.warehouse.model.Item;
+
+/**
+ * Поля, по которым список товаров сортируется на стороне БД (ORDER BY поле, id).
+ * id добавляется вторым ключом, чтобы порядок и курсоры были стабильными при одинаковых значениях.
+ * Имя сортируется по предвычисленному ключу (ItemSortKeys), а не по сырому name.
+ */
+public enum ItemSortField {
+    NAME("nameSortKey"),
+    QUANTITY("quantity"),
+    SOLD("sold");
+
+    private final String property;
+
+    ItemSortField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() { return property; }
+
+    /** Значение ключа сортировки для курсора. */
+    public String valueOf(Item item) {
+        return switch (this) {
+            case NAME -> item.getNameSortKey();
+            case QUANTITY -> String.valueOf(item.getQuantity());
+            case SOLD -> String.valueOf(item.getSold());
+        };
+    }
+
+    /** Обратное преобразование значения из курсора в тип параметра запроса. */
+    public Object parseValue(String value) {
+        try {
+            return switch (this) {
+                case NAME -> value;
+                case QUANTITY, SOLD -> Integer.valueOf(value);
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный курсор пагинации.", e);
+        }
+    }
+
+    public static ItemSortField from(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) return NAME;
+        return switch (sortBy.toLowerCase()) {
+            case "name" -> NAME;
+            case "quantity" -> QUANTITY;
+            case "sold" -> SOLD;
+            default -> throw new IllegalArgumentException("Параметр sortBy недействителен. Используйте 'name', 'quantity' или 'sold'.");
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.warehouse.utils;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Предвычисленные ключи сортировки названий товаров.
+ * Ключ — hex от CollationKey (PRIMARY, регистронезависимо, как в ItemComparator.BY_NAME).
+ * Побайтовое сравнение ключей (колонка с COLLATE "C") даёт тот же порядок, что и Collator,
+ * поэтому сортировка по имени в БД становится обычным проходом по индексу.
+ */
+public final class ItemSortKeys {
+
+    public static final String DEFAULT_LANG = "ru";
+
+    // Длина колонки name_sort_key; длиннее ключ обрезаем (порядок сохраняется по первым ~300 символам)
+    public static final int MAX_KEY_LENGTH = 1024;
+
+    // Товары без названия уходят в конец: 'z' больше любого hex-символа
+    private static final String NULL_NAME_KEY = "z";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Collator не потокобезопасен — храним прототипы и клонируем их на каждый поток
+    private static final Map<String, Locale> LOCALES = Map.of(
+            "ru", new Locale("ru", "RU"),
+            "pl", new Locale("pl", "PL"),
+            "de", Locale.GERMANY,
+            "en", Locale.ENGLISH
+    );
+
+    private static final ThreadLocal<Map<String, Collator>> COLLATORS = ThreadLocal.withInitial(() -> {
+        Map<String, Collator> collators = new java.util.HashMap<>();
+        LOCALES.forEach((lang, locale) -> {
+            Collator collator = Collator.getInstance(locale);
+            collator.setStrength(Collator.PRIMARY);
+            collators.put(lang, collator);
+        });
+        return collators;
+    });
+
+    private ItemSortKeys() {}
+
+    /** Приводим язык к одному из поддерживаемых (ru/pl/de/en), по умолчанию — ru, как и раньше. */
+    public static String normalizeLang(String lang) {
+        if (lang == null || lang.isBlank()) return DEFAULT_LANG;
+        String l = lang.toLowerCase();
+        if (l.startsWith("de")) return "de";
+        if (l.startsWith("pl")) return "pl";
+        if (l.startsWith("en")) return "en";
+        if (l.startsWith("ru")) return "ru";
+        return "en";
+    }
+
+    public static boolean isSupported(String lang) {
+        return lang != null && LOCALES.containsKey(lang.toLowerCase());
+    }
+
+    public static String of(String name, String lang) {
+        if (name == null) return NULL_NAME_KEY;
+        CollationKey key = COLLATORS.get().get(normalizeLang(lang)).getCollationKey(name);
+        return toHex(key.toByteArray());
+    }
+
+    private static String toHex(byte[] bytes) {
+        int length = Math.min(bytes.length * 2, MAX_KEY_LENGTH);
+        char[] out = new char[length];
+        for (int i = 0, j = 0; j < length; i++) {
+            out[j++] = HEX[(bytes[i] >> 4) & 0x0F];
+            if (j < length) out[j++] = HEX[bytes[i] & 0x0F];
+        }
+        return new String(out);
+    }
+}
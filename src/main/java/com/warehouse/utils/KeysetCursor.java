@@ -0,0 +1,42 @@
+package com.warehouse.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Непрозрачный курсор для keyset-пагинации: значение ключа сортировки + id последней строки страницы.
+ * Клиент получает его как строку (Base64 URL-safe) и передаёт обратно в параметре ?after=.
+ */
+public final class KeysetCursor {
+    private static final char SEPARATOR = '\u0000';
+
+    private final String value;
+    private final String id;
+
+    public KeysetCursor(String value, String id) {
+        this.value = value == null ? "" : value;
+        this.id = id;
+    }
+
+    public String getValue() { return value; }
+    public String getId() { return id; }
+
+    public String encode() {
+        String raw = id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep <= 0) {
+                throw new IllegalArgumentException("Некорректный курсор пагинации.");
+            }
+            return new KeysetCursor(raw.substring(sep + 1), raw.substring(0, sep));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Некорректный курсор пагинации.", e);
+        }
+    }
+}
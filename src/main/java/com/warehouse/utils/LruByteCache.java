@@ -0,0 +1,66 @@
+package com.warehouse.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Простой LRU-кэш байтовых массивов с ограничением по суммарному размеру.
+ * Значение вычисляется вне блокировки: при гонке два потока могут отрендерить одно и то же,
+ * но результат одинаковый, а долгий рендер не блокирует остальные обращения к кэшу.
+ */
+public class LruByteCache<K> {
+
+    private final long maxBytes;
+    private final LinkedHashMap<K, byte[]> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public LruByteCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public byte[] get(K key, Supplier<byte[]> loader) {
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        misses.incrementAndGet();
+        byte[] value = loader.get();
+        put(key, value);
+        return value;
+    }
+
+    private synchronized void put(K key, byte[] value) {
+        if (value.length > maxBytes) return; // слишком большое значение не кэшируем
+        byte[] previous = entries.put(key, value);
+        currentBytes += value.length - (previous == null ? 0 : previous.length);
+
+        Iterator<Map.Entry<K, byte[]>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<K, byte[]> entry = eldest.next();
+            currentBytes -= entry.getValue().length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public synchronized Map<String, Long> stats() {
+        return Map.of(
+                "hits", hits.get(),
+                "misses", misses.get(),
+                "evictions", evictions.get(),
+                "entries", (long) entries.size(),
+                "bytes", currentBytes,
+                "maxBytes", maxBytes
+        );
+    }
+}
@@ -1,16 +1,19 @@
 package com.warehouse.utils;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.Encoder;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.util.Map;
 
 public class QRCodeGenerator {
 
@@ -35,14 +38,19 @@ public class QRCodeGenerator {
 //        }
 //    }
 
-    public static byte[] generateQRCodeAsBytes(String text) {
+    /**
+     * Общий путь рендера для всех форматов. margin — ширина белой рамки в модулях (у QRCodeWriter по умолчанию 4).
+     * PNG масштабируется QRCodeWriter'ом до size пикселей, SVG строится по самим модулям и тянется браузером/принтером.
+     */
+    public static byte[] generateQRCode(String text, QrFormat format, int size, int margin) {
         try {
-            QRCodeWriter qrCodeWriter = new QRCodeWriter();
-            BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, 200, 200);
-
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", outputStream);
-            return outputStream.toByteArray();
+            if (format == QrFormat.SVG) {
+                // Тот же уровень коррекции, что QRCodeWriter использует по умолчанию
+                return QrSvgEncoder.encode(Encoder.encode(text, ErrorCorrectionLevel.L).getMatrix(), size, margin);
+            }
+            BitMatrix bitMatrix = new QRCodeWriter().encode(text, BarcodeFormat.QR_CODE, size, size,
+                    Map.of(EncodeHintType.MARGIN, margin));
+            return QrPngEncoder.encode(bitMatrix);
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate QR code", e);
         }
@@ -0,0 +1,41 @@
+package com.warehouse.utils;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Формат выдачи QR-кода: растровый PNG или векторный SVG, собранный прямо из модулей.
+ */
+public enum QrFormat {
+    PNG("png", MediaType.IMAGE_PNG),
+    SVG("svg", MediaType.valueOf("image/svg+xml"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    QrFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static QrFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return PNG;
+        }
+        for (QrFormat value : values()) {
+            if (value.extension.equals(format.trim().toLowerCase(Locale.ROOT))) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Неподдерживаемый формат QR-кода: " + format + " (png или svg)");
+    }
+}
@@ -0,0 +1,121 @@
+package com.warehouse.utils;
+
+import com.google.zxing.common.BitMatrix;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Кодирует BitMatrix сразу в PNG (1 бит на пиксель, grayscale), минуя BufferedImage и ImageIO.
+ * Буферы, Deflater и CRC32 переиспользуются в пределах потока, поэтому при массовой печати
+ * на каждый код аллоцируется по сути только итоговый byte[].
+ * Цвета как у MatrixToImageWriter по умолчанию: установленный бит — чёрный, остальное — белое.
+ */
+public final class QrPngEncoder {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IHDR = {'I', 'H', 'D', 'R'};
+    private static final byte[] IDAT = {'I', 'D', 'A', 'T'};
+    private static final byte[] IEND = {'I', 'E', 'N', 'D'};
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private QrPngEncoder() {}
+
+    public static byte[] encode(BitMatrix matrix) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int rowBytes = (width + 7) / 8;
+        Buffers buffers = BUFFERS.get();
+
+        // Сырые строки: байт фильтра (0 = None) + упакованные пиксели, старший бит — левый пиксель
+        int rawLength = height * (rowBytes + 1);
+        byte[] raw = buffers.raw(rawLength);
+        int pos = 0;
+        for (int y = 0; y < height; y++) {
+            raw[pos++] = 0;
+            for (int xByte = 0; xByte < rowBytes; xByte++) {
+                int packed = 0;
+                for (int bit = 0; bit < 8; bit++) {
+                    int x = xByte * 8 + bit;
+                    // 1 = белый; хвост последнего байта тоже белый
+                    if (x >= width || !matrix.get(x, y)) {
+                        packed |= 0x80 >>> bit;
+                    }
+                }
+                raw[pos++] = (byte) packed;
+            }
+        }
+
+        Deflater deflater = buffers.deflater;
+        deflater.reset();
+        deflater.setInput(raw, 0, rawLength);
+        deflater.finish();
+        ByteArrayOutputStream compressed = buffers.compressed;
+        compressed.reset();
+        byte[] chunk = buffers.chunk;
+        while (!deflater.finished()) {
+            int n = deflater.deflate(chunk);
+            compressed.write(chunk, 0, n);
+        }
+
+        ByteArrayOutputStream out = buffers.out;
+        out.reset();
+        out.write(SIGNATURE, 0, SIGNATURE.length);
+
+        byte[] header = buffers.header;
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 1;  // глубина цвета: 1 бит
+        header[9] = 0;  // тип цвета: grayscale
+        header[10] = 0; // сжатие: deflate
+        header[11] = 0; // фильтрация: стандартная
+        header[12] = 0; // без interlace
+        writeChunk(out, buffers, IHDR, header, 13);
+        writeChunk(out, buffers, IDAT, compressed.toByteArray(), compressed.size());
+        writeChunk(out, buffers, IEND, header, 0);
+        return out.toByteArray();
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, Buffers buffers, byte[] type, byte[] data, int length) {
+        byte[] word = buffers.word;
+        writeInt(word, 0, length);
+        out.write(word, 0, 4);
+        out.write(type, 0, 4);
+        out.write(data, 0, length);
+
+        CRC32 crc = buffers.crc;
+        crc.reset();
+        crc.update(type, 0, 4);
+        crc.update(data, 0, length);
+        writeInt(word, 0, (int) crc.getValue());
+        out.write(word, 0, 4);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) (value >>> 24);
+        target[offset + 1] = (byte) (value >>> 16);
+        target[offset + 2] = (byte) (value >>> 8);
+        target[offset + 3] = (byte) value;
+    }
+
+    private static final class Buffers {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        final CRC32 crc = new CRC32();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(1024);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        final byte[] chunk = new byte[4096];
+        final byte[] header = new byte[13];
+        final byte[] word = new byte[4];
+        byte[] raw = new byte[8192];
+
+        byte[] raw(int length) {
+            if (raw.length < length) {
+                raw = Arrays.copyOf(raw, Math.max(length, raw.length * 2));
+            }
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.warehouse.utils;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Строит SVG по модулям QR-кода: один path из горизонтальных отрезков подряд идущих тёмных модулей.
+ * viewBox задан в модулях, а width/height — в пикселях, поэтому картинка масштабируется без потерь,
+ * а shape-rendering="crispEdges" не даёт размывать границы модулей на термопринтерах.
+ */
+public final class QrSvgEncoder {
+
+    private QrSvgEncoder() {}
+
+    public static byte[] encode(ByteMatrix modules, int size, int margin) {
+        int width = modules.getWidth();
+        int height = modules.getHeight();
+        int box = width + 2 * margin;
+
+        StringBuilder svg = new StringBuilder(256 + width * height / 2);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\"")
+                .append(" width=\"").append(size).append("\" height=\"").append(size).append('"')
+                .append(" viewBox=\"0 0 ").append(box).append(' ').append(box).append('"')
+                .append(" shape-rendering=\"crispEdges\">")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+                .append("<path fill=\"#000\" d=\"");
+        for (int y = 0; y < height; y++) {
+            int x = 0;
+            while (x < width) {
+                if (modules.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < width && modules.get(x, y) == 1) {
+                    x++;
+                }
+                svg.append('M').append(start + margin).append(' ').append(y + margin)
+                        .append('h').append(x - start).append("v1h-").append(x - start).append('z');
+            }
+        }
+        svg.append("\"/></svg>");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
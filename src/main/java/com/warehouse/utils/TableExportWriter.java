@@ -0,0 +1,146 @@
+package com.warehouse.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Построчная запись таблицы прямо в поток ответа. Память не зависит от числа строк:
+ * XLSX пишется через SXSSF (в памяти только окно строк, остальное — во временном файле),
+ * CSV — сразу в буферизованный Writer.
+ */
+public interface TableExportWriter extends AutoCloseable {
+
+    void header(String... columns) throws IOException;
+
+    void row(Object... values) throws IOException;
+
+    /** Дописывает документ в поток; после этого writer нужно закрыть. */
+    void finish() throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    static TableExportWriter open(ExportFormat format, OutputStream out, String sheetName) {
+        return format == ExportFormat.CSV ? new Csv(out) : new Xlsx(out, sheetName);
+    }
+
+    final class Xlsx implements TableExportWriter {
+        private static final int ROW_WINDOW = 100;
+
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final CellStyle dateStyle;
+        private int rowNum;
+
+        private Xlsx(OutputStream out, String sheetName) {
+            this.out = out;
+            this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(sheetName));
+            this.dateStyle = workbook.createCellStyle();
+            this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+        }
+
+        @Override
+        public void header(String... columns) {
+            row((Object[]) columns);
+        }
+
+        @Override
+        public void row(Object... values) {
+            Row row = sheet.createRow(rowNum++);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof LocalDateTime dateTime) {
+                    cell.setCellValue(dateTime);
+                    cell.setCellStyle(dateStyle);
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            workbook.write(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Удаляет временные файлы SXSSF
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    final class Csv implements TableExportWriter {
+        private final Writer writer;
+
+        private Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void header(String... columns) throws IOException {
+            // BOM — чтобы Excel открыл кириллицу в UTF-8 без мастера импорта
+            writer.write('\uFEFF');
+            row((Object[]) columns);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = values[i];
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: поле в кавычках, если в нём есть разделитель, кавычки или перевод строки
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() {
+            // Поток ответа закрывает контейнер
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.warehouse.utils;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Построчное чтение таблицы без загрузки файла целиком: XLSX — SAX-разбор первого листа
+ * (XSSFReader + XSSFSheetXMLHandler), CSV — посимвольный разбор RFC 4180 с разделителем ',' или ';'.
+ * Ячейки отдаются строками в том виде, как их показывает Excel (DataFormatter).
+ */
+public final class TableImportReader {
+
+    @FunctionalInterface
+    public interface RowHandler {
+        /** rowNum — номер строки в файле, начиная с 1 (как в Excel). */
+        void row(int rowNum, List<String> cells);
+    }
+
+    private TableImportReader() {}
+
+    public static void read(ExportFormat format, Path file, RowHandler handler) throws IOException {
+        if (format == ExportFormat.CSV) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                readCsv(reader, handler);
+            }
+        } else {
+            readXlsx(file, handler);
+        }
+    }
+
+    private static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, strings,
+                        new SheetRows(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Не удалось прочитать XLSX: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class SheetRows implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        SheetRows(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.row(rowNum + 1, new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Пустые ячейки в XML пропускаются — восстанавливаем позицию по ссылке (A1, B1, ...)
+            int column = columnIndex(cellReference);
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue);
+        }
+
+        private static int columnIndex(String cellReference) {
+            int column = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+
+    private static void readCsv(Reader reader, RowHandler handler) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        char delimiter = 0;
+        boolean quoted = false;
+        boolean atFieldStart = true;
+        int rowNum = 1;
+        int c = reader.read();
+        if (c == '\uFEFF') {
+            c = reader.read();
+        }
+        for (; c != -1; c = reader.read()) {
+            char ch = (char) c;
+            if (delimiter == 0 && !quoted && (ch == ',' || ch == ';')) {
+                // Разделитель — первый встреченный вне кавычек (Excel в ru/pl/de сохраняет CSV через ';')
+                delimiter = ch;
+            }
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) reader.reset();
+                    }
+                } else {
+                    field.append(ch);
+                }
+            } else if (ch == '"' && atFieldStart) {
+                quoted = true;
+                atFieldStart = false;
+            } else if (ch == delimiter) {
+                cells.add(field.toString());
+                field.setLength(0);
+                atFieldStart = true;
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') reader.reset();
+                }
+                cells.add(field.toString());
+                field.setLength(0);
+                handler.row(rowNum++, cells);
+                cells = new ArrayList<>();
+                atFieldStart = true;
+            } else {
+                field.append(ch);
+                atFieldStart = false;
+            }
+        }
+        if (field.length() > 0 || !cells.isEmpty()) {
+            cells.add(field.toString());
+            handler.row(rowNum, cells);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.warehouse.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Триграммный индекс по названию и описанию товаров одной компании (как pg_trgm, только в памяти).
+ * Текст нормализуется (регистр, диакритика, ё→е), каждое слово дополняется пробелами: "  ab" " ab" "ab ".
+ * Поиск считает совпавшие триграммы запроса отдельно по названию (вес 2) и описанию (вес 1)
+ * и добавляет бонус за вхождение запроса в название целиком.
+ * Потокобезопасен: чтения параллельны, изменения — под write-lock.
+ */
+public class TrigramIndex {
+
+    // Доля совпавших триграмм запроса, ниже которой товар не считается найденным
+    private static final double MIN_SCORE = 0.3;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<String>> nameIndex = new HashMap<>();
+    private final Map<Long, Set<String>> descriptionIndex = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(String id, String name, double score) {}
+
+    private record Entry(String name, String normalizedName, Set<Long> nameGrams, Set<Long> descriptionGrams) {}
+
+    public void put(String id, String name, String description) {
+        String normalizedName = normalize(name);
+        Entry entry = new Entry(name, normalizedName, trigrams(normalizedName), trigrams(normalize(description)));
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            entries.put(id, entry);
+            entry.nameGrams().forEach(gram -> nameIndex.computeIfAbsent(gram, g -> new HashSet<>()).add(id));
+            entry.descriptionGrams().forEach(gram -> descriptionIndex.computeIfAbsent(gram, g -> new HashSet<>()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        Set<Long> queryGrams = trigrams(normalizedQuery);
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<String, int[]> counts = new HashMap<>(); // id → {совпадения в названии, в описании}
+        lock.readLock().lock();
+        try {
+            for (Long gram : queryGrams) {
+                for (String id : nameIndex.getOrDefault(gram, Set.of())) {
+                    counts.computeIfAbsent(id, k -> new int[2])[0]++;
+                }
+                for (String id : descriptionIndex.getOrDefault(gram, Set.of())) {
+                    counts.computeIfAbsent(id, k -> new int[2])[1]++;
+                }
+            }
+            List<Hit> hits = new ArrayList<>();
+            for (Map.Entry<String, int[]> candidate : counts.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                int[] c = candidate.getValue();
+                double score = (2.0 * c[0] + c[1]) / (2.0 * queryGrams.size());
+                if (entry.normalizedName().startsWith(normalizedQuery)) {
+                    score += 1.0;
+                } else if (entry.normalizedName().contains(normalizedQuery)) {
+                    score += 0.5;
+                }
+                if (score >= MIN_SCORE) {
+                    hits.add(new Hit(candidate.getKey(), entry.name(), score));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                    .thenComparing(Hit::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(String id) {
+        Entry old = entries.remove(id);
+        if (old == null) {
+            return;
+        }
+        unlink(nameIndex, old.nameGrams(), id);
+        unlink(descriptionIndex, old.descriptionGrams(), id);
+    }
+
+    private static void unlink(Map<Long, Set<String>> index, Set<Long> grams, String id) {
+        for (Long gram : grams) {
+            Set<String> ids = index.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+        // Убираем диакритику (ą → a, ü → u), но й — отдельная буква: после NFD это и + U+0306, собираем обратно
+        String decomposed = Normalizer.normalize(lower, Normalizer.Form.NFD)
+                .replace("и\u0306", "й")
+                .replaceAll("\\p{M}", "");
+        return decomposed.replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    // Триграмма — три символа, упакованные в long (по 16 бит на символ)
+    static Set<Long> trigrams(String normalized) {
+        Set<Long> grams = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+        for (String word : normalized.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,80 @@
+(function(){const r=document.createElement("link").relList;if(r&&r.supports&&r.supports("modulepreload"))return;for(const u of document.querySelectorAll('link[rel="modulepreload"]'))i(u);new MutationObserver(u=>{for(const c of u)if(c.type==="childList")for(const E of c.addedNodes)E.tagName==="LINK"&&E.rel==="modulepreload"&&i(E)}).observe(document,{childList:!0,subtree:!0});function s(u){const c={};return u.integrity&&(c.integrity=u.integrity),u.referrerPolicy&&(c.referrerPolicy=u.referrerPolicy),u.crossOrigin==="use-credentials"?c.credentials="include":u.crossOrigin==="anonymous"?c.credentials="omit":c.credentials="same-origin",c}function i(u){if(u.ep)return;u.ep=!0;const c=s(u);fetch(u.href,c)}})();function h8(n){return n&&n.__esModule&&Object.prototype.hasOwnProperty.call(n,"default")?n.default:n}var Ei={exports:{}},nn={};/**
+ * @license React
+ * react-jsx-runtime.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var P9;function P6(){if(P9)return nn;P9=1;var n=Symbol.for("react.transitional.element"),r=Symbol.for("react.fragment");function s(i,u,c){var E=null;if(c!==void 0&&(E=""+c),u.key!==void 0&&(E=""+u.key),"key"in u){c={};for(var A in u)A!=="key"&&(c[A]=u[A])}else c=u;return u=c.ref,{$$typeof:n,type:i,key:E,ref:u!==void 0?u:null,props:c}}return nn.Fragment=r,nn.jsx=s,nn.jsxs=s,nn}var H9;function H6(){return H9||(H9=1,Ei.exports=P6()),Ei.exports}var F=H6(),di={exports:{}},C0={};/**
+ * @license React
+ * react.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var q9;function q6(){if(q9)return C0;q9=1;var n=Symbol.for("react.transitional.element"),r=Symbol.for("react.portal"),s=Symbol.for("react.fragment"),i=Symbol.for("react.strict_mode"),u=Symbol.for("react.profiler"),c=Symbol.for("react.consumer"),E=Symbol.for("react.context"),A=Symbol.for("react.forward_ref"),B=Symbol.for("react.suspense"),d=Symbol.for("react.memo"),C=Symbol.for("react.lazy"),D=Symbol.iterator;function v(w){return w===null||typeof w!="object"?null:(w=D&&w[D]||w["@@iterator"],typeof w=="function"?w:null)}var S={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},h=Object.assign,_={};function p(w,q,x0){this.props=w,this.context=q,this.refs=_,this.updater=x0||S}p.prototype.isReactComponent={},p.prototype.setState=function(w,q){if(typeof w!="object"&&typeof w!="function"&&w!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,w,q,"setState")},p.prototype.forceUpdate=function(w){this.updater.enqueueForceUpdate(this,w,"forceUpdate")};function T(){}T.prototype=p.prototype;function N(w,q,x0){this.props=w,this.context=q,this.refs=_,this.updater=x0||S}var y=N.prototype=new T;y.constructor=N,h(y,p.prototype),y.isPureReactComponent=!0;var g=Array.isArray,b={H:null,A:null,T:null,S:null,V:null},z=Object.prototype.hasOwnProperty;function O(w,q,x0,a0,t0,m0){return x0=m0.ref,{$$typeof:n,type:w,key:q,ref:x0!==void 0?x0:null,props:m0}}function X(w,q){return O(w.type,q,void 0,void 0,void 0,w.props)}function L(w){return typeof w=="object"&&w!==null&&w.$$typeof===n}function $(w){var q={"=":"=0",":":"=2"};return"$"+w.replace(/[=:]/g,function(x0){return q[x0]})}var J=/\/+/g;function e0(w,q){return typeof w=="object"&&w!==null&&w.key!=null?$(""+w.key):q.toString(36)}function l0(){}function n0(w){switch(w.status){case"fulfilled":return w.value;case"rejected":throw w.reason;default:switch(typeof w.status=="string"?w.then(l0,l0):(w.status="pending",w.then(function(q){w.status==="pending"&&(w.status="fulfilled",w.value=q)},function(q){w.status==="pending"&&(w.status="rejected",w.reason=q)})),w.status){case"fulfilled":return w.value;case"rejected":throw w.reason}}throw w}function r0(w,q,x0,a0,t0){var m0=typeof w;(m0==="undefined"||m0==="boolean")&&(w=null);var u0=!1;if(w===null)u0=!0;else switch(m0){case"bigint":case"string":case"number":u0=!0;break;case"object":switch(w.$$typeof){case n:case r:u0=!0;break;case C:return u0=w._init,r0(u0(w._payload),q,x0,a0,t0)}}if(u0)return t0=t0(w),u0=a0===""?"."+e0(w,0):a0,g(t0)?(x0="",u0!=null&&(x0=u0.replace(J,"$&/")+"/"),r0(t0,q,x0,"",function(G0){return G0})):t0!=null&&(L(t0)&&(t0=X(t0,x0+(t0.key==null||w&&w.key===t0.key?"":(""+t0.key).replace(J,"$&/")+"/")+u0)),q.push(t0)),1;u0=0;var g0=a0===""?".":a0+":";if(g(w))for(var k0=0;k0<w.length;k0++)a0=w[k0],m0=g0+e0(a0,k0),u0+=r0(a0,q,x0,m0,t0);else if(k0=v(w),typeof k0=="function")for(w=k0.call(w),k0=0;!(a0=w.next()).done;)a0=a0.value,m0=g0+e0(a0,k0++),u0+=r0(a0,q,x0,m0,t0);else if(m0==="object"){if(typeof w.then=="function")return r0(n0(w),q,x0,a0,t0);throw q=String(w),Error("Objects are not valid as a React child (found: "+(q==="[object Object]"?"object with keys {"+Object.keys(w).join(", ")+"}":q)+"). If you meant to render a collection of children, use an array instead.")}return u0}function R(w,q,x0){if(w==null)return w;var a0=[],t0=0;return r0(w,a0,"","",function(m0){return q.call(x0,m0,t0++)}),a0}function G(w){if(w._status===-1){var q=w._result;q=q(),q.then(function(x0){(w._status===0||w._status===-1)&&(w._status=1,w._result=x0)},function(x0){(w._status===0||w._status===-1)&&(w._status=2,w._result=x0)}),w._status===-1&&(w._status=0,w._result=q)}if(w._status===1)return w._result.default;throw w._result}var I=typeof reportError=="function"?reportError:function(w){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var q=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof w=="object"&&w!==null&&typeof w.message=="string"?String(w.message):String(w),error:w});if(!window.dispatchEvent(q))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",w);return}console.error(w)};function o0(){}return C0.Children={map:R,forEach:function(w,q,x0){R(w,function(){q.apply(this,arguments)},x0)},count:function(w){var q=0;return R(w,function(){q++}),q},toArray:function(w){return R(w,function(q){return q})||[]},only:function(w){if(!L(w))throw Error("React.Children.only expected to receive a single React element child.");return w}},C0.Component=p,C0.Fragment=s,C0.Profiler=u,C0.PureComponent=N,C0.StrictMode=i,C0.Suspense=B,C0.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=b,C0.__COMPILER_RUNTIME={__proto__:null,c:function(w){return b.H.useMemoCache(w)}},C0.cache=function(w){return function(){return w.apply(null,arguments)}},C0.cloneElement=function(w,q,x0){if(w==null)throw Error("The argument must be a React element, but you passed "+w+".");var a0=h({},w.props),t0=w.key,m0=void 0;if(q!=null)for(u0 in q.ref!==void 0&&(m0=void 0),q.key!==void 0&&(t0=""+q.key),q)!z.call(q,u0)||u0==="key"||u0==="__self"||u0==="__source"||u0==="ref"&&q.ref===void 0||(a0[u0]=q[u0]);var u0=arguments.length-2;if(u0===1)a0.children=x0;else if(1<u0){for(var g0=Array(u0),k0=0;k0<u0;k0++)g0[k0]=arguments[k0+2];a0.children=g0}return O(w.type,t0,void 0,void 0,m0,a0)},C0.createContext=function(w){return w={$$typeof:E,_currentValue:w,_currentValue2:w,_threadCount:0,Provider:null,Consumer:null},w.Provider=w,w.Consumer={$$typeof:c,_context:w},w},C0.createElement=function(w,q,x0){var a0,t0={},m0=null;if(q!=null)for(a0 in q.key!==void 0&&(m0=""+q.key),q)z.call(q,a0)&&a0!=="key"&&a0!=="__self"&&a0!=="__source"&&(t0[a0]=q[a0]);var u0=arguments.length-2;if(u0===1)t0.children=x0;else if(1<u0){for(var g0=Array(u0),k0=0;k0<u0;k0++)g0[k0]=arguments[k0+2];t0.children=g0}if(w&&w.defaultProps)for(a0 in u0=w.defaultProps,u0)t0[a0]===void 0&&(t0[a0]=u0[a0]);return O(w,m0,void 0,void 0,null,t0)},C0.createRef=function(){return{current:null}},C0.forwardRef=function(w){return{$$typeof:A,render:w}},C0.isValidElement=L,C0.lazy=function(w){return{$$typeof:C,_payload:{_status:-1,_result:w},_init:G}},C0.memo=function(w,q){return{$$typeof:d,type:w,compare:q===void 0?null:q}},C0.startTransition=function(w){var q=b.T,x0={};b.T=x0;try{var a0=w(),t0=b.S;t0!==null&&t0(x0,a0),typeof a0=="object"&&a0!==null&&typeof a0.then=="function"&&a0.then(o0,I)}catch(m0){I(m0)}finally{b.T=q}},C0.unstable_useCacheRefresh=function(){return b.H.useCacheRefresh()},C0.use=function(w){return b.H.use(w)},C0.useActionState=function(w,q,x0){return b.H.useActionState(w,q,x0)},C0.useCallback=function(w,q){return b.H.useCallback(w,q)},C0.useContext=function(w){return b.H.useContext(w)},C0.useDebugValue=function(){},C0.useDeferredValue=function(w,q){return b.H.useDeferredValue(w,q)},C0.useEffect=function(w,q,x0){var a0=b.H;if(typeof x0=="function")throw Error("useEffect CRUD overload is not enabled in this build of React.");return a0.useEffect(w,q)},C0.useId=function(){return b.H.useId()},C0.useImperativeHandle=function(w,q,x0){return b.H.useImperativeHandle(w,q,x0)},C0.useInsertionEffect=function(w,q){return b.H.useInsertionEffect(w,q)},C0.useLayoutEffect=function(w,q){return b.H.useLayoutEffect(w,q)},C0.useMemo=function(w,q){return b.H.useMemo(w,q)},C0.useOptimistic=function(w,q){return b.H.useOptimistic(w,q)},C0.useReducer=function(w,q,x0){return b.H.useReducer(w,q,x0)},C0.useRef=function(w){return b.H.useRef(w)},C0.useState=function(w){return b.H.useState(w)},C0.useSyncExternalStore=function(w,q,x0){return b.H.useSyncExternalStore(w,q,x0)},C0.useTransition=function(){return b.H.useTransition()},C0.version="19.1.0",C0}var X9;function Ui(){return X9||(X9=1,di.exports=q6()),di.exports}var j=Ui();const p0=h8(j);var Bi={exports:{}},ln={},Ci={exports:{}},Ai={};/**
+ * @license React
+ * scheduler.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var Y9;function X6(){return Y9||(Y9=1,function(n){function r(R,G){var I=R.length;R.push(G);e:for(;0<I;){var o0=I-1>>>1,w=R[o0];if(0<u(w,G))R[o0]=G,R[I]=w,I=o0;else break e}}function s(R){return R.length===0?null:R[0]}function i(R){if(R.length===0)return null;var G=R[0],I=R.pop();if(I!==G){R[0]=I;e:for(var o0=0,w=R.length,q=w>>>1;o0<q;){var x0=2*(o0+1)-1,a0=R[x0],t0=x0+1,m0=R[t0];if(0>u(a0,I))t0<w&&0>u(m0,a0)?(R[o0]=m0,R[t0]=I,o0=t0):(R[o0]=a0,R[x0]=I,o0=x0);else if(t0<w&&0>u(m0,I))R[o0]=m0,R[t0]=I,o0=t0;else break e}}return G}function u(R,G){var I=R.sortIndex-G.sortIndex;return I!==0?I:R.id-G.id}if(n.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var c=performance;n.unstable_now=function(){return c.now()}}else{var E=Date,A=E.now();n.unstable_now=function(){return E.now()-A}}var B=[],d=[],C=1,D=null,v=3,S=!1,h=!1,_=!1,p=!1,T=typeof setTimeout=="function"?setTimeout:null,N=typeof clearTimeout=="function"?clearTimeout:null,y=typeof setImmediate<"u"?setImmediate:null;function g(R){for(var G=s(d);G!==null;){if(G.callback===null)i(d);else if(G.startTime<=R)i(d),G.sortIndex=G.expirationTime,r(B,G);else break;G=s(d)}}function b(R){if(_=!1,g(R),!h)if(s(B)!==null)h=!0,z||(z=!0,e0());else{var G=s(d);G!==null&&r0(b,G.startTime-R)}}var z=!1,O=-1,X=5,L=-1;function $(){return p?!0:!(n.unstable_now()-L<X)}function J(){if(p=!1,z){var R=n.unstable_now();L=R;var G=!0;try{e:{h=!1,_&&(_=!1,N(O),O=-1),S=!0;var I=v;try{t:{for(g(R),D=s(B);D!==null&&!(D.expirationTime>R&&$());){var o0=D.callback;if(typeof o0=="function"){D.callback=null,v=D.priorityLevel;var w=o0(D.expirationTime<=R);if(R=n.unstable_now(),typeof w=="function"){D.callback=w,g(R),G=!0;break t}D===s(B)&&i(B),g(R)}else i(B);D=s(B)}if(D!==null)G=!0;else{var q=s(d);q!==null&&r0(b,q.startTime-R),G=!1}}break e}finally{D=null,v=I,S=!1}G=void 0}}finally{G?e0():z=!1}}}var e0;if(typeof y=="function")e0=function(){y(J)};else if(typeof MessageChannel<"u"){var l0=new MessageChannel,n0=l0.port2;l0.port1.onmessage=J,e0=function(){n0.postMessage(null)}}else e0=function(){T(J,0)};function r0(R,G){O=T(function(){R(n.unstable_now())},G)}n.unstable_IdlePriority=5,n.unstable_ImmediatePriority=1,n.unstable_LowPriority=4,n.unstable_NormalPriority=3,n.unstable_Profiling=null,n.unstable_UserBlockingPriority=2,n.unstable_cancelCallback=function(R){R.callback=null},n.unstable_forceFrameRate=function(R){0>R||125<R?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):X=0<R?Math.floor(1e3/R):5},n.unstable_getCurrentPriorityLevel=function(){return v},n.unstable_next=function(R){switch(v){case 1:case 2:case 3:var G=3;break;default:G=v}var I=v;v=G;try{return R()}finally{v=I}},n.unstable_requestPaint=function(){p=!0},n.unstable_runWithPriority=function(R,G){switch(R){case 1:case 2:case 3:case 4:case 5:break;default:R=3}var I=v;v=R;try{return G()}finally{v=I}},n.unstable_scheduleCallback=function(R,G,I){var o0=n.unstable_now();switch(typeof I=="object"&&I!==null?(I=I.delay,I=typeof I=="number"&&0<I?o0+I:o0):I=o0,R){case 1:var w=-1;break;case 2:w=250;break;case 5:w=1073741823;break;case 4:w=1e4;break;default:w=5e3}return w=I+w,R={id:C++,callback:G,priorityLevel:R,startTime:I,expirationTime:w,sortIndex:-1},I>o0?(R.sortIndex=I,r(d,R),s(B)===null&&R===s(d)&&(_?(N(O),O=-1):_=!0,r0(b,I-o0))):(R.sortIndex=w,r(B,R),h||S||(h=!0,z||(z=!0,e0()))),R},n.unstable_shouldYield=$,n.unstable_wrapCallback=function(R){var G=v;return function(){var I=v;v=G;try{return R.apply(this,arguments)}finally{v=I}}}}(Ai)),Ai}var Q9;function Y6(){return Q9||(Q9=1,Ci.exports=X6()),Ci.exports}var mi={exports:{}},ne={};/**
+ * @license React
+ * react-dom.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var G9;function Q6(){if(G9)return ne;G9=1;var n=Ui();function r(B){var d="https://react.dev/errors/"+B;if(1<arguments.length){d+="?args[]="+encodeURIComponent(arguments[1]);for(var C=2;C<arguments.length;C++)d+="&args[]="+encodeURIComponent(arguments[C])}return"Minified React error #"+B+"; visit "+d+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function s(){}var i={d:{f:s,r:function(){throw Error(r(522))},D:s,C:s,L:s,m:s,X:s,S:s,M:s},p:0,findDOMNode:null},u=Symbol.for("react.portal");function c(B,d,C){var D=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:u,key:D==null?null:""+D,children:B,containerInfo:d,implementation:C}}var E=n.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function A(B,d){if(B==="font")return"";if(typeof d=="string")return d==="use-credentials"?d:""}return ne.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=i,ne.createPortal=function(B,d){var C=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!d||d.nodeType!==1&&d.nodeType!==9&&d.nodeType!==11)throw Error(r(299));return c(B,d,null,C)},ne.flushSync=function(B){var d=E.T,C=i.p;try{if(E.T=null,i.p=2,B)return B()}finally{E.T=d,i.p=C,i.d.f()}},ne.preconnect=function(B,d){typeof B=="string"&&(d?(d=d.crossOrigin,d=typeof d=="string"?d==="use-credentials"?d:"":void 0):d=null,i.d.C(B,d))},ne.prefetchDNS=function(B){typeof B=="string"&&i.d.D(B)},ne.preinit=function(B,d){if(typeof B=="string"&&d&&typeof d.as=="string"){var C=d.as,D=A(C,d.crossOrigin),v=typeof d.integrity=="string"?d.integrity:void 0,S=typeof d.fetchPriority=="string"?d.fetchPriority:void 0;C==="style"?i.d.S(B,typeof d.precedence=="string"?d.precedence:void 0,{crossOrigin:D,integrity:v,fetchPriority:S}):C==="script"&&i.d.X(B,{crossOrigin:D,integrity:v,fetchPriority:S,nonce:typeof d.nonce=="string"?d.nonce:void 0})}},ne.preinitModule=function(B,d){if(typeof B=="string")if(typeof d=="object"&&d!==null){if(d.as==null||d.as==="script"){var C=A(d.as,d.crossOrigin);i.d.M(B,{crossOrigin:C,integrity:typeof d.integrity=="string"?d.integrity:void 0,nonce:typeof d.nonce=="string"?d.nonce:void 0})}}else d==null&&i.d.M(B)},ne.preload=function(B,d){if(typeof B=="string"&&typeof d=="object"&&d!==null&&typeof d.as=="string"){var C=d.as,D=A(C,d.crossOrigin);i.d.L(B,C,{crossOrigin:D,integrity:typeof d.integrity=="string"?d.integrity:void 0,nonce:typeof d.nonce=="string"?d.nonce:void 0,type:typeof d.type=="string"?d.type:void 0,fetchPriority:typeof d.fetchPriority=="string"?d.fetchPriority:void 0,referrerPolicy:typeof d.referrerPolicy=="string"?d.referrerPolicy:void 0,imageSrcSet:typeof d.imageSrcSet=="string"?d.imageSrcSet:void 0,imageSizes:typeof d.imageSizes=="string"?d.imageSizes:void 0,media:typeof d.media=="string"?d.media:void 0})}},ne.preloadModule=function(B,d){if(typeof B=="string")if(d){var C=A(d.as,d.crossOrigin);i.d.m(B,{as:typeof d.as=="string"&&d.as!=="script"?d.as:void 0,crossOrigin:C,integrity:typeof d.integrity=="string"?d.integrity:void 0})}else i.d.m(B)},ne.requestFormReset=function(B){i.d.r(B)},ne.unstable_batchedUpdates=function(B,d){return B(d)},ne.useFormState=function(B,d,C){return E.H.useFormState(B,d,C)},ne.useFormStatus=function(){return E.H.useHostTransitionStatus()},ne.version="19.1.0",ne}var V9;function F8(){if(V9)return mi.exports;V9=1;function n(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(n)}catch(r){console.error(r)}}return n(),mi.exports=Q6(),mi.exports}/**
+ * @license React
+ * react-dom-client.production.js
+ *
+ * Copyright (c) Meta Platforms, Inc. and affiliates.
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */var Z9;function G6(){if(Z9)return ln;Z9=1;var n=Y6(),r=Ui(),s=F8();function i(e){var t="https://react.dev/errors/"+e;if(1<arguments.length){t+="?args[]="+encodeURIComponent(arguments[1]);for(var x=2;x<arguments.length;x++)t+="&args[]="+encodeURIComponent(arguments[x])}return"Minified React error #"+e+"; visit "+t+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function u(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11)}function c(e){var t=e,x=e;if(e.alternate)for(;t.return;)t=t.return;else{e=t;do t=e,(t.flags&4098)!==0&&(x=t.return),e=t.return;while(e)}return t.tag===3?x:null}function E(e){if(e.tag===13){var t=e.memoizedState;if(t===null&&(e=e.alternate,e!==null&&(t=e.memoizedState)),t!==null)return t.dehydrated}return null}function A(e){if(c(e)!==e)throw Error(i(188))}function B(e){var t=e.alternate;if(!t){if(t=c(e),t===null)throw Error(i(188));return t!==e?null:e}for(var x=e,a=t;;){var l=x.return;if(l===null)break;var o=l.alternate;if(o===null){if(a=l.return,a!==null){x=a;continue}break}if(l.child===o.child){for(o=l.child;o;){if(o===x)return A(l),e;if(o===a)return A(l),t;o=o.sibling}throw Error(i(188))}if(x.return!==a.return)x=l,a=o;else{for(var f=!1,m=l.child;m;){if(m===x){f=!0,x=l,a=o;break}if(m===a){f=!0,a=l,x=o;break}m=m.sibling}if(!f){for(m=o.child;m;){if(m===x){f=!0,x=o,a=l;break}if(m===a){f=!0,a=o,x=l;break}m=m.sibling}if(!f)throw Error(i(189))}}if(x.alternate!==a)throw Error(i(190))}if(x.tag!==3)throw Error(i(188));return x.stateNode.current===x?e:t}function d(e){var t=e.tag;if(t===5||t===26||t===27||t===6)return e;for(e=e.child;e!==null;){if(t=d(e),t!==null)return t;e=e.sibling}return null}var C=Object.assign,D=Symbol.for("react.element"),v=Symbol.for("react.transitional.element"),S=Symbol.for("react.portal"),h=Symbol.for("react.fragment"),_=Symbol.for("react.strict_mode"),p=Symbol.for("react.profiler"),T=Symbol.for("react.provider"),N=Symbol.for("react.consumer"),y=Symbol.for("react.context"),g=Symbol.for("react.forward_ref"),b=Symbol.for("react.suspense"),z=Symbol.for("react.suspense_list"),O=Symbol.for("react.memo"),X=Symbol.for("react.lazy"),L=Symbol.for("react.activity"),$=Symbol.for("react.memo_cache_sentinel"),J=Symbol.iterator;function e0(e){return e===null||typeof e!="object"?null:(e=J&&e[J]||e["@@iterator"],typeof e=="function"?e:null)}var l0=Symbol.for("react.client.reference");function n0(e){if(e==null)return null;if(typeof e=="function")return e.$$typeof===l0?null:e.displayName||e.name||null;if(typeof e=="string")return e;switch(e){case h:return"Fragment";case p:return"Profiler";case _:return"StrictMode";case b:return"Suspense";case z:return"SuspenseList";case L:return"Activity"}if(typeof e=="object")switch(e.$$typeof){case S:return"Portal";case y:return(e.displayName||"Context")+".Provider";case N:return(e._context.displayName||"Context")+".Consumer";case g:var t=e.render;return e=e.displayName,e||(e=t.displayName||t.name||"",e=e!==""?"ForwardRef("+e+")":"ForwardRef"),e;case O:return t=e.displayName||null,t!==null?t:n0(e.type)||"Memo";case X:t=e._payload,e=e._init;try{return n0(e(t))}catch{}}return null}var r0=Array.isArray,R=r.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,G=s.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,I={pending:!1,data:null,method:null,action:null},o0=[],w=-1;function q(e){return{current:e}}function x0(e){0>w||(e.current=o0[w],o0[w]=null,w--)}function a0(e,t){w++,o0[w]=e.current,e.current=t}var t0=q(null),m0=q(null),u0=q(null),g0=q(null);function k0(e,t){switch(a0(u0,t),a0(m0,e),a0(t0,null),t.nodeType){case 9:case 11:e=(e=t.documentElement)&&(e=e.namespaceURI)?d9(e):0;break;default:if(e=t.tagName,t=t.namespaceURI)t=d9(t),e=B9(t,e);else switch(e){case"svg":e=1;break;case"math":e=2;break;default:e=0}}x0(t0),a0(t0,e)}function G0(){x0(t0),x0(m0),x0(u0)}function la(e){e.memoizedState!==null&&a0(g0,e);var t=t0.current,x=B9(t,e.type);t!==x&&(a0(m0,e),a0(t0,x))}function je(e){m0.current===e&&(x0(t0),x0(m0)),g0.current===e&&(x0(g0),Ia._currentValue=I)}var ra=Object.prototype.hasOwnProperty,mt=n.unstable_scheduleCallback,We=n.unstable_cancelCallback,Ie=n.unstable_shouldYield,Xt=n.unstable_requestPaint,re=n.unstable_now,Yt=n.unstable_getCurrentPriorityLevel,Ce=n.unstable_ImmediatePriority,Ki=n.unstable_UserBlockingPriority,oe=n.unstable_NormalPriority,Ff=n.unstable_LowPriority,Ji=n.unstable_IdlePriority,yf=n.log,vf=n.unstable_setDisableYieldValue,oa=null,Ae=null;function Dt(e){if(typeof yf=="function"&&vf(e),Ae&&typeof Ae.setStrictMode=="function")try{Ae.setStrictMode(oa,e)}catch{}}var me=Math.clz32?Math.clz32:bf,pf=Math.log,gf=Math.LN2;function bf(e){return e>>>=0,e===0?32:31-(pf(e)/gf|0)|0}var Dn=256,hn=4194304;function Qt(e){var t=e&42;if(t!==0)return t;switch(e&-e){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return e&4194048;case 4194304:case 8388608:case 16777216:case 33554432:return e&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return e}}function Fn(e,t,x){var a=e.pendingLanes;if(a===0)return 0;var l=0,o=e.suspendedLanes,f=e.pingedLanes;e=e.warmLanes;var m=a&134217727;return m!==0?(a=m&~o,a!==0?l=Qt(a):(f&=m,f!==0?l=Qt(f):x||(x=m&~e,x!==0&&(l=Qt(x))))):(m=a&~o,m!==0?l=Qt(m):f!==0?l=Qt(f):x||(x=a&~e,x!==0&&(l=Qt(x)))),l===0?0:t!==0&&t!==l&&(t&o)===0&&(o=l&-l,x=t&-t,o>=x||o===32&&(x&4194048)!==0)?t:l}function ia(e,t){return(e.pendingLanes&~(e.suspendedLanes&~e.pingedLanes)&t)===0}function kf(e,t){switch(e){case 1:case 2:case 4:case 8:case 64:return t+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return t+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function $i(){var e=Dn;return Dn<<=1,(Dn&4194048)===0&&(Dn=256),e}function Wi(){var e=hn;return hn<<=1,(hn&62914560)===0&&(hn=4194304),e}function tr(e){for(var t=[],x=0;31>x;x++)t.push(e);return t}function sa(e,t){e.pendingLanes|=t,t!==268435456&&(e.suspendedLanes=0,e.pingedLanes=0,e.warmLanes=0)}function Sf(e,t,x,a,l,o){var f=e.pendingLanes;e.pendingLanes=x,e.suspendedLanes=0,e.pingedLanes=0,e.warmLanes=0,e.expiredLanes&=x,e.entangledLanes&=x,e.errorRecoveryDisabledLanes&=x,e.shellSuspendCounter=0;var m=e.entanglements,k=e.expirationTimes,H=e.hiddenUpdates;for(x=f&~x;0<x;){var Z=31-me(x),W=1<<Z;m[Z]=0,k[Z]=-1;var Y=H[Z];if(Y!==null)for(H[Z]=null,Z=0;Z<Y.length;Z++){var Q=Y[Z];Q!==null&&(Q.lane&=-536870913)}x&=~W}a!==0&&Ii(e,a,0),o!==0&&l===0&&e.tag!==0&&(e.suspendedLanes|=o&~(f&~t))}function Ii(e,t,x){e.pendingLanes|=t,e.suspendedLanes&=~t;var a=31-me(t);e.entangledLanes|=t,e.entanglements[a]=e.entanglements[a]|1073741824|x&4194090}function es(e,t){var x=e.entangledLanes|=t;for(e=e.entanglements;x;){var a=31-me(x),l=1<<a;l&t|e[a]&t&&(e[a]|=t),x&=~l}}function xr(e){switch(e){case 2:e=1;break;case 8:e=4;break;case 32:e=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:e=128;break;case 268435456:e=134217728;break;default:e=0}return e}function ar(e){return e&=-e,2<e?8<e?(e&134217727)!==0?32:268435456:8:2}function ts(){var e=G.p;return e!==0?e:(e=window.event,e===void 0?32:N9(e.type))}function wf(e,t){var x=G.p;try{return G.p=e,t()}finally{G.p=x}}var ht=Math.random().toString(36).slice(2),xe="__reactFiber$"+ht,ue="__reactProps$"+ht,dx="__reactContainer$"+ht,nr="__reactEvents$"+ht,Tf="__reactListeners$"+ht,_f="__reactHandles$"+ht,xs="__reactResources$"+ht,ua="__reactMarker$"+ht;function lr(e){delete e[xe],delete e[ue],delete e[nr],delete e[Tf],delete e[_f]}function Bx(e){var t=e[xe];if(t)return t;for(var x=e.parentNode;x;){if(t=x[dx]||x[xe]){if(x=t.alternate,t.child!==null||x!==null&&x.child!==null)for(e=D9(e);e!==null;){if(x=e[xe])return x;e=D9(e)}return t}e=x,x=e.parentNode}return null}function Cx(e){if(e=e[xe]||e[dx]){var t=e.tag;if(t===5||t===6||t===13||t===26||t===27||t===3)return e}return null}function ca(e){var t=e.tag;if(t===5||t===26||t===27||t===6)return e.stateNode;throw Error(i(33))}function Ax(e){var t=e[xs];return t||(t=e[xs]={hoistableStyles:new Map,hoistableScripts:new Map}),t}function K0(e){e[ua]=!0}var as=new Set,ns={};function Gt(e,t){mx(e,t),mx(e+"Capture",t)}function mx(e,t){for(ns[e]=t,e=0;e<t.length;e++)as.add(t[e])}var Rf=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),ls={},rs={};function Of(e){return ra.call(rs,e)?!0:ra.call(ls,e)?!1:Rf.test(e)?rs[e]=!0:(ls[e]=!0,!1)}function yn(e,t,x){if(Of(t))if(x===null)e.removeAttribute(t);else{switch(typeof x){case"undefined":case"function":case"symbol":e.removeAttribute(t);return;case"boolean":var a=t.toLowerCase().slice(0,5);if(a!=="data-"&&a!=="aria-"){e.removeAttribute(t);return}}e.setAttribute(t,""+x)}}function vn(e,t,x){if(x===null)e.removeAttribute(t);else{switch(typeof x){case"undefined":case"function":case"symbol":case"boolean":e.removeAttribute(t);return}e.setAttribute(t,""+x)}}function et(e,t,x,a){if(a===null)e.removeAttribute(x);else{switch(typeof a){case"undefined":case"function":case"symbol":case"boolean":e.removeAttribute(x);return}e.setAttributeNS(t,x,""+a)}}var rr,os;function Dx(e){if(rr===void 0)try{throw Error()}catch(x){var t=x.stack.trim().match(/\n( *(at )?)/);rr=t&&t[1]||"",os=-1<x.stack.indexOf(`
+    at`)?" (<anonymous>)":-1<x.stack.indexOf("@")?"@unknown:0:0":""}return`
+`+rr+e+os}var or=!1;function ir(e,t){if(!e||or)return"";or=!0;var x=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var a={DetermineComponentFrameRoot:function(){try{if(t){var W=function(){throw Error()};if(Object.defineProperty(W.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(W,[])}catch(Q){var Y=Q}Reflect.construct(e,[],W)}else{try{W.call()}catch(Q){Y=Q}e.call(W.prototype)}}else{try{throw Error()}catch(Q){Y=Q}(W=e())&&typeof W.catch=="function"&&W.catch(function(){})}}catch(Q){if(Q&&Y&&typeof Q.stack=="string")return[Q.stack,Y.stack]}return[null,null]}};a.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var l=Object.getOwnPropertyDescriptor(a.DetermineComponentFrameRoot,"name");l&&l.configurable&&Object.defineProperty(a.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var o=a.DetermineComponentFrameRoot(),f=o[0],m=o[1];if(f&&m){var k=f.split(`
+`),H=m.split(`
+`);for(l=a=0;a<k.length&&!k[a].includes("DetermineComponentFrameRoot");)a++;for(;l<H.length&&!H[l].includes("DetermineComponentFrameRoot");)l++;if(a===k.length||l===H.length)for(a=k.length-1,l=H.length-1;1<=a&&0<=l&&k[a]!==H[l];)l--;for(;1<=a&&0<=l;a--,l--)if(k[a]!==H[l]){if(a!==1||l!==1)do if(a--,l--,0>l||k[a]!==H[l]){var Z=`
+`+k[a].replace(" at new "," at ");return e.displayName&&Z.includes("<anonymous>")&&(Z=Z.replace("<anonymous>",e.displayName)),Z}while(1<=a&&0<=l);break}}}finally{or=!1,Error.prepareStackTrace=x}return(x=e?e.displayName||e.name:"")?Dx(x):""}function Nf(e){switch(e.tag){case 26:case 27:case 5:return Dx(e.type);case 16:return Dx("Lazy");case 13:return Dx("Suspense");case 19:return Dx("SuspenseList");case 0:case 15:return ir(e.type,!1);case 11:return ir(e.type.render,!1);case 1:return ir(e.type,!0);case 31:return Dx("Activity");default:return""}}function is(e){try{var t="";do t+=Nf(e),e=e.return;while(e);return t}catch(x){return`
+Error generating stack: `+x.message+`
+`+x.stack}}function ke(e){switch(typeof e){case"bigint":case"boolean":case"number":case"string":case"undefined":return e;case"object":return e;default:return""}}function ss(e){var t=e.type;return(e=e.nodeName)&&e.toLowerCase()==="input"&&(t==="checkbox"||t==="radio")}function Mf(e){var t=ss(e)?"checked":"value",x=Object.getOwnPropertyDescriptor(e.constructor.prototype,t),a=""+e[t];if(!e.hasOwnProperty(t)&&typeof x<"u"&&typeof x.get=="function"&&typeof x.set=="function"){var l=x.get,o=x.set;return Object.defineProperty(e,t,{configurable:!0,get:function(){return l.call(this)},set:function(f){a=""+f,o.call(this,f)}}),Object.defineProperty(e,t,{enumerable:x.enumerable}),{getValue:function(){return a},setValue:function(f){a=""+f},stopTracking:function(){e._valueTracker=null,delete e[t]}}}}function pn(e){e._valueTracker||(e._valueTracker=Mf(e))}function us(e){if(!e)return!1;var t=e._valueTracker;if(!t)return!0;var x=t.getValue(),a="";return e&&(a=ss(e)?e.checked?"true":"false":e.value),e=a,e!==x?(t.setValue(e),!0):!1}function gn(e){if(e=e||(typeof document<"u"?document:void 0),typeof e>"u")return null;try{return e.activeElement||e.body}catch{return e.body}}var jf=/[\n"\\]/g;function Se(e){return e.replace(jf,function(t){return"\\"+t.charCodeAt(0).toString(16)+" "})}function sr(e,t,x,a,l,o,f,m){e.name="",f!=null&&typeof f!="function"&&typeof f!="symbol"&&typeof f!="boolean"?e.type=f:e.removeAttribute("type"),t!=null?f==="number"?(t===0&&e.value===""||e.value!=t)&&(e.value=""+ke(t)):e.value!==""+ke(t)&&(e.value=""+ke(t)):f!=="submit"&&f!=="reset"||e.removeAttribute("value"),t!=null?ur(e,f,ke(t)):x!=null?ur(e,f,ke(x)):a!=null&&e.removeAttribute("value"),l==null&&o!=null&&(e.defaultChecked=!!o),l!=null&&(e.checked=l&&typeof l!="function"&&typeof l!="symbol"),m!=null&&typeof m!="function"&&typeof m!="symbol"&&typeof m!="boolean"?e.name=""+ke(m):e.removeAttribute("name")}function cs(e,t,x,a,l,o,f,m){if(o!=null&&typeof o!="function"&&typeof o!="symbol"&&typeof o!="boolean"&&(e.type=o),t!=null||x!=null){if(!(o!=="submit"&&o!=="reset"||t!=null))return;x=x!=null?""+ke(x):"",t=t!=null?""+ke(t):x,m||t===e.value||(e.value=t),e.defaultValue=t}a=a??l,a=typeof a!="function"&&typeof a!="symbol"&&!!a,e.checked=m?e.checked:!!a,e.defaultChecked=!!a,f!=null&&typeof f!="function"&&typeof f!="symbol"&&typeof f!="boolean"&&(e.name=f)}function ur(e,t,x){t==="number"&&gn(e.ownerDocument)===e||e.defaultValue===""+x||(e.defaultValue=""+x)}function hx(e,t,x,a){if(e=e.options,t){t={};for(var l=0;l<x.length;l++)t["$"+x[l]]=!0;for(x=0;x<e.length;x++)l=t.hasOwnProperty("$"+e[x].value),e[x].selected!==l&&(e[x].selected=l),l&&a&&(e[x].defaultSelected=!0)}else{for(x=""+ke(x),t=null,l=0;l<e.length;l++){if(e[l].value===x){e[l].selected=!0,a&&(e[l].defaultSelected=!0);return}t!==null||e[l].disabled||(t=e[l])}t!==null&&(t.selected=!0)}}function fs(e,t,x){if(t!=null&&(t=""+ke(t),t!==e.value&&(e.value=t),x==null)){e.defaultValue!==t&&(e.defaultValue=t);return}e.defaultValue=x!=null?""+ke(x):""}function Es(e,t,x,a){if(t==null){if(a!=null){if(x!=null)throw Error(i(92));if(r0(a)){if(1<a.length)throw Error(i(93));a=a[0]}x=a}x==null&&(x=""),t=x}x=ke(t),e.defaultValue=x,a=e.textContent,a===x&&a!==""&&a!==null&&(e.value=a)}function Fx(e,t){if(t){var x=e.firstChild;if(x&&x===e.lastChild&&x.nodeType===3){x.nodeValue=t;return}}e.textContent=t}var zf=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function ds(e,t,x){var a=t.indexOf("--")===0;x==null||typeof x=="boolean"||x===""?a?e.setProperty(t,""):t==="float"?e.cssFloat="":e[t]="":a?e.setProperty(t,x):typeof x!="number"||x===0||zf.has(t)?t==="float"?e.cssFloat=x:e[t]=(""+x).trim():e[t]=x+"px"}function Bs(e,t,x){if(t!=null&&typeof t!="object")throw Error(i(62));if(e=e.style,x!=null){for(var a in x)!x.hasOwnProperty(a)||t!=null&&t.hasOwnProperty(a)||(a.indexOf("--")===0?e.setProperty(a,""):a==="float"?e.cssFloat="":e[a]="");for(var l in t)a=t[l],t.hasOwnProperty(l)&&x[l]!==a&&ds(e,l,a)}else for(var o in t)t.hasOwnProperty(o)&&ds(e,o,t[o])}function cr(e){if(e.indexOf("-")===-1)return!1;switch(e){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var Uf=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),Lf=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function bn(e){return Lf.test(""+e)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":e}var fr=null;function Er(e){return e=e.target||e.srcElement||window,e.correspondingUseElement&&(e=e.correspondingUseElement),e.nodeType===3?e.parentNode:e}var yx=null,vx=null;function Cs(e){var t=Cx(e);if(t&&(e=t.stateNode)){var x=e[ue]||null;e:switch(e=t.stateNode,t.type){case"input":if(sr(e,x.value,x.defaultValue,x.defaultValue,x.checked,x.defaultChecked,x.type,x.name),t=x.name,x.type==="radio"&&t!=null){for(x=e;x.parentNode;)x=x.parentNode;for(x=x.querySelectorAll('input[name="'+Se(""+t)+'"][type="radio"]'),t=0;t<x.length;t++){var a=x[t];if(a!==e&&a.form===e.form){var l=a[ue]||null;if(!l)throw Error(i(90));sr(a,l.value,l.defaultValue,l.defaultValue,l.checked,l.defaultChecked,l.type,l.name)}}for(t=0;t<x.length;t++)a=x[t],a.form===e.form&&us(a)}break e;case"textarea":fs(e,x.value,x.defaultValue);break e;case"select":t=x.value,t!=null&&hx(e,!!x.multiple,t,!1)}}}var dr=!1;function As(e,t,x){if(dr)return e(t,x);dr=!0;try{var a=e(t);return a}finally{if(dr=!1,(yx!==null||vx!==null)&&(cl(),yx&&(t=yx,e=vx,vx=yx=null,Cs(t),e)))for(t=0;t<e.length;t++)Cs(e[t])}}function fa(e,t){var x=e.stateNode;if(x===null)return null;var a=x[ue]||null;if(a===null)return null;x=a[t];e:switch(t){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(a=!a.disabled)||(e=e.type,a=!(e==="button"||e==="input"||e==="select"||e==="textarea")),e=!a;break e;default:e=!1}if(e)return null;if(x&&typeof x!="function")throw Error(i(231,t,typeof x));return x}var tt=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),Br=!1;if(tt)try{var Ea={};Object.defineProperty(Ea,"passive",{get:function(){Br=!0}}),window.addEventListener("test",Ea,Ea),window.removeEventListener("test",Ea,Ea)}catch{Br=!1}var Ft=null,Cr=null,kn=null;function ms(){if(kn)return kn;var e,t=Cr,x=t.length,a,l="value"in Ft?Ft.value:Ft.textContent,o=l.length;for(e=0;e<x&&t[e]===l[e];e++);var f=x-e;for(a=1;a<=f&&t[x-a]===l[o-a];a++);return kn=l.slice(e,1<a?1-a:void 0)}function Sn(e){var t=e.keyCode;return"charCode"in e?(e=e.charCode,e===0&&t===13&&(e=13)):e=t,e===10&&(e=13),32<=e||e===13?e:0}function wn(){return!0}function Ds(){return!1}function ce(e){function t(x,a,l,o,f){this._reactName=x,this._targetInst=l,this.type=a,this.nativeEvent=o,this.target=f,this.currentTarget=null;for(var m in e)e.hasOwnProperty(m)&&(x=e[m],this[m]=x?x(o):o[m]);return this.isDefaultPrevented=(o.defaultPrevented!=null?o.defaultPrevented:o.returnValue===!1)?wn:Ds,this.isPropagationStopped=Ds,this}return C(t.prototype,{preventDefault:function(){this.defaultPrevented=!0;var x=this.nativeEvent;x&&(x.preventDefault?x.preventDefault():typeof x.returnValue!="unknown"&&(x.returnValue=!1),this.isDefaultPrevented=wn)},stopPropagation:function(){var x=this.nativeEvent;x&&(x.stopPropagation?x.stopPropagation():typeof x.cancelBubble!="unknown"&&(x.cancelBubble=!0),this.isPropagationStopped=wn)},persist:function(){},isPersistent:wn}),t}var Vt={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(e){return e.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Tn=ce(Vt),da=C({},Vt,{view:0,detail:0}),Pf=ce(da),Ar,mr,Ba,_n=C({},da,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:hr,button:0,buttons:0,relatedTarget:function(e){return e.relatedTarget===void 0?e.fromElement===e.srcElement?e.toElement:e.fromElement:e.relatedTarget},movementX:function(e){return"movementX"in e?e.movementX:(e!==Ba&&(Ba&&e.type==="mousemove"?(Ar=e.screenX-Ba.screenX,mr=e.screenY-Ba.screenY):mr=Ar=0,Ba=e),Ar)},movementY:function(e){return"movementY"in e?e.movementY:mr}}),hs=ce(_n),Hf=C({},_n,{dataTransfer:0}),qf=ce(Hf),Xf=C({},da,{relatedTarget:0}),Dr=ce(Xf),Yf=C({},Vt,{animationName:0,elapsedTime:0,pseudoElement:0}),Qf=ce(Yf),Gf=C({},Vt,{clipboardData:function(e){return"clipboardData"in e?e.clipboardData:window.clipboardData}}),Vf=ce(Gf),Zf=C({},Vt,{data:0}),Fs=ce(Zf),Kf={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},Jf={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},$f={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function Wf(e){var t=this.nativeEvent;return t.getModifierState?t.getModifierState(e):(e=$f[e])?!!t[e]:!1}function hr(){return Wf}var If=C({},da,{key:function(e){if(e.key){var t=Kf[e.key]||e.key;if(t!=="Unidentified")return t}return e.type==="keypress"?(e=Sn(e),e===13?"Enter":String.fromCharCode(e)):e.type==="keydown"||e.type==="keyup"?Jf[e.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:hr,charCode:function(e){return e.type==="keypress"?Sn(e):0},keyCode:function(e){return e.type==="keydown"||e.type==="keyup"?e.keyCode:0},which:function(e){return e.type==="keypress"?Sn(e):e.type==="keydown"||e.type==="keyup"?e.keyCode:0}}),eE=ce(If),tE=C({},_n,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),ys=ce(tE),xE=C({},da,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:hr}),aE=ce(xE),nE=C({},Vt,{propertyName:0,elapsedTime:0,pseudoElement:0}),lE=ce(nE),rE=C({},_n,{deltaX:function(e){return"deltaX"in e?e.deltaX:"wheelDeltaX"in e?-e.wheelDeltaX:0},deltaY:function(e){return"deltaY"in e?e.deltaY:"wheelDeltaY"in e?-e.wheelDeltaY:"wheelDelta"in e?-e.wheelDelta:0},deltaZ:0,deltaMode:0}),oE=ce(rE),iE=C({},Vt,{newState:0,oldState:0}),sE=ce(iE),uE=[9,13,27,32],Fr=tt&&"CompositionEvent"in window,Ca=null;tt&&"documentMode"in document&&(Ca=document.documentMode);var cE=tt&&"TextEvent"in window&&!Ca,vs=tt&&(!Fr||Ca&&8<Ca&&11>=Ca),ps=" ",gs=!1;function bs(e,t){switch(e){case"keyup":return uE.indexOf(t.keyCode)!==-1;case"keydown":return t.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function ks(e){return e=e.detail,typeof e=="object"&&"data"in e?e.data:null}var px=!1;function fE(e,t){switch(e){case"compositionend":return ks(t);case"keypress":return t.which!==32?null:(gs=!0,ps);case"textInput":return e=t.data,e===ps&&gs?null:e;default:return null}}function EE(e,t){if(px)return e==="compositionend"||!Fr&&bs(e,t)?(e=ms(),kn=Cr=Ft=null,px=!1,e):null;switch(e){case"paste":return null;case"keypress":if(!(t.ctrlKey||t.altKey||t.metaKey)||t.ctrlKey&&t.altKey){if(t.char&&1<t.char.length)return t.char;if(t.which)return String.fromCharCode(t.which)}return null;case"compositionend":return vs&&t.locale!=="ko"?null:t.data;default:return null}}var dE={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function Ss(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t==="input"?!!dE[e.type]:t==="textarea"}function ws(e,t,x,a){yx?vx?vx.push(a):vx=[a]:yx=a,t=Al(t,"onChange"),0<t.length&&(x=new Tn("onChange","change",null,x,a),e.push({event:x,listeners:t}))}var Aa=null,ma=null;function BE(e){s9(e,0)}function Rn(e){var t=ca(e);if(us(t))return e}function Ts(e,t){if(e==="change")return t}var _s=!1;if(tt){var yr;if(tt){var vr="oninput"in document;if(!vr){var Rs=document.createElement("div");Rs.setAttribute("oninput","return;"),vr=typeof Rs.oninput=="function"}yr=vr}else yr=!1;_s=yr&&(!document.documentMode||9<document.documentMode)}function Os(){Aa&&(Aa.detachEvent("onpropertychange",Ns),ma=Aa=null)}function Ns(e){if(e.propertyName==="value"&&Rn(ma)){var t=[];ws(t,ma,e,Er(e)),As(BE,t)}}function CE(e,t,x){e==="focusin"?(Os(),Aa=t,ma=x,Aa.attachEvent("onpropertychange",Ns)):e==="focusout"&&Os()}function AE(e){if(e==="selectionchange"||e==="keyup"||e==="keydown")return Rn(ma)}function mE(e,t){if(e==="click")return Rn(t)}function DE(e,t){if(e==="input"||e==="change")return Rn(t)}function hE(e,t){return e===t&&(e!==0||1/e===1/t)||e!==e&&t!==t}var De=typeof Object.is=="function"?Object.is:hE;function Da(e,t){if(De(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;var x=Object.keys(e),a=Object.keys(t);if(x.length!==a.length)return!1;for(a=0;a<x.length;a++){var l=x[a];if(!ra.call(t,l)||!De(e[l],t[l]))return!1}return!0}function Ms(e){for(;e&&e.firstChild;)e=e.firstChild;return e}function js(e,t){var x=Ms(e);e=0;for(var a;x;){if(x.nodeType===3){if(a=e+x.textContent.length,e<=t&&a>=t)return{node:x,offset:t-e};e=a}e:{for(;x;){if(x.nextSibling){x=x.nextSibling;break e}x=x.parentNode}x=void 0}x=Ms(x)}}function zs(e,t){return e&&t?e===t?!0:e&&e.nodeType===3?!1:t&&t.nodeType===3?zs(e,t.parentNode):"contains"in e?e.contains(t):e.compareDocumentPosition?!!(e.compareDocumentPosition(t)&16):!1:!1}function Us(e){e=e!=null&&e.ownerDocument!=null&&e.ownerDocument.defaultView!=null?e.ownerDocument.defaultView:window;for(var t=gn(e.document);t instanceof e.HTMLIFrameElement;){try{var x=typeof t.contentWindow.location.href=="string"}catch{x=!1}if(x)e=t.contentWindow;else break;t=gn(e.document)}return t}function pr(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t&&(t==="input"&&(e.type==="text"||e.type==="search"||e.type==="tel"||e.type==="url"||e.type==="password")||t==="textarea"||e.contentEditable==="true")}var FE=tt&&"documentMode"in document&&11>=document.documentMode,gx=null,gr=null,ha=null,br=!1;function Ls(e,t,x){var a=x.window===x?x.document:x.nodeType===9?x:x.ownerDocument;br||gx==null||gx!==gn(a)||(a=gx,"selectionStart"in a&&pr(a)?a={start:a.selectionStart,end:a.selectionEnd}:(a=(a.ownerDocument&&a.ownerDocument.defaultView||window).getSelection(),a={anchorNode:a.anchorNode,anchorOffset:a.anchorOffset,focusNode:a.focusNode,focusOffset:a.focusOffset}),ha&&Da(ha,a)||(ha=a,a=Al(gr,"onSelect"),0<a.length&&(t=new Tn("onSelect","select",null,t,x),e.push({event:t,listeners:a}),t.target=gx)))}function Zt(e,t){var x={};return x[e.toLowerCase()]=t.toLowerCase(),x["Webkit"+e]="webkit"+t,x["Moz"+e]="moz"+t,x}var bx={animationend:Zt("Animation","AnimationEnd"),animationiteration:Zt("Animation","AnimationIteration"),animationstart:Zt("Animation","AnimationStart"),transitionrun:Zt("Transition","TransitionRun"),transitionstart:Zt("Transition","TransitionStart"),transitioncancel:Zt("Transition","TransitionCancel"),transitionend:Zt("Transition","TransitionEnd")},kr={},Ps={};tt&&(Ps=document.createElement("div").style,"AnimationEvent"in window||(delete bx.animationend.animation,delete bx.animationiteration.animation,delete bx.animationstart.animation),"TransitionEvent"in window||delete bx.transitionend.transition);function Kt(e){if(kr[e])return kr[e];if(!bx[e])return e;var t=bx[e],x;for(x in t)if(t.hasOwnProperty(x)&&x in Ps)return kr[e]=t[x];return e}var Hs=Kt("animationend"),qs=Kt("animationiteration"),Xs=Kt("animationstart"),yE=Kt("transitionrun"),vE=Kt("transitionstart"),pE=Kt("transitioncancel"),Ys=Kt("transitionend"),Qs=new Map,Sr="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");Sr.push("scrollEnd");function ze(e,t){Qs.set(e,t),Gt(t,[e])}var Gs=new WeakMap;function we(e,t){if(typeof e=="object"&&e!==null){var x=Gs.get(e);return x!==void 0?x:(t={value:e,source:t,stack:is(t)},Gs.set(e,t),t)}return{value:e,source:t,stack:is(t)}}var Te=[],kx=0,wr=0;function On(){for(var e=kx,t=wr=kx=0;t<e;){var x=Te[t];Te[t++]=null;var a=Te[t];Te[t++]=null;var l=Te[t];Te[t++]=null;var o=Te[t];if(Te[t++]=null,a!==null&&l!==null){var f=a.pending;f===null?l.next=l:(l.next=f.next,f.next=l),a.pending=l}o!==0&&Vs(x,l,o)}}function Nn(e,t,x,a){Te[kx++]=e,Te[kx++]=t,Te[kx++]=x,Te[kx++]=a,wr|=a,e.lanes|=a,e=e.alternate,e!==null&&(e.lanes|=a)}function Tr(e,t,x,a){return Nn(e,t,x,a),Mn(e)}function Sx(e,t){return Nn(e,null,null,t),Mn(e)}function Vs(e,t,x){e.lanes|=x;var a=e.alternate;a!==null&&(a.lanes|=x);for(var l=!1,o=e.return;o!==null;)o.childLanes|=x,a=o.alternate,a!==null&&(a.childLanes|=x),o.tag===22&&(e=o.stateNode,e===null||e._visibility&1||(l=!0)),e=o,o=o.return;return e.tag===3?(o=e.stateNode,l&&t!==null&&(l=31-me(x),e=o.hiddenUpdates,a=e[l],a===null?e[l]=[t]:a.push(t),t.lane=x|536870912),o):null}function Mn(e){if(50<Qa)throw Qa=0,zo=null,Error(i(185));for(var t=e.return;t!==null;)e=t,t=e.return;return e.tag===3?e.stateNode:null}var wx={};function gE(e,t,x,a){this.tag=e,this.key=x,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=t,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=a,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function he(e,t,x,a){return new gE(e,t,x,a)}function _r(e){return e=e.prototype,!(!e||!e.isReactComponent)}function xt(e,t){var x=e.alternate;return x===null?(x=he(e.tag,t,e.key,e.mode),x.elementType=e.elementType,x.type=e.type,x.stateNode=e.stateNode,x.alternate=e,e.alternate=x):(x.pendingProps=t,x.type=e.type,x.flags=0,x.subtreeFlags=0,x.deletions=null),x.flags=e.flags&65011712,x.childLanes=e.childLanes,x.lanes=e.lanes,x.child=e.child,x.memoizedProps=e.memoizedProps,x.memoizedState=e.memoizedState,x.updateQueue=e.updateQueue,t=e.dependencies,x.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext},x.sibling=e.sibling,x.index=e.index,x.ref=e.ref,x.refCleanup=e.refCleanup,x}function Zs(e,t){e.flags&=65011714;var x=e.alternate;return x===null?(e.childLanes=0,e.lanes=t,e.child=null,e.subtreeFlags=0,e.memoizedProps=null,e.memoizedState=null,e.updateQueue=null,e.dependencies=null,e.stateNode=null):(e.childLanes=x.childLanes,e.lanes=x.lanes,e.child=x.child,e.subtreeFlags=0,e.deletions=null,e.memoizedProps=x.memoizedProps,e.memoizedState=x.memoizedState,e.updateQueue=x.updateQueue,e.type=x.type,t=x.dependencies,e.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext}),e}function jn(e,t,x,a,l,o){var f=0;if(a=e,typeof e=="function")_r(e)&&(f=1);else if(typeof e=="string")f=k6(e,x,t0.current)?26:e==="html"||e==="head"||e==="body"?27:5;else e:switch(e){case L:return e=he(31,x,t,l),e.elementType=L,e.lanes=o,e;case h:return Jt(x.children,l,o,t);case _:f=8,l|=24;break;case p:return e=he(12,x,t,l|2),e.elementType=p,e.lanes=o,e;case b:return e=he(13,x,t,l),e.elementType=b,e.lanes=o,e;case z:return e=he(19,x,t,l),e.elementType=z,e.lanes=o,e;default:if(typeof e=="object"&&e!==null)switch(e.$$typeof){case T:case y:f=10;break e;case N:f=9;break e;case g:f=11;break e;case O:f=14;break e;case X:f=16,a=null;break e}f=29,x=Error(i(130,e===null?"null":typeof e,"")),a=null}return t=he(f,x,t,l),t.elementType=e,t.type=a,t.lanes=o,t}function Jt(e,t,x,a){return e=he(7,e,a,t),e.lanes=x,e}function Rr(e,t,x){return e=he(6,e,null,t),e.lanes=x,e}function Or(e,t,x){return t=he(4,e.children!==null?e.children:[],e.key,t),t.lanes=x,t.stateNode={containerInfo:e.containerInfo,pendingChildren:null,implementation:e.implementation},t}var Tx=[],_x=0,zn=null,Un=0,_e=[],Re=0,$t=null,at=1,nt="";function Wt(e,t){Tx[_x++]=Un,Tx[_x++]=zn,zn=e,Un=t}function Ks(e,t,x){_e[Re++]=at,_e[Re++]=nt,_e[Re++]=$t,$t=e;var a=at;e=nt;var l=32-me(a)-1;a&=~(1<<l),x+=1;var o=32-me(t)+l;if(30<o){var f=l-l%5;o=(a&(1<<f)-1).toString(32),a>>=f,l-=f,at=1<<32-me(t)+l|x<<l|a,nt=o+e}else at=1<<o|x<<l|a,nt=e}function Nr(e){e.return!==null&&(Wt(e,1),Ks(e,1,0))}function Mr(e){for(;e===zn;)zn=Tx[--_x],Tx[_x]=null,Un=Tx[--_x],Tx[_x]=null;for(;e===$t;)$t=_e[--Re],_e[Re]=null,nt=_e[--Re],_e[Re]=null,at=_e[--Re],_e[Re]=null}var ie=null,L0=null,b0=!1,It=null,Ye=!1,jr=Error(i(519));function ex(e){var t=Error(i(418,""));throw va(we(t,e)),jr}function Js(e){var t=e.stateNode,x=e.type,a=e.memoizedProps;switch(t[xe]=e,t[ue]=a,x){case"dialog":F0("cancel",t),F0("close",t);break;case"iframe":case"object":case"embed":F0("load",t);break;case"video":case"audio":for(x=0;x<Va.length;x++)F0(Va[x],t);break;case"source":F0("error",t);break;case"img":case"image":case"link":F0("error",t),F0("load",t);break;case"details":F0("toggle",t);break;case"input":F0("invalid",t),cs(t,a.value,a.defaultValue,a.checked,a.defaultChecked,a.type,a.name,!0),pn(t);break;case"select":F0("invalid",t);break;case"textarea":F0("invalid",t),Es(t,a.value,a.defaultValue,a.children),pn(t)}x=a.children,typeof x!="string"&&typeof x!="number"&&typeof x!="bigint"||t.textContent===""+x||a.suppressHydrationWarning===!0||E9(t.textContent,x)?(a.popover!=null&&(F0("beforetoggle",t),F0("toggle",t)),a.onScroll!=null&&F0("scroll",t),a.onScrollEnd!=null&&F0("scrollend",t),a.onClick!=null&&(t.onclick=ml),t=!0):t=!1,t||ex(e)}function $s(e){for(ie=e.return;ie;)switch(ie.tag){case 5:case 13:Ye=!1;return;case 27:case 3:Ye=!0;return;default:ie=ie.return}}function Fa(e){if(e!==ie)return!1;if(!b0)return $s(e),b0=!0,!1;var t=e.tag,x;if((x=t!==3&&t!==27)&&((x=t===5)&&(x=e.type,x=!(x!=="form"&&x!=="button")||Io(e.type,e.memoizedProps)),x=!x),x&&L0&&ex(e),$s(e),t===13){if(e=e.memoizedState,e=e!==null?e.dehydrated:null,!e)throw Error(i(317));e:{for(e=e.nextSibling,t=0;e;){if(e.nodeType===8)if(x=e.data,x==="/$"){if(t===0){L0=Le(e.nextSibling);break e}t--}else x!=="$"&&x!=="$!"&&x!=="$?"||t++;e=e.nextSibling}L0=null}}else t===27?(t=L0,zt(e.type)?(e=ai,ai=null,L0=e):L0=t):L0=ie?Le(e.stateNode.nextSibling):null;return!0}function ya(){L0=ie=null,b0=!1}function Ws(){var e=It;return e!==null&&(de===null?de=e:de.push.apply(de,e),It=null),e}function va(e){It===null?It=[e]:It.push(e)}var zr=q(null),tx=null,lt=null;function yt(e,t,x){a0(zr,t._currentValue),t._currentValue=x}function rt(e){e._currentValue=zr.current,x0(zr)}function Ur(e,t,x){for(;e!==null;){var a=e.alternate;if((e.childLanes&t)!==t?(e.childLanes|=t,a!==null&&(a.childLanes|=t)):a!==null&&(a.childLanes&t)!==t&&(a.childLanes|=t),e===x)break;e=e.return}}function Lr(e,t,x,a){var l=e.child;for(l!==null&&(l.return=e);l!==null;){var o=l.dependencies;if(o!==null){var f=l.child;o=o.firstContext;e:for(;o!==null;){var m=o;o=l;for(var k=0;k<t.length;k++)if(m.context===t[k]){o.lanes|=x,m=o.alternate,m!==null&&(m.lanes|=x),Ur(o.return,x,e),a||(f=null);break e}o=m.next}}else if(l.tag===18){if(f=l.return,f===null)throw Error(i(341));f.lanes|=x,o=f.alternate,o!==null&&(o.lanes|=x),Ur(f,x,e),f=null}else f=l.child;if(f!==null)f.return=l;else for(f=l;f!==null;){if(f===e){f=null;break}if(l=f.sibling,l!==null){l.return=f.return,f=l;break}f=f.return}l=f}}function pa(e,t,x,a){e=null;for(var l=t,o=!1;l!==null;){if(!o){if((l.flags&524288)!==0)o=!0;else if((l.flags&262144)!==0)break}if(l.tag===10){var f=l.alternate;if(f===null)throw Error(i(387));if(f=f.memoizedProps,f!==null){var m=l.type;De(l.pendingProps.value,f.value)||(e!==null?e.push(m):e=[m])}}else if(l===g0.current){if(f=l.alternate,f===null)throw Error(i(387));f.memoizedState.memoizedState!==l.memoizedState.memoizedState&&(e!==null?e.push(Ia):e=[Ia])}l=l.return}e!==null&&Lr(t,e,x,a),t.flags|=262144}function Ln(e){for(e=e.firstContext;e!==null;){if(!De(e.context._currentValue,e.memoizedValue))return!0;e=e.next}return!1}function xx(e){tx=e,lt=null,e=e.dependencies,e!==null&&(e.firstContext=null)}function ae(e){return Is(tx,e)}function Pn(e,t){return tx===null&&xx(e),Is(e,t)}function Is(e,t){var x=t._currentValue;if(t={context:t,memoizedValue:x,next:null},lt===null){if(e===null)throw Error(i(308));lt=t,e.dependencies={lanes:0,firstContext:t},e.flags|=524288}else lt=lt.next=t;return x}var bE=typeof AbortController<"u"?AbortController:function(){var e=[],t=this.signal={aborted:!1,addEventListener:function(x,a){e.push(a)}};this.abort=function(){t.aborted=!0,e.forEach(function(x){return x()})}},kE=n.unstable_scheduleCallback,SE=n.unstable_NormalPriority,V0={$$typeof:y,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function Pr(){return{controller:new bE,data:new Map,refCount:0}}function ga(e){e.refCount--,e.refCount===0&&kE(SE,function(){e.controller.abort()})}var ba=null,Hr=0,Rx=0,Ox=null;function wE(e,t){if(ba===null){var x=ba=[];Hr=0,Rx=Yo(),Ox={status:"pending",value:void 0,then:function(a){x.push(a)}}}return Hr++,t.then(eu,eu),t}function eu(){if(--Hr===0&&ba!==null){Ox!==null&&(Ox.status="fulfilled");var e=ba;ba=null,Rx=0,Ox=null;for(var t=0;t<e.length;t++)(0,e[t])()}}function TE(e,t){var x=[],a={status:"pending",value:null,reason:null,then:function(l){x.push(l)}};return e.then(function(){a.status="fulfilled",a.value=t;for(var l=0;l<x.length;l++)(0,x[l])(t)},function(l){for(a.status="rejected",a.reason=l,l=0;l<x.length;l++)(0,x[l])(void 0)}),a}var tu=R.S;R.S=function(e,t){typeof t=="object"&&t!==null&&typeof t.then=="function"&&wE(e,t),tu!==null&&tu(e,t)};var ax=q(null);function qr(){var e=ax.current;return e!==null?e:N0.pooledCache}function Hn(e,t){t===null?a0(ax,ax.current):a0(ax,t.pool)}function xu(){var e=qr();return e===null?null:{parent:V0._currentValue,pool:e}}var ka=Error(i(460)),au=Error(i(474)),qn=Error(i(542)),Xr={then:function(){}};function nu(e){return e=e.status,e==="fulfilled"||e==="rejected"}function Xn(){}function lu(e,t,x){switch(x=e[x],x===void 0?e.push(t):x!==t&&(t.then(Xn,Xn),t=x),t.status){case"fulfilled":return t.value;case"rejected":throw e=t.reason,ou(e),e;default:if(typeof t.status=="string")t.then(Xn,Xn);else{if(e=N0,e!==null&&100<e.shellSuspendCounter)throw Error(i(482));e=t,e.status="pending",e.then(function(a){if(t.status==="pending"){var l=t;l.status="fulfilled",l.value=a}},function(a){if(t.status==="pending"){var l=t;l.status="rejected",l.reason=a}})}switch(t.status){case"fulfilled":return t.value;case"rejected":throw e=t.reason,ou(e),e}throw Sa=t,ka}}var Sa=null;function ru(){if(Sa===null)throw Error(i(459));var e=Sa;return Sa=null,e}function ou(e){if(e===ka||e===qn)throw Error(i(483))}var vt=!1;function Yr(e){e.updateQueue={baseState:e.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function Qr(e,t){e=e.updateQueue,t.updateQueue===e&&(t.updateQueue={baseState:e.baseState,firstBaseUpdate:e.firstBaseUpdate,lastBaseUpdate:e.lastBaseUpdate,shared:e.shared,callbacks:null})}function pt(e){return{lane:e,tag:0,payload:null,callback:null,next:null}}function gt(e,t,x){var a=e.updateQueue;if(a===null)return null;if(a=a.shared,(S0&2)!==0){var l=a.pending;return l===null?t.next=t:(t.next=l.next,l.next=t),a.pending=t,t=Mn(e),Vs(e,null,x),t}return Nn(e,a,t,x),Mn(e)}function wa(e,t,x){if(t=t.updateQueue,t!==null&&(t=t.shared,(x&4194048)!==0)){var a=t.lanes;a&=e.pendingLanes,x|=a,t.lanes=x,es(e,x)}}function Gr(e,t){var x=e.updateQueue,a=e.alternate;if(a!==null&&(a=a.updateQueue,x===a)){var l=null,o=null;if(x=x.firstBaseUpdate,x!==null){do{var f={lane:x.lane,tag:x.tag,payload:x.payload,callback:null,next:null};o===null?l=o=f:o=o.next=f,x=x.next}while(x!==null);o===null?l=o=t:o=o.next=t}else l=o=t;x={baseState:a.baseState,firstBaseUpdate:l,lastBaseUpdate:o,shared:a.shared,callbacks:a.callbacks},e.updateQueue=x;return}e=x.lastBaseUpdate,e===null?x.firstBaseUpdate=t:e.next=t,x.lastBaseUpdate=t}var Vr=!1;function Ta(){if(Vr){var e=Ox;if(e!==null)throw e}}function _a(e,t,x,a){Vr=!1;var l=e.updateQueue;vt=!1;var o=l.firstBaseUpdate,f=l.lastBaseUpdate,m=l.shared.pending;if(m!==null){l.shared.pending=null;var k=m,H=k.next;k.next=null,f===null?o=H:f.next=H,f=k;var Z=e.alternate;Z!==null&&(Z=Z.updateQueue,m=Z.lastBaseUpdate,m!==f&&(m===null?Z.firstBaseUpdate=H:m.next=H,Z.lastBaseUpdate=k))}if(o!==null){var W=l.baseState;f=0,Z=H=k=null,m=o;do{var Y=m.lane&-536870913,Q=Y!==m.lane;if(Q?(y0&Y)===Y:(a&Y)===Y){Y!==0&&Y===Rx&&(Vr=!0),Z!==null&&(Z=Z.next={lane:0,tag:m.tag,payload:m.payload,callback:null,next:null});e:{var d0=e,f0=m;Y=t;var R0=x;switch(f0.tag){case 1:if(d0=f0.payload,typeof d0=="function"){W=d0.call(R0,W,Y);break e}W=d0;break e;case 3:d0.flags=d0.flags&-65537|128;case 0:if(d0=f0.payload,Y=typeof d0=="function"?d0.call(R0,W,Y):d0,Y==null)break e;W=C({},W,Y);break e;case 2:vt=!0}}Y=m.callback,Y!==null&&(e.flags|=64,Q&&(e.flags|=8192),Q=l.callbacks,Q===null?l.callbacks=[Y]:Q.push(Y))}else Q={lane:Y,tag:m.tag,payload:m.payload,callback:m.callback,next:null},Z===null?(H=Z=Q,k=W):Z=Z.next=Q,f|=Y;if(m=m.next,m===null){if(m=l.shared.pending,m===null)break;Q=m,m=Q.next,Q.next=null,l.lastBaseUpdate=Q,l.shared.pending=null}}while(!0);Z===null&&(k=W),l.baseState=k,l.firstBaseUpdate=H,l.lastBaseUpdate=Z,o===null&&(l.shared.lanes=0),Ot|=f,e.lanes=f,e.memoizedState=W}}function iu(e,t){if(typeof e!="function")throw Error(i(191,e));e.call(t)}function su(e,t){var x=e.callbacks;if(x!==null)for(e.callbacks=null,e=0;e<x.length;e++)iu(x[e],t)}var Nx=q(null),Yn=q(0);function uu(e,t){e=Et,a0(Yn,e),a0(Nx,t),Et=e|t.baseLanes}function Zr(){a0(Yn,Et),a0(Nx,Nx.current)}function Kr(){Et=Yn.current,x0(Nx),x0(Yn)}var bt=0,A0=null,T0=null,Y0=null,Qn=!1,Mx=!1,nx=!1,Gn=0,Ra=0,jx=null,_E=0;function q0(){throw Error(i(321))}function Jr(e,t){if(t===null)return!1;for(var x=0;x<t.length&&x<e.length;x++)if(!De(e[x],t[x]))return!1;return!0}function $r(e,t,x,a,l,o){return bt=o,A0=t,t.memoizedState=null,t.updateQueue=null,t.lanes=0,R.H=e===null||e.memoizedState===null?Vu:Zu,nx=!1,o=x(a,l),nx=!1,Mx&&(o=fu(t,x,a,l)),cu(e),o}function cu(e){R.H=Wn;var t=T0!==null&&T0.next!==null;if(bt=0,Y0=T0=A0=null,Qn=!1,Ra=0,jx=null,t)throw Error(i(300));e===null||J0||(e=e.dependencies,e!==null&&Ln(e)&&(J0=!0))}function fu(e,t,x,a){A0=e;var l=0;do{if(Mx&&(jx=null),Ra=0,Mx=!1,25<=l)throw Error(i(301));if(l+=1,Y0=T0=null,e.updateQueue!=null){var o=e.updateQueue;o.lastEffect=null,o.events=null,o.stores=null,o.memoCache!=null&&(o.memoCache.index=0)}R.H=UE,o=t(x,a)}while(Mx);return o}function RE(){var e=R.H,t=e.useState()[0];return t=typeof t.then=="function"?Oa(t):t,e=e.useState()[0],(T0!==null?T0.memoizedState:null)!==e&&(A0.flags|=1024),t}function Wr(){var e=Gn!==0;return Gn=0,e}function Ir(e,t,x){t.updateQueue=e.updateQueue,t.flags&=-2053,e.lanes&=~x}function eo(e){if(Qn){for(e=e.memoizedState;e!==null;){var t=e.queue;t!==null&&(t.pending=null),e=e.next}Qn=!1}bt=0,Y0=T0=A0=null,Mx=!1,Ra=Gn=0,jx=null}function fe(){var e={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return Y0===null?A0.memoizedState=Y0=e:Y0=Y0.next=e,Y0}function Q0(){if(T0===null){var e=A0.alternate;e=e!==null?e.memoizedState:null}else e=T0.next;var t=Y0===null?A0.memoizedState:Y0.next;if(t!==null)Y0=t,T0=e;else{if(e===null)throw A0.alternate===null?Error(i(467)):Error(i(310));T0=e,e={memoizedState:T0.memoizedState,baseState:T0.baseState,baseQueue:T0.baseQueue,queue:T0.queue,next:null},Y0===null?A0.memoizedState=Y0=e:Y0=Y0.next=e}return Y0}function to(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function Oa(e){var t=Ra;return Ra+=1,jx===null&&(jx=[]),e=lu(jx,e,t),t=A0,(Y0===null?t.memoizedState:Y0.next)===null&&(t=t.alternate,R.H=t===null||t.memoizedState===null?Vu:Zu),e}function Vn(e){if(e!==null&&typeof e=="object"){if(typeof e.then=="function")return Oa(e);if(e.$$typeof===y)return ae(e)}throw Error(i(438,String(e)))}function xo(e){var t=null,x=A0.updateQueue;if(x!==null&&(t=x.memoCache),t==null){var a=A0.alternate;a!==null&&(a=a.updateQueue,a!==null&&(a=a.memoCache,a!=null&&(t={data:a.data.map(function(l){return l.slice()}),index:0})))}if(t==null&&(t={data:[],index:0}),x===null&&(x=to(),A0.updateQueue=x),x.memoCache=t,x=t.data[t.index],x===void 0)for(x=t.data[t.index]=Array(e),a=0;a<e;a++)x[a]=$;return t.index++,x}function ot(e,t){return typeof t=="function"?t(e):t}function Zn(e){var t=Q0();return ao(t,T0,e)}function ao(e,t,x){var a=e.queue;if(a===null)throw Error(i(311));a.lastRenderedReducer=x;var l=e.baseQueue,o=a.pending;if(o!==null){if(l!==null){var f=l.next;l.next=o.next,o.next=f}t.baseQueue=l=o,a.pending=null}if(o=e.baseState,l===null)e.memoizedState=o;else{t=l.next;var m=f=null,k=null,H=t,Z=!1;do{var W=H.lane&-536870913;if(W!==H.lane?(y0&W)===W:(bt&W)===W){var Y=H.revertLane;if(Y===0)k!==null&&(k=k.next={lane:0,revertLane:0,action:H.action,hasEagerState:H.hasEagerState,eagerState:H.eagerState,next:null}),W===Rx&&(Z=!0);else if((bt&Y)===Y){H=H.next,Y===Rx&&(Z=!0);continue}else W={lane:0,revertLane:H.revertLane,action:H.action,hasEagerState:H.hasEagerState,eagerState:H.eagerState,next:null},k===null?(m=k=W,f=o):k=k.next=W,A0.lanes|=Y,Ot|=Y;W=H.action,nx&&x(o,W),o=H.hasEagerState?H.eagerState:x(o,W)}else Y={lane:W,revertLane:H.revertLane,action:H.action,hasEagerState:H.hasEagerState,eagerState:H.eagerState,next:null},k===null?(m=k=Y,f=o):k=k.next=Y,A0.lanes|=W,Ot|=W;H=H.next}while(H!==null&&H!==t);if(k===null?f=o:k.next=m,!De(o,e.memoizedState)&&(J0=!0,Z&&(x=Ox,x!==null)))throw x;e.memoizedState=o,e.baseState=f,e.baseQueue=k,a.lastRenderedState=o}return l===null&&(a.lanes=0),[e.memoizedState,a.dispatch]}function no(e){var t=Q0(),x=t.queue;if(x===null)throw Error(i(311));x.lastRenderedReducer=e;var a=x.dispatch,l=x.pending,o=t.memoizedState;if(l!==null){x.pending=null;var f=l=l.next;do o=e(o,f.action),f=f.next;while(f!==l);De(o,t.memoizedState)||(J0=!0),t.memoizedState=o,t.baseQueue===null&&(t.baseState=o),x.lastRenderedState=o}return[o,a]}function Eu(e,t,x){var a=A0,l=Q0(),o=b0;if(o){if(x===void 0)throw Error(i(407));x=x()}else x=t();var f=!De((T0||l).memoizedState,x);f&&(l.memoizedState=x,J0=!0),l=l.queue;var m=Cu.bind(null,a,l,e);if(Na(2048,8,m,[e]),l.getSnapshot!==t||f||Y0!==null&&Y0.memoizedState.tag&1){if(a.flags|=2048,zx(9,Kn(),Bu.bind(null,a,l,x,t),null),N0===null)throw Error(i(349));o||(bt&124)!==0||du(a,t,x)}return x}function du(e,t,x){e.flags|=16384,e={getSnapshot:t,value:x},t=A0.updateQueue,t===null?(t=to(),A0.updateQueue=t,t.stores=[e]):(x=t.stores,x===null?t.stores=[e]:x.push(e))}function Bu(e,t,x,a){t.value=x,t.getSnapshot=a,Au(t)&&mu(e)}function Cu(e,t,x){return x(function(){Au(t)&&mu(e)})}function Au(e){var t=e.getSnapshot;e=e.value;try{var x=t();return!De(e,x)}catch{return!0}}function mu(e){var t=Sx(e,2);t!==null&&ge(t,e,2)}function lo(e){var t=fe();if(typeof e=="function"){var x=e;if(e=x(),nx){Dt(!0);try{x()}finally{Dt(!1)}}}return t.memoizedState=t.baseState=e,t.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:ot,lastRenderedState:e},t}function Du(e,t,x,a){return e.baseState=x,ao(e,T0,typeof a=="function"?a:ot)}function OE(e,t,x,a,l){if($n(e))throw Error(i(485));if(e=t.action,e!==null){var o={payload:l,action:e,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(f){o.listeners.push(f)}};R.T!==null?x(!0):o.isTransition=!1,a(o),x=t.pending,x===null?(o.next=t.pending=o,hu(t,o)):(o.next=x.next,t.pending=x.next=o)}}function hu(e,t){var x=t.action,a=t.payload,l=e.state;if(t.isTransition){var o=R.T,f={};R.T=f;try{var m=x(l,a),k=R.S;k!==null&&k(f,m),Fu(e,t,m)}catch(H){ro(e,t,H)}finally{R.T=o}}else try{o=x(l,a),Fu(e,t,o)}catch(H){ro(e,t,H)}}function Fu(e,t,x){x!==null&&typeof x=="object"&&typeof x.then=="function"?x.then(function(a){yu(e,t,a)},function(a){return ro(e,t,a)}):yu(e,t,x)}function yu(e,t,x){t.status="fulfilled",t.value=x,vu(t),e.state=x,t=e.pending,t!==null&&(x=t.next,x===t?e.pending=null:(x=x.next,t.next=x,hu(e,x)))}function ro(e,t,x){var a=e.pending;if(e.pending=null,a!==null){a=a.next;do t.status="rejected",t.reason=x,vu(t),t=t.next;while(t!==a)}e.action=null}function vu(e){e=e.listeners;for(var t=0;t<e.length;t++)(0,e[t])()}function pu(e,t){return t}function gu(e,t){if(b0){var x=N0.formState;if(x!==null){e:{var a=A0;if(b0){if(L0){t:{for(var l=L0,o=Ye;l.nodeType!==8;){if(!o){l=null;break t}if(l=Le(l.nextSibling),l===null){l=null;break t}}o=l.data,l=o==="F!"||o==="F"?l:null}if(l){L0=Le(l.nextSibling),a=l.data==="F!";break e}}ex(a)}a=!1}a&&(t=x[0])}}return x=fe(),x.memoizedState=x.baseState=t,a={pending:null,lanes:0,dispatch:null,lastRenderedReducer:pu,lastRenderedState:t},x.queue=a,x=Yu.bind(null,A0,a),a.dispatch=x,a=lo(!1),o=co.bind(null,A0,!1,a.queue),a=fe(),l={state:t,dispatch:null,action:e,pending:null},a.queue=l,x=OE.bind(null,A0,l,o,x),l.dispatch=x,a.memoizedState=e,[t,x,!1]}function bu(e){var t=Q0();return ku(t,T0,e)}function ku(e,t,x){if(t=ao(e,t,pu)[0],e=Zn(ot)[0],typeof t=="object"&&t!==null&&typeof t.then=="function")try{var a=Oa(t)}catch(f){throw f===ka?qn:f}else a=t;t=Q0();var l=t.queue,o=l.dispatch;return x!==t.memoizedState&&(A0.flags|=2048,zx(9,Kn(),NE.bind(null,l,x),null)),[a,o,e]}function NE(e,t){e.action=t}function Su(e){var t=Q0(),x=T0;if(x!==null)return ku(t,x,e);Q0(),t=t.memoizedState,x=Q0();var a=x.queue.dispatch;return x.memoizedState=e,[t,a,!1]}function zx(e,t,x,a){return e={tag:e,create:x,deps:a,inst:t,next:null},t=A0.updateQueue,t===null&&(t=to(),A0.updateQueue=t),x=t.lastEffect,x===null?t.lastEffect=e.next=e:(a=x.next,x.next=e,e.next=a,t.lastEffect=e),e}function Kn(){return{destroy:void 0,resource:void 0}}function wu(){return Q0().memoizedState}function Jn(e,t,x,a){var l=fe();a=a===void 0?null:a,A0.flags|=e,l.memoizedState=zx(1|t,Kn(),x,a)}function Na(e,t,x,a){var l=Q0();a=a===void 0?null:a;var o=l.memoizedState.inst;T0!==null&&a!==null&&Jr(a,T0.memoizedState.deps)?l.memoizedState=zx(t,o,x,a):(A0.flags|=e,l.memoizedState=zx(1|t,o,x,a))}function Tu(e,t){Jn(8390656,8,e,t)}function _u(e,t){Na(2048,8,e,t)}function Ru(e,t){return Na(4,2,e,t)}function Ou(e,t){return Na(4,4,e,t)}function Nu(e,t){if(typeof t=="function"){e=e();var x=t(e);return function(){typeof x=="function"?x():t(null)}}if(t!=null)return e=e(),t.current=e,function(){t.current=null}}function Mu(e,t,x){x=x!=null?x.concat([e]):null,Na(4,4,Nu.bind(null,t,e),x)}function oo(){}function ju(e,t){var x=Q0();t=t===void 0?null:t;var a=x.memoizedState;return t!==null&&Jr(t,a[1])?a[0]:(x.memoizedState=[e,t],e)}function zu(e,t){var x=Q0();t=t===void 0?null:t;var a=x.memoizedState;if(t!==null&&Jr(t,a[1]))return a[0];if(a=e(),nx){Dt(!0);try{e()}finally{Dt(!1)}}return x.memoizedState=[a,t],a}function io(e,t,x){return x===void 0||(bt&1073741824)!==0?e.memoizedState=t:(e.memoizedState=x,e=Pc(),A0.lanes|=e,Ot|=e,x)}function Uu(e,t,x,a){return De(x,t)?x:Nx.current!==null?(e=io(e,x,a),De(e,t)||(J0=!0),e):(bt&42)===0?(J0=!0,e.memoizedState=x):(e=Pc(),A0.lanes|=e,Ot|=e,t)}function Lu(e,t,x,a,l){var o=G.p;G.p=o!==0&&8>o?o:8;var f=R.T,m={};R.T=m,co(e,!1,t,x);try{var k=l(),H=R.S;if(H!==null&&H(m,k),k!==null&&typeof k=="object"&&typeof k.then=="function"){var Z=TE(k,a);Ma(e,t,Z,pe(e))}else Ma(e,t,a,pe(e))}catch(W){Ma(e,t,{then:function(){},status:"rejected",reason:W},pe())}finally{G.p=o,R.T=f}}function ME(){}function so(e,t,x,a){if(e.tag!==5)throw Error(i(476));var l=Pu(e).queue;Lu(e,l,t,I,x===null?ME:function(){return Hu(e),x(a)})}function Pu(e){var t=e.memoizedState;if(t!==null)return t;t={memoizedState:I,baseState:I,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:ot,lastRenderedState:I},next:null};var x={};return t.next={memoizedState:x,baseState:x,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:ot,lastRenderedState:x},next:null},e.memoizedState=t,e=e.alternate,e!==null&&(e.memoizedState=t),t}function Hu(e){var t=Pu(e).next.queue;Ma(e,t,{},pe())}function uo(){return ae(Ia)}function qu(){return Q0().memoizedState}function Xu(){return Q0().memoizedState}function jE(e){for(var t=e.return;t!==null;){switch(t.tag){case 24:case 3:var x=pe();e=pt(x);var a=gt(t,e,x);a!==null&&(ge(a,t,x),wa(a,t,x)),t={cache:Pr()},e.payload=t;return}t=t.return}}function zE(e,t,x){var a=pe();x={lane:a,revertLane:0,action:x,hasEagerState:!1,eagerState:null,next:null},$n(e)?Qu(t,x):(x=Tr(e,t,x,a),x!==null&&(ge(x,e,a),Gu(x,t,a)))}function Yu(e,t,x){var a=pe();Ma(e,t,x,a)}function Ma(e,t,x,a){var l={lane:a,revertLane:0,action:x,hasEagerState:!1,eagerState:null,next:null};if($n(e))Qu(t,l);else{var o=e.alternate;if(e.lanes===0&&(o===null||o.lanes===0)&&(o=t.lastRenderedReducer,o!==null))try{var f=t.lastRenderedState,m=o(f,x);if(l.hasEagerState=!0,l.eagerState=m,De(m,f))return Nn(e,t,l,0),N0===null&&On(),!1}catch{}finally{}if(x=Tr(e,t,l,a),x!==null)return ge(x,e,a),Gu(x,t,a),!0}return!1}function co(e,t,x,a){if(a={lane:2,revertLane:Yo(),action:a,hasEagerState:!1,eagerState:null,next:null},$n(e)){if(t)throw Error(i(479))}else t=Tr(e,x,a,2),t!==null&&ge(t,e,2)}function $n(e){var t=e.alternate;return e===A0||t!==null&&t===A0}function Qu(e,t){Mx=Qn=!0;var x=e.pending;x===null?t.next=t:(t.next=x.next,x.next=t),e.pending=t}function Gu(e,t,x){if((x&4194048)!==0){var a=t.lanes;a&=e.pendingLanes,x|=a,t.lanes=x,es(e,x)}}var Wn={readContext:ae,use:Vn,useCallback:q0,useContext:q0,useEffect:q0,useImperativeHandle:q0,useLayoutEffect:q0,useInsertionEffect:q0,useMemo:q0,useReducer:q0,useRef:q0,useState:q0,useDebugValue:q0,useDeferredValue:q0,useTransition:q0,useSyncExternalStore:q0,useId:q0,useHostTransitionStatus:q0,useFormState:q0,useActionState:q0,useOptimistic:q0,useMemoCache:q0,useCacheRefresh:q0},Vu={readContext:ae,use:Vn,useCallback:function(e,t){return fe().memoizedState=[e,t===void 0?null:t],e},useContext:ae,useEffect:Tu,useImperativeHandle:function(e,t,x){x=x!=null?x.concat([e]):null,Jn(4194308,4,Nu.bind(null,t,e),x)},useLayoutEffect:function(e,t){return Jn(4194308,4,e,t)},useInsertionEffect:function(e,t){Jn(4,2,e,t)},useMemo:function(e,t){var x=fe();t=t===void 0?null:t;var a=e();if(nx){Dt(!0);try{e()}finally{Dt(!1)}}return x.memoizedState=[a,t],a},useReducer:function(e,t,x){var a=fe();if(x!==void 0){var l=x(t);if(nx){Dt(!0);try{x(t)}finally{Dt(!1)}}}else l=t;return a.memoizedState=a.baseState=l,e={pending:null,lanes:0,dispatch:null,lastRenderedReducer:e,lastRenderedState:l},a.queue=e,e=e.dispatch=zE.bind(null,A0,e),[a.memoizedState,e]},useRef:function(e){var t=fe();return e={current:e},t.memoizedState=e},useState:function(e){e=lo(e);var t=e.queue,x=Yu.bind(null,A0,t);return t.dispatch=x,[e.memoizedState,x]},useDebugValue:oo,useDeferredValue:function(e,t){var x=fe();return io(x,e,t)},useTransition:function(){var e=lo(!1);return e=Lu.bind(null,A0,e.queue,!0,!1),fe().memoizedState=e,[!1,e]},useSyncExternalStore:function(e,t,x){var a=A0,l=fe();if(b0){if(x===void 0)throw Error(i(407));x=x()}else{if(x=t(),N0===null)throw Error(i(349));(y0&124)!==0||du(a,t,x)}l.memoizedState=x;var o={value:x,getSnapshot:t};return l.queue=o,Tu(Cu.bind(null,a,o,e),[e]),a.flags|=2048,zx(9,Kn(),Bu.bind(null,a,o,x,t),null),x},useId:function(){var e=fe(),t=N0.identifierPrefix;if(b0){var x=nt,a=at;x=(a&~(1<<32-me(a)-1)).toString(32)+x,t="«"+t+"R"+x,x=Gn++,0<x&&(t+="H"+x.toString(32)),t+="»"}else x=_E++,t="«"+t+"r"+x.toString(32)+"»";return e.memoizedState=t},useHostTransitionStatus:uo,useFormState:gu,useActionState:gu,useOptimistic:function(e){var t=fe();t.memoizedState=t.baseState=e;var x={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return t.queue=x,t=co.bind(null,A0,!0,x),x.dispatch=t,[e,t]},useMemoCache:xo,useCacheRefresh:function(){return fe().memoizedState=jE.bind(null,A0)}},Zu={readContext:ae,use:Vn,useCallback:ju,useContext:ae,useEffect:_u,useImperativeHandle:Mu,useInsertionEffect:Ru,useLayoutEffect:Ou,useMemo:zu,useReducer:Zn,useRef:wu,useState:function(){return Zn(ot)},useDebugValue:oo,useDeferredValue:function(e,t){var x=Q0();return Uu(x,T0.memoizedState,e,t)},useTransition:function(){var e=Zn(ot)[0],t=Q0().memoizedState;return[typeof e=="boolean"?e:Oa(e),t]},useSyncExternalStore:Eu,useId:qu,useHostTransitionStatus:uo,useFormState:bu,useActionState:bu,useOptimistic:function(e,t){var x=Q0();return Du(x,T0,e,t)},useMemoCache:xo,useCacheRefresh:Xu},UE={readContext:ae,use:Vn,useCallback:ju,useContext:ae,useEffect:_u,useImperativeHandle:Mu,useInsertionEffect:Ru,useLayoutEffect:Ou,useMemo:zu,useReducer:no,useRef:wu,useState:function(){return no(ot)},useDebugValue:oo,useDeferredValue:function(e,t){var x=Q0();return T0===null?io(x,e,t):Uu(x,T0.memoizedState,e,t)},useTransition:function(){var e=no(ot)[0],t=Q0().memoizedState;return[typeof e=="boolean"?e:Oa(e),t]},useSyncExternalStore:Eu,useId:qu,useHostTransitionStatus:uo,useFormState:Su,useActionState:Su,useOptimistic:function(e,t){var x=Q0();return T0!==null?Du(x,T0,e,t):(x.baseState=e,[e,x.queue.dispatch])},useMemoCache:xo,useCacheRefresh:Xu},Ux=null,ja=0;function In(e){var t=ja;return ja+=1,Ux===null&&(Ux=[]),lu(Ux,e,t)}function za(e,t){t=t.props.ref,e.ref=t!==void 0?t:null}function el(e,t){throw t.$$typeof===D?Error(i(525)):(e=Object.prototype.toString.call(t),Error(i(31,e==="[object Object]"?"object with keys {"+Object.keys(t).join(", ")+"}":e)))}function Ku(e){var t=e._init;return t(e._payload)}function Ju(e){function t(U,M){if(e){var P=U.deletions;P===null?(U.deletions=[M],U.flags|=16):P.push(M)}}function x(U,M){if(!e)return null;for(;M!==null;)t(U,M),M=M.sibling;return null}function a(U){for(var M=new Map;U!==null;)U.key!==null?M.set(U.key,U):M.set(U.index,U),U=U.sibling;return M}function l(U,M){return U=xt(U,M),U.index=0,U.sibling=null,U}function o(U,M,P){return U.index=P,e?(P=U.alternate,P!==null?(P=P.index,P<M?(U.flags|=67108866,M):P):(U.flags|=67108866,M)):(U.flags|=1048576,M)}function f(U){return e&&U.alternate===null&&(U.flags|=67108866),U}function m(U,M,P,K){return M===null||M.tag!==6?(M=Rr(P,U.mode,K),M.return=U,M):(M=l(M,P),M.return=U,M)}function k(U,M,P,K){var s0=P.type;return s0===h?Z(U,M,P.props.children,K,P.key):M!==null&&(M.elementType===s0||typeof s0=="object"&&s0!==null&&s0.$$typeof===X&&Ku(s0)===M.type)?(M=l(M,P.props),za(M,P),M.return=U,M):(M=jn(P.type,P.key,P.props,null,U.mode,K),za(M,P),M.return=U,M)}function H(U,M,P,K){return M===null||M.tag!==4||M.stateNode.containerInfo!==P.containerInfo||M.stateNode.implementation!==P.implementation?(M=Or(P,U.mode,K),M.return=U,M):(M=l(M,P.children||[]),M.return=U,M)}function Z(U,M,P,K,s0){return M===null||M.tag!==7?(M=Jt(P,U.mode,K,s0),M.return=U,M):(M=l(M,P),M.return=U,M)}function W(U,M,P){if(typeof M=="string"&&M!==""||typeof M=="number"||typeof M=="bigint")return M=Rr(""+M,U.mode,P),M.return=U,M;if(typeof M=="object"&&M!==null){switch(M.$$typeof){case v:return P=jn(M.type,M.key,M.props,null,U.mode,P),za(P,M),P.return=U,P;case S:return M=Or(M,U.mode,P),M.return=U,M;case X:var K=M._init;return M=K(M._payload),W(U,M,P)}if(r0(M)||e0(M))return M=Jt(M,U.mode,P,null),M.return=U,M;if(typeof M.then=="function")return W(U,In(M),P);if(M.$$typeof===y)return W(U,Pn(U,M),P);el(U,M)}return null}function Y(U,M,P,K){var s0=M!==null?M.key:null;if(typeof P=="string"&&P!==""||typeof P=="number"||typeof P=="bigint")return s0!==null?null:m(U,M,""+P,K);if(typeof P=="object"&&P!==null){switch(P.$$typeof){case v:return P.key===s0?k(U,M,P,K):null;case S:return P.key===s0?H(U,M,P,K):null;case X:return s0=P._init,P=s0(P._payload),Y(U,M,P,K)}if(r0(P)||e0(P))return s0!==null?null:Z(U,M,P,K,null);if(typeof P.then=="function")return Y(U,M,In(P),K);if(P.$$typeof===y)return Y(U,M,Pn(U,P),K);el(U,P)}return null}function Q(U,M,P,K,s0){if(typeof K=="string"&&K!==""||typeof K=="number"||typeof K=="bigint")return U=U.get(P)||null,m(M,U,""+K,s0);if(typeof K=="object"&&K!==null){switch(K.$$typeof){case v:return U=U.get(K.key===null?P:K.key)||null,k(M,U,K,s0);case S:return U=U.get(K.key===null?P:K.key)||null,H(M,U,K,s0);case X:var D0=K._init;return K=D0(K._payload),Q(U,M,P,K,s0)}if(r0(K)||e0(K))return U=U.get(P)||null,Z(M,U,K,s0,null);if(typeof K.then=="function")return Q(U,M,P,In(K),s0);if(K.$$typeof===y)return Q(U,M,P,Pn(M,K),s0);el(M,K)}return null}function d0(U,M,P,K){for(var s0=null,D0=null,c0=M,E0=M=0,W0=null;c0!==null&&E0<P.length;E0++){c0.index>E0?(W0=c0,c0=null):W0=c0.sibling;var v0=Y(U,c0,P[E0],K);if(v0===null){c0===null&&(c0=W0);break}e&&c0&&v0.alternate===null&&t(U,c0),M=o(v0,M,E0),D0===null?s0=v0:D0.sibling=v0,D0=v0,c0=W0}if(E0===P.length)return x(U,c0),b0&&Wt(U,E0),s0;if(c0===null){for(;E0<P.length;E0++)c0=W(U,P[E0],K),c0!==null&&(M=o(c0,M,E0),D0===null?s0=c0:D0.sibling=c0,D0=c0);return b0&&Wt(U,E0),s0}for(c0=a(c0);E0<P.length;E0++)W0=Q(c0,U,E0,P[E0],K),W0!==null&&(e&&W0.alternate!==null&&c0.delete(W0.key===null?E0:W0.key),M=o(W0,M,E0),D0===null?s0=W0:D0.sibling=W0,D0=W0);return e&&c0.forEach(function(qt){return t(U,qt)}),b0&&Wt(U,E0),s0}function f0(U,M,P,K){if(P==null)throw Error(i(151));for(var s0=null,D0=null,c0=M,E0=M=0,W0=null,v0=P.next();c0!==null&&!v0.done;E0++,v0=P.next()){c0.index>E0?(W0=c0,c0=null):W0=c0.sibling;var qt=Y(U,c0,v0.value,K);if(qt===null){c0===null&&(c0=W0);break}e&&c0&&qt.alternate===null&&t(U,c0),M=o(qt,M,E0),D0===null?s0=qt:D0.sibling=qt,D0=qt,c0=W0}if(v0.done)return x(U,c0),b0&&Wt(U,E0),s0;if(c0===null){for(;!v0.done;E0++,v0=P.next())v0=W(U,v0.value,K),v0!==null&&(M=o(v0,M,E0),D0===null?s0=v0:D0.sibling=v0,D0=v0);return b0&&Wt(U,E0),s0}for(c0=a(c0);!v0.done;E0++,v0=P.next())v0=Q(c0,U,E0,v0.value,K),v0!==null&&(e&&v0.alternate!==null&&c0.delete(v0.key===null?E0:v0.key),M=o(v0,M,E0),D0===null?s0=v0:D0.sibling=v0,D0=v0);return e&&c0.forEach(function(L6){return t(U,L6)}),b0&&Wt(U,E0),s0}function R0(U,M,P,K){if(typeof P=="object"&&P!==null&&P.type===h&&P.key===null&&(P=P.props.children),typeof P=="object"&&P!==null){switch(P.$$typeof){case v:e:{for(var s0=P.key;M!==null;){if(M.key===s0){if(s0=P.type,s0===h){if(M.tag===7){x(U,M.sibling),K=l(M,P.props.children),K.return=U,U=K;break e}}else if(M.elementType===s0||typeof s0=="object"&&s0!==null&&s0.$$typeof===X&&Ku(s0)===M.type){x(U,M.sibling),K=l(M,P.props),za(K,P),K.return=U,U=K;break e}x(U,M);break}else t(U,M);M=M.sibling}P.type===h?(K=Jt(P.props.children,U.mode,K,P.key),K.return=U,U=K):(K=jn(P.type,P.key,P.props,null,U.mode,K),za(K,P),K.return=U,U=K)}return f(U);case S:e:{for(s0=P.key;M!==null;){if(M.key===s0)if(M.tag===4&&M.stateNode.containerInfo===P.containerInfo&&M.stateNode.implementation===P.implementation){x(U,M.sibling),K=l(M,P.children||[]),K.return=U,U=K;break e}else{x(U,M);break}else t(U,M);M=M.sibling}K=Or(P,U.mode,K),K.return=U,U=K}return f(U);case X:return s0=P._init,P=s0(P._payload),R0(U,M,P,K)}if(r0(P))return d0(U,M,P,K);if(e0(P)){if(s0=e0(P),typeof s0!="function")throw Error(i(150));return P=s0.call(P),f0(U,M,P,K)}if(typeof P.then=="function")return R0(U,M,In(P),K);if(P.$$typeof===y)return R0(U,M,Pn(U,P),K);el(U,P)}return typeof P=="string"&&P!==""||typeof P=="number"||typeof P=="bigint"?(P=""+P,M!==null&&M.tag===6?(x(U,M.sibling),K=l(M,P),K.return=U,U=K):(x(U,M),K=Rr(P,U.mode,K),K.return=U,U=K),f(U)):x(U,M)}return function(U,M,P,K){try{ja=0;var s0=R0(U,M,P,K);return Ux=null,s0}catch(c0){if(c0===ka||c0===qn)throw c0;var D0=he(29,c0,null,U.mode);return D0.lanes=K,D0.return=U,D0}finally{}}}var Lx=Ju(!0),$u=Ju(!1),Oe=q(null),Qe=null;function kt(e){var t=e.alternate;a0(Z0,Z0.current&1),a0(Oe,e),Qe===null&&(t===null||Nx.current!==null||t.memoizedState!==null)&&(Qe=e)}function Wu(e){if(e.tag===22){if(a0(Z0,Z0.current),a0(Oe,e),Qe===null){var t=e.alternate;t!==null&&t.memoizedState!==null&&(Qe=e)}}else St()}function St(){a0(Z0,Z0.current),a0(Oe,Oe.current)}function it(e){x0(Oe),Qe===e&&(Qe=null),x0(Z0)}var Z0=q(0);function tl(e){for(var t=e;t!==null;){if(t.tag===13){var x=t.memoizedState;if(x!==null&&(x=x.dehydrated,x===null||x.data==="$?"||xi(x)))return t}else if(t.tag===19&&t.memoizedProps.revealOrder!==void 0){if((t.flags&128)!==0)return t}else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}return null}function fo(e,t,x,a){t=e.memoizedState,x=x(a,t),x=x==null?t:C({},t,x),e.memoizedState=x,e.lanes===0&&(e.updateQueue.baseState=x)}var Eo={enqueueSetState:function(e,t,x){e=e._reactInternals;var a=pe(),l=pt(a);l.payload=t,x!=null&&(l.callback=x),t=gt(e,l,a),t!==null&&(ge(t,e,a),wa(t,e,a))},enqueueReplaceState:function(e,t,x){e=e._reactInternals;var a=pe(),l=pt(a);l.tag=1,l.payload=t,x!=null&&(l.callback=x),t=gt(e,l,a),t!==null&&(ge(t,e,a),wa(t,e,a))},enqueueForceUpdate:function(e,t){e=e._reactInternals;var x=pe(),a=pt(x);a.tag=2,t!=null&&(a.callback=t),t=gt(e,a,x),t!==null&&(ge(t,e,x),wa(t,e,x))}};function Iu(e,t,x,a,l,o,f){return e=e.stateNode,typeof e.shouldComponentUpdate=="function"?e.shouldComponentUpdate(a,o,f):t.prototype&&t.prototype.isPureReactComponent?!Da(x,a)||!Da(l,o):!0}function ec(e,t,x,a){e=t.state,typeof t.componentWillReceiveProps=="function"&&t.componentWillReceiveProps(x,a),typeof t.UNSAFE_componentWillReceiveProps=="function"&&t.UNSAFE_componentWillReceiveProps(x,a),t.state!==e&&Eo.enqueueReplaceState(t,t.state,null)}function lx(e,t){var x=t;if("ref"in t){x={};for(var a in t)a!=="ref"&&(x[a]=t[a])}if(e=e.defaultProps){x===t&&(x=C({},x));for(var l in e)x[l]===void 0&&(x[l]=e[l])}return x}var xl=typeof reportError=="function"?reportError:function(e){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var t=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof e=="object"&&e!==null&&typeof e.message=="string"?String(e.message):String(e),error:e});if(!window.dispatchEvent(t))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",e);return}console.error(e)};function tc(e){xl(e)}function xc(e){console.error(e)}function ac(e){xl(e)}function al(e,t){try{var x=e.onUncaughtError;x(t.value,{componentStack:t.stack})}catch(a){setTimeout(function(){throw a})}}function nc(e,t,x){try{var a=e.onCaughtError;a(x.value,{componentStack:x.stack,errorBoundary:t.tag===1?t.stateNode:null})}catch(l){setTimeout(function(){throw l})}}function Bo(e,t,x){return x=pt(x),x.tag=3,x.payload={element:null},x.callback=function(){al(e,t)},x}function lc(e){return e=pt(e),e.tag=3,e}function rc(e,t,x,a){var l=x.type.getDerivedStateFromError;if(typeof l=="function"){var o=a.value;e.payload=function(){return l(o)},e.callback=function(){nc(t,x,a)}}var f=x.stateNode;f!==null&&typeof f.componentDidCatch=="function"&&(e.callback=function(){nc(t,x,a),typeof l!="function"&&(Nt===null?Nt=new Set([this]):Nt.add(this));var m=a.stack;this.componentDidCatch(a.value,{componentStack:m!==null?m:""})})}function LE(e,t,x,a,l){if(x.flags|=32768,a!==null&&typeof a=="object"&&typeof a.then=="function"){if(t=x.alternate,t!==null&&pa(t,x,l,!0),x=Oe.current,x!==null){switch(x.tag){case 13:return Qe===null?Lo():x.alternate===null&&P0===0&&(P0=3),x.flags&=-257,x.flags|=65536,x.lanes=l,a===Xr?x.flags|=16384:(t=x.updateQueue,t===null?x.updateQueue=new Set([a]):t.add(a),Ho(e,a,l)),!1;case 22:return x.flags|=65536,a===Xr?x.flags|=16384:(t=x.updateQueue,t===null?(t={transitions:null,markerInstances:null,retryQueue:new Set([a])},x.updateQueue=t):(x=t.retryQueue,x===null?t.retryQueue=new Set([a]):x.add(a)),Ho(e,a,l)),!1}throw Error(i(435,x.tag))}return Ho(e,a,l),Lo(),!1}if(b0)return t=Oe.current,t!==null?((t.flags&65536)===0&&(t.flags|=256),t.flags|=65536,t.lanes=l,a!==jr&&(e=Error(i(422),{cause:a}),va(we(e,x)))):(a!==jr&&(t=Error(i(423),{cause:a}),va(we(t,x))),e=e.current.alternate,e.flags|=65536,l&=-l,e.lanes|=l,a=we(a,x),l=Bo(e.stateNode,a,l),Gr(e,l),P0!==4&&(P0=2)),!1;var o=Error(i(520),{cause:a});if(o=we(o,x),Ya===null?Ya=[o]:Ya.push(o),P0!==4&&(P0=2),t===null)return!0;a=we(a,x),x=t;do{switch(x.tag){case 3:return x.flags|=65536,e=l&-l,x.lanes|=e,e=Bo(x.stateNode,a,e),Gr(x,e),!1;case 1:if(t=x.type,o=x.stateNode,(x.flags&128)===0&&(typeof t.getDerivedStateFromError=="function"||o!==null&&typeof o.componentDidCatch=="function"&&(Nt===null||!Nt.has(o))))return x.flags|=65536,l&=-l,x.lanes|=l,l=lc(l),rc(l,e,x,a),Gr(x,l),!1}x=x.return}while(x!==null);return!1}var oc=Error(i(461)),J0=!1;function I0(e,t,x,a){t.child=e===null?$u(t,null,x,a):Lx(t,e.child,x,a)}function ic(e,t,x,a,l){x=x.render;var o=t.ref;if("ref"in a){var f={};for(var m in a)m!=="ref"&&(f[m]=a[m])}else f=a;return xx(t),a=$r(e,t,x,f,o,l),m=Wr(),e!==null&&!J0?(Ir(e,t,l),st(e,t,l)):(b0&&m&&Nr(t),t.flags|=1,I0(e,t,a,l),t.child)}function sc(e,t,x,a,l){if(e===null){var o=x.type;return typeof o=="function"&&!_r(o)&&o.defaultProps===void 0&&x.compare===null?(t.tag=15,t.type=o,uc(e,t,o,a,l)):(e=jn(x.type,null,a,t,t.mode,l),e.ref=t.ref,e.return=t,t.child=e)}if(o=e.child,!vo(e,l)){var f=o.memoizedProps;if(x=x.compare,x=x!==null?x:Da,x(f,a)&&e.ref===t.ref)return st(e,t,l)}return t.flags|=1,e=xt(o,a),e.ref=t.ref,e.return=t,t.child=e}function uc(e,t,x,a,l){if(e!==null){var o=e.memoizedProps;if(Da(o,a)&&e.ref===t.ref)if(J0=!1,t.pendingProps=a=o,vo(e,l))(e.flags&131072)!==0&&(J0=!0);else return t.lanes=e.lanes,st(e,t,l)}return Co(e,t,x,a,l)}function cc(e,t,x){var a=t.pendingProps,l=a.children,o=e!==null?e.memoizedState:null;if(a.mode==="hidden"){if((t.flags&128)!==0){if(a=o!==null?o.baseLanes|x:x,e!==null){for(l=t.child=e.child,o=0;l!==null;)o=o|l.lanes|l.childLanes,l=l.sibling;t.childLanes=o&~a}else t.childLanes=0,t.child=null;return fc(e,t,a,x)}if((x&536870912)!==0)t.memoizedState={baseLanes:0,cachePool:null},e!==null&&Hn(t,o!==null?o.cachePool:null),o!==null?uu(t,o):Zr(),Wu(t);else return t.lanes=t.childLanes=536870912,fc(e,t,o!==null?o.baseLanes|x:x,x)}else o!==null?(Hn(t,o.cachePool),uu(t,o),St(),t.memoizedState=null):(e!==null&&Hn(t,null),Zr(),St());return I0(e,t,l,x),t.child}function fc(e,t,x,a){var l=qr();return l=l===null?null:{parent:V0._currentValue,pool:l},t.memoizedState={baseLanes:x,cachePool:l},e!==null&&Hn(t,null),Zr(),Wu(t),e!==null&&pa(e,t,a,!0),null}function nl(e,t){var x=t.ref;if(x===null)e!==null&&e.ref!==null&&(t.flags|=4194816);else{if(typeof x!="function"&&typeof x!="object")throw Error(i(284));(e===null||e.ref!==x)&&(t.flags|=4194816)}}function Co(e,t,x,a,l){return xx(t),x=$r(e,t,x,a,void 0,l),a=Wr(),e!==null&&!J0?(Ir(e,t,l),st(e,t,l)):(b0&&a&&Nr(t),t.flags|=1,I0(e,t,x,l),t.child)}function Ec(e,t,x,a,l,o){return xx(t),t.updateQueue=null,x=fu(t,a,x,l),cu(e),a=Wr(),e!==null&&!J0?(Ir(e,t,o),st(e,t,o)):(b0&&a&&Nr(t),t.flags|=1,I0(e,t,x,o),t.child)}function dc(e,t,x,a,l){if(xx(t),t.stateNode===null){var o=wx,f=x.contextType;typeof f=="object"&&f!==null&&(o=ae(f)),o=new x(a,o),t.memoizedState=o.state!==null&&o.state!==void 0?o.state:null,o.updater=Eo,t.stateNode=o,o._reactInternals=t,o=t.stateNode,o.props=a,o.state=t.memoizedState,o.refs={},Yr(t),f=x.contextType,o.context=typeof f=="object"&&f!==null?ae(f):wx,o.state=t.memoizedState,f=x.getDerivedStateFromProps,typeof f=="function"&&(fo(t,x,f,a),o.state=t.memoizedState),typeof x.getDerivedStateFromProps=="function"||typeof o.getSnapshotBeforeUpdate=="function"||typeof o.UNSAFE_componentWillMount!="function"&&typeof o.componentWillMount!="function"||(f=o.state,typeof o.componentWillMount=="function"&&o.componentWillMount(),typeof o.UNSAFE_componentWillMount=="function"&&o.UNSAFE_componentWillMount(),f!==o.state&&Eo.enqueueReplaceState(o,o.state,null),_a(t,a,o,l),Ta(),o.state=t.memoizedState),typeof o.componentDidMount=="function"&&(t.flags|=4194308),a=!0}else if(e===null){o=t.stateNode;var m=t.memoizedProps,k=lx(x,m);o.props=k;var H=o.context,Z=x.contextType;f=wx,typeof Z=="object"&&Z!==null&&(f=ae(Z));var W=x.getDerivedStateFromProps;Z=typeof W=="function"||typeof o.getSnapshotBeforeUpdate=="function",m=t.pendingProps!==m,Z||typeof o.UNSAFE_componentWillReceiveProps!="function"&&typeof o.componentWillReceiveProps!="function"||(m||H!==f)&&ec(t,o,a,f),vt=!1;var Y=t.memoizedState;o.state=Y,_a(t,a,o,l),Ta(),H=t.memoizedState,m||Y!==H||vt?(typeof W=="function"&&(fo(t,x,W,a),H=t.memoizedState),(k=vt||Iu(t,x,k,a,Y,H,f))?(Z||typeof o.UNSAFE_componentWillMount!="function"&&typeof o.componentWillMount!="function"||(typeof o.componentWillMount=="function"&&o.componentWillMount(),typeof o.UNSAFE_componentWillMount=="function"&&o.UNSAFE_componentWillMount()),typeof o.componentDidMount=="function"&&(t.flags|=4194308)):(typeof o.componentDidMount=="function"&&(t.flags|=4194308),t.memoizedProps=a,t.memoizedState=H),o.props=a,o.state=H,o.context=f,a=k):(typeof o.componentDidMount=="function"&&(t.flags|=4194308),a=!1)}else{o=t.stateNode,Qr(e,t),f=t.memoizedProps,Z=lx(x,f),o.props=Z,W=t.pendingProps,Y=o.context,H=x.contextType,k=wx,typeof H=="object"&&H!==null&&(k=ae(H)),m=x.getDerivedStateFromProps,(H=typeof m=="function"||typeof o.getSnapshotBeforeUpdate=="function")||typeof o.UNSAFE_componentWillReceiveProps!="function"&&typeof o.componentWillReceiveProps!="function"||(f!==W||Y!==k)&&ec(t,o,a,k),vt=!1,Y=t.memoizedState,o.state=Y,_a(t,a,o,l),Ta();var Q=t.memoizedState;f!==W||Y!==Q||vt||e!==null&&e.dependencies!==null&&Ln(e.dependencies)?(typeof m=="function"&&(fo(t,x,m,a),Q=t.memoizedState),(Z=vt||Iu(t,x,Z,a,Y,Q,k)||e!==null&&e.dependencies!==null&&Ln(e.dependencies))?(H||typeof o.UNSAFE_componentWillUpdate!="function"&&typeof o.componentWillUpdate!="function"||(typeof o.componentWillUpdate=="function"&&o.componentWillUpdate(a,Q,k),typeof o.UNSAFE_componentWillUpdate=="function"&&o.UNSAFE_componentWillUpdate(a,Q,k)),typeof o.componentDidUpdate=="function"&&(t.flags|=4),typeof o.getSnapshotBeforeUpdate=="function"&&(t.flags|=1024)):(typeof o.componentDidUpdate!="function"||f===e.memoizedProps&&Y===e.memoizedState||(t.flags|=4),typeof o.getSnapshotBeforeUpdate!="function"||f===e.memoizedProps&&Y===e.memoizedState||(t.flags|=1024),t.memoizedProps=a,t.memoizedState=Q),o.props=a,o.state=Q,o.context=k,a=Z):(typeof o.componentDidUpdate!="function"||f===e.memoizedProps&&Y===e.memoizedState||(t.flags|=4),typeof o.getSnapshotBeforeUpdate!="function"||f===e.memoizedProps&&Y===e.memoizedState||(t.flags|=1024),a=!1)}return o=a,nl(e,t),a=(t.flags&128)!==0,o||a?(o=t.stateNode,x=a&&typeof x.getDerivedStateFromError!="function"?null:o.render(),t.flags|=1,e!==null&&a?(t.child=Lx(t,e.child,null,l),t.child=Lx(t,null,x,l)):I0(e,t,x,l),t.memoizedState=o.state,e=t.child):e=st(e,t,l),e}function Bc(e,t,x,a){return ya(),t.flags|=256,I0(e,t,x,a),t.child}var Ao={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function mo(e){return{baseLanes:e,cachePool:xu()}}function Do(e,t,x){return e=e!==null?e.childLanes&~x:0,t&&(e|=Ne),e}function Cc(e,t,x){var a=t.pendingProps,l=!1,o=(t.flags&128)!==0,f;if((f=o)||(f=e!==null&&e.memoizedState===null?!1:(Z0.current&2)!==0),f&&(l=!0,t.flags&=-129),f=(t.flags&32)!==0,t.flags&=-33,e===null){if(b0){if(l?kt(t):St(),b0){var m=L0,k;if(k=m){e:{for(k=m,m=Ye;k.nodeType!==8;){if(!m){m=null;break e}if(k=Le(k.nextSibling),k===null){m=null;break e}}m=k}m!==null?(t.memoizedState={dehydrated:m,treeContext:$t!==null?{id:at,overflow:nt}:null,retryLane:536870912,hydrationErrors:null},k=he(18,null,null,0),k.stateNode=m,k.return=t,t.child=k,ie=t,L0=null,k=!0):k=!1}k||ex(t)}if(m=t.memoizedState,m!==null&&(m=m.dehydrated,m!==null))return xi(m)?t.lanes=32:t.lanes=536870912,null;it(t)}return m=a.children,a=a.fallback,l?(St(),l=t.mode,m=ll({mode:"hidden",children:m},l),a=Jt(a,l,x,null),m.return=t,a.return=t,m.sibling=a,t.child=m,l=t.child,l.memoizedState=mo(x),l.childLanes=Do(e,f,x),t.memoizedState=Ao,a):(kt(t),ho(t,m))}if(k=e.memoizedState,k!==null&&(m=k.dehydrated,m!==null)){if(o)t.flags&256?(kt(t),t.flags&=-257,t=Fo(e,t,x)):t.memoizedState!==null?(St(),t.child=e.child,t.flags|=128,t=null):(St(),l=a.fallback,m=t.mode,a=ll({mode:"visible",children:a.children},m),l=Jt(l,m,x,null),l.flags|=2,a.return=t,l.return=t,a.sibling=l,t.child=a,Lx(t,e.child,null,x),a=t.child,a.memoizedState=mo(x),a.childLanes=Do(e,f,x),t.memoizedState=Ao,t=l);else if(kt(t),xi(m)){if(f=m.nextSibling&&m.nextSibling.dataset,f)var H=f.dgst;f=H,a=Error(i(419)),a.stack="",a.digest=f,va({value:a,source:null,stack:null}),t=Fo(e,t,x)}else if(J0||pa(e,t,x,!1),f=(x&e.childLanes)!==0,J0||f){if(f=N0,f!==null&&(a=x&-x,a=(a&42)!==0?1:xr(a),a=(a&(f.suspendedLanes|x))!==0?0:a,a!==0&&a!==k.retryLane))throw k.retryLane=a,Sx(e,a),ge(f,e,a),oc;m.data==="$?"||Lo(),t=Fo(e,t,x)}else m.data==="$?"?(t.flags|=192,t.child=e.child,t=null):(e=k.treeContext,L0=Le(m.nextSibling),ie=t,b0=!0,It=null,Ye=!1,e!==null&&(_e[Re++]=at,_e[Re++]=nt,_e[Re++]=$t,at=e.id,nt=e.overflow,$t=t),t=ho(t,a.children),t.flags|=4096);return t}return l?(St(),l=a.fallback,m=t.mode,k=e.child,H=k.sibling,a=xt(k,{mode:"hidden",children:a.children}),a.subtreeFlags=k.subtreeFlags&65011712,H!==null?l=xt(H,l):(l=Jt(l,m,x,null),l.flags|=2),l.return=t,a.return=t,a.sibling=l,t.child=a,a=l,l=t.child,m=e.child.memoizedState,m===null?m=mo(x):(k=m.cachePool,k!==null?(H=V0._currentValue,k=k.parent!==H?{parent:H,pool:H}:k):k=xu(),m={baseLanes:m.baseLanes|x,cachePool:k}),l.memoizedState=m,l.childLanes=Do(e,f,x),t.memoizedState=Ao,a):(kt(t),x=e.child,e=x.sibling,x=xt(x,{mode:"visible",children:a.children}),x.return=t,x.sibling=null,e!==null&&(f=t.deletions,f===null?(t.deletions=[e],t.flags|=16):f.push(e)),t.child=x,t.memoizedState=null,x)}function ho(e,t){return t=ll({mode:"visible",children:t},e.mode),t.return=e,e.child=t}function ll(e,t){return e=he(22,e,null,t),e.lanes=0,e.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null},e}function Fo(e,t,x){return Lx(t,e.child,null,x),e=ho(t,t.pendingProps.children),e.flags|=2,t.memoizedState=null,e}function Ac(e,t,x){e.lanes|=t;var a=e.alternate;a!==null&&(a.lanes|=t),Ur(e.return,t,x)}function yo(e,t,x,a,l){var o=e.memoizedState;o===null?e.memoizedState={isBackwards:t,rendering:null,renderingStartTime:0,last:a,tail:x,tailMode:l}:(o.isBackwards=t,o.rendering=null,o.renderingStartTime=0,o.last=a,o.tail=x,o.tailMode=l)}function mc(e,t,x){var a=t.pendingProps,l=a.revealOrder,o=a.tail;if(I0(e,t,a.children,x),a=Z0.current,(a&2)!==0)a=a&1|2,t.flags|=128;else{if(e!==null&&(e.flags&128)!==0)e:for(e=t.child;e!==null;){if(e.tag===13)e.memoizedState!==null&&Ac(e,x,t);else if(e.tag===19)Ac(e,x,t);else if(e.child!==null){e.child.return=e,e=e.child;continue}if(e===t)break e;for(;e.sibling===null;){if(e.return===null||e.return===t)break e;e=e.return}e.sibling.return=e.return,e=e.sibling}a&=1}switch(a0(Z0,a),l){case"forwards":for(x=t.child,l=null;x!==null;)e=x.alternate,e!==null&&tl(e)===null&&(l=x),x=x.sibling;x=l,x===null?(l=t.child,t.child=null):(l=x.sibling,x.sibling=null),yo(t,!1,l,x,o);break;case"backwards":for(x=null,l=t.child,t.child=null;l!==null;){if(e=l.alternate,e!==null&&tl(e)===null){t.child=l;break}e=l.sibling,l.sibling=x,x=l,l=e}yo(t,!0,x,null,o);break;case"together":yo(t,!1,null,null,void 0);break;default:t.memoizedState=null}return t.child}function st(e,t,x){if(e!==null&&(t.dependencies=e.dependencies),Ot|=t.lanes,(x&t.childLanes)===0)if(e!==null){if(pa(e,t,x,!1),(x&t.childLanes)===0)return null}else return null;if(e!==null&&t.child!==e.child)throw Error(i(153));if(t.child!==null){for(e=t.child,x=xt(e,e.pendingProps),t.child=x,x.return=t;e.sibling!==null;)e=e.sibling,x=x.sibling=xt(e,e.pendingProps),x.return=t;x.sibling=null}return t.child}function vo(e,t){return(e.lanes&t)!==0?!0:(e=e.dependencies,!!(e!==null&&Ln(e)))}function PE(e,t,x){switch(t.tag){case 3:k0(t,t.stateNode.containerInfo),yt(t,V0,e.memoizedState.cache),ya();break;case 27:case 5:la(t);break;case 4:k0(t,t.stateNode.containerInfo);break;case 10:yt(t,t.type,t.memoizedProps.value);break;case 13:var a=t.memoizedState;if(a!==null)return a.dehydrated!==null?(kt(t),t.flags|=128,null):(x&t.child.childLanes)!==0?Cc(e,t,x):(kt(t),e=st(e,t,x),e!==null?e.sibling:null);kt(t);break;case 19:var l=(e.flags&128)!==0;if(a=(x&t.childLanes)!==0,a||(pa(e,t,x,!1),a=(x&t.childLanes)!==0),l){if(a)return mc(e,t,x);t.flags|=128}if(l=t.memoizedState,l!==null&&(l.rendering=null,l.tail=null,l.lastEffect=null),a0(Z0,Z0.current),a)break;return null;case 22:case 23:return t.lanes=0,cc(e,t,x);case 24:yt(t,V0,e.memoizedState.cache)}return st(e,t,x)}function Dc(e,t,x){if(e!==null)if(e.memoizedProps!==t.pendingProps)J0=!0;else{if(!vo(e,x)&&(t.flags&128)===0)return J0=!1,PE(e,t,x);J0=(e.flags&131072)!==0}else J0=!1,b0&&(t.flags&1048576)!==0&&Ks(t,Un,t.index);switch(t.lanes=0,t.tag){case 16:e:{e=t.pendingProps;var a=t.elementType,l=a._init;if(a=l(a._payload),t.type=a,typeof a=="function")_r(a)?(e=lx(a,e),t.tag=1,t=dc(null,t,a,e,x)):(t.tag=0,t=Co(null,t,a,e,x));else{if(a!=null){if(l=a.$$typeof,l===g){t.tag=11,t=ic(null,t,a,e,x);break e}else if(l===O){t.tag=14,t=sc(null,t,a,e,x);break e}}throw t=n0(a)||a,Error(i(306,t,""))}}return t;case 0:return Co(e,t,t.type,t.pendingProps,x);case 1:return a=t.type,l=lx(a,t.pendingProps),dc(e,t,a,l,x);case 3:e:{if(k0(t,t.stateNode.containerInfo),e===null)throw Error(i(387));a=t.pendingProps;var o=t.memoizedState;l=o.element,Qr(e,t),_a(t,a,null,x);var f=t.memoizedState;if(a=f.cache,yt(t,V0,a),a!==o.cache&&Lr(t,[V0],x,!0),Ta(),a=f.element,o.isDehydrated)if(o={element:a,isDehydrated:!1,cache:f.cache},t.updateQueue.baseState=o,t.memoizedState=o,t.flags&256){t=Bc(e,t,a,x);break e}else if(a!==l){l=we(Error(i(424)),t),va(l),t=Bc(e,t,a,x);break e}else{switch(e=t.stateNode.containerInfo,e.nodeType){case 9:e=e.body;break;default:e=e.nodeName==="HTML"?e.ownerDocument.body:e}for(L0=Le(e.firstChild),ie=t,b0=!0,It=null,Ye=!0,x=$u(t,null,a,x),t.child=x;x;)x.flags=x.flags&-3|4096,x=x.sibling}else{if(ya(),a===l){t=st(e,t,x);break e}I0(e,t,a,x)}t=t.child}return t;case 26:return nl(e,t),e===null?(x=v9(t.type,null,t.pendingProps,null))?t.memoizedState=x:b0||(x=t.type,e=t.pendingProps,a=Dl(u0.current).createElement(x),a[xe]=t,a[ue]=e,te(a,x,e),K0(a),t.stateNode=a):t.memoizedState=v9(t.type,e.memoizedProps,t.pendingProps,e.memoizedState),null;case 27:return la(t),e===null&&b0&&(a=t.stateNode=h9(t.type,t.pendingProps,u0.current),ie=t,Ye=!0,l=L0,zt(t.type)?(ai=l,L0=Le(a.firstChild)):L0=l),I0(e,t,t.pendingProps.children,x),nl(e,t),e===null&&(t.flags|=4194304),t.child;case 5:return e===null&&b0&&((l=a=L0)&&(a=d6(a,t.type,t.pendingProps,Ye),a!==null?(t.stateNode=a,ie=t,L0=Le(a.firstChild),Ye=!1,l=!0):l=!1),l||ex(t)),la(t),l=t.type,o=t.pendingProps,f=e!==null?e.memoizedProps:null,a=o.children,Io(l,o)?a=null:f!==null&&Io(l,f)&&(t.flags|=32),t.memoizedState!==null&&(l=$r(e,t,RE,null,null,x),Ia._currentValue=l),nl(e,t),I0(e,t,a,x),t.child;case 6:return e===null&&b0&&((e=x=L0)&&(x=B6(x,t.pendingProps,Ye),x!==null?(t.stateNode=x,ie=t,L0=null,e=!0):e=!1),e||ex(t)),null;case 13:return Cc(e,t,x);case 4:return k0(t,t.stateNode.containerInfo),a=t.pendingProps,e===null?t.child=Lx(t,null,a,x):I0(e,t,a,x),t.child;case 11:return ic(e,t,t.type,t.pendingProps,x);case 7:return I0(e,t,t.pendingProps,x),t.child;case 8:return I0(e,t,t.pendingProps.children,x),t.child;case 12:return I0(e,t,t.pendingProps.children,x),t.child;case 10:return a=t.pendingProps,yt(t,t.type,a.value),I0(e,t,a.children,x),t.child;case 9:return l=t.type._context,a=t.pendingProps.children,xx(t),l=ae(l),a=a(l),t.flags|=1,I0(e,t,a,x),t.child;case 14:return sc(e,t,t.type,t.pendingProps,x);case 15:return uc(e,t,t.type,t.pendingProps,x);case 19:return mc(e,t,x);case 31:return a=t.pendingProps,x=t.mode,a={mode:a.mode,children:a.children},e===null?(x=ll(a,x),x.ref=t.ref,t.child=x,x.return=t,t=x):(x=xt(e.child,a),x.ref=t.ref,t.child=x,x.return=t,t=x),t;case 22:return cc(e,t,x);case 24:return xx(t),a=ae(V0),e===null?(l=qr(),l===null&&(l=N0,o=Pr(),l.pooledCache=o,o.refCount++,o!==null&&(l.pooledCacheLanes|=x),l=o),t.memoizedState={parent:a,cache:l},Yr(t),yt(t,V0,l)):((e.lanes&x)!==0&&(Qr(e,t),_a(t,null,null,x),Ta()),l=e.memoizedState,o=t.memoizedState,l.parent!==a?(l={parent:a,cache:a},t.memoizedState=l,t.lanes===0&&(t.memoizedState=t.updateQueue.baseState=l),yt(t,V0,a)):(a=o.cache,yt(t,V0,a),a!==l.cache&&Lr(t,[V0],x,!0))),I0(e,t,t.pendingProps.children,x),t.child;case 29:throw t.pendingProps}throw Error(i(156,t.tag))}function ut(e){e.flags|=4}function hc(e,t){if(t.type!=="stylesheet"||(t.state.loading&4)!==0)e.flags&=-16777217;else if(e.flags|=16777216,!S9(t)){if(t=Oe.current,t!==null&&((y0&4194048)===y0?Qe!==null:(y0&62914560)!==y0&&(y0&536870912)===0||t!==Qe))throw Sa=Xr,au;e.flags|=8192}}function rl(e,t){t!==null&&(e.flags|=4),e.flags&16384&&(t=e.tag!==22?Wi():536870912,e.lanes|=t,Xx|=t)}function Ua(e,t){if(!b0)switch(e.tailMode){case"hidden":t=e.tail;for(var x=null;t!==null;)t.alternate!==null&&(x=t),t=t.sibling;x===null?e.tail=null:x.sibling=null;break;case"collapsed":x=e.tail;for(var a=null;x!==null;)x.alternate!==null&&(a=x),x=x.sibling;a===null?t||e.tail===null?e.tail=null:e.tail.sibling=null:a.sibling=null}}function U0(e){var t=e.alternate!==null&&e.alternate.child===e.child,x=0,a=0;if(t)for(var l=e.child;l!==null;)x|=l.lanes|l.childLanes,a|=l.subtreeFlags&65011712,a|=l.flags&65011712,l.return=e,l=l.sibling;else for(l=e.child;l!==null;)x|=l.lanes|l.childLanes,a|=l.subtreeFlags,a|=l.flags,l.return=e,l=l.sibling;return e.subtreeFlags|=a,e.childLanes=x,t}function HE(e,t,x){var a=t.pendingProps;switch(Mr(t),t.tag){case 31:case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return U0(t),null;case 1:return U0(t),null;case 3:return x=t.stateNode,a=null,e!==null&&(a=e.memoizedState.cache),t.memoizedState.cache!==a&&(t.flags|=2048),rt(V0),G0(),x.pendingContext&&(x.context=x.pendingContext,x.pendingContext=null),(e===null||e.child===null)&&(Fa(t)?ut(t):e===null||e.memoizedState.isDehydrated&&(t.flags&256)===0||(t.flags|=1024,Ws())),U0(t),null;case 26:return x=t.memoizedState,e===null?(ut(t),x!==null?(U0(t),hc(t,x)):(U0(t),t.flags&=-16777217)):x?x!==e.memoizedState?(ut(t),U0(t),hc(t,x)):(U0(t),t.flags&=-16777217):(e.memoizedProps!==a&&ut(t),U0(t),t.flags&=-16777217),null;case 27:je(t),x=u0.current;var l=t.type;if(e!==null&&t.stateNode!=null)e.memoizedProps!==a&&ut(t);else{if(!a){if(t.stateNode===null)throw Error(i(166));return U0(t),null}e=t0.current,Fa(t)?Js(t):(e=h9(l,a,x),t.stateNode=e,ut(t))}return U0(t),null;case 5:if(je(t),x=t.type,e!==null&&t.stateNode!=null)e.memoizedProps!==a&&ut(t);else{if(!a){if(t.stateNode===null)throw Error(i(166));return U0(t),null}if(e=t0.current,Fa(t))Js(t);else{switch(l=Dl(u0.current),e){case 1:e=l.createElementNS("http://www.w3.org/2000/svg",x);break;case 2:e=l.createElementNS("http://www.w3.org/1998/Math/MathML",x);break;default:switch(x){case"svg":e=l.createElementNS("http://www.w3.org/2000/svg",x);break;case"math":e=l.createElementNS("http://www.w3.org/1998/Math/MathML",x);break;case"script":e=l.createElement("div"),e.innerHTML="<script><\/script>",e=e.removeChild(e.firstChild);break;case"select":e=typeof a.is=="string"?l.createElement("select",{is:a.is}):l.createElement("select"),a.multiple?e.multiple=!0:a.size&&(e.size=a.size);break;default:e=typeof a.is=="string"?l.createElement(x,{is:a.is}):l.createElement(x)}}e[xe]=t,e[ue]=a;e:for(l=t.child;l!==null;){if(l.tag===5||l.tag===6)e.appendChild(l.stateNode);else if(l.tag!==4&&l.tag!==27&&l.child!==null){l.child.return=l,l=l.child;continue}if(l===t)break e;for(;l.sibling===null;){if(l.return===null||l.return===t)break e;l=l.return}l.sibling.return=l.return,l=l.sibling}t.stateNode=e;e:switch(te(e,x,a),x){case"button":case"input":case"select":case"textarea":e=!!a.autoFocus;break e;case"img":e=!0;break e;default:e=!1}e&&ut(t)}}return U0(t),t.flags&=-16777217,null;case 6:if(e&&t.stateNode!=null)e.memoizedProps!==a&&ut(t);else{if(typeof a!="string"&&t.stateNode===null)throw Error(i(166));if(e=u0.current,Fa(t)){if(e=t.stateNode,x=t.memoizedProps,a=null,l=ie,l!==null)switch(l.tag){case 27:case 5:a=l.memoizedProps}e[xe]=t,e=!!(e.nodeValue===x||a!==null&&a.suppressHydrationWarning===!0||E9(e.nodeValue,x)),e||ex(t)}else e=Dl(e).createTextNode(a),e[xe]=t,t.stateNode=e}return U0(t),null;case 13:if(a=t.memoizedState,e===null||e.memoizedState!==null&&e.memoizedState.dehydrated!==null){if(l=Fa(t),a!==null&&a.dehydrated!==null){if(e===null){if(!l)throw Error(i(318));if(l=t.memoizedState,l=l!==null?l.dehydrated:null,!l)throw Error(i(317));l[xe]=t}else ya(),(t.flags&128)===0&&(t.memoizedState=null),t.flags|=4;U0(t),l=!1}else l=Ws(),e!==null&&e.memoizedState!==null&&(e.memoizedState.hydrationErrors=l),l=!0;if(!l)return t.flags&256?(it(t),t):(it(t),null)}if(it(t),(t.flags&128)!==0)return t.lanes=x,t;if(x=a!==null,e=e!==null&&e.memoizedState!==null,x){a=t.child,l=null,a.alternate!==null&&a.alternate.memoizedState!==null&&a.alternate.memoizedState.cachePool!==null&&(l=a.alternate.memoizedState.cachePool.pool);var o=null;a.memoizedState!==null&&a.memoizedState.cachePool!==null&&(o=a.memoizedState.cachePool.pool),o!==l&&(a.flags|=2048)}return x!==e&&x&&(t.child.flags|=8192),rl(t,t.updateQueue),U0(t),null;case 4:return G0(),e===null&&Zo(t.stateNode.containerInfo),U0(t),null;case 10:return rt(t.type),U0(t),null;case 19:if(x0(Z0),l=t.memoizedState,l===null)return U0(t),null;if(a=(t.flags&128)!==0,o=l.rendering,o===null)if(a)Ua(l,!1);else{if(P0!==0||e!==null&&(e.flags&128)!==0)for(e=t.child;e!==null;){if(o=tl(e),o!==null){for(t.flags|=128,Ua(l,!1),e=o.updateQueue,t.updateQueue=e,rl(t,e),t.subtreeFlags=0,e=x,x=t.child;x!==null;)Zs(x,e),x=x.sibling;return a0(Z0,Z0.current&1|2),t.child}e=e.sibling}l.tail!==null&&re()>sl&&(t.flags|=128,a=!0,Ua(l,!1),t.lanes=4194304)}else{if(!a)if(e=tl(o),e!==null){if(t.flags|=128,a=!0,e=e.updateQueue,t.updateQueue=e,rl(t,e),Ua(l,!0),l.tail===null&&l.tailMode==="hidden"&&!o.alternate&&!b0)return U0(t),null}else 2*re()-l.renderingStartTime>sl&&x!==536870912&&(t.flags|=128,a=!0,Ua(l,!1),t.lanes=4194304);l.isBackwards?(o.sibling=t.child,t.child=o):(e=l.last,e!==null?e.sibling=o:t.child=o,l.last=o)}return l.tail!==null?(t=l.tail,l.rendering=t,l.tail=t.sibling,l.renderingStartTime=re(),t.sibling=null,e=Z0.current,a0(Z0,a?e&1|2:e&1),t):(U0(t),null);case 22:case 23:return it(t),Kr(),a=t.memoizedState!==null,e!==null?e.memoizedState!==null!==a&&(t.flags|=8192):a&&(t.flags|=8192),a?(x&536870912)!==0&&(t.flags&128)===0&&(U0(t),t.subtreeFlags&6&&(t.flags|=8192)):U0(t),x=t.updateQueue,x!==null&&rl(t,x.retryQueue),x=null,e!==null&&e.memoizedState!==null&&e.memoizedState.cachePool!==null&&(x=e.memoizedState.cachePool.pool),a=null,t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(a=t.memoizedState.cachePool.pool),a!==x&&(t.flags|=2048),e!==null&&x0(ax),null;case 24:return x=null,e!==null&&(x=e.memoizedState.cache),t.memoizedState.cache!==x&&(t.flags|=2048),rt(V0),U0(t),null;case 25:return null;case 30:return null}throw Error(i(156,t.tag))}function qE(e,t){switch(Mr(t),t.tag){case 1:return e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 3:return rt(V0),G0(),e=t.flags,(e&65536)!==0&&(e&128)===0?(t.flags=e&-65537|128,t):null;case 26:case 27:case 5:return je(t),null;case 13:if(it(t),e=t.memoizedState,e!==null&&e.dehydrated!==null){if(t.alternate===null)throw Error(i(340));ya()}return e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 19:return x0(Z0),null;case 4:return G0(),null;case 10:return rt(t.type),null;case 22:case 23:return it(t),Kr(),e!==null&&x0(ax),e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 24:return rt(V0),null;case 25:return null;default:return null}}function Fc(e,t){switch(Mr(t),t.tag){case 3:rt(V0),G0();break;case 26:case 27:case 5:je(t);break;case 4:G0();break;case 13:it(t);break;case 19:x0(Z0);break;case 10:rt(t.type);break;case 22:case 23:it(t),Kr(),e!==null&&x0(ax);break;case 24:rt(V0)}}function La(e,t){try{var x=t.updateQueue,a=x!==null?x.lastEffect:null;if(a!==null){var l=a.next;x=l;do{if((x.tag&e)===e){a=void 0;var o=x.create,f=x.inst;a=o(),f.destroy=a}x=x.next}while(x!==l)}}catch(m){O0(t,t.return,m)}}function wt(e,t,x){try{var a=t.updateQueue,l=a!==null?a.lastEffect:null;if(l!==null){var o=l.next;a=o;do{if((a.tag&e)===e){var f=a.inst,m=f.destroy;if(m!==void 0){f.destroy=void 0,l=t;var k=x,H=m;try{H()}catch(Z){O0(l,k,Z)}}}a=a.next}while(a!==o)}}catch(Z){O0(t,t.return,Z)}}function yc(e){var t=e.updateQueue;if(t!==null){var x=e.stateNode;try{su(t,x)}catch(a){O0(e,e.return,a)}}}function vc(e,t,x){x.props=lx(e.type,e.memoizedProps),x.state=e.memoizedState;try{x.componentWillUnmount()}catch(a){O0(e,t,a)}}function Pa(e,t){try{var x=e.ref;if(x!==null){switch(e.tag){case 26:case 27:case 5:var a=e.stateNode;break;case 30:a=e.stateNode;break;default:a=e.stateNode}typeof x=="function"?e.refCleanup=x(a):x.current=a}}catch(l){O0(e,t,l)}}function Ge(e,t){var x=e.ref,a=e.refCleanup;if(x!==null)if(typeof a=="function")try{a()}catch(l){O0(e,t,l)}finally{e.refCleanup=null,e=e.alternate,e!=null&&(e.refCleanup=null)}else if(typeof x=="function")try{x(null)}catch(l){O0(e,t,l)}else x.current=null}function pc(e){var t=e.type,x=e.memoizedProps,a=e.stateNode;try{e:switch(t){case"button":case"input":case"select":case"textarea":x.autoFocus&&a.focus();break e;case"img":x.src?a.src=x.src:x.srcSet&&(a.srcset=x.srcSet)}}catch(l){O0(e,e.return,l)}}function po(e,t,x){try{var a=e.stateNode;s6(a,e.type,x,t),a[ue]=t}catch(l){O0(e,e.return,l)}}function gc(e){return e.tag===5||e.tag===3||e.tag===26||e.tag===27&&zt(e.type)||e.tag===4}function go(e){e:for(;;){for(;e.sibling===null;){if(e.return===null||gc(e.return))return null;e=e.return}for(e.sibling.return=e.return,e=e.sibling;e.tag!==5&&e.tag!==6&&e.tag!==18;){if(e.tag===27&&zt(e.type)||e.flags&2||e.child===null||e.tag===4)continue e;e.child.return=e,e=e.child}if(!(e.flags&2))return e.stateNode}}function bo(e,t,x){var a=e.tag;if(a===5||a===6)e=e.stateNode,t?(x.nodeType===9?x.body:x.nodeName==="HTML"?x.ownerDocument.body:x).insertBefore(e,t):(t=x.nodeType===9?x.body:x.nodeName==="HTML"?x.ownerDocument.body:x,t.appendChild(e),x=x._reactRootContainer,x!=null||t.onclick!==null||(t.onclick=ml));else if(a!==4&&(a===27&&zt(e.type)&&(x=e.stateNode,t=null),e=e.child,e!==null))for(bo(e,t,x),e=e.sibling;e!==null;)bo(e,t,x),e=e.sibling}function ol(e,t,x){var a=e.tag;if(a===5||a===6)e=e.stateNode,t?x.insertBefore(e,t):x.appendChild(e);else if(a!==4&&(a===27&&zt(e.type)&&(x=e.stateNode),e=e.child,e!==null))for(ol(e,t,x),e=e.sibling;e!==null;)ol(e,t,x),e=e.sibling}function bc(e){var t=e.stateNode,x=e.memoizedProps;try{for(var a=e.type,l=t.attributes;l.length;)t.removeAttributeNode(l[0]);te(t,a,x),t[xe]=e,t[ue]=x}catch(o){O0(e,e.return,o)}}var ct=!1,X0=!1,ko=!1,kc=typeof WeakSet=="function"?WeakSet:Set,$0=null;function XE(e,t){if(e=e.containerInfo,$o=gl,e=Us(e),pr(e)){if("selectionStart"in e)var x={start:e.selectionStart,end:e.selectionEnd};else e:{x=(x=e.ownerDocument)&&x.defaultView||window;var a=x.getSelection&&x.getSelection();if(a&&a.rangeCount!==0){x=a.anchorNode;var l=a.anchorOffset,o=a.focusNode;a=a.focusOffset;try{x.nodeType,o.nodeType}catch{x=null;break e}var f=0,m=-1,k=-1,H=0,Z=0,W=e,Y=null;t:for(;;){for(var Q;W!==x||l!==0&&W.nodeType!==3||(m=f+l),W!==o||a!==0&&W.nodeType!==3||(k=f+a),W.nodeType===3&&(f+=W.nodeValue.length),(Q=W.firstChild)!==null;)Y=W,W=Q;for(;;){if(W===e)break t;if(Y===x&&++H===l&&(m=f),Y===o&&++Z===a&&(k=f),(Q=W.nextSibling)!==null)break;W=Y,Y=W.parentNode}W=Q}x=m===-1||k===-1?null:{start:m,end:k}}else x=null}x=x||{start:0,end:0}}else x=null;for(Wo={focusedElem:e,selectionRange:x},gl=!1,$0=t;$0!==null;)if(t=$0,e=t.child,(t.subtreeFlags&1024)!==0&&e!==null)e.return=t,$0=e;else for(;$0!==null;){switch(t=$0,o=t.alternate,e=t.flags,t.tag){case 0:break;case 11:case 15:break;case 1:if((e&1024)!==0&&o!==null){e=void 0,x=t,l=o.memoizedProps,o=o.memoizedState,a=x.stateNode;try{var d0=lx(x.type,l,x.elementType===x.type);e=a.getSnapshotBeforeUpdate(d0,o),a.__reactInternalSnapshotBeforeUpdate=e}catch(f0){O0(x,x.return,f0)}}break;case 3:if((e&1024)!==0){if(e=t.stateNode.containerInfo,x=e.nodeType,x===9)ti(e);else if(x===1)switch(e.nodeName){case"HEAD":case"HTML":case"BODY":ti(e);break;default:e.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((e&1024)!==0)throw Error(i(163))}if(e=t.sibling,e!==null){e.return=t.return,$0=e;break}$0=t.return}}function Sc(e,t,x){var a=x.flags;switch(x.tag){case 0:case 11:case 15:Tt(e,x),a&4&&La(5,x);break;case 1:if(Tt(e,x),a&4)if(e=x.stateNode,t===null)try{e.componentDidMount()}catch(f){O0(x,x.return,f)}else{var l=lx(x.type,t.memoizedProps);t=t.memoizedState;try{e.componentDidUpdate(l,t,e.__reactInternalSnapshotBeforeUpdate)}catch(f){O0(x,x.return,f)}}a&64&&yc(x),a&512&&Pa(x,x.return);break;case 3:if(Tt(e,x),a&64&&(e=x.updateQueue,e!==null)){if(t=null,x.child!==null)switch(x.child.tag){case 27:case 5:t=x.child.stateNode;break;case 1:t=x.child.stateNode}try{su(e,t)}catch(f){O0(x,x.return,f)}}break;case 27:t===null&&a&4&&bc(x);case 26:case 5:Tt(e,x),t===null&&a&4&&pc(x),a&512&&Pa(x,x.return);break;case 12:Tt(e,x);break;case 13:Tt(e,x),a&4&&_c(e,x),a&64&&(e=x.memoizedState,e!==null&&(e=e.dehydrated,e!==null&&(x=WE.bind(null,x),C6(e,x))));break;case 22:if(a=x.memoizedState!==null||ct,!a){t=t!==null&&t.memoizedState!==null||X0,l=ct;var o=X0;ct=a,(X0=t)&&!o?_t(e,x,(x.subtreeFlags&8772)!==0):Tt(e,x),ct=l,X0=o}break;case 30:break;default:Tt(e,x)}}function wc(e){var t=e.alternate;t!==null&&(e.alternate=null,wc(t)),e.child=null,e.deletions=null,e.sibling=null,e.tag===5&&(t=e.stateNode,t!==null&&lr(t)),e.stateNode=null,e.return=null,e.dependencies=null,e.memoizedProps=null,e.memoizedState=null,e.pendingProps=null,e.stateNode=null,e.updateQueue=null}var M0=null,Ee=!1;function ft(e,t,x){for(x=x.child;x!==null;)Tc(e,t,x),x=x.sibling}function Tc(e,t,x){if(Ae&&typeof Ae.onCommitFiberUnmount=="function")try{Ae.onCommitFiberUnmount(oa,x)}catch{}switch(x.tag){case 26:X0||Ge(x,t),ft(e,t,x),x.memoizedState?x.memoizedState.count--:x.stateNode&&(x=x.stateNode,x.parentNode.removeChild(x));break;case 27:X0||Ge(x,t);var a=M0,l=Ee;zt(x.type)&&(M0=x.stateNode,Ee=!1),ft(e,t,x),Ka(x.stateNode),M0=a,Ee=l;break;case 5:X0||Ge(x,t);case 6:if(a=M0,l=Ee,M0=null,ft(e,t,x),M0=a,Ee=l,M0!==null)if(Ee)try{(M0.nodeType===9?M0.body:M0.nodeName==="HTML"?M0.ownerDocument.body:M0).removeChild(x.stateNode)}catch(o){O0(x,t,o)}else try{M0.removeChild(x.stateNode)}catch(o){O0(x,t,o)}break;case 18:M0!==null&&(Ee?(e=M0,m9(e.nodeType===9?e.body:e.nodeName==="HTML"?e.ownerDocument.body:e,x.stateNode),an(e)):m9(M0,x.stateNode));break;case 4:a=M0,l=Ee,M0=x.stateNode.containerInfo,Ee=!0,ft(e,t,x),M0=a,Ee=l;break;case 0:case 11:case 14:case 15:X0||wt(2,x,t),X0||wt(4,x,t),ft(e,t,x);break;case 1:X0||(Ge(x,t),a=x.stateNode,typeof a.componentWillUnmount=="function"&&vc(x,t,a)),ft(e,t,x);break;case 21:ft(e,t,x);break;case 22:X0=(a=X0)||x.memoizedState!==null,ft(e,t,x),X0=a;break;default:ft(e,t,x)}}function _c(e,t){if(t.memoizedState===null&&(e=t.alternate,e!==null&&(e=e.memoizedState,e!==null&&(e=e.dehydrated,e!==null))))try{an(e)}catch(x){O0(t,t.return,x)}}function YE(e){switch(e.tag){case 13:case 19:var t=e.stateNode;return t===null&&(t=e.stateNode=new kc),t;case 22:return e=e.stateNode,t=e._retryCache,t===null&&(t=e._retryCache=new kc),t;default:throw Error(i(435,e.tag))}}function So(e,t){var x=YE(e);t.forEach(function(a){var l=IE.bind(null,e,a);x.has(a)||(x.add(a),a.then(l,l))})}function Fe(e,t){var x=t.deletions;if(x!==null)for(var a=0;a<x.length;a++){var l=x[a],o=e,f=t,m=f;e:for(;m!==null;){switch(m.tag){case 27:if(zt(m.type)){M0=m.stateNode,Ee=!1;break e}break;case 5:M0=m.stateNode,Ee=!1;break e;case 3:case 4:M0=m.stateNode.containerInfo,Ee=!0;break e}m=m.return}if(M0===null)throw Error(i(160));Tc(o,f,l),M0=null,Ee=!1,o=l.alternate,o!==null&&(o.return=null),l.return=null}if(t.subtreeFlags&13878)for(t=t.child;t!==null;)Rc(t,e),t=t.sibling}var Ue=null;function Rc(e,t){var x=e.alternate,a=e.flags;switch(e.tag){case 0:case 11:case 14:case 15:Fe(t,e),ye(e),a&4&&(wt(3,e,e.return),La(3,e),wt(5,e,e.return));break;case 1:Fe(t,e),ye(e),a&512&&(X0||x===null||Ge(x,x.return)),a&64&&ct&&(e=e.updateQueue,e!==null&&(a=e.callbacks,a!==null&&(x=e.shared.hiddenCallbacks,e.shared.hiddenCallbacks=x===null?a:x.concat(a))));break;case 26:var l=Ue;if(Fe(t,e),ye(e),a&512&&(X0||x===null||Ge(x,x.return)),a&4){var o=x!==null?x.memoizedState:null;if(a=e.memoizedState,x===null)if(a===null)if(e.stateNode===null){e:{a=e.type,x=e.memoizedProps,l=l.ownerDocument||l;t:switch(a){case"title":o=l.getElementsByTagName("title")[0],(!o||o[ua]||o[xe]||o.namespaceURI==="http://www.w3.org/2000/svg"||o.hasAttribute("itemprop"))&&(o=l.createElement(a),l.head.insertBefore(o,l.querySelector("head > title"))),te(o,a,x),o[xe]=e,K0(o),a=o;break e;case"link":var f=b9("link","href",l).get(a+(x.href||""));if(f){for(var m=0;m<f.length;m++)if(o=f[m],o.getAttribute("href")===(x.href==null||x.href===""?null:x.href)&&o.getAttribute("rel")===(x.rel==null?null:x.rel)&&o.getAttribute("title")===(x.title==null?null:x.title)&&o.getAttribute("crossorigin")===(x.crossOrigin==null?null:x.crossOrigin)){f.splice(m,1);break t}}o=l.createElement(a),te(o,a,x),l.head.appendChild(o);break;case"meta":if(f=b9("meta","content",l).get(a+(x.content||""))){for(m=0;m<f.length;m++)if(o=f[m],o.getAttribute("content")===(x.content==null?null:""+x.content)&&o.getAttribute("name")===(x.name==null?null:x.name)&&o.getAttribute("property")===(x.property==null?null:x.property)&&o.getAttribute("http-equiv")===(x.httpEquiv==null?null:x.httpEquiv)&&o.getAttribute("charset")===(x.charSet==null?null:x.charSet)){f.splice(m,1);break t}}o=l.createElement(a),te(o,a,x),l.head.appendChild(o);break;default:throw Error(i(468,a))}o[xe]=e,K0(o),a=o}e.stateNode=a}else k9(l,e.type,e.stateNode);else e.stateNode=g9(l,a,e.memoizedProps);else o!==a?(o===null?x.stateNode!==null&&(x=x.stateNode,x.parentNode.removeChild(x)):o.count--,a===null?k9(l,e.type,e.stateNode):g9(l,a,e.memoizedProps)):a===null&&e.stateNode!==null&&po(e,e.memoizedProps,x.memoizedProps)}break;case 27:Fe(t,e),ye(e),a&512&&(X0||x===null||Ge(x,x.return)),x!==null&&a&4&&po(e,e.memoizedProps,x.memoizedProps);break;case 5:if(Fe(t,e),ye(e),a&512&&(X0||x===null||Ge(x,x.return)),e.flags&32){l=e.stateNode;try{Fx(l,"")}catch(Q){O0(e,e.return,Q)}}a&4&&e.stateNode!=null&&(l=e.memoizedProps,po(e,l,x!==null?x.memoizedProps:l)),a&1024&&(ko=!0);break;case 6:if(Fe(t,e),ye(e),a&4){if(e.stateNode===null)throw Error(i(162));a=e.memoizedProps,x=e.stateNode;try{x.nodeValue=a}catch(Q){O0(e,e.return,Q)}}break;case 3:if(yl=null,l=Ue,Ue=hl(t.containerInfo),Fe(t,e),Ue=l,ye(e),a&4&&x!==null&&x.memoizedState.isDehydrated)try{an(t.containerInfo)}catch(Q){O0(e,e.return,Q)}ko&&(ko=!1,Oc(e));break;case 4:a=Ue,Ue=hl(e.stateNode.containerInfo),Fe(t,e),ye(e),Ue=a;break;case 12:Fe(t,e),ye(e);break;case 13:Fe(t,e),ye(e),e.child.flags&8192&&e.memoizedState!==null!=(x!==null&&x.memoizedState!==null)&&(No=re()),a&4&&(a=e.updateQueue,a!==null&&(e.updateQueue=null,So(e,a)));break;case 22:l=e.memoizedState!==null;var k=x!==null&&x.memoizedState!==null,H=ct,Z=X0;if(ct=H||l,X0=Z||k,Fe(t,e),X0=Z,ct=H,ye(e),a&8192)e:for(t=e.stateNode,t._visibility=l?t._visibility&-2:t._visibility|1,l&&(x===null||k||ct||X0||rx(e)),x=null,t=e;;){if(t.tag===5||t.tag===26){if(x===null){k=x=t;try{if(o=k.stateNode,l)f=o.style,typeof f.setProperty=="function"?f.setProperty("display","none","important"):f.display="none";else{m=k.stateNode;var W=k.memoizedProps.style,Y=W!=null&&W.hasOwnProperty("display")?W.display:null;m.style.display=Y==null||typeof Y=="boolean"?"":(""+Y).trim()}}catch(Q){O0(k,k.return,Q)}}}else if(t.tag===6){if(x===null){k=t;try{k.stateNode.nodeValue=l?"":k.memoizedProps}catch(Q){O0(k,k.return,Q)}}}else if((t.tag!==22&&t.tag!==23||t.memoizedState===null||t===e)&&t.child!==null){t.child.return=t,t=t.child;continue}if(t===e)break e;for(;t.sibling===null;){if(t.return===null||t.return===e)break e;x===t&&(x=null),t=t.return}x===t&&(x=null),t.sibling.return=t.return,t=t.sibling}a&4&&(a=e.updateQueue,a!==null&&(x=a.retryQueue,x!==null&&(a.retryQueue=null,So(e,x))));break;case 19:Fe(t,e),ye(e),a&4&&(a=e.updateQueue,a!==null&&(e.updateQueue=null,So(e,a)));break;case 30:break;case 21:break;default:Fe(t,e),ye(e)}}function ye(e){var t=e.flags;if(t&2){try{for(var x,a=e.return;a!==null;){if(gc(a)){x=a;break}a=a.return}if(x==null)throw Error(i(160));switch(x.tag){case 27:var l=x.stateNode,o=go(e);ol(e,o,l);break;case 5:var f=x.stateNode;x.flags&32&&(Fx(f,""),x.flags&=-33);var m=go(e);ol(e,m,f);break;case 3:case 4:var k=x.stateNode.containerInfo,H=go(e);bo(e,H,k);break;default:throw Error(i(161))}}catch(Z){O0(e,e.return,Z)}e.flags&=-3}t&4096&&(e.flags&=-4097)}function Oc(e){if(e.subtreeFlags&1024)for(e=e.child;e!==null;){var t=e;Oc(t),t.tag===5&&t.flags&1024&&t.stateNode.reset(),e=e.sibling}}function Tt(e,t){if(t.subtreeFlags&8772)for(t=t.child;t!==null;)Sc(e,t.alternate,t),t=t.sibling}function rx(e){for(e=e.child;e!==null;){var t=e;switch(t.tag){case 0:case 11:case 14:case 15:wt(4,t,t.return),rx(t);break;case 1:Ge(t,t.return);var x=t.stateNode;typeof x.componentWillUnmount=="function"&&vc(t,t.return,x),rx(t);break;case 27:Ka(t.stateNode);case 26:case 5:Ge(t,t.return),rx(t);break;case 22:t.memoizedState===null&&rx(t);break;case 30:rx(t);break;default:rx(t)}e=e.sibling}}function _t(e,t,x){for(x=x&&(t.subtreeFlags&8772)!==0,t=t.child;t!==null;){var a=t.alternate,l=e,o=t,f=o.flags;switch(o.tag){case 0:case 11:case 15:_t(l,o,x),La(4,o);break;case 1:if(_t(l,o,x),a=o,l=a.stateNode,typeof l.componentDidMount=="function")try{l.componentDidMount()}catch(H){O0(a,a.return,H)}if(a=o,l=a.updateQueue,l!==null){var m=a.stateNode;try{var k=l.shared.hiddenCallbacks;if(k!==null)for(l.shared.hiddenCallbacks=null,l=0;l<k.length;l++)iu(k[l],m)}catch(H){O0(a,a.return,H)}}x&&f&64&&yc(o),Pa(o,o.return);break;case 27:bc(o);case 26:case 5:_t(l,o,x),x&&a===null&&f&4&&pc(o),Pa(o,o.return);break;case 12:_t(l,o,x);break;case 13:_t(l,o,x),x&&f&4&&_c(l,o);break;case 22:o.memoizedState===null&&_t(l,o,x),Pa(o,o.return);break;case 30:break;default:_t(l,o,x)}t=t.sibling}}function wo(e,t){var x=null;e!==null&&e.memoizedState!==null&&e.memoizedState.cachePool!==null&&(x=e.memoizedState.cachePool.pool),e=null,t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(e=t.memoizedState.cachePool.pool),e!==x&&(e!=null&&e.refCount++,x!=null&&ga(x))}function To(e,t){e=null,t.alternate!==null&&(e=t.alternate.memoizedState.cache),t=t.memoizedState.cache,t!==e&&(t.refCount++,e!=null&&ga(e))}function Ve(e,t,x,a){if(t.subtreeFlags&10256)for(t=t.child;t!==null;)Nc(e,t,x,a),t=t.sibling}function Nc(e,t,x,a){var l=t.flags;switch(t.tag){case 0:case 11:case 15:Ve(e,t,x,a),l&2048&&La(9,t);break;case 1:Ve(e,t,x,a);break;case 3:Ve(e,t,x,a),l&2048&&(e=null,t.alternate!==null&&(e=t.alternate.memoizedState.cache),t=t.memoizedState.cache,t!==e&&(t.refCount++,e!=null&&ga(e)));break;case 12:if(l&2048){Ve(e,t,x,a),e=t.stateNode;try{var o=t.memoizedProps,f=o.id,m=o.onPostCommit;typeof m=="function"&&m(f,t.alternate===null?"mount":"update",e.passiveEffectDuration,-0)}catch(k){O0(t,t.return,k)}}else Ve(e,t,x,a);break;case 13:Ve(e,t,x,a);break;case 23:break;case 22:o=t.stateNode,f=t.alternate,t.memoizedState!==null?o._visibility&2?Ve(e,t,x,a):Ha(e,t):o._visibility&2?Ve(e,t,x,a):(o._visibility|=2,Px(e,t,x,a,(t.subtreeFlags&10256)!==0)),l&2048&&wo(f,t);break;case 24:Ve(e,t,x,a),l&2048&&To(t.alternate,t);break;default:Ve(e,t,x,a)}}function Px(e,t,x,a,l){for(l=l&&(t.subtreeFlags&10256)!==0,t=t.child;t!==null;){var o=e,f=t,m=x,k=a,H=f.flags;switch(f.tag){case 0:case 11:case 15:Px(o,f,m,k,l),La(8,f);break;case 23:break;case 22:var Z=f.stateNode;f.memoizedState!==null?Z._visibility&2?Px(o,f,m,k,l):Ha(o,f):(Z._visibility|=2,Px(o,f,m,k,l)),l&&H&2048&&wo(f.alternate,f);break;case 24:Px(o,f,m,k,l),l&&H&2048&&To(f.alternate,f);break;default:Px(o,f,m,k,l)}t=t.sibling}}function Ha(e,t){if(t.subtreeFlags&10256)for(t=t.child;t!==null;){var x=e,a=t,l=a.flags;switch(a.tag){case 22:Ha(x,a),l&2048&&wo(a.alternate,a);break;case 24:Ha(x,a),l&2048&&To(a.alternate,a);break;default:Ha(x,a)}t=t.sibling}}var qa=8192;function Hx(e){if(e.subtreeFlags&qa)for(e=e.child;e!==null;)Mc(e),e=e.sibling}function Mc(e){switch(e.tag){case 26:Hx(e),e.flags&qa&&e.memoizedState!==null&&w6(Ue,e.memoizedState,e.memoizedProps);break;case 5:Hx(e);break;case 3:case 4:var t=Ue;Ue=hl(e.stateNode.containerInfo),Hx(e),Ue=t;break;case 22:e.memoizedState===null&&(t=e.alternate,t!==null&&t.memoizedState!==null?(t=qa,qa=16777216,Hx(e),qa=t):Hx(e));break;default:Hx(e)}}function jc(e){var t=e.alternate;if(t!==null&&(e=t.child,e!==null)){t.child=null;do t=e.sibling,e.sibling=null,e=t;while(e!==null)}}function Xa(e){var t=e.deletions;if((e.flags&16)!==0){if(t!==null)for(var x=0;x<t.length;x++){var a=t[x];$0=a,Uc(a,e)}jc(e)}if(e.subtreeFlags&10256)for(e=e.child;e!==null;)zc(e),e=e.sibling}function zc(e){switch(e.tag){case 0:case 11:case 15:Xa(e),e.flags&2048&&wt(9,e,e.return);break;case 3:Xa(e);break;case 12:Xa(e);break;case 22:var t=e.stateNode;e.memoizedState!==null&&t._visibility&2&&(e.return===null||e.return.tag!==13)?(t._visibility&=-3,il(e)):Xa(e);break;default:Xa(e)}}function il(e){var t=e.deletions;if((e.flags&16)!==0){if(t!==null)for(var x=0;x<t.length;x++){var a=t[x];$0=a,Uc(a,e)}jc(e)}for(e=e.child;e!==null;){switch(t=e,t.tag){case 0:case 11:case 15:wt(8,t,t.return),il(t);break;case 22:x=t.stateNode,x._visibility&2&&(x._visibility&=-3,il(t));break;default:il(t)}e=e.sibling}}function Uc(e,t){for(;$0!==null;){var x=$0;switch(x.tag){case 0:case 11:case 15:wt(8,x,t);break;case 23:case 22:if(x.memoizedState!==null&&x.memoizedState.cachePool!==null){var a=x.memoizedState.cachePool.pool;a!=null&&a.refCount++}break;case 24:ga(x.memoizedState.cache)}if(a=x.child,a!==null)a.return=x,$0=a;else e:for(x=e;$0!==null;){a=$0;var l=a.sibling,o=a.return;if(wc(a),a===x){$0=null;break e}if(l!==null){l.return=o,$0=l;break e}$0=o}}}var QE={getCacheForType:function(e){var t=ae(V0),x=t.data.get(e);return x===void 0&&(x=e(),t.data.set(e,x)),x}},GE=typeof WeakMap=="function"?WeakMap:Map,S0=0,N0=null,h0=null,y0=0,w0=0,ve=null,Rt=!1,qx=!1,_o=!1,Et=0,P0=0,Ot=0,ox=0,Ro=0,Ne=0,Xx=0,Ya=null,de=null,Oo=!1,No=0,sl=1/0,ul=null,Nt=null,ee=0,Mt=null,Yx=null,Qx=0,Mo=0,jo=null,Lc=null,Qa=0,zo=null;function pe(){if((S0&2)!==0&&y0!==0)return y0&-y0;if(R.T!==null){var e=Rx;return e!==0?e:Yo()}return ts()}function Pc(){Ne===0&&(Ne=(y0&536870912)===0||b0?$i():536870912);var e=Oe.current;return e!==null&&(e.flags|=32),Ne}function ge(e,t,x){(e===N0&&(w0===2||w0===9)||e.cancelPendingCommit!==null)&&(Gx(e,0),jt(e,y0,Ne,!1)),sa(e,x),((S0&2)===0||e!==N0)&&(e===N0&&((S0&2)===0&&(ox|=x),P0===4&&jt(e,y0,Ne,!1)),Ze(e))}function Hc(e,t,x){if((S0&6)!==0)throw Error(i(327));var a=!x&&(t&124)===0&&(t&e.expiredLanes)===0||ia(e,t),l=a?KE(e,t):Po(e,t,!0),o=a;do{if(l===0){qx&&!a&&jt(e,t,0,!1);break}else{if(x=e.current.alternate,o&&!VE(x)){l=Po(e,t,!1),o=!1;continue}if(l===2){if(o=t,e.errorRecoveryDisabledLanes&o)var f=0;else f=e.pendingLanes&-536870913,f=f!==0?f:f&536870912?536870912:0;if(f!==0){t=f;e:{var m=e;l=Ya;var k=m.current.memoizedState.isDehydrated;if(k&&(Gx(m,f).flags|=256),f=Po(m,f,!1),f!==2){if(_o&&!k){m.errorRecoveryDisabledLanes|=o,ox|=o,l=4;break e}o=de,de=l,o!==null&&(de===null?de=o:de.push.apply(de,o))}l=f}if(o=!1,l!==2)continue}}if(l===1){Gx(e,0),jt(e,t,0,!0);break}e:{switch(a=e,o=l,o){case 0:case 1:throw Error(i(345));case 4:if((t&4194048)!==t)break;case 6:jt(a,t,Ne,!Rt);break e;case 2:de=null;break;case 3:case 5:break;default:throw Error(i(329))}if((t&62914560)===t&&(l=No+300-re(),10<l)){if(jt(a,t,Ne,!Rt),Fn(a,0,!0)!==0)break e;a.timeoutHandle=C9(qc.bind(null,a,x,de,ul,Oo,t,Ne,ox,Xx,Rt,o,2,-0,0),l);break e}qc(a,x,de,ul,Oo,t,Ne,ox,Xx,Rt,o,0,-0,0)}}break}while(!0);Ze(e)}function qc(e,t,x,a,l,o,f,m,k,H,Z,W,Y,Q){if(e.timeoutHandle=-1,W=t.subtreeFlags,(W&8192||(W&16785408)===16785408)&&(Wa={stylesheets:null,count:0,unsuspend:S6},Mc(t),W=T6(),W!==null)){e.cancelPendingCommit=W(Kc.bind(null,e,t,o,x,a,l,f,m,k,Z,1,Y,Q)),jt(e,o,f,!H);return}Kc(e,t,o,x,a,l,f,m,k)}function VE(e){for(var t=e;;){var x=t.tag;if((x===0||x===11||x===15)&&t.flags&16384&&(x=t.updateQueue,x!==null&&(x=x.stores,x!==null)))for(var a=0;a<x.length;a++){var l=x[a],o=l.getSnapshot;l=l.value;try{if(!De(o(),l))return!1}catch{return!1}}if(x=t.child,t.subtreeFlags&16384&&x!==null)x.return=t,t=x;else{if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return!0;t=t.return}t.sibling.return=t.return,t=t.sibling}}return!0}function jt(e,t,x,a){t&=~Ro,t&=~ox,e.suspendedLanes|=t,e.pingedLanes&=~t,a&&(e.warmLanes|=t),a=e.expirationTimes;for(var l=t;0<l;){var o=31-me(l),f=1<<o;a[o]=-1,l&=~f}x!==0&&Ii(e,x,t)}function cl(){return(S0&6)===0?(Ga(0),!1):!0}function Uo(){if(h0!==null){if(w0===0)var e=h0.return;else e=h0,lt=tx=null,eo(e),Ux=null,ja=0,e=h0;for(;e!==null;)Fc(e.alternate,e),e=e.return;h0=null}}function Gx(e,t){var x=e.timeoutHandle;x!==-1&&(e.timeoutHandle=-1,c6(x)),x=e.cancelPendingCommit,x!==null&&(e.cancelPendingCommit=null,x()),Uo(),N0=e,h0=x=xt(e.current,null),y0=t,w0=0,ve=null,Rt=!1,qx=ia(e,t),_o=!1,Xx=Ne=Ro=ox=Ot=P0=0,de=Ya=null,Oo=!1,(t&8)!==0&&(t|=t&32);var a=e.entangledLanes;if(a!==0)for(e=e.entanglements,a&=t;0<a;){var l=31-me(a),o=1<<l;t|=e[l],a&=~o}return Et=t,On(),x}function Xc(e,t){A0=null,R.H=Wn,t===ka||t===qn?(t=ru(),w0=3):t===au?(t=ru(),w0=4):w0=t===oc?8:t!==null&&typeof t=="object"&&typeof t.then=="function"?6:1,ve=t,h0===null&&(P0=1,al(e,we(t,e.current)))}function Yc(){var e=R.H;return R.H=Wn,e===null?Wn:e}function Qc(){var e=R.A;return R.A=QE,e}function Lo(){P0=4,Rt||(y0&4194048)!==y0&&Oe.current!==null||(qx=!0),(Ot&134217727)===0&&(ox&134217727)===0||N0===null||jt(N0,y0,Ne,!1)}function Po(e,t,x){var a=S0;S0|=2;var l=Yc(),o=Qc();(N0!==e||y0!==t)&&(ul=null,Gx(e,t)),t=!1;var f=P0;e:do try{if(w0!==0&&h0!==null){var m=h0,k=ve;switch(w0){case 8:Uo(),f=6;break e;case 3:case 2:case 9:case 6:Oe.current===null&&(t=!0);var H=w0;if(w0=0,ve=null,Vx(e,m,k,H),x&&qx){f=0;break e}break;default:H=w0,w0=0,ve=null,Vx(e,m,k,H)}}ZE(),f=P0;break}catch(Z){Xc(e,Z)}while(!0);return t&&e.shellSuspendCounter++,lt=tx=null,S0=a,R.H=l,R.A=o,h0===null&&(N0=null,y0=0,On()),f}function ZE(){for(;h0!==null;)Gc(h0)}function KE(e,t){var x=S0;S0|=2;var a=Yc(),l=Qc();N0!==e||y0!==t?(ul=null,sl=re()+500,Gx(e,t)):qx=ia(e,t);e:do try{if(w0!==0&&h0!==null){t=h0;var o=ve;t:switch(w0){case 1:w0=0,ve=null,Vx(e,t,o,1);break;case 2:case 9:if(nu(o)){w0=0,ve=null,Vc(t);break}t=function(){w0!==2&&w0!==9||N0!==e||(w0=7),Ze(e)},o.then(t,t);break e;case 3:w0=7;break e;case 4:w0=5;break e;case 7:nu(o)?(w0=0,ve=null,Vc(t)):(w0=0,ve=null,Vx(e,t,o,7));break;case 5:var f=null;switch(h0.tag){case 26:f=h0.memoizedState;case 5:case 27:var m=h0;if(!f||S9(f)){w0=0,ve=null;var k=m.sibling;if(k!==null)h0=k;else{var H=m.return;H!==null?(h0=H,fl(H)):h0=null}break t}}w0=0,ve=null,Vx(e,t,o,5);break;case 6:w0=0,ve=null,Vx(e,t,o,6);break;case 8:Uo(),P0=6;break e;default:throw Error(i(462))}}JE();break}catch(Z){Xc(e,Z)}while(!0);return lt=tx=null,R.H=a,R.A=l,S0=x,h0!==null?0:(N0=null,y0=0,On(),P0)}function JE(){for(;h0!==null&&!Ie();)Gc(h0)}function Gc(e){var t=Dc(e.alternate,e,Et);e.memoizedProps=e.pendingProps,t===null?fl(e):h0=t}function Vc(e){var t=e,x=t.alternate;switch(t.tag){case 15:case 0:t=Ec(x,t,t.pendingProps,t.type,void 0,y0);break;case 11:t=Ec(x,t,t.pendingProps,t.type.render,t.ref,y0);break;case 5:eo(t);default:Fc(x,t),t=h0=Zs(t,Et),t=Dc(x,t,Et)}e.memoizedProps=e.pendingProps,t===null?fl(e):h0=t}function Vx(e,t,x,a){lt=tx=null,eo(t),Ux=null,ja=0;var l=t.return;try{if(LE(e,l,t,x,y0)){P0=1,al(e,we(x,e.current)),h0=null;return}}catch(o){if(l!==null)throw h0=l,o;P0=1,al(e,we(x,e.current)),h0=null;return}t.flags&32768?(b0||a===1?e=!0:qx||(y0&536870912)!==0?e=!1:(Rt=e=!0,(a===2||a===9||a===3||a===6)&&(a=Oe.current,a!==null&&a.tag===13&&(a.flags|=16384))),Zc(t,e)):fl(t)}function fl(e){var t=e;do{if((t.flags&32768)!==0){Zc(t,Rt);return}e=t.return;var x=HE(t.alternate,t,Et);if(x!==null){h0=x;return}if(t=t.sibling,t!==null){h0=t;return}h0=t=e}while(t!==null);P0===0&&(P0=5)}function Zc(e,t){do{var x=qE(e.alternate,e);if(x!==null){x.flags&=32767,h0=x;return}if(x=e.return,x!==null&&(x.flags|=32768,x.subtreeFlags=0,x.deletions=null),!t&&(e=e.sibling,e!==null)){h0=e;return}h0=e=x}while(e!==null);P0=6,h0=null}function Kc(e,t,x,a,l,o,f,m,k){e.cancelPendingCommit=null;do El();while(ee!==0);if((S0&6)!==0)throw Error(i(327));if(t!==null){if(t===e.current)throw Error(i(177));if(o=t.lanes|t.childLanes,o|=wr,Sf(e,x,o,f,m,k),e===N0&&(h0=N0=null,y0=0),Yx=t,Mt=e,Qx=x,Mo=o,jo=l,Lc=a,(t.subtreeFlags&10256)!==0||(t.flags&10256)!==0?(e.callbackNode=null,e.callbackPriority=0,e6(oe,function(){return e9(),null})):(e.callbackNode=null,e.callbackPriority=0),a=(t.flags&13878)!==0,(t.subtreeFlags&13878)!==0||a){a=R.T,R.T=null,l=G.p,G.p=2,f=S0,S0|=4;try{XE(e,t,x)}finally{S0=f,G.p=l,R.T=a}}ee=1,Jc(),$c(),Wc()}}function Jc(){if(ee===1){ee=0;var e=Mt,t=Yx,x=(t.flags&13878)!==0;if((t.subtreeFlags&13878)!==0||x){x=R.T,R.T=null;var a=G.p;G.p=2;var l=S0;S0|=4;try{Rc(t,e);var o=Wo,f=Us(e.containerInfo),m=o.focusedElem,k=o.selectionRange;if(f!==m&&m&&m.ownerDocument&&zs(m.ownerDocument.documentElement,m)){if(k!==null&&pr(m)){var H=k.start,Z=k.end;if(Z===void 0&&(Z=H),"selectionStart"in m)m.selectionStart=H,m.selectionEnd=Math.min(Z,m.value.length);else{var W=m.ownerDocument||document,Y=W&&W.defaultView||window;if(Y.getSelection){var Q=Y.getSelection(),d0=m.textContent.length,f0=Math.min(k.start,d0),R0=k.end===void 0?f0:Math.min(k.end,d0);!Q.extend&&f0>R0&&(f=R0,R0=f0,f0=f);var U=js(m,f0),M=js(m,R0);if(U&&M&&(Q.rangeCount!==1||Q.anchorNode!==U.node||Q.anchorOffset!==U.offset||Q.focusNode!==M.node||Q.focusOffset!==M.offset)){var P=W.createRange();P.setStart(U.node,U.offset),Q.removeAllRanges(),f0>R0?(Q.addRange(P),Q.extend(M.node,M.offset)):(P.setEnd(M.node,M.offset),Q.addRange(P))}}}}for(W=[],Q=m;Q=Q.parentNode;)Q.nodeType===1&&W.push({element:Q,left:Q.scrollLeft,top:Q.scrollTop});for(typeof m.focus=="function"&&m.focus(),m=0;m<W.length;m++){var K=W[m];K.element.scrollLeft=K.left,K.element.scrollTop=K.top}}gl=!!$o,Wo=$o=null}finally{S0=l,G.p=a,R.T=x}}e.current=t,ee=2}}function $c(){if(ee===2){ee=0;var e=Mt,t=Yx,x=(t.flags&8772)!==0;if((t.subtreeFlags&8772)!==0||x){x=R.T,R.T=null;var a=G.p;G.p=2;var l=S0;S0|=4;try{Sc(e,t.alternate,t)}finally{S0=l,G.p=a,R.T=x}}ee=3}}function Wc(){if(ee===4||ee===3){ee=0,Xt();var e=Mt,t=Yx,x=Qx,a=Lc;(t.subtreeFlags&10256)!==0||(t.flags&10256)!==0?ee=5:(ee=0,Yx=Mt=null,Ic(e,e.pendingLanes));var l=e.pendingLanes;if(l===0&&(Nt=null),ar(x),t=t.stateNode,Ae&&typeof Ae.onCommitFiberRoot=="function")try{Ae.onCommitFiberRoot(oa,t,void 0,(t.current.flags&128)===128)}catch{}if(a!==null){t=R.T,l=G.p,G.p=2,R.T=null;try{for(var o=e.onRecoverableError,f=0;f<a.length;f++){var m=a[f];o(m.value,{componentStack:m.stack})}}finally{R.T=t,G.p=l}}(Qx&3)!==0&&El(),Ze(e),l=e.pendingLanes,(x&4194090)!==0&&(l&42)!==0?e===zo?Qa++:(Qa=0,zo=e):Qa=0,Ga(0)}}function Ic(e,t){(e.pooledCacheLanes&=t)===0&&(t=e.pooledCache,t!=null&&(e.pooledCache=null,ga(t)))}function El(e){return Jc(),$c(),Wc(),e9()}function e9(){if(ee!==5)return!1;var e=Mt,t=Mo;Mo=0;var x=ar(Qx),a=R.T,l=G.p;try{G.p=32>x?32:x,R.T=null,x=jo,jo=null;var o=Mt,f=Qx;if(ee=0,Yx=Mt=null,Qx=0,(S0&6)!==0)throw Error(i(331));var m=S0;if(S0|=4,zc(o.current),Nc(o,o.current,f,x),S0=m,Ga(0,!1),Ae&&typeof Ae.onPostCommitFiberRoot=="function")try{Ae.onPostCommitFiberRoot(oa,o)}catch{}return!0}finally{G.p=l,R.T=a,Ic(e,t)}}function t9(e,t,x){t=we(x,t),t=Bo(e.stateNode,t,2),e=gt(e,t,2),e!==null&&(sa(e,2),Ze(e))}function O0(e,t,x){if(e.tag===3)t9(e,e,x);else for(;t!==null;){if(t.tag===3){t9(t,e,x);break}else if(t.tag===1){var a=t.stateNode;if(typeof t.type.getDerivedStateFromError=="function"||typeof a.componentDidCatch=="function"&&(Nt===null||!Nt.has(a))){e=we(x,e),x=lc(2),a=gt(t,x,2),a!==null&&(rc(x,a,t,e),sa(a,2),Ze(a));break}}t=t.return}}function Ho(e,t,x){var a=e.pingCache;if(a===null){a=e.pingCache=new GE;var l=new Set;a.set(t,l)}else l=a.get(t),l===void 0&&(l=new Set,a.set(t,l));l.has(x)||(_o=!0,l.add(x),e=$E.bind(null,e,t,x),t.then(e,e))}function $E(e,t,x){var a=e.pingCache;a!==null&&a.delete(t),e.pingedLanes|=e.suspendedLanes&x,e.warmLanes&=~x,N0===e&&(y0&x)===x&&(P0===4||P0===3&&(y0&62914560)===y0&&300>re()-No?(S0&2)===0&&Gx(e,0):Ro|=x,Xx===y0&&(Xx=0)),Ze(e)}function x9(e,t){t===0&&(t=Wi()),e=Sx(e,t),e!==null&&(sa(e,t),Ze(e))}function WE(e){var t=e.memoizedState,x=0;t!==null&&(x=t.retryLane),x9(e,x)}function IE(e,t){var x=0;switch(e.tag){case 13:var a=e.stateNode,l=e.memoizedState;l!==null&&(x=l.retryLane);break;case 19:a=e.stateNode;break;case 22:a=e.stateNode._retryCache;break;default:throw Error(i(314))}a!==null&&a.delete(t),x9(e,x)}function e6(e,t){return mt(e,t)}var dl=null,Zx=null,qo=!1,Bl=!1,Xo=!1,ix=0;function Ze(e){e!==Zx&&e.next===null&&(Zx===null?dl=Zx=e:Zx=Zx.next=e),Bl=!0,qo||(qo=!0,x6())}function Ga(e,t){if(!Xo&&Bl){Xo=!0;do for(var x=!1,a=dl;a!==null;){if(e!==0){var l=a.pendingLanes;if(l===0)var o=0;else{var f=a.suspendedLanes,m=a.pingedLanes;o=(1<<31-me(42|e)+1)-1,o&=l&~(f&~m),o=o&201326741?o&201326741|1:o?o|2:0}o!==0&&(x=!0,r9(a,o))}else o=y0,o=Fn(a,a===N0?o:0,a.cancelPendingCommit!==null||a.timeoutHandle!==-1),(o&3)===0||ia(a,o)||(x=!0,r9(a,o));a=a.next}while(x);Xo=!1}}function t6(){a9()}function a9(){Bl=qo=!1;var e=0;ix!==0&&(u6()&&(e=ix),ix=0);for(var t=re(),x=null,a=dl;a!==null;){var l=a.next,o=n9(a,t);o===0?(a.next=null,x===null?dl=l:x.next=l,l===null&&(Zx=x)):(x=a,(e!==0||(o&3)!==0)&&(Bl=!0)),a=l}Ga(e)}function n9(e,t){for(var x=e.suspendedLanes,a=e.pingedLanes,l=e.expirationTimes,o=e.pendingLanes&-62914561;0<o;){var f=31-me(o),m=1<<f,k=l[f];k===-1?((m&x)===0||(m&a)!==0)&&(l[f]=kf(m,t)):k<=t&&(e.expiredLanes|=m),o&=~m}if(t=N0,x=y0,x=Fn(e,e===t?x:0,e.cancelPendingCommit!==null||e.timeoutHandle!==-1),a=e.callbackNode,x===0||e===t&&(w0===2||w0===9)||e.cancelPendingCommit!==null)return a!==null&&a!==null&&We(a),e.callbackNode=null,e.callbackPriority=0;if((x&3)===0||ia(e,x)){if(t=x&-x,t===e.callbackPriority)return t;switch(a!==null&&We(a),ar(x)){case 2:case 8:x=Ki;break;case 32:x=oe;break;case 268435456:x=Ji;break;default:x=oe}return a=l9.bind(null,e),x=mt(x,a),e.callbackPriority=t,e.callbackNode=x,t}return a!==null&&a!==null&&We(a),e.callbackPriority=2,e.callbackNode=null,2}function l9(e,t){if(ee!==0&&ee!==5)return e.callbackNode=null,e.callbackPriority=0,null;var x=e.callbackNode;if(El()&&e.callbackNode!==x)return null;var a=y0;return a=Fn(e,e===N0?a:0,e.cancelPendingCommit!==null||e.timeoutHandle!==-1),a===0?null:(Hc(e,a,t),n9(e,re()),e.callbackNode!=null&&e.callbackNode===x?l9.bind(null,e):null)}function r9(e,t){if(El())return null;Hc(e,t,!0)}function x6(){f6(function(){(S0&6)!==0?mt(Ce,t6):a9()})}function Yo(){return ix===0&&(ix=$i()),ix}function o9(e){return e==null||typeof e=="symbol"||typeof e=="boolean"?null:typeof e=="function"?e:bn(""+e)}function i9(e,t){var x=t.ownerDocument.createElement("input");return x.name=t.name,x.value=t.value,e.id&&x.setAttribute("form",e.id),t.parentNode.insertBefore(x,t),e=new FormData(e),x.parentNode.removeChild(x),e}function a6(e,t,x,a,l){if(t==="submit"&&x&&x.stateNode===l){var o=o9((l[ue]||null).action),f=a.submitter;f&&(t=(t=f[ue]||null)?o9(t.formAction):f.getAttribute("formAction"),t!==null&&(o=t,f=null));var m=new Tn("action","action",null,a,l);e.push({event:m,listeners:[{instance:null,listener:function(){if(a.defaultPrevented){if(ix!==0){var k=f?i9(l,f):new FormData(l);so(x,{pending:!0,data:k,method:l.method,action:o},null,k)}}else typeof o=="function"&&(m.preventDefault(),k=f?i9(l,f):new FormData(l),so(x,{pending:!0,data:k,method:l.method,action:o},o,k))},currentTarget:l}]})}}for(var Qo=0;Qo<Sr.length;Qo++){var Go=Sr[Qo],n6=Go.toLowerCase(),l6=Go[0].toUpperCase()+Go.slice(1);ze(n6,"on"+l6)}ze(Hs,"onAnimationEnd"),ze(qs,"onAnimationIteration"),ze(Xs,"onAnimationStart"),ze("dblclick","onDoubleClick"),ze("focusin","onFocus"),ze("focusout","onBlur"),ze(yE,"onTransitionRun"),ze(vE,"onTransitionStart"),ze(pE,"onTransitionCancel"),ze(Ys,"onTransitionEnd"),mx("onMouseEnter",["mouseout","mouseover"]),mx("onMouseLeave",["mouseout","mouseover"]),mx("onPointerEnter",["pointerout","pointerover"]),mx("onPointerLeave",["pointerout","pointerover"]),Gt("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),Gt("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),Gt("onBeforeInput",["compositionend","keypress","textInput","paste"]),Gt("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),Gt("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),Gt("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Va="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),r6=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(Va));function s9(e,t){t=(t&4)!==0;for(var x=0;x<e.length;x++){var a=e[x],l=a.event;a=a.listeners;e:{var o=void 0;if(t)for(var f=a.length-1;0<=f;f--){var m=a[f],k=m.instance,H=m.currentTarget;if(m=m.listener,k!==o&&l.isPropagationStopped())break e;o=m,l.currentTarget=H;try{o(l)}catch(Z){xl(Z)}l.currentTarget=null,o=k}else for(f=0;f<a.length;f++){if(m=a[f],k=m.instance,H=m.currentTarget,m=m.listener,k!==o&&l.isPropagationStopped())break e;o=m,l.currentTarget=H;try{o(l)}catch(Z){xl(Z)}l.currentTarget=null,o=k}}}}function F0(e,t){var x=t[nr];x===void 0&&(x=t[nr]=new Set);var a=e+"__bubble";x.has(a)||(u9(t,e,2,!1),x.add(a))}function Vo(e,t,x){var a=0;t&&(a|=4),u9(x,e,a,t)}var Cl="_reactListening"+Math.random().toString(36).slice(2);function Zo(e){if(!e[Cl]){e[Cl]=!0,as.forEach(function(x){x!=="selectionchange"&&(r6.has(x)||Vo(x,!1,e),Vo(x,!0,e))});var t=e.nodeType===9?e:e.ownerDocument;t===null||t[Cl]||(t[Cl]=!0,Vo("selectionchange",!1,t))}}function u9(e,t,x,a){switch(N9(t)){case 2:var l=O6;break;case 8:l=N6;break;default:l=ii}x=l.bind(null,t,x,e),l=void 0,!Br||t!=="touchstart"&&t!=="touchmove"&&t!=="wheel"||(l=!0),a?l!==void 0?e.addEventListener(t,x,{capture:!0,passive:l}):e.addEventListener(t,x,!0):l!==void 0?e.addEventListener(t,x,{passive:l}):e.addEventListener(t,x,!1)}function Ko(e,t,x,a,l){var o=a;if((t&1)===0&&(t&2)===0&&a!==null)e:for(;;){if(a===null)return;var f=a.tag;if(f===3||f===4){var m=a.stateNode.containerInfo;if(m===l)break;if(f===4)for(f=a.return;f!==null;){var k=f.tag;if((k===3||k===4)&&f.stateNode.containerInfo===l)return;f=f.return}for(;m!==null;){if(f=Bx(m),f===null)return;if(k=f.tag,k===5||k===6||k===26||k===27){a=o=f;continue e}m=m.parentNode}}a=a.return}As(function(){var H=o,Z=Er(x),W=[];e:{var Y=Qs.get(e);if(Y!==void 0){var Q=Tn,d0=e;switch(e){case"keypress":if(Sn(x)===0)break e;case"keydown":case"keyup":Q=eE;break;case"focusin":d0="focus",Q=Dr;break;case"focusout":d0="blur",Q=Dr;break;case"beforeblur":case"afterblur":Q=Dr;break;case"click":if(x.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":Q=hs;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":Q=qf;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":Q=aE;break;case Hs:case qs:case Xs:Q=Qf;break;case Ys:Q=lE;break;case"scroll":case"scrollend":Q=Pf;break;case"wheel":Q=oE;break;case"copy":case"cut":case"paste":Q=Vf;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":Q=ys;break;case"toggle":case"beforetoggle":Q=sE}var f0=(t&4)!==0,R0=!f0&&(e==="scroll"||e==="scrollend"),U=f0?Y!==null?Y+"Capture":null:Y;f0=[];for(var M=H,P;M!==null;){var K=M;if(P=K.stateNode,K=K.tag,K!==5&&K!==26&&K!==27||P===null||U===null||(K=fa(M,U),K!=null&&f0.push(Za(M,K,P))),R0)break;M=M.return}0<f0.length&&(Y=new Q(Y,d0,null,x,Z),W.push({event:Y,listeners:f0}))}}if((t&7)===0){e:{if(Y=e==="mouseover"||e==="pointerover",Q=e==="mouseout"||e==="pointerout",Y&&x!==fr&&(d0=x.relatedTarget||x.fromElement)&&(Bx(d0)||d0[dx]))break e;if((Q||Y)&&(Y=Z.window===Z?Z:(Y=Z.ownerDocument)?Y.defaultView||Y.parentWindow:window,Q?(d0=x.relatedTarget||x.toElement,Q=H,d0=d0?Bx(d0):null,d0!==null&&(R0=c(d0),f0=d0.tag,d0!==R0||f0!==5&&f0!==27&&f0!==6)&&(d0=null)):(Q=null,d0=H),Q!==d0)){if(f0=hs,K="onMouseLeave",U="onMouseEnter",M="mouse",(e==="pointerout"||e==="pointerover")&&(f0=ys,K="onPointerLeave",U="onPointerEnter",M="pointer"),R0=Q==null?Y:ca(Q),P=d0==null?Y:ca(d0),Y=new f0(K,M+"leave",Q,x,Z),Y.target=R0,Y.relatedTarget=P,K=null,Bx(Z)===H&&(f0=new f0(U,M+"enter",d0,x,Z),f0.target=P,f0.relatedTarget=R0,K=f0),R0=K,Q&&d0)t:{for(f0=Q,U=d0,M=0,P=f0;P;P=Kx(P))M++;for(P=0,K=U;K;K=Kx(K))P++;for(;0<M-P;)f0=Kx(f0),M--;for(;0<P-M;)U=Kx(U),P--;for(;M--;){if(f0===U||U!==null&&f0===U.alternate)break t;f0=Kx(f0),U=Kx(U)}f0=null}else f0=null;Q!==null&&c9(W,Y,Q,f0,!1),d0!==null&&R0!==null&&c9(W,R0,d0,f0,!0)}}e:{if(Y=H?ca(H):window,Q=Y.nodeName&&Y.nodeName.toLowerCase(),Q==="select"||Q==="input"&&Y.type==="file")var s0=Ts;else if(Ss(Y))if(_s)s0=DE;else{s0=AE;var D0=CE}else Q=Y.nodeName,!Q||Q.toLowerCase()!=="input"||Y.type!=="checkbox"&&Y.type!=="radio"?H&&cr(H.elementType)&&(s0=Ts):s0=mE;if(s0&&(s0=s0(e,H))){ws(W,s0,x,Z);break e}D0&&D0(e,Y,H),e==="focusout"&&H&&Y.type==="number"&&H.memoizedProps.value!=null&&ur(Y,"number",Y.value)}switch(D0=H?ca(H):window,e){case"focusin":(Ss(D0)||D0.contentEditable==="true")&&(gx=D0,gr=H,ha=null);break;case"focusout":ha=gr=gx=null;break;case"mousedown":br=!0;break;case"contextmenu":case"mouseup":case"dragend":br=!1,Ls(W,x,Z);break;case"selectionchange":if(FE)break;case"keydown":case"keyup":Ls(W,x,Z)}var c0;if(Fr)e:{switch(e){case"compositionstart":var E0="onCompositionStart";break e;case"compositionend":E0="onCompositionEnd";break e;case"compositionupdate":E0="onCompositionUpdate";break e}E0=void 0}else px?bs(e,x)&&(E0="onCompositionEnd"):e==="keydown"&&x.keyCode===229&&(E0="onCompositionStart");E0&&(vs&&x.locale!=="ko"&&(px||E0!=="onCompositionStart"?E0==="onCompositionEnd"&&px&&(c0=ms()):(Ft=Z,Cr="value"in Ft?Ft.value:Ft.textContent,px=!0)),D0=Al(H,E0),0<D0.length&&(E0=new Fs(E0,e,null,x,Z),W.push({event:E0,listeners:D0}),c0?E0.data=c0:(c0=ks(x),c0!==null&&(E0.data=c0)))),(c0=cE?fE(e,x):EE(e,x))&&(E0=Al(H,"onBeforeInput"),0<E0.length&&(D0=new Fs("onBeforeInput","beforeinput",null,x,Z),W.push({event:D0,listeners:E0}),D0.data=c0)),a6(W,e,H,x,Z)}s9(W,t)})}function Za(e,t,x){return{instance:e,listener:t,currentTarget:x}}function Al(e,t){for(var x=t+"Capture",a=[];e!==null;){var l=e,o=l.stateNode;if(l=l.tag,l!==5&&l!==26&&l!==27||o===null||(l=fa(e,x),l!=null&&a.unshift(Za(e,l,o)),l=fa(e,t),l!=null&&a.push(Za(e,l,o))),e.tag===3)return a;e=e.return}return[]}function Kx(e){if(e===null)return null;do e=e.return;while(e&&e.tag!==5&&e.tag!==27);return e||null}function c9(e,t,x,a,l){for(var o=t._reactName,f=[];x!==null&&x!==a;){var m=x,k=m.alternate,H=m.stateNode;if(m=m.tag,k!==null&&k===a)break;m!==5&&m!==26&&m!==27||H===null||(k=H,l?(H=fa(x,o),H!=null&&f.unshift(Za(x,H,k))):l||(H=fa(x,o),H!=null&&f.push(Za(x,H,k)))),x=x.return}f.length!==0&&e.push({event:t,listeners:f})}var o6=/\r\n?/g,i6=/\u0000|\uFFFD/g;function f9(e){return(typeof e=="string"?e:""+e).replace(o6,`
+`).replace(i6,"")}function E9(e,t){return t=f9(t),f9(e)===t}function ml(){}function _0(e,t,x,a,l,o){switch(x){case"children":typeof a=="string"?t==="body"||t==="textarea"&&a===""||Fx(e,a):(typeof a=="number"||typeof a=="bigint")&&t!=="body"&&Fx(e,""+a);break;case"className":vn(e,"class",a);break;case"tabIndex":vn(e,"tabindex",a);break;case"dir":case"role":case"viewBox":case"width":case"height":vn(e,x,a);break;case"style":Bs(e,a,o);break;case"data":if(t!=="object"){vn(e,"data",a);break}case"src":case"href":if(a===""&&(t!=="a"||x!=="href")){e.removeAttribute(x);break}if(a==null||typeof a=="function"||typeof a=="symbol"||typeof a=="boolean"){e.removeAttribute(x);break}a=bn(""+a),e.setAttribute(x,a);break;case"action":case"formAction":if(typeof a=="function"){e.setAttribute(x,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof o=="function"&&(x==="formAction"?(t!=="input"&&_0(e,t,"name",l.name,l,null),_0(e,t,"formEncType",l.formEncType,l,null),_0(e,t,"formMethod",l.formMethod,l,null),_0(e,t,"formTarget",l.formTarget,l,null)):(_0(e,t,"encType",l.encType,l,null),_0(e,t,"method",l.method,l,null),_0(e,t,"target",l.target,l,null)));if(a==null||typeof a=="symbol"||typeof a=="boolean"){e.removeAttribute(x);break}a=bn(""+a),e.setAttribute(x,a);break;case"onClick":a!=null&&(e.onclick=ml);break;case"onScroll":a!=null&&F0("scroll",e);break;case"onScrollEnd":a!=null&&F0("scrollend",e);break;case"dangerouslySetInnerHTML":if(a!=null){if(typeof a!="object"||!("__html"in a))throw Error(i(61));if(x=a.__html,x!=null){if(l.children!=null)throw Error(i(60));e.innerHTML=x}}break;case"multiple":e.multiple=a&&typeof a!="function"&&typeof a!="symbol";break;case"muted":e.muted=a&&typeof a!="function"&&typeof a!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(a==null||typeof a=="function"||typeof a=="boolean"||typeof a=="symbol"){e.removeAttribute("xlink:href");break}x=bn(""+a),e.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",x);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":a!=null&&typeof a!="function"&&typeof a!="symbol"?e.setAttribute(x,""+a):e.removeAttribute(x);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":a&&typeof a!="function"&&typeof a!="symbol"?e.setAttribute(x,""):e.removeAttribute(x);break;case"capture":case"download":a===!0?e.setAttribute(x,""):a!==!1&&a!=null&&typeof a!="function"&&typeof a!="symbol"?e.setAttribute(x,a):e.removeAttribute(x);break;case"cols":case"rows":case"size":case"span":a!=null&&typeof a!="function"&&typeof a!="symbol"&&!isNaN(a)&&1<=a?e.setAttribute(x,a):e.removeAttribute(x);break;case"rowSpan":case"start":a==null||typeof a=="function"||typeof a=="symbol"||isNaN(a)?e.removeAttribute(x):e.setAttribute(x,a);break;case"popover":F0("beforetoggle",e),F0("toggle",e),yn(e,"popover",a);break;case"xlinkActuate":et(e,"http://www.w3.org/1999/xlink","xlink:actuate",a);break;case"xlinkArcrole":et(e,"http://www.w3.org/1999/xlink","xlink:arcrole",a);break;case"xlinkRole":et(e,"http://www.w3.org/1999/xlink","xlink:role",a);break;case"xlinkShow":et(e,"http://www.w3.org/1999/xlink","xlink:show",a);break;case"xlinkTitle":et(e,"http://www.w3.org/1999/xlink","xlink:title",a);break;case"xlinkType":et(e,"http://www.w3.org/1999/xlink","xlink:type",a);break;case"xmlBase":et(e,"http://www.w3.org/XML/1998/namespace","xml:base",a);break;case"xmlLang":et(e,"http://www.w3.org/XML/1998/namespace","xml:lang",a);break;case"xmlSpace":et(e,"http://www.w3.org/XML/1998/namespace","xml:space",a);break;case"is":yn(e,"is",a);break;case"innerText":case"textContent":break;default:(!(2<x.length)||x[0]!=="o"&&x[0]!=="O"||x[1]!=="n"&&x[1]!=="N")&&(x=Uf.get(x)||x,yn(e,x,a))}}function Jo(e,t,x,a,l,o){switch(x){case"style":Bs(e,a,o);break;case"dangerouslySetInnerHTML":if(a!=null){if(typeof a!="object"||!("__html"in a))throw Error(i(61));if(x=a.__html,x!=null){if(l.children!=null)throw Error(i(60));e.innerHTML=x}}break;case"children":typeof a=="string"?Fx(e,a):(typeof a=="number"||typeof a=="bigint")&&Fx(e,""+a);break;case"onScroll":a!=null&&F0("scroll",e);break;case"onScrollEnd":a!=null&&F0("scrollend",e);break;case"onClick":a!=null&&(e.onclick=ml);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!ns.hasOwnProperty(x))e:{if(x[0]==="o"&&x[1]==="n"&&(l=x.endsWith("Capture"),t=x.slice(2,l?x.length-7:void 0),o=e[ue]||null,o=o!=null?o[x]:null,typeof o=="function"&&e.removeEventListener(t,o,l),typeof a=="function")){typeof o!="function"&&o!==null&&(x in e?e[x]=null:e.hasAttribute(x)&&e.removeAttribute(x)),e.addEventListener(t,a,l);break e}x in e?e[x]=a:a===!0?e.setAttribute(x,""):yn(e,x,a)}}}function te(e,t,x){switch(t){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":F0("error",e),F0("load",e);var a=!1,l=!1,o;for(o in x)if(x.hasOwnProperty(o)){var f=x[o];if(f!=null)switch(o){case"src":a=!0;break;case"srcSet":l=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(i(137,t));default:_0(e,t,o,f,x,null)}}l&&_0(e,t,"srcSet",x.srcSet,x,null),a&&_0(e,t,"src",x.src,x,null);return;case"input":F0("invalid",e);var m=o=f=l=null,k=null,H=null;for(a in x)if(x.hasOwnProperty(a)){var Z=x[a];if(Z!=null)switch(a){case"name":l=Z;break;case"type":f=Z;break;case"checked":k=Z;break;case"defaultChecked":H=Z;break;case"value":o=Z;break;case"defaultValue":m=Z;break;case"children":case"dangerouslySetInnerHTML":if(Z!=null)throw Error(i(137,t));break;default:_0(e,t,a,Z,x,null)}}cs(e,o,m,k,H,f,l,!1),pn(e);return;case"select":F0("invalid",e),a=f=o=null;for(l in x)if(x.hasOwnProperty(l)&&(m=x[l],m!=null))switch(l){case"value":o=m;break;case"defaultValue":f=m;break;case"multiple":a=m;default:_0(e,t,l,m,x,null)}t=o,x=f,e.multiple=!!a,t!=null?hx(e,!!a,t,!1):x!=null&&hx(e,!!a,x,!0);return;case"textarea":F0("invalid",e),o=l=a=null;for(f in x)if(x.hasOwnProperty(f)&&(m=x[f],m!=null))switch(f){case"value":a=m;break;case"defaultValue":l=m;break;case"children":o=m;break;case"dangerouslySetInnerHTML":if(m!=null)throw Error(i(91));break;default:_0(e,t,f,m,x,null)}Es(e,a,l,o),pn(e);return;case"option":for(k in x)if(x.hasOwnProperty(k)&&(a=x[k],a!=null))switch(k){case"selected":e.selected=a&&typeof a!="function"&&typeof a!="symbol";break;default:_0(e,t,k,a,x,null)}return;case"dialog":F0("beforetoggle",e),F0("toggle",e),F0("cancel",e),F0("close",e);break;case"iframe":case"object":F0("load",e);break;case"video":case"audio":for(a=0;a<Va.length;a++)F0(Va[a],e);break;case"image":F0("error",e),F0("load",e);break;case"details":F0("toggle",e);break;case"embed":case"source":case"link":F0("error",e),F0("load",e);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(H in x)if(x.hasOwnProperty(H)&&(a=x[H],a!=null))switch(H){case"children":case"dangerouslySetInnerHTML":throw Error(i(137,t));default:_0(e,t,H,a,x,null)}return;default:if(cr(t)){for(Z in x)x.hasOwnProperty(Z)&&(a=x[Z],a!==void 0&&Jo(e,t,Z,a,x,void 0));return}}for(m in x)x.hasOwnProperty(m)&&(a=x[m],a!=null&&_0(e,t,m,a,x,null))}function s6(e,t,x,a){switch(t){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var l=null,o=null,f=null,m=null,k=null,H=null,Z=null;for(Q in x){var W=x[Q];if(x.hasOwnProperty(Q)&&W!=null)switch(Q){case"checked":break;case"value":break;case"defaultValue":k=W;default:a.hasOwnProperty(Q)||_0(e,t,Q,null,a,W)}}for(var Y in a){var Q=a[Y];if(W=x[Y],a.hasOwnProperty(Y)&&(Q!=null||W!=null))switch(Y){case"type":o=Q;break;case"name":l=Q;break;case"checked":H=Q;break;case"defaultChecked":Z=Q;break;case"value":f=Q;break;case"defaultValue":m=Q;break;case"children":case"dangerouslySetInnerHTML":if(Q!=null)throw Error(i(137,t));break;default:Q!==W&&_0(e,t,Y,Q,a,W)}}sr(e,f,m,k,H,Z,o,l);return;case"select":Q=f=m=Y=null;for(o in x)if(k=x[o],x.hasOwnProperty(o)&&k!=null)switch(o){case"value":break;case"multiple":Q=k;default:a.hasOwnProperty(o)||_0(e,t,o,null,a,k)}for(l in a)if(o=a[l],k=x[l],a.hasOwnProperty(l)&&(o!=null||k!=null))switch(l){case"value":Y=o;break;case"defaultValue":m=o;break;case"multiple":f=o;default:o!==k&&_0(e,t,l,o,a,k)}t=m,x=f,a=Q,Y!=null?hx(e,!!x,Y,!1):!!a!=!!x&&(t!=null?hx(e,!!x,t,!0):hx(e,!!x,x?[]:"",!1));return;case"textarea":Q=Y=null;for(m in x)if(l=x[m],x.hasOwnProperty(m)&&l!=null&&!a.hasOwnProperty(m))switch(m){case"value":break;case"children":break;default:_0(e,t,m,null,a,l)}for(f in a)if(l=a[f],o=x[f],a.hasOwnProperty(f)&&(l!=null||o!=null))switch(f){case"value":Y=l;break;case"defaultValue":Q=l;break;case"children":break;case"dangerouslySetInnerHTML":if(l!=null)throw Error(i(91));break;default:l!==o&&_0(e,t,f,l,a,o)}fs(e,Y,Q);return;case"option":for(var d0 in x)if(Y=x[d0],x.hasOwnProperty(d0)&&Y!=null&&!a.hasOwnProperty(d0))switch(d0){case"selected":e.selected=!1;break;default:_0(e,t,d0,null,a,Y)}for(k in a)if(Y=a[k],Q=x[k],a.hasOwnProperty(k)&&Y!==Q&&(Y!=null||Q!=null))switch(k){case"selected":e.selected=Y&&typeof Y!="function"&&typeof Y!="symbol";break;default:_0(e,t,k,Y,a,Q)}return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var f0 in x)Y=x[f0],x.hasOwnProperty(f0)&&Y!=null&&!a.hasOwnProperty(f0)&&_0(e,t,f0,null,a,Y);for(H in a)if(Y=a[H],Q=x[H],a.hasOwnProperty(H)&&Y!==Q&&(Y!=null||Q!=null))switch(H){case"children":case"dangerouslySetInnerHTML":if(Y!=null)throw Error(i(137,t));break;default:_0(e,t,H,Y,a,Q)}return;default:if(cr(t)){for(var R0 in x)Y=x[R0],x.hasOwnProperty(R0)&&Y!==void 0&&!a.hasOwnProperty(R0)&&Jo(e,t,R0,void 0,a,Y);for(Z in a)Y=a[Z],Q=x[Z],!a.hasOwnProperty(Z)||Y===Q||Y===void 0&&Q===void 0||Jo(e,t,Z,Y,a,Q);return}}for(var U in x)Y=x[U],x.hasOwnProperty(U)&&Y!=null&&!a.hasOwnProperty(U)&&_0(e,t,U,null,a,Y);for(W in a)Y=a[W],Q=x[W],!a.hasOwnProperty(W)||Y===Q||Y==null&&Q==null||_0(e,t,W,Y,a,Q)}var $o=null,Wo=null;function Dl(e){return e.nodeType===9?e:e.ownerDocument}function d9(e){switch(e){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function B9(e,t){if(e===0)switch(t){case"svg":return 1;case"math":return 2;default:return 0}return e===1&&t==="foreignObject"?0:e}function Io(e,t){return e==="textarea"||e==="noscript"||typeof t.children=="string"||typeof t.children=="number"||typeof t.children=="bigint"||typeof t.dangerouslySetInnerHTML=="object"&&t.dangerouslySetInnerHTML!==null&&t.dangerouslySetInnerHTML.__html!=null}var ei=null;function u6(){var e=window.event;return e&&e.type==="popstate"?e===ei?!1:(ei=e,!0):(ei=null,!1)}var C9=typeof setTimeout=="function"?setTimeout:void 0,c6=typeof clearTimeout=="function"?clearTimeout:void 0,A9=typeof Promise=="function"?Promise:void 0,f6=typeof queueMicrotask=="function"?queueMicrotask:typeof A9<"u"?function(e){return A9.resolve(null).then(e).catch(E6)}:C9;function E6(e){setTimeout(function(){throw e})}function zt(e){return e==="head"}function m9(e,t){var x=t,a=0,l=0;do{var o=x.nextSibling;if(e.removeChild(x),o&&o.nodeType===8)if(x=o.data,x==="/$"){if(0<a&&8>a){x=a;var f=e.ownerDocument;if(x&1&&Ka(f.documentElement),x&2&&Ka(f.body),x&4)for(x=f.head,Ka(x),f=x.firstChild;f;){var m=f.nextSibling,k=f.nodeName;f[ua]||k==="SCRIPT"||k==="STYLE"||k==="LINK"&&f.rel.toLowerCase()==="stylesheet"||x.removeChild(f),f=m}}if(l===0){e.removeChild(o),an(t);return}l--}else x==="$"||x==="$?"||x==="$!"?l++:a=x.charCodeAt(0)-48;else a=0;x=o}while(x);an(t)}function ti(e){var t=e.firstChild;for(t&&t.nodeType===10&&(t=t.nextSibling);t;){var x=t;switch(t=t.nextSibling,x.nodeName){case"HTML":case"HEAD":case"BODY":ti(x),lr(x);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(x.rel.toLowerCase()==="stylesheet")continue}e.removeChild(x)}}function d6(e,t,x,a){for(;e.nodeType===1;){var l=x;if(e.nodeName.toLowerCase()!==t.toLowerCase()){if(!a&&(e.nodeName!=="INPUT"||e.type!=="hidden"))break}else if(a){if(!e[ua])switch(t){case"meta":if(!e.hasAttribute("itemprop"))break;return e;case"link":if(o=e.getAttribute("rel"),o==="stylesheet"&&e.hasAttribute("data-precedence"))break;if(o!==l.rel||e.getAttribute("href")!==(l.href==null||l.href===""?null:l.href)||e.getAttribute("crossorigin")!==(l.crossOrigin==null?null:l.crossOrigin)||e.getAttribute("title")!==(l.title==null?null:l.title))break;return e;case"style":if(e.hasAttribute("data-precedence"))break;return e;case"script":if(o=e.getAttribute("src"),(o!==(l.src==null?null:l.src)||e.getAttribute("type")!==(l.type==null?null:l.type)||e.getAttribute("crossorigin")!==(l.crossOrigin==null?null:l.crossOrigin))&&o&&e.hasAttribute("async")&&!e.hasAttribute("itemprop"))break;return e;default:return e}}else if(t==="input"&&e.type==="hidden"){var o=l.name==null?null:""+l.name;if(l.type==="hidden"&&e.getAttribute("name")===o)return e}else return e;if(e=Le(e.nextSibling),e===null)break}return null}function B6(e,t,x){if(t==="")return null;for(;e.nodeType!==3;)if((e.nodeType!==1||e.nodeName!=="INPUT"||e.type!=="hidden")&&!x||(e=Le(e.nextSibling),e===null))return null;return e}function xi(e){return e.data==="$!"||e.data==="$?"&&e.ownerDocument.readyState==="complete"}function C6(e,t){var x=e.ownerDocument;if(e.data!=="$?"||x.readyState==="complete")t();else{var a=function(){t(),x.removeEventListener("DOMContentLoaded",a)};x.addEventListener("DOMContentLoaded",a),e._reactRetry=a}}function Le(e){for(;e!=null;e=e.nextSibling){var t=e.nodeType;if(t===1||t===3)break;if(t===8){if(t=e.data,t==="$"||t==="$!"||t==="$?"||t==="F!"||t==="F")break;if(t==="/$")return null}}return e}var ai=null;function D9(e){e=e.previousSibling;for(var t=0;e;){if(e.nodeType===8){var x=e.data;if(x==="$"||x==="$!"||x==="$?"){if(t===0)return e;t--}else x==="/$"&&t++}e=e.previousSibling}return null}function h9(e,t,x){switch(t=Dl(x),e){case"html":if(e=t.documentElement,!e)throw Error(i(452));return e;case"head":if(e=t.head,!e)throw Error(i(453));return e;case"body":if(e=t.body,!e)throw Error(i(454));return e;default:throw Error(i(451))}}function Ka(e){for(var t=e.attributes;t.length;)e.removeAttributeNode(t[0]);lr(e)}var Me=new Map,F9=new Set;function hl(e){return typeof e.getRootNode=="function"?e.getRootNode():e.nodeType===9?e:e.ownerDocument}var dt=G.d;G.d={f:A6,r:m6,D:D6,C:h6,L:F6,m:y6,X:p6,S:v6,M:g6};function A6(){var e=dt.f(),t=cl();return e||t}function m6(e){var t=Cx(e);t!==null&&t.tag===5&&t.type==="form"?Hu(t):dt.r(e)}var Jx=typeof document>"u"?null:document;function y9(e,t,x){var a=Jx;if(a&&typeof t=="string"&&t){var l=Se(t);l='link[rel="'+e+'"][href="'+l+'"]',typeof x=="string"&&(l+='[crossorigin="'+x+'"]'),F9.has(l)||(F9.add(l),e={rel:e,crossOrigin:x,href:t},a.querySelector(l)===null&&(t=a.createElement("link"),te(t,"link",e),K0(t),a.head.appendChild(t)))}}function D6(e){dt.D(e),y9("dns-prefetch",e,null)}function h6(e,t){dt.C(e,t),y9("preconnect",e,t)}function F6(e,t,x){dt.L(e,t,x);var a=Jx;if(a&&e&&t){var l='link[rel="preload"][as="'+Se(t)+'"]';t==="image"&&x&&x.imageSrcSet?(l+='[imagesrcset="'+Se(x.imageSrcSet)+'"]',typeof x.imageSizes=="string"&&(l+='[imagesizes="'+Se(x.imageSizes)+'"]')):l+='[href="'+Se(e)+'"]';var o=l;switch(t){case"style":o=$x(e);break;case"script":o=Wx(e)}Me.has(o)||(e=C({rel:"preload",href:t==="image"&&x&&x.imageSrcSet?void 0:e,as:t},x),Me.set(o,e),a.querySelector(l)!==null||t==="style"&&a.querySelector(Ja(o))||t==="script"&&a.querySelector($a(o))||(t=a.createElement("link"),te(t,"link",e),K0(t),a.head.appendChild(t)))}}function y6(e,t){dt.m(e,t);var x=Jx;if(x&&e){var a=t&&typeof t.as=="string"?t.as:"script",l='link[rel="modulepreload"][as="'+Se(a)+'"][href="'+Se(e)+'"]',o=l;switch(a){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":o=Wx(e)}if(!Me.has(o)&&(e=C({rel:"modulepreload",href:e},t),Me.set(o,e),x.querySelector(l)===null)){switch(a){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(x.querySelector($a(o)))return}a=x.createElement("link"),te(a,"link",e),K0(a),x.head.appendChild(a)}}}function v6(e,t,x){dt.S(e,t,x);var a=Jx;if(a&&e){var l=Ax(a).hoistableStyles,o=$x(e);t=t||"default";var f=l.get(o);if(!f){var m={loading:0,preload:null};if(f=a.querySelector(Ja(o)))m.loading=5;else{e=C({rel:"stylesheet",href:e,"data-precedence":t},x),(x=Me.get(o))&&ni(e,x);var k=f=a.createElement("link");K0(k),te(k,"link",e),k._p=new Promise(function(H,Z){k.onload=H,k.onerror=Z}),k.addEventListener("load",function(){m.loading|=1}),k.addEventListener("error",function(){m.loading|=2}),m.loading|=4,Fl(f,t,a)}f={type:"stylesheet",instance:f,count:1,state:m},l.set(o,f)}}}function p6(e,t){dt.X(e,t);var x=Jx;if(x&&e){var a=Ax(x).hoistableScripts,l=Wx(e),o=a.get(l);o||(o=x.querySelector($a(l)),o||(e=C({src:e,async:!0},t),(t=Me.get(l))&&li(e,t),o=x.createElement("script"),K0(o),te(o,"link",e),x.head.appendChild(o)),o={type:"script",instance:o,count:1,state:null},a.set(l,o))}}function g6(e,t){dt.M(e,t);var x=Jx;if(x&&e){var a=Ax(x).hoistableScripts,l=Wx(e),o=a.get(l);o||(o=x.querySelector($a(l)),o||(e=C({src:e,async:!0,type:"module"},t),(t=Me.get(l))&&li(e,t),o=x.createElement("script"),K0(o),te(o,"link",e),x.head.appendChild(o)),o={type:"script",instance:o,count:1,state:null},a.set(l,o))}}function v9(e,t,x,a){var l=(l=u0.current)?hl(l):null;if(!l)throw Error(i(446));switch(e){case"meta":case"title":return null;case"style":return typeof x.precedence=="string"&&typeof x.href=="string"?(t=$x(x.href),x=Ax(l).hoistableStyles,a=x.get(t),a||(a={type:"style",instance:null,count:0,state:null},x.set(t,a)),a):{type:"void",instance:null,count:0,state:null};case"link":if(x.rel==="stylesheet"&&typeof x.href=="string"&&typeof x.precedence=="string"){e=$x(x.href);var o=Ax(l).hoistableStyles,f=o.get(e);if(f||(l=l.ownerDocument||l,f={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},o.set(e,f),(o=l.querySelector(Ja(e)))&&!o._p&&(f.instance=o,f.state.loading=5),Me.has(e)||(x={rel:"preload",as:"style",href:x.href,crossOrigin:x.crossOrigin,integrity:x.integrity,media:x.media,hrefLang:x.hrefLang,referrerPolicy:x.referrerPolicy},Me.set(e,x),o||b6(l,e,x,f.state))),t&&a===null)throw Error(i(528,""));return f}if(t&&a!==null)throw Error(i(529,""));return null;case"script":return t=x.async,x=x.src,typeof x=="string"&&t&&typeof t!="function"&&typeof t!="symbol"?(t=Wx(x),x=Ax(l).hoistableScripts,a=x.get(t),a||(a={type:"script",instance:null,count:0,state:null},x.set(t,a)),a):{type:"void",instance:null,count:0,state:null};default:throw Error(i(444,e))}}function $x(e){return'href="'+Se(e)+'"'}function Ja(e){return'link[rel="stylesheet"]['+e+"]"}function p9(e){return C({},e,{"data-precedence":e.precedence,precedence:null})}function b6(e,t,x,a){e.querySelector('link[rel="preload"][as="style"]['+t+"]")?a.loading=1:(t=e.createElement("link"),a.preload=t,t.addEventListener("load",function(){return a.loading|=1}),t.addEventListener("error",function(){return a.loading|=2}),te(t,"link",x),K0(t),e.head.appendChild(t))}function Wx(e){return'[src="'+Se(e)+'"]'}function $a(e){return"script[async]"+e}function g9(e,t,x){if(t.count++,t.instance===null)switch(t.type){case"style":var a=e.querySelector('style[data-href~="'+Se(x.href)+'"]');if(a)return t.instance=a,K0(a),a;var l=C({},x,{"data-href":x.href,"data-precedence":x.precedence,href:null,precedence:null});return a=(e.ownerDocument||e).createElement("style"),K0(a),te(a,"style",l),Fl(a,x.precedence,e),t.instance=a;case"stylesheet":l=$x(x.href);var o=e.querySelector(Ja(l));if(o)return t.state.loading|=4,t.instance=o,K0(o),o;a=p9(x),(l=Me.get(l))&&ni(a,l),o=(e.ownerDocument||e).createElement("link"),K0(o);var f=o;return f._p=new Promise(function(m,k){f.onload=m,f.onerror=k}),te(o,"link",a),t.state.loading|=4,Fl(o,x.precedence,e),t.instance=o;case"script":return o=Wx(x.src),(l=e.querySelector($a(o)))?(t.instance=l,K0(l),l):(a=x,(l=Me.get(o))&&(a=C({},x),li(a,l)),e=e.ownerDocument||e,l=e.createElement("script"),K0(l),te(l,"link",a),e.head.appendChild(l),t.instance=l);case"void":return null;default:throw Error(i(443,t.type))}else t.type==="stylesheet"&&(t.state.loading&4)===0&&(a=t.instance,t.state.loading|=4,Fl(a,x.precedence,e));return t.instance}function Fl(e,t,x){for(var a=x.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),l=a.length?a[a.length-1]:null,o=l,f=0;f<a.length;f++){var m=a[f];if(m.dataset.precedence===t)o=m;else if(o!==l)break}o?o.parentNode.insertBefore(e,o.nextSibling):(t=x.nodeType===9?x.head:x,t.insertBefore(e,t.firstChild))}function ni(e,t){e.crossOrigin==null&&(e.crossOrigin=t.crossOrigin),e.referrerPolicy==null&&(e.referrerPolicy=t.referrerPolicy),e.title==null&&(e.title=t.title)}function li(e,t){e.crossOrigin==null&&(e.crossOrigin=t.crossOrigin),e.referrerPolicy==null&&(e.referrerPolicy=t.referrerPolicy),e.integrity==null&&(e.integrity=t.integrity)}var yl=null;function b9(e,t,x){if(yl===null){var a=new Map,l=yl=new Map;l.set(x,a)}else l=yl,a=l.get(x),a||(a=new Map,l.set(x,a));if(a.has(e))return a;for(a.set(e,null),x=x.getElementsByTagName(e),l=0;l<x.length;l++){var o=x[l];if(!(o[ua]||o[xe]||e==="link"&&o.getAttribute("rel")==="stylesheet")&&o.namespaceURI!=="http://www.w3.org/2000/svg"){var f=o.getAttribute(t)||"";f=e+f;var m=a.get(f);m?m.push(o):a.set(f,[o])}}return a}function k9(e,t,x){e=e.ownerDocument||e,e.head.insertBefore(x,t==="title"?e.querySelector("head > title"):null)}function k6(e,t,x){if(x===1||t.itemProp!=null)return!1;switch(e){case"meta":case"title":return!0;case"style":if(typeof t.precedence!="string"||typeof t.href!="string"||t.href==="")break;return!0;case"link":if(typeof t.rel!="string"||typeof t.href!="string"||t.href===""||t.onLoad||t.onError)break;switch(t.rel){case"stylesheet":return e=t.disabled,typeof t.precedence=="string"&&e==null;default:return!0}case"script":if(t.async&&typeof t.async!="function"&&typeof t.async!="symbol"&&!t.onLoad&&!t.onError&&t.src&&typeof t.src=="string")return!0}return!1}function S9(e){return!(e.type==="stylesheet"&&(e.state.loading&3)===0)}var Wa=null;function S6(){}function w6(e,t,x){if(Wa===null)throw Error(i(475));var a=Wa;if(t.type==="stylesheet"&&(typeof x.media!="string"||matchMedia(x.media).matches!==!1)&&(t.state.loading&4)===0){if(t.instance===null){var l=$x(x.href),o=e.querySelector(Ja(l));if(o){e=o._p,e!==null&&typeof e=="object"&&typeof e.then=="function"&&(a.count++,a=vl.bind(a),e.then(a,a)),t.state.loading|=4,t.instance=o,K0(o);return}o=e.ownerDocument||e,x=p9(x),(l=Me.get(l))&&ni(x,l),o=o.createElement("link"),K0(o);var f=o;f._p=new Promise(function(m,k){f.onload=m,f.onerror=k}),te(o,"link",x),t.instance=o}a.stylesheets===null&&(a.stylesheets=new Map),a.stylesheets.set(t,e),(e=t.state.preload)&&(t.state.loading&3)===0&&(a.count++,t=vl.bind(a),e.addEventListener("load",t),e.addEventListener("error",t))}}function T6(){if(Wa===null)throw Error(i(475));var e=Wa;return e.stylesheets&&e.count===0&&ri(e,e.stylesheets),0<e.count?function(t){var x=setTimeout(function(){if(e.stylesheets&&ri(e,e.stylesheets),e.unsuspend){var a=e.unsuspend;e.unsuspend=null,a()}},6e4);return e.unsuspend=t,function(){e.unsuspend=null,clearTimeout(x)}}:null}function vl(){if(this.count--,this.count===0){if(this.stylesheets)ri(this,this.stylesheets);else if(this.unsuspend){var e=this.unsuspend;this.unsuspend=null,e()}}}var pl=null;function ri(e,t){e.stylesheets=null,e.unsuspend!==null&&(e.count++,pl=new Map,t.forEach(_6,e),pl=null,vl.call(e))}function _6(e,t){if(!(t.state.loading&4)){var x=pl.get(e);if(x)var a=x.get(null);else{x=new Map,pl.set(e,x);for(var l=e.querySelectorAll("link[data-precedence],style[data-precedence]"),o=0;o<l.length;o++){var f=l[o];(f.nodeName==="LINK"||f.getAttribute("media")!=="not all")&&(x.set(f.dataset.precedence,f),a=f)}a&&x.set(null,a)}l=t.instance,f=l.getAttribute("data-precedence"),o=x.get(f)||a,o===a&&x.set(null,l),x.set(f,l),this.count++,a=vl.bind(this),l.addEventListener("load",a),l.addEventListener("error",a),o?o.parentNode.insertBefore(l,o.nextSibling):(e=e.nodeType===9?e.head:e,e.insertBefore(l,e.firstChild)),t.state.loading|=4}}var Ia={$$typeof:y,Provider:null,Consumer:null,_currentValue:I,_currentValue2:I,_threadCount:0};function R6(e,t,x,a,l,o,f,m){this.tag=1,this.containerInfo=e,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=tr(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=tr(0),this.hiddenUpdates=tr(null),this.identifierPrefix=a,this.onUncaughtError=l,this.onCaughtError=o,this.onRecoverableError=f,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=m,this.incompleteTransitions=new Map}function w9(e,t,x,a,l,o,f,m,k,H,Z,W){return e=new R6(e,t,x,f,m,k,H,W),t=1,o===!0&&(t|=24),o=he(3,null,null,t),e.current=o,o.stateNode=e,t=Pr(),t.refCount++,e.pooledCache=t,t.refCount++,o.memoizedState={element:a,isDehydrated:x,cache:t},Yr(o),e}function T9(e){return e?(e=wx,e):wx}function _9(e,t,x,a,l,o){l=T9(l),a.context===null?a.context=l:a.pendingContext=l,a=pt(t),a.payload={element:x},o=o===void 0?null:o,o!==null&&(a.callback=o),x=gt(e,a,t),x!==null&&(ge(x,e,t),wa(x,e,t))}function R9(e,t){if(e=e.memoizedState,e!==null&&e.dehydrated!==null){var x=e.retryLane;e.retryLane=x!==0&&x<t?x:t}}function oi(e,t){R9(e,t),(e=e.alternate)&&R9(e,t)}function O9(e){if(e.tag===13){var t=Sx(e,67108864);t!==null&&ge(t,e,67108864),oi(e,67108864)}}var gl=!0;function O6(e,t,x,a){var l=R.T;R.T=null;var o=G.p;try{G.p=2,ii(e,t,x,a)}finally{G.p=o,R.T=l}}function N6(e,t,x,a){var l=R.T;R.T=null;var o=G.p;try{G.p=8,ii(e,t,x,a)}finally{G.p=o,R.T=l}}function ii(e,t,x,a){if(gl){var l=si(a);if(l===null)Ko(e,t,a,bl,x),M9(e,a);else if(j6(l,e,t,x,a))a.stopPropagation();else if(M9(e,a),t&4&&-1<M6.indexOf(e)){for(;l!==null;){var o=Cx(l);if(o!==null)switch(o.tag){case 3:if(o=o.stateNode,o.current.memoizedState.isDehydrated){var f=Qt(o.pendingLanes);if(f!==0){var m=o;for(m.pendingLanes|=2,m.entangledLanes|=2;f;){var k=1<<31-me(f);m.entanglements[1]|=k,f&=~k}Ze(o),(S0&6)===0&&(sl=re()+500,Ga(0))}}break;case 13:m=Sx(o,2),m!==null&&ge(m,o,2),cl(),oi(o,2)}if(o=si(a),o===null&&Ko(e,t,a,bl,x),o===l)break;l=o}l!==null&&a.stopPropagation()}else Ko(e,t,a,null,x)}}function si(e){return e=Er(e),ui(e)}var bl=null;function ui(e){if(bl=null,e=Bx(e),e!==null){var t=c(e);if(t===null)e=null;else{var x=t.tag;if(x===13){if(e=E(t),e!==null)return e;e=null}else if(x===3){if(t.stateNode.current.memoizedState.isDehydrated)return t.tag===3?t.stateNode.containerInfo:null;e=null}else t!==e&&(e=null)}}return bl=e,null}function N9(e){switch(e){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(Yt()){case Ce:return 2;case Ki:return 8;case oe:case Ff:return 32;case Ji:return 268435456;default:return 32}default:return 32}}var ci=!1,Ut=null,Lt=null,Pt=null,en=new Map,tn=new Map,Ht=[],M6="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function M9(e,t){switch(e){case"focusin":case"focusout":Ut=null;break;case"dragenter":case"dragleave":Lt=null;break;case"mouseover":case"mouseout":Pt=null;break;case"pointerover":case"pointerout":en.delete(t.pointerId);break;case"gotpointercapture":case"lostpointercapture":tn.delete(t.pointerId)}}function xn(e,t,x,a,l,o){return e===null||e.nativeEvent!==o?(e={blockedOn:t,domEventName:x,eventSystemFlags:a,nativeEvent:o,targetContainers:[l]},t!==null&&(t=Cx(t),t!==null&&O9(t)),e):(e.eventSystemFlags|=a,t=e.targetContainers,l!==null&&t.indexOf(l)===-1&&t.push(l),e)}function j6(e,t,x,a,l){switch(t){case"focusin":return Ut=xn(Ut,e,t,x,a,l),!0;case"dragenter":return Lt=xn(Lt,e,t,x,a,l),!0;case"mouseover":return Pt=xn(Pt,e,t,x,a,l),!0;case"pointerover":var o=l.pointerId;return en.set(o,xn(en.get(o)||null,e,t,x,a,l)),!0;case"gotpointercapture":return o=l.pointerId,tn.set(o,xn(tn.get(o)||null,e,t,x,a,l)),!0}return!1}function j9(e){var t=Bx(e.target);if(t!==null){var x=c(t);if(x!==null){if(t=x.tag,t===13){if(t=E(x),t!==null){e.blockedOn=t,wf(e.priority,function(){if(x.tag===13){var a=pe();a=xr(a);var l=Sx(x,a);l!==null&&ge(l,x,a),oi(x,a)}});return}}else if(t===3&&x.stateNode.current.memoizedState.isDehydrated){e.blockedOn=x.tag===3?x.stateNode.containerInfo:null;return}}}e.blockedOn=null}function kl(e){if(e.blockedOn!==null)return!1;for(var t=e.targetContainers;0<t.length;){var x=si(e.nativeEvent);if(x===null){x=e.nativeEvent;var a=new x.constructor(x.type,x);fr=a,x.target.dispatchEvent(a),fr=null}else return t=Cx(x),t!==null&&O9(t),e.blockedOn=x,!1;t.shift()}return!0}function z9(e,t,x){kl(e)&&x.delete(t)}function z6(){ci=!1,Ut!==null&&kl(Ut)&&(Ut=null),Lt!==null&&kl(Lt)&&(Lt=null),Pt!==null&&kl(Pt)&&(Pt=null),en.forEach(z9),tn.forEach(z9)}function Sl(e,t){e.blockedOn===t&&(e.blockedOn=null,ci||(ci=!0,n.unstable_scheduleCallback(n.unstable_NormalPriority,z6)))}var wl=null;function U9(e){wl!==e&&(wl=e,n.unstable_scheduleCallback(n.unstable_NormalPriority,function(){wl===e&&(wl=null);for(var t=0;t<e.length;t+=3){var x=e[t],a=e[t+1],l=e[t+2];if(typeof a!="function"){if(ui(a||x)===null)continue;break}var o=Cx(x);o!==null&&(e.splice(t,3),t-=3,so(o,{pending:!0,data:l,method:x.method,action:a},a,l))}}))}function an(e){function t(k){return Sl(k,e)}Ut!==null&&Sl(Ut,e),Lt!==null&&Sl(Lt,e),Pt!==null&&Sl(Pt,e),en.forEach(t),tn.forEach(t);for(var x=0;x<Ht.length;x++){var a=Ht[x];a.blockedOn===e&&(a.blockedOn=null)}for(;0<Ht.length&&(x=Ht[0],x.blockedOn===null);)j9(x),x.blockedOn===null&&Ht.shift();if(x=(e.ownerDocument||e).$$reactFormReplay,x!=null)for(a=0;a<x.length;a+=3){var l=x[a],o=x[a+1],f=l[ue]||null;if(typeof o=="function")f||U9(x);else if(f){var m=null;if(o&&o.hasAttribute("formAction")){if(l=o,f=o[ue]||null)m=f.formAction;else if(ui(l)!==null)continue}else m=f.action;typeof m=="function"?x[a+1]=m:(x.splice(a,3),a-=3),U9(x)}}}function fi(e){this._internalRoot=e}Tl.prototype.render=fi.prototype.render=function(e){var t=this._internalRoot;if(t===null)throw Error(i(409));var x=t.current,a=pe();_9(x,a,e,t,null,null)},Tl.prototype.unmount=fi.prototype.unmount=function(){var e=this._internalRoot;if(e!==null){this._internalRoot=null;var t=e.containerInfo;_9(e.current,2,null,e,null,null),cl(),t[dx]=null}};function Tl(e){this._internalRoot=e}Tl.prototype.unstable_scheduleHydration=function(e){if(e){var t=ts();e={blockedOn:null,target:e,priority:t};for(var x=0;x<Ht.length&&t!==0&&t<Ht[x].priority;x++);Ht.splice(x,0,e),x===0&&j9(e)}};var L9=r.version;if(L9!=="19.1.0")throw Error(i(527,L9,"19.1.0"));G.findDOMNode=function(e){var t=e._reactInternals;if(t===void 0)throw typeof e.render=="function"?Error(i(188)):(e=Object.keys(e).join(","),Error(i(268,e)));return e=B(t),e=e!==null?d(e):null,e=e===null?null:e.stateNode,e};var U6={bundleType:0,version:"19.1.0",rendererPackageName:"react-dom",currentDispatcherRef:R,reconcilerVersion:"19.1.0"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var _l=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!_l.isDisabled&&_l.supportsFiber)try{oa=_l.inject(U6),Ae=_l}catch{}}return ln.createRoot=function(e,t){if(!u(e))throw Error(i(299));var x=!1,a="",l=tc,o=xc,f=ac,m=null;return t!=null&&(t.unstable_strictMode===!0&&(x=!0),t.identifierPrefix!==void 0&&(a=t.identifierPrefix),t.onUncaughtError!==void 0&&(l=t.onUncaughtError),t.onCaughtError!==void 0&&(o=t.onCaughtError),t.onRecoverableError!==void 0&&(f=t.onRecoverableError),t.unstable_transitionCallbacks!==void 0&&(m=t.unstable_transitionCallbacks)),t=w9(e,1,!1,null,null,x,a,l,o,f,m,null),e[dx]=t.current,Zo(e),new fi(t)},ln.hydrateRoot=function(e,t,x){if(!u(e))throw Error(i(299));var a=!1,l="",o=tc,f=xc,m=ac,k=null,H=null;return x!=null&&(x.unstable_strictMode===!0&&(a=!0),x.identifierPrefix!==void 0&&(l=x.identifierPrefix),x.onUncaughtError!==void 0&&(o=x.onUncaughtError),x.onCaughtError!==void 0&&(f=x.onCaughtError),x.onRecoverableError!==void 0&&(m=x.onRecoverableError),x.unstable_transitionCallbacks!==void 0&&(k=x.unstable_transitionCallbacks),x.formState!==void 0&&(H=x.formState)),t=w9(e,1,!0,t,x??null,a,l,o,f,m,k,H),t.context=T9(null),x=t.current,a=pe(),a=xr(a),l=pt(a),l.callback=null,gt(x,l,a),x=a,t.current.lanes=x,sa(t,x),Ze(t),e[dx]=t.current,Zo(e),new Tl(t)},ln.version="19.1.0",ln}var K9;function V6(){if(K9)return Bi.exports;K9=1;function n(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(n)}catch(r){console.error(r)}}return n(),Bi.exports=G6(),Bi.exports}var Z6=V6(),rn={},J9;function K6(){if(J9)return rn;J9=1,Object.defineProperty(rn,"__esModule",{value:!0}),rn.parse=E,rn.serialize=d;const n=/^[\u0021-\u003A\u003C\u003E-\u007E]+$/,r=/^[\u0021-\u003A\u003C-\u007E]*$/,s=/^([.]?[a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?)([.][a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?)*$/i,i=/^[\u0020-\u003A\u003D-\u007E]*$/,u=Object.prototype.toString,c=(()=>{const v=function(){};return v.prototype=Object.create(null),v})();function E(v,S){const h=new c,_=v.length;if(_<2)return h;const p=(S==null?void 0:S.decode)||C;let T=0;do{const N=v.indexOf("=",T);if(N===-1)break;const y=v.indexOf(";",T),g=y===-1?_:y;if(N>g){T=v.lastIndexOf(";",N-1)+1;continue}const b=A(v,T,N),z=B(v,N,b),O=v.slice(b,z);if(h[O]===void 0){let X=A(v,N+1,g),L=B(v,g,X);const $=p(v.slice(X,L));h[O]=$}T=g+1}while(T<_);return h}function A(v,S,h){do{const _=v.charCodeAt(S);if(_!==32&&_!==9)return S}while(++S<h);return h}function B(v,S,h){for(;S>h;){const _=v.charCodeAt(--S);if(_!==32&&_!==9)return S+1}return h}function d(v,S,h){const _=(h==null?void 0:h.encode)||encodeURIComponent;if(!n.test(v))throw new TypeError(`argument name is invalid: ${v}`);const p=_(S);if(!r.test(p))throw new TypeError(`argument val is invalid: ${S}`);let T=v+"="+p;if(!h)return T;if(h.maxAge!==void 0){if(!Number.isInteger(h.maxAge))throw new TypeError(`option maxAge is invalid: ${h.maxAge}`);T+="; Max-Age="+h.maxAge}if(h.domain){if(!s.test(h.domain))throw new TypeError(`option domain is invalid: ${h.domain}`);T+="; Domain="+h.domain}if(h.path){if(!i.test(h.path))throw new TypeError(`option path is invalid: ${h.path}`);T+="; Path="+h.path}if(h.expires){if(!D(h.expires)||!Number.isFinite(h.expires.valueOf()))throw new TypeError(`option expires is invalid: ${h.expires}`);T+="; Expires="+h.expires.toUTCString()}if(h.httpOnly&&(T+="; HttpOnly"),h.secure&&(T+="; Secure"),h.partitioned&&(T+="; Partitioned"),h.priority)switch(typeof h.priority=="string"?h.priority.toLowerCase():void 0){case"low":T+="; Priority=Low";break;case"medium":T+="; Priority=Medium";break;case"high":T+="; Priority=High";break;default:throw new TypeError(`option priority is invalid: ${h.priority}`)}if(h.sameSite)switch(typeof h.sameSite=="string"?h.sameSite.toLowerCase():h.sameSite){case!0:case"strict":T+="; SameSite=Strict";break;case"lax":T+="; SameSite=Lax";break;case"none":T+="; SameSite=None";break;default:throw new TypeError(`option sameSite is invalid: ${h.sameSite}`)}return T}function C(v){if(v.indexOf("%")===-1)return v;try{return decodeURIComponent(v)}catch{return v}}function D(v){return u.call(v)==="[object Date]"}return rn}K6();var $9="popstate";function J6(n={}){function r(i,u){let{pathname:c,search:E,hash:A}=i.location;return pi("",{pathname:c,search:E,hash:A},u.state&&u.state.usr||null,u.state&&u.state.key||"default")}function s(i,u){return typeof u=="string"?u:un(u)}return W6(r,s,null,n)}function z0(n,r){if(n===!1||n===null||typeof n>"u")throw new Error(r)}function Pe(n,r){if(!n){typeof console<"u"&&console.warn(r);try{throw new Error(r)}catch{}}}function $6(){return Math.random().toString(36).substring(2,10)}function W9(n,r){return{usr:n.state,key:n.key,idx:r}}function pi(n,r,s=null,i){return{pathname:typeof n=="string"?n:n.pathname,search:"",hash:"",...typeof r=="string"?Ix(r):r,state:s,key:r&&r.key||i||$6()}}function un({pathname:n="/",search:r="",hash:s=""}){return r&&r!=="?"&&(n+=r.charAt(0)==="?"?r:"?"+r),s&&s!=="#"&&(n+=s.charAt(0)==="#"?s:"#"+s),n}function Ix(n){let r={};if(n){let s=n.indexOf("#");s>=0&&(r.hash=n.substring(s),n=n.substring(0,s));let i=n.indexOf("?");i>=0&&(r.search=n.substring(i),n=n.substring(0,i)),n&&(r.pathname=n)}return r}function W6(n,r,s,i={}){let{window:u=document.defaultView,v5Compat:c=!1}=i,E=u.history,A="POP",B=null,d=C();d==null&&(d=0,E.replaceState({...E.state,idx:d},""));function C(){return(E.state||{idx:null}).idx}function D(){A="POP";let p=C(),T=p==null?null:p-d;d=p,B&&B({action:A,location:_.location,delta:T})}function v(p,T){A="PUSH";let N=pi(_.location,p,T);d=C()+1;let y=W9(N,d),g=_.createHref(N);try{E.pushState(y,"",g)}catch(b){if(b instanceof DOMException&&b.name==="DataCloneError")throw b;u.location.assign(g)}c&&B&&B({action:A,location:_.location,delta:1})}function S(p,T){A="REPLACE";let N=pi(_.location,p,T);d=C();let y=W9(N,d),g=_.createHref(N);E.replaceState(y,"",g),c&&B&&B({action:A,location:_.location,delta:0})}function h(p){let T=u.location.origin!=="null"?u.location.origin:u.location.href,N=typeof p=="string"?p:un(p);return N=N.replace(/ $/,"%20"),z0(T,`No window.location.(origin|href) available to create URL for href: ${N}`),new URL(N,T)}let _={get action(){return A},get location(){return n(u,E)},listen(p){if(B)throw new Error("A history only accepts one active listener");return u.addEventListener($9,D),B=p,()=>{u.removeEventListener($9,D),B=null}},createHref(p){return r(u,p)},createURL:h,encodeLocation(p){let T=h(p);return{pathname:T.pathname,search:T.search,hash:T.hash}},push:v,replace:S,go(p){return E.go(p)}};return _}function y8(n,r,s="/"){return I6(n,r,s,!1)}function I6(n,r,s,i){let u=typeof r=="string"?Ix(r):r,c=Ct(u.pathname||"/",s);if(c==null)return null;let E=v8(n);ed(E);let A=null;for(let B=0;A==null&&B<E.length;++B){let d=cd(c);A=sd(E[B],d,i)}return A}function v8(n,r=[],s=[],i=""){let u=(c,E,A)=>{let B={relativePath:A===void 0?c.path||"":A,caseSensitive:c.caseSensitive===!0,childrenIndex:E,route:c};B.relativePath.startsWith("/")&&(z0(B.relativePath.startsWith(i),`Absolute route path "${B.relativePath}" nested under path "${i}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),B.relativePath=B.relativePath.slice(i.length));let d=Bt([i,B.relativePath]),C=s.concat(B);c.children&&c.children.length>0&&(z0(c.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${d}".`),v8(c.children,r,C,d)),!(c.path==null&&!c.index)&&r.push({path:d,score:od(d,c.index),routesMeta:C})};return n.forEach((c,E)=>{var A;if(c.path===""||!((A=c.path)!=null&&A.includes("?")))u(c,E);else for(let B of p8(c.path))u(c,E,B)}),r}function p8(n){let r=n.split("/");if(r.length===0)return[];let[s,...i]=r,u=s.endsWith("?"),c=s.replace(/\?$/,"");if(i.length===0)return u?[c,""]:[c];let E=p8(i.join("/")),A=[];return A.push(...E.map(B=>B===""?c:[c,B].join("/"))),u&&A.push(...E),A.map(B=>n.startsWith("/")&&B===""?"/":B)}function ed(n){n.sort((r,s)=>r.score!==s.score?s.score-r.score:id(r.routesMeta.map(i=>i.childrenIndex),s.routesMeta.map(i=>i.childrenIndex)))}var td=/^:[\w-]+$/,xd=3,ad=2,nd=1,ld=10,rd=-2,I9=n=>n==="*";function od(n,r){let s=n.split("/"),i=s.length;return s.some(I9)&&(i+=rd),r&&(i+=ad),s.filter(u=>!I9(u)).reduce((u,c)=>u+(td.test(c)?xd:c===""?nd:ld),i)}function id(n,r){return n.length===r.length&&n.slice(0,-1).every((i,u)=>i===r[u])?n[n.length-1]-r[r.length-1]:0}function sd(n,r,s=!1){let{routesMeta:i}=n,u={},c="/",E=[];for(let A=0;A<i.length;++A){let B=i[A],d=A===i.length-1,C=c==="/"?r:r.slice(c.length)||"/",D=Ll({path:B.relativePath,caseSensitive:B.caseSensitive,end:d},C),v=B.route;if(!D&&d&&s&&!i[i.length-1].route.index&&(D=Ll({path:B.relativePath,caseSensitive:B.caseSensitive,end:!1},C)),!D)return null;Object.assign(u,D.params),E.push({params:u,pathname:Bt([c,D.pathname]),pathnameBase:Bd(Bt([c,D.pathnameBase])),route:v}),D.pathnameBase!=="/"&&(c=Bt([c,D.pathnameBase]))}return E}function Ll(n,r){typeof n=="string"&&(n={path:n,caseSensitive:!1,end:!0});let[s,i]=ud(n.path,n.caseSensitive,n.end),u=r.match(s);if(!u)return null;let c=u[0],E=c.replace(/(.)\/+$/,"$1"),A=u.slice(1);return{params:i.reduce((d,{paramName:C,isOptional:D},v)=>{if(C==="*"){let h=A[v]||"";E=c.slice(0,c.length-h.length).replace(/(.)\/+$/,"$1")}const S=A[v];return D&&!S?d[C]=void 0:d[C]=(S||"").replace(/%2F/g,"/"),d},{}),pathname:c,pathnameBase:E,pattern:n}}function ud(n,r=!1,s=!0){Pe(n==="*"||!n.endsWith("*")||n.endsWith("/*"),`Route path "${n}" will be treated as if it were "${n.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${n.replace(/\*$/,"/*")}".`);let i=[],u="^"+n.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(E,A,B)=>(i.push({paramName:A,isOptional:B!=null}),B?"/?([^\\/]+)?":"/([^\\/]+)"));return n.endsWith("*")?(i.push({paramName:"*"}),u+=n==="*"||n==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):s?u+="\\/*$":n!==""&&n!=="/"&&(u+="(?:(?=\\/|$))"),[new RegExp(u,r?void 0:"i"),i]}function cd(n){try{return n.split("/").map(r=>decodeURIComponent(r).replace(/\//g,"%2F")).join("/")}catch(r){return Pe(!1,`The URL path "${n}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${r}).`),n}}function Ct(n,r){if(r==="/")return n;if(!n.toLowerCase().startsWith(r.toLowerCase()))return null;let s=r.endsWith("/")?r.length-1:r.length,i=n.charAt(s);return i&&i!=="/"?null:n.slice(s)||"/"}function fd(n,r="/"){let{pathname:s,search:i="",hash:u=""}=typeof n=="string"?Ix(n):n;return{pathname:s?s.startsWith("/")?s:Ed(s,r):r,search:Cd(i),hash:Ad(u)}}function Ed(n,r){let s=r.replace(/\/+$/,"").split("/");return n.split("/").forEach(u=>{u===".."?s.length>1&&s.pop():u!=="."&&s.push(u)}),s.length>1?s.join("/"):"/"}function Di(n,r,s,i){return`Cannot include a '${n}' character in a manually specified \`to.${r}\` field [${JSON.stringify(i)}].  Please separate it out to the \`to.${s}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function dd(n){return n.filter((r,s)=>s===0||r.route.path&&r.route.path.length>0)}function Li(n){let r=dd(n);return r.map((s,i)=>i===r.length-1?s.pathname:s.pathnameBase)}function Pi(n,r,s,i=!1){let u;typeof n=="string"?u=Ix(n):(u={...n},z0(!u.pathname||!u.pathname.includes("?"),Di("?","pathname","search",u)),z0(!u.pathname||!u.pathname.includes("#"),Di("#","pathname","hash",u)),z0(!u.search||!u.search.includes("#"),Di("#","search","hash",u)));let c=n===""||u.pathname==="",E=c?"/":u.pathname,A;if(E==null)A=s;else{let D=r.length-1;if(!i&&E.startsWith("..")){let v=E.split("/");for(;v[0]==="..";)v.shift(),D-=1;u.pathname=v.join("/")}A=D>=0?r[D]:"/"}let B=fd(u,A),d=E&&E!=="/"&&E.endsWith("/"),C=(c||E===".")&&s.endsWith("/");return!B.pathname.endsWith("/")&&(d||C)&&(B.pathname+="/"),B}var Bt=n=>n.join("/").replace(/\/\/+/g,"/"),Bd=n=>n.replace(/\/+$/,"").replace(/^\/*/,"/"),Cd=n=>!n||n==="?"?"":n.startsWith("?")?n:"?"+n,Ad=n=>!n||n==="#"?"":n.startsWith("#")?n:"#"+n;function md(n){return n!=null&&typeof n.status=="number"&&typeof n.statusText=="string"&&typeof n.internal=="boolean"&&"data"in n}var g8=["POST","PUT","PATCH","DELETE"];new Set(g8);var Dd=["GET",...g8];new Set(Dd);var ea=j.createContext(null);ea.displayName="DataRouter";var Yl=j.createContext(null);Yl.displayName="DataRouterState";var b8=j.createContext({isTransitioning:!1});b8.displayName="ViewTransition";var hd=j.createContext(new Map);hd.displayName="Fetchers";var Fd=j.createContext(null);Fd.displayName="Await";var He=j.createContext(null);He.displayName="Navigation";var En=j.createContext(null);En.displayName="Location";var qe=j.createContext({outlet:null,matches:[],isDataRoute:!1});qe.displayName="Route";var Hi=j.createContext(null);Hi.displayName="RouteError";function yd(n,{relative:r}={}){z0(ta(),"useHref() may be used only in the context of a <Router> component.");let{basename:s,navigator:i}=j.useContext(He),{hash:u,pathname:c,search:E}=dn(n,{relative:r}),A=c;return s!=="/"&&(A=c==="/"?s:Bt([s,c])),i.createHref({pathname:A,search:E,hash:u})}function ta(){return j.useContext(En)!=null}function $e(){return z0(ta(),"useLocation() may be used only in the context of a <Router> component."),j.useContext(En).location}var k8="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function S8(n){j.useContext(He).static||j.useLayoutEffect(n)}function xa(){let{isDataRoute:n}=j.useContext(qe);return n?zd():vd()}function vd(){z0(ta(),"useNavigate() may be used only in the context of a <Router> component.");let n=j.useContext(ea),{basename:r,navigator:s}=j.useContext(He),{matches:i}=j.useContext(qe),{pathname:u}=$e(),c=JSON.stringify(Li(i)),E=j.useRef(!1);return S8(()=>{E.current=!0}),j.useCallback((B,d={})=>{if(Pe(E.current,k8),!E.current)return;if(typeof B=="number"){s.go(B);return}let C=Pi(B,JSON.parse(c),u,d.relative==="path");n==null&&r!=="/"&&(C.pathname=C.pathname==="/"?r:Bt([r,C.pathname])),(d.replace?s.replace:s.push)(C,d.state,d)},[r,s,c,u,n])}var pd=j.createContext(null);function gd(n){let r=j.useContext(qe).outlet;return r&&j.createElement(pd.Provider,{value:n},r)}function dn(n,{relative:r}={}){let{matches:s}=j.useContext(qe),{pathname:i}=$e(),u=JSON.stringify(Li(s));return j.useMemo(()=>Pi(n,JSON.parse(u),i,r==="path"),[n,u,i,r])}function bd(n,r){return w8(n,r)}function w8(n,r,s,i){var N;z0(ta(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:u,static:c}=j.useContext(He),{matches:E}=j.useContext(qe),A=E[E.length-1],B=A?A.params:{},d=A?A.pathname:"/",C=A?A.pathnameBase:"/",D=A&&A.route;{let y=D&&D.path||"";T8(d,!D||y.endsWith("*")||y.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${d}" (under <Route path="${y}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
+
+Please change the parent <Route path="${y}"> to <Route path="${y==="/"?"*":`${y}/*`}">.`)}let v=$e(),S;if(r){let y=typeof r=="string"?Ix(r):r;z0(C==="/"||((N=y.pathname)==null?void 0:N.startsWith(C)),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${C}" but pathname "${y.pathname}" was given in the \`location\` prop.`),S=y}else S=v;let h=S.pathname||"/",_=h;if(C!=="/"){let y=C.replace(/^\//,"").split("/");_="/"+h.replace(/^\//,"").split("/").slice(y.length).join("/")}let p=!c&&s&&s.matches&&s.matches.length>0?s.matches:y8(n,{pathname:_});Pe(D||p!=null,`No routes matched location "${S.pathname}${S.search}${S.hash}" `),Pe(p==null||p[p.length-1].route.element!==void 0||p[p.length-1].route.Component!==void 0||p[p.length-1].route.lazy!==void 0,`Matched leaf route at location "${S.pathname}${S.search}${S.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let T=_d(p&&p.map(y=>Object.assign({},y,{params:Object.assign({},B,y.params),pathname:Bt([C,u.encodeLocation?u.encodeLocation(y.pathname).pathname:y.pathname]),pathnameBase:y.pathnameBase==="/"?C:Bt([C,u.encodeLocation?u.encodeLocation(y.pathnameBase).pathname:y.pathnameBase])})),E,s,i);return r&&T?j.createElement(En.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",...S},navigationType:"POP"}},T):T}function kd(){let n=jd(),r=md(n)?`${n.status} ${n.statusText}`:n instanceof Error?n.message:JSON.stringify(n),s=n instanceof Error?n.stack:null,i="rgba(200,200,200, 0.5)",u={padding:"0.5rem",backgroundColor:i},c={padding:"2px 4px",backgroundColor:i},E=null;return console.error("Error handled by React Router default ErrorBoundary:",n),E=j.createElement(j.Fragment,null,j.createElement("p",null,"💿 Hey developer 👋"),j.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",j.createElement("code",{style:c},"ErrorBoundary")," or"," ",j.createElement("code",{style:c},"errorElement")," prop on your route.")),j.createElement(j.Fragment,null,j.createElement("h2",null,"Unexpected Application Error!"),j.createElement("h3",{style:{fontStyle:"italic"}},r),s?j.createElement("pre",{style:u},s):null,E)}var Sd=j.createElement(kd,null),wd=class extends j.Component{constructor(n){super(n),this.state={location:n.location,revalidation:n.revalidation,error:n.error}}static getDerivedStateFromError(n){return{error:n}}static getDerivedStateFromProps(n,r){return r.location!==n.location||r.revalidation!=="idle"&&n.revalidation==="idle"?{error:n.error,location:n.location,revalidation:n.revalidation}:{error:n.error!==void 0?n.error:r.error,location:r.location,revalidation:n.revalidation||r.revalidation}}componentDidCatch(n,r){console.error("React Router caught the following error during render",n,r)}render(){return this.state.error!==void 0?j.createElement(qe.Provider,{value:this.props.routeContext},j.createElement(Hi.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function Td({routeContext:n,match:r,children:s}){let i=j.useContext(ea);return i&&i.static&&i.staticContext&&(r.route.errorElement||r.route.ErrorBoundary)&&(i.staticContext._deepestRenderedBoundaryId=r.route.id),j.createElement(qe.Provider,{value:n},s)}function _d(n,r=[],s=null,i=null){if(n==null){if(!s)return null;if(s.errors)n=s.matches;else if(r.length===0&&!s.initialized&&s.matches.length>0)n=s.matches;else return null}let u=n,c=s==null?void 0:s.errors;if(c!=null){let B=u.findIndex(d=>d.route.id&&(c==null?void 0:c[d.route.id])!==void 0);z0(B>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(c).join(",")}`),u=u.slice(0,Math.min(u.length,B+1))}let E=!1,A=-1;if(s)for(let B=0;B<u.length;B++){let d=u[B];if((d.route.HydrateFallback||d.route.hydrateFallbackElement)&&(A=B),d.route.id){let{loaderData:C,errors:D}=s,v=d.route.loader&&!C.hasOwnProperty(d.route.id)&&(!D||D[d.route.id]===void 0);if(d.route.lazy||v){E=!0,A>=0?u=u.slice(0,A+1):u=[u[0]];break}}}return u.reduceRight((B,d,C)=>{let D,v=!1,S=null,h=null;s&&(D=c&&d.route.id?c[d.route.id]:void 0,S=d.route.errorElement||Sd,E&&(A<0&&C===0?(T8("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),v=!0,h=null):A===C&&(v=!0,h=d.route.hydrateFallbackElement||null)));let _=r.concat(u.slice(0,C+1)),p=()=>{let T;return D?T=S:v?T=h:d.route.Component?T=j.createElement(d.route.Component,null):d.route.element?T=d.route.element:T=B,j.createElement(Td,{match:d,routeContext:{outlet:B,matches:_,isDataRoute:s!=null},children:T})};return s&&(d.route.ErrorBoundary||d.route.errorElement||C===0)?j.createElement(wd,{location:s.location,revalidation:s.revalidation,component:S,error:D,children:p(),routeContext:{outlet:null,matches:_,isDataRoute:!0}}):p()},null)}function qi(n){return`${n} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function Rd(n){let r=j.useContext(ea);return z0(r,qi(n)),r}function Od(n){let r=j.useContext(Yl);return z0(r,qi(n)),r}function Nd(n){let r=j.useContext(qe);return z0(r,qi(n)),r}function Xi(n){let r=Nd(n),s=r.matches[r.matches.length-1];return z0(s.route.id,`${n} can only be used on routes that contain a unique "id"`),s.route.id}function Md(){return Xi("useRouteId")}function jd(){var i;let n=j.useContext(Hi),r=Od("useRouteError"),s=Xi("useRouteError");return n!==void 0?n:(i=r.errors)==null?void 0:i[s]}function zd(){let{router:n}=Rd("useNavigate"),r=Xi("useNavigate"),s=j.useRef(!1);return S8(()=>{s.current=!0}),j.useCallback(async(u,c={})=>{Pe(s.current,k8),s.current&&(typeof u=="number"?n.navigate(u):await n.navigate(u,{fromRouteId:r,...c}))},[n,r])}var e8={};function T8(n,r,s){!r&&!e8[n]&&(e8[n]=!0,Pe(!1,s))}j.memo(Ud);function Ud({routes:n,future:r,state:s}){return w8(n,void 0,s,r)}function gi({to:n,replace:r,state:s,relative:i}){z0(ta(),"<Navigate> may be used only in the context of a <Router> component.");let{static:u}=j.useContext(He);Pe(!u,"<Navigate> must not be used on the initial render in a <StaticRouter>. This is a no-op, but you should modify your code so the <Navigate> is only ever rendered in response to some user interaction or state change.");let{matches:c}=j.useContext(qe),{pathname:E}=$e(),A=xa(),B=Pi(n,Li(c),E,i==="path"),d=JSON.stringify(B);return j.useEffect(()=>{A(JSON.parse(d),{replace:r,state:s,relative:i})},[A,d,i,r,s]),null}function Ld(n){return gd(n.context)}function Je(n){z0(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function Pd({basename:n="/",children:r=null,location:s,navigationType:i="POP",navigator:u,static:c=!1}){z0(!ta(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let E=n.replace(/^\/*/,"/"),A=j.useMemo(()=>({basename:E,navigator:u,static:c,future:{}}),[E,u,c]);typeof s=="string"&&(s=Ix(s));let{pathname:B="/",search:d="",hash:C="",state:D=null,key:v="default"}=s,S=j.useMemo(()=>{let h=Ct(B,E);return h==null?null:{location:{pathname:h,search:d,hash:C,state:D,key:v},navigationType:i}},[E,B,d,C,D,v,i]);return Pe(S!=null,`<Router basename="${E}"> is not able to match the URL "${B}${d}${C}" because it does not start with the basename, so the <Router> won't render anything.`),S==null?null:j.createElement(He.Provider,{value:A},j.createElement(En.Provider,{children:r,value:S}))}function Hd({children:n,location:r}){return bd(bi(n),r)}function bi(n,r=[]){let s=[];return j.Children.forEach(n,(i,u)=>{if(!j.isValidElement(i))return;let c=[...r,u];if(i.type===j.Fragment){s.push.apply(s,bi(i.props.children,c));return}z0(i.type===Je,`[${typeof i.type=="string"?i.type:i.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),z0(!i.props.index||!i.props.children,"An index route cannot have child routes.");let E={id:i.props.id||c.join("-"),caseSensitive:i.props.caseSensitive,element:i.props.element,Component:i.props.Component,index:i.props.index,path:i.props.path,loader:i.props.loader,action:i.props.action,hydrateFallbackElement:i.props.hydrateFallbackElement,HydrateFallback:i.props.HydrateFallback,errorElement:i.props.errorElement,ErrorBoundary:i.props.ErrorBoundary,hasErrorBoundary:i.props.hasErrorBoundary===!0||i.props.ErrorBoundary!=null||i.props.errorElement!=null,shouldRevalidate:i.props.shouldRevalidate,handle:i.props.handle,lazy:i.props.lazy};i.props.children&&(E.children=bi(i.props.children,c)),s.push(E)}),s}var Ol="get",Nl="application/x-www-form-urlencoded";function Ql(n){return n!=null&&typeof n.tagName=="string"}function qd(n){return Ql(n)&&n.tagName.toLowerCase()==="button"}function Xd(n){return Ql(n)&&n.tagName.toLowerCase()==="form"}function Yd(n){return Ql(n)&&n.tagName.toLowerCase()==="input"}function Qd(n){return!!(n.metaKey||n.altKey||n.ctrlKey||n.shiftKey)}function Gd(n,r){return n.button===0&&(!r||r==="_self")&&!Qd(n)}var Rl=null;function Vd(){if(Rl===null)try{new FormData(document.createElement("form"),0),Rl=!1}catch{Rl=!0}return Rl}var Zd=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function hi(n){return n!=null&&!Zd.has(n)?(Pe(!1,`"${n}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${Nl}"`),null):n}function Kd(n,r){let s,i,u,c,E;if(Xd(n)){let A=n.getAttribute("action");i=A?Ct(A,r):null,s=n.getAttribute("method")||Ol,u=hi(n.getAttribute("enctype"))||Nl,c=new FormData(n)}else if(qd(n)||Yd(n)&&(n.type==="submit"||n.type==="image")){let A=n.form;if(A==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let B=n.getAttribute("formaction")||A.getAttribute("action");if(i=B?Ct(B,r):null,s=n.getAttribute("formmethod")||A.getAttribute("method")||Ol,u=hi(n.getAttribute("formenctype"))||hi(A.getAttribute("enctype"))||Nl,c=new FormData(A,n),!Vd()){let{name:d,type:C,value:D}=n;if(C==="image"){let v=d?`${d}.`:"";c.append(`${v}x`,"0"),c.append(`${v}y`,"0")}else d&&c.append(d,D)}}else{if(Ql(n))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');s=Ol,i=null,u=Nl,E=n}return c&&u==="text/plain"&&(E=c,c=void 0),{action:i,method:s.toLowerCase(),encType:u,formData:c,body:E}}function Yi(n,r){if(n===!1||n===null||typeof n>"u")throw new Error(r)}async function Jd(n,r){if(n.id in r)return r[n.id];try{let s=await import(n.module);return r[n.id]=s,s}catch(s){return console.error(`Error loading route module \`${n.module}\`, reloading page...`),console.error(s),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function $d(n){return n==null?!1:n.href==null?n.rel==="preload"&&typeof n.imageSrcSet=="string"&&typeof n.imageSizes=="string":typeof n.rel=="string"&&typeof n.href=="string"}async function Wd(n,r,s){let i=await Promise.all(n.map(async u=>{let c=r.routes[u.route.id];if(c){let E=await Jd(c,s);return E.links?E.links():[]}return[]}));return x5(i.flat(1).filter($d).filter(u=>u.rel==="stylesheet"||u.rel==="preload").map(u=>u.rel==="stylesheet"?{...u,rel:"prefetch",as:"style"}:{...u,rel:"prefetch"}))}function t8(n,r,s,i,u,c){let E=(B,d)=>s[d]?B.route.id!==s[d].route.id:!0,A=(B,d)=>{var C;return s[d].pathname!==B.pathname||((C=s[d].route.path)==null?void 0:C.endsWith("*"))&&s[d].params["*"]!==B.params["*"]};return c==="assets"?r.filter((B,d)=>E(B,d)||A(B,d)):c==="data"?r.filter((B,d)=>{var D;let C=i.routes[B.route.id];if(!C||!C.hasLoader)return!1;if(E(B,d)||A(B,d))return!0;if(B.route.shouldRevalidate){let v=B.route.shouldRevalidate({currentUrl:new URL(u.pathname+u.search+u.hash,window.origin),currentParams:((D=s[0])==null?void 0:D.params)||{},nextUrl:new URL(n,window.origin),nextParams:B.params,defaultShouldRevalidate:!0});if(typeof v=="boolean")return v}return!0}):[]}function Id(n,r,{includeHydrateFallback:s}={}){return e5(n.map(i=>{let u=r.routes[i.route.id];if(!u)return[];let c=[u.module];return u.clientActionModule&&(c=c.concat(u.clientActionModule)),u.clientLoaderModule&&(c=c.concat(u.clientLoaderModule)),s&&u.hydrateFallbackModule&&(c=c.concat(u.hydrateFallbackModule)),u.imports&&(c=c.concat(u.imports)),c}).flat(1))}function e5(n){return[...new Set(n)]}function t5(n){let r={},s=Object.keys(n).sort();for(let i of s)r[i]=n[i];return r}function x5(n,r){let s=new Set;return new Set(r),n.reduce((i,u)=>{let c=JSON.stringify(t5(u));return s.has(c)||(s.add(c),i.push({key:c,link:u})),i},[])}var a5=new Set([100,101,204,205]);function n5(n,r){let s=typeof n=="string"?new URL(n,typeof window>"u"?"server://singlefetch/":window.location.origin):n;return s.pathname==="/"?s.pathname="_root.data":r&&Ct(s.pathname,r)==="/"?s.pathname=`${r.replace(/\/$/,"")}/_root.data`:s.pathname=`${s.pathname.replace(/\/$/,"")}.data`,s}function _8(){let n=j.useContext(ea);return Yi(n,"You must render this element inside a <DataRouterContext.Provider> element"),n}function l5(){let n=j.useContext(Yl);return Yi(n,"You must render this element inside a <DataRouterStateContext.Provider> element"),n}var Qi=j.createContext(void 0);Qi.displayName="FrameworkContext";function R8(){let n=j.useContext(Qi);return Yi(n,"You must render this element inside a <HydratedRouter> element"),n}function r5(n,r){let s=j.useContext(Qi),[i,u]=j.useState(!1),[c,E]=j.useState(!1),{onFocus:A,onBlur:B,onMouseEnter:d,onMouseLeave:C,onTouchStart:D}=r,v=j.useRef(null);j.useEffect(()=>{if(n==="render"&&E(!0),n==="viewport"){let _=T=>{T.forEach(N=>{E(N.isIntersecting)})},p=new IntersectionObserver(_,{threshold:.5});return v.current&&p.observe(v.current),()=>{p.disconnect()}}},[n]),j.useEffect(()=>{if(i){let _=setTimeout(()=>{E(!0)},100);return()=>{clearTimeout(_)}}},[i]);let S=()=>{u(!0)},h=()=>{u(!1),E(!1)};return s?n!=="intent"?[c,v,{}]:[c,v,{onFocus:on(A,S),onBlur:on(B,h),onMouseEnter:on(d,S),onMouseLeave:on(C,h),onTouchStart:on(D,S)}]:[!1,v,{}]}function on(n,r){return s=>{n&&n(s),s.defaultPrevented||r(s)}}function o5({page:n,...r}){let{router:s}=_8(),i=j.useMemo(()=>y8(s.routes,n,s.basename),[s.routes,n,s.basename]);return i?j.createElement(s5,{page:n,matches:i,...r}):null}function i5(n){let{manifest:r,routeModules:s}=R8(),[i,u]=j.useState([]);return j.useEffect(()=>{let c=!1;return Wd(n,r,s).then(E=>{c||u(E)}),()=>{c=!0}},[n,r,s]),i}function s5({page:n,matches:r,...s}){let i=$e(),{manifest:u,routeModules:c}=R8(),{basename:E}=_8(),{loaderData:A,matches:B}=l5(),d=j.useMemo(()=>t8(n,r,B,u,i,"data"),[n,r,B,u,i]),C=j.useMemo(()=>t8(n,r,B,u,i,"assets"),[n,r,B,u,i]),D=j.useMemo(()=>{if(n===i.pathname+i.search+i.hash)return[];let h=new Set,_=!1;if(r.forEach(T=>{var y;let N=u.routes[T.route.id];!N||!N.hasLoader||(!d.some(g=>g.route.id===T.route.id)&&T.route.id in A&&((y=c[T.route.id])!=null&&y.shouldRevalidate)||N.hasClientLoader?_=!0:h.add(T.route.id))}),h.size===0)return[];let p=n5(n,E);return _&&h.size>0&&p.searchParams.set("_routes",r.filter(T=>h.has(T.route.id)).map(T=>T.route.id).join(",")),[p.pathname+p.search]},[E,A,i,u,d,r,n,c]),v=j.useMemo(()=>Id(C,u),[C,u]),S=i5(C);return j.createElement(j.Fragment,null,D.map(h=>j.createElement("link",{key:h,rel:"prefetch",as:"fetch",href:h,...s})),v.map(h=>j.createElement("link",{key:h,rel:"modulepreload",href:h,...s})),S.map(({key:h,link:_})=>j.createElement("link",{key:h,..._})))}function u5(...n){return r=>{n.forEach(s=>{typeof s=="function"?s(r):s!=null&&(s.current=r)})}}var O8=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{O8&&(window.__reactRouterVersion="7.5.3")}catch{}function c5({basename:n,children:r,window:s}){let i=j.useRef();i.current==null&&(i.current=J6({window:s,v5Compat:!0}));let u=i.current,[c,E]=j.useState({action:u.action,location:u.location}),A=j.useCallback(B=>{j.startTransition(()=>E(B))},[E]);return j.useLayoutEffect(()=>u.listen(A),[u,A]),j.createElement(Pd,{basename:n,children:r,location:c.location,navigationType:c.action,navigator:u})}var N8=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,M8=j.forwardRef(function({onClick:r,discover:s="render",prefetch:i="none",relative:u,reloadDocument:c,replace:E,state:A,target:B,to:d,preventScrollReset:C,viewTransition:D,...v},S){let{basename:h}=j.useContext(He),_=typeof d=="string"&&N8.test(d),p,T=!1;if(typeof d=="string"&&_&&(p=d,O8))try{let L=new URL(window.location.href),$=d.startsWith("//")?new URL(L.protocol+d):new URL(d),J=Ct($.pathname,h);$.origin===L.origin&&J!=null?d=J+$.search+$.hash:T=!0}catch{Pe(!1,`<Link to="${d}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let N=yd(d,{relative:u}),[y,g,b]=r5(i,v),z=B5(d,{replace:E,state:A,target:B,preventScrollReset:C,relative:u,viewTransition:D});function O(L){r&&r(L),L.defaultPrevented||z(L)}let X=j.createElement("a",{...v,...b,href:p||N,onClick:T||c?r:O,ref:u5(S,g),target:B,"data-discover":!_&&s==="render"?"true":void 0});return y&&!_?j.createElement(j.Fragment,null,X,j.createElement(o5,{page:N})):X});M8.displayName="Link";var f5=j.forwardRef(function({"aria-current":r="page",caseSensitive:s=!1,className:i="",end:u=!1,style:c,to:E,viewTransition:A,children:B,...d},C){let D=dn(E,{relative:d.relative}),v=$e(),S=j.useContext(Yl),{navigator:h,basename:_}=j.useContext(He),p=S!=null&&h5(D)&&A===!0,T=h.encodeLocation?h.encodeLocation(D).pathname:D.pathname,N=v.pathname,y=S&&S.navigation&&S.navigation.location?S.navigation.location.pathname:null;s||(N=N.toLowerCase(),y=y?y.toLowerCase():null,T=T.toLowerCase()),y&&_&&(y=Ct(y,_)||y);const g=T!=="/"&&T.endsWith("/")?T.length-1:T.length;let b=N===T||!u&&N.startsWith(T)&&N.charAt(g)==="/",z=y!=null&&(y===T||!u&&y.startsWith(T)&&y.charAt(T.length)==="/"),O={isActive:b,isPending:z,isTransitioning:p},X=b?r:void 0,L;typeof i=="function"?L=i(O):L=[i,b?"active":null,z?"pending":null,p?"transitioning":null].filter(Boolean).join(" ");let $=typeof c=="function"?c(O):c;return j.createElement(M8,{...d,"aria-current":X,className:L,ref:C,style:$,to:E,viewTransition:A},typeof B=="function"?B(O):B)});f5.displayName="NavLink";var E5=j.forwardRef(({discover:n="render",fetcherKey:r,navigate:s,reloadDocument:i,replace:u,state:c,method:E=Ol,action:A,onSubmit:B,relative:d,preventScrollReset:C,viewTransition:D,...v},S)=>{let h=m5(),_=D5(A,{relative:d}),p=E.toLowerCase()==="get"?"get":"post",T=typeof A=="string"&&N8.test(A),N=y=>{if(B&&B(y),y.defaultPrevented)return;y.preventDefault();let g=y.nativeEvent.submitter,b=(g==null?void 0:g.getAttribute("formmethod"))||E;h(g||y.currentTarget,{fetcherKey:r,method:b,navigate:s,replace:u,state:c,relative:d,preventScrollReset:C,viewTransition:D})};return j.createElement("form",{ref:S,method:p,action:_,onSubmit:i?B:N,...v,"data-discover":!T&&n==="render"?"true":void 0})});E5.displayName="Form";function d5(n){return`${n} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function j8(n){let r=j.useContext(ea);return z0(r,d5(n)),r}function B5(n,{target:r,replace:s,state:i,preventScrollReset:u,relative:c,viewTransition:E}={}){let A=xa(),B=$e(),d=dn(n,{relative:c});return j.useCallback(C=>{if(Gd(C,r)){C.preventDefault();let D=s!==void 0?s:un(B)===un(d);A(n,{replace:D,state:i,preventScrollReset:u,relative:c,viewTransition:E})}},[B,A,d,s,i,r,n,u,c,E])}var C5=0,A5=()=>`__${String(++C5)}__`;function m5(){let{router:n}=j8("useSubmit"),{basename:r}=j.useContext(He),s=Md();return j.useCallback(async(i,u={})=>{let{action:c,method:E,encType:A,formData:B,body:d}=Kd(i,r);if(u.navigate===!1){let C=u.fetcherKey||A5();await n.fetch(C,s,u.action||c,{preventScrollReset:u.preventScrollReset,formData:B,body:d,formMethod:u.method||E,formEncType:u.encType||A,flushSync:u.flushSync})}else await n.navigate(u.action||c,{preventScrollReset:u.preventScrollReset,formData:B,body:d,formMethod:u.method||E,formEncType:u.encType||A,replace:u.replace,state:u.state,fromRouteId:s,flushSync:u.flushSync,viewTransition:u.viewTransition})},[n,r,s])}function D5(n,{relative:r}={}){let{basename:s}=j.useContext(He),i=j.useContext(qe);z0(i,"useFormAction must be used inside a RouteContext");let[u]=i.matches.slice(-1),c={...dn(n||".",{relative:r})},E=$e();if(n==null){c.search=E.search;let A=new URLSearchParams(c.search),B=A.getAll("index");if(B.some(C=>C==="")){A.delete("index"),B.filter(D=>D).forEach(D=>A.append("index",D));let C=A.toString();c.search=C?`?${C}`:""}}return(!n||n===".")&&u.route.index&&(c.search=c.search?c.search.replace(/^\?/,"?index&"):"?index"),s!=="/"&&(c.pathname=c.pathname==="/"?s:Bt([s,c.pathname])),un(c)}function h5(n,r={}){let s=j.useContext(b8);z0(s!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:i}=j8("useViewTransitionState"),u=dn(n,{relative:r.relative});if(!s.isTransitioning)return!1;let c=Ct(s.currentLocation.pathname,i)||s.currentLocation.pathname,E=Ct(s.nextLocation.pathname,i)||s.nextLocation.pathname;return Ll(u.pathname,E)!=null||Ll(u.pathname,c)!=null}new TextEncoder;[...a5];var ki=F8();function z8(n,r){return function(){return n.apply(r,arguments)}}const{toString:F5}=Object.prototype,{getPrototypeOf:Gi}=Object,Gl=(n=>r=>{const s=F5.call(r);return n[s]||(n[s]=s.slice(8,-1).toLowerCase())})(Object.create(null)),Xe=n=>(n=n.toLowerCase(),r=>Gl(r)===n),Vl=n=>r=>typeof r===n,{isArray:aa}=Array,cn=Vl("undefined");function y5(n){return n!==null&&!cn(n)&&n.constructor!==null&&!cn(n.constructor)&&be(n.constructor.isBuffer)&&n.constructor.isBuffer(n)}const U8=Xe("ArrayBuffer");function v5(n){let r;return typeof ArrayBuffer<"u"&&ArrayBuffer.isView?r=ArrayBuffer.isView(n):r=n&&n.buffer&&U8(n.buffer),r}const p5=Vl("string"),be=Vl("function"),L8=Vl("number"),Zl=n=>n!==null&&typeof n=="object",g5=n=>n===!0||n===!1,Ml=n=>{if(Gl(n)!=="object")return!1;const r=Gi(n);return(r===null||r===Object.prototype||Object.getPrototypeOf(r)===null)&&!(Symbol.toStringTag in n)&&!(Symbol.iterator in n)},b5=Xe("Date"),k5=Xe("File"),S5=Xe("Blob"),w5=Xe("FileList"),T5=n=>Zl(n)&&be(n.pipe),_5=n=>{let r;return n&&(typeof FormData=="function"&&n instanceof FormData||be(n.append)&&((r=Gl(n))==="formdata"||r==="object"&&be(n.toString)&&n.toString()==="[object FormData]"))},R5=Xe("URLSearchParams"),[O5,N5,M5,j5]=["ReadableStream","Request","Response","Headers"].map(Xe),z5=n=>n.trim?n.trim():n.replace(/^[\s\uFEFF\xA0]+|[\s\uFEFF\xA0]+$/g,"");function Bn(n,r,{allOwnKeys:s=!1}={}){if(n===null||typeof n>"u")return;let i,u;if(typeof n!="object"&&(n=[n]),aa(n))for(i=0,u=n.length;i<u;i++)r.call(null,n[i],i,n);else{const c=s?Object.getOwnPropertyNames(n):Object.keys(n),E=c.length;let A;for(i=0;i<E;i++)A=c[i],r.call(null,n[A],A,n)}}function P8(n,r){r=r.toLowerCase();const s=Object.keys(n);let i=s.length,u;for(;i-- >0;)if(u=s[i],r===u.toLowerCase())return u;return null}const sx=typeof globalThis<"u"?globalThis:typeof self<"u"?self:typeof window<"u"?window:global,H8=n=>!cn(n)&&n!==sx;function Si(){const{caseless:n}=H8(this)&&this||{},r={},s=(i,u)=>{const c=n&&P8(r,u)||u;Ml(r[c])&&Ml(i)?r[c]=Si(r[c],i):Ml(i)?r[c]=Si({},i):aa(i)?r[c]=i.slice():r[c]=i};for(let i=0,u=arguments.length;i<u;i++)arguments[i]&&Bn(arguments[i],s);return r}const U5=(n,r,s,{allOwnKeys:i}={})=>(Bn(r,(u,c)=>{s&&be(u)?n[c]=z8(u,s):n[c]=u},{allOwnKeys:i}),n),L5=n=>(n.charCodeAt(0)===65279&&(n=n.slice(1)),n),P5=(n,r,s,i)=>{n.prototype=Object.create(r.prototype,i),n.prototype.constructor=n,Object.defineProperty(n,"super",{value:r.prototype}),s&&Object.assign(n.prototype,s)},H5=(n,r,s,i)=>{let u,c,E;const A={};if(r=r||{},n==null)return r;do{for(u=Object.getOwnPropertyNames(n),c=u.length;c-- >0;)E=u[c],(!i||i(E,n,r))&&!A[E]&&(r[E]=n[E],A[E]=!0);n=s!==!1&&Gi(n)}while(n&&(!s||s(n,r))&&n!==Object.prototype);return r},q5=(n,r,s)=>{n=String(n),(s===void 0||s>n.length)&&(s=n.length),s-=r.length;const i=n.indexOf(r,s);return i!==-1&&i===s},X5=n=>{if(!n)return null;if(aa(n))return n;let r=n.length;if(!L8(r))return null;const s=new Array(r);for(;r-- >0;)s[r]=n[r];return s},Y5=(n=>r=>n&&r instanceof n)(typeof Uint8Array<"u"&&Gi(Uint8Array)),Q5=(n,r)=>{const i=(n&&n[Symbol.iterator]).call(n);let u;for(;(u=i.next())&&!u.done;){const c=u.value;r.call(n,c[0],c[1])}},G5=(n,r)=>{let s;const i=[];for(;(s=n.exec(r))!==null;)i.push(s);return i},V5=Xe("HTMLFormElement"),Z5=n=>n.toLowerCase().replace(/[-_\s]([a-z\d])(\w*)/g,function(s,i,u){return i.toUpperCase()+u}),x8=(({hasOwnProperty:n})=>(r,s)=>n.call(r,s))(Object.prototype),K5=Xe("RegExp"),q8=(n,r)=>{const s=Object.getOwnPropertyDescriptors(n),i={};Bn(s,(u,c)=>{let E;(E=r(u,c,n))!==!1&&(i[c]=E||u)}),Object.defineProperties(n,i)},J5=n=>{q8(n,(r,s)=>{if(be(n)&&["arguments","caller","callee"].indexOf(s)!==-1)return!1;const i=n[s];if(be(i)){if(r.enumerable=!1,"writable"in r){r.writable=!1;return}r.set||(r.set=()=>{throw Error("Can not rewrite read-only method '"+s+"'")})}})},$5=(n,r)=>{const s={},i=u=>{u.forEach(c=>{s[c]=!0})};return aa(n)?i(n):i(String(n).split(r)),s},W5=()=>{},I5=(n,r)=>n!=null&&Number.isFinite(n=+n)?n:r;function e7(n){return!!(n&&be(n.append)&&n[Symbol.toStringTag]==="FormData"&&n[Symbol.iterator])}const t7=n=>{const r=new Array(10),s=(i,u)=>{if(Zl(i)){if(r.indexOf(i)>=0)return;if(!("toJSON"in i)){r[u]=i;const c=aa(i)?[]:{};return Bn(i,(E,A)=>{const B=s(E,u+1);!cn(B)&&(c[A]=B)}),r[u]=void 0,c}}return i};return s(n,0)},x7=Xe("AsyncFunction"),a7=n=>n&&(Zl(n)||be(n))&&be(n.then)&&be(n.catch),X8=((n,r)=>n?setImmediate:r?((s,i)=>(sx.addEventListener("message",({source:u,data:c})=>{u===sx&&c===s&&i.length&&i.shift()()},!1),u=>{i.push(u),sx.postMessage(s,"*")}))(`axios@${Math.random()}`,[]):s=>setTimeout(s))(typeof setImmediate=="function",be(sx.postMessage)),n7=typeof queueMicrotask<"u"?queueMicrotask.bind(sx):typeof process<"u"&&process.nextTick||X8,V={isArray:aa,isArrayBuffer:U8,isBuffer:y5,isFormData:_5,isArrayBufferView:v5,isString:p5,isNumber:L8,isBoolean:g5,isObject:Zl,isPlainObject:Ml,isReadableStream:O5,isRequest:N5,isResponse:M5,isHeaders:j5,isUndefined:cn,isDate:b5,isFile:k5,isBlob:S5,isRegExp:K5,isFunction:be,isStream:T5,isURLSearchParams:R5,isTypedArray:Y5,isFileList:w5,forEach:Bn,merge:Si,extend:U5,trim:z5,stripBOM:L5,inherits:P5,toFlatObject:H5,kindOf:Gl,kindOfTest:Xe,endsWith:q5,toArray:X5,forEachEntry:Q5,matchAll:G5,isHTMLForm:V5,hasOwnProperty:x8,hasOwnProp:x8,reduceDescriptors:q8,freezeMethods:J5,toObjectSet:$5,toCamelCase:Z5,noop:W5,toFiniteNumber:I5,findKey:P8,global:sx,isContextDefined:H8,isSpecCompliantForm:e7,toJSONObject:t7,isAsyncFn:x7,isThenable:a7,setImmediate:X8,asap:n7};function B0(n,r,s,i,u){Error.call(this),Error.captureStackTrace?Error.captureStackTrace(this,this.constructor):this.stack=new Error().stack,this.message=n,this.name="AxiosError",r&&(this.code=r),s&&(this.config=s),i&&(this.request=i),u&&(this.response=u,this.status=u.status?u.status:null)}V.inherits(B0,Error,{toJSON:function(){return{message:this.message,name:this.name,description:this.description,number:this.number,fileName:this.fileName,lineNumber:this.lineNumber,columnNumber:this.columnNumber,stack:this.stack,config:V.toJSONObject(this.config),code:this.code,status:this.status}}});const Y8=B0.prototype,Q8={};["ERR_BAD_OPTION_VALUE","ERR_BAD_OPTION","ECONNABORTED","ETIMEDOUT","ERR_NETWORK","ERR_FR_TOO_MANY_REDIRECTS","ERR_DEPRECATED","ERR_BAD_RESPONSE","ERR_BAD_REQUEST","ERR_CANCELED","ERR_NOT_SUPPORT","ERR_INVALID_URL"].forEach(n=>{Q8[n]={value:n}});Object.defineProperties(B0,Q8);Object.defineProperty(Y8,"isAxiosError",{value:!0});B0.from=(n,r,s,i,u,c)=>{const E=Object.create(Y8);return V.toFlatObject(n,E,function(B){return B!==Error.prototype},A=>A!=="isAxiosError"),B0.call(E,n.message,r,s,i,u),E.cause=n,E.name=n.name,c&&Object.assign(E,c),E};const l7=null;function wi(n){return V.isPlainObject(n)||V.isArray(n)}function G8(n){return V.endsWith(n,"[]")?n.slice(0,-2):n}function a8(n,r,s){return n?n.concat(r).map(function(u,c){return u=G8(u),!s&&c?"["+u+"]":u}).join(s?".":""):r}function r7(n){return V.isArray(n)&&!n.some(wi)}const o7=V.toFlatObject(V,{},null,function(r){return/^is[A-Z]/.test(r)});function Kl(n,r,s){if(!V.isObject(n))throw new TypeError("target must be an object");r=r||new FormData,s=V.toFlatObject(s,{metaTokens:!0,dots:!1,indexes:!1},!1,function(_,p){return!V.isUndefined(p[_])});const i=s.metaTokens,u=s.visitor||C,c=s.dots,E=s.indexes,B=(s.Blob||typeof Blob<"u"&&Blob)&&V.isSpecCompliantForm(r);if(!V.isFunction(u))throw new TypeError("visitor must be a function");function d(h){if(h===null)return"";if(V.isDate(h))return h.toISOString();if(!B&&V.isBlob(h))throw new B0("Blob is not supported. Use a Buffer instead.");return V.isArrayBuffer(h)||V.isTypedArray(h)?B&&typeof Blob=="function"?new Blob([h]):Buffer.from(h):h}function C(h,_,p){let T=h;if(h&&!p&&typeof h=="object"){if(V.endsWith(_,"{}"))_=i?_:_.slice(0,-2),h=JSON.stringify(h);else if(V.isArray(h)&&r7(h)||(V.isFileList(h)||V.endsWith(_,"[]"))&&(T=V.toArray(h)))return _=G8(_),T.forEach(function(y,g){!(V.isUndefined(y)||y===null)&&r.append(E===!0?a8([_],g,c):E===null?_:_+"[]",d(y))}),!1}return wi(h)?!0:(r.append(a8(p,_,c),d(h)),!1)}const D=[],v=Object.assign(o7,{defaultVisitor:C,convertValue:d,isVisitable:wi});function S(h,_){if(!V.isUndefined(h)){if(D.indexOf(h)!==-1)throw Error("Circular reference detected in "+_.join("."));D.push(h),V.forEach(h,function(T,N){(!(V.isUndefined(T)||T===null)&&u.call(r,T,V.isString(N)?N.trim():N,_,v))===!0&&S(T,_?_.concat(N):[N])}),D.pop()}}if(!V.isObject(n))throw new TypeError("data must be an object");return S(n),r}function n8(n){const r={"!":"%21","'":"%27","(":"%28",")":"%29","~":"%7E","%20":"+","%00":"\0"};return encodeURIComponent(n).replace(/[!'()~]|%20|%00/g,function(i){return r[i]})}function Vi(n,r){this._pairs=[],n&&Kl(n,this,r)}const V8=Vi.prototype;V8.append=function(r,s){this._pairs.push([r,s])};V8.toString=function(r){const s=r?function(i){return r.call(this,i,n8)}:n8;return this._pairs.map(function(u){return s(u[0])+"="+s(u[1])},"").join("&")};function i7(n){return encodeURIComponent(n).replace(/%3A/gi,":").replace(/%24/g,"$").replace(/%2C/gi,",").replace(/%20/g,"+").replace(/%5B/gi,"[").replace(/%5D/gi,"]")}function Z8(n,r,s){if(!r)return n;const i=s&&s.encode||i7;V.isFunction(s)&&(s={serialize:s});const u=s&&s.serialize;let c;if(u?c=u(r,s):c=V.isURLSearchParams(r)?r.toString():new Vi(r,s).toString(i),c){const E=n.indexOf("#");E!==-1&&(n=n.slice(0,E)),n+=(n.indexOf("?")===-1?"?":"&")+c}return n}class l8{constructor(){this.handlers=[]}use(r,s,i){return this.handlers.push({fulfilled:r,rejected:s,synchronous:i?i.synchronous:!1,runWhen:i?i.runWhen:null}),this.handlers.length-1}eject(r){this.handlers[r]&&(this.handlers[r]=null)}clear(){this.handlers&&(this.handlers=[])}forEach(r){V.forEach(this.handlers,function(i){i!==null&&r(i)})}}const K8={silentJSONParsing:!0,forcedJSONParsing:!0,clarifyTimeoutError:!1},s7=typeof URLSearchParams<"u"?URLSearchParams:Vi,u7=typeof FormData<"u"?FormData:null,c7=typeof Blob<"u"?Blob:null,f7={isBrowser:!0,classes:{URLSearchParams:s7,FormData:u7,Blob:c7},protocols:["http","https","file","blob","url","data"]},Zi=typeof window<"u"&&typeof document<"u",Ti=typeof navigator=="object"&&navigator||void 0,E7=Zi&&(!Ti||["ReactNative","NativeScript","NS"].indexOf(Ti.product)<0),d7=typeof WorkerGlobalScope<"u"&&self instanceof WorkerGlobalScope&&typeof self.importScripts=="function",B7=Zi&&window.location.href||"http://localhost",C7=Object.freeze(Object.defineProperty({__proto__:null,hasBrowserEnv:Zi,hasStandardBrowserEnv:E7,hasStandardBrowserWebWorkerEnv:d7,navigator:Ti,origin:B7},Symbol.toStringTag,{value:"Module"})),le={...C7,...f7};function A7(n,r){return Kl(n,new le.classes.URLSearchParams,Object.assign({visitor:function(s,i,u,c){return le.isNode&&V.isBuffer(s)?(this.append(i,s.toString("base64")),!1):c.defaultVisitor.apply(this,arguments)}},r))}function m7(n){return V.matchAll(/\w+|\[(\w*)]/g,n).map(r=>r[0]==="[]"?"":r[1]||r[0])}function D7(n){const r={},s=Object.keys(n);let i;const u=s.length;let c;for(i=0;i<u;i++)c=s[i],r[c]=n[c];return r}function J8(n){function r(s,i,u,c){let E=s[c++];if(E==="__proto__")return!0;const A=Number.isFinite(+E),B=c>=s.length;return E=!E&&V.isArray(u)?u.length:E,B?(V.hasOwnProp(u,E)?u[E]=[u[E],i]:u[E]=i,!A):((!u[E]||!V.isObject(u[E]))&&(u[E]=[]),r(s,i,u[E],c)&&V.isArray(u[E])&&(u[E]=D7(u[E])),!A)}if(V.isFormData(n)&&V.isFunction(n.entries)){const s={};return V.forEachEntry(n,(i,u)=>{r(m7(i),u,s,0)}),s}return null}function h7(n,r,s){if(V.isString(n))try{return(r||JSON.parse)(n),V.trim(n)}catch(i){if(i.name!=="SyntaxError")throw i}return(s||JSON.stringify)(n)}const Cn={transitional:K8,adapter:["xhr","http","fetch"],transformRequest:[function(r,s){const i=s.getContentType()||"",u=i.indexOf("application/json")>-1,c=V.isObject(r);if(c&&V.isHTMLForm(r)&&(r=new FormData(r)),V.isFormData(r))return u?JSON.stringify(J8(r)):r;if(V.isArrayBuffer(r)||V.isBuffer(r)||V.isStream(r)||V.isFile(r)||V.isBlob(r)||V.isReadableStream(r))return r;if(V.isArrayBufferView(r))return r.buffer;if(V.isURLSearchParams(r))return s.setContentType("application/x-www-form-urlencoded;charset=utf-8",!1),r.toString();let A;if(c){if(i.indexOf("application/x-www-form-urlencoded")>-1)return A7(r,this.formSerializer).toString();if((A=V.isFileList(r))||i.indexOf("multipart/form-data")>-1){const B=this.env&&this.env.FormData;return Kl(A?{"files[]":r}:r,B&&new B,this.formSerializer)}}return c||u?(s.setContentType("application/json",!1),h7(r)):r}],transformResponse:[function(r){const s=this.transitional||Cn.transitional,i=s&&s.forcedJSONParsing,u=this.responseType==="json";if(V.isResponse(r)||V.isReadableStream(r))return r;if(r&&V.isString(r)&&(i&&!this.responseType||u)){const E=!(s&&s.silentJSONParsing)&&u;try{return JSON.parse(r)}catch(A){if(E)throw A.name==="SyntaxError"?B0.from(A,B0.ERR_BAD_RESPONSE,this,null,this.response):A}}return r}],timeout:0,xsrfCookieName:"XSRF-TOKEN",xsrfHeaderName:"X-XSRF-TOKEN",maxContentLength:-1,maxBodyLength:-1,env:{FormData:le.classes.FormData,Blob:le.classes.Blob},validateStatus:function(r){return r>=200&&r<300},headers:{common:{Accept:"application/json, text/plain, */*","Content-Type":void 0}}};V.forEach(["delete","get","head","post","put","patch"],n=>{Cn.headers[n]={}});const F7=V.toObjectSet(["age","authorization","content-length","content-type","etag","expires","from","host","if-modified-since","if-unmodified-since","last-modified","location","max-forwards","proxy-authorization","referer","retry-after","user-agent"]),y7=n=>{const r={};let s,i,u;return n&&n.split(`
+`).forEach(function(E){u=E.indexOf(":"),s=E.substring(0,u).trim().toLowerCase(),i=E.substring(u+1).trim(),!(!s||r[s]&&F7[s])&&(s==="set-cookie"?r[s]?r[s].push(i):r[s]=[i]:r[s]=r[s]?r[s]+", "+i:i)}),r},r8=Symbol("internals");function sn(n){return n&&String(n).trim().toLowerCase()}function jl(n){return n===!1||n==null?n:V.isArray(n)?n.map(jl):String(n)}function v7(n){const r=Object.create(null),s=/([^\s,;=]+)\s*(?:=\s*([^,;]+))?/g;let i;for(;i=s.exec(n);)r[i[1]]=i[2];return r}const p7=n=>/^[-_a-zA-Z0-9^`|~,!#$%&'*+.]+$/.test(n.trim());function Fi(n,r,s,i,u){if(V.isFunction(i))return i.call(this,r,s);if(u&&(r=s),!!V.isString(r)){if(V.isString(i))return r.indexOf(i)!==-1;if(V.isRegExp(i))return i.test(r)}}function g7(n){return n.trim().toLowerCase().replace(/([a-z\d])(\w*)/g,(r,s,i)=>s.toUpperCase()+i)}function b7(n,r){const s=V.toCamelCase(" "+r);["get","set","has"].forEach(i=>{Object.defineProperty(n,i+s,{value:function(u,c,E){return this[i].call(this,r,u,c,E)},configurable:!0})})}let Be=class{constructor(r){r&&this.set(r)}set(r,s,i){const u=this;function c(A,B,d){const C=sn(B);if(!C)throw new Error("header name must be a non-empty string");const D=V.findKey(u,C);(!D||u[D]===void 0||d===!0||d===void 0&&u[D]!==!1)&&(u[D||B]=jl(A))}const E=(A,B)=>V.forEach(A,(d,C)=>c(d,C,B));if(V.isPlainObject(r)||r instanceof this.constructor)E(r,s);else if(V.isString(r)&&(r=r.trim())&&!p7(r))E(y7(r),s);else if(V.isHeaders(r))for(const[A,B]of r.entries())c(B,A,i);else r!=null&&c(s,r,i);return this}get(r,s){if(r=sn(r),r){const i=V.findKey(this,r);if(i){const u=this[i];if(!s)return u;if(s===!0)return v7(u);if(V.isFunction(s))return s.call(this,u,i);if(V.isRegExp(s))return s.exec(u);throw new TypeError("parser must be boolean|regexp|function")}}}has(r,s){if(r=sn(r),r){const i=V.findKey(this,r);return!!(i&&this[i]!==void 0&&(!s||Fi(this,this[i],i,s)))}return!1}delete(r,s){const i=this;let u=!1;function c(E){if(E=sn(E),E){const A=V.findKey(i,E);A&&(!s||Fi(i,i[A],A,s))&&(delete i[A],u=!0)}}return V.isArray(r)?r.forEach(c):c(r),u}clear(r){const s=Object.keys(this);let i=s.length,u=!1;for(;i--;){const c=s[i];(!r||Fi(this,this[c],c,r,!0))&&(delete this[c],u=!0)}return u}normalize(r){const s=this,i={};return V.forEach(this,(u,c)=>{const E=V.findKey(i,c);if(E){s[E]=jl(u),delete s[c];return}const A=r?g7(c):String(c).trim();A!==c&&delete s[c],s[A]=jl(u),i[A]=!0}),this}concat(...r){return this.constructor.concat(this,...r)}toJSON(r){const s=Object.create(null);return V.forEach(this,(i,u)=>{i!=null&&i!==!1&&(s[u]=r&&V.isArray(i)?i.join(", "):i)}),s}[Symbol.iterator](){return Object.entries(this.toJSON())[Symbol.iterator]()}toString(){return Object.entries(this.toJSON()).map(([r,s])=>r+": "+s).join(`
+`)}get[Symbol.toStringTag](){return"AxiosHeaders"}static from(r){return r instanceof this?r:new this(r)}static concat(r,...s){const i=new this(r);return s.forEach(u=>i.set(u)),i}static accessor(r){const i=(this[r8]=this[r8]={accessors:{}}).accessors,u=this.prototype;function c(E){const A=sn(E);i[A]||(b7(u,E),i[A]=!0)}return V.isArray(r)?r.forEach(c):c(r),this}};Be.accessor(["Content-Type","Content-Length","Accept","Accept-Encoding","User-Agent","Authorization"]);V.reduceDescriptors(Be.prototype,({value:n},r)=>{let s=r[0].toUpperCase()+r.slice(1);return{get:()=>n,set(i){this[s]=i}}});V.freezeMethods(Be);function yi(n,r){const s=this||Cn,i=r||s,u=Be.from(i.headers);let c=i.data;return V.forEach(n,function(A){c=A.call(s,c,u.normalize(),r?r.status:void 0)}),u.normalize(),c}function $8(n){return!!(n&&n.__CANCEL__)}function na(n,r,s){B0.call(this,n??"canceled",B0.ERR_CANCELED,r,s),this.name="CanceledError"}V.inherits(na,B0,{__CANCEL__:!0});function W8(n,r,s){const i=s.config.validateStatus;!s.status||!i||i(s.status)?n(s):r(new B0("Request failed with status code "+s.status,[B0.ERR_BAD_REQUEST,B0.ERR_BAD_RESPONSE][Math.floor(s.status/100)-4],s.config,s.request,s))}function k7(n){const r=/^([-+\w]{1,25})(:?\/\/|:)/.exec(n);return r&&r[1]||""}function S7(n,r){n=n||10;const s=new Array(n),i=new Array(n);let u=0,c=0,E;return r=r!==void 0?r:1e3,function(B){const d=Date.now(),C=i[c];E||(E=d),s[u]=B,i[u]=d;let D=c,v=0;for(;D!==u;)v+=s[D++],D=D%n;if(u=(u+1)%n,u===c&&(c=(c+1)%n),d-E<r)return;const S=C&&d-C;return S?Math.round(v*1e3/S):void 0}}function w7(n,r){let s=0,i=1e3/r,u,c;const E=(d,C=Date.now())=>{s=C,u=null,c&&(clearTimeout(c),c=null),n.apply(null,d)};return[(...d)=>{const C=Date.now(),D=C-s;D>=i?E(d,C):(u=d,c||(c=setTimeout(()=>{c=null,E(u)},i-D)))},()=>u&&E(u)]}const Pl=(n,r,s=3)=>{let i=0;const u=S7(50,250);return w7(c=>{const E=c.loaded,A=c.lengthComputable?c.total:void 0,B=E-i,d=u(B),C=E<=A;i=E;const D={loaded:E,total:A,progress:A?E/A:void 0,bytes:B,rate:d||void 0,estimated:d&&A&&C?(A-E)/d:void 0,event:c,lengthComputable:A!=null,[r?"download":"upload"]:!0};n(D)},s)},o8=(n,r)=>{const s=n!=null;return[i=>r[0]({lengthComputable:s,total:n,loaded:i}),r[1]]},i8=n=>(...r)=>V.asap(()=>n(...r)),T7=le.hasStandardBrowserEnv?((n,r)=>s=>(s=new URL(s,le.origin),n.protocol===s.protocol&&n.host===s.host&&(r||n.port===s.port)))(new URL(le.origin),le.navigator&&/(msie|trident)/i.test(le.navigator.userAgent)):()=>!0,_7=le.hasStandardBrowserEnv?{write(n,r,s,i,u,c){const E=[n+"="+encodeURIComponent(r)];V.isNumber(s)&&E.push("expires="+new Date(s).toGMTString()),V.isString(i)&&E.push("path="+i),V.isString(u)&&E.push("domain="+u),c===!0&&E.push("secure"),document.cookie=E.join("; ")},read(n){const r=document.cookie.match(new RegExp("(^|;\\s*)("+n+")=([^;]*)"));return r?decodeURIComponent(r[3]):null},remove(n){this.write(n,"",Date.now()-864e5)}}:{write(){},read(){return null},remove(){}};function R7(n){return/^([a-z][a-z\d+\-.]*:)?\/\//i.test(n)}function O7(n,r){return r?n.replace(/\/?\/$/,"")+"/"+r.replace(/^\/+/,""):n}function I8(n,r,s){let i=!R7(r);return n&&(i||s==!1)?O7(n,r):r}const s8=n=>n instanceof Be?{...n}:n;function fx(n,r){r=r||{};const s={};function i(d,C,D,v){return V.isPlainObject(d)&&V.isPlainObject(C)?V.merge.call({caseless:v},d,C):V.isPlainObject(C)?V.merge({},C):V.isArray(C)?C.slice():C}function u(d,C,D,v){if(V.isUndefined(C)){if(!V.isUndefined(d))return i(void 0,d,D,v)}else return i(d,C,D,v)}function c(d,C){if(!V.isUndefined(C))return i(void 0,C)}function E(d,C){if(V.isUndefined(C)){if(!V.isUndefined(d))return i(void 0,d)}else return i(void 0,C)}function A(d,C,D){if(D in r)return i(d,C);if(D in n)return i(void 0,d)}const B={url:c,method:c,data:c,baseURL:E,transformRequest:E,transformResponse:E,paramsSerializer:E,timeout:E,timeoutMessage:E,withCredentials:E,withXSRFToken:E,adapter:E,responseType:E,xsrfCookieName:E,xsrfHeaderName:E,onUploadProgress:E,onDownloadProgress:E,decompress:E,maxContentLength:E,maxBodyLength:E,beforeRedirect:E,transport:E,httpAgent:E,httpsAgent:E,cancelToken:E,socketPath:E,responseEncoding:E,validateStatus:A,headers:(d,C,D)=>u(s8(d),s8(C),D,!0)};return V.forEach(Object.keys(Object.assign({},n,r)),function(C){const D=B[C]||u,v=D(n[C],r[C],C);V.isUndefined(v)&&D!==A||(s[C]=v)}),s}const ef=n=>{const r=fx({},n);let{data:s,withXSRFToken:i,xsrfHeaderName:u,xsrfCookieName:c,headers:E,auth:A}=r;r.headers=E=Be.from(E),r.url=Z8(I8(r.baseURL,r.url,r.allowAbsoluteUrls),n.params,n.paramsSerializer),A&&E.set("Authorization","Basic "+btoa((A.username||"")+":"+(A.password?unescape(encodeURIComponent(A.password)):"")));let B;if(V.isFormData(s)){if(le.hasStandardBrowserEnv||le.hasStandardBrowserWebWorkerEnv)E.setContentType(void 0);else if((B=E.getContentType())!==!1){const[d,...C]=B?B.split(";").map(D=>D.trim()).filter(Boolean):[];E.setContentType([d||"multipart/form-data",...C].join("; "))}}if(le.hasStandardBrowserEnv&&(i&&V.isFunction(i)&&(i=i(r)),i||i!==!1&&T7(r.url))){const d=u&&c&&_7.read(c);d&&E.set(u,d)}return r},N7=typeof XMLHttpRequest<"u",M7=N7&&function(n){return new Promise(function(s,i){const u=ef(n);let c=u.data;const E=Be.from(u.headers).normalize();let{responseType:A,onUploadProgress:B,onDownloadProgress:d}=u,C,D,v,S,h;function _(){S&&S(),h&&h(),u.cancelToken&&u.cancelToken.unsubscribe(C),u.signal&&u.signal.removeEventListener("abort",C)}let p=new XMLHttpRequest;p.open(u.method.toUpperCase(),u.url,!0),p.timeout=u.timeout;function T(){if(!p)return;const y=Be.from("getAllResponseHeaders"in p&&p.getAllResponseHeaders()),b={data:!A||A==="text"||A==="json"?p.responseText:p.response,status:p.status,statusText:p.statusText,headers:y,config:n,request:p};W8(function(O){s(O),_()},function(O){i(O),_()},b),p=null}"onloadend"in p?p.onloadend=T:p.onreadystatechange=function(){!p||p.readyState!==4||p.status===0&&!(p.responseURL&&p.responseURL.indexOf("file:")===0)||setTimeout(T)},p.onabort=function(){p&&(i(new B0("Request aborted",B0.ECONNABORTED,n,p)),p=null)},p.onerror=function(){i(new B0("Network Error",B0.ERR_NETWORK,n,p)),p=null},p.ontimeout=function(){let g=u.timeout?"timeout of "+u.timeout+"ms exceeded":"timeout exceeded";const b=u.transitional||K8;u.timeoutErrorMessage&&(g=u.timeoutErrorMessage),i(new B0(g,b.clarifyTimeoutError?B0.ETIMEDOUT:B0.ECONNABORTED,n,p)),p=null},c===void 0&&E.setContentType(null),"setRequestHeader"in p&&V.forEach(E.toJSON(),function(g,b){p.setRequestHeader(b,g)}),V.isUndefined(u.withCredentials)||(p.withCredentials=!!u.withCredentials),A&&A!=="json"&&(p.responseType=u.responseType),d&&([v,h]=Pl(d,!0),p.addEventListener("progress",v)),B&&p.upload&&([D,S]=Pl(B),p.upload.addEventListener("progress",D),p.upload.addEventListener("loadend",S)),(u.cancelToken||u.signal)&&(C=y=>{p&&(i(!y||y.type?new na(null,n,p):y),p.abort(),p=null)},u.cancelToken&&u.cancelToken.subscribe(C),u.signal&&(u.signal.aborted?C():u.signal.addEventListener("abort",C)));const N=k7(u.url);if(N&&le.protocols.indexOf(N)===-1){i(new B0("Unsupported protocol "+N+":",B0.ERR_BAD_REQUEST,n));return}p.send(c||null)})},j7=(n,r)=>{const{length:s}=n=n?n.filter(Boolean):[];if(r||s){let i=new AbortController,u;const c=function(d){if(!u){u=!0,A();const C=d instanceof Error?d:this.reason;i.abort(C instanceof B0?C:new na(C instanceof Error?C.message:C))}};let E=r&&setTimeout(()=>{E=null,c(new B0(`timeout ${r} of ms exceeded`,B0.ETIMEDOUT))},r);const A=()=>{n&&(E&&clearTimeout(E),E=null,n.forEach(d=>{d.unsubscribe?d.unsubscribe(c):d.removeEventListener("abort",c)}),n=null)};n.forEach(d=>d.addEventListener("abort",c));const{signal:B}=i;return B.unsubscribe=()=>V.asap(A),B}},z7=function*(n,r){let s=n.byteLength;if(s<r){yield n;return}let i=0,u;for(;i<s;)u=i+r,yield n.slice(i,u),i=u},U7=async function*(n,r){for await(const s of L7(n))yield*z7(s,r)},L7=async function*(n){if(n[Symbol.asyncIterator]){yield*n;return}const r=n.getReader();try{for(;;){const{done:s,value:i}=await r.read();if(s)break;yield i}}finally{await r.cancel()}},u8=(n,r,s,i)=>{const u=U7(n,r);let c=0,E,A=B=>{E||(E=!0,i&&i(B))};return new ReadableStream({async pull(B){try{const{done:d,value:C}=await u.next();if(d){A(),B.close();return}let D=C.byteLength;if(s){let v=c+=D;s(v)}B.enqueue(new Uint8Array(C))}catch(d){throw A(d),d}},cancel(B){return A(B),u.return()}},{highWaterMark:2})},Jl=typeof fetch=="function"&&typeof Request=="function"&&typeof Response=="function",tf=Jl&&typeof ReadableStream=="function",P7=Jl&&(typeof TextEncoder=="function"?(n=>r=>n.encode(r))(new TextEncoder):async n=>new Uint8Array(await new Response(n).arrayBuffer())),xf=(n,...r)=>{try{return!!n(...r)}catch{return!1}},H7=tf&&xf(()=>{let n=!1;const r=new Request(le.origin,{body:new ReadableStream,method:"POST",get duplex(){return n=!0,"half"}}).headers.has("Content-Type");return n&&!r}),c8=64*1024,_i=tf&&xf(()=>V.isReadableStream(new Response("").body)),Hl={stream:_i&&(n=>n.body)};Jl&&(n=>{["text","arrayBuffer","blob","formData","stream"].forEach(r=>{!Hl[r]&&(Hl[r]=V.isFunction(n[r])?s=>s[r]():(s,i)=>{throw new B0(`Response type '${r}' is not supported`,B0.ERR_NOT_SUPPORT,i)})})})(new Response);const q7=async n=>{if(n==null)return 0;if(V.isBlob(n))return n.size;if(V.isSpecCompliantForm(n))return(await new Request(le.origin,{method:"POST",body:n}).arrayBuffer()).byteLength;if(V.isArrayBufferView(n)||V.isArrayBuffer(n))return n.byteLength;if(V.isURLSearchParams(n)&&(n=n+""),V.isString(n))return(await P7(n)).byteLength},X7=async(n,r)=>{const s=V.toFiniteNumber(n.getContentLength());return s??q7(r)},Y7=Jl&&(async n=>{let{url:r,method:s,data:i,signal:u,cancelToken:c,timeout:E,onDownloadProgress:A,onUploadProgress:B,responseType:d,headers:C,withCredentials:D="same-origin",fetchOptions:v}=ef(n);d=d?(d+"").toLowerCase():"text";let S=j7([u,c&&c.toAbortSignal()],E),h;const _=S&&S.unsubscribe&&(()=>{S.unsubscribe()});let p;try{if(B&&H7&&s!=="get"&&s!=="head"&&(p=await X7(C,i))!==0){let b=new Request(r,{method:"POST",body:i,duplex:"half"}),z;if(V.isFormData(i)&&(z=b.headers.get("content-type"))&&C.setContentType(z),b.body){const[O,X]=o8(p,Pl(i8(B)));i=u8(b.body,c8,O,X)}}V.isString(D)||(D=D?"include":"omit");const T="credentials"in Request.prototype;h=new Request(r,{...v,signal:S,method:s.toUpperCase(),headers:C.normalize().toJSON(),body:i,duplex:"half",credentials:T?D:void 0});let N=await fetch(h);const y=_i&&(d==="stream"||d==="response");if(_i&&(A||y&&_)){const b={};["status","statusText","headers"].forEach(L=>{b[L]=N[L]});const z=V.toFiniteNumber(N.headers.get("content-length")),[O,X]=A&&o8(z,Pl(i8(A),!0))||[];N=new Response(u8(N.body,c8,O,()=>{X&&X(),_&&_()}),b)}d=d||"text";let g=await Hl[V.findKey(Hl,d)||"text"](N,n);return!y&&_&&_(),await new Promise((b,z)=>{W8(b,z,{data:g,headers:Be.from(N.headers),status:N.status,statusText:N.statusText,config:n,request:h})})}catch(T){throw _&&_(),T&&T.name==="TypeError"&&/fetch/i.test(T.message)?Object.assign(new B0("Network Error",B0.ERR_NETWORK,n,h),{cause:T.cause||T}):B0.from(T,T&&T.code,n,h)}}),Ri={http:l7,xhr:M7,fetch:Y7};V.forEach(Ri,(n,r)=>{if(n){try{Object.defineProperty(n,"name",{value:r})}catch{}Object.defineProperty(n,"adapterName",{value:r})}});const f8=n=>`- ${n}`,Q7=n=>V.isFunction(n)||n===null||n===!1,af={getAdapter:n=>{n=V.isArray(n)?n:[n];const{length:r}=n;let s,i;const u={};for(let c=0;c<r;c++){s=n[c];let E;if(i=s,!Q7(s)&&(i=Ri[(E=String(s)).toLowerCase()],i===void 0))throw new B0(`Unknown adapter '${E}'`);if(i)break;u[E||"#"+c]=i}if(!i){const c=Object.entries(u).map(([A,B])=>`adapter ${A} `+(B===!1?"is not supported by the environment":"is not available in the build"));let E=r?c.length>1?`since :
+`+c.map(f8).join(`
+`):" "+f8(c[0]):"as no adapter specified";throw new B0("There is no suitable adapter to dispatch the request "+E,"ERR_NOT_SUPPORT")}return i},adapters:Ri};function vi(n){if(n.cancelToken&&n.cancelToken.throwIfRequested(),n.signal&&n.signal.aborted)throw new na(null,n)}function E8(n){return vi(n),n.headers=Be.from(n.headers),n.data=yi.call(n,n.transformRequest),["post","put","patch"].indexOf(n.method)!==-1&&n.headers.setContentType("application/x-www-form-urlencoded",!1),af.getAdapter(n.adapter||Cn.adapter)(n).then(function(i){return vi(n),i.data=yi.call(n,n.transformResponse,i),i.headers=Be.from(i.headers),i},function(i){return $8(i)||(vi(n),i&&i.response&&(i.response.data=yi.call(n,n.transformResponse,i.response),i.response.headers=Be.from(i.response.headers))),Promise.reject(i)})}const nf="1.8.4",$l={};["object","boolean","number","function","string","symbol"].forEach((n,r)=>{$l[n]=function(i){return typeof i===n||"a"+(r<1?"n ":" ")+n}});const d8={};$l.transitional=function(r,s,i){function u(c,E){return"[Axios v"+nf+"] Transitional option '"+c+"'"+E+(i?". "+i:"")}return(c,E,A)=>{if(r===!1)throw new B0(u(E," has been removed"+(s?" in "+s:"")),B0.ERR_DEPRECATED);return s&&!d8[E]&&(d8[E]=!0,console.warn(u(E," has been deprecated since v"+s+" and will be removed in the near future"))),r?r(c,E,A):!0}};$l.spelling=function(r){return(s,i)=>(console.warn(`${i} is likely a misspelling of ${r}`),!0)};function G7(n,r,s){if(typeof n!="object")throw new B0("options must be an object",B0.ERR_BAD_OPTION_VALUE);const i=Object.keys(n);let u=i.length;for(;u-- >0;){const c=i[u],E=r[c];if(E){const A=n[c],B=A===void 0||E(A,c,n);if(B!==!0)throw new B0("option "+c+" must be "+B,B0.ERR_BAD_OPTION_VALUE);continue}if(s!==!0)throw new B0("Unknown option "+c,B0.ERR_BAD_OPTION)}}const zl={assertOptions:G7,validators:$l},Ke=zl.validators;let ux=class{constructor(r){this.defaults=r,this.interceptors={request:new l8,response:new l8}}async request(r,s){try{return await this._request(r,s)}catch(i){if(i instanceof Error){let u={};Error.captureStackTrace?Error.captureStackTrace(u):u=new Error;const c=u.stack?u.stack.replace(/^.+\n/,""):"";try{i.stack?c&&!String(i.stack).endsWith(c.replace(/^.+\n.+\n/,""))&&(i.stack+=`
+`+c):i.stack=c}catch{}}throw i}}_request(r,s){typeof r=="string"?(s=s||{},s.url=r):s=r||{},s=fx(this.defaults,s);const{transitional:i,paramsSerializer:u,headers:c}=s;i!==void 0&&zl.assertOptions(i,{silentJSONParsing:Ke.transitional(Ke.boolean),forcedJSONParsing:Ke.transitional(Ke.boolean),clarifyTimeoutError:Ke.transitional(Ke.boolean)},!1),u!=null&&(V.isFunction(u)?s.paramsSerializer={serialize:u}:zl.assertOptions(u,{encode:Ke.function,serialize:Ke.function},!0)),s.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?s.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:s.allowAbsoluteUrls=!0),zl.assertOptions(s,{baseUrl:Ke.spelling("baseURL"),withXsrfToken:Ke.spelling("withXSRFToken")},!0),s.method=(s.method||this.defaults.method||"get").toLowerCase();let E=c&&V.merge(c.common,c[s.method]);c&&V.forEach(["delete","get","head","post","put","patch","common"],h=>{delete c[h]}),s.headers=Be.concat(E,c);const A=[];let B=!0;this.interceptors.request.forEach(function(_){typeof _.runWhen=="function"&&_.runWhen(s)===!1||(B=B&&_.synchronous,A.unshift(_.fulfilled,_.rejected))});const d=[];this.interceptors.response.forEach(function(_){d.push(_.fulfilled,_.rejected)});let C,D=0,v;if(!B){const h=[E8.bind(this),void 0];for(h.unshift.apply(h,A),h.push.apply(h,d),v=h.length,C=Promise.resolve(s);D<v;)C=C.then(h[D++],h[D++]);return C}v=A.length;let S=s;for(D=0;D<v;){const h=A[D++],_=A[D++];try{S=h(S)}catch(p){_.call(this,p);break}}try{C=E8.call(this,S)}catch(h){return Promise.reject(h)}for(D=0,v=d.length;D<v;)C=C.then(d[D++],d[D++]);return C}getUri(r){r=fx(this.defaults,r);const s=I8(r.baseURL,r.url,r.allowAbsoluteUrls);return Z8(s,r.params,r.paramsSerializer)}};V.forEach(["delete","get","head","options"],function(r){ux.prototype[r]=function(s,i){return this.request(fx(i||{},{method:r,url:s,data:(i||{}).data}))}});V.forEach(["post","put","patch"],function(r){function s(i){return function(c,E,A){return this.request(fx(A||{},{method:r,headers:i?{"Content-Type":"multipart/form-data"}:{},url:c,data:E}))}}ux.prototype[r]=s(),ux.prototype[r+"Form"]=s(!0)});let V7=class lf{constructor(r){if(typeof r!="function")throw new TypeError("executor must be a function.");let s;this.promise=new Promise(function(c){s=c});const i=this;this.promise.then(u=>{if(!i._listeners)return;let c=i._listeners.length;for(;c-- >0;)i._listeners[c](u);i._listeners=null}),this.promise.then=u=>{let c;const E=new Promise(A=>{i.subscribe(A),c=A}).then(u);return E.cancel=function(){i.unsubscribe(c)},E},r(function(c,E,A){i.reason||(i.reason=new na(c,E,A),s(i.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(r){if(this.reason){r(this.reason);return}this._listeners?this._listeners.push(r):this._listeners=[r]}unsubscribe(r){if(!this._listeners)return;const s=this._listeners.indexOf(r);s!==-1&&this._listeners.splice(s,1)}toAbortSignal(){const r=new AbortController,s=i=>{r.abort(i)};return this.subscribe(s),r.signal.unsubscribe=()=>this.unsubscribe(s),r.signal}static source(){let r;return{token:new lf(function(u){r=u}),cancel:r}}};function Z7(n){return function(s){return n.apply(null,s)}}function K7(n){return V.isObject(n)&&n.isAxiosError===!0}const Oi={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(Oi).forEach(([n,r])=>{Oi[r]=n});function rf(n){const r=new ux(n),s=z8(ux.prototype.request,r);return V.extend(s,ux.prototype,r,{allOwnKeys:!0}),V.extend(s,r,null,{allOwnKeys:!0}),s.create=function(u){return rf(fx(n,u))},s}const H0=rf(Cn);H0.Axios=ux;H0.CanceledError=na;H0.CancelToken=V7;H0.isCancel=$8;H0.VERSION=nf;H0.toFormData=Kl;H0.AxiosError=B0;H0.Cancel=H0.CanceledError;H0.all=function(r){return Promise.all(r)};H0.spread=Z7;H0.isAxiosError=K7;H0.mergeConfig=fx;H0.AxiosHeaders=Be;H0.formToJSON=n=>J8(V.isHTMLForm(n)?new FormData(n):n);H0.getAdapter=af.getAdapter;H0.HttpStatusCode=Oi;H0.default=H0;const{Axios:pB,AxiosError:J7,CanceledError:gB,isCancel:bB,CancelToken:kB,VERSION:SB,all:wB,Cancel:TB,isAxiosError:_B,spread:RB,toFormData:OB,AxiosHeaders:NB,HttpStatusCode:MB,formToJSON:jB,getAdapter:zB,mergeConfig:UB}=H0,$7="/api",j0=H0.create({baseURL:$7,timeout:1e4,withCredentials:!0}),W7=async n=>(await j0.get("/reservations/search/by-order-prefix",{params:{orderPrefix:n}})).data,I7=n=>j0.post("/auth/register",n),e1=n=>j0.post("/auth/login",n),t1=n=>j0.get(`/confirmation?code=${n}`),x1=async()=>(await j0.get("/billing/status")).data,a1=async()=>(await j0.post("/billing/checkout")).data;j0.interceptors.request.use(n=>{const r=localStorage.getItem("accessToken");return r&&(n.headers.Authorization=`Bearer ${r}`),n},n=>Promise.reject(n));j0.interceptors.response.use(n=>n,async n=>{var s;const r=n.config;if(((s=n.response)==null?void 0:s.status)===401&&!r._retry){r._retry=!0;try{const i=localStorage.getItem("refreshToken");if(!i)return localStorage.removeItem("accessToken"),localStorage.removeItem("refreshToken"),window.location.href="/login",Promise.reject(n);const{data:u}=await j0.post("/auth/refresh",{refreshToken:i});return localStorage.setItem("accessToken",u.accessToken),localStorage.setItem("refreshToken",u.refreshToken),r.headers.Authorization=`Bearer ${u.accessToken}`,j0(r)}catch(i){return localStorage.removeItem("accessToken"),localStorage.removeItem("refreshToken"),window.location.href="/login",Promise.reject(i)}}return Promise.reject(n)});async function n1(){const{data:n}=await j0.get("/users/me");return n}async function l1(n){const{data:r}=await j0.post("/admin/users",n);return r}function of(n){var r,s,i="";if(typeof n=="string"||typeof n=="number")i+=n;else if(typeof n=="object")if(Array.isArray(n)){var u=n.length;for(r=0;r<u;r++)n[r]&&(s=of(n[r]))&&(i&&(i+=" "),i+=s)}else for(s in n)n[s]&&(i&&(i+=" "),i+=s);return i}function cx(){for(var n,r,s=0,i="",u=arguments.length;s<u;s++)(n=arguments[s])&&(r=of(n))&&(i&&(i+=" "),i+=r);return i}function r1(n){if(typeof document>"u")return;let r=document.head||document.getElementsByTagName("head")[0],s=document.createElement("style");s.type="text/css",r.firstChild?r.insertBefore(s,r.firstChild):r.appendChild(s),s.styleSheet?s.styleSheet.cssText=n:s.appendChild(document.createTextNode(n))}r1(`:root{--toastify-color-light: #fff;--toastify-color-dark: #121212;--toastify-color-info: #3498db;--toastify-color-success: #07bc0c;--toastify-color-warning: #f1c40f;--toastify-color-error: hsl(6, 78%, 57%);--toastify-color-transparent: rgba(255, 255, 255, .7);--toastify-icon-color-info: var(--toastify-color-info);--toastify-icon-color-success: var(--toastify-color-success);--toastify-icon-color-warning: var(--toastify-color-warning);--toastify-icon-color-error: var(--toastify-color-error);--toastify-container-width: fit-content;--toastify-toast-width: 320px;--toastify-toast-offset: 16px;--toastify-toast-top: max(var(--toastify-toast-offset), env(safe-area-inset-top));--toastify-toast-right: max(var(--toastify-toast-offset), env(safe-area-inset-right));--toastify-toast-left: max(var(--toastify-toast-offset), env(safe-area-inset-left));--toastify-toast-bottom: max(var(--toastify-toast-offset), env(safe-area-inset-bottom));--toastify-toast-background: #fff;--toastify-toast-padding: 14px;--toastify-toast-min-height: 64px;--toastify-toast-max-height: 800px;--toastify-toast-bd-radius: 6px;--toastify-toast-shadow: 0px 4px 12px rgba(0, 0, 0, .1);--toastify-font-family: sans-serif;--toastify-z-index: 9999;--toastify-text-color-light: #757575;--toastify-text-color-dark: #fff;--toastify-text-color-info: #fff;--toastify-text-color-success: #fff;--toastify-text-color-warning: #fff;--toastify-text-color-error: #fff;--toastify-spinner-color: #616161;--toastify-spinner-color-empty-area: #e0e0e0;--toastify-color-progress-light: linear-gradient(to right, #4cd964, #5ac8fa, #007aff, #34aadc, #5856d6, #ff2d55);--toastify-color-progress-dark: #bb86fc;--toastify-color-progress-info: var(--toastify-color-info);--toastify-color-progress-success: var(--toastify-color-success);--toastify-color-progress-warning: var(--toastify-color-warning);--toastify-color-progress-error: var(--toastify-color-error);--toastify-color-progress-bgo: .2}.Toastify__toast-container{z-index:var(--toastify-z-index);-webkit-transform:translate3d(0,0,var(--toastify-z-index));position:fixed;width:var(--toastify-container-width);box-sizing:border-box;color:#fff;display:flex;flex-direction:column}.Toastify__toast-container--top-left{top:var(--toastify-toast-top);left:var(--toastify-toast-left)}.Toastify__toast-container--top-center{top:var(--toastify-toast-top);left:50%;transform:translate(-50%);align-items:center}.Toastify__toast-container--top-right{top:var(--toastify-toast-top);right:var(--toastify-toast-right);align-items:end}.Toastify__toast-container--bottom-left{bottom:var(--toastify-toast-bottom);left:var(--toastify-toast-left)}.Toastify__toast-container--bottom-center{bottom:var(--toastify-toast-bottom);left:50%;transform:translate(-50%);align-items:center}.Toastify__toast-container--bottom-right{bottom:var(--toastify-toast-bottom);right:var(--toastify-toast-right);align-items:end}.Toastify__toast{--y: 0;position:relative;touch-action:none;width:var(--toastify-toast-width);min-height:var(--toastify-toast-min-height);box-sizing:border-box;margin-bottom:1rem;padding:var(--toastify-toast-padding);border-radius:var(--toastify-toast-bd-radius);box-shadow:var(--toastify-toast-shadow);max-height:var(--toastify-toast-max-height);font-family:var(--toastify-font-family);z-index:0;display:flex;flex:1 auto;align-items:center;word-break:break-word}@media only screen and (max-width: 480px){.Toastify__toast-container{width:100vw;left:env(safe-area-inset-left);margin:0}.Toastify__toast-container--top-left,.Toastify__toast-container--top-center,.Toastify__toast-container--top-right{top:env(safe-area-inset-top);transform:translate(0)}.Toastify__toast-container--bottom-left,.Toastify__toast-container--bottom-center,.Toastify__toast-container--bottom-right{bottom:env(safe-area-inset-bottom);transform:translate(0)}.Toastify__toast-container--rtl{right:env(safe-area-inset-right);left:initial}.Toastify__toast{--toastify-toast-width: 100%;margin-bottom:0;border-radius:0}}.Toastify__toast-container[data-stacked=true]{width:var(--toastify-toast-width)}.Toastify__toast--stacked{position:absolute;width:100%;transform:translate3d(0,var(--y),0) scale(var(--s));transition:transform .3s}.Toastify__toast--stacked[data-collapsed] .Toastify__toast-body,.Toastify__toast--stacked[data-collapsed] .Toastify__close-button{transition:opacity .1s}.Toastify__toast--stacked[data-collapsed=false]{overflow:visible}.Toastify__toast--stacked[data-collapsed=true]:not(:last-child)>*{opacity:0}.Toastify__toast--stacked:after{content:"";position:absolute;left:0;right:0;height:calc(var(--g) * 1px);bottom:100%}.Toastify__toast--stacked[data-pos=top]{top:0}.Toastify__toast--stacked[data-pos=bot]{bottom:0}.Toastify__toast--stacked[data-pos=bot].Toastify__toast--stacked:before{transform-origin:top}.Toastify__toast--stacked[data-pos=top].Toastify__toast--stacked:before{transform-origin:bottom}.Toastify__toast--stacked:before{content:"";position:absolute;left:0;right:0;bottom:0;height:100%;transform:scaleY(3);z-index:-1}.Toastify__toast--rtl{direction:rtl}.Toastify__toast--close-on-click{cursor:pointer}.Toastify__toast-icon{margin-inline-end:10px;width:22px;flex-shrink:0;display:flex}.Toastify--animate{animation-fill-mode:both;animation-duration:.5s}.Toastify--animate-icon{animation-fill-mode:both;animation-duration:.3s}.Toastify__toast-theme--dark{background:var(--toastify-color-dark);color:var(--toastify-text-color-dark)}.Toastify__toast-theme--light,.Toastify__toast-theme--colored.Toastify__toast--default{background:var(--toastify-color-light);color:var(--toastify-text-color-light)}.Toastify__toast-theme--colored.Toastify__toast--info{color:var(--toastify-text-color-info);background:var(--toastify-color-info)}.Toastify__toast-theme--colored.Toastify__toast--success{color:var(--toastify-text-color-success);background:var(--toastify-color-success)}.Toastify__toast-theme--colored.Toastify__toast--warning{color:var(--toastify-text-color-warning);background:var(--toastify-color-warning)}.Toastify__toast-theme--colored.Toastify__toast--error{color:var(--toastify-text-color-error);background:var(--toastify-color-error)}.Toastify__progress-bar-theme--light{background:var(--toastify-color-progress-light)}.Toastify__progress-bar-theme--dark{background:var(--toastify-color-progress-dark)}.Toastify__progress-bar--info{background:var(--toastify-color-progress-info)}.Toastify__progress-bar--success{background:var(--toastify-color-progress-success)}.Toastify__progress-bar--warning{background:var(--toastify-color-progress-warning)}.Toastify__progress-bar--error{background:var(--toastify-color-progress-error)}.Toastify__progress-bar-theme--colored.Toastify__progress-bar--info,.Toastify__progress-bar-theme--colored.Toastify__progress-bar--success,.Toastify__progress-bar-theme--colored.Toastify__progress-bar--warning,.Toastify__progress-bar-theme--colored.Toastify__progress-bar--error{background:var(--toastify-color-transparent)}.Toastify__close-button{color:#fff;position:absolute;top:6px;right:6px;background:transparent;outline:none;border:none;padding:0;cursor:pointer;opacity:.7;transition:.3s ease;z-index:1}.Toastify__toast--rtl .Toastify__close-button{left:6px;right:unset}.Toastify__close-button--light{color:#000;opacity:.3}.Toastify__close-button>svg{fill:currentColor;height:16px;width:14px}.Toastify__close-button:hover,.Toastify__close-button:focus{opacity:1}@keyframes Toastify__trackProgress{0%{transform:scaleX(1)}to{transform:scaleX(0)}}.Toastify__progress-bar{position:absolute;bottom:0;left:0;width:100%;height:100%;z-index:1;opacity:.7;transform-origin:left}.Toastify__progress-bar--animated{animation:Toastify__trackProgress linear 1 forwards}.Toastify__progress-bar--controlled{transition:transform .2s}.Toastify__progress-bar--rtl{right:0;left:initial;transform-origin:right;border-bottom-left-radius:initial}.Toastify__progress-bar--wrp{position:absolute;overflow:hidden;bottom:0;left:0;width:100%;height:5px;border-bottom-left-radius:var(--toastify-toast-bd-radius);border-bottom-right-radius:var(--toastify-toast-bd-radius)}.Toastify__progress-bar--wrp[data-hidden=true]{opacity:0}.Toastify__progress-bar--bg{opacity:var(--toastify-color-progress-bgo);width:100%;height:100%}.Toastify__spinner{width:20px;height:20px;box-sizing:border-box;border:2px solid;border-radius:100%;border-color:var(--toastify-spinner-color-empty-area);border-right-color:var(--toastify-spinner-color);animation:Toastify__spin .65s linear infinite}@keyframes Toastify__bounceInRight{0%,60%,75%,90%,to{animation-timing-function:cubic-bezier(.215,.61,.355,1)}0%{opacity:0;transform:translate3d(3000px,0,0)}60%{opacity:1;transform:translate3d(-25px,0,0)}75%{transform:translate3d(10px,0,0)}90%{transform:translate3d(-5px,0,0)}to{transform:none}}@keyframes Toastify__bounceOutRight{20%{opacity:1;transform:translate3d(-20px,var(--y),0)}to{opacity:0;transform:translate3d(2000px,var(--y),0)}}@keyframes Toastify__bounceInLeft{0%,60%,75%,90%,to{animation-timing-function:cubic-bezier(.215,.61,.355,1)}0%{opacity:0;transform:translate3d(-3000px,0,0)}60%{opacity:1;transform:translate3d(25px,0,0)}75%{transform:translate3d(-10px,0,0)}90%{transform:translate3d(5px,0,0)}to{transform:none}}@keyframes Toastify__bounceOutLeft{20%{opacity:1;transform:translate3d(20px,var(--y),0)}to{opacity:0;transform:translate3d(-2000px,var(--y),0)}}@keyframes Toastify__bounceInUp{0%,60%,75%,90%,to{animation-timing-function:cubic-bezier(.215,.61,.355,1)}0%{opacity:0;transform:translate3d(0,3000px,0)}60%{opacity:1;transform:translate3d(0,-20px,0)}75%{transform:translate3d(0,10px,0)}90%{transform:translate3d(0,-5px,0)}to{transform:translateZ(0)}}@keyframes Toastify__bounceOutUp{20%{transform:translate3d(0,calc(var(--y) - 10px),0)}40%,45%{opacity:1;transform:translate3d(0,calc(var(--y) + 20px),0)}to{opacity:0;transform:translate3d(0,-2000px,0)}}@keyframes Toastify__bounceInDown{0%,60%,75%,90%,to{animation-timing-function:cubic-bezier(.215,.61,.355,1)}0%{opacity:0;transform:translate3d(0,-3000px,0)}60%{opacity:1;transform:translate3d(0,25px,0)}75%{transform:translate3d(0,-10px,0)}90%{transform:translate3d(0,5px,0)}to{transform:none}}@keyframes Toastify__bounceOutDown{20%{transform:translate3d(0,calc(var(--y) - 10px),0)}40%,45%{opacity:1;transform:translate3d(0,calc(var(--y) + 20px),0)}to{opacity:0;transform:translate3d(0,2000px,0)}}.Toastify__bounce-enter--top-left,.Toastify__bounce-enter--bottom-left{animation-name:Toastify__bounceInLeft}.Toastify__bounce-enter--top-right,.Toastify__bounce-enter--bottom-right{animation-name:Toastify__bounceInRight}.Toastify__bounce-enter--top-center{animation-name:Toastify__bounceInDown}.Toastify__bounce-enter--bottom-center{animation-name:Toastify__bounceInUp}.Toastify__bounce-exit--top-left,.Toastify__bounce-exit--bottom-left{animation-name:Toastify__bounceOutLeft}.Toastify__bounce-exit--top-right,.Toastify__bounce-exit--bottom-right{animation-name:Toastify__bounceOutRight}.Toastify__bounce-exit--top-center{animation-name:Toastify__bounceOutUp}.Toastify__bounce-exit--bottom-center{animation-name:Toastify__bounceOutDown}@keyframes Toastify__zoomIn{0%{opacity:0;transform:scale3d(.3,.3,.3)}50%{opacity:1}}@keyframes Toastify__zoomOut{0%{opacity:1}50%{opacity:0;transform:translate3d(0,var(--y),0) scale3d(.3,.3,.3)}to{opacity:0}}.Toastify__zoom-enter{animation-name:Toastify__zoomIn}.Toastify__zoom-exit{animation-name:Toastify__zoomOut}@keyframes Toastify__flipIn{0%{transform:perspective(400px) rotateX(90deg);animation-timing-function:ease-in;opacity:0}40%{transform:perspective(400px) rotateX(-20deg);animation-timing-function:ease-in}60%{transform:perspective(400px) rotateX(10deg);opacity:1}80%{transform:perspective(400px) rotateX(-5deg)}to{transform:perspective(400px)}}@keyframes Toastify__flipOut{0%{transform:translate3d(0,var(--y),0) perspective(400px)}30%{transform:translate3d(0,var(--y),0) perspective(400px) rotateX(-20deg);opacity:1}to{transform:translate3d(0,var(--y),0) perspective(400px) rotateX(90deg);opacity:0}}.Toastify__flip-enter{animation-name:Toastify__flipIn}.Toastify__flip-exit{animation-name:Toastify__flipOut}@keyframes Toastify__slideInRight{0%{transform:translate3d(110%,0,0);visibility:visible}to{transform:translate3d(0,var(--y),0)}}@keyframes Toastify__slideInLeft{0%{transform:translate3d(-110%,0,0);visibility:visible}to{transform:translate3d(0,var(--y),0)}}@keyframes Toastify__slideInUp{0%{transform:translate3d(0,110%,0);visibility:visible}to{transform:translate3d(0,var(--y),0)}}@keyframes Toastify__slideInDown{0%{transform:translate3d(0,-110%,0);visibility:visible}to{transform:translate3d(0,var(--y),0)}}@keyframes Toastify__slideOutRight{0%{transform:translate3d(0,var(--y),0)}to{visibility:hidden;transform:translate3d(110%,var(--y),0)}}@keyframes Toastify__slideOutLeft{0%{transform:translate3d(0,var(--y),0)}to{visibility:hidden;transform:translate3d(-110%,var(--y),0)}}@keyframes Toastify__slideOutDown{0%{transform:translate3d(0,var(--y),0)}to{visibility:hidden;transform:translate3d(0,500px,0)}}@keyframes Toastify__slideOutUp{0%{transform:translate3d(0,var(--y),0)}to{visibility:hidden;transform:translate3d(0,-500px,0)}}.Toastify__slide-enter--top-left,.Toastify__slide-enter--bottom-left{animation-name:Toastify__slideInLeft}.Toastify__slide-enter--top-right,.Toastify__slide-enter--bottom-right{animation-name:Toastify__slideInRight}.Toastify__slide-enter--top-center{animation-name:Toastify__slideInDown}.Toastify__slide-enter--bottom-center{animation-name:Toastify__slideInUp}.Toastify__slide-exit--top-left,.Toastify__slide-exit--bottom-left{animation-name:Toastify__slideOutLeft;animation-timing-function:ease-in;animation-duration:.3s}.Toastify__slide-exit--top-right,.Toastify__slide-exit--bottom-right{animation-name:Toastify__slideOutRight;animation-timing-function:ease-in;animation-duration:.3s}.Toastify__slide-exit--top-center{animation-name:Toastify__slideOutUp;animation-timing-function:ease-in;animation-duration:.3s}.Toastify__slide-exit--bottom-center{animation-name:Toastify__slideOutDown;animation-timing-function:ease-in;animation-duration:.3s}@keyframes Toastify__spin{0%{transform:rotate(0)}to{transform:rotate(360deg)}}
+`);var An=n=>typeof n=="number"&&!isNaN(n),Ex=n=>typeof n=="string",At=n=>typeof n=="function",o1=n=>Ex(n)||An(n),Ni=n=>Ex(n)||At(n)?n:null,i1=(n,r)=>n===!1||An(n)&&n>0?n:r,Mi=n=>j.isValidElement(n)||Ex(n)||At(n)||An(n);function s1(n,r,s=300){let{scrollHeight:i,style:u}=n;requestAnimationFrame(()=>{u.minHeight="initial",u.height=i+"px",u.transition=`all ${s}ms`,requestAnimationFrame(()=>{u.height="0",u.padding="0",u.margin="0",setTimeout(r,s)})})}function u1({enter:n,exit:r,appendPosition:s=!1,collapse:i=!0,collapseDuration:u=300}){return function({children:c,position:E,preventExitTransition:A,done:B,nodeRef:d,isIn:C,playToast:D}){let v=s?`${n}--${E}`:n,S=s?`${r}--${E}`:r,h=j.useRef(0);return j.useLayoutEffect(()=>{let _=d.current,p=v.split(" "),T=N=>{N.target===d.current&&(D(),_.removeEventListener("animationend",T),_.removeEventListener("animationcancel",T),h.current===0&&N.type!=="animationcancel"&&_.classList.remove(...p))};_.classList.add(...p),_.addEventListener("animationend",T),_.addEventListener("animationcancel",T)},[]),j.useEffect(()=>{let _=d.current,p=()=>{_.removeEventListener("animationend",p),i?s1(_,B,u):B()};C||(A?p():(h.current=1,_.className+=` ${S}`,_.addEventListener("animationend",p)))},[C]),p0.createElement(p0.Fragment,null,c)}}function B8(n,r){return{content:sf(n.content,n.props),containerId:n.props.containerId,id:n.props.toastId,theme:n.props.theme,type:n.props.type,data:n.props.data||{},isLoading:n.props.isLoading,icon:n.props.icon,reason:n.removalReason,status:r}}function sf(n,r,s=!1){return j.isValidElement(n)&&!Ex(n.type)?j.cloneElement(n,{closeToast:r.closeToast,toastProps:r,data:r.data,isPaused:s}):At(n)?n({closeToast:r.closeToast,toastProps:r,data:r.data,isPaused:s}):n}function c1({closeToast:n,theme:r,ariaLabel:s="close"}){return p0.createElement("button",{className:`Toastify__close-button Toastify__close-button--${r}`,type:"button",onClick:i=>{i.stopPropagation(),n(!0)},"aria-label":s},p0.createElement("svg",{"aria-hidden":"true",viewBox:"0 0 14 16"},p0.createElement("path",{fillRule:"evenodd",d:"M7.71 8.23l3.75 3.75-1.48 1.48-3.75-3.75-3.75 3.75L1 11.98l3.75-3.75L1 4.48 2.48 3l3.75 3.75L9.98 3l1.48 1.48-3.75 3.75z"})))}function f1({delay:n,isRunning:r,closeToast:s,type:i="default",hide:u,className:c,controlledProgress:E,progress:A,rtl:B,isIn:d,theme:C}){let D=u||E&&A===0,v={animationDuration:`${n}ms`,animationPlayState:r?"running":"paused"};E&&(v.transform=`scaleX(${A})`);let S=cx("Toastify__progress-bar",E?"Toastify__progress-bar--controlled":"Toastify__progress-bar--animated",`Toastify__progress-bar-theme--${C}`,`Toastify__progress-bar--${i}`,{"Toastify__progress-bar--rtl":B}),h=At(c)?c({rtl:B,type:i,defaultClassName:S}):cx(S,c),_={[E&&A>=1?"onTransitionEnd":"onAnimationEnd"]:E&&A<1?null:()=>{d&&s()}};return p0.createElement("div",{className:"Toastify__progress-bar--wrp","data-hidden":D},p0.createElement("div",{className:`Toastify__progress-bar--bg Toastify__progress-bar-theme--${C} Toastify__progress-bar--${i}`}),p0.createElement("div",{role:"progressbar","aria-hidden":D?"true":"false","aria-label":"notification timer",className:h,style:v,..._}))}var E1=1,uf=()=>`${E1++}`;function d1(n,r,s){let i=1,u=0,c=[],E=[],A=r,B=new Map,d=new Set,C=N=>(d.add(N),()=>d.delete(N)),D=()=>{E=Array.from(B.values()),d.forEach(N=>N())},v=({containerId:N,toastId:y,updateId:g})=>{let b=N?N!==n:n!==1,z=B.has(y)&&g==null;return b||z},S=(N,y)=>{B.forEach(g=>{var b;(y==null||y===g.props.toastId)&&((b=g.toggle)==null||b.call(g,N))})},h=N=>{var y,g;(g=(y=N.props)==null?void 0:y.onClose)==null||g.call(y,N.removalReason),N.isActive=!1},_=N=>{if(N==null)B.forEach(h);else{let y=B.get(N);y&&h(y)}D()},p=()=>{u-=c.length,c=[]},T=N=>{var y,g;let{toastId:b,updateId:z}=N.props,O=z==null;N.staleId&&B.delete(N.staleId),N.isActive=!0,B.set(b,N),D(),s(B8(N,O?"added":"updated")),O&&((g=(y=N.props).onOpen)==null||g.call(y))};return{id:n,props:A,observe:C,toggle:S,removeToast:_,toasts:B,clearQueue:p,buildToast:(N,y)=>{if(v(y))return;let{toastId:g,updateId:b,data:z,staleId:O,delay:X}=y,L=b==null;L&&u++;let $={...A,style:A.toastStyle,key:i++,...Object.fromEntries(Object.entries(y).filter(([e0,l0])=>l0!=null)),toastId:g,updateId:b,data:z,isIn:!1,className:Ni(y.className||A.toastClassName),progressClassName:Ni(y.progressClassName||A.progressClassName),autoClose:y.isLoading?!1:i1(y.autoClose,A.autoClose),closeToast(e0){B.get(g).removalReason=e0,_(g)},deleteToast(){let e0=B.get(g);if(e0!=null){if(s(B8(e0,"removed")),B.delete(g),u--,u<0&&(u=0),c.length>0){T(c.shift());return}D()}}};$.closeButton=A.closeButton,y.closeButton===!1||Mi(y.closeButton)?$.closeButton=y.closeButton:y.closeButton===!0&&($.closeButton=Mi(A.closeButton)?A.closeButton:!0);let J={content:N,props:$,staleId:O};A.limit&&A.limit>0&&u>A.limit&&L?c.push(J):An(X)?setTimeout(()=>{T(J)},X):T(J)},setProps(N){A=N},setToggle:(N,y)=>{let g=B.get(N);g&&(g.toggle=y)},isToastActive:N=>{var y;return(y=B.get(N))==null?void 0:y.isActive},getSnapshot:()=>E}}var se=new Map,fn=[],ji=new Set,B1=n=>ji.forEach(r=>r(n)),cf=()=>se.size>0;function C1(){fn.forEach(n=>Ef(n.content,n.options)),fn=[]}var A1=(n,{containerId:r})=>{var s;return(s=se.get(r||1))==null?void 0:s.toasts.get(n)};function ff(n,r){var s;if(r)return!!((s=se.get(r))!=null&&s.isToastActive(n));let i=!1;return se.forEach(u=>{u.isToastActive(n)&&(i=!0)}),i}function m1(n){if(!cf()){fn=fn.filter(r=>n!=null&&r.options.toastId!==n);return}if(n==null||o1(n))se.forEach(r=>{r.removeToast(n)});else if(n&&("containerId"in n||"id"in n)){let r=se.get(n.containerId);r?r.removeToast(n.id):se.forEach(s=>{s.removeToast(n.id)})}}var D1=(n={})=>{se.forEach(r=>{r.props.limit&&(!n.containerId||r.id===n.containerId)&&r.clearQueue()})};function Ef(n,r){Mi(n)&&(cf()||fn.push({content:n,options:r}),se.forEach(s=>{s.buildToast(n,r)}))}function h1(n){var r;(r=se.get(n.containerId||1))==null||r.setToggle(n.id,n.fn)}function df(n,r){se.forEach(s=>{(r==null||!(r!=null&&r.containerId)||(r==null?void 0:r.containerId)===s.id)&&s.toggle(n,r==null?void 0:r.id)})}function F1(n){let r=n.containerId||1;return{subscribe(s){let i=d1(r,n,B1);se.set(r,i);let u=i.observe(s);return C1(),()=>{u(),se.delete(r)}},setProps(s){var i;(i=se.get(r))==null||i.setProps(s)},getSnapshot(){var s;return(s=se.get(r))==null?void 0:s.getSnapshot()}}}function y1(n){return ji.add(n),()=>{ji.delete(n)}}function v1(n){return n&&(Ex(n.toastId)||An(n.toastId))?n.toastId:uf()}function mn(n,r){return Ef(n,r),r.toastId}function Wl(n,r){return{...r,type:r&&r.type||n,toastId:v1(r)}}function Il(n){return(r,s)=>mn(r,Wl(n,s))}function i0(n,r){return mn(n,Wl("default",r))}i0.loading=(n,r)=>mn(n,Wl("default",{isLoading:!0,autoClose:!1,closeOnClick:!1,closeButton:!1,draggable:!1,...r}));function p1(n,{pending:r,error:s,success:i},u){let c;r&&(c=Ex(r)?i0.loading(r,u):i0.loading(r.render,{...u,...r}));let E={isLoading:null,autoClose:null,closeOnClick:null,closeButton:null,draggable:null},A=(d,C,D)=>{if(C==null){i0.dismiss(c);return}let v={type:d,...E,...u,data:D},S=Ex(C)?{render:C}:C;return c?i0.update(c,{...v,...S}):i0(S.render,{...v,...S}),D},B=At(n)?n():n;return B.then(d=>A("success",i,d)).catch(d=>A("error",s,d)),B}i0.promise=p1;i0.success=Il("success");i0.info=Il("info");i0.error=Il("error");i0.warning=Il("warning");i0.warn=i0.warning;i0.dark=(n,r)=>mn(n,Wl("default",{theme:"dark",...r}));function g1(n){m1(n)}i0.dismiss=g1;i0.clearWaitingQueue=D1;i0.isActive=ff;i0.update=(n,r={})=>{let s=A1(n,r);if(s){let{props:i,content:u}=s,c={delay:100,...i,...r,toastId:r.toastId||n,updateId:uf()};c.toastId!==n&&(c.staleId=n);let E=c.render||u;delete c.render,mn(E,c)}};i0.done=n=>{i0.update(n,{progress:1})};i0.onChange=y1;i0.play=n=>df(!0,n);i0.pause=n=>df(!1,n);function b1(n){var r;let{subscribe:s,getSnapshot:i,setProps:u}=j.useRef(F1(n)).current;u(n);let c=(r=j.useSyncExternalStore(s,i,i))==null?void 0:r.slice();function E(A){if(!c)return[];let B=new Map;return n.newestOnTop&&c.reverse(),c.forEach(d=>{let{position:C}=d.props;B.has(C)||B.set(C,[]),B.get(C).push(d)}),Array.from(B,d=>A(d[0],d[1]))}return{getToastToRender:E,isToastActive:ff,count:c==null?void 0:c.length}}function k1(n){let[r,s]=j.useState(!1),[i,u]=j.useState(!1),c=j.useRef(null),E=j.useRef({start:0,delta:0,removalDistance:0,canCloseOnClick:!0,canDrag:!1,didMove:!1}).current,{autoClose:A,pauseOnHover:B,closeToast:d,onClick:C,closeOnClick:D}=n;h1({id:n.toastId,containerId:n.containerId,fn:s}),j.useEffect(()=>{if(n.pauseOnFocusLoss)return v(),()=>{S()}},[n.pauseOnFocusLoss]);function v(){document.hasFocus()||T(),window.addEventListener("focus",p),window.addEventListener("blur",T)}function S(){window.removeEventListener("focus",p),window.removeEventListener("blur",T)}function h(O){if(n.draggable===!0||n.draggable===O.pointerType){N();let X=c.current;E.canCloseOnClick=!0,E.canDrag=!0,X.style.transition="none",n.draggableDirection==="x"?(E.start=O.clientX,E.removalDistance=X.offsetWidth*(n.draggablePercent/100)):(E.start=O.clientY,E.removalDistance=X.offsetHeight*(n.draggablePercent===80?n.draggablePercent*1.5:n.draggablePercent)/100)}}function _(O){let{top:X,bottom:L,left:$,right:J}=c.current.getBoundingClientRect();O.nativeEvent.type!=="touchend"&&n.pauseOnHover&&O.clientX>=$&&O.clientX<=J&&O.clientY>=X&&O.clientY<=L?T():p()}function p(){s(!0)}function T(){s(!1)}function N(){E.didMove=!1,document.addEventListener("pointermove",g),document.addEventListener("pointerup",b)}function y(){document.removeEventListener("pointermove",g),document.removeEventListener("pointerup",b)}function g(O){let X=c.current;if(E.canDrag&&X){E.didMove=!0,r&&T(),n.draggableDirection==="x"?E.delta=O.clientX-E.start:E.delta=O.clientY-E.start,E.start!==O.clientX&&(E.canCloseOnClick=!1);let L=n.draggableDirection==="x"?`${E.delta}px, var(--y)`:`0, calc(${E.delta}px + var(--y))`;X.style.transform=`translate3d(${L},0)`,X.style.opacity=`${1-Math.abs(E.delta/E.removalDistance)}`}}function b(){y();let O=c.current;if(E.canDrag&&E.didMove&&O){if(E.canDrag=!1,Math.abs(E.delta)>E.removalDistance){u(!0),n.closeToast(!0),n.collapseAll();return}O.style.transition="transform 0.2s, opacity 0.2s",O.style.removeProperty("transform"),O.style.removeProperty("opacity")}}let z={onPointerDown:h,onPointerUp:_};return A&&B&&(z.onMouseEnter=T,n.stacked||(z.onMouseLeave=p)),D&&(z.onClick=O=>{C&&C(O),E.canCloseOnClick&&d(!0)}),{playToast:p,pauseToast:T,isRunning:r,preventExitTransition:i,toastRef:c,eventHandlers:z}}var S1=typeof window<"u"?j.useLayoutEffect:j.useEffect,er=({theme:n,type:r,isLoading:s,...i})=>p0.createElement("svg",{viewBox:"0 0 24 24",width:"100%",height:"100%",fill:n==="colored"?"currentColor":`var(--toastify-icon-color-${r})`,...i});function w1(n){return p0.createElement(er,{...n},p0.createElement("path",{d:"M23.32 17.191L15.438 2.184C14.728.833 13.416 0 11.996 0c-1.42 0-2.733.833-3.443 2.184L.533 17.448a4.744 4.744 0 000 4.368C1.243 23.167 2.555 24 3.975 24h16.05C22.22 24 24 22.044 24 19.632c0-.904-.251-1.746-.68-2.44zm-9.622 1.46c0 1.033-.724 1.823-1.698 1.823s-1.698-.79-1.698-1.822v-.043c0-1.028.724-1.822 1.698-1.822s1.698.79 1.698 1.822v.043zm.039-12.285l-.84 8.06c-.057.581-.408.943-.897.943-.49 0-.84-.367-.896-.942l-.84-8.065c-.057-.624.25-1.095.779-1.095h1.91c.528.005.84.476.784 1.1z"}))}function T1(n){return p0.createElement(er,{...n},p0.createElement("path",{d:"M12 0a12 12 0 1012 12A12.013 12.013 0 0012 0zm.25 5a1.5 1.5 0 11-1.5 1.5 1.5 1.5 0 011.5-1.5zm2.25 13.5h-4a1 1 0 010-2h.75a.25.25 0 00.25-.25v-4.5a.25.25 0 00-.25-.25h-.75a1 1 0 010-2h1a2 2 0 012 2v4.75a.25.25 0 00.25.25h.75a1 1 0 110 2z"}))}function _1(n){return p0.createElement(er,{...n},p0.createElement("path",{d:"M12 0a12 12 0 1012 12A12.014 12.014 0 0012 0zm6.927 8.2l-6.845 9.289a1.011 1.011 0 01-1.43.188l-4.888-3.908a1 1 0 111.25-1.562l4.076 3.261 6.227-8.451a1 1 0 111.61 1.183z"}))}function R1(n){return p0.createElement(er,{...n},p0.createElement("path",{d:"M11.983 0a12.206 12.206 0 00-8.51 3.653A11.8 11.8 0 000 12.207 11.779 11.779 0 0011.8 24h.214A12.111 12.111 0 0024 11.791 11.766 11.766 0 0011.983 0zM10.5 16.542a1.476 1.476 0 011.449-1.53h.027a1.527 1.527 0 011.523 1.47 1.475 1.475 0 01-1.449 1.53h-.027a1.529 1.529 0 01-1.523-1.47zM11 12.5v-6a1 1 0 012 0v6a1 1 0 11-2 0z"}))}function O1(){return p0.createElement("div",{className:"Toastify__spinner"})}var zi={info:T1,warning:w1,success:_1,error:R1,spinner:O1},N1=n=>n in zi;function M1({theme:n,type:r,isLoading:s,icon:i}){let u=null,c={theme:n,type:r};return i===!1||(At(i)?u=i({...c,isLoading:s}):j.isValidElement(i)?u=j.cloneElement(i,c):s?u=zi.spinner():N1(r)&&(u=zi[r](c))),u}var j1=n=>{let{isRunning:r,preventExitTransition:s,toastRef:i,eventHandlers:u,playToast:c}=k1(n),{closeButton:E,children:A,autoClose:B,onClick:d,type:C,hideProgressBar:D,closeToast:v,transition:S,position:h,className:_,style:p,progressClassName:T,updateId:N,role:y,progress:g,rtl:b,toastId:z,deleteToast:O,isIn:X,isLoading:L,closeOnClick:$,theme:J,ariaLabel:e0}=n,l0=cx("Toastify__toast",`Toastify__toast-theme--${J}`,`Toastify__toast--${C}`,{"Toastify__toast--rtl":b},{"Toastify__toast--close-on-click":$}),n0=At(_)?_({rtl:b,position:h,type:C,defaultClassName:l0}):cx(l0,_),r0=M1(n),R=!!g||!B,G={closeToast:v,type:C,theme:J},I=null;return E===!1||(At(E)?I=E(G):j.isValidElement(E)?I=j.cloneElement(E,G):I=c1(G)),p0.createElement(S,{isIn:X,done:O,position:h,preventExitTransition:s,nodeRef:i,playToast:c},p0.createElement("div",{id:z,tabIndex:0,onClick:d,"data-in":X,className:n0,...u,style:p,ref:i,...X&&{role:y,"aria-label":e0}},r0!=null&&p0.createElement("div",{className:cx("Toastify__toast-icon",{"Toastify--animate-icon Toastify__zoom-enter":!L})},r0),sf(A,n,!r),I,!n.customProgressBar&&p0.createElement(f1,{...N&&!R?{key:`p-${N}`}:{},rtl:b,theme:J,delay:B,isRunning:r,isIn:X,closeToast:v,hide:D,type:C,className:T,controlledProgress:R,progress:g||0})))},z1=(n,r=!1)=>({enter:`Toastify--animate Toastify__${n}-enter`,exit:`Toastify--animate Toastify__${n}-exit`,appendPosition:r}),U1=u1(z1("bounce",!0)),L1={position:"top-right",transition:U1,autoClose:5e3,closeButton:!0,pauseOnHover:!0,pauseOnFocusLoss:!0,draggable:"touch",draggablePercent:80,draggableDirection:"x",role:"alert",theme:"light","aria-label":"Notifications Alt+T",hotKeys:n=>n.altKey&&n.code==="KeyT"};function P1(n){let r={...L1,...n},s=n.stacked,[i,u]=j.useState(!0),c=j.useRef(null),{getToastToRender:E,isToastActive:A,count:B}=b1(r),{className:d,style:C,rtl:D,containerId:v,hotKeys:S}=r;function h(p){let T=cx("Toastify__toast-container",`Toastify__toast-container--${p}`,{"Toastify__toast-container--rtl":D});return At(d)?d({position:p,rtl:D,defaultClassName:T}):cx(T,Ni(d))}function _(){s&&(u(!0),i0.play())}return S1(()=>{var p;if(s){let T=c.current.querySelectorAll('[data-in="true"]'),N=12,y=(p=r.position)==null?void 0:p.includes("top"),g=0,b=0;Array.from(T).reverse().forEach((z,O)=>{let X=z;X.classList.add("Toastify__toast--stacked"),O>0&&(X.dataset.collapsed=`${i}`),X.dataset.pos||(X.dataset.pos=y?"top":"bot");let L=g*(i?.2:1)+(i?0:N*O);X.style.setProperty("--y",`${y?L:L*-1}px`),X.style.setProperty("--g",`${N}`),X.style.setProperty("--s",`${1-(i?b:0)}`),g+=X.offsetHeight,b+=.025})}},[i,B,s]),j.useEffect(()=>{function p(T){var N;let y=c.current;S(T)&&((N=y.querySelector('[tabIndex="0"]'))==null||N.focus(),u(!1),i0.pause()),T.key==="Escape"&&(document.activeElement===y||y!=null&&y.contains(document.activeElement))&&(u(!0),i0.play())}return document.addEventListener("keydown",p),()=>{document.removeEventListener("keydown",p)}},[S]),p0.createElement("section",{ref:c,className:"Toastify",id:v,onMouseEnter:()=>{s&&(u(!1),i0.pause())},onMouseLeave:_,"aria-live":"polite","aria-atomic":"false","aria-relevant":"additions text","aria-label":r["aria-label"]},E((p,T)=>{let N=T.length?{...C}:{...C,pointerEvents:"none"};return p0.createElement("div",{tabIndex:-1,className:h(p),"data-stacked":s,style:N,key:`c-${p}`},T.map(({content:y,props:g})=>p0.createElement(j1,{...g,stacked:s,collapseAll:_,isIn:A(g.toastId,g.containerId),key:`t-${g.key}`},y)))}))}const Bf="/assets/flowqr-logo-C-LVQhNA.png",H1=({onSuccess:n})=>{const r=xa(),[s,i]=j.useState({username:"",email:"",password:"",companyName:""}),u=E=>{const{name:A,value:B}=E.target;i(d=>({...d,[A]:B}))},c=async E=>{E.preventDefault();try{await I7(s),i0.success("Registration successfully sent. Please check your email for confirmation."),n==null||n(),r("/login",{replace:!0})}catch(A){console.error(A),i0.error("Registration error")}};return F.jsx("div",{className:"auth-page",children:F.jsxs("div",{className:"auth-card",children:[F.jsx("img",{src:Bf,alt:"FlowQR",className:"app-logo"}),F.jsxs("form",{className:"auth-form",onSubmit:c,children:[F.jsx("input",{name:"username",placeholder:"User",value:s.username,onChange:u,required:!0}),F.jsx("input",{name:"email",type:"email",placeholder:"Email",value:s.email,onChange:u,required:!0}),F.jsx("input",{name:"password",type:"password",placeholder:"Password",value:s.password,onChange:u,required:!0}),F.jsx("input",{name:"companyName",placeholder:"Company name",value:s.companyName,onChange:u,required:!0}),F.jsx("button",{type:"submit",className:"auth-button",children:"SIGN UP"})]}),F.jsxs("div",{className:"auth-alt",children:["ALREADY HAVE AN ACCOUNT?"," ",F.jsx("button",{type:"button",onClick:()=>r("/login"),children:"LOGIN"})]}),F.jsxs("footer",{className:"auth-footer",children:["© 2025 Aleksander Starikov. ",F.jsx("span",{children:"All rights reserved."})]})]})})},q1=({onSuccess:n})=>{const r=xa(),[s,i]=j.useState({username:"",password:""}),u=E=>{i({...s,[E.target.name]:E.target.value})},c=async E=>{E.preventDefault();try{const A=await e1({username:s.username,password:s.password});localStorage.setItem("token",A.data.token),n==null||n(),i0.success("Successful Login!"),r("/app",{replace:!0})}catch(A){if(A instanceof J7&&A.response){const B=A.response.status,d=A.response.data,C=(d==null?void 0:d.message)||"Incorrect username or password";console.error(`Login error ${B}:`,C),i0.error(`Login failed (${B}). ${C}`)}else console.error("Unknown login error:",A),i0.error("Login failed. Please try again.")}};return F.jsx("div",{className:"auth-page",children:F.jsxs("div",{className:"auth-card",children:[F.jsx("img",{src:Bf,alt:"FlowQR",className:"app-logo"}),F.jsxs("form",{className:"auth-form",onSubmit:c,children:[F.jsx("input",{type:"text",name:"username",placeholder:"Email",value:s.username,onChange:u,required:!0}),F.jsx("input",{type:"password",name:"password",placeholder:"Password",value:s.password,onChange:u,required:!0}),F.jsx("button",{type:"submit",className:"auth-button",children:"LOGIN"})]}),F.jsxs("div",{className:"auth-alt",children:["DON’T HAVE AN ACCOUNT?"," ",F.jsx("button",{type:"button",onClick:()=>r("/register"),children:"SIGN UP"})]}),F.jsxs("footer",{className:"auth-footer",children:["© 2025 Aleksander Starikov. ",F.jsx("span",{children:"All rights reserved."})]})]})})};var Cf={color:void 0,size:void 0,className:void 0,style:void 0,attr:void 0},C8=p0.createContext&&p0.createContext(Cf),X1=["attr","size","title"];function Y1(n,r){if(n==null)return{};var s=Q1(n,r),i,u;if(Object.getOwnPropertySymbols){var c=Object.getOwnPropertySymbols(n);for(u=0;u<c.length;u++)i=c[u],!(r.indexOf(i)>=0)&&Object.prototype.propertyIsEnumerable.call(n,i)&&(s[i]=n[i])}return s}function Q1(n,r){if(n==null)return{};var s={};for(var i in n)if(Object.prototype.hasOwnProperty.call(n,i)){if(r.indexOf(i)>=0)continue;s[i]=n[i]}return s}function ql(){return ql=Object.assign?Object.assign.bind():function(n){for(var r=1;r<arguments.length;r++){var s=arguments[r];for(var i in s)Object.prototype.hasOwnProperty.call(s,i)&&(n[i]=s[i])}return n},ql.apply(this,arguments)}function A8(n,r){var s=Object.keys(n);if(Object.getOwnPropertySymbols){var i=Object.getOwnPropertySymbols(n);r&&(i=i.filter(function(u){return Object.getOwnPropertyDescriptor(n,u).enumerable})),s.push.apply(s,i)}return s}function Xl(n){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{};r%2?A8(Object(s),!0).forEach(function(i){G1(n,i,s[i])}):Object.getOwnPropertyDescriptors?Object.defineProperties(n,Object.getOwnPropertyDescriptors(s)):A8(Object(s)).forEach(function(i){Object.defineProperty(n,i,Object.getOwnPropertyDescriptor(s,i))})}return n}function G1(n,r,s){return r=V1(r),r in n?Object.defineProperty(n,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):n[r]=s,n}function V1(n){var r=Z1(n,"string");return typeof r=="symbol"?r:r+""}function Z1(n,r){if(typeof n!="object"||!n)return n;var s=n[Symbol.toPrimitive];if(s!==void 0){var i=s.call(n,r);if(typeof i!="object")return i;throw new TypeError("@@toPrimitive must return a primitive value.")}return(r==="string"?String:Number)(n)}function Af(n){return n&&n.map((r,s)=>p0.createElement(r.tag,Xl({key:s},r.attr),Af(r.child)))}function mf(n){return r=>p0.createElement(K1,ql({attr:Xl({},n.attr)},r),Af(n.child))}function K1(n){var r=s=>{var{attr:i,size:u,title:c}=n,E=Y1(n,X1),A=u||s.size||"1em",B;return s.className&&(B=s.className),n.className&&(B=(B?B+" ":"")+n.className),p0.createElement("svg",ql({stroke:"currentColor",fill:"currentColor",strokeWidth:"0"},s.attr,i,E,{className:B,style:Xl(Xl({color:n.color||s.color},s.style),n.style),height:A,width:A,xmlns:"http://www.w3.org/2000/svg"}),c&&p0.createElement("title",null,c),n.children)};return C8!==void 0?p0.createElement(C8.Consumer,null,s=>r(s)):r(Cf)}function J1(n){return mf({attr:{viewBox:"0 0 1024 1024"},child:[{tag:"path",attr:{d:"M699 353h-46.9c-10.2 0-19.9 4.9-25.9 13.3L469 584.3l-71.2-98.8c-6-8.3-15.6-13.3-25.9-13.3H325c-6.5 0-10.3 7.4-6.5 12.7l124.6 172.8a31.8 31.8 0 0 0 51.7 0l210.6-292c3.9-5.3.1-12.7-6.4-12.7z"},child:[]},{tag:"path",attr:{d:"M512 64C264.6 64 64 264.6 64 512s200.6 448 448 448 448-200.6 448-448S759.4 64 512 64zm0 820c-205.4 0-372-166.6-372-372s166.6-372 372-372 372 166.6 372 372-166.6 372-372 372z"},child:[]}]})(n)}function $1(n){return mf({attr:{viewBox:"0 0 1024 1024",fill:"currentColor",fillRule:"evenodd"},child:[{tag:"path",attr:{d:"M512 64c247.4 0 448 200.6 448 448S759.4 960 512 960 64 759.4 64 512 264.6 64 512 64Zm0 76c-205.4 0-372 166.6-372 372s166.6 372 372 372 372-166.6 372-372-166.6-372-372-372Zm128.013 198.826c.023.007.042.018.083.059l45.02 45.019c.04.04.05.06.058.083a.118.118 0 0 1 0 .07c-.007.022-.018.041-.059.082L557.254 512l127.861 127.862a.268.268 0 0 1 .05.06l.009.023a.118.118 0 0 1 0 .07c-.007.022-.018.041-.059.082l-45.019 45.02c-.04.04-.06.05-.083.058a.118.118 0 0 1-.07 0c-.022-.007-.041-.018-.082-.059L512 557.254 384.14 685.115c-.042.041-.06.052-.084.059a.118.118 0 0 1-.07 0c-.022-.007-.041-.018-.082-.059l-45.02-45.019c-.04-.04-.05-.06-.058-.083a.118.118 0 0 1 0-.07c.007-.022.018-.041.059-.082L466.745 512l-127.86-127.86a.268.268 0 0 1-.05-.061l-.009-.023a.118.118 0 0 1 0-.07c.007-.022.018-.041.059-.082l45.019-45.02c.04-.04.06-.05.083-.058a.118.118 0 0 1 .07 0c.022.007.041.018.082.059L512 466.745l127.862-127.86c.04-.041.06-.052.083-.059a.118.118 0 0 1 .07 0Z"},child:[]}]})(n)}const W1=()=>{const n=$e(),[r,s]=j.useState("Обработка..."),[i,u]=j.useState("processing"),E=new URLSearchParams(n.search).get("code");return j.useEffect(()=>{E?t1(E).then(()=>{s("Почта успешно подтверждена!"),u("success")}).catch(()=>{s("Ошибка подтверждения."),u("error")}):(s("Код подтверждения не найден."),u("error"))},[E]),F.jsxs("div",{className:"confirmation-container",children:[i==="success"&&F.jsx(J1,{size:50,color:"#4caf50"}),i==="error"&&F.jsx($1,{size:50,color:"#f44336"}),F.jsx("h2",{children:"Подтверждение почты"}),F.jsx("p",{children:r})]})},I1=({items:n})=>F.jsxs("div",{className:"item-list",children:[F.jsx("h3",{children:"Stock"}),n.length===0?F.jsx("p",{className:"empty-message",children:"No items found in stock."}):F.jsx("ul",{className:"item-list-ul",children:n.map(r=>F.jsx("li",{className:`item-list-item ${r.quantity<=0?"item-low-stock":"item-green-stock"}`,children:F.jsxs("div",{className:"item-details",children:[F.jsx("span",{className:"item-name",children:F.jsx("strong",{children:r.name})}),F.jsxs("span",{className:"item-quantity",children:["Available: ",r.quantity]}),F.jsxs("span",{className:"item-sold",children:["Sold: ",r.sold]})]})},r.id))})]});var Ul={exports:{}},eB=Ul.exports,m8;function tB(){return m8||(m8=1,function(n,r){(function(i,u){n.exports=u()})(typeof self<"u"?self:eB,function(){return function(s){var i={};function u(c){if(i[c])return i[c].exports;var E=i[c]={i:c,l:!1,exports:{}};return s[c].call(E.exports,E,E.exports,u),E.l=!0,E.exports}return u.m=s,u.c=i,u.d=function(c,E,A){u.o(c,E)||Object.defineProperty(c,E,{configurable:!1,enumerable:!0,get:A})},u.n=function(c){var E=c&&c.__esModule?function(){return c.default}:function(){return c};return u.d(E,"a",E),E},u.o=function(c,E){return Object.prototype.hasOwnProperty.call(c,E)},u.p="",u(u.s=3)}([function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=function(){function E(A,B){this.width=B,this.height=A.length/B,this.data=A}return E.createEmpty=function(A,B){return new E(new Uint8ClampedArray(A*B),A)},E.prototype.get=function(A,B){return A<0||A>=this.width||B<0||B>=this.height?!1:!!this.data[B*this.width+A]},E.prototype.set=function(A,B,d){this.data[B*this.width+A]=d?1:0},E.prototype.setRegion=function(A,B,d,C,D){for(var v=B;v<B+C;v++)for(var S=A;S<A+d;S++)this.set(S,v,!!D)},E}();i.BitMatrix=c},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(2);function E(B,d){return B^d}i.addOrSubtractGF=E;var A=function(){function B(d,C,D){this.primitive=d,this.size=C,this.generatorBase=D,this.expTable=new Array(this.size),this.logTable=new Array(this.size);for(var v=1,S=0;S<this.size;S++)this.expTable[S]=v,v=v*2,v>=this.size&&(v=(v^this.primitive)&this.size-1);for(var S=0;S<this.size-1;S++)this.logTable[this.expTable[S]]=S;this.zero=new c.default(this,Uint8ClampedArray.from([0])),this.one=new c.default(this,Uint8ClampedArray.from([1]))}return B.prototype.multiply=function(d,C){return d===0||C===0?0:this.expTable[(this.logTable[d]+this.logTable[C])%(this.size-1)]},B.prototype.inverse=function(d){if(d===0)throw new Error("Can't invert 0");return this.expTable[this.size-this.logTable[d]-1]},B.prototype.buildMonomial=function(d,C){if(d<0)throw new Error("Invalid monomial degree less than 0");if(C===0)return this.zero;var D=new Uint8ClampedArray(d+1);return D[0]=C,new c.default(this,D)},B.prototype.log=function(d){if(d===0)throw new Error("Can't take log(0)");return this.logTable[d]},B.prototype.exp=function(d){return this.expTable[d]},B}();i.default=A},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(1),E=function(){function A(B,d){if(d.length===0)throw new Error("No coefficients.");this.field=B;var C=d.length;if(C>1&&d[0]===0){for(var D=1;D<C&&d[D]===0;)D++;if(D===C)this.coefficients=B.zero.coefficients;else{this.coefficients=new Uint8ClampedArray(C-D);for(var v=0;v<this.coefficients.length;v++)this.coefficients[v]=d[D+v]}}else this.coefficients=d}return A.prototype.degree=function(){return this.coefficients.length-1},A.prototype.isZero=function(){return this.coefficients[0]===0},A.prototype.getCoefficient=function(B){return this.coefficients[this.coefficients.length-1-B]},A.prototype.addOrSubtract=function(B){var d;if(this.isZero())return B;if(B.isZero())return this;var C=this.coefficients,D=B.coefficients;C.length>D.length&&(d=[D,C],C=d[0],D=d[1]);for(var v=new Uint8ClampedArray(D.length),S=D.length-C.length,h=0;h<S;h++)v[h]=D[h];for(var h=S;h<D.length;h++)v[h]=c.addOrSubtractGF(C[h-S],D[h]);return new A(this.field,v)},A.prototype.multiply=function(B){if(B===0)return this.field.zero;if(B===1)return this;for(var d=this.coefficients.length,C=new Uint8ClampedArray(d),D=0;D<d;D++)C[D]=this.field.multiply(this.coefficients[D],B);return new A(this.field,C)},A.prototype.multiplyPoly=function(B){if(this.isZero()||B.isZero())return this.field.zero;for(var d=this.coefficients,C=d.length,D=B.coefficients,v=D.length,S=new Uint8ClampedArray(C+v-1),h=0;h<C;h++)for(var _=d[h],p=0;p<v;p++)S[h+p]=c.addOrSubtractGF(S[h+p],this.field.multiply(_,D[p]));return new A(this.field,S)},A.prototype.multiplyByMonomial=function(B,d){if(B<0)throw new Error("Invalid degree less than 0");if(d===0)return this.field.zero;for(var C=this.coefficients.length,D=new Uint8ClampedArray(C+B),v=0;v<C;v++)D[v]=this.field.multiply(this.coefficients[v],d);return new A(this.field,D)},A.prototype.evaluateAt=function(B){var d=0;if(B===0)return this.getCoefficient(0);var C=this.coefficients.length;if(B===1)return this.coefficients.forEach(function(v){d=c.addOrSubtractGF(d,v)}),d;d=this.coefficients[0];for(var D=1;D<C;D++)d=c.addOrSubtractGF(this.field.multiply(B,d),this.coefficients[D]);return d},A}();i.default=E},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(4),E=u(5),A=u(11),B=u(12);function d(v){var S=B.locate(v);if(!S)return null;for(var h=0,_=S;h<_.length;h++){var p=_[h],T=A.extract(v,p),N=E.decode(T.matrix);if(N)return{binaryData:N.bytes,data:N.text,chunks:N.chunks,version:N.version,location:{topRightCorner:T.mappingFunction(p.dimension,0),topLeftCorner:T.mappingFunction(0,0),bottomRightCorner:T.mappingFunction(p.dimension,p.dimension),bottomLeftCorner:T.mappingFunction(0,p.dimension),topRightFinderPattern:p.topRight,topLeftFinderPattern:p.topLeft,bottomLeftFinderPattern:p.bottomLeft,bottomRightAlignmentPattern:p.alignmentPattern}}}return null}var C={inversionAttempts:"attemptBoth"};function D(v,S,h,_){_===void 0&&(_={});var p=C;Object.keys(p||{}).forEach(function(O){p[O]=_[O]||p[O]});var T=p.inversionAttempts==="attemptBoth"||p.inversionAttempts==="invertFirst",N=p.inversionAttempts==="onlyInvert"||p.inversionAttempts==="invertFirst",y=c.binarize(v,S,h,T),g=y.binarized,b=y.inverted,z=d(N?b:g);return!z&&(p.inversionAttempts==="attemptBoth"||p.inversionAttempts==="invertFirst")&&(z=d(N?g:b)),z}D.default=D,i.default=D},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(0),E=8,A=24;function B(D,v,S){return D<v?v:D>S?S:D}var d=function(){function D(v,S){this.width=v,this.data=new Uint8ClampedArray(v*S)}return D.prototype.get=function(v,S){return this.data[S*this.width+v]},D.prototype.set=function(v,S,h){this.data[S*this.width+v]=h},D}();function C(D,v,S,h){if(D.length!==v*S*4)throw new Error("Malformed data passed to binarizer.");for(var _=new d(v,S),p=0;p<v;p++)for(var T=0;T<S;T++){var N=D[(T*v+p)*4+0],y=D[(T*v+p)*4+1],g=D[(T*v+p)*4+2];_.set(p,T,.2126*N+.7152*y+.0722*g)}for(var b=Math.ceil(v/E),z=Math.ceil(S/E),O=new d(b,z),X=0;X<z;X++)for(var L=0;L<b;L++){for(var $=0,J=1/0,e0=0,T=0;T<E;T++)for(var p=0;p<E;p++){var l0=_.get(L*E+p,X*E+T);$+=l0,J=Math.min(J,l0),e0=Math.max(e0,l0)}var n0=$/Math.pow(E,2);if(e0-J<=A&&(n0=J/2,X>0&&L>0)){var r0=(O.get(L,X-1)+2*O.get(L-1,X)+O.get(L-1,X-1))/4;J<r0&&(n0=r0)}O.set(L,X,n0)}var R=c.BitMatrix.createEmpty(v,S),G=null;h&&(G=c.BitMatrix.createEmpty(v,S));for(var X=0;X<z;X++)for(var L=0;L<b;L++){for(var I=B(L,2,b-3),o0=B(X,2,z-3),$=0,w=-2;w<=2;w++)for(var q=-2;q<=2;q++)$+=O.get(I+w,o0+q);for(var x0=$/25,w=0;w<E;w++)for(var q=0;q<E;q++){var p=L*E+w,T=X*E+q,a0=_.get(p,T);R.set(p,T,a0<=x0),h&&G.set(p,T,!(a0<=x0))}}return h?{binarized:R,inverted:G}:{binarized:R}}i.binarize=C},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(0),E=u(6),A=u(9),B=u(10);function d(g,b){for(var z=g^b,O=0;z;)O++,z&=z-1;return O}function C(g,b){return b<<1|g}var D=[{bits:21522,formatInfo:{errorCorrectionLevel:1,dataMask:0}},{bits:20773,formatInfo:{errorCorrectionLevel:1,dataMask:1}},{bits:24188,formatInfo:{errorCorrectionLevel:1,dataMask:2}},{bits:23371,formatInfo:{errorCorrectionLevel:1,dataMask:3}},{bits:17913,formatInfo:{errorCorrectionLevel:1,dataMask:4}},{bits:16590,formatInfo:{errorCorrectionLevel:1,dataMask:5}},{bits:20375,formatInfo:{errorCorrectionLevel:1,dataMask:6}},{bits:19104,formatInfo:{errorCorrectionLevel:1,dataMask:7}},{bits:30660,formatInfo:{errorCorrectionLevel:0,dataMask:0}},{bits:29427,formatInfo:{errorCorrectionLevel:0,dataMask:1}},{bits:32170,formatInfo:{errorCorrectionLevel:0,dataMask:2}},{bits:30877,formatInfo:{errorCorrectionLevel:0,dataMask:3}},{bits:26159,formatInfo:{errorCorrectionLevel:0,dataMask:4}},{bits:25368,formatInfo:{errorCorrectionLevel:0,dataMask:5}},{bits:27713,formatInfo:{errorCorrectionLevel:0,dataMask:6}},{bits:26998,formatInfo:{errorCorrectionLevel:0,dataMask:7}},{bits:5769,formatInfo:{errorCorrectionLevel:3,dataMask:0}},{bits:5054,formatInfo:{errorCorrectionLevel:3,dataMask:1}},{bits:7399,formatInfo:{errorCorrectionLevel:3,dataMask:2}},{bits:6608,formatInfo:{errorCorrectionLevel:3,dataMask:3}},{bits:1890,formatInfo:{errorCorrectionLevel:3,dataMask:4}},{bits:597,formatInfo:{errorCorrectionLevel:3,dataMask:5}},{bits:3340,formatInfo:{errorCorrectionLevel:3,dataMask:6}},{bits:2107,formatInfo:{errorCorrectionLevel:3,dataMask:7}},{bits:13663,formatInfo:{errorCorrectionLevel:2,dataMask:0}},{bits:12392,formatInfo:{errorCorrectionLevel:2,dataMask:1}},{bits:16177,formatInfo:{errorCorrectionLevel:2,dataMask:2}},{bits:14854,formatInfo:{errorCorrectionLevel:2,dataMask:3}},{bits:9396,formatInfo:{errorCorrectionLevel:2,dataMask:4}},{bits:8579,formatInfo:{errorCorrectionLevel:2,dataMask:5}},{bits:11994,formatInfo:{errorCorrectionLevel:2,dataMask:6}},{bits:11245,formatInfo:{errorCorrectionLevel:2,dataMask:7}}],v=[function(g){return(g.y+g.x)%2===0},function(g){return g.y%2===0},function(g){return g.x%3===0},function(g){return(g.y+g.x)%3===0},function(g){return(Math.floor(g.y/2)+Math.floor(g.x/3))%2===0},function(g){return g.x*g.y%2+g.x*g.y%3===0},function(g){return(g.y*g.x%2+g.y*g.x%3)%2===0},function(g){return((g.y+g.x)%2+g.y*g.x%3)%2===0}];function S(g){var b=17+4*g.versionNumber,z=c.BitMatrix.createEmpty(b,b);z.setRegion(0,0,9,9,!0),z.setRegion(b-8,0,8,9,!0),z.setRegion(0,b-8,9,8,!0);for(var O=0,X=g.alignmentPatternCenters;O<X.length;O++)for(var L=X[O],$=0,J=g.alignmentPatternCenters;$<J.length;$++){var e0=J[$];L===6&&e0===6||L===6&&e0===b-7||L===b-7&&e0===6||z.setRegion(L-2,e0-2,5,5,!0)}return z.setRegion(6,9,1,b-17,!0),z.setRegion(9,6,b-17,1,!0),g.versionNumber>6&&(z.setRegion(b-11,0,3,6,!0),z.setRegion(0,b-11,6,3,!0)),z}function h(g,b,z){for(var O=v[z.dataMask],X=g.height,L=S(b),$=[],J=0,e0=0,l0=!0,n0=X-1;n0>0;n0-=2){n0===6&&n0--;for(var r0=0;r0<X;r0++)for(var R=l0?X-1-r0:r0,G=0;G<2;G++){var I=n0-G;if(!L.get(I,R)){e0++;var o0=g.get(I,R);O({y:R,x:I})&&(o0=!o0),J=C(o0,J),e0===8&&($.push(J),e0=0,J=0)}}l0=!l0}return $}function _(g){var b=g.height,z=Math.floor((b-17)/4);if(z<=6)return B.VERSIONS[z-1];for(var O=0,X=5;X>=0;X--)for(var L=b-9;L>=b-11;L--)O=C(g.get(L,X),O);for(var $=0,L=5;L>=0;L--)for(var X=b-9;X>=b-11;X--)$=C(g.get(L,X),$);for(var J=1/0,e0,l0=0,n0=B.VERSIONS;l0<n0.length;l0++){var r0=n0[l0];if(r0.infoBits===O||r0.infoBits===$)return r0;var R=d(O,r0.infoBits);R<J&&(e0=r0,J=R),R=d($,r0.infoBits),R<J&&(e0=r0,J=R)}if(J<=3)return e0}function p(g){for(var b=0,z=0;z<=8;z++)z!==6&&(b=C(g.get(z,8),b));for(var O=7;O>=0;O--)O!==6&&(b=C(g.get(8,O),b));for(var X=g.height,L=0,O=X-1;O>=X-7;O--)L=C(g.get(8,O),L);for(var z=X-8;z<X;z++)L=C(g.get(z,8),L);for(var $=1/0,J=null,e0=0,l0=D;e0<l0.length;e0++){var n0=l0[e0],r0=n0.bits,R=n0.formatInfo;if(r0===b||r0===L)return R;var G=d(b,r0);G<$&&(J=R,$=G),b!==L&&(G=d(L,r0),G<$&&(J=R,$=G))}return $<=3?J:null}function T(g,b,z){var O=b.errorCorrectionLevels[z],X=[],L=0;if(O.ecBlocks.forEach(function(o0){for(var w=0;w<o0.numBlocks;w++)X.push({numDataCodewords:o0.dataCodewordsPerBlock,codewords:[]}),L+=o0.dataCodewordsPerBlock+O.ecCodewordsPerBlock}),g.length<L)return null;g=g.slice(0,L);for(var $=O.ecBlocks[0].dataCodewordsPerBlock,J=0;J<$;J++)for(var e0=0,l0=X;e0<l0.length;e0++){var n0=l0[e0];n0.codewords.push(g.shift())}if(O.ecBlocks.length>1)for(var r0=O.ecBlocks[0].numBlocks,R=O.ecBlocks[1].numBlocks,J=0;J<R;J++)X[r0+J].codewords.push(g.shift());for(;g.length>0;)for(var G=0,I=X;G<I.length;G++){var n0=I[G];n0.codewords.push(g.shift())}return X}function N(g){var b=_(g);if(!b)return null;var z=p(g);if(!z)return null;var O=h(g,b,z),X=T(O,b,z.errorCorrectionLevel);if(!X)return null;for(var L=X.reduce(function(G,I){return G+I.numDataCodewords},0),$=new Uint8ClampedArray(L),J=0,e0=0,l0=X;e0<l0.length;e0++){var n0=l0[e0],r0=A.decode(n0.codewords,n0.codewords.length-n0.numDataCodewords);if(!r0)return null;for(var R=0;R<n0.numDataCodewords;R++)$[J++]=r0[R]}try{return E.decode($,b.versionNumber)}catch{return null}}function y(g){if(g==null)return null;var b=N(g);if(b)return b;for(var z=0;z<g.width;z++)for(var O=z+1;O<g.height;O++)g.get(z,O)!==g.get(O,z)&&(g.set(z,O,!g.get(z,O)),g.set(O,z,!g.get(O,z)));return N(g)}i.decode=y},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(7),E=u(8),A;(function(_){_.Numeric="numeric",_.Alphanumeric="alphanumeric",_.Byte="byte",_.Kanji="kanji",_.ECI="eci"})(A=i.Mode||(i.Mode={}));var B;(function(_){_[_.Terminator=0]="Terminator",_[_.Numeric=1]="Numeric",_[_.Alphanumeric=2]="Alphanumeric",_[_.Byte=4]="Byte",_[_.Kanji=8]="Kanji",_[_.ECI=7]="ECI"})(B||(B={}));function d(_,p){for(var T=[],N="",y=[10,12,14][p],g=_.readBits(y);g>=3;){var b=_.readBits(10);if(b>=1e3)throw new Error("Invalid numeric value above 999");var z=Math.floor(b/100),O=Math.floor(b/10)%10,X=b%10;T.push(48+z,48+O,48+X),N+=z.toString()+O.toString()+X.toString(),g-=3}if(g===2){var b=_.readBits(7);if(b>=100)throw new Error("Invalid numeric value above 99");var z=Math.floor(b/10),O=b%10;T.push(48+z,48+O),N+=z.toString()+O.toString()}else if(g===1){var b=_.readBits(4);if(b>=10)throw new Error("Invalid numeric value above 9");T.push(48+b),N+=b.toString()}return{bytes:T,text:N}}var C=["0","1","2","3","4","5","6","7","8","9","A","B","C","D","E","F","G","H","I","J","K","L","M","N","O","P","Q","R","S","T","U","V","W","X","Y","Z"," ","$","%","*","+","-",".","/",":"];function D(_,p){for(var T=[],N="",y=[9,11,13][p],g=_.readBits(y);g>=2;){var b=_.readBits(11),z=Math.floor(b/45),O=b%45;T.push(C[z].charCodeAt(0),C[O].charCodeAt(0)),N+=C[z]+C[O],g-=2}if(g===1){var z=_.readBits(6);T.push(C[z].charCodeAt(0)),N+=C[z]}return{bytes:T,text:N}}function v(_,p){for(var T=[],N="",y=[8,16,16][p],g=_.readBits(y),b=0;b<g;b++){var z=_.readBits(8);T.push(z)}try{N+=decodeURIComponent(T.map(function(O){return"%"+("0"+O.toString(16)).substr(-2)}).join(""))}catch{}return{bytes:T,text:N}}function S(_,p){for(var T=[],N="",y=[8,10,12][p],g=_.readBits(y),b=0;b<g;b++){var z=_.readBits(13),O=Math.floor(z/192)<<8|z%192;O<7936?O+=33088:O+=49472,T.push(O>>8,O&255),N+=String.fromCharCode(E.shiftJISTable[O])}return{bytes:T,text:N}}function h(_,p){for(var T,N,y,g,b=new c.BitStream(_),z=p<=9?0:p<=26?1:2,O={text:"",bytes:[],chunks:[],version:p};b.available()>=4;){var X=b.readBits(4);if(X===B.Terminator)return O;if(X===B.ECI)b.readBits(1)===0?O.chunks.push({type:A.ECI,assignmentNumber:b.readBits(7)}):b.readBits(1)===0?O.chunks.push({type:A.ECI,assignmentNumber:b.readBits(14)}):b.readBits(1)===0?O.chunks.push({type:A.ECI,assignmentNumber:b.readBits(21)}):O.chunks.push({type:A.ECI,assignmentNumber:-1});else if(X===B.Numeric){var L=d(b,z);O.text+=L.text,(T=O.bytes).push.apply(T,L.bytes),O.chunks.push({type:A.Numeric,text:L.text})}else if(X===B.Alphanumeric){var $=D(b,z);O.text+=$.text,(N=O.bytes).push.apply(N,$.bytes),O.chunks.push({type:A.Alphanumeric,text:$.text})}else if(X===B.Byte){var J=v(b,z);O.text+=J.text,(y=O.bytes).push.apply(y,J.bytes),O.chunks.push({type:A.Byte,bytes:J.bytes,text:J.text})}else if(X===B.Kanji){var e0=S(b,z);O.text+=e0.text,(g=O.bytes).push.apply(g,e0.bytes),O.chunks.push({type:A.Kanji,bytes:e0.bytes,text:e0.text})}}if(b.available()===0||b.readBits(b.available())===0)return O}i.decode=h},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=function(){function E(A){this.byteOffset=0,this.bitOffset=0,this.bytes=A}return E.prototype.readBits=function(A){if(A<1||A>32||A>this.available())throw new Error("Cannot read "+A.toString()+" bits");var B=0;if(this.bitOffset>0){var d=8-this.bitOffset,C=A<d?A:d,D=d-C,v=255>>8-C<<D;B=(this.bytes[this.byteOffset]&v)>>D,A-=C,this.bitOffset+=C,this.bitOffset===8&&(this.bitOffset=0,this.byteOffset++)}if(A>0){for(;A>=8;)B=B<<8|this.bytes[this.byteOffset]&255,this.byteOffset++,A-=8;if(A>0){var D=8-A,v=255>>D<<D;B=B<<A|(this.bytes[this.byteOffset]&v)>>D,this.bitOffset+=A}}return B},E.prototype.available=function(){return 8*(this.bytes.length-this.byteOffset)-this.bitOffset},E}();i.BitStream=c},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0}),i.shiftJISTable={32:32,33:33,34:34,35:35,36:36,37:37,38:38,39:39,40:40,41:41,42:42,43:43,44:44,45:45,46:46,47:47,48:48,49:49,50:50,51:51,52:52,53:53,54:54,55:55,56:56,57:57,58:58,59:59,60:60,61:61,62:62,63:63,64:64,65:65,66:66,67:67,68:68,69:69,70:70,71:71,72:72,73:73,74:74,75:75,76:76,77:77,78:78,79:79,80:80,81:81,82:82,83:83,84:84,85:85,86:86,87:87,88:88,89:89,90:90,91:91,92:165,93:93,94:94,95:95,96:96,97:97,98:98,99:99,100:100,101:101,102:102,103:103,104:104,105:105,106:106,107:107,108:108,109:109,110:110,111:111,112:112,113:113,114:114,115:115,116:116,117:117,118:118,119:119,120:120,121:121,122:122,123:123,124:124,125:125,126:8254,33088:12288,33089:12289,33090:12290,33091:65292,33092:65294,33093:12539,33094:65306,33095:65307,33096:65311,33097:65281,33098:12443,33099:12444,33100:180,33101:65344,33102:168,33103:65342,33104:65507,33105:65343,33106:12541,33107:12542,33108:12445,33109:12446,33110:12291,33111:20189,33112:12293,33113:12294,33114:12295,33115:12540,33116:8213,33117:8208,33118:65295,33119:92,33120:12316,33121:8214,33122:65372,33123:8230,33124:8229,33125:8216,33126:8217,33127:8220,33128:8221,33129:65288,33130:65289,33131:12308,33132:12309,33133:65339,33134:65341,33135:65371,33136:65373,33137:12296,33138:12297,33139:12298,33140:12299,33141:12300,33142:12301,33143:12302,33144:12303,33145:12304,33146:12305,33147:65291,33148:8722,33149:177,33150:215,33152:247,33153:65309,33154:8800,33155:65308,33156:65310,33157:8806,33158:8807,33159:8734,33160:8756,33161:9794,33162:9792,33163:176,33164:8242,33165:8243,33166:8451,33167:65509,33168:65284,33169:162,33170:163,33171:65285,33172:65283,33173:65286,33174:65290,33175:65312,33176:167,33177:9734,33178:9733,33179:9675,33180:9679,33181:9678,33182:9671,33183:9670,33184:9633,33185:9632,33186:9651,33187:9650,33188:9661,33189:9660,33190:8251,33191:12306,33192:8594,33193:8592,33194:8593,33195:8595,33196:12307,33208:8712,33209:8715,33210:8838,33211:8839,33212:8834,33213:8835,33214:8746,33215:8745,33224:8743,33225:8744,33226:172,33227:8658,33228:8660,33229:8704,33230:8707,33242:8736,33243:8869,33244:8978,33245:8706,33246:8711,33247:8801,33248:8786,33249:8810,33250:8811,33251:8730,33252:8765,33253:8733,33254:8757,33255:8747,33256:8748,33264:8491,33265:8240,33266:9839,33267:9837,33268:9834,33269:8224,33270:8225,33271:182,33276:9711,33359:65296,33360:65297,33361:65298,33362:65299,33363:65300,33364:65301,33365:65302,33366:65303,33367:65304,33368:65305,33376:65313,33377:65314,33378:65315,33379:65316,33380:65317,33381:65318,33382:65319,33383:65320,33384:65321,33385:65322,33386:65323,33387:65324,33388:65325,33389:65326,33390:65327,33391:65328,33392:65329,33393:65330,33394:65331,33395:65332,33396:65333,33397:65334,33398:65335,33399:65336,33400:65337,33401:65338,33409:65345,33410:65346,33411:65347,33412:65348,33413:65349,33414:65350,33415:65351,33416:65352,33417:65353,33418:65354,33419:65355,33420:65356,33421:65357,33422:65358,33423:65359,33424:65360,33425:65361,33426:65362,33427:65363,33428:65364,33429:65365,33430:65366,33431:65367,33432:65368,33433:65369,33434:65370,33439:12353,33440:12354,33441:12355,33442:12356,33443:12357,33444:12358,33445:12359,33446:12360,33447:12361,33448:12362,33449:12363,33450:12364,33451:12365,33452:12366,33453:12367,33454:12368,33455:12369,33456:12370,33457:12371,33458:12372,33459:12373,33460:12374,33461:12375,33462:12376,33463:12377,33464:12378,33465:12379,33466:12380,33467:12381,33468:12382,33469:12383,33470:12384,33471:12385,33472:12386,33473:12387,33474:12388,33475:12389,33476:12390,33477:12391,33478:12392,33479:12393,33480:12394,33481:12395,33482:12396,33483:12397,33484:12398,33485:12399,33486:12400,33487:12401,33488:12402,33489:12403,33490:12404,33491:12405,33492:12406,33493:12407,33494:12408,33495:12409,33496:12410,33497:12411,33498:12412,33499:12413,33500:12414,33501:12415,33502:12416,33503:12417,33504:12418,33505:12419,33506:12420,33507:12421,33508:12422,33509:12423,33510:12424,33511:12425,33512:12426,33513:12427,33514:12428,33515:12429,33516:12430,33517:12431,33518:12432,33519:12433,33520:12434,33521:12435,33600:12449,33601:12450,33602:12451,33603:12452,33604:12453,33605:12454,33606:12455,33607:12456,33608:12457,33609:12458,33610:12459,33611:12460,33612:12461,33613:12462,33614:12463,33615:12464,33616:12465,33617:12466,33618:12467,33619:12468,33620:12469,33621:12470,33622:12471,33623:12472,33624:12473,33625:12474,33626:12475,33627:12476,33628:12477,33629:12478,33630:12479,33631:12480,33632:12481,33633:12482,33634:12483,33635:12484,33636:12485,33637:12486,33638:12487,33639:12488,33640:12489,33641:12490,33642:12491,33643:12492,33644:12493,33645:12494,33646:12495,33647:12496,33648:12497,33649:12498,33650:12499,33651:12500,33652:12501,33653:12502,33654:12503,33655:12504,33656:12505,33657:12506,33658:12507,33659:12508,33660:12509,33661:12510,33662:12511,33664:12512,33665:12513,33666:12514,33667:12515,33668:12516,33669:12517,33670:12518,33671:12519,33672:12520,33673:12521,33674:12522,33675:12523,33676:12524,33677:12525,33678:12526,33679:12527,33680:12528,33681:12529,33682:12530,33683:12531,33684:12532,33685:12533,33686:12534,33695:913,33696:914,33697:915,33698:916,33699:917,33700:918,33701:919,33702:920,33703:921,33704:922,33705:923,33706:924,33707:925,33708:926,33709:927,33710:928,33711:929,33712:931,33713:932,33714:933,33715:934,33716:935,33717:936,33718:937,33727:945,33728:946,33729:947,33730:948,33731:949,33732:950,33733:951,33734:952,33735:953,33736:954,33737:955,33738:956,33739:957,33740:958,33741:959,33742:960,33743:961,33744:963,33745:964,33746:965,33747:966,33748:967,33749:968,33750:969,33856:1040,33857:1041,33858:1042,33859:1043,33860:1044,33861:1045,33862:1025,33863:1046,33864:1047,33865:1048,33866:1049,33867:1050,33868:1051,33869:1052,33870:1053,33871:1054,33872:1055,33873:1056,33874:1057,33875:1058,33876:1059,33877:1060,33878:1061,33879:1062,33880:1063,33881:1064,33882:1065,33883:1066,33884:1067,33885:1068,33886:1069,33887:1070,33888:1071,33904:1072,33905:1073,33906:1074,33907:1075,33908:1076,33909:1077,33910:1105,33911:1078,33912:1079,33913:1080,33914:1081,33915:1082,33916:1083,33917:1084,33918:1085,33920:1086,33921:1087,33922:1088,33923:1089,33924:1090,33925:1091,33926:1092,33927:1093,33928:1094,33929:1095,33930:1096,33931:1097,33932:1098,33933:1099,33934:1100,33935:1101,33936:1102,33937:1103,33951:9472,33952:9474,33953:9484,33954:9488,33955:9496,33956:9492,33957:9500,33958:9516,33959:9508,33960:9524,33961:9532,33962:9473,33963:9475,33964:9487,33965:9491,33966:9499,33967:9495,33968:9507,33969:9523,33970:9515,33971:9531,33972:9547,33973:9504,33974:9519,33975:9512,33976:9527,33977:9535,33978:9501,33979:9520,33980:9509,33981:9528,33982:9538,34975:20124,34976:21782,34977:23043,34978:38463,34979:21696,34980:24859,34981:25384,34982:23030,34983:36898,34984:33909,34985:33564,34986:31312,34987:24746,34988:25569,34989:28197,34990:26093,34991:33894,34992:33446,34993:39925,34994:26771,34995:22311,34996:26017,34997:25201,34998:23451,34999:22992,35e3:34427,35001:39156,35002:32098,35003:32190,35004:39822,35005:25110,35006:31903,35007:34999,35008:23433,35009:24245,35010:25353,35011:26263,35012:26696,35013:38343,35014:38797,35015:26447,35016:20197,35017:20234,35018:20301,35019:20381,35020:20553,35021:22258,35022:22839,35023:22996,35024:23041,35025:23561,35026:24799,35027:24847,35028:24944,35029:26131,35030:26885,35031:28858,35032:30031,35033:30064,35034:31227,35035:32173,35036:32239,35037:32963,35038:33806,35039:34915,35040:35586,35041:36949,35042:36986,35043:21307,35044:20117,35045:20133,35046:22495,35047:32946,35048:37057,35049:30959,35050:19968,35051:22769,35052:28322,35053:36920,35054:31282,35055:33576,35056:33419,35057:39983,35058:20801,35059:21360,35060:21693,35061:21729,35062:22240,35063:23035,35064:24341,35065:39154,35066:28139,35067:32996,35068:34093,35136:38498,35137:38512,35138:38560,35139:38907,35140:21515,35141:21491,35142:23431,35143:28879,35144:32701,35145:36802,35146:38632,35147:21359,35148:40284,35149:31418,35150:19985,35151:30867,35152:33276,35153:28198,35154:22040,35155:21764,35156:27421,35157:34074,35158:39995,35159:23013,35160:21417,35161:28006,35162:29916,35163:38287,35164:22082,35165:20113,35166:36939,35167:38642,35168:33615,35169:39180,35170:21473,35171:21942,35172:23344,35173:24433,35174:26144,35175:26355,35176:26628,35177:27704,35178:27891,35179:27945,35180:29787,35181:30408,35182:31310,35183:38964,35184:33521,35185:34907,35186:35424,35187:37613,35188:28082,35189:30123,35190:30410,35191:39365,35192:24742,35193:35585,35194:36234,35195:38322,35196:27022,35197:21421,35198:20870,35200:22290,35201:22576,35202:22852,35203:23476,35204:24310,35205:24616,35206:25513,35207:25588,35208:27839,35209:28436,35210:28814,35211:28948,35212:29017,35213:29141,35214:29503,35215:32257,35216:33398,35217:33489,35218:34199,35219:36960,35220:37467,35221:40219,35222:22633,35223:26044,35224:27738,35225:29989,35226:20985,35227:22830,35228:22885,35229:24448,35230:24540,35231:25276,35232:26106,35233:27178,35234:27431,35235:27572,35236:29579,35237:32705,35238:35158,35239:40236,35240:40206,35241:40644,35242:23713,35243:27798,35244:33659,35245:20740,35246:23627,35247:25014,35248:33222,35249:26742,35250:29281,35251:20057,35252:20474,35253:21368,35254:24681,35255:28201,35256:31311,35257:38899,35258:19979,35259:21270,35260:20206,35261:20309,35262:20285,35263:20385,35264:20339,35265:21152,35266:21487,35267:22025,35268:22799,35269:23233,35270:23478,35271:23521,35272:31185,35273:26247,35274:26524,35275:26550,35276:27468,35277:27827,35278:28779,35279:29634,35280:31117,35281:31166,35282:31292,35283:31623,35284:33457,35285:33499,35286:33540,35287:33655,35288:33775,35289:33747,35290:34662,35291:35506,35292:22057,35293:36008,35294:36838,35295:36942,35296:38686,35297:34442,35298:20420,35299:23784,35300:25105,35301:29273,35302:30011,35303:33253,35304:33469,35305:34558,35306:36032,35307:38597,35308:39187,35309:39381,35310:20171,35311:20250,35312:35299,35313:22238,35314:22602,35315:22730,35316:24315,35317:24555,35318:24618,35319:24724,35320:24674,35321:25040,35322:25106,35323:25296,35324:25913,35392:39745,35393:26214,35394:26800,35395:28023,35396:28784,35397:30028,35398:30342,35399:32117,35400:33445,35401:34809,35402:38283,35403:38542,35404:35997,35405:20977,35406:21182,35407:22806,35408:21683,35409:23475,35410:23830,35411:24936,35412:27010,35413:28079,35414:30861,35415:33995,35416:34903,35417:35442,35418:37799,35419:39608,35420:28012,35421:39336,35422:34521,35423:22435,35424:26623,35425:34510,35426:37390,35427:21123,35428:22151,35429:21508,35430:24275,35431:25313,35432:25785,35433:26684,35434:26680,35435:27579,35436:29554,35437:30906,35438:31339,35439:35226,35440:35282,35441:36203,35442:36611,35443:37101,35444:38307,35445:38548,35446:38761,35447:23398,35448:23731,35449:27005,35450:38989,35451:38990,35452:25499,35453:31520,35454:27179,35456:27263,35457:26806,35458:39949,35459:28511,35460:21106,35461:21917,35462:24688,35463:25324,35464:27963,35465:28167,35466:28369,35467:33883,35468:35088,35469:36676,35470:19988,35471:39993,35472:21494,35473:26907,35474:27194,35475:38788,35476:26666,35477:20828,35478:31427,35479:33970,35480:37340,35481:37772,35482:22107,35483:40232,35484:26658,35485:33541,35486:33841,35487:31909,35488:21e3,35489:33477,35490:29926,35491:20094,35492:20355,35493:20896,35494:23506,35495:21002,35496:21208,35497:21223,35498:24059,35499:21914,35500:22570,35501:23014,35502:23436,35503:23448,35504:23515,35505:24178,35506:24185,35507:24739,35508:24863,35509:24931,35510:25022,35511:25563,35512:25954,35513:26577,35514:26707,35515:26874,35516:27454,35517:27475,35518:27735,35519:28450,35520:28567,35521:28485,35522:29872,35523:29976,35524:30435,35525:30475,35526:31487,35527:31649,35528:31777,35529:32233,35530:32566,35531:32752,35532:32925,35533:33382,35534:33694,35535:35251,35536:35532,35537:36011,35538:36996,35539:37969,35540:38291,35541:38289,35542:38306,35543:38501,35544:38867,35545:39208,35546:33304,35547:20024,35548:21547,35549:23736,35550:24012,35551:29609,35552:30284,35553:30524,35554:23721,35555:32747,35556:36107,35557:38593,35558:38929,35559:38996,35560:39e3,35561:20225,35562:20238,35563:21361,35564:21916,35565:22120,35566:22522,35567:22855,35568:23305,35569:23492,35570:23696,35571:24076,35572:24190,35573:24524,35574:25582,35575:26426,35576:26071,35577:26082,35578:26399,35579:26827,35580:26820,35648:27231,35649:24112,35650:27589,35651:27671,35652:27773,35653:30079,35654:31048,35655:23395,35656:31232,35657:32e3,35658:24509,35659:35215,35660:35352,35661:36020,35662:36215,35663:36556,35664:36637,35665:39138,35666:39438,35667:39740,35668:20096,35669:20605,35670:20736,35671:22931,35672:23452,35673:25135,35674:25216,35675:25836,35676:27450,35677:29344,35678:30097,35679:31047,35680:32681,35681:34811,35682:35516,35683:35696,35684:25516,35685:33738,35686:38816,35687:21513,35688:21507,35689:21931,35690:26708,35691:27224,35692:35440,35693:30759,35694:26485,35695:40653,35696:21364,35697:23458,35698:33050,35699:34384,35700:36870,35701:19992,35702:20037,35703:20167,35704:20241,35705:21450,35706:21560,35707:23470,35708:24339,35709:24613,35710:25937,35712:26429,35713:27714,35714:27762,35715:27875,35716:28792,35717:29699,35718:31350,35719:31406,35720:31496,35721:32026,35722:31998,35723:32102,35724:26087,35725:29275,35726:21435,35727:23621,35728:24040,35729:25298,35730:25312,35731:25369,35732:28192,35733:34394,35734:35377,35735:36317,35736:37624,35737:28417,35738:31142,35739:39770,35740:20136,35741:20139,35742:20140,35743:20379,35744:20384,35745:20689,35746:20807,35747:31478,35748:20849,35749:20982,35750:21332,35751:21281,35752:21375,35753:21483,35754:21932,35755:22659,35756:23777,35757:24375,35758:24394,35759:24623,35760:24656,35761:24685,35762:25375,35763:25945,35764:27211,35765:27841,35766:29378,35767:29421,35768:30703,35769:33016,35770:33029,35771:33288,35772:34126,35773:37111,35774:37857,35775:38911,35776:39255,35777:39514,35778:20208,35779:20957,35780:23597,35781:26241,35782:26989,35783:23616,35784:26354,35785:26997,35786:29577,35787:26704,35788:31873,35789:20677,35790:21220,35791:22343,35792:24062,35793:37670,35794:26020,35795:27427,35796:27453,35797:29748,35798:31105,35799:31165,35800:31563,35801:32202,35802:33465,35803:33740,35804:34943,35805:35167,35806:35641,35807:36817,35808:37329,35809:21535,35810:37504,35811:20061,35812:20534,35813:21477,35814:21306,35815:29399,35816:29590,35817:30697,35818:33510,35819:36527,35820:39366,35821:39368,35822:39378,35823:20855,35824:24858,35825:34398,35826:21936,35827:31354,35828:20598,35829:23507,35830:36935,35831:38533,35832:20018,35833:27355,35834:37351,35835:23633,35836:23624,35904:25496,35905:31391,35906:27795,35907:38772,35908:36705,35909:31402,35910:29066,35911:38536,35912:31874,35913:26647,35914:32368,35915:26705,35916:37740,35917:21234,35918:21531,35919:34219,35920:35347,35921:32676,35922:36557,35923:37089,35924:21350,35925:34952,35926:31041,35927:20418,35928:20670,35929:21009,35930:20804,35931:21843,35932:22317,35933:29674,35934:22411,35935:22865,35936:24418,35937:24452,35938:24693,35939:24950,35940:24935,35941:25001,35942:25522,35943:25658,35944:25964,35945:26223,35946:26690,35947:28179,35948:30054,35949:31293,35950:31995,35951:32076,35952:32153,35953:32331,35954:32619,35955:33550,35956:33610,35957:34509,35958:35336,35959:35427,35960:35686,35961:36605,35962:38938,35963:40335,35964:33464,35965:36814,35966:39912,35968:21127,35969:25119,35970:25731,35971:28608,35972:38553,35973:26689,35974:20625,35975:27424,35976:27770,35977:28500,35978:31348,35979:32080,35980:34880,35981:35363,35982:26376,35983:20214,35984:20537,35985:20518,35986:20581,35987:20860,35988:21048,35989:21091,35990:21927,35991:22287,35992:22533,35993:23244,35994:24314,35995:25010,35996:25080,35997:25331,35998:25458,35999:26908,36e3:27177,36001:29309,36002:29356,36003:29486,36004:30740,36005:30831,36006:32121,36007:30476,36008:32937,36009:35211,36010:35609,36011:36066,36012:36562,36013:36963,36014:37749,36015:38522,36016:38997,36017:39443,36018:40568,36019:20803,36020:21407,36021:21427,36022:24187,36023:24358,36024:28187,36025:28304,36026:29572,36027:29694,36028:32067,36029:33335,36030:35328,36031:35578,36032:38480,36033:20046,36034:20491,36035:21476,36036:21628,36037:22266,36038:22993,36039:23396,36040:24049,36041:24235,36042:24359,36043:25144,36044:25925,36045:26543,36046:28246,36047:29392,36048:31946,36049:34996,36050:32929,36051:32993,36052:33776,36053:34382,36054:35463,36055:36328,36056:37431,36057:38599,36058:39015,36059:40723,36060:20116,36061:20114,36062:20237,36063:21320,36064:21577,36065:21566,36066:23087,36067:24460,36068:24481,36069:24735,36070:26791,36071:27278,36072:29786,36073:30849,36074:35486,36075:35492,36076:35703,36077:37264,36078:20062,36079:39881,36080:20132,36081:20348,36082:20399,36083:20505,36084:20502,36085:20809,36086:20844,36087:21151,36088:21177,36089:21246,36090:21402,36091:21475,36092:21521,36160:21518,36161:21897,36162:22353,36163:22434,36164:22909,36165:23380,36166:23389,36167:23439,36168:24037,36169:24039,36170:24055,36171:24184,36172:24195,36173:24218,36174:24247,36175:24344,36176:24658,36177:24908,36178:25239,36179:25304,36180:25511,36181:25915,36182:26114,36183:26179,36184:26356,36185:26477,36186:26657,36187:26775,36188:27083,36189:27743,36190:27946,36191:28009,36192:28207,36193:28317,36194:30002,36195:30343,36196:30828,36197:31295,36198:31968,36199:32005,36200:32024,36201:32094,36202:32177,36203:32789,36204:32771,36205:32943,36206:32945,36207:33108,36208:33167,36209:33322,36210:33618,36211:34892,36212:34913,36213:35611,36214:36002,36215:36092,36216:37066,36217:37237,36218:37489,36219:30783,36220:37628,36221:38308,36222:38477,36224:38917,36225:39321,36226:39640,36227:40251,36228:21083,36229:21163,36230:21495,36231:21512,36232:22741,36233:25335,36234:28640,36235:35946,36236:36703,36237:40633,36238:20811,36239:21051,36240:21578,36241:22269,36242:31296,36243:37239,36244:40288,36245:40658,36246:29508,36247:28425,36248:33136,36249:29969,36250:24573,36251:24794,36252:39592,36253:29403,36254:36796,36255:27492,36256:38915,36257:20170,36258:22256,36259:22372,36260:22718,36261:23130,36262:24680,36263:25031,36264:26127,36265:26118,36266:26681,36267:26801,36268:28151,36269:30165,36270:32058,36271:33390,36272:39746,36273:20123,36274:20304,36275:21449,36276:21766,36277:23919,36278:24038,36279:24046,36280:26619,36281:27801,36282:29811,36283:30722,36284:35408,36285:37782,36286:35039,36287:22352,36288:24231,36289:25387,36290:20661,36291:20652,36292:20877,36293:26368,36294:21705,36295:22622,36296:22971,36297:23472,36298:24425,36299:25165,36300:25505,36301:26685,36302:27507,36303:28168,36304:28797,36305:37319,36306:29312,36307:30741,36308:30758,36309:31085,36310:25998,36311:32048,36312:33756,36313:35009,36314:36617,36315:38555,36316:21092,36317:22312,36318:26448,36319:32618,36320:36001,36321:20916,36322:22338,36323:38442,36324:22586,36325:27018,36326:32948,36327:21682,36328:23822,36329:22524,36330:30869,36331:40442,36332:20316,36333:21066,36334:21643,36335:25662,36336:26152,36337:26388,36338:26613,36339:31364,36340:31574,36341:32034,36342:37679,36343:26716,36344:39853,36345:31545,36346:21273,36347:20874,36348:21047,36416:23519,36417:25334,36418:25774,36419:25830,36420:26413,36421:27578,36422:34217,36423:38609,36424:30352,36425:39894,36426:25420,36427:37638,36428:39851,36429:30399,36430:26194,36431:19977,36432:20632,36433:21442,36434:23665,36435:24808,36436:25746,36437:25955,36438:26719,36439:29158,36440:29642,36441:29987,36442:31639,36443:32386,36444:34453,36445:35715,36446:36059,36447:37240,36448:39184,36449:26028,36450:26283,36451:27531,36452:20181,36453:20180,36454:20282,36455:20351,36456:21050,36457:21496,36458:21490,36459:21987,36460:22235,36461:22763,36462:22987,36463:22985,36464:23039,36465:23376,36466:23629,36467:24066,36468:24107,36469:24535,36470:24605,36471:25351,36472:25903,36473:23388,36474:26031,36475:26045,36476:26088,36477:26525,36478:27490,36480:27515,36481:27663,36482:29509,36483:31049,36484:31169,36485:31992,36486:32025,36487:32043,36488:32930,36489:33026,36490:33267,36491:35222,36492:35422,36493:35433,36494:35430,36495:35468,36496:35566,36497:36039,36498:36060,36499:38604,36500:39164,36501:27503,36502:20107,36503:20284,36504:20365,36505:20816,36506:23383,36507:23546,36508:24904,36509:25345,36510:26178,36511:27425,36512:28363,36513:27835,36514:29246,36515:29885,36516:30164,36517:30913,36518:31034,36519:32780,36520:32819,36521:33258,36522:33940,36523:36766,36524:27728,36525:40575,36526:24335,36527:35672,36528:40235,36529:31482,36530:36600,36531:23437,36532:38635,36533:19971,36534:21489,36535:22519,36536:22833,36537:23241,36538:23460,36539:24713,36540:28287,36541:28422,36542:30142,36543:36074,36544:23455,36545:34048,36546:31712,36547:20594,36548:26612,36549:33437,36550:23649,36551:34122,36552:32286,36553:33294,36554:20889,36555:23556,36556:25448,36557:36198,36558:26012,36559:29038,36560:31038,36561:32023,36562:32773,36563:35613,36564:36554,36565:36974,36566:34503,36567:37034,36568:20511,36569:21242,36570:23610,36571:26451,36572:28796,36573:29237,36574:37196,36575:37320,36576:37675,36577:33509,36578:23490,36579:24369,36580:24825,36581:20027,36582:21462,36583:23432,36584:25163,36585:26417,36586:27530,36587:29417,36588:29664,36589:31278,36590:33131,36591:36259,36592:37202,36593:39318,36594:20754,36595:21463,36596:21610,36597:23551,36598:25480,36599:27193,36600:32172,36601:38656,36602:22234,36603:21454,36604:21608,36672:23447,36673:23601,36674:24030,36675:20462,36676:24833,36677:25342,36678:27954,36679:31168,36680:31179,36681:32066,36682:32333,36683:32722,36684:33261,36685:33311,36686:33936,36687:34886,36688:35186,36689:35728,36690:36468,36691:36655,36692:36913,36693:37195,36694:37228,36695:38598,36696:37276,36697:20160,36698:20303,36699:20805,36700:21313,36701:24467,36702:25102,36703:26580,36704:27713,36705:28171,36706:29539,36707:32294,36708:37325,36709:37507,36710:21460,36711:22809,36712:23487,36713:28113,36714:31069,36715:32302,36716:31899,36717:22654,36718:29087,36719:20986,36720:34899,36721:36848,36722:20426,36723:23803,36724:26149,36725:30636,36726:31459,36727:33308,36728:39423,36729:20934,36730:24490,36731:26092,36732:26991,36733:27529,36734:28147,36736:28310,36737:28516,36738:30462,36739:32020,36740:24033,36741:36981,36742:37255,36743:38918,36744:20966,36745:21021,36746:25152,36747:26257,36748:26329,36749:28186,36750:24246,36751:32210,36752:32626,36753:26360,36754:34223,36755:34295,36756:35576,36757:21161,36758:21465,36759:22899,36760:24207,36761:24464,36762:24661,36763:37604,36764:38500,36765:20663,36766:20767,36767:21213,36768:21280,36769:21319,36770:21484,36771:21736,36772:21830,36773:21809,36774:22039,36775:22888,36776:22974,36777:23100,36778:23477,36779:23558,36780:23567,36781:23569,36782:23578,36783:24196,36784:24202,36785:24288,36786:24432,36787:25215,36788:25220,36789:25307,36790:25484,36791:25463,36792:26119,36793:26124,36794:26157,36795:26230,36796:26494,36797:26786,36798:27167,36799:27189,36800:27836,36801:28040,36802:28169,36803:28248,36804:28988,36805:28966,36806:29031,36807:30151,36808:30465,36809:30813,36810:30977,36811:31077,36812:31216,36813:31456,36814:31505,36815:31911,36816:32057,36817:32918,36818:33750,36819:33931,36820:34121,36821:34909,36822:35059,36823:35359,36824:35388,36825:35412,36826:35443,36827:35937,36828:36062,36829:37284,36830:37478,36831:37758,36832:37912,36833:38556,36834:38808,36835:19978,36836:19976,36837:19998,36838:20055,36839:20887,36840:21104,36841:22478,36842:22580,36843:22732,36844:23330,36845:24120,36846:24773,36847:25854,36848:26465,36849:26454,36850:27972,36851:29366,36852:30067,36853:31331,36854:33976,36855:35698,36856:37304,36857:37664,36858:22065,36859:22516,36860:39166,36928:25325,36929:26893,36930:27542,36931:29165,36932:32340,36933:32887,36934:33394,36935:35302,36936:39135,36937:34645,36938:36785,36939:23611,36940:20280,36941:20449,36942:20405,36943:21767,36944:23072,36945:23517,36946:23529,36947:24515,36948:24910,36949:25391,36950:26032,36951:26187,36952:26862,36953:27035,36954:28024,36955:28145,36956:30003,36957:30137,36958:30495,36959:31070,36960:31206,36961:32051,36962:33251,36963:33455,36964:34218,36965:35242,36966:35386,36967:36523,36968:36763,36969:36914,36970:37341,36971:38663,36972:20154,36973:20161,36974:20995,36975:22645,36976:22764,36977:23563,36978:29978,36979:23613,36980:33102,36981:35338,36982:36805,36983:38499,36984:38765,36985:31525,36986:35535,36987:38920,36988:37218,36989:22259,36990:21416,36992:36887,36993:21561,36994:22402,36995:24101,36996:25512,36997:27700,36998:28810,36999:30561,37e3:31883,37001:32736,37002:34928,37003:36930,37004:37204,37005:37648,37006:37656,37007:38543,37008:29790,37009:39620,37010:23815,37011:23913,37012:25968,37013:26530,37014:36264,37015:38619,37016:25454,37017:26441,37018:26905,37019:33733,37020:38935,37021:38592,37022:35070,37023:28548,37024:25722,37025:23544,37026:19990,37027:28716,37028:30045,37029:26159,37030:20932,37031:21046,37032:21218,37033:22995,37034:24449,37035:24615,37036:25104,37037:25919,37038:25972,37039:26143,37040:26228,37041:26866,37042:26646,37043:27491,37044:28165,37045:29298,37046:29983,37047:30427,37048:31934,37049:32854,37050:22768,37051:35069,37052:35199,37053:35488,37054:35475,37055:35531,37056:36893,37057:37266,37058:38738,37059:38745,37060:25993,37061:31246,37062:33030,37063:38587,37064:24109,37065:24796,37066:25114,37067:26021,37068:26132,37069:26512,37070:30707,37071:31309,37072:31821,37073:32318,37074:33034,37075:36012,37076:36196,37077:36321,37078:36447,37079:30889,37080:20999,37081:25305,37082:25509,37083:25666,37084:25240,37085:35373,37086:31363,37087:31680,37088:35500,37089:38634,37090:32118,37091:33292,37092:34633,37093:20185,37094:20808,37095:21315,37096:21344,37097:23459,37098:23554,37099:23574,37100:24029,37101:25126,37102:25159,37103:25776,37104:26643,37105:26676,37106:27849,37107:27973,37108:27927,37109:26579,37110:28508,37111:29006,37112:29053,37113:26059,37114:31359,37115:31661,37116:32218,37184:32330,37185:32680,37186:33146,37187:33307,37188:33337,37189:34214,37190:35438,37191:36046,37192:36341,37193:36984,37194:36983,37195:37549,37196:37521,37197:38275,37198:39854,37199:21069,37200:21892,37201:28472,37202:28982,37203:20840,37204:31109,37205:32341,37206:33203,37207:31950,37208:22092,37209:22609,37210:23720,37211:25514,37212:26366,37213:26365,37214:26970,37215:29401,37216:30095,37217:30094,37218:30990,37219:31062,37220:31199,37221:31895,37222:32032,37223:32068,37224:34311,37225:35380,37226:38459,37227:36961,37228:40736,37229:20711,37230:21109,37231:21452,37232:21474,37233:20489,37234:21930,37235:22766,37236:22863,37237:29245,37238:23435,37239:23652,37240:21277,37241:24803,37242:24819,37243:25436,37244:25475,37245:25407,37246:25531,37248:25805,37249:26089,37250:26361,37251:24035,37252:27085,37253:27133,37254:28437,37255:29157,37256:20105,37257:30185,37258:30456,37259:31379,37260:31967,37261:32207,37262:32156,37263:32865,37264:33609,37265:33624,37266:33900,37267:33980,37268:34299,37269:35013,37270:36208,37271:36865,37272:36973,37273:37783,37274:38684,37275:39442,37276:20687,37277:22679,37278:24974,37279:33235,37280:34101,37281:36104,37282:36896,37283:20419,37284:20596,37285:21063,37286:21363,37287:24687,37288:25417,37289:26463,37290:28204,37291:36275,37292:36895,37293:20439,37294:23646,37295:36042,37296:26063,37297:32154,37298:21330,37299:34966,37300:20854,37301:25539,37302:23384,37303:23403,37304:23562,37305:25613,37306:26449,37307:36956,37308:20182,37309:22810,37310:22826,37311:27760,37312:35409,37313:21822,37314:22549,37315:22949,37316:24816,37317:25171,37318:26561,37319:33333,37320:26965,37321:38464,37322:39364,37323:39464,37324:20307,37325:22534,37326:23550,37327:32784,37328:23729,37329:24111,37330:24453,37331:24608,37332:24907,37333:25140,37334:26367,37335:27888,37336:28382,37337:32974,37338:33151,37339:33492,37340:34955,37341:36024,37342:36864,37343:36910,37344:38538,37345:40667,37346:39899,37347:20195,37348:21488,37349:22823,37350:31532,37351:37261,37352:38988,37353:40441,37354:28381,37355:28711,37356:21331,37357:21828,37358:23429,37359:25176,37360:25246,37361:25299,37362:27810,37363:28655,37364:29730,37365:35351,37366:37944,37367:28609,37368:35582,37369:33592,37370:20967,37371:34552,37372:21482,37440:21481,37441:20294,37442:36948,37443:36784,37444:22890,37445:33073,37446:24061,37447:31466,37448:36799,37449:26842,37450:35895,37451:29432,37452:40008,37453:27197,37454:35504,37455:20025,37456:21336,37457:22022,37458:22374,37459:25285,37460:25506,37461:26086,37462:27470,37463:28129,37464:28251,37465:28845,37466:30701,37467:31471,37468:31658,37469:32187,37470:32829,37471:32966,37472:34507,37473:35477,37474:37723,37475:22243,37476:22727,37477:24382,37478:26029,37479:26262,37480:27264,37481:27573,37482:30007,37483:35527,37484:20516,37485:30693,37486:22320,37487:24347,37488:24677,37489:26234,37490:27744,37491:30196,37492:31258,37493:32622,37494:33268,37495:34584,37496:36933,37497:39347,37498:31689,37499:30044,37500:31481,37501:31569,37502:33988,37504:36880,37505:31209,37506:31378,37507:33590,37508:23265,37509:30528,37510:20013,37511:20210,37512:23449,37513:24544,37514:25277,37515:26172,37516:26609,37517:27880,37518:34411,37519:34935,37520:35387,37521:37198,37522:37619,37523:39376,37524:27159,37525:28710,37526:29482,37527:33511,37528:33879,37529:36015,37530:19969,37531:20806,37532:20939,37533:21899,37534:23541,37535:24086,37536:24115,37537:24193,37538:24340,37539:24373,37540:24427,37541:24500,37542:25074,37543:25361,37544:26274,37545:26397,37546:28526,37547:29266,37548:30010,37549:30522,37550:32884,37551:33081,37552:33144,37553:34678,37554:35519,37555:35548,37556:36229,37557:36339,37558:37530,37559:38263,37560:38914,37561:40165,37562:21189,37563:25431,37564:30452,37565:26389,37566:27784,37567:29645,37568:36035,37569:37806,37570:38515,37571:27941,37572:22684,37573:26894,37574:27084,37575:36861,37576:37786,37577:30171,37578:36890,37579:22618,37580:26626,37581:25524,37582:27131,37583:20291,37584:28460,37585:26584,37586:36795,37587:34086,37588:32180,37589:37716,37590:26943,37591:28528,37592:22378,37593:22775,37594:23340,37595:32044,37596:29226,37597:21514,37598:37347,37599:40372,37600:20141,37601:20302,37602:20572,37603:20597,37604:21059,37605:35998,37606:21576,37607:22564,37608:23450,37609:24093,37610:24213,37611:24237,37612:24311,37613:24351,37614:24716,37615:25269,37616:25402,37617:25552,37618:26799,37619:27712,37620:30855,37621:31118,37622:31243,37623:32224,37624:33351,37625:35330,37626:35558,37627:36420,37628:36883,37696:37048,37697:37165,37698:37336,37699:40718,37700:27877,37701:25688,37702:25826,37703:25973,37704:28404,37705:30340,37706:31515,37707:36969,37708:37841,37709:28346,37710:21746,37711:24505,37712:25764,37713:36685,37714:36845,37715:37444,37716:20856,37717:22635,37718:22825,37719:23637,37720:24215,37721:28155,37722:32399,37723:29980,37724:36028,37725:36578,37726:39003,37727:28857,37728:20253,37729:27583,37730:28593,37731:3e4,37732:38651,37733:20814,37734:21520,37735:22581,37736:22615,37737:22956,37738:23648,37739:24466,37740:26007,37741:26460,37742:28193,37743:30331,37744:33759,37745:36077,37746:36884,37747:37117,37748:37709,37749:30757,37750:30778,37751:21162,37752:24230,37753:22303,37754:22900,37755:24594,37756:20498,37757:20826,37758:20908,37760:20941,37761:20992,37762:21776,37763:22612,37764:22616,37765:22871,37766:23445,37767:23798,37768:23947,37769:24764,37770:25237,37771:25645,37772:26481,37773:26691,37774:26812,37775:26847,37776:30423,37777:28120,37778:28271,37779:28059,37780:28783,37781:29128,37782:24403,37783:30168,37784:31095,37785:31561,37786:31572,37787:31570,37788:31958,37789:32113,37790:21040,37791:33891,37792:34153,37793:34276,37794:35342,37795:35588,37796:35910,37797:36367,37798:36867,37799:36879,37800:37913,37801:38518,37802:38957,37803:39472,37804:38360,37805:20685,37806:21205,37807:21516,37808:22530,37809:23566,37810:24999,37811:25758,37812:27934,37813:30643,37814:31461,37815:33012,37816:33796,37817:36947,37818:37509,37819:23776,37820:40199,37821:21311,37822:24471,37823:24499,37824:28060,37825:29305,37826:30563,37827:31167,37828:31716,37829:27602,37830:29420,37831:35501,37832:26627,37833:27233,37834:20984,37835:31361,37836:26932,37837:23626,37838:40182,37839:33515,37840:23493,37841:37193,37842:28702,37843:22136,37844:23663,37845:24775,37846:25958,37847:27788,37848:35930,37849:36929,37850:38931,37851:21585,37852:26311,37853:37389,37854:22856,37855:37027,37856:20869,37857:20045,37858:20970,37859:34201,37860:35598,37861:28760,37862:25466,37863:37707,37864:26978,37865:39348,37866:32260,37867:30071,37868:21335,37869:26976,37870:36575,37871:38627,37872:27741,37873:20108,37874:23612,37875:24336,37876:36841,37877:21250,37878:36049,37879:32905,37880:34425,37881:24319,37882:26085,37883:20083,37884:20837,37952:22914,37953:23615,37954:38894,37955:20219,37956:22922,37957:24525,37958:35469,37959:28641,37960:31152,37961:31074,37962:23527,37963:33905,37964:29483,37965:29105,37966:24180,37967:24565,37968:25467,37969:25754,37970:29123,37971:31896,37972:20035,37973:24316,37974:20043,37975:22492,37976:22178,37977:24745,37978:28611,37979:32013,37980:33021,37981:33075,37982:33215,37983:36786,37984:35223,37985:34468,37986:24052,37987:25226,37988:25773,37989:35207,37990:26487,37991:27874,37992:27966,37993:29750,37994:30772,37995:23110,37996:32629,37997:33453,37998:39340,37999:20467,38e3:24259,38001:25309,38002:25490,38003:25943,38004:26479,38005:30403,38006:29260,38007:32972,38008:32954,38009:36649,38010:37197,38011:20493,38012:22521,38013:23186,38014:26757,38016:26995,38017:29028,38018:29437,38019:36023,38020:22770,38021:36064,38022:38506,38023:36889,38024:34687,38025:31204,38026:30695,38027:33833,38028:20271,38029:21093,38030:21338,38031:25293,38032:26575,38033:27850,38034:30333,38035:31636,38036:31893,38037:33334,38038:34180,38039:36843,38040:26333,38041:28448,38042:29190,38043:32283,38044:33707,38045:39361,38046:40614,38047:20989,38048:31665,38049:30834,38050:31672,38051:32903,38052:31560,38053:27368,38054:24161,38055:32908,38056:30033,38057:30048,38058:20843,38059:37474,38060:28300,38061:30330,38062:37271,38063:39658,38064:20240,38065:32624,38066:25244,38067:31567,38068:38309,38069:40169,38070:22138,38071:22617,38072:34532,38073:38588,38074:20276,38075:21028,38076:21322,38077:21453,38078:21467,38079:24070,38080:25644,38081:26001,38082:26495,38083:27710,38084:27726,38085:29256,38086:29359,38087:29677,38088:30036,38089:32321,38090:33324,38091:34281,38092:36009,38093:31684,38094:37318,38095:29033,38096:38930,38097:39151,38098:25405,38099:26217,38100:30058,38101:30436,38102:30928,38103:34115,38104:34542,38105:21290,38106:21329,38107:21542,38108:22915,38109:24199,38110:24444,38111:24754,38112:25161,38113:25209,38114:25259,38115:26e3,38116:27604,38117:27852,38118:30130,38119:30382,38120:30865,38121:31192,38122:32203,38123:32631,38124:32933,38125:34987,38126:35513,38127:36027,38128:36991,38129:38750,38130:39131,38131:27147,38132:31800,38133:20633,38134:23614,38135:24494,38136:26503,38137:27608,38138:29749,38139:30473,38140:32654,38208:40763,38209:26570,38210:31255,38211:21305,38212:30091,38213:39661,38214:24422,38215:33181,38216:33777,38217:32920,38218:24380,38219:24517,38220:30050,38221:31558,38222:36924,38223:26727,38224:23019,38225:23195,38226:32016,38227:30334,38228:35628,38229:20469,38230:24426,38231:27161,38232:27703,38233:28418,38234:29922,38235:31080,38236:34920,38237:35413,38238:35961,38239:24287,38240:25551,38241:30149,38242:31186,38243:33495,38244:37672,38245:37618,38246:33948,38247:34541,38248:39981,38249:21697,38250:24428,38251:25996,38252:27996,38253:28693,38254:36007,38255:36051,38256:38971,38257:25935,38258:29942,38259:19981,38260:20184,38261:22496,38262:22827,38263:23142,38264:23500,38265:20904,38266:24067,38267:24220,38268:24598,38269:25206,38270:25975,38272:26023,38273:26222,38274:28014,38275:29238,38276:31526,38277:33104,38278:33178,38279:33433,38280:35676,38281:36e3,38282:36070,38283:36212,38284:38428,38285:38468,38286:20398,38287:25771,38288:27494,38289:33310,38290:33889,38291:34154,38292:37096,38293:23553,38294:26963,38295:39080,38296:33914,38297:34135,38298:20239,38299:21103,38300:24489,38301:24133,38302:26381,38303:31119,38304:33145,38305:35079,38306:35206,38307:28149,38308:24343,38309:25173,38310:27832,38311:20175,38312:29289,38313:39826,38314:20998,38315:21563,38316:22132,38317:22707,38318:24996,38319:25198,38320:28954,38321:22894,38322:31881,38323:31966,38324:32027,38325:38640,38326:25991,38327:32862,38328:19993,38329:20341,38330:20853,38331:22592,38332:24163,38333:24179,38334:24330,38335:26564,38336:20006,38337:34109,38338:38281,38339:38491,38340:31859,38341:38913,38342:20731,38343:22721,38344:30294,38345:30887,38346:21029,38347:30629,38348:34065,38349:31622,38350:20559,38351:22793,38352:29255,38353:31687,38354:32232,38355:36794,38356:36820,38357:36941,38358:20415,38359:21193,38360:23081,38361:24321,38362:38829,38363:20445,38364:33303,38365:37610,38366:22275,38367:25429,38368:27497,38369:29995,38370:35036,38371:36628,38372:31298,38373:21215,38374:22675,38375:24917,38376:25098,38377:26286,38378:27597,38379:31807,38380:33769,38381:20515,38382:20472,38383:21253,38384:21574,38385:22577,38386:22857,38387:23453,38388:23792,38389:23791,38390:23849,38391:24214,38392:25265,38393:25447,38394:25918,38395:26041,38396:26379,38464:27861,38465:27873,38466:28921,38467:30770,38468:32299,38469:32990,38470:33459,38471:33804,38472:34028,38473:34562,38474:35090,38475:35370,38476:35914,38477:37030,38478:37586,38479:39165,38480:40179,38481:40300,38482:20047,38483:20129,38484:20621,38485:21078,38486:22346,38487:22952,38488:24125,38489:24536,38490:24537,38491:25151,38492:26292,38493:26395,38494:26576,38495:26834,38496:20882,38497:32033,38498:32938,38499:33192,38500:35584,38501:35980,38502:36031,38503:37502,38504:38450,38505:21536,38506:38956,38507:21271,38508:20693,38509:21340,38510:22696,38511:25778,38512:26420,38513:29287,38514:30566,38515:31302,38516:37350,38517:21187,38518:27809,38519:27526,38520:22528,38521:24140,38522:22868,38523:26412,38524:32763,38525:20961,38526:30406,38528:25705,38529:30952,38530:39764,38531:40635,38532:22475,38533:22969,38534:26151,38535:26522,38536:27598,38537:21737,38538:27097,38539:24149,38540:33180,38541:26517,38542:39850,38543:26622,38544:40018,38545:26717,38546:20134,38547:20451,38548:21448,38549:25273,38550:26411,38551:27819,38552:36804,38553:20397,38554:32365,38555:40639,38556:19975,38557:24930,38558:28288,38559:28459,38560:34067,38561:21619,38562:26410,38563:39749,38564:24051,38565:31637,38566:23724,38567:23494,38568:34588,38569:28234,38570:34001,38571:31252,38572:33032,38573:22937,38574:31885,38575:27665,38576:30496,38577:21209,38578:22818,38579:28961,38580:29279,38581:30683,38582:38695,38583:40289,38584:26891,38585:23167,38586:23064,38587:20901,38588:21517,38589:21629,38590:26126,38591:30431,38592:36855,38593:37528,38594:40180,38595:23018,38596:29277,38597:28357,38598:20813,38599:26825,38600:32191,38601:32236,38602:38754,38603:40634,38604:25720,38605:27169,38606:33538,38607:22916,38608:23391,38609:27611,38610:29467,38611:30450,38612:32178,38613:32791,38614:33945,38615:20786,38616:26408,38617:40665,38618:30446,38619:26466,38620:21247,38621:39173,38622:23588,38623:25147,38624:31870,38625:36016,38626:21839,38627:24758,38628:32011,38629:38272,38630:21249,38631:20063,38632:20918,38633:22812,38634:29242,38635:32822,38636:37326,38637:24357,38638:30690,38639:21380,38640:24441,38641:32004,38642:34220,38643:35379,38644:36493,38645:38742,38646:26611,38647:34222,38648:37971,38649:24841,38650:24840,38651:27833,38652:30290,38720:35565,38721:36664,38722:21807,38723:20305,38724:20778,38725:21191,38726:21451,38727:23461,38728:24189,38729:24736,38730:24962,38731:25558,38732:26377,38733:26586,38734:28263,38735:28044,38736:29494,38737:29495,38738:30001,38739:31056,38740:35029,38741:35480,38742:36938,38743:37009,38744:37109,38745:38596,38746:34701,38747:22805,38748:20104,38749:20313,38750:19982,38751:35465,38752:36671,38753:38928,38754:20653,38755:24188,38756:22934,38757:23481,38758:24248,38759:25562,38760:25594,38761:25793,38762:26332,38763:26954,38764:27096,38765:27915,38766:28342,38767:29076,38768:29992,38769:31407,38770:32650,38771:32768,38772:33865,38773:33993,38774:35201,38775:35617,38776:36362,38777:36965,38778:38525,38779:39178,38780:24958,38781:25233,38782:27442,38784:27779,38785:28020,38786:32716,38787:32764,38788:28096,38789:32645,38790:34746,38791:35064,38792:26469,38793:33713,38794:38972,38795:38647,38796:27931,38797:32097,38798:33853,38799:37226,38800:20081,38801:21365,38802:23888,38803:27396,38804:28651,38805:34253,38806:34349,38807:35239,38808:21033,38809:21519,38810:23653,38811:26446,38812:26792,38813:29702,38814:29827,38815:30178,38816:35023,38817:35041,38818:37324,38819:38626,38820:38520,38821:24459,38822:29575,38823:31435,38824:33870,38825:25504,38826:30053,38827:21129,38828:27969,38829:28316,38830:29705,38831:30041,38832:30827,38833:31890,38834:38534,38835:31452,38836:40845,38837:20406,38838:24942,38839:26053,38840:34396,38841:20102,38842:20142,38843:20698,38844:20001,38845:20940,38846:23534,38847:26009,38848:26753,38849:28092,38850:29471,38851:30274,38852:30637,38853:31260,38854:31975,38855:33391,38856:35538,38857:36988,38858:37327,38859:38517,38860:38936,38861:21147,38862:32209,38863:20523,38864:21400,38865:26519,38866:28107,38867:29136,38868:29747,38869:33256,38870:36650,38871:38563,38872:40023,38873:40607,38874:29792,38875:22593,38876:28057,38877:32047,38878:39006,38879:20196,38880:20278,38881:20363,38882:20919,38883:21169,38884:23994,38885:24604,38886:29618,38887:31036,38888:33491,38889:37428,38890:38583,38891:38646,38892:38666,38893:40599,38894:40802,38895:26278,38896:27508,38897:21015,38898:21155,38899:28872,38900:35010,38901:24265,38902:24651,38903:24976,38904:28451,38905:29001,38906:31806,38907:32244,38908:32879,38976:34030,38977:36899,38978:37676,38979:21570,38980:39791,38981:27347,38982:28809,38983:36034,38984:36335,38985:38706,38986:21172,38987:23105,38988:24266,38989:24324,38990:26391,38991:27004,38992:27028,38993:28010,38994:28431,38995:29282,38996:29436,38997:31725,38998:32769,38999:32894,39e3:34635,39001:37070,39002:20845,39003:40595,39004:31108,39005:32907,39006:37682,39007:35542,39008:20525,39009:21644,39010:35441,39011:27498,39012:36036,39013:33031,39014:24785,39015:26528,39016:40434,39017:20121,39018:20120,39019:39952,39020:35435,39021:34241,39022:34152,39023:26880,39024:28286,39025:30871,39026:33109,39071:24332,39072:19984,39073:19989,39074:20010,39075:20017,39076:20022,39077:20028,39078:20031,39079:20034,39080:20054,39081:20056,39082:20098,39083:20101,39084:35947,39085:20106,39086:33298,39087:24333,39088:20110,39089:20126,39090:20127,39091:20128,39092:20130,39093:20144,39094:20147,39095:20150,39096:20174,39097:20173,39098:20164,39099:20166,39100:20162,39101:20183,39102:20190,39103:20205,39104:20191,39105:20215,39106:20233,39107:20314,39108:20272,39109:20315,39110:20317,39111:20311,39112:20295,39113:20342,39114:20360,39115:20367,39116:20376,39117:20347,39118:20329,39119:20336,39120:20369,39121:20335,39122:20358,39123:20374,39124:20760,39125:20436,39126:20447,39127:20430,39128:20440,39129:20443,39130:20433,39131:20442,39132:20432,39133:20452,39134:20453,39135:20506,39136:20520,39137:20500,39138:20522,39139:20517,39140:20485,39141:20252,39142:20470,39143:20513,39144:20521,39145:20524,39146:20478,39147:20463,39148:20497,39149:20486,39150:20547,39151:20551,39152:26371,39153:20565,39154:20560,39155:20552,39156:20570,39157:20566,39158:20588,39159:20600,39160:20608,39161:20634,39162:20613,39163:20660,39164:20658,39232:20681,39233:20682,39234:20659,39235:20674,39236:20694,39237:20702,39238:20709,39239:20717,39240:20707,39241:20718,39242:20729,39243:20725,39244:20745,39245:20737,39246:20738,39247:20758,39248:20757,39249:20756,39250:20762,39251:20769,39252:20794,39253:20791,39254:20796,39255:20795,39256:20799,39257:20800,39258:20818,39259:20812,39260:20820,39261:20834,39262:31480,39263:20841,39264:20842,39265:20846,39266:20864,39267:20866,39268:22232,39269:20876,39270:20873,39271:20879,39272:20881,39273:20883,39274:20885,39275:20886,39276:20900,39277:20902,39278:20898,39279:20905,39280:20906,39281:20907,39282:20915,39283:20913,39284:20914,39285:20912,39286:20917,39287:20925,39288:20933,39289:20937,39290:20955,39291:20960,39292:34389,39293:20969,39294:20973,39296:20976,39297:20981,39298:20990,39299:20996,39300:21003,39301:21012,39302:21006,39303:21031,39304:21034,39305:21038,39306:21043,39307:21049,39308:21071,39309:21060,39310:21067,39311:21068,39312:21086,39313:21076,39314:21098,39315:21108,39316:21097,39317:21107,39318:21119,39319:21117,39320:21133,39321:21140,39322:21138,39323:21105,39324:21128,39325:21137,39326:36776,39327:36775,39328:21164,39329:21165,39330:21180,39331:21173,39332:21185,39333:21197,39334:21207,39335:21214,39336:21219,39337:21222,39338:39149,39339:21216,39340:21235,39341:21237,39342:21240,39343:21241,39344:21254,39345:21256,39346:30008,39347:21261,39348:21264,39349:21263,39350:21269,39351:21274,39352:21283,39353:21295,39354:21297,39355:21299,39356:21304,39357:21312,39358:21318,39359:21317,39360:19991,39361:21321,39362:21325,39363:20950,39364:21342,39365:21353,39366:21358,39367:22808,39368:21371,39369:21367,39370:21378,39371:21398,39372:21408,39373:21414,39374:21413,39375:21422,39376:21424,39377:21430,39378:21443,39379:31762,39380:38617,39381:21471,39382:26364,39383:29166,39384:21486,39385:21480,39386:21485,39387:21498,39388:21505,39389:21565,39390:21568,39391:21548,39392:21549,39393:21564,39394:21550,39395:21558,39396:21545,39397:21533,39398:21582,39399:21647,39400:21621,39401:21646,39402:21599,39403:21617,39404:21623,39405:21616,39406:21650,39407:21627,39408:21632,39409:21622,39410:21636,39411:21648,39412:21638,39413:21703,39414:21666,39415:21688,39416:21669,39417:21676,39418:21700,39419:21704,39420:21672,39488:21675,39489:21698,39490:21668,39491:21694,39492:21692,39493:21720,39494:21733,39495:21734,39496:21775,39497:21780,39498:21757,39499:21742,39500:21741,39501:21754,39502:21730,39503:21817,39504:21824,39505:21859,39506:21836,39507:21806,39508:21852,39509:21829,39510:21846,39511:21847,39512:21816,39513:21811,39514:21853,39515:21913,39516:21888,39517:21679,39518:21898,39519:21919,39520:21883,39521:21886,39522:21912,39523:21918,39524:21934,39525:21884,39526:21891,39527:21929,39528:21895,39529:21928,39530:21978,39531:21957,39532:21983,39533:21956,39534:21980,39535:21988,39536:21972,39537:22036,39538:22007,39539:22038,39540:22014,39541:22013,39542:22043,39543:22009,39544:22094,39545:22096,39546:29151,39547:22068,39548:22070,39549:22066,39550:22072,39552:22123,39553:22116,39554:22063,39555:22124,39556:22122,39557:22150,39558:22144,39559:22154,39560:22176,39561:22164,39562:22159,39563:22181,39564:22190,39565:22198,39566:22196,39567:22210,39568:22204,39569:22209,39570:22211,39571:22208,39572:22216,39573:22222,39574:22225,39575:22227,39576:22231,39577:22254,39578:22265,39579:22272,39580:22271,39581:22276,39582:22281,39583:22280,39584:22283,39585:22285,39586:22291,39587:22296,39588:22294,39589:21959,39590:22300,39591:22310,39592:22327,39593:22328,39594:22350,39595:22331,39596:22336,39597:22351,39598:22377,39599:22464,39600:22408,39601:22369,39602:22399,39603:22409,39604:22419,39605:22432,39606:22451,39607:22436,39608:22442,39609:22448,39610:22467,39611:22470,39612:22484,39613:22482,39614:22483,39615:22538,39616:22486,39617:22499,39618:22539,39619:22553,39620:22557,39621:22642,39622:22561,39623:22626,39624:22603,39625:22640,39626:27584,39627:22610,39628:22589,39629:22649,39630:22661,39631:22713,39632:22687,39633:22699,39634:22714,39635:22750,39636:22715,39637:22712,39638:22702,39639:22725,39640:22739,39641:22737,39642:22743,39643:22745,39644:22744,39645:22757,39646:22748,39647:22756,39648:22751,39649:22767,39650:22778,39651:22777,39652:22779,39653:22780,39654:22781,39655:22786,39656:22794,39657:22800,39658:22811,39659:26790,39660:22821,39661:22828,39662:22829,39663:22834,39664:22840,39665:22846,39666:31442,39667:22869,39668:22864,39669:22862,39670:22874,39671:22872,39672:22882,39673:22880,39674:22887,39675:22892,39676:22889,39744:22904,39745:22913,39746:22941,39747:20318,39748:20395,39749:22947,39750:22962,39751:22982,39752:23016,39753:23004,39754:22925,39755:23001,39756:23002,39757:23077,39758:23071,39759:23057,39760:23068,39761:23049,39762:23066,39763:23104,39764:23148,39765:23113,39766:23093,39767:23094,39768:23138,39769:23146,39770:23194,39771:23228,39772:23230,39773:23243,39774:23234,39775:23229,39776:23267,39777:23255,39778:23270,39779:23273,39780:23254,39781:23290,39782:23291,39783:23308,39784:23307,39785:23318,39786:23346,39787:23248,39788:23338,39789:23350,39790:23358,39791:23363,39792:23365,39793:23360,39794:23377,39795:23381,39796:23386,39797:23387,39798:23397,39799:23401,39800:23408,39801:23411,39802:23413,39803:23416,39804:25992,39805:23418,39806:23424,39808:23427,39809:23462,39810:23480,39811:23491,39812:23495,39813:23497,39814:23508,39815:23504,39816:23524,39817:23526,39818:23522,39819:23518,39820:23525,39821:23531,39822:23536,39823:23542,39824:23539,39825:23557,39826:23559,39827:23560,39828:23565,39829:23571,39830:23584,39831:23586,39832:23592,39833:23608,39834:23609,39835:23617,39836:23622,39837:23630,39838:23635,39839:23632,39840:23631,39841:23409,39842:23660,39843:23662,39844:20066,39845:23670,39846:23673,39847:23692,39848:23697,39849:23700,39850:22939,39851:23723,39852:23739,39853:23734,39854:23740,39855:23735,39856:23749,39857:23742,39858:23751,39859:23769,39860:23785,39861:23805,39862:23802,39863:23789,39864:23948,39865:23786,39866:23819,39867:23829,39868:23831,39869:23900,39870:23839,39871:23835,39872:23825,39873:23828,39874:23842,39875:23834,39876:23833,39877:23832,39878:23884,39879:23890,39880:23886,39881:23883,39882:23916,39883:23923,39884:23926,39885:23943,39886:23940,39887:23938,39888:23970,39889:23965,39890:23980,39891:23982,39892:23997,39893:23952,39894:23991,39895:23996,39896:24009,39897:24013,39898:24019,39899:24018,39900:24022,39901:24027,39902:24043,39903:24050,39904:24053,39905:24075,39906:24090,39907:24089,39908:24081,39909:24091,39910:24118,39911:24119,39912:24132,39913:24131,39914:24128,39915:24142,39916:24151,39917:24148,39918:24159,39919:24162,39920:24164,39921:24135,39922:24181,39923:24182,39924:24186,39925:40636,39926:24191,39927:24224,39928:24257,39929:24258,39930:24264,39931:24272,39932:24271,4e4:24278,40001:24291,40002:24285,40003:24282,40004:24283,40005:24290,40006:24289,40007:24296,40008:24297,40009:24300,40010:24305,40011:24307,40012:24304,40013:24308,40014:24312,40015:24318,40016:24323,40017:24329,40018:24413,40019:24412,40020:24331,40021:24337,40022:24342,40023:24361,40024:24365,40025:24376,40026:24385,40027:24392,40028:24396,40029:24398,40030:24367,40031:24401,40032:24406,40033:24407,40034:24409,40035:24417,40036:24429,40037:24435,40038:24439,40039:24451,40040:24450,40041:24447,40042:24458,40043:24456,40044:24465,40045:24455,40046:24478,40047:24473,40048:24472,40049:24480,40050:24488,40051:24493,40052:24508,40053:24534,40054:24571,40055:24548,40056:24568,40057:24561,40058:24541,40059:24755,40060:24575,40061:24609,40062:24672,40064:24601,40065:24592,40066:24617,40067:24590,40068:24625,40069:24603,40070:24597,40071:24619,40072:24614,40073:24591,40074:24634,40075:24666,40076:24641,40077:24682,40078:24695,40079:24671,40080:24650,40081:24646,40082:24653,40083:24675,40084:24643,40085:24676,40086:24642,40087:24684,40088:24683,40089:24665,40090:24705,40091:24717,40092:24807,40093:24707,40094:24730,40095:24708,40096:24731,40097:24726,40098:24727,40099:24722,40100:24743,40101:24715,40102:24801,40103:24760,40104:24800,40105:24787,40106:24756,40107:24560,40108:24765,40109:24774,40110:24757,40111:24792,40112:24909,40113:24853,40114:24838,40115:24822,40116:24823,40117:24832,40118:24820,40119:24826,40120:24835,40121:24865,40122:24827,40123:24817,40124:24845,40125:24846,40126:24903,40127:24894,40128:24872,40129:24871,40130:24906,40131:24895,40132:24892,40133:24876,40134:24884,40135:24893,40136:24898,40137:24900,40138:24947,40139:24951,40140:24920,40141:24921,40142:24922,40143:24939,40144:24948,40145:24943,40146:24933,40147:24945,40148:24927,40149:24925,40150:24915,40151:24949,40152:24985,40153:24982,40154:24967,40155:25004,40156:24980,40157:24986,40158:24970,40159:24977,40160:25003,40161:25006,40162:25036,40163:25034,40164:25033,40165:25079,40166:25032,40167:25027,40168:25030,40169:25018,40170:25035,40171:32633,40172:25037,40173:25062,40174:25059,40175:25078,40176:25082,40177:25076,40178:25087,40179:25085,40180:25084,40181:25086,40182:25088,40183:25096,40184:25097,40185:25101,40186:25100,40187:25108,40188:25115,40256:25118,40257:25121,40258:25130,40259:25134,40260:25136,40261:25138,40262:25139,40263:25153,40264:25166,40265:25182,40266:25187,40267:25179,40268:25184,40269:25192,40270:25212,40271:25218,40272:25225,40273:25214,40274:25234,40275:25235,40276:25238,40277:25300,40278:25219,40279:25236,40280:25303,40281:25297,40282:25275,40283:25295,40284:25343,40285:25286,40286:25812,40287:25288,40288:25308,40289:25292,40290:25290,40291:25282,40292:25287,40293:25243,40294:25289,40295:25356,40296:25326,40297:25329,40298:25383,40299:25346,40300:25352,40301:25327,40302:25333,40303:25424,40304:25406,40305:25421,40306:25628,40307:25423,40308:25494,40309:25486,40310:25472,40311:25515,40312:25462,40313:25507,40314:25487,40315:25481,40316:25503,40317:25525,40318:25451,40320:25449,40321:25534,40322:25577,40323:25536,40324:25542,40325:25571,40326:25545,40327:25554,40328:25590,40329:25540,40330:25622,40331:25652,40332:25606,40333:25619,40334:25638,40335:25654,40336:25885,40337:25623,40338:25640,40339:25615,40340:25703,40341:25711,40342:25718,40343:25678,40344:25898,40345:25749,40346:25747,40347:25765,40348:25769,40349:25736,40350:25788,40351:25818,40352:25810,40353:25797,40354:25799,40355:25787,40356:25816,40357:25794,40358:25841,40359:25831,40360:33289,40361:25824,40362:25825,40363:25260,40364:25827,40365:25839,40366:25900,40367:25846,40368:25844,40369:25842,40370:25850,40371:25856,40372:25853,40373:25880,40374:25884,40375:25861,40376:25892,40377:25891,40378:25899,40379:25908,40380:25909,40381:25911,40382:25910,40383:25912,40384:30027,40385:25928,40386:25942,40387:25941,40388:25933,40389:25944,40390:25950,40391:25949,40392:25970,40393:25976,40394:25986,40395:25987,40396:35722,40397:26011,40398:26015,40399:26027,40400:26039,40401:26051,40402:26054,40403:26049,40404:26052,40405:26060,40406:26066,40407:26075,40408:26073,40409:26080,40410:26081,40411:26097,40412:26482,40413:26122,40414:26115,40415:26107,40416:26483,40417:26165,40418:26166,40419:26164,40420:26140,40421:26191,40422:26180,40423:26185,40424:26177,40425:26206,40426:26205,40427:26212,40428:26215,40429:26216,40430:26207,40431:26210,40432:26224,40433:26243,40434:26248,40435:26254,40436:26249,40437:26244,40438:26264,40439:26269,40440:26305,40441:26297,40442:26313,40443:26302,40444:26300,40512:26308,40513:26296,40514:26326,40515:26330,40516:26336,40517:26175,40518:26342,40519:26345,40520:26352,40521:26357,40522:26359,40523:26383,40524:26390,40525:26398,40526:26406,40527:26407,40528:38712,40529:26414,40530:26431,40531:26422,40532:26433,40533:26424,40534:26423,40535:26438,40536:26462,40537:26464,40538:26457,40539:26467,40540:26468,40541:26505,40542:26480,40543:26537,40544:26492,40545:26474,40546:26508,40547:26507,40548:26534,40549:26529,40550:26501,40551:26551,40552:26607,40553:26548,40554:26604,40555:26547,40556:26601,40557:26552,40558:26596,40559:26590,40560:26589,40561:26594,40562:26606,40563:26553,40564:26574,40565:26566,40566:26599,40567:27292,40568:26654,40569:26694,40570:26665,40571:26688,40572:26701,40573:26674,40574:26702,40576:26803,40577:26667,40578:26713,40579:26723,40580:26743,40581:26751,40582:26783,40583:26767,40584:26797,40585:26772,40586:26781,40587:26779,40588:26755,40589:27310,40590:26809,40591:26740,40592:26805,40593:26784,40594:26810,40595:26895,40596:26765,40597:26750,40598:26881,40599:26826,40600:26888,40601:26840,40602:26914,40603:26918,40604:26849,40605:26892,40606:26829,40607:26836,40608:26855,40609:26837,40610:26934,40611:26898,40612:26884,40613:26839,40614:26851,40615:26917,40616:26873,40617:26848,40618:26863,40619:26920,40620:26922,40621:26906,40622:26915,40623:26913,40624:26822,40625:27001,40626:26999,40627:26972,40628:27e3,40629:26987,40630:26964,40631:27006,40632:26990,40633:26937,40634:26996,40635:26941,40636:26969,40637:26928,40638:26977,40639:26974,40640:26973,40641:27009,40642:26986,40643:27058,40644:27054,40645:27088,40646:27071,40647:27073,40648:27091,40649:27070,40650:27086,40651:23528,40652:27082,40653:27101,40654:27067,40655:27075,40656:27047,40657:27182,40658:27025,40659:27040,40660:27036,40661:27029,40662:27060,40663:27102,40664:27112,40665:27138,40666:27163,40667:27135,40668:27402,40669:27129,40670:27122,40671:27111,40672:27141,40673:27057,40674:27166,40675:27117,40676:27156,40677:27115,40678:27146,40679:27154,40680:27329,40681:27171,40682:27155,40683:27204,40684:27148,40685:27250,40686:27190,40687:27256,40688:27207,40689:27234,40690:27225,40691:27238,40692:27208,40693:27192,40694:27170,40695:27280,40696:27277,40697:27296,40698:27268,40699:27298,40700:27299,40768:27287,40769:34327,40770:27323,40771:27331,40772:27330,40773:27320,40774:27315,40775:27308,40776:27358,40777:27345,40778:27359,40779:27306,40780:27354,40781:27370,40782:27387,40783:27397,40784:34326,40785:27386,40786:27410,40787:27414,40788:39729,40789:27423,40790:27448,40791:27447,40792:30428,40793:27449,40794:39150,40795:27463,40796:27459,40797:27465,40798:27472,40799:27481,40800:27476,40801:27483,40802:27487,40803:27489,40804:27512,40805:27513,40806:27519,40807:27520,40808:27524,40809:27523,40810:27533,40811:27544,40812:27541,40813:27550,40814:27556,40815:27562,40816:27563,40817:27567,40818:27570,40819:27569,40820:27571,40821:27575,40822:27580,40823:27590,40824:27595,40825:27603,40826:27615,40827:27628,40828:27627,40829:27635,40830:27631,40832:40638,40833:27656,40834:27667,40835:27668,40836:27675,40837:27684,40838:27683,40839:27742,40840:27733,40841:27746,40842:27754,40843:27778,40844:27789,40845:27802,40846:27777,40847:27803,40848:27774,40849:27752,40850:27763,40851:27794,40852:27792,40853:27844,40854:27889,40855:27859,40856:27837,40857:27863,40858:27845,40859:27869,40860:27822,40861:27825,40862:27838,40863:27834,40864:27867,40865:27887,40866:27865,40867:27882,40868:27935,40869:34893,40870:27958,40871:27947,40872:27965,40873:27960,40874:27929,40875:27957,40876:27955,40877:27922,40878:27916,40879:28003,40880:28051,40881:28004,40882:27994,40883:28025,40884:27993,40885:28046,40886:28053,40887:28644,40888:28037,40889:28153,40890:28181,40891:28170,40892:28085,40893:28103,40894:28134,40895:28088,40896:28102,40897:28140,40898:28126,40899:28108,40900:28136,40901:28114,40902:28101,40903:28154,40904:28121,40905:28132,40906:28117,40907:28138,40908:28142,40909:28205,40910:28270,40911:28206,40912:28185,40913:28274,40914:28255,40915:28222,40916:28195,40917:28267,40918:28203,40919:28278,40920:28237,40921:28191,40922:28227,40923:28218,40924:28238,40925:28196,40926:28415,40927:28189,40928:28216,40929:28290,40930:28330,40931:28312,40932:28361,40933:28343,40934:28371,40935:28349,40936:28335,40937:28356,40938:28338,40939:28372,40940:28373,40941:28303,40942:28325,40943:28354,40944:28319,40945:28481,40946:28433,40947:28748,40948:28396,40949:28408,40950:28414,40951:28479,40952:28402,40953:28465,40954:28399,40955:28466,40956:28364,161:65377,162:65378,163:65379,164:65380,165:65381,166:65382,167:65383,168:65384,169:65385,170:65386,171:65387,172:65388,173:65389,174:65390,175:65391,176:65392,177:65393,178:65394,179:65395,180:65396,181:65397,182:65398,183:65399,184:65400,185:65401,186:65402,187:65403,188:65404,189:65405,190:65406,191:65407,192:65408,193:65409,194:65410,195:65411,196:65412,197:65413,198:65414,199:65415,200:65416,201:65417,202:65418,203:65419,204:65420,205:65421,206:65422,207:65423,208:65424,209:65425,210:65426,211:65427,212:65428,213:65429,214:65430,215:65431,216:65432,217:65433,218:65434,219:65435,220:65436,221:65437,222:65438,223:65439,57408:28478,57409:28435,57410:28407,57411:28550,57412:28538,57413:28536,57414:28545,57415:28544,57416:28527,57417:28507,57418:28659,57419:28525,57420:28546,57421:28540,57422:28504,57423:28558,57424:28561,57425:28610,57426:28518,57427:28595,57428:28579,57429:28577,57430:28580,57431:28601,57432:28614,57433:28586,57434:28639,57435:28629,57436:28652,57437:28628,57438:28632,57439:28657,57440:28654,57441:28635,57442:28681,57443:28683,57444:28666,57445:28689,57446:28673,57447:28687,57448:28670,57449:28699,57450:28698,57451:28532,57452:28701,57453:28696,57454:28703,57455:28720,57456:28734,57457:28722,57458:28753,57459:28771,57460:28825,57461:28818,57462:28847,57463:28913,57464:28844,57465:28856,57466:28851,57467:28846,57468:28895,57469:28875,57470:28893,57472:28889,57473:28937,57474:28925,57475:28956,57476:28953,57477:29029,57478:29013,57479:29064,57480:29030,57481:29026,57482:29004,57483:29014,57484:29036,57485:29071,57486:29179,57487:29060,57488:29077,57489:29096,57490:29100,57491:29143,57492:29113,57493:29118,57494:29138,57495:29129,57496:29140,57497:29134,57498:29152,57499:29164,57500:29159,57501:29173,57502:29180,57503:29177,57504:29183,57505:29197,57506:29200,57507:29211,57508:29224,57509:29229,57510:29228,57511:29232,57512:29234,57513:29243,57514:29244,57515:29247,57516:29248,57517:29254,57518:29259,57519:29272,57520:29300,57521:29310,57522:29314,57523:29313,57524:29319,57525:29330,57526:29334,57527:29346,57528:29351,57529:29369,57530:29362,57531:29379,57532:29382,57533:29380,57534:29390,57535:29394,57536:29410,57537:29408,57538:29409,57539:29433,57540:29431,57541:20495,57542:29463,57543:29450,57544:29468,57545:29462,57546:29469,57547:29492,57548:29487,57549:29481,57550:29477,57551:29502,57552:29518,57553:29519,57554:40664,57555:29527,57556:29546,57557:29544,57558:29552,57559:29560,57560:29557,57561:29563,57562:29562,57563:29640,57564:29619,57565:29646,57566:29627,57567:29632,57568:29669,57569:29678,57570:29662,57571:29858,57572:29701,57573:29807,57574:29733,57575:29688,57576:29746,57577:29754,57578:29781,57579:29759,57580:29791,57581:29785,57582:29761,57583:29788,57584:29801,57585:29808,57586:29795,57587:29802,57588:29814,57589:29822,57590:29835,57591:29854,57592:29863,57593:29898,57594:29903,57595:29908,57596:29681,57664:29920,57665:29923,57666:29927,57667:29929,57668:29934,57669:29938,57670:29936,57671:29937,57672:29944,57673:29943,57674:29956,57675:29955,57676:29957,57677:29964,57678:29966,57679:29965,57680:29973,57681:29971,57682:29982,57683:29990,57684:29996,57685:30012,57686:30020,57687:30029,57688:30026,57689:30025,57690:30043,57691:30022,57692:30042,57693:30057,57694:30052,57695:30055,57696:30059,57697:30061,57698:30072,57699:30070,57700:30086,57701:30087,57702:30068,57703:30090,57704:30089,57705:30082,57706:30100,57707:30106,57708:30109,57709:30117,57710:30115,57711:30146,57712:30131,57713:30147,57714:30133,57715:30141,57716:30136,57717:30140,57718:30129,57719:30157,57720:30154,57721:30162,57722:30169,57723:30179,57724:30174,57725:30206,57726:30207,57728:30204,57729:30209,57730:30192,57731:30202,57732:30194,57733:30195,57734:30219,57735:30221,57736:30217,57737:30239,57738:30247,57739:30240,57740:30241,57741:30242,57742:30244,57743:30260,57744:30256,57745:30267,57746:30279,57747:30280,57748:30278,57749:30300,57750:30296,57751:30305,57752:30306,57753:30312,57754:30313,57755:30314,57756:30311,57757:30316,57758:30320,57759:30322,57760:30326,57761:30328,57762:30332,57763:30336,57764:30339,57765:30344,57766:30347,57767:30350,57768:30358,57769:30355,57770:30361,57771:30362,57772:30384,57773:30388,57774:30392,57775:30393,57776:30394,57777:30402,57778:30413,57779:30422,57780:30418,57781:30430,57782:30433,57783:30437,57784:30439,57785:30442,57786:34351,57787:30459,57788:30472,57789:30471,57790:30468,57791:30505,57792:30500,57793:30494,57794:30501,57795:30502,57796:30491,57797:30519,57798:30520,57799:30535,57800:30554,57801:30568,57802:30571,57803:30555,57804:30565,57805:30591,57806:30590,57807:30585,57808:30606,57809:30603,57810:30609,57811:30624,57812:30622,57813:30640,57814:30646,57815:30649,57816:30655,57817:30652,57818:30653,57819:30651,57820:30663,57821:30669,57822:30679,57823:30682,57824:30684,57825:30691,57826:30702,57827:30716,57828:30732,57829:30738,57830:31014,57831:30752,57832:31018,57833:30789,57834:30862,57835:30836,57836:30854,57837:30844,57838:30874,57839:30860,57840:30883,57841:30901,57842:30890,57843:30895,57844:30929,57845:30918,57846:30923,57847:30932,57848:30910,57849:30908,57850:30917,57851:30922,57852:30956,57920:30951,57921:30938,57922:30973,57923:30964,57924:30983,57925:30994,57926:30993,57927:31001,57928:31020,57929:31019,57930:31040,57931:31072,57932:31063,57933:31071,57934:31066,57935:31061,57936:31059,57937:31098,57938:31103,57939:31114,57940:31133,57941:31143,57942:40779,57943:31146,57944:31150,57945:31155,57946:31161,57947:31162,57948:31177,57949:31189,57950:31207,57951:31212,57952:31201,57953:31203,57954:31240,57955:31245,57956:31256,57957:31257,57958:31264,57959:31263,57960:31104,57961:31281,57962:31291,57963:31294,57964:31287,57965:31299,57966:31319,57967:31305,57968:31329,57969:31330,57970:31337,57971:40861,57972:31344,57973:31353,57974:31357,57975:31368,57976:31383,57977:31381,57978:31384,57979:31382,57980:31401,57981:31432,57982:31408,57984:31414,57985:31429,57986:31428,57987:31423,57988:36995,57989:31431,57990:31434,57991:31437,57992:31439,57993:31445,57994:31443,57995:31449,57996:31450,57997:31453,57998:31457,57999:31458,58e3:31462,58001:31469,58002:31472,58003:31490,58004:31503,58005:31498,58006:31494,58007:31539,58008:31512,58009:31513,58010:31518,58011:31541,58012:31528,58013:31542,58014:31568,58015:31610,58016:31492,58017:31565,58018:31499,58019:31564,58020:31557,58021:31605,58022:31589,58023:31604,58024:31591,58025:31600,58026:31601,58027:31596,58028:31598,58029:31645,58030:31640,58031:31647,58032:31629,58033:31644,58034:31642,58035:31627,58036:31634,58037:31631,58038:31581,58039:31641,58040:31691,58041:31681,58042:31692,58043:31695,58044:31668,58045:31686,58046:31709,58047:31721,58048:31761,58049:31764,58050:31718,58051:31717,58052:31840,58053:31744,58054:31751,58055:31763,58056:31731,58057:31735,58058:31767,58059:31757,58060:31734,58061:31779,58062:31783,58063:31786,58064:31775,58065:31799,58066:31787,58067:31805,58068:31820,58069:31811,58070:31828,58071:31823,58072:31808,58073:31824,58074:31832,58075:31839,58076:31844,58077:31830,58078:31845,58079:31852,58080:31861,58081:31875,58082:31888,58083:31908,58084:31917,58085:31906,58086:31915,58087:31905,58088:31912,58089:31923,58090:31922,58091:31921,58092:31918,58093:31929,58094:31933,58095:31936,58096:31941,58097:31938,58098:31960,58099:31954,58100:31964,58101:31970,58102:39739,58103:31983,58104:31986,58105:31988,58106:31990,58107:31994,58108:32006,58176:32002,58177:32028,58178:32021,58179:32010,58180:32069,58181:32075,58182:32046,58183:32050,58184:32063,58185:32053,58186:32070,58187:32115,58188:32086,58189:32078,58190:32114,58191:32104,58192:32110,58193:32079,58194:32099,58195:32147,58196:32137,58197:32091,58198:32143,58199:32125,58200:32155,58201:32186,58202:32174,58203:32163,58204:32181,58205:32199,58206:32189,58207:32171,58208:32317,58209:32162,58210:32175,58211:32220,58212:32184,58213:32159,58214:32176,58215:32216,58216:32221,58217:32228,58218:32222,58219:32251,58220:32242,58221:32225,58222:32261,58223:32266,58224:32291,58225:32289,58226:32274,58227:32305,58228:32287,58229:32265,58230:32267,58231:32290,58232:32326,58233:32358,58234:32315,58235:32309,58236:32313,58237:32323,58238:32311,58240:32306,58241:32314,58242:32359,58243:32349,58244:32342,58245:32350,58246:32345,58247:32346,58248:32377,58249:32362,58250:32361,58251:32380,58252:32379,58253:32387,58254:32213,58255:32381,58256:36782,58257:32383,58258:32392,58259:32393,58260:32396,58261:32402,58262:32400,58263:32403,58264:32404,58265:32406,58266:32398,58267:32411,58268:32412,58269:32568,58270:32570,58271:32581,58272:32588,58273:32589,58274:32590,58275:32592,58276:32593,58277:32597,58278:32596,58279:32600,58280:32607,58281:32608,58282:32616,58283:32617,58284:32615,58285:32632,58286:32642,58287:32646,58288:32643,58289:32648,58290:32647,58291:32652,58292:32660,58293:32670,58294:32669,58295:32666,58296:32675,58297:32687,58298:32690,58299:32697,58300:32686,58301:32694,58302:32696,58303:35697,58304:32709,58305:32710,58306:32714,58307:32725,58308:32724,58309:32737,58310:32742,58311:32745,58312:32755,58313:32761,58314:39132,58315:32774,58316:32772,58317:32779,58318:32786,58319:32792,58320:32793,58321:32796,58322:32801,58323:32808,58324:32831,58325:32827,58326:32842,58327:32838,58328:32850,58329:32856,58330:32858,58331:32863,58332:32866,58333:32872,58334:32883,58335:32882,58336:32880,58337:32886,58338:32889,58339:32893,58340:32895,58341:32900,58342:32902,58343:32901,58344:32923,58345:32915,58346:32922,58347:32941,58348:20880,58349:32940,58350:32987,58351:32997,58352:32985,58353:32989,58354:32964,58355:32986,58356:32982,58357:33033,58358:33007,58359:33009,58360:33051,58361:33065,58362:33059,58363:33071,58364:33099,58432:38539,58433:33094,58434:33086,58435:33107,58436:33105,58437:33020,58438:33137,58439:33134,58440:33125,58441:33126,58442:33140,58443:33155,58444:33160,58445:33162,58446:33152,58447:33154,58448:33184,58449:33173,58450:33188,58451:33187,58452:33119,58453:33171,58454:33193,58455:33200,58456:33205,58457:33214,58458:33208,58459:33213,58460:33216,58461:33218,58462:33210,58463:33225,58464:33229,58465:33233,58466:33241,58467:33240,58468:33224,58469:33242,58470:33247,58471:33248,58472:33255,58473:33274,58474:33275,58475:33278,58476:33281,58477:33282,58478:33285,58479:33287,58480:33290,58481:33293,58482:33296,58483:33302,58484:33321,58485:33323,58486:33336,58487:33331,58488:33344,58489:33369,58490:33368,58491:33373,58492:33370,58493:33375,58494:33380,58496:33378,58497:33384,58498:33386,58499:33387,58500:33326,58501:33393,58502:33399,58503:33400,58504:33406,58505:33421,58506:33426,58507:33451,58508:33439,58509:33467,58510:33452,58511:33505,58512:33507,58513:33503,58514:33490,58515:33524,58516:33523,58517:33530,58518:33683,58519:33539,58520:33531,58521:33529,58522:33502,58523:33542,58524:33500,58525:33545,58526:33497,58527:33589,58528:33588,58529:33558,58530:33586,58531:33585,58532:33600,58533:33593,58534:33616,58535:33605,58536:33583,58537:33579,58538:33559,58539:33560,58540:33669,58541:33690,58542:33706,58543:33695,58544:33698,58545:33686,58546:33571,58547:33678,58548:33671,58549:33674,58550:33660,58551:33717,58552:33651,58553:33653,58554:33696,58555:33673,58556:33704,58557:33780,58558:33811,58559:33771,58560:33742,58561:33789,58562:33795,58563:33752,58564:33803,58565:33729,58566:33783,58567:33799,58568:33760,58569:33778,58570:33805,58571:33826,58572:33824,58573:33725,58574:33848,58575:34054,58576:33787,58577:33901,58578:33834,58579:33852,58580:34138,58581:33924,58582:33911,58583:33899,58584:33965,58585:33902,58586:33922,58587:33897,58588:33862,58589:33836,58590:33903,58591:33913,58592:33845,58593:33994,58594:33890,58595:33977,58596:33983,58597:33951,58598:34009,58599:33997,58600:33979,58601:34010,58602:34e3,58603:33985,58604:33990,58605:34006,58606:33953,58607:34081,58608:34047,58609:34036,58610:34071,58611:34072,58612:34092,58613:34079,58614:34069,58615:34068,58616:34044,58617:34112,58618:34147,58619:34136,58620:34120,58688:34113,58689:34306,58690:34123,58691:34133,58692:34176,58693:34212,58694:34184,58695:34193,58696:34186,58697:34216,58698:34157,58699:34196,58700:34203,58701:34282,58702:34183,58703:34204,58704:34167,58705:34174,58706:34192,58707:34249,58708:34234,58709:34255,58710:34233,58711:34256,58712:34261,58713:34269,58714:34277,58715:34268,58716:34297,58717:34314,58718:34323,58719:34315,58720:34302,58721:34298,58722:34310,58723:34338,58724:34330,58725:34352,58726:34367,58727:34381,58728:20053,58729:34388,58730:34399,58731:34407,58732:34417,58733:34451,58734:34467,58735:34473,58736:34474,58737:34443,58738:34444,58739:34486,58740:34479,58741:34500,58742:34502,58743:34480,58744:34505,58745:34851,58746:34475,58747:34516,58748:34526,58749:34537,58750:34540,58752:34527,58753:34523,58754:34543,58755:34578,58756:34566,58757:34568,58758:34560,58759:34563,58760:34555,58761:34577,58762:34569,58763:34573,58764:34553,58765:34570,58766:34612,58767:34623,58768:34615,58769:34619,58770:34597,58771:34601,58772:34586,58773:34656,58774:34655,58775:34680,58776:34636,58777:34638,58778:34676,58779:34647,58780:34664,58781:34670,58782:34649,58783:34643,58784:34659,58785:34666,58786:34821,58787:34722,58788:34719,58789:34690,58790:34735,58791:34763,58792:34749,58793:34752,58794:34768,58795:38614,58796:34731,58797:34756,58798:34739,58799:34759,58800:34758,58801:34747,58802:34799,58803:34802,58804:34784,58805:34831,58806:34829,58807:34814,58808:34806,58809:34807,58810:34830,58811:34770,58812:34833,58813:34838,58814:34837,58815:34850,58816:34849,58817:34865,58818:34870,58819:34873,58820:34855,58821:34875,58822:34884,58823:34882,58824:34898,58825:34905,58826:34910,58827:34914,58828:34923,58829:34945,58830:34942,58831:34974,58832:34933,58833:34941,58834:34997,58835:34930,58836:34946,58837:34967,58838:34962,58839:34990,58840:34969,58841:34978,58842:34957,58843:34980,58844:34992,58845:35007,58846:34993,58847:35011,58848:35012,58849:35028,58850:35032,58851:35033,58852:35037,58853:35065,58854:35074,58855:35068,58856:35060,58857:35048,58858:35058,58859:35076,58860:35084,58861:35082,58862:35091,58863:35139,58864:35102,58865:35109,58866:35114,58867:35115,58868:35137,58869:35140,58870:35131,58871:35126,58872:35128,58873:35148,58874:35101,58875:35168,58876:35166,58944:35174,58945:35172,58946:35181,58947:35178,58948:35183,58949:35188,58950:35191,58951:35198,58952:35203,58953:35208,58954:35210,58955:35219,58956:35224,58957:35233,58958:35241,58959:35238,58960:35244,58961:35247,58962:35250,58963:35258,58964:35261,58965:35263,58966:35264,58967:35290,58968:35292,58969:35293,58970:35303,58971:35316,58972:35320,58973:35331,58974:35350,58975:35344,58976:35340,58977:35355,58978:35357,58979:35365,58980:35382,58981:35393,58982:35419,58983:35410,58984:35398,58985:35400,58986:35452,58987:35437,58988:35436,58989:35426,58990:35461,58991:35458,58992:35460,58993:35496,58994:35489,58995:35473,58996:35493,58997:35494,58998:35482,58999:35491,59e3:35524,59001:35533,59002:35522,59003:35546,59004:35563,59005:35571,59006:35559,59008:35556,59009:35569,59010:35604,59011:35552,59012:35554,59013:35575,59014:35550,59015:35547,59016:35596,59017:35591,59018:35610,59019:35553,59020:35606,59021:35600,59022:35607,59023:35616,59024:35635,59025:38827,59026:35622,59027:35627,59028:35646,59029:35624,59030:35649,59031:35660,59032:35663,59033:35662,59034:35657,59035:35670,59036:35675,59037:35674,59038:35691,59039:35679,59040:35692,59041:35695,59042:35700,59043:35709,59044:35712,59045:35724,59046:35726,59047:35730,59048:35731,59049:35734,59050:35737,59051:35738,59052:35898,59053:35905,59054:35903,59055:35912,59056:35916,59057:35918,59058:35920,59059:35925,59060:35938,59061:35948,59062:35960,59063:35962,59064:35970,59065:35977,59066:35973,59067:35978,59068:35981,59069:35982,59070:35988,59071:35964,59072:35992,59073:25117,59074:36013,59075:36010,59076:36029,59077:36018,59078:36019,59079:36014,59080:36022,59081:36040,59082:36033,59083:36068,59084:36067,59085:36058,59086:36093,59087:36090,59088:36091,59089:36100,59090:36101,59091:36106,59092:36103,59093:36111,59094:36109,59095:36112,59096:40782,59097:36115,59098:36045,59099:36116,59100:36118,59101:36199,59102:36205,59103:36209,59104:36211,59105:36225,59106:36249,59107:36290,59108:36286,59109:36282,59110:36303,59111:36314,59112:36310,59113:36300,59114:36315,59115:36299,59116:36330,59117:36331,59118:36319,59119:36323,59120:36348,59121:36360,59122:36361,59123:36351,59124:36381,59125:36382,59126:36368,59127:36383,59128:36418,59129:36405,59130:36400,59131:36404,59132:36426,59200:36423,59201:36425,59202:36428,59203:36432,59204:36424,59205:36441,59206:36452,59207:36448,59208:36394,59209:36451,59210:36437,59211:36470,59212:36466,59213:36476,59214:36481,59215:36487,59216:36485,59217:36484,59218:36491,59219:36490,59220:36499,59221:36497,59222:36500,59223:36505,59224:36522,59225:36513,59226:36524,59227:36528,59228:36550,59229:36529,59230:36542,59231:36549,59232:36552,59233:36555,59234:36571,59235:36579,59236:36604,59237:36603,59238:36587,59239:36606,59240:36618,59241:36613,59242:36629,59243:36626,59244:36633,59245:36627,59246:36636,59247:36639,59248:36635,59249:36620,59250:36646,59251:36659,59252:36667,59253:36665,59254:36677,59255:36674,59256:36670,59257:36684,59258:36681,59259:36678,59260:36686,59261:36695,59262:36700,59264:36706,59265:36707,59266:36708,59267:36764,59268:36767,59269:36771,59270:36781,59271:36783,59272:36791,59273:36826,59274:36837,59275:36834,59276:36842,59277:36847,59278:36999,59279:36852,59280:36869,59281:36857,59282:36858,59283:36881,59284:36885,59285:36897,59286:36877,59287:36894,59288:36886,59289:36875,59290:36903,59291:36918,59292:36917,59293:36921,59294:36856,59295:36943,59296:36944,59297:36945,59298:36946,59299:36878,59300:36937,59301:36926,59302:36950,59303:36952,59304:36958,59305:36968,59306:36975,59307:36982,59308:38568,59309:36978,59310:36994,59311:36989,59312:36993,59313:36992,59314:37002,59315:37001,59316:37007,59317:37032,59318:37039,59319:37041,59320:37045,59321:37090,59322:37092,59323:25160,59324:37083,59325:37122,59326:37138,59327:37145,59328:37170,59329:37168,59330:37194,59331:37206,59332:37208,59333:37219,59334:37221,59335:37225,59336:37235,59337:37234,59338:37259,59339:37257,59340:37250,59341:37282,59342:37291,59343:37295,59344:37290,59345:37301,59346:37300,59347:37306,59348:37312,59349:37313,59350:37321,59351:37323,59352:37328,59353:37334,59354:37343,59355:37345,59356:37339,59357:37372,59358:37365,59359:37366,59360:37406,59361:37375,59362:37396,59363:37420,59364:37397,59365:37393,59366:37470,59367:37463,59368:37445,59369:37449,59370:37476,59371:37448,59372:37525,59373:37439,59374:37451,59375:37456,59376:37532,59377:37526,59378:37523,59379:37531,59380:37466,59381:37583,59382:37561,59383:37559,59384:37609,59385:37647,59386:37626,59387:37700,59388:37678,59456:37657,59457:37666,59458:37658,59459:37667,59460:37690,59461:37685,59462:37691,59463:37724,59464:37728,59465:37756,59466:37742,59467:37718,59468:37808,59469:37804,59470:37805,59471:37780,59472:37817,59473:37846,59474:37847,59475:37864,59476:37861,59477:37848,59478:37827,59479:37853,59480:37840,59481:37832,59482:37860,59483:37914,59484:37908,59485:37907,59486:37891,59487:37895,59488:37904,59489:37942,59490:37931,59491:37941,59492:37921,59493:37946,59494:37953,59495:37970,59496:37956,59497:37979,59498:37984,59499:37986,59500:37982,59501:37994,59502:37417,59503:38e3,59504:38005,59505:38007,59506:38013,59507:37978,59508:38012,59509:38014,59510:38017,59511:38015,59512:38274,59513:38279,59514:38282,59515:38292,59516:38294,59517:38296,59518:38297,59520:38304,59521:38312,59522:38311,59523:38317,59524:38332,59525:38331,59526:38329,59527:38334,59528:38346,59529:28662,59530:38339,59531:38349,59532:38348,59533:38357,59534:38356,59535:38358,59536:38364,59537:38369,59538:38373,59539:38370,59540:38433,59541:38440,59542:38446,59543:38447,59544:38466,59545:38476,59546:38479,59547:38475,59548:38519,59549:38492,59550:38494,59551:38493,59552:38495,59553:38502,59554:38514,59555:38508,59556:38541,59557:38552,59558:38549,59559:38551,59560:38570,59561:38567,59562:38577,59563:38578,59564:38576,59565:38580,59566:38582,59567:38584,59568:38585,59569:38606,59570:38603,59571:38601,59572:38605,59573:35149,59574:38620,59575:38669,59576:38613,59577:38649,59578:38660,59579:38662,59580:38664,59581:38675,59582:38670,59583:38673,59584:38671,59585:38678,59586:38681,59587:38692,59588:38698,59589:38704,59590:38713,59591:38717,59592:38718,59593:38724,59594:38726,59595:38728,59596:38722,59597:38729,59598:38748,59599:38752,59600:38756,59601:38758,59602:38760,59603:21202,59604:38763,59605:38769,59606:38777,59607:38789,59608:38780,59609:38785,59610:38778,59611:38790,59612:38795,59613:38799,59614:38800,59615:38812,59616:38824,59617:38822,59618:38819,59619:38835,59620:38836,59621:38851,59622:38854,59623:38856,59624:38859,59625:38876,59626:38893,59627:40783,59628:38898,59629:31455,59630:38902,59631:38901,59632:38927,59633:38924,59634:38968,59635:38948,59636:38945,59637:38967,59638:38973,59639:38982,59640:38991,59641:38987,59642:39019,59643:39023,59644:39024,59712:39025,59713:39028,59714:39027,59715:39082,59716:39087,59717:39089,59718:39094,59719:39108,59720:39107,59721:39110,59722:39145,59723:39147,59724:39171,59725:39177,59726:39186,59727:39188,59728:39192,59729:39201,59730:39197,59731:39198,59732:39204,59733:39200,59734:39212,59735:39214,59736:39229,59737:39230,59738:39234,59739:39241,59740:39237,59741:39248,59742:39243,59743:39249,59744:39250,59745:39244,59746:39253,59747:39319,59748:39320,59749:39333,59750:39341,59751:39342,59752:39356,59753:39391,59754:39387,59755:39389,59756:39384,59757:39377,59758:39405,59759:39406,59760:39409,59761:39410,59762:39419,59763:39416,59764:39425,59765:39439,59766:39429,59767:39394,59768:39449,59769:39467,59770:39479,59771:39493,59772:39490,59773:39488,59774:39491,59776:39486,59777:39509,59778:39501,59779:39515,59780:39511,59781:39519,59782:39522,59783:39525,59784:39524,59785:39529,59786:39531,59787:39530,59788:39597,59789:39600,59790:39612,59791:39616,59792:39631,59793:39633,59794:39635,59795:39636,59796:39646,59797:39647,59798:39650,59799:39651,59800:39654,59801:39663,59802:39659,59803:39662,59804:39668,59805:39665,59806:39671,59807:39675,59808:39686,59809:39704,59810:39706,59811:39711,59812:39714,59813:39715,59814:39717,59815:39719,59816:39720,59817:39721,59818:39722,59819:39726,59820:39727,59821:39730,59822:39748,59823:39747,59824:39759,59825:39757,59826:39758,59827:39761,59828:39768,59829:39796,59830:39827,59831:39811,59832:39825,59833:39830,59834:39831,59835:39839,59836:39840,59837:39848,59838:39860,59839:39872,59840:39882,59841:39865,59842:39878,59843:39887,59844:39889,59845:39890,59846:39907,59847:39906,59848:39908,59849:39892,59850:39905,59851:39994,59852:39922,59853:39921,59854:39920,59855:39957,59856:39956,59857:39945,59858:39955,59859:39948,59860:39942,59861:39944,59862:39954,59863:39946,59864:39940,59865:39982,59866:39963,59867:39973,59868:39972,59869:39969,59870:39984,59871:40007,59872:39986,59873:40006,59874:39998,59875:40026,59876:40032,59877:40039,59878:40054,59879:40056,59880:40167,59881:40172,59882:40176,59883:40201,59884:40200,59885:40171,59886:40195,59887:40198,59888:40234,59889:40230,59890:40367,59891:40227,59892:40223,59893:40260,59894:40213,59895:40210,59896:40257,59897:40255,59898:40254,59899:40262,59900:40264,59968:40285,59969:40286,59970:40292,59971:40273,59972:40272,59973:40281,59974:40306,59975:40329,59976:40327,59977:40363,59978:40303,59979:40314,59980:40346,59981:40356,59982:40361,59983:40370,59984:40388,59985:40385,59986:40379,59987:40376,59988:40378,59989:40390,59990:40399,59991:40386,59992:40409,59993:40403,59994:40440,59995:40422,59996:40429,59997:40431,59998:40445,59999:40474,6e4:40475,60001:40478,60002:40565,60003:40569,60004:40573,60005:40577,60006:40584,60007:40587,60008:40588,60009:40594,60010:40597,60011:40593,60012:40605,60013:40613,60014:40617,60015:40632,60016:40618,60017:40621,60018:38753,60019:40652,60020:40654,60021:40655,60022:40656,60023:40660,60024:40668,60025:40670,60026:40669,60027:40672,60028:40677,60029:40680,60030:40687,60032:40692,60033:40694,60034:40695,60035:40697,60036:40699,60037:40700,60038:40701,60039:40711,60040:40712,60041:30391,60042:40725,60043:40737,60044:40748,60045:40766,60046:40778,60047:40786,60048:40788,60049:40803,60050:40799,60051:40800,60052:40801,60053:40806,60054:40807,60055:40812,60056:40810,60057:40823,60058:40818,60059:40822,60060:40853,60061:40860,60062:40864,60063:22575,60064:27079,60065:36953,60066:29796,60067:20956,60068:29081}},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(1),E=u(2);function A(D,v,S,h){var _;v.degree()<S.degree()&&(_=[S,v],v=_[0],S=_[1]);for(var p=v,T=S,N=D.zero,y=D.one;T.degree()>=h/2;){var g=p,b=N;if(p=T,N=y,p.isZero())return null;T=g;for(var z=D.zero,O=p.getCoefficient(p.degree()),X=D.inverse(O);T.degree()>=p.degree()&&!T.isZero();){var L=T.degree()-p.degree(),$=D.multiply(T.getCoefficient(T.degree()),X);z=z.addOrSubtract(D.buildMonomial(L,$)),T=T.addOrSubtract(p.multiplyByMonomial(L,$))}if(y=z.multiplyPoly(N).addOrSubtract(b),T.degree()>=p.degree())return null}var J=y.getCoefficient(0);if(J===0)return null;var e0=D.inverse(J);return[y.multiply(e0),T.multiply(e0)]}function B(D,v){var S=v.degree();if(S===1)return[v.getCoefficient(1)];for(var h=new Array(S),_=0,p=1;p<D.size&&_<S;p++)v.evaluateAt(p)===0&&(h[_]=D.inverse(p),_++);return _!==S?null:h}function d(D,v,S){for(var h=S.length,_=new Array(h),p=0;p<h;p++){for(var T=D.inverse(S[p]),N=1,y=0;y<h;y++)p!==y&&(N=D.multiply(N,c.addOrSubtractGF(1,D.multiply(S[y],T))));_[p]=D.multiply(v.evaluateAt(T),D.inverse(N)),D.generatorBase!==0&&(_[p]=D.multiply(_[p],T))}return _}function C(D,v){var S=new Uint8ClampedArray(D.length);S.set(D);for(var h=new c.default(285,256,0),_=new E.default(h,S),p=new Uint8ClampedArray(v),T=!1,N=0;N<v;N++){var y=_.evaluateAt(h.exp(N+h.generatorBase));p[p.length-1-N]=y,y!==0&&(T=!0)}if(!T)return S;var g=new E.default(h,p),b=A(h,h.buildMonomial(v,1),g,v);if(b===null)return null;var z=B(h,b[0]);if(z==null)return null;for(var O=d(h,b[1],z),X=0;X<z.length;X++){var L=S.length-1-h.log(z[X]);if(L<0)return null;S[L]=c.addOrSubtractGF(S[L],O[X])}return S}i.decode=C},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0}),i.VERSIONS=[{infoBits:null,versionNumber:1,alignmentPatternCenters:[],errorCorrectionLevels:[{ecCodewordsPerBlock:7,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:19}]},{ecCodewordsPerBlock:10,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:16}]},{ecCodewordsPerBlock:13,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:13}]},{ecCodewordsPerBlock:17,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:9}]}]},{infoBits:null,versionNumber:2,alignmentPatternCenters:[6,18],errorCorrectionLevels:[{ecCodewordsPerBlock:10,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:34}]},{ecCodewordsPerBlock:16,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:28}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:22}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:16}]}]},{infoBits:null,versionNumber:3,alignmentPatternCenters:[6,22],errorCorrectionLevels:[{ecCodewordsPerBlock:15,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:55}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:44}]},{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:17}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:13}]}]},{infoBits:null,versionNumber:4,alignmentPatternCenters:[6,26],errorCorrectionLevels:[{ecCodewordsPerBlock:20,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:80}]},{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:32}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:24}]},{ecCodewordsPerBlock:16,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:9}]}]},{infoBits:null,versionNumber:5,alignmentPatternCenters:[6,30],errorCorrectionLevels:[{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:108}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:43}]},{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:15},{numBlocks:2,dataCodewordsPerBlock:16}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:11},{numBlocks:2,dataCodewordsPerBlock:12}]}]},{infoBits:null,versionNumber:6,alignmentPatternCenters:[6,34],errorCorrectionLevels:[{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:68}]},{ecCodewordsPerBlock:16,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:27}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:19}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:15}]}]},{infoBits:31892,versionNumber:7,alignmentPatternCenters:[6,22,38],errorCorrectionLevels:[{ecCodewordsPerBlock:20,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:78}]},{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:31}]},{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:14},{numBlocks:4,dataCodewordsPerBlock:15}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:13},{numBlocks:1,dataCodewordsPerBlock:14}]}]},{infoBits:34236,versionNumber:8,alignmentPatternCenters:[6,24,42],errorCorrectionLevels:[{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:97}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:38},{numBlocks:2,dataCodewordsPerBlock:39}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:18},{numBlocks:2,dataCodewordsPerBlock:19}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:14},{numBlocks:2,dataCodewordsPerBlock:15}]}]},{infoBits:39577,versionNumber:9,alignmentPatternCenters:[6,26,46],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:36},{numBlocks:2,dataCodewordsPerBlock:37}]},{ecCodewordsPerBlock:20,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:16},{numBlocks:4,dataCodewordsPerBlock:17}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:12},{numBlocks:4,dataCodewordsPerBlock:13}]}]},{infoBits:42195,versionNumber:10,alignmentPatternCenters:[6,28,50],errorCorrectionLevels:[{ecCodewordsPerBlock:18,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:68},{numBlocks:2,dataCodewordsPerBlock:69}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:43},{numBlocks:1,dataCodewordsPerBlock:44}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:19},{numBlocks:2,dataCodewordsPerBlock:20}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:15},{numBlocks:2,dataCodewordsPerBlock:16}]}]},{infoBits:48118,versionNumber:11,alignmentPatternCenters:[6,30,54],errorCorrectionLevels:[{ecCodewordsPerBlock:20,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:81}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:50},{numBlocks:4,dataCodewordsPerBlock:51}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:22},{numBlocks:4,dataCodewordsPerBlock:23}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:12},{numBlocks:8,dataCodewordsPerBlock:13}]}]},{infoBits:51042,versionNumber:12,alignmentPatternCenters:[6,32,58],errorCorrectionLevels:[{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:92},{numBlocks:2,dataCodewordsPerBlock:93}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:36},{numBlocks:2,dataCodewordsPerBlock:37}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:20},{numBlocks:6,dataCodewordsPerBlock:21}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:7,dataCodewordsPerBlock:14},{numBlocks:4,dataCodewordsPerBlock:15}]}]},{infoBits:55367,versionNumber:13,alignmentPatternCenters:[6,34,62],errorCorrectionLevels:[{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:107}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:37},{numBlocks:1,dataCodewordsPerBlock:38}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:20},{numBlocks:4,dataCodewordsPerBlock:21}]},{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:12,dataCodewordsPerBlock:11},{numBlocks:4,dataCodewordsPerBlock:12}]}]},{infoBits:58893,versionNumber:14,alignmentPatternCenters:[6,26,46,66],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:115},{numBlocks:1,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:40},{numBlocks:5,dataCodewordsPerBlock:41}]},{ecCodewordsPerBlock:20,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:16},{numBlocks:5,dataCodewordsPerBlock:17}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:12},{numBlocks:5,dataCodewordsPerBlock:13}]}]},{infoBits:63784,versionNumber:15,alignmentPatternCenters:[6,26,48,70],errorCorrectionLevels:[{ecCodewordsPerBlock:22,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:87},{numBlocks:1,dataCodewordsPerBlock:88}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:41},{numBlocks:5,dataCodewordsPerBlock:42}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:24},{numBlocks:7,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:12},{numBlocks:7,dataCodewordsPerBlock:13}]}]},{infoBits:68472,versionNumber:16,alignmentPatternCenters:[6,26,50,74],errorCorrectionLevels:[{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:98},{numBlocks:1,dataCodewordsPerBlock:99}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:7,dataCodewordsPerBlock:45},{numBlocks:3,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:15,dataCodewordsPerBlock:19},{numBlocks:2,dataCodewordsPerBlock:20}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:15},{numBlocks:13,dataCodewordsPerBlock:16}]}]},{infoBits:70749,versionNumber:17,alignmentPatternCenters:[6,30,54,78],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:107},{numBlocks:5,dataCodewordsPerBlock:108}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:10,dataCodewordsPerBlock:46},{numBlocks:1,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:22},{numBlocks:15,dataCodewordsPerBlock:23}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:14},{numBlocks:17,dataCodewordsPerBlock:15}]}]},{infoBits:76311,versionNumber:18,alignmentPatternCenters:[6,30,56,82],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:120},{numBlocks:1,dataCodewordsPerBlock:121}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:9,dataCodewordsPerBlock:43},{numBlocks:4,dataCodewordsPerBlock:44}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:22},{numBlocks:1,dataCodewordsPerBlock:23}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:14},{numBlocks:19,dataCodewordsPerBlock:15}]}]},{infoBits:79154,versionNumber:19,alignmentPatternCenters:[6,30,58,86],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:113},{numBlocks:4,dataCodewordsPerBlock:114}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:44},{numBlocks:11,dataCodewordsPerBlock:45}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:21},{numBlocks:4,dataCodewordsPerBlock:22}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:9,dataCodewordsPerBlock:13},{numBlocks:16,dataCodewordsPerBlock:14}]}]},{infoBits:84390,versionNumber:20,alignmentPatternCenters:[6,34,62,90],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:107},{numBlocks:5,dataCodewordsPerBlock:108}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:41},{numBlocks:13,dataCodewordsPerBlock:42}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:15,dataCodewordsPerBlock:24},{numBlocks:5,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:15,dataCodewordsPerBlock:15},{numBlocks:10,dataCodewordsPerBlock:16}]}]},{infoBits:87683,versionNumber:21,alignmentPatternCenters:[6,28,50,72,94],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:116},{numBlocks:4,dataCodewordsPerBlock:117}]},{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:42}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:22},{numBlocks:6,dataCodewordsPerBlock:23}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:16},{numBlocks:6,dataCodewordsPerBlock:17}]}]},{infoBits:92361,versionNumber:22,alignmentPatternCenters:[6,26,50,74,98],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:111},{numBlocks:7,dataCodewordsPerBlock:112}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:7,dataCodewordsPerBlock:24},{numBlocks:16,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:24,ecBlocks:[{numBlocks:34,dataCodewordsPerBlock:13}]}]},{infoBits:96236,versionNumber:23,alignmentPatternCenters:[6,30,54,74,102],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:121},{numBlocks:5,dataCodewordsPerBlock:122}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:47},{numBlocks:14,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:24},{numBlocks:14,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:16,dataCodewordsPerBlock:15},{numBlocks:14,dataCodewordsPerBlock:16}]}]},{infoBits:102084,versionNumber:24,alignmentPatternCenters:[6,28,54,80,106],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:117},{numBlocks:4,dataCodewordsPerBlock:118}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:45},{numBlocks:14,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:24},{numBlocks:16,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:30,dataCodewordsPerBlock:16},{numBlocks:2,dataCodewordsPerBlock:17}]}]},{infoBits:102881,versionNumber:25,alignmentPatternCenters:[6,32,58,84,110],errorCorrectionLevels:[{ecCodewordsPerBlock:26,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:106},{numBlocks:4,dataCodewordsPerBlock:107}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:47},{numBlocks:13,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:7,dataCodewordsPerBlock:24},{numBlocks:22,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:22,dataCodewordsPerBlock:15},{numBlocks:13,dataCodewordsPerBlock:16}]}]},{infoBits:110507,versionNumber:26,alignmentPatternCenters:[6,30,58,86,114],errorCorrectionLevels:[{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:10,dataCodewordsPerBlock:114},{numBlocks:2,dataCodewordsPerBlock:115}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:46},{numBlocks:4,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:28,dataCodewordsPerBlock:22},{numBlocks:6,dataCodewordsPerBlock:23}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:33,dataCodewordsPerBlock:16},{numBlocks:4,dataCodewordsPerBlock:17}]}]},{infoBits:110734,versionNumber:27,alignmentPatternCenters:[6,34,62,90,118],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:122},{numBlocks:4,dataCodewordsPerBlock:123}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:22,dataCodewordsPerBlock:45},{numBlocks:3,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:8,dataCodewordsPerBlock:23},{numBlocks:26,dataCodewordsPerBlock:24}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:12,dataCodewordsPerBlock:15},{numBlocks:28,dataCodewordsPerBlock:16}]}]},{infoBits:117786,versionNumber:28,alignmentPatternCenters:[6,26,50,74,98,122],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:117},{numBlocks:10,dataCodewordsPerBlock:118}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:3,dataCodewordsPerBlock:45},{numBlocks:23,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:24},{numBlocks:31,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:15},{numBlocks:31,dataCodewordsPerBlock:16}]}]},{infoBits:119615,versionNumber:29,alignmentPatternCenters:[6,30,54,78,102,126],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:7,dataCodewordsPerBlock:116},{numBlocks:7,dataCodewordsPerBlock:117}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:21,dataCodewordsPerBlock:45},{numBlocks:7,dataCodewordsPerBlock:46}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:1,dataCodewordsPerBlock:23},{numBlocks:37,dataCodewordsPerBlock:24}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:15},{numBlocks:26,dataCodewordsPerBlock:16}]}]},{infoBits:126325,versionNumber:30,alignmentPatternCenters:[6,26,52,78,104,130],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:5,dataCodewordsPerBlock:115},{numBlocks:10,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:47},{numBlocks:10,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:15,dataCodewordsPerBlock:24},{numBlocks:25,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:23,dataCodewordsPerBlock:15},{numBlocks:25,dataCodewordsPerBlock:16}]}]},{infoBits:127568,versionNumber:31,alignmentPatternCenters:[6,30,56,82,108,134],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:13,dataCodewordsPerBlock:115},{numBlocks:3,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:46},{numBlocks:29,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:42,dataCodewordsPerBlock:24},{numBlocks:1,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:23,dataCodewordsPerBlock:15},{numBlocks:28,dataCodewordsPerBlock:16}]}]},{infoBits:133589,versionNumber:32,alignmentPatternCenters:[6,34,60,86,112,138],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:115}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:10,dataCodewordsPerBlock:46},{numBlocks:23,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:10,dataCodewordsPerBlock:24},{numBlocks:35,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:15},{numBlocks:35,dataCodewordsPerBlock:16}]}]},{infoBits:136944,versionNumber:33,alignmentPatternCenters:[6,30,58,86,114,142],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:115},{numBlocks:1,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:14,dataCodewordsPerBlock:46},{numBlocks:21,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:29,dataCodewordsPerBlock:24},{numBlocks:19,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:11,dataCodewordsPerBlock:15},{numBlocks:46,dataCodewordsPerBlock:16}]}]},{infoBits:141498,versionNumber:34,alignmentPatternCenters:[6,34,62,90,118,146],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:13,dataCodewordsPerBlock:115},{numBlocks:6,dataCodewordsPerBlock:116}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:14,dataCodewordsPerBlock:46},{numBlocks:23,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:44,dataCodewordsPerBlock:24},{numBlocks:7,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:59,dataCodewordsPerBlock:16},{numBlocks:1,dataCodewordsPerBlock:17}]}]},{infoBits:145311,versionNumber:35,alignmentPatternCenters:[6,30,54,78,102,126,150],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:12,dataCodewordsPerBlock:121},{numBlocks:7,dataCodewordsPerBlock:122}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:12,dataCodewordsPerBlock:47},{numBlocks:26,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:39,dataCodewordsPerBlock:24},{numBlocks:14,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:22,dataCodewordsPerBlock:15},{numBlocks:41,dataCodewordsPerBlock:16}]}]},{infoBits:150283,versionNumber:36,alignmentPatternCenters:[6,24,50,76,102,128,154],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:121},{numBlocks:14,dataCodewordsPerBlock:122}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:6,dataCodewordsPerBlock:47},{numBlocks:34,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:46,dataCodewordsPerBlock:24},{numBlocks:10,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:2,dataCodewordsPerBlock:15},{numBlocks:64,dataCodewordsPerBlock:16}]}]},{infoBits:152622,versionNumber:37,alignmentPatternCenters:[6,28,54,80,106,132,158],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:17,dataCodewordsPerBlock:122},{numBlocks:4,dataCodewordsPerBlock:123}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:29,dataCodewordsPerBlock:46},{numBlocks:14,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:49,dataCodewordsPerBlock:24},{numBlocks:10,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:24,dataCodewordsPerBlock:15},{numBlocks:46,dataCodewordsPerBlock:16}]}]},{infoBits:158308,versionNumber:38,alignmentPatternCenters:[6,32,58,84,110,136,162],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:4,dataCodewordsPerBlock:122},{numBlocks:18,dataCodewordsPerBlock:123}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:13,dataCodewordsPerBlock:46},{numBlocks:32,dataCodewordsPerBlock:47}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:48,dataCodewordsPerBlock:24},{numBlocks:14,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:42,dataCodewordsPerBlock:15},{numBlocks:32,dataCodewordsPerBlock:16}]}]},{infoBits:161089,versionNumber:39,alignmentPatternCenters:[6,26,54,82,110,138,166],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:20,dataCodewordsPerBlock:117},{numBlocks:4,dataCodewordsPerBlock:118}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:40,dataCodewordsPerBlock:47},{numBlocks:7,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:43,dataCodewordsPerBlock:24},{numBlocks:22,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:10,dataCodewordsPerBlock:15},{numBlocks:67,dataCodewordsPerBlock:16}]}]},{infoBits:167017,versionNumber:40,alignmentPatternCenters:[6,30,58,86,114,142,170],errorCorrectionLevels:[{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:19,dataCodewordsPerBlock:118},{numBlocks:6,dataCodewordsPerBlock:119}]},{ecCodewordsPerBlock:28,ecBlocks:[{numBlocks:18,dataCodewordsPerBlock:47},{numBlocks:31,dataCodewordsPerBlock:48}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:34,dataCodewordsPerBlock:24},{numBlocks:34,dataCodewordsPerBlock:25}]},{ecCodewordsPerBlock:30,ecBlocks:[{numBlocks:20,dataCodewordsPerBlock:15},{numBlocks:61,dataCodewordsPerBlock:16}]}]}]},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=u(0);function E(C,D,v,S){var h=C.x-D.x+v.x-S.x,_=C.y-D.y+v.y-S.y;if(h===0&&_===0)return{a11:D.x-C.x,a12:D.y-C.y,a13:0,a21:v.x-D.x,a22:v.y-D.y,a23:0,a31:C.x,a32:C.y,a33:1};var p=D.x-v.x,T=S.x-v.x,N=D.y-v.y,y=S.y-v.y,g=p*y-T*N,b=(h*y-T*_)/g,z=(p*_-h*N)/g;return{a11:D.x-C.x+b*D.x,a12:D.y-C.y+b*D.y,a13:b,a21:S.x-C.x+z*S.x,a22:S.y-C.y+z*S.y,a23:z,a31:C.x,a32:C.y,a33:1}}function A(C,D,v,S){var h=E(C,D,v,S);return{a11:h.a22*h.a33-h.a23*h.a32,a12:h.a13*h.a32-h.a12*h.a33,a13:h.a12*h.a23-h.a13*h.a22,a21:h.a23*h.a31-h.a21*h.a33,a22:h.a11*h.a33-h.a13*h.a31,a23:h.a13*h.a21-h.a11*h.a23,a31:h.a21*h.a32-h.a22*h.a31,a32:h.a12*h.a31-h.a11*h.a32,a33:h.a11*h.a22-h.a12*h.a21}}function B(C,D){return{a11:C.a11*D.a11+C.a21*D.a12+C.a31*D.a13,a12:C.a12*D.a11+C.a22*D.a12+C.a32*D.a13,a13:C.a13*D.a11+C.a23*D.a12+C.a33*D.a13,a21:C.a11*D.a21+C.a21*D.a22+C.a31*D.a23,a22:C.a12*D.a21+C.a22*D.a22+C.a32*D.a23,a23:C.a13*D.a21+C.a23*D.a22+C.a33*D.a23,a31:C.a11*D.a31+C.a21*D.a32+C.a31*D.a33,a32:C.a12*D.a31+C.a22*D.a32+C.a32*D.a33,a33:C.a13*D.a31+C.a23*D.a32+C.a33*D.a33}}function d(C,D){for(var v=A({x:3.5,y:3.5},{x:D.dimension-3.5,y:3.5},{x:D.dimension-6.5,y:D.dimension-6.5},{x:3.5,y:D.dimension-3.5}),S=E(D.topLeft,D.topRight,D.alignmentPattern,D.bottomLeft),h=B(S,v),_=c.BitMatrix.createEmpty(D.dimension,D.dimension),p=function(z,O){var X=h.a13*z+h.a23*O+h.a33;return{x:(h.a11*z+h.a21*O+h.a31)/X,y:(h.a12*z+h.a22*O+h.a32)/X}},T=0;T<D.dimension;T++)for(var N=0;N<D.dimension;N++){var y=N+.5,g=T+.5,b=p(y,g);_.set(N,T,C.get(Math.floor(b.x),Math.floor(b.y)))}return{matrix:_,mappingFunction:p}}i.extract=d},function(s,i,u){Object.defineProperty(i,"__esModule",{value:!0});var c=4,E=.5,A=1.5,B=function(y,g){return Math.sqrt(Math.pow(g.x-y.x,2)+Math.pow(g.y-y.y,2))};function d(y){return y.reduce(function(g,b){return g+b})}function C(y,g,b){var z,O,X,L,$=B(y,g),J=B(g,b),e0=B(y,b),l0,n0,r0;return J>=$&&J>=e0?(z=[g,y,b],l0=z[0],n0=z[1],r0=z[2]):e0>=J&&e0>=$?(O=[y,g,b],l0=O[0],n0=O[1],r0=O[2]):(X=[y,b,g],l0=X[0],n0=X[1],r0=X[2]),(r0.x-n0.x)*(l0.y-n0.y)-(r0.y-n0.y)*(l0.x-n0.x)<0&&(L=[r0,l0],l0=L[0],r0=L[1]),{bottomLeft:l0,topLeft:n0,topRight:r0}}function D(y,g,b,z){var O=(d(S(y,b,z,5))/7+d(S(y,g,z,5))/7+d(S(b,y,z,5))/7+d(S(g,y,z,5))/7)/4;if(O<1)throw new Error("Invalid module size");var X=Math.round(B(y,g)/O),L=Math.round(B(y,b)/O),$=Math.floor((X+L)/2)+7;switch($%4){case 0:$++;break;case 2:$--;break}return{dimension:$,moduleSize:O}}function v(y,g,b,z){var O=[{x:Math.floor(y.x),y:Math.floor(y.y)}],X=Math.abs(g.y-y.y)>Math.abs(g.x-y.x),L,$,J,e0;X?(L=Math.floor(y.y),$=Math.floor(y.x),J=Math.floor(g.y),e0=Math.floor(g.x)):(L=Math.floor(y.x),$=Math.floor(y.y),J=Math.floor(g.x),e0=Math.floor(g.y));for(var l0=Math.abs(J-L),n0=Math.abs(e0-$),r0=Math.floor(-l0/2),R=L<J?1:-1,G=$<e0?1:-1,I=!0,o0=L,w=$;o0!==J+R;o0+=R){var q=X?w:o0,x0=X?o0:w;if(b.get(q,x0)!==I&&(I=!I,O.push({x:q,y:x0}),O.length===z+1))break;if(r0+=n0,r0>0){if(w===e0)break;w+=G,r0-=l0}}for(var a0=[],t0=0;t0<z;t0++)O[t0]&&O[t0+1]?a0.push(B(O[t0],O[t0+1])):a0.push(0);return a0}function S(y,g,b,z){var O,X=g.y-y.y,L=g.x-y.x,$=v(y,g,b,Math.ceil(z/2)),J=v(y,{x:y.x-L,y:y.y-X},b,Math.ceil(z/2)),e0=$.shift()+J.shift()-1;return(O=J.concat(e0)).concat.apply(O,$)}function h(y,g){var b=d(y)/d(g),z=0;return g.forEach(function(O,X){z+=Math.pow(y[X]-O*b,2)}),{averageSize:b,error:z}}function _(y,g,b){try{var z=S(y,{x:-1,y:y.y},b,g.length),O=S(y,{x:y.x,y:-1},b,g.length),X={x:Math.max(0,y.x-y.y)-1,y:Math.max(0,y.y-y.x)-1},L=S(y,X,b,g.length),$={x:Math.min(b.width,y.x+y.y)+1,y:Math.min(b.height,y.y+y.x)+1},J=S(y,$,b,g.length),e0=h(z,g),l0=h(O,g),n0=h(L,g),r0=h(J,g),R=Math.sqrt(e0.error*e0.error+l0.error*l0.error+n0.error*n0.error+r0.error*r0.error),G=(e0.averageSize+l0.averageSize+n0.averageSize+r0.averageSize)/4,I=(Math.pow(e0.averageSize-G,2)+Math.pow(l0.averageSize-G,2)+Math.pow(n0.averageSize-G,2)+Math.pow(r0.averageSize-G,2))/G;return R+I}catch{return 1/0}}function p(y,g){for(var b=Math.round(g.x);y.get(b,Math.round(g.y));)b--;for(var z=Math.round(g.x);y.get(z,Math.round(g.y));)z++;for(var O=(b+z)/2,X=Math.round(g.y);y.get(Math.round(O),X);)X--;for(var L=Math.round(g.y);y.get(Math.round(O),L);)L++;var $=(X+L)/2;return{x:O,y:$}}function T(y){for(var g=[],b=[],z=[],O=[],X=function(q){for(var x0=0,a0=!1,t0=[0,0,0,0,0],m0=function(g0){var k0=y.get(g0,q);if(k0===a0)x0++;else{t0=[t0[1],t0[2],t0[3],t0[4],x0],x0=1,a0=k0;var G0=d(t0)/7,la=Math.abs(t0[0]-G0)<G0&&Math.abs(t0[1]-G0)<G0&&Math.abs(t0[2]-3*G0)<3*G0&&Math.abs(t0[3]-G0)<G0&&Math.abs(t0[4]-G0)<G0&&!k0,je=d(t0.slice(-3))/3,ra=Math.abs(t0[2]-je)<je&&Math.abs(t0[3]-je)<je&&Math.abs(t0[4]-je)<je&&k0;if(la){var mt=g0-t0[3]-t0[4],We=mt-t0[2],Ie={startX:We,endX:mt,y:q},Xt=b.filter(function(Ce){return We>=Ce.bottom.startX&&We<=Ce.bottom.endX||mt>=Ce.bottom.startX&&We<=Ce.bottom.endX||We<=Ce.bottom.startX&&mt>=Ce.bottom.endX&&t0[2]/(Ce.bottom.endX-Ce.bottom.startX)<A&&t0[2]/(Ce.bottom.endX-Ce.bottom.startX)>E});Xt.length>0?Xt[0].bottom=Ie:b.push({top:Ie,bottom:Ie})}if(ra){var re=g0-t0[4],Yt=re-t0[3],Ie={startX:Yt,y:q,endX:re},Xt=O.filter(function(oe){return Yt>=oe.bottom.startX&&Yt<=oe.bottom.endX||re>=oe.bottom.startX&&Yt<=oe.bottom.endX||Yt<=oe.bottom.startX&&re>=oe.bottom.endX&&t0[2]/(oe.bottom.endX-oe.bottom.startX)<A&&t0[2]/(oe.bottom.endX-oe.bottom.startX)>E});Xt.length>0?Xt[0].bottom=Ie:O.push({top:Ie,bottom:Ie})}}},u0=-1;u0<=y.width;u0++)m0(u0);g.push.apply(g,b.filter(function(g0){return g0.bottom.y!==q&&g0.bottom.y-g0.top.y>=2})),b=b.filter(function(g0){return g0.bottom.y===q}),z.push.apply(z,O.filter(function(g0){return g0.bottom.y!==q})),O=O.filter(function(g0){return g0.bottom.y===q})},L=0;L<=y.height;L++)X(L);g.push.apply(g,b.filter(function(q){return q.bottom.y-q.top.y>=2})),z.push.apply(z,O);var $=g.filter(function(q){return q.bottom.y-q.top.y>=2}).map(function(q){var x0=(q.top.startX+q.top.endX+q.bottom.startX+q.bottom.endX)/4,a0=(q.top.y+q.bottom.y+1)/2;if(y.get(Math.round(x0),Math.round(a0))){var t0=[q.top.endX-q.top.startX,q.bottom.endX-q.bottom.startX,q.bottom.y-q.top.y+1],m0=d(t0)/t0.length,u0=_({x:Math.round(x0),y:Math.round(a0)},[1,1,3,1,1],y);return{score:u0,x:x0,y:a0,size:m0}}}).filter(function(q){return!!q}).sort(function(q,x0){return q.score-x0.score}).map(function(q,x0,a0){if(x0>c)return null;var t0=a0.filter(function(u0,g0){return x0!==g0}).map(function(u0){return{x:u0.x,y:u0.y,score:u0.score+Math.pow(u0.size-q.size,2)/q.size,size:u0.size}}).sort(function(u0,g0){return u0.score-g0.score});if(t0.length<2)return null;var m0=q.score+t0[0].score+t0[1].score;return{points:[q].concat(t0.slice(0,2)),score:m0}}).filter(function(q){return!!q}).sort(function(q,x0){return q.score-x0.score});if($.length===0)return null;var J=C($[0].points[0],$[0].points[1],$[0].points[2]),e0=J.topRight,l0=J.topLeft,n0=J.bottomLeft,r0=N(y,z,e0,l0,n0),R=[];r0&&R.push({alignmentPattern:{x:r0.alignmentPattern.x,y:r0.alignmentPattern.y},bottomLeft:{x:n0.x,y:n0.y},dimension:r0.dimension,topLeft:{x:l0.x,y:l0.y},topRight:{x:e0.x,y:e0.y}});var G=p(y,e0),I=p(y,l0),o0=p(y,n0),w=N(y,z,G,I,o0);return w&&R.push({alignmentPattern:{x:w.alignmentPattern.x,y:w.alignmentPattern.y},bottomLeft:{x:o0.x,y:o0.y},topLeft:{x:I.x,y:I.y},topRight:{x:G.x,y:G.y},dimension:w.dimension}),R.length===0?null:R}i.locate=T;function N(y,g,b,z,O){var X,L,$;try{X=D(z,b,O,y),L=X.dimension,$=X.moduleSize}catch{return null}var J={x:b.x-z.x+O.x,y:b.y-z.y+O.y},e0=(B(z,O)+B(z,b))/2/$,l0=1-3/e0,n0={x:z.x+l0*(J.x-z.x),y:z.y+l0*(J.y-z.y)},r0=g.map(function(G){var I=(G.top.startX+G.top.endX+G.bottom.startX+G.bottom.endX)/4,o0=(G.top.y+G.bottom.y+1)/2;if(y.get(Math.floor(I),Math.floor(o0))){var w=[G.top.endX-G.top.startX,G.bottom.endX-G.bottom.startX,G.bottom.y-G.top.y+1];d(w)/w.length;var q=_({x:Math.floor(I),y:Math.floor(o0)},[1,1,1],y),x0=q+B({x:I,y:o0},n0);return{x:I,y:o0,score:x0}}}).filter(function(G){return!!G}).sort(function(G,I){return G.score-I.score}),R=e0>=15&&r0.length?r0[0]:n0;return{alignmentPattern:R,dimension:L}}}]).default})}(Ul)),Ul.exports}var xB=tB();const aB=h8(xB);function Df({onScan:n,onClose:r}){const s=j.useRef(null),i=j.useRef(document.createElement("canvas")),u=j.useRef(null);return j.useEffect(()=>{const c=s.current;if(!c)return;const E=C=>{c.srcObject&&(c.srcObject.getTracks().forEach(D=>D.stop()),c.srcObject=null),c.srcObject=C,c.onloadedmetadata=()=>{c.play().catch(D=>{console.error("Error starting video playback:",D)})},B()},A=C=>{console.error("Camera error:",C),alert(`Camera access denied. Please enable camera permissions: ${C.message}`)};navigator.mediaDevices.getUserMedia({video:{facingMode:"environment"}}).then(E).catch(A);const B=()=>{if(c.readyState===c.HAVE_ENOUGH_DATA){const C=i.current,D=C.getContext("2d",{willReadFrequently:!0});if(D){C.height=c.videoHeight,C.width=c.videoWidth,D.drawImage(c,0,0,C.width,C.height);const v=D.getImageData(0,0,C.width,C.height),S=aB(v.data,v.width,v.height);if(S){n(S.data),d();return}}}u.current=requestAnimationFrame(B)},d=()=>{c.srcObject&&(c.srcObject.getTracks().forEach(D=>D.stop()),c.srcObject=null),u.current&&(cancelAnimationFrame(u.current),u.current=null)};return()=>{d()}},[n]),F.jsxs("div",{className:"qr-scanner",children:[F.jsx("h2",{children:"QR-Code scannen"}),F.jsx("video",{ref:s,className:"qr-video"}),r&&F.jsx("button",{className:"btn btn-close",onClick:r,children:"Scanner schließen"})]})}const nB=({reservedItems:n,setReservedItems:r,onScan:s,onWeekFilter:i,onShowAll:u,onReservationRemoved:c})=>{const[E,A]=j.useState(!1),[B,d]=j.useState(""),[C,D]=j.useState(""),[v,S]=j.useState(!1);j.useEffect(()=>(document.body.classList.toggle("no-scroll-scanner",E),()=>document.body.classList.remove("no-scroll-scanner")),[E]);const h=async y=>{if(y.preventDefault(),!C.trim()){i0.error("Please enter a valid order.");return}try{S(!0);const b=(await W7(C)).filter(z=>!z.isSold).map(z=>{var O;return{id:((O=z.id)==null?void 0:O.toString())||"",name:z.itemName||"N/A",orderNumber:z.orderNumber||"N/A",week:z.reservationWeek||"N/A",quantity:z.reservedQuantity||0}});r(b),i0.success(`Order number "${C}" found.`)}catch(g){console.error("Error filtering reservations:",g),i0.error("Order number not found.")}finally{S(!1)}},_=()=>{D(""),u(),i0.success("Filter reset. Showing all reservations.")},p=y=>{if(y.preventDefault(),B.trim()===""){i0.error("Please enter a valid value for the week.");return}i(B),i0.success(`Filtered by week: ${B}`)},T=()=>{d(""),u(),i0.success("All articles are displayed.")},N=async y=>{if(confirm("Do you really want to delete this reservation?"))try{const b=(await j0.delete(`/reservations/${y}`)).data,{returnedQuantity:z,itemId:O}=b;c(O,z),i0.success("Reservation successfully deleted."),u()}catch(g){i0.error("Deleting the reservation failed."),console.error(g)}};return F.jsxs("div",{className:"reserved-items-list",children:[F.jsx("h3",{children:"Reservations"}),F.jsxs("form",{onSubmit:h,className:"filter-form",children:[F.jsx("label",{htmlFor:"order-prefix",children:"Filter by order number:"}),F.jsx("input",{type:"text",id:"order-prefix",placeholder:"Enter the order number",value:C,onChange:y=>D(y.target.value),disabled:v}),F.jsxs("div",{className:"btn-group",children:[F.jsx("button",{type:"submit",className:"btn btn-filter",disabled:v,children:"Apply"}),F.jsx("button",{type:"button",className:"btn btn-check-all",onClick:_,disabled:v,children:"Reset"})]})]}),F.jsxs("form",{onSubmit:p,className:"filter-form",children:[F.jsx("label",{htmlFor:"week-filter",children:"Filter by week:"}),F.jsx("input",{type:"text",id:"week-filter",placeholder:"Enter week",value:B,onChange:y=>d(y.target.value)}),F.jsx("button",{type:"submit",className:"btn btn-filter",children:"Apply filter"}),F.jsx("button",{type:"button",className:"btn btn-check-all",onClick:T,children:"Show all"})]}),n.length===0?F.jsx("p",{children:"No reserved items found."}):F.jsx("ul",{children:n.map(y=>F.jsxs("li",{className:"reserved-item",children:[F.jsxs("div",{className:"reserved-item-details",children:[F.jsx("strong",{children:y.name})," — Order number # ",y.orderNumber,", Week: ",y.week,", Amount: ",y.quantity]}),F.jsxs("div",{className:"reserved-item-actions",children:[F.jsx("button",{onClick:()=>A(!0),className:"btn btn-scan",children:"Complete reservation via QR code"}),F.jsx("button",{onClick:()=>N(y.id),className:"btn btn-delete",children:"Remove"})]})]},y.id))}),E&&ki.createPortal(F.jsx("div",{className:"ri-modal-overlay",role:"dialog","aria-modal":"true",onClick:()=>A(!1),children:F.jsxs("div",{className:"ri-modal",onClick:y=>y.stopPropagation(),children:[F.jsx("button",{className:"ri-modal__close","aria-label":"Close scanner",onClick:()=>A(!1),type:"button",children:"×"}),F.jsx("div",{className:"ri-modal__title",children:"QR-Code scannen"}),F.jsx("div",{className:"ri-modal__viewport",children:F.jsx(Df,{onScan:y=>{A(!1),s(y),i0.success("Reservation via QR code successfully completed.")},onClose:()=>A(!1)})}),F.jsx("div",{className:"ri-modal__actions",children:F.jsx("button",{className:"ri-modal__btn",type:"button",onClick:()=>A(!1),children:"Scanner schließen"})})]})}),document.body)]})};function lB({onAdd:n}){const[r,s]=j.useState(""),[i,u]=j.useState(""),[c,E]=j.useState(""),A=B=>{B.preventDefault();const d=parseInt(c);if(!r.trim()){i0.error("ID must not be empty.");return}if(!i.trim()){i0.error("Name cannot be empty.");return}if(isNaN(d)||d<=0){i0.error("The quantity must be a positive number.");return}n({id:r.trim(),name:i.trim(),quantity:d,sold:0}),s(""),u(""),E(""),i0.success("Item successfully added!")};return F.jsxs("form",{className:"add-item-form",onSubmit:A,children:[F.jsx("h2",{children:"Add new item"}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"id",children:"Name QR"}),F.jsx("input",{type:"text",id:"id",value:r,onChange:B=>s(B.target.value),required:!0,placeholder:"Name QR"})]}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"name",children:"Name"}),F.jsx("input",{type:"text",id:"name",value:i,onChange:B=>u(B.target.value),required:!0,placeholder:"Item name"})]}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"quantity",children:"Amount"}),F.jsx("input",{type:"number",id:"quantity",value:c,onChange:B=>E(B.target.value),required:!0,placeholder:"Enter amount",min:"0"})]}),F.jsx("button",{type:"submit",className:"submit-btn",children:"Add Item"})]})}const rB=({items:n,onReserveComplete:r,onUpdateItems:s})=>{const[i,u]=j.useState(""),[c,E]=j.useState(""),[A,B]=j.useState([]),[d,C]=j.useState(1),[D,v]=j.useState(""),[S,h]=j.useState(""),_=N=>{const y=N.target.value;if(u(y),y.trim()){const g=n.filter(b=>b.name.toLowerCase().includes(y.toLowerCase()));B(g)}else B([])},p=N=>{u(N.name),E(N.id),B([])},T=async N=>{if(N.preventDefault(),!c||!D||d<=0||!S){i0.error("Please fill in all fields correctly.");return}const y=n.find(g=>g.id===c);if(!y){i0.error("The selected article was not found.");return}try{await fetch("/api/reservations",{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify({orderNumber:S,itemName:y.name,quantity:d,reservationWeek:D})}),s(c,d),r(),i0.success("Reservation successfully created!"),u(""),E(""),C(1),v(""),h("")}catch(g){console.error("Error creating reservation:",g),i0.error("Error creating reservation.")}};return F.jsxs("form",{onSubmit:T,className:"reserve-form",children:[F.jsx("h3",{children:"Create a Reservation"}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"item-input",children:"Select or enter item:"}),F.jsx("input",{type:"text",id:"item-input",value:i,onChange:_,placeholder:"Enter article name"}),A.length>0&&F.jsx("ul",{className:"suggestions",children:A.map(N=>F.jsxs("li",{onClick:()=>p(N),children:[N.name," (Available: ",N.quantity,")"]},N.id))})]}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"quantity-input",children:"Amount:"}),F.jsx("input",{type:"number",id:"quantity-input",min:"1",value:d,onChange:N=>C(Number(N.target.value))})]}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"week-input",children:"Reservation week:"}),F.jsx("input",{type:"text",id:"week-input",placeholder:"Enter week number",value:D,onChange:N=>v(N.target.value)})]}),F.jsxs("div",{className:"form-group",children:[F.jsx("label",{htmlFor:"order-number-input",children:"Order number:"}),F.jsx("input",{type:"text",id:"order-number-input",placeholder:"Enter order number",value:S,onChange:N=>h(N.target.value)})]}),F.jsx("button",{type:"submit",className:"btn btn-submit",children:"Create reservation"})]})};function oB({reservations:n}){return n.length===0?F.jsx("p",{className:"empty-message",children:"There are no reservations yet."}):F.jsxs("div",{className:"sold-items-list",children:[F.jsx("h2",{children:"Sold items"}),F.jsx("ul",{children:n.map(r=>F.jsxs("li",{className:"sold-item",children:[F.jsxs("span",{className:"item-order-number",children:["Order number: ",r.orderNumber]}),F.jsxs("span",{className:"item-name",children:["Name: ",r.itemName]}),F.jsxs("span",{className:"item-quantity",children:["Amount: ",r.reservedQuantity]}),F.jsxs("span",{className:"item-sold-week",children:["Week: ",r.reservationWeek]}),F.jsxs("span",{className:"item-sale-date",children:["Date: ",new Date(r.saleDate).toLocaleString()]})]},r.id))})]})}const iB=()=>{const[n,r]=j.useState([]),[s,i]=j.useState([]),[u,c]=j.useState(!1),[E,A]=j.useState(null),[B,d]=j.useState(""),[C,D]=j.useState([]),[v,S]=j.useState([]),h=j.useRef(null),[_,p]=j.useState(!1);j.useEffect(()=>{const L=async()=>{try{const e0=(await j0.get("/items")).data.map(l0=>({id:l0.id,name:l0.name,qrCode:l0.qrCode}));r(e0)}catch(J){console.error("Error loading QR codes for products:",J)}},$=async()=>{try{const e0=(await j0.get("/reservations",{params:{withQr:!0}})).data.map(l0=>({id:l0.id,qrCode:l0.qrCode,orderNumber:l0.orderNumber}));i(e0)}catch(J){console.error("Error loading reservation QR codes:",J)}};L(),$()},[]),j.useEffect(()=>(u?document.body.style.overflow="hidden":document.body.style.overflow="",()=>{document.body.style.overflow=""}),[u]),j.useEffect(()=>{if(!u||!E)return;const L=h.current;if(!L)return;p(!1);const $=new Image;$.onload=()=>{const J=Math.min(window.innerWidth*.92,520),e0=Math.min(window.innerHeight*.6,520);let l0=$.width,n0=$.height;const r0=Math.min(J/l0,e0/n0,1);l0=Math.floor(l0*r0),n0=Math.floor(n0*r0),L.width=l0,L.height=n0;const R=L.getContext("2d");R&&(R.clearRect(0,0,l0,n0),R.drawImage($,0,0,l0,n0),p(!0))},$.onerror=()=>p(!1),$.src=E.startsWith("data:")?E:`data:image/png;base64,${E}`},[u,E]);const T=async(L,$)=>{try{const J=$==="item"?`/items/${L}/download-qrcode`:`/reservations/${L}/download-qrcode`,e0=await j0.get(J,{responseType:"blob"}),l0=window.URL.createObjectURL(new Blob([e0.data])),n0=document.createElement("a");n0.href=l0,n0.setAttribute("download",`${L}.png`),document.body.appendChild(n0),n0.click(),document.body.removeChild(n0)}catch(J){console.error("Error downloading QR code:",J),alert(`Failed to download QR code with ID: ${L}`)}},N=L=>{A(L),c(!0)},y=()=>{c(!1),A(null)},g=L=>{d(L.target.value.toLowerCase())},b=L=>{D($=>$.includes(L)?$.filter(J=>J!==L):[...$,L])},z=L=>{S($=>$.includes(L)?$.filter(J=>J!==L):[...$,L])},O=()=>{var l0,n0,r0;if(C.length===0&&v.length===0){alert("You have not selected any QR codes to print.");return}const L=[...n.filter(R=>C.includes(R.id)).map(R=>`
+            <div style="page-break-after: always;">
+              <h2>${R.name||R.id}</h2>
+              <img src="data:image/png;base64,${R.qrCode}"
+                   style="margin: 10px; width: 200px; height: 200px;" />
+            </div>`),...s.filter(R=>v.includes(R.id)).map(R=>`
+            <div style="page-break-after: always;">
+              <h2>${R.orderNumber}</h2>
+              <img src="data:image/png;base64,${R.qrCode}"
+                   style="margin: 10px; width: 200px; height: 200px;" />
+            </div>`)].join(""),$=`${C.join(", ")}`,J=document.createElement("iframe");J.style.position="absolute",J.style.width="0",J.style.height="0",J.style.border="none",document.body.appendChild(J);const e0=J.contentDocument||((l0=J.contentWindow)==null?void 0:l0.document);e0&&(e0.open(),e0.write(`
+        <html>
+          <head>
+            <title>${$}</title>
+            <style>
+              body { display: flex; flex-direction: column; align-items: center; }
+              div { page-break-after: always; }
+            </style>
+          </head>
+          <body class="print-body">
+            ${L}
+          </body>
+        </html>
+      `),e0.close(),(n0=J.contentWindow)==null||n0.focus(),(r0=J.contentWindow)==null||r0.print(),setTimeout(()=>{document.body.removeChild(J)},1e3))},X=n.filter(L=>L.id.toLowerCase().includes(B));return F.jsxs("div",{className:"file-viewer-container",children:[F.jsx("input",{type:"text",placeholder:"Search by name...",value:B,onChange:g,className:"search-input","aria-label":"Search by name"}),F.jsx("button",{className:"print-button",onClick:O,children:"Print"}),F.jsx("h1",{className:"file-viewer-title",children:"Warehouse QR"}),F.jsx("ul",{className:"file-list",children:X.map(L=>F.jsxs("li",{className:"file-item",children:[F.jsx("input",{type:"checkbox",className:"select-checkbox",checked:C.includes(L.id),onChange:()=>b(L.id),"aria-label":`Select ${L.id} for print`}),F.jsx("img",{src:`data:image/png;base64,${L.qrCode}`,alt:`QR code of item ${L.id}`,className:"qr-image",onClick:()=>N(L.qrCode)}),F.jsx("span",{className:"file-name",children:L.id}),F.jsx("button",{className:"download-button",onClick:()=>T(L.id,"item"),children:"Load"})]},L.id))}),F.jsx("h1",{className:"file-viewer-title",children:"Reserved QR"}),F.jsx("ul",{className:"file-list",children:s.map(L=>F.jsxs("li",{className:"file-item reservation",children:[F.jsx("input",{type:"checkbox",className:"select-checkbox",checked:v.includes(L.id),onChange:()=>z(L.id),"aria-label":`Select reservation ${L.orderNumber} for print`}),F.jsx("img",{src:`data:image/png;base64,${L.qrCode}`,alt:`QR code for reservation ${L.orderNumber}`,className:"qr-image",onClick:()=>N(L.qrCode)}),F.jsxs("span",{className:"file-name",children:["Order number: ",L.orderNumber]}),F.jsx("button",{className:"download-button",onClick:()=>T(L.id,"reservation"),children:"Load"})]},L.id))}),u&&F.jsx("div",{className:"modal-overlay",onClick:y,role:"dialog","aria-modal":"true","aria-label":"QR preview",children:F.jsxs("div",{className:"modal-content",onClick:L=>L.stopPropagation(),children:[F.jsx("canvas",{ref:h,className:"modal-canvas","aria-label":"QR preview canvas"}),!_&&F.jsx("div",{className:"modal-loading",children:"Loading…"}),F.jsx("button",{className:"close-button",onClick:y,children:"Close"})]})})]})},sB=()=>{const n=async()=>{var r;try{const s=await j0.get("/items/download/excel",{responseType:"blob"}),i=window.URL.createObjectURL(new Blob([s.data])),u=document.createElement("a");u.href=i,u.setAttribute("download","items.xlsx"),document.body.appendChild(u),u.click(),(r=u.parentNode)==null||r.removeChild(u)}catch(s){console.error("Error downloading Excel file:",s),alert("Failed to download file. Try again later.")}};return F.jsx("button",{className:"download-excel-button",onClick:n,children:"📊 Download Excel"})},uB=({onLogout:n})=>{const[r,s]=j.useState([]),[i,u]=j.useState([]),[c,E]=j.useState([]),[A,B]=j.useState(!1),[d,C]=j.useState(null),[D,v]=j.useState(!1),[S,h]=j.useState("inventory"),[_,p]=j.useState(""),[T,N]=j.useState(!1),[y]=j.useState(!0),g=xa(),b=$e();j.useEffect(()=>{const R=b.pathname;R.startsWith("/app/about")||R.startsWith("/app/account")?h("route"):R==="/app"&&S==="route"&&h("inventory")},[b.pathname]),j.useEffect(()=>{z()},[_,S]);const z=()=>{S==="inventory"&&O(_),S==="createReservation"&&O(),S==="reserve"&&X(),S==="sold"&&L()},O=async R=>{v(!0);try{const G=R?"/items/sorted":"/items",I=await j0.get(G,{params:R?{sortBy:R}:{}});s(I.data)}catch(G){console.error(G),i0.error("Error loading products."),s([])}finally{v(!1)}},X=async()=>{v(!0);try{const G=(await j0.get("/reservations")).data.filter(I=>!I.isSold).map(I=>{var o0;return{id:((o0=I.id)==null?void 0:o0.toString())??"",name:I.itemName??"",quantity:I.reservedQuantity??0,orderNumber:I.orderNumber??"",week:I.reservationWeek??""}});u(G)}catch(R){console.error(R),i0.error("Error loading reserved items."),u([])}finally{v(!1)}},L=async()=>{v(!0);try{const R=await j0.get("/reservations/sold");E(R.data??[])}catch(R){console.error(R),i0.error("Error loading sold items."),E([])}finally{v(!1)}},$=async R=>{v(!0);try{await j0.post("/items",R),O(_),i0.success("Product added successfully!")}catch(G){console.error(G),i0.error("Error adding product.")}finally{v(!1)}},J=async R=>{if(B(!1),!d)return;const G=prompt(`Enter quantity for ${d==="add"?"add":"remove"}:`),I=Number(G);if(!G||Number.isNaN(I)||I<=0){i0.error("Please enter a valid number.");return}v(!0);try{await j0.put(`/items/${R}/${d}`,null,{params:{quantity:I}}),i0.success(`Operation ${d} completed. Quantity: ${I}`),O(_)}catch(o0){console.error(o0),i0.error("Operation error.")}finally{v(!1)}},e0=(R,G)=>{s(I=>I.map(o0=>o0.id===R?{...o0,quantity:o0.quantity+G}:o0)),X(),O(_),i0.success("Reservation deleted.")},l0=async R=>{if(!R){i0.error("Incorrect QR code.");return}v(!0);try{await j0.post("/reservations/scan",null,{params:{orderNumber:R}}),X(),i0.success("Reservation processed!")}catch(G){console.error(G),i0.error("Error processing reserve.")}finally{v(!1)}},n0=R=>{g("/app"),h(R)},r0=R=>{h("route"),g(`/app/${R}`)};return F.jsxs("div",{className:"app-container",children:[F.jsxs("header",{className:"topbar",children:[F.jsxs("button",{className:`hamburger-btn ${T?"is-open":""}`,onClick:()=>N(R=>!R),children:[F.jsx("span",{}),F.jsx("span",{}),F.jsx("span",{})]}),F.jsx("h1",{className:"topbar-title",children:"FLOWQR"})]}),F.jsxs("aside",{className:`sidebar ${T?"open":""}`,children:[F.jsx("h2",{className:"sidebar-title",children:"FLOWQR"}),F.jsxs("ul",{className:"sidebar-menu",children:[F.jsx("li",{className:`menu-item ${S==="inventory"?"active":""}`,onClick:()=>n0("inventory"),children:"Inventory"}),F.jsx("li",{className:`menu-item ${S==="createItem"?"active":""}`,onClick:()=>n0("createItem"),children:"Create item"}),F.jsx("li",{className:`menu-item ${S==="reserve"?"active":""}`,onClick:()=>n0("reserve"),children:"Reserved items"}),F.jsx("li",{className:`menu-item ${S==="createReservation"?"active":""}`,onClick:()=>n0("createReservation"),children:"Create a reservation"}),F.jsx("li",{className:`menu-item ${S==="sold"?"active":""}`,onClick:()=>n0("sold"),children:"Sold items"}),F.jsx("li",{className:`menu-item ${S==="files"?"active":""}`,onClick:()=>n0("files"),children:"QR-Codes"}),F.jsx("li",{className:`menu-item ${b.pathname.startsWith("/app/about")?"active":""}`,onClick:()=>r0("about"),children:"About App"}),F.jsx("li",{className:`menu-item ${b.pathname.startsWith("/app/account")?"active":""}`,onClick:()=>r0("account"),children:"Personal account"}),F.jsx("li",{className:"logout-item",onClick:()=>{n(),g("/login")},children:"Log out"})]})]}),F.jsxs("main",{className:"app-main",children:[D&&F.jsx("div",{className:"loading-overlay",children:"Loading..."}),S!=="route"&&F.jsxs(F.Fragment,{children:[S==="inventory"&&F.jsxs(F.Fragment,{children:[F.jsxs("div",{className:"sort-dropdown",children:[F.jsx("label",{htmlFor:"sort-menu",children:"Sort by:"}),F.jsxs("select",{id:"sort-menu",className:"sort-select",value:_,onChange:R=>p(R.target.value),children:[F.jsx("option",{value:"",children:"Standard"}),F.jsx("option",{value:"name",children:"Name"}),F.jsx("option",{value:"quantity",children:"Amount"}),F.jsx("option",{value:"sold",children:"Sold"})]})]}),F.jsx("div",{className:"excel-button-wrapper",children:F.jsx(sB,{})}),F.jsx(I1,{items:r})]}),S==="createItem"&&F.jsx("div",{className:"item-page",children:F.jsxs("div",{className:"item-card",children:[F.jsx(lB,{onAdd:$}),F.jsxs("div",{className:"scanner-buttons",children:[F.jsx("button",{className:"btn btn-add",onClick:()=>{C("add"),B(!0)},children:"Scan to add"}),F.jsx("button",{className:"btn btn-remove",onClick:()=>{C("remove"),B(!0)},children:"Scan to remove"})]})]})}),S==="reserve"&&F.jsx(nB,{reservedItems:i,setReservedItems:u,onScan:l0,onReservationRemoved:e0,onWeekFilter:async R=>{v(!0);try{const I=(await j0.get("/reservations/sorted",{params:{reservationWeek:R}})).data.filter(o0=>!o0.isSold).map(o0=>{var w;return{id:((w=o0.id)==null?void 0:w.toString())??"",name:o0.itemName??"",quantity:o0.reservedQuantity??0,orderNumber:o0.orderNumber??"",week:o0.reservationWeek??""}});u(I),i0.success(`Sorted by week ${R}`)}catch(G){console.error(G),i0.error("Failed to filter."),u([])}finally{v(!1)}},onShowAll:X}),S==="createReservation"&&F.jsx("div",{className:"reservation-page",children:F.jsx("div",{className:"reservation-card",children:F.jsx(rB,{items:r,onReserveComplete:X,onUpdateItems:(R,G)=>s(I=>I.map(o0=>o0.id===R?{...o0,quantity:o0.quantity-G}:o0))})})}),S==="sold"&&F.jsx(oB,{reservations:c}),S==="files"&&F.jsx(iB,{})]}),F.jsx(Ld,{})]}),T&&ki.createPortal(F.jsx("div",{className:`backdrop ${y?"backdrop--blur":""}`,onClick:()=>N(!1)}),document.body),A&&ki.createPortal(F.jsx("div",{className:"scanner-modal",onClick:()=>B(!1),children:F.jsxs("div",{className:"scanner-dialog",onClick:R=>R.stopPropagation(),children:[F.jsx("button",{className:"scanner-close",onClick:()=>B(!1),children:"×"}),F.jsx("div",{className:"scanner-body",children:F.jsx(Df,{onScan:J,onClose:()=>B(!1)})})]})}),document.body)]})};function cB({embedded:n=!0}){const[r,s]=j.useState(null),[i,u]=j.useState(!0);if(j.useEffect(()=>{(async()=>{try{const d=await x1();s(d)}catch{}finally{u(!1)}})()},[]),i)return F.jsxs("div",{className:n?"sub-card sub-skeleton":"sub-banner sub-skeleton",children:[F.jsx("div",{className:"sub-skel-line"}),F.jsx("div",{className:"sub-skel-line short"})]});if(!r||r.status==="ACTIVE")return null;const c=r.daysLeft??0,E=!!r.isAdmin,A=r.status==="TRIAL"?`Trial period: remaining ${c} days left.`:r.status==="EXPIRED"?"Subscription has expired":r.status==="NO_COMPANY"?"No company affiliation":"Guest",B=async()=>{try{const{checkoutUrl:d}=await a1();window.location.href=d}catch{i0.error("Failed to create payment")}};return F.jsxs("div",{className:n?"sub-card":"sub-banner",children:[F.jsxs("div",{className:"sub-header",children:[F.jsxs("span",{className:`sub-pill ${r.status.toLowerCase()}`,children:[r.status==="TRIAL"&&"TRIAL",r.status==="EXPIRED"&&"EXPIRED",r.status==="NO_COMPANY"&&"NO COMPANY",r.status==="ANON"&&"ANON"]}),(r.trialEnd||r.currentPeriodEnd)&&F.jsxs("span",{className:"sub-dates",children:[r.status==="TRIAL"&&r.trialEnd&&`до ${new Date(r.trialEnd).toLocaleDateString()}`,r.status==="EXPIRED"&&r.currentPeriodEnd&&`завершилась ${new Date(r.currentPeriodEnd).toLocaleDateString()}`]})]}),F.jsx("div",{className:"sub-title",children:A}),F.jsx("div",{className:"sub-actions",children:E?F.jsx("button",{className:"sub-btn",onClick:B,children:"Subscribe"}):F.jsx("div",{className:"sub-hint",children:"Extension is available to the company administrator"})})]})}const fB=()=>{const[n,r]=j.useState(null),[s,i]=j.useState({username:"",email:"",password:""}),[u,c]=j.useState(!1);j.useEffect(()=>{(async()=>{try{const B=await n1();r(B)}catch{i0.error("Failed to get account")}})()},[]);const E=B=>{const{name:d,value:C}=B.target;i(D=>({...D,[d]:C}))},A=async B=>{B.preventDefault(),c(!0);try{await l1(s),i0.success("User created"),i({username:"",email:"",password:""})}catch{i0.error("Failed to create user")}finally{c(!1)}};return F.jsxs("div",{className:"account-wrap",children:[F.jsx("h2",{children:"Personal account"}),F.jsx(cB,{embedded:!0}),n?F.jsxs(F.Fragment,{children:[F.jsxs("div",{className:"account-card",children:[F.jsxs("div",{className:"row",children:[F.jsx("span",{children:"User:"}),F.jsx("b",{children:n.username})]}),F.jsxs("div",{className:"row",children:[F.jsx("span",{children:"Email:"}),F.jsx("b",{children:n.email})]}),F.jsxs("div",{className:"row",children:[F.jsx("span",{children:"Company:"}),F.jsx("b",{children:n.companyName??"—"})]}),F.jsxs("div",{className:"row",children:[F.jsx("span",{children:"Role:"}),F.jsx("b",{children:n.admin?"Admin":"User"})]})]}),n.admin&&F.jsxs("div",{className:"account-card",children:[F.jsx("h3",{children:"Create User"}),F.jsxs("form",{className:"admin-form",onSubmit:A,children:[F.jsx("input",{name:"username",placeholder:"User",value:s.username,onChange:E,required:!0}),F.jsx("input",{name:"email",type:"email",placeholder:"Email",value:s.email,onChange:E,required:!0}),F.jsx("input",{name:"password",type:"password",placeholder:"Password",value:s.password,onChange:E,required:!0}),F.jsx("button",{type:"submit",disabled:u,children:u?"Add...":"Create"})]})]})]}):F.jsx("div",{className:"account-card",children:"Loading..."})]})},EB=()=>F.jsxs("div",{className:"about-app-container",children:[F.jsx("h1",{children:"Über die App"}),F.jsxs("section",{className:"about-section",children:[F.jsx("h2",{children:"Zweck"}),F.jsx("p",{children:"Diese App ist für die Verwaltung von Lagerbeständen, die Reservierung von Waren und andere Vorgänge wie die Erfassung verkaufter Artikel oder das Anzeigen von Dateien vorgesehen."})]}),F.jsxs("section",{className:"about-section",children:[F.jsx("h2",{children:"Funktionalität"}),F.jsxs("ul",{children:[F.jsxs("li",{children:[F.jsx("strong",{children:"Lagerverwaltung:"})," Hinzufügen, Bearbeiten und Löschen von Artikeln."]}),F.jsxs("li",{children:[F.jsx("strong",{children:"Warenreservierung:"})," System zur Reservierung von Artikeln im Lager."]}),F.jsxs("li",{children:[F.jsx("strong",{children:"Verkaufte Artikel:"})," Anzeige der Liste verkaufter Reservierungen."]}),F.jsxs("li",{children:[F.jsx("strong",{children:"QR-Code-Scanner:"})," Unterstützung für das Hinzufügen/Löschen über QR-Codes."]}),F.jsxs("li",{children:[F.jsx("strong",{children:"Datenexport:"})," Möglichkeit, Daten im Excel-Format zu exportieren."]})]})]}),F.jsxs("section",{className:"about-section",children:[F.jsx("h2",{children:"Urheberrechtshinweis"}),F.jsx("p",{children:"© 2025 Alexander Starikov. Diese App ist geistiges Eigentum des Entwicklers. Alle Rechte vorbehalten."}),F.jsx("p",{children:"Die Verbreitung von Binärdateien und Quellcode ohne Genehmigung des Eigentümers ist untersagt."})]}),F.jsxs("section",{className:"about-section",children:[F.jsx("h2",{children:"Kontakt"}),F.jsxs("p",{children:["Bei Fragen wenden Sie sich bitte an: ",F.jsx("a",{href:"mailto:olek92112@gmail.com",children:"olek92112@gmail.com"})]})]})]}),dB="/api",BB=()=>localStorage.getItem("accessToken"),CB=()=>localStorage.getItem("refreshToken"),AB=(n,r)=>{localStorage.setItem("accessToken",n),localStorage.setItem("refreshToken",r)},hf=()=>{localStorage.removeItem("accessToken"),localStorage.removeItem("refreshToken")},mB=async()=>{const n=BB(),r=CB();if(!r)return!1;if(!n)try{const s=await H0.post(`${dB}/auth/refresh`,{refreshToken:r});return AB(s.data.accessToken,s.data.refreshToken),!0}catch(s){return console.error("Ошибка обновления токенов:",s),hf(),!1}return!0},D8=()=>{hf()};function DB({children:n}){return localStorage.getItem("token")?n:F.jsx(gi,{to:"/login",replace:!0})}function hB(){const[n,r]=j.useState(!1),s=xa();j.useEffect(()=>{const c=()=>{D8(),r(!1),i0.info("Сессия завершена. Войдите снова."),s("/login")};return window.addEventListener("auth:logout",c),()=>window.removeEventListener("auth:logout",c)},[s]),j.useEffect(()=>{(async()=>{const E=await mB();r(E)})()},[]);const i=()=>{r(!0),i0.success("Successful Login!")},u=()=>{D8(),r(!1),i0.info("Successful Logout!"),s("/login")};return F.jsxs(Hd,{children:[F.jsx(Je,{path:"/login",element:F.jsx(q1,{onSuccess:i})}),F.jsx(Je,{path:"/register",element:F.jsx(H1,{onSuccess:()=>{}})}),F.jsx(Je,{path:"/confirmed",element:F.jsx(W1,{})}),F.jsxs(Je,{path:"/app",element:F.jsx(DB,{children:F.jsx(uB,{onLogout:u})}),children:[F.jsx(Je,{index:!0,element:F.jsx(F.Fragment,{})}),F.jsx(Je,{path:"about",element:F.jsx(EB,{})}),F.jsx(Je,{path:"account",element:F.jsx(fB,{})})]}),F.jsx(Je,{path:"/",element:F.jsx(gi,{to:n?"/app":"/login",replace:!0})}),F.jsx(Je,{path:"*",element:F.jsx(gi,{to:n?"/app":"/login",replace:!0})})]})}function FB(){return F.jsx(c5,{children:F.jsx(hB,{})})}Z6.createRoot(document.getElementById("root")).render(F.jsxs(j.StrictMode,{children:[F.jsx(FB,{}),F.jsx(P1,{position:"top-right",autoClose:1e4,hideProgressBar:!1})]}));
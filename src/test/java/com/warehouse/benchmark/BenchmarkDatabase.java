@@ -0,0 +1,44 @@
+package com.warehouse.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Подключение JMH-бенчмарков к PostgreSQL. Бенчмарк идёт в отдельном JVM (@Fork),
+ * поэтому параметры подключения из main передаются ему системными свойствами bench.*.
+ * Бенчмарки пересоздают свои временные таблицы — запускать только на тестовой БД.
+ */
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    static Connection connect() throws SQLException {
+        return DriverManager.getConnection(property("bench.jdbcUrl"), property("bench.user"), property("bench.password"));
+    }
+
+    /** main(jdbcUrl, user, password): в jdbcUrl стоит указать reWriteBatchedInserts=true, как в application.yml. */
+    static void run(Class<?> benchmark, String[] args) throws RunnerException {
+        if (args.length < 3) {
+            System.out.println("Использование: " + benchmark.getSimpleName() + " <jdbcUrl> <user> <password>");
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .include(benchmark.getSimpleName())
+                .jvmArgsAppend("-Dbench.jdbcUrl=" + args[0], "-Dbench.user=" + args[1], "-Dbench.password=" + args[2])
+                .build()).run();
+    }
+
+    private static String property(String name) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            throw new IllegalStateException("Не задано -D" + name + " (запуск через main бенчмарка)");
+        }
+        return value;
+    }
+}
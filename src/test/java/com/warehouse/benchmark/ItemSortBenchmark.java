@@ -0,0 +1,144 @@
+package com.warehouse.benchmark;
+
+import com.warehouse.model.Item;
+import com.warehouse.utils.ItemComparator;
+import com.warehouse.utils.ItemSortKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH на PostgreSQL: список товаров компании по имени. Прежний путь — все товары компании
+ * и сортировка в Java (ItemComparator.BY_NAME, Collator на каждое сравнение); новый —
+ * ORDER BY name_sort_key, id по индексу (company_id, name_sort_key, id), как idx_item_company_name_sort_key.
+ * Полный список (/items) и первая keyset-страница (?limit=50): старому пути для неё всё равно нужна вся компания.
+ * Работает с таблицей item_sort_bench. Запуск: main(jdbcUrl, user, password) — см. BenchmarkDatabase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSortBenchmark {
+
+    private static final String ALPHABET = "абвгдеёжзийклмнопрстуфхцчшщыэюяABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -";
+    private static final long COMPANY_ID = 1;
+    private static final int PAGE_SIZE = 50;
+
+    // Товаров в компании
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS item_sort_bench");
+            st.execute("CREATE TABLE item_sort_bench (id varchar(255) PRIMARY KEY, company_id bigint, " +
+                    "name varchar(255), name_sort_key varchar(1024) COLLATE \"C\")");
+        }
+        // Ключи считаются один раз при addItem/updateItem, поэтому в замер не входят
+        Random random = new Random(42);
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO item_sort_bench VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                String name = randomName(random);
+                ps.setString(1, String.valueOf(i));
+                ps.setLong(2, COMPANY_ID);
+                ps.setString(3, name);
+                ps.setString(4, ItemSortKeys.of(name, ItemSortKeys.DEFAULT_LANG));
+                ps.addBatch();
+                if ((i + 1) % 1000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE INDEX ON item_sort_bench (company_id, name_sort_key, id)");
+            st.execute("ANALYZE item_sort_bench");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE item_sort_bench");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Item> comparatorFullList() throws SQLException {
+        List<Item> items = read("SELECT id, name FROM item_sort_bench WHERE company_id = ?");
+        items.sort(ItemComparator.BY_NAME);
+        return items;
+    }
+
+    @Benchmark
+    public List<Item> sortKeyFullList() throws SQLException {
+        return read("SELECT id, name FROM item_sort_bench WHERE company_id = ? ORDER BY name_sort_key, id");
+    }
+
+    @Benchmark
+    public List<Item> comparatorFirstPage() throws SQLException {
+        return new ArrayList<>(comparatorFullList().subList(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Item> sortKeyFirstPage() throws SQLException {
+        return read("SELECT id, name FROM item_sort_bench WHERE company_id = ? ORDER BY name_sort_key, id LIMIT " + PAGE_SIZE);
+    }
+
+    private List<Item> read(String sql) throws SQLException {
+        List<Item> items = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setLong(1, COMPANY_ID);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Item item = new Item();
+                    item.setId(rs.getString("id"));
+                    item.setName(rs.getString("name"));
+                    items.add(item);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 8 + random.nextInt(24);
+        for (int c = 0; c < length; c++) {
+            char ch = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            name.append(random.nextBoolean() ? Character.toUpperCase(ch) : ch);
+        }
+        return name.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkDatabase.run(ItemSortBenchmark.class, args);
+    }
+}
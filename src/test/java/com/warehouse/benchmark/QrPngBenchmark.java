@@ -0,0 +1,80 @@
+package com.warehouse.benchmark;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.warehouse.utils.QrPngEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH: PNG одного QR-кода через MatrixToImageWriter (BufferedImage + ImageIO) против QrPngEncoder.
+ * Что картинки совпадают попиксельно, проверяет QrPngEncoderTest.
+ * Запуск: main из IDE (тестовый classpath) — в прод-сборку не попадает.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QrPngBenchmark {
+
+    private static final int CODES = 256;
+
+    // Размер как у скачивания (QrCodeService) и крупный — для печати этикеток
+    @Param({"200", "600"})
+    public int size;
+
+    private BitMatrix[] matrices;
+    private int next;
+
+    @Setup
+    public void setUp() throws WriterException {
+        QRCodeWriter writer = new QRCodeWriter();
+        matrices = new BitMatrix[CODES];
+        for (int i = 0; i < CODES; i++) {
+            matrices[i] = writer.encode("ORDER-" + i + "_item-" + (i * 31), BarcodeFormat.QR_CODE, size, size);
+        }
+    }
+
+    @Benchmark
+    public byte[] imageIo() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatrixToImageWriter.writeToStream(nextMatrix(), "PNG", out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] qrPngEncoder() {
+        return QrPngEncoder.encode(nextMatrix());
+    }
+
+    private BitMatrix nextMatrix() {
+        BitMatrix matrix = matrices[next];
+        next = (next + 1) % CODES;
+        return matrix;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(QrPngBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,145 @@
+package com.warehouse.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH на PostgreSQL: массовая вставка резерваций (один saveAll в транзакции) в том виде, как её выполняет Hibernate:
+ * IDENTITY — INSERT ... RETURNING id на каждую строку (батчинг невозможен);
+ * SEQUENCE (allocationSize = 50) — один nextval на 50 строк и JDBC-батч по 50.
+ * Работает со своими таблицами reservation_bench_*. Запуск: main(jdbcUrl, user, password) — см. BenchmarkDatabase;
+ * в jdbcUrl стоит указать reWriteBatchedInserts=true, как в application.yml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+    private static final String COLUMNS = "(order_number, item_name, reserved_quantity, reservation_week, status)";
+
+    // Строк в одном saveAll (POST /reservations/reservations)
+    @Param({"100", "1000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        connection.setAutoCommit(false);
+        try (Statement st = connection.createStatement()) {
+            dropTables(st);
+            st.execute("CREATE TABLE reservation_bench_identity (id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+                    "order_number varchar(255), item_name varchar(255), reserved_quantity int, " +
+                    "reservation_week varchar(255), status varchar(255))");
+            st.execute("CREATE TABLE reservation_bench_seq (id bigint PRIMARY KEY, " +
+                    "order_number varchar(255), item_name varchar(255), reserved_quantity int, " +
+                    "reservation_week varchar(255), status varchar(255))");
+            st.execute("CREATE SEQUENCE reservation_bench_seq_id START WITH " + BATCH_SIZE + " INCREMENT BY " + BATCH_SIZE);
+        }
+        connection.commit();
+    }
+
+    // Таблицы не растут от итерации к итерации: каждая меряет вставку в одинаковые условия
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE reservation_bench_identity, reservation_bench_seq");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            dropTables(st);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    public void identity() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO reservation_bench_identity " + COLUMNS + " VALUES (?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public void pooledSequence() throws SQLException {
+        try (PreparedStatement next = connection.prepareStatement("SELECT nextval('reservation_bench_seq_id')");
+             PreparedStatement ps = connection.prepareStatement(
+                     "INSERT INTO reservation_bench_seq (id, " + COLUMNS.substring(1) + " VALUES (?, ?, ?, ?, ?, ?)")) {
+            long hi = 0;
+            long id = 0;
+            for (int i = 0; i < rows; i++) {
+                if (id >= hi) {
+                    // pooled: sequence отдаёт верхнюю границу блока из BATCH_SIZE id
+                    try (ResultSet rs = next.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1);
+                    }
+                    id = hi - BATCH_SIZE;
+                }
+                ps.setLong(1, ++id);
+                bind(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static void dropTables(Statement st) throws SQLException {
+        st.execute("DROP TABLE IF EXISTS reservation_bench_identity");
+        st.execute("DROP TABLE IF EXISTS reservation_bench_seq");
+        st.execute("DROP SEQUENCE IF EXISTS reservation_bench_seq_id");
+    }
+
+    private static void bind(PreparedStatement ps, int from, int i) throws SQLException {
+        ps.setString(from, "ORD-" + i);
+        ps.setString(from + 1, "Item-" + (i % 500));
+        ps.setInt(from + 2, 1 + i % 10);
+        ps.setString(from + 3, "2025-W" + (1 + i % 52));
+        ps.setString(from + 4, "RESERVED");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkDatabase.run(ReservationInsertBenchmark.class, args);
+    }
+}
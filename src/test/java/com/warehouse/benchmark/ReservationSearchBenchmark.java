@@ -0,0 +1,104 @@
+package com.warehouse.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH на PostgreSQL: поиск резерваций LOWER(...) LIKE '%q%' без индекса и с триграммными индексами
+ * (см. ReservationSearchIndexes). Работает с таблицей reservation_search_bench, рабочие данные не трогает.
+ * Запуск: main(jdbcUrl, user, password) — см. BenchmarkDatabase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationSearchBenchmark {
+
+    private static final long COMPANY_ID = 3;
+    private static final int PAGE_SIZE = 51;
+
+    // Исторических резерваций в таблице (10 компаний)
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"none", "pg_trgm"})
+    public String index;
+
+    // Частое слово, точный товар, номер заказа и запрос без совпадений
+    @Param({"шуруп", "item-4711", "ord-2024-0099", "zzz-нет-такого"})
+    public String query;
+
+    private Connection connection;
+    private PreparedStatement search;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect();
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS reservation_search_bench");
+            st.execute("CREATE TABLE reservation_search_bench (id bigint PRIMARY KEY, company_id bigint, " +
+                    "item_name varchar(255), order_number varchar(255), status varchar(32))");
+            // У каждой компании ~5000 товаров; большая часть истории — SOLD
+            st.execute("INSERT INTO reservation_search_bench " +
+                    "SELECT g, g % 10, CASE WHEN g % 97 = 0 THEN 'Шуруп ' ELSE 'Item-' END || (g % 5000), " +
+                    "'ORD-' || (2020 + g % 5) || '-' || lpad((g % 10000)::text, 4, '0'), " +
+                    "CASE WHEN g % 20 = 0 THEN 'RESERVED' ELSE 'SOLD' END FROM generate_series(1, " + rows + ") g");
+            if ("pg_trgm".equals(index)) {
+                st.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                st.execute("CREATE INDEX ON reservation_search_bench USING gin (lower(item_name) gin_trgm_ops)");
+                st.execute("CREATE INDEX ON reservation_search_bench USING gin (lower(order_number) gin_trgm_ops)");
+            }
+            st.execute("ANALYZE reservation_search_bench");
+        }
+        // Тот же запрос, что строит ReservationRepositoryImpl.search (первая страница)
+        search = connection.prepareStatement("SELECT id, item_name, order_number, status FROM reservation_search_bench " +
+                "WHERE company_id = ? AND (lower(item_name) LIKE ? OR lower(order_number) LIKE ?) " +
+                "ORDER BY id DESC LIMIT " + PAGE_SIZE);
+        String pattern = "%" + query + "%";
+        search.setLong(1, COMPANY_ID);
+        search.setString(2, pattern);
+        search.setString(3, pattern);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        search.close();
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE reservation_search_bench");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int firstPage() throws SQLException {
+        int found = 0;
+        try (ResultSet rs = search.executeQuery()) {
+            while (rs.next()) found++;
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        BenchmarkDatabase.run(ReservationSearchBenchmark.class, args);
+    }
+}
@@ -0,0 +1,102 @@
+package com.warehouse.repository;
+
+import com.warehouse.migration.ReservationSearchIndexes;
+import com.warehouse.model.Company;
+import com.warehouse.model.Reservation;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Поиск резерваций (GET /reservations/search) и его триграммные индексы на PostgreSQL. */
+@Import({ReservationSearchIndexes.class, TestData.class})
+class ReservationSearchTest extends PostgresTest {
+
+    private static final String VALID_SQL = "SELECT i.indisvalid FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?";
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationSearchIndexes searchIndexes;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = testData.company();
+    }
+
+    @Test
+    void matchesItemNameOrOrderNumberIgnoringCase() {
+        Reservation box = testData.reservation(company, "ORD-1", "Коробка большая", 1, "RESERVED");
+        Reservation order = testData.reservation(company, "ord-короб-7", "Скотч", 1, "SOLD");
+        testData.reservation(company, "ORD-3", "Плёнка", 1, "RESERVED");
+        // Чужая компания в выдачу не попадает
+        testData.reservation(testData.company(), "ORD-1", "Коробка", 1, "RESERVED");
+
+        assertEquals(List.of(order.getId(), box.getId()), ids(reservationRepository.search(company, "КОРОБ", null, null, 10)));
+        assertEquals(List.of(box.getId()), ids(reservationRepository.search(company, "короб", "RESERVED", null, 10)));
+    }
+
+    @Test
+    void likeWildcardsInQueryAreLiteral() {
+        Reservation percent = testData.reservation(company, "ORD-1", "Скидка 50%", 1, "RESERVED");
+        testData.reservation(company, "ORD-2", "Скидка 500", 1, "RESERVED");
+        Reservation underscore = testData.reservation(company, "A_B", "Лента", 1, "RESERVED");
+        testData.reservation(company, "AXB", "Лента", 1, "RESERVED");
+
+        assertEquals(List.of(percent.getId()), ids(reservationRepository.search(company, "50%", null, null, 10)));
+        assertEquals(List.of(underscore.getId()), ids(reservationRepository.search(company, "a_b", null, null, 10)));
+    }
+
+    @Test
+    void pagesByIdDescendingWithoutGapsOrDuplicates() {
+        for (int i = 0; i < 7; i++) {
+            testData.reservation(company, "ORD-" + i, "Шуруп " + i, 1, "SOLD");
+        }
+
+        List<Long> all = ids(reservationRepository.search(company, "шуруп", null, null, 100));
+        List<Long> first = ids(reservationRepository.search(company, "шуруп", null, null, 3));
+        List<Long> second = ids(reservationRepository.search(company, "шуруп", null, first.get(2), 3));
+        List<Long> third = ids(reservationRepository.search(company, "шуруп", null, second.get(2), 3));
+
+        assertEquals(7, all.size());
+        assertEquals(all.subList(0, 3), first);
+        assertEquals(all.subList(3, 6), second);
+        assertEquals(all.subList(6, 7), third);
+    }
+
+    @Test
+    void invalidIndexFromInterruptedBuildIsRecreated() {
+        searchIndexes.run(null);
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(VALID_SQL, Boolean.class, "idx_reservation_item_name_trgm"));
+
+        // Так выглядит индекс после прерванного CREATE INDEX CONCURRENTLY
+        jdbcTemplate.update("UPDATE pg_index SET indisvalid = false " +
+                "WHERE indexrelid = 'idx_reservation_item_name_trgm'::regclass");
+        searchIndexes.run(null);
+
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(VALID_SQL, Boolean.class, "idx_reservation_item_name_trgm"));
+        assertTrue(jdbcTemplate.queryForObject(VALID_SQL, Boolean.class, "idx_reservation_order_number_trgm"));
+    }
+
+    private static List<Long> ids(List<Reservation> reservations) {
+        return reservations.stream().map(Reservation::getId).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Кэш локален для инстанса: переименование на другом инстансе до него не доходит,
+ * поэтому попадание перепроверяется по первичному ключу.
+ */
+@Import(TestData.class)
+class ItemIdCacheTest extends PostgresTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private ItemIdCache cache;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ItemIdCache(itemRepository, 100);
+        company = testData.company();
+    }
+
+    @Test
+    void hitIsServedFromCache() {
+        Item item = testData.item(company, "Скотч", 1);
+
+        assertEquals(Optional.of(item.getId()), cache.resolve(company, "Скотч"));
+        assertEquals(Optional.of(item.getId()), cache.resolve(company, "Скотч"));
+        assertEquals(1L, (long) cache.stats().get("hits"));
+        assertEquals(1L, (long) cache.stats().get("misses"));
+    }
+
+    @Test
+    void renameElsewhereIsNotServedFromCache() {
+        Item item = testData.item(company, "Скотч", 1);
+        cache.resolve(company, "Скотч");
+
+        // Другой инстанс переименовал товар и завёл новый под старым названием — этот кэш о том не знает
+        item.setName("Скотч узкий");
+        itemRepository.save(item);
+        assertEquals(Optional.empty(), cache.resolve(company, "Скотч"));
+
+        Item replacement = testData.item(company, "Скотч", 1);
+        assertEquals(Optional.of(replacement.getId()), cache.resolve(company, "Скотч"));
+        assertEquals(Optional.of(replacement.getId()), cache.resolve(company, "Скотч"));
+        assertEquals(1L, (long) cache.stats().get("stale"));
+    }
+
+    @Test
+    void deleteElsewhereIsNotServedFromCache() {
+        Item item = testData.item(company, "Плёнка", 1);
+        cache.resolve(company, "Плёнка");
+
+        itemRepository.delete(item);
+
+        assertEquals(Optional.empty(), cache.resolve(company, "Плёнка"));
+        assertEquals(0L, (long) cache.stats().get("entries"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.warehouse.service;
+
+import com.warehouse.utils.TrigramIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Изменения, закоммиченные во время построения индекса, не теряются. */
+class ItemSearchServiceTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    @Test
+    void changesCommittedDuringBuildAreApplied() throws Exception {
+        CountDownLatch selectStarted = new CountDownLatch(1);
+        CountDownLatch releaseSelect = new CountDownLatch(1);
+        // SELECT построения «видит» снимок, в котором ещё нет нового товара и ещё есть удалённый
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                selectStarted.countDown();
+                await(releaseSelect);
+            }
+        };
+        ItemSearchService service = new ItemSearchService(jdbcTemplate);
+
+        CompletableFuture<List<TrigramIndex.Hit>> firstSearch =
+                CompletableFuture.supplyAsync(() -> service.search(COMPANY_ID, "лампа", 10));
+        assertTrue(selectStarted.await(10, TimeUnit.SECONDS));
+
+        // Вне транзакции изменения применяются сразу — как afterCommit
+        service.onItemSaved(COMPANY_ID, "new", "Лампа настольная", null);
+        releaseSelect.countDown();
+        firstSearch.get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of("new"), ids(service.search(COMPANY_ID, "лампа", 10)));
+
+        service.onItemDeleted(COMPANY_ID, "new");
+        assertTrue(service.search(COMPANY_ID, "лампа", 10).isEmpty());
+    }
+
+    @Test
+    void concurrentSearchesWaitForOneBuild() throws Exception {
+        CountDownLatch releaseSelect = new CountDownLatch(1);
+        int[] selects = new int[1];
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void query(String sql, RowCallbackHandler rch, Object... args) {
+                synchronized (selects) {
+                    selects[0]++;
+                }
+                await(releaseSelect);
+            }
+        };
+        ItemSearchService service = new ItemSearchService(jdbcTemplate);
+
+        CompletableFuture<?> first = CompletableFuture.runAsync(() -> service.search(COMPANY_ID, "лампа", 10));
+        CompletableFuture<?> second = CompletableFuture.runAsync(() -> service.search(COMPANY_ID, "стол", 10));
+        Thread.sleep(200);
+        releaseSelect.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, selects[0]);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> ids(List<TrigramIndex.Hit> hits) {
+        return hits.stream().map(TrigramIndex.Hit::id).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Reservation;
+import com.warehouse.model.User;
+import com.warehouse.model.dto.ReservationDTO;
+import com.warehouse.model.dto.ReservationPageDTO;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.service.mapper.interfaces.ReservationMapperImpl;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/** Keyset-страницы резерваций (?after=/?limit=): новые сверху, без пропусков и повторов. */
+@Import({ReservationService.class, ItemIdCache.class, ItemSoldCounterService.class, StockService.class,
+        QrCodeService.class, DataVersionService.class, ReservationMapperImpl.class, TestData.class})
+class ReservationPagingTest extends PostgresTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @MockBean
+    private UserService userService;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = testData.company();
+        User user = new User();
+        user.setCompany(company);
+        when(userService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void walksAllPagesNewestFirst() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            expected.add(testData.reservation(company, "ORD-" + i, "Скотч", 1, "RESERVED").getId());
+            testData.reservation(company, "SOLD-" + i, "Скотч", 1, "SOLD");
+        }
+        expected.sort(Comparator.reverseOrder());
+
+        List<Long> walked = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        String after = null;
+        do {
+            ReservationPageDTO page = reservationService.getReservationsPage("RESERVED", after, 3, null, null);
+            page.getItems().forEach(dto -> walked.add(dto.getId()));
+            sizes.add(page.getItems().size());
+            after = page.getNextCursor();
+        } while (after != null);
+
+        assertEquals(expected, walked);
+        assertEquals(List.of(3, 3, 1), sizes);
+    }
+
+    @Test
+    void exactMultipleOfLimitHasNoEmptyLastPage() {
+        for (int i = 0; i < 4; i++) {
+            testData.reservation(company, "ORD-" + i, "Скотч", 1, "RESERVED");
+        }
+
+        ReservationPageDTO first = reservationService.getReservationsPage("RESERVED", null, 2, null, null);
+        ReservationPageDTO second = reservationService.getReservationsPage("RESERVED", first.getNextCursor(), 2, null, null);
+
+        assertEquals(2, second.getItems().size());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void soldPageFiltersBySaleDateInclusive() {
+        sold("ORD-1", LocalDate.of(2026, 3, 31));
+        Reservation firstDay = sold("ORD-2", LocalDate.of(2026, 4, 1));
+        Reservation lastDay = sold("ORD-3", LocalDate.of(2026, 4, 30));
+        sold("ORD-4", LocalDate.of(2026, 5, 1));
+
+        ReservationPageDTO page = reservationService.getReservationsPage("SOLD", null, 10,
+                LocalDate.of(2026, 4, 1), LocalDate.of(2026, 4, 30));
+
+        assertEquals(List.of(lastDay.getId(), firstDay.getId()), page.getItems().stream().map(ReservationDTO::getId).toList());
+        assertThrows(IllegalArgumentException.class, () -> reservationService.getReservationsPage("SOLD", null, 10,
+                LocalDate.of(2026, 4, 30), LocalDate.of(2026, 4, 1)));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationService.getReservationsPage("RESERVED", "not-a-cursor", 10, null, null));
+    }
+
+    private Reservation sold(String orderNumber, LocalDate saleDay) {
+        Reservation reservation = testData.reservation(company, orderNumber, "Скотч", 1, "SOLD");
+        // Конец дня: граница saleTo включает весь день
+        reservation.setSaleDate(saleDay.atTime(23, 59));
+        return reservationRepository.save(reservation);
+    }
+}
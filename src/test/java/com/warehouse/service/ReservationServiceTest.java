@@ -0,0 +1,137 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.Reservation;
+import com.warehouse.model.User;
+import com.warehouse.model.dto.OrderReservationRequestDTO;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.service.mapper.interfaces.ReservationMapperImpl;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+/** Заказ из многих строк: резервация одним запросом и продажа по одному скану QR заказа. */
+@Import({ReservationService.class, ItemIdCache.class, ItemSoldCounterService.class, StockService.class,
+        QrCodeService.class, DataVersionService.class, ReservationMapperImpl.class, TestData.class})
+class ReservationServiceTest extends PostgresTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ItemSoldCounterService soldCounterService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @MockBean
+    private UserService userService;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = testData.company();
+        User user = new User();
+        user.setCompany(company);
+        when(userService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void scanSellsEveryReservedLineOfTheOrder() {
+        Item tape = testData.item(company, "Скотч", 10);
+        Item box = testData.item(company, "Коробка", 10);
+        reservationService.reserveOrder("ORD-1", "KW01", List.of(line("Скотч", 2), line("Коробка", 3), line("Скотч", 1)));
+
+        reservationService.handleScannedQRCode("ORD-1");
+
+        List<Reservation> lines = reservationRepository.findByOrderNumberAndCompany("ORD-1", company);
+        assertEquals(List.of("SOLD", "SOLD", "SOLD"), lines.stream().map(Reservation::getStatus).toList());
+        assertEquals(7, itemRepository.findById(tape.getId()).orElseThrow().getQuantity());
+        assertEquals(3, itemRepository.findById(tape.getId()).orElseThrow().getSold());
+        assertEquals(3, itemRepository.findById(box.getId()).orElseThrow().getSold());
+        assertEquals(3, soldCounterService.getSold(company.getId(), "Скотч"));
+
+        // Повторный скан того же заказа ничего не продаёт
+        assertThrows(IllegalStateException.class, () -> reservationService.handleScannedQRCode("ORD-1"));
+        assertEquals(3, itemRepository.findById(tape.getId()).orElseThrow().getSold());
+    }
+
+    @Test
+    void scanSkipsLinesThatAreNoLongerReserved() {
+        Item tape = testData.item(company, "Скотч", 10);
+        testData.reservation(company, "ORD-1", "Скотч", 4, "SOLD");
+        testData.reservation(company, "ORD-1", "Скотч", 1, "RESERVED");
+
+        reservationService.handleScannedQRCode("ORD-1");
+
+        assertEquals(1, itemRepository.findById(tape.getId()).orElseThrow().getSold());
+    }
+
+    @Test
+    void scanIgnoresOrdersOfOtherCompanies() {
+        Company other = testData.company();
+        testData.item(other, "Скотч", 10);
+        testData.reservation(other, "ORD-1", "Скотч", 1, "RESERVED");
+
+        assertThrows(RuntimeException.class, () -> reservationService.handleScannedQRCode("ORD-1"));
+        assertEquals("RESERVED", reservationRepository.findByOrderNumberAndCompany("ORD-1", other).get(0).getStatus());
+    }
+
+    @Test
+    void existingOrderNumberIsNotReservedAgain() {
+        Item tape = testData.item(company, "Скотч", 10);
+        reservationService.reserveOrder("ORD-1", "KW01", List.of(line("Скотч", 2)));
+
+        assertThrows(IllegalStateException.class,
+                () -> reservationService.reserveOrder("ORD-1", "KW02", List.of(line("Скотч", 5))));
+
+        assertEquals(1, reservationRepository.findByOrderNumberAndCompany("ORD-1", company).size());
+        assertEquals(8, itemRepository.findById(tape.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void weekListWithFieldsReturnsTheSameRowsAsWithout() {
+        testData.reservation(company, "ORD-1", "Коробка", 1, "RESERVED");
+        testData.reservation(company, "ORD-2", "Скотч", 1, "RESERVED");
+        testData.reservation(company, "ORD-3", "Плёнка", 1, "SOLD");
+        testData.reservation(company, "ORD-4", "Лента", 1, "COMPLETED");
+
+        // Те же аргументы, что передаёт GET /reservations?reservationWeek=...&fields=...
+        List<Object> withFields = reservationService.getReservationFields("RESERVED", "KW01", Set.of("id")).stream()
+                .map(row -> row.get("id"))
+                .toList();
+        List<Object> withoutFields = reservationService.getReservationsByWeekForCompany("KW01").stream()
+                .map(reservation -> (Object) reservation.getId())
+                .toList();
+
+        assertEquals(2, withoutFields.size());
+        assertEquals(withoutFields, withFields);
+    }
+
+    private static OrderReservationRequestDTO.Line line(String itemName, int quantity) {
+        OrderReservationRequestDTO.Line line = new OrderReservationRequestDTO.Line();
+        line.setItemName(itemName);
+        line.setQuantity(quantity);
+        return line;
+    }
+}
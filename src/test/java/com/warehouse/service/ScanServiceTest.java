@@ -0,0 +1,152 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.Reservation;
+import com.warehouse.model.User;
+import com.warehouse.model.dto.ScanEventDTO;
+import com.warehouse.model.dto.ScanResultDTO;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Пакетные сканы на PostgreSQL с reWriteBatchedInserts=true (как на проде): новые scan_id
+ * обрабатываются ровно один раз, повторы получают сохранённый результат.
+ */
+@Import({ScanService.class, StockService.class, ItemSoldCounterService.class, DataVersionService.class,
+        ItemIdCache.class, TestData.class})
+class ScanServiceTest extends PostgresTest {
+
+    @Autowired
+    private ScanService scanService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @MockBean
+    private UserService userService;
+
+    private Company company;
+    private Item tape;
+
+    @BeforeEach
+    void setUp() {
+        company = testData.company();
+        User user = new User();
+        user.setCompany(company);
+        when(userService.getCurrentUser()).thenReturn(user);
+        tape = testData.item(company, "Скотч", 100);
+    }
+
+    @Test
+    void batchOfNewScansIsSold() {
+        for (int i = 1; i <= 5; i++) {
+            testData.reservation(company, "ORD-" + i, "Скотч", i, "RESERVED");
+        }
+
+        List<ScanResultDTO> results = scanService.processBatch(List.of(
+                scan("s1", "ORD-1"), scan("s2", "ORD-2"), scan("s3", "ORD-3"), scan("s4", "ORD-4"), scan("s5", "ORD-5")));
+
+        assertEquals(List.of("SOLD", "SOLD", "SOLD", "SOLD", "SOLD"), outcomes(results));
+        assertEquals(List.of(false, false, false, false, false), results.stream().map(ScanResultDTO::isReplayed).toList());
+        assertEquals(15, sold());
+    }
+
+    @Test
+    void replayReturnsStoredOutcomeWithoutSellingAgain() {
+        testData.reservation(company, "ORD-1", "Скотч", 2, "RESERVED");
+        scanService.processBatch(List.of(scan("s1", "ORD-1"), scan("s2", "ORD-404")));
+
+        List<ScanResultDTO> replay = scanService.processBatch(List.of(scan("s1", "ORD-1"), scan("s2", "ORD-404")));
+
+        assertEquals(List.of("SOLD", "NOT_FOUND"), outcomes(replay));
+        assertEquals(List.of(true, true), replay.stream().map(ScanResultDTO::isReplayed).toList());
+        assertEquals(2, sold());
+    }
+
+    @Test
+    void duplicateScanIdInOneBatchIsProcessedOnce() {
+        testData.reservation(company, "ORD-1", "Скотч", 2, "RESERVED");
+
+        List<ScanResultDTO> results = scanService.processBatch(List.of(scan("s1", "ORD-1"), scan("s1", "ORD-1")));
+
+        assertEquals(List.of("SOLD", "SOLD"), outcomes(results));
+        assertEquals(List.of(false, true), results.stream().map(ScanResultDTO::isReplayed).toList());
+        assertEquals(2, sold());
+    }
+
+    @Test
+    void earlierOfTwoScansOfOneOrderSells() {
+        testData.reservation(company, "ORD-1", "Скотч", 2, "RESERVED");
+        OffsetDateTime now = OffsetDateTime.now();
+
+        List<ScanResultDTO> results = scanService.processBatch(List.of(
+                scan("late", "ORD-1", now.minusMinutes(1)), scan("early", "ORD-1", now.minusMinutes(2))));
+
+        assertEquals(List.of("NOT_AVAILABLE", "SOLD"), outcomes(results));
+        assertEquals(2, sold());
+    }
+
+    @Test
+    void scanSellsEveryLineOfMultiLineOrder() {
+        testData.item(company, "Коробка", 100);
+        Reservation first = testData.reservation(company, "ORD-1", "Скотч", 2, "RESERVED");
+        Reservation second = testData.reservation(company, "ORD-1", "Коробка", 3, "RESERVED");
+
+        assertEquals(List.of("SOLD"), outcomes(scanService.processBatch(List.of(scan("s1", "ORD-1")))));
+
+        assertEquals("SOLD", reservationRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals("SOLD", reservationRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals(2, sold());
+    }
+
+    @Test
+    void invalidAndUnknownScansAreReported() {
+        testData.reservation(company, "ORD-1", "Скотч", 1, "SOLD");
+
+        List<ScanResultDTO> results = scanService.processBatch(List.of(
+                scan(" ", "ORD-1"), scan("s1", ""), scan("s2", "ORD-404"), scan("s3", "ORD-1")));
+
+        assertEquals(List.of("INVALID", "INVALID", "NOT_FOUND", "NOT_AVAILABLE"), outcomes(results));
+        assertEquals(0, sold());
+    }
+
+    private int sold() {
+        return itemRepository.findById(tape.getId()).orElseThrow().getSold();
+    }
+
+    private static List<String> outcomes(List<ScanResultDTO> results) {
+        return results.stream().map(ScanResultDTO::getOutcome).toList();
+    }
+
+    private static ScanEventDTO scan(String scanId, String orderNumber) {
+        return scan(scanId, orderNumber, null);
+    }
+
+    private static ScanEventDTO scan(String scanId, String orderNumber, OffsetDateTime scannedAt) {
+        ScanEventDTO event = new ScanEventDTO();
+        event.setScanId(scanId);
+        event.setOrderNumber(orderNumber);
+        event.setScannedAt(scannedAt);
+        return event;
+    }
+}
@@ -0,0 +1,150 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Остаток одного товара под высокой конкуренцией: атомарные условные UPDATE
+ * не теряют изменений и не уводят quantity в минус.
+ */
+@Import({StockService.class, TestData.class})
+class StockServiceConcurrencyTest extends PostgresTest {
+
+    private static final int INITIAL_QUANTITY = 50;
+    private static final int DECREASE_THREADS = 8;
+    private static final int INCREASE_THREADS = 4;
+    private static final int OPERATIONS_PER_THREAD = 100;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void concurrentDecreasesAndIncreasesLoseNoUpdates() throws Exception {
+        Item item = testData.item(testData.company(), "SKU-1", INITIAL_QUANTITY);
+
+        AtomicInteger decreased = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger minSeen = new AtomicInteger(Integer.MAX_VALUE);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(DECREASE_THREADS + INCREASE_THREADS + 1);
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (int t = 0; t < DECREASE_THREADS; t++) {
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        OptionalInt after = stockService.decrease(item.getId(), 1);
+                        if (after.isPresent()) {
+                            decreased.incrementAndGet();
+                            minSeen.accumulateAndGet(after.getAsInt(), Math::min);
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int t = 0; t < INCREASE_THREADS; t++) {
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        assertTrue(stockService.increase(item.getId(), 1).isPresent());
+                    }
+                    return null;
+                }));
+            }
+            // Параллельный читатель: остаток ни в какой момент не виден отрицательным
+            CountDownLatch writersDone = new CountDownLatch(1);
+            Future<?> reader = pool.submit(() -> {
+                start.await();
+                while (writersDone.getCount() > 0) {
+                    itemRepository.findQuantityById(item.getId())
+                            .ifPresent(quantity -> minSeen.accumulateAndGet(quantity, Math::min));
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> task : tasks) {
+                task.get(60, TimeUnit.SECONDS);
+            }
+            writersDone.countDown();
+            reader.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int increased = INCREASE_THREADS * OPERATIONS_PER_THREAD;
+        int finalQuantity = itemRepository.findQuantityById(item.getId()).orElseThrow();
+        assertEquals(DECREASE_THREADS * OPERATIONS_PER_THREAD, decreased.get() + rejected.get());
+        assertEquals(INITIAL_QUANTITY + increased - decreased.get(), finalQuantity);
+        assertTrue(finalQuantity >= 0, "quantity = " + finalQuantity);
+        assertTrue(minSeen.get() >= 0, "min quantity = " + minSeen.get());
+        // Спрос (800) больше предложения (50 + 400): часть списаний обязана получить отказ
+        assertTrue(rejected.get() > 0);
+    }
+
+    @Test
+    void multiItemDecreasesInOppositeOrderDoNotDeadlock() throws Exception {
+        Company company = testData.company();
+        Item first = testData.item(company, "SKU-A", 1000);
+        Item second = testData.item(company, "SKU-B", 1000);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<List<String>>> tasks = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                // Разный порядок строк в заказах — StockService всё равно блокирует по возрастанию id
+                Map<String, Integer> order = new LinkedHashMap<>();
+                order.put(t % 2 == 0 ? first.getId() : second.getId(), 1);
+                order.put(t % 2 == 0 ? second.getId() : first.getId(), 1);
+                tasks.add(pool.submit(() -> {
+                    start.await();
+                    List<String> failed = new ArrayList<>();
+                    for (int i = 0; i < 50; i++) {
+                        failed.addAll(stockService.decreaseAll(company.getId(), order));
+                    }
+                    return failed;
+                }));
+            }
+            start.countDown();
+            for (Future<List<String>> task : tasks) {
+                assertTrue(task.get(60, TimeUnit.SECONDS).isEmpty());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int expected = 1000 - 8 * 50;
+        assertEquals(expected, (int) itemRepository.findQuantityById(first.getId()).orElseThrow());
+        assertEquals(expected, (int) itemRepository.findQuantityById(second.getId()).orElseThrow());
+    }
+}
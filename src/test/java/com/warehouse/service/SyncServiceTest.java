@@ -0,0 +1,113 @@
+package com.warehouse.service;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.User;
+import com.warehouse.model.dto.ItemDTO;
+import com.warehouse.model.dto.SyncChangesDTO;
+import com.warehouse.service.DataVersionService.Change;
+import com.warehouse.service.mapper.interfaces.ItemMapperImpl;
+import com.warehouse.service.mapper.interfaces.ReservationMapperImpl;
+import com.warehouse.support.PostgresTest;
+import com.warehouse.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/** Страницы /sync/changes: версия уходит клиенту целиком, даже если она больше limit. */
+@Import({SyncService.class, DataVersionService.class, ItemMapperImpl.class, ReservationMapperImpl.class, TestData.class})
+class SyncServiceTest extends PostgresTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TestData testData;
+
+    @MockBean
+    private UserService userService;
+
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        company = testData.company();
+        User user = new User();
+        user.setCompany(company);
+        when(userService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void pagesNeverSplitAVersion() {
+        String start = syncService.getChanges(null, null).getCursor();
+        // Импорт на 3 товара — одна версия больше страницы, затем одиночная правка и ещё одна пачка
+        List<String> first = items("A", 3);
+        dataVersionService.record(company.getId(), first.stream().map(Change::item).toList());
+        List<String> second = items("B", 1);
+        dataVersionService.record(company.getId(), Change.item(second.get(0)));
+        List<String> third = items("C", 3);
+        dataVersionService.record(company.getId(), third.stream().map(Change::item).toList());
+
+        List<List<String>> pages = new ArrayList<>();
+        String cursor = start;
+        SyncChangesDTO page;
+        do {
+            page = syncService.getChanges(cursor, 2);
+            pages.add(page.getItems().stream().map(ItemDTO::getId).sorted().toList());
+            cursor = page.getCursor();
+        } while (page.isHasMore());
+
+        assertEquals(List.of(sorted(first), sorted(second), sorted(third), List.of()), pages);
+        assertEquals(String.valueOf(dataVersionService.current(company.getId())), cursor);
+    }
+
+    @Test
+    void latestChangeOfAnEntityWins() {
+        String start = syncService.getChanges(null, null).getCursor();
+        Item kept = testData.item(company, "Kept", 1);
+        dataVersionService.record(company.getId(), Change.item(kept.getId()), Change.item("gone"));
+        dataVersionService.record(company.getId(), Change.itemDeleted("gone"));
+
+        SyncChangesDTO changes = syncService.getChanges(start, 10);
+
+        assertEquals(List.of(kept.getId()), changes.getItems().stream().map(ItemDTO::getId).toList());
+        assertEquals(List.of("gone"), changes.getDeletedItemIds());
+        assertFalse(changes.isHasMore());
+    }
+
+    @Test
+    void cursorAheadOfCurrentVersionIsExpired() {
+        long current = dataVersionService.bump(company.getId());
+
+        assertThrows(SyncService.CursorExpiredException.class,
+                () -> syncService.getChanges(String.valueOf(current + 1), null));
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges("abc", null));
+        assertTrue(syncService.getChanges(String.valueOf(current), null).getItems().isEmpty());
+    }
+
+    private List<String> items(String prefix, int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(testData.item(company, prefix + i, 1).getId());
+        }
+        return ids;
+    }
+
+    private static List<String> sorted(List<String> ids) {
+        return ids.stream().sorted().toList();
+    }
+}
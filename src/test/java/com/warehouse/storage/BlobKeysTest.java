@@ -0,0 +1,28 @@
+package com.warehouse.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BlobKeysTest {
+
+    @Test
+    void variantUrlsForJpegAndPngOnly() {
+        assertEquals(List.of("/api/images/abc-thumb.jpg", "/api/images/def-thumb.png", "/api/images/ghi.gif"),
+                BlobKeys.toUrls(List.of("abc.jpg", "def.png", "ghi.gif"), BlobKeys.THUMB));
+    }
+
+    @Test
+    void nullKeysAreSkipped() {
+        // Строка item_image, ещё не перенесённая из data, даёт NULL-ключ
+        List<String> keys = Arrays.asList("abc.jpg", null);
+
+        assertEquals(List.of("/api/images/abc-thumb.jpg"), BlobKeys.toUrls(keys, BlobKeys.THUMB));
+        assertEquals(List.of("/api/images/abc.jpg"), BlobKeys.toUrls(keys));
+        assertNull(BlobKeys.toUrls(null, BlobKeys.THUMB));
+    }
+}
@@ -0,0 +1,36 @@
+package com.warehouse.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * База интеграционных тестов: JPA-срез приложения на PostgreSQL в Docker (Testcontainers).
+ * Схему создаёт Hibernate (ddl-auto: update из application.yml), как на проде.
+ * Контейнер один на весь прогон. Тесты не оборачиваются в транзакцию — сервисы открывают свои,
+ * поэтому каждый тест работает со своей компанией (см. TestData) и за собой не чистит.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class PostgresTest {
+
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            // как в application.yml: батч INSERT драйвер переписывает в один multi-row INSERT
+            .withUrlParam("reWriteBatchedInserts", "true");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
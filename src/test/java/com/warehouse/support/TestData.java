@@ -0,0 +1,49 @@
+package com.warehouse.support;
+
+import com.warehouse.model.Company;
+import com.warehouse.model.Item;
+import com.warehouse.model.Reservation;
+import com.warehouse.repository.CompanyRepository;
+import com.warehouse.repository.ItemRepository;
+import com.warehouse.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/** Фикстуры для интеграционных тестов (@Import(TestData.class)): у каждого теста своя компания. */
+@RequiredArgsConstructor
+public class TestData {
+
+    private final CompanyRepository companyRepository;
+    private final ItemRepository itemRepository;
+    private final ReservationRepository reservationRepository;
+
+    public Company company() {
+        Company company = new Company();
+        company.setName("Test company");
+        company.setIdentifier(UUID.randomUUID().toString());
+        company.setEnabled(true);
+        return companyRepository.save(company);
+    }
+
+    public Item item(Company company, String name, int quantity) {
+        Item item = new Item();
+        item.setId(UUID.randomUUID().toString());
+        item.setName(name);
+        item.setNameSortKey(name);
+        item.setQuantity(quantity);
+        item.setCompany(company);
+        return itemRepository.save(item);
+    }
+
+    public Reservation reservation(Company company, String orderNumber, String itemName, int quantity, String status) {
+        Reservation reservation = new Reservation();
+        reservation.setOrderNumber(orderNumber);
+        reservation.setItemName(itemName);
+        reservation.setReservedQuantity(quantity);
+        reservation.setReservationWeek("KW01");
+        reservation.setStatus(status);
+        reservation.setCompany(company);
+        return reservationRepository.save(reservation);
+    }
+}
@@ -0,0 +1,55 @@
+package com.warehouse.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripKeepsValueAndId() {
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor("ёлка/ä b+c=", "item-42").encode());
+
+        assertEquals("ёлка/ä b+c=", cursor.getValue());
+        assertEquals("item-42", cursor.getId());
+    }
+
+    @Test
+    void nullValueBecomesEmpty() {
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor(null, "17").encode());
+
+        assertEquals("", cursor.getValue());
+        assertEquals("17", cursor.getId());
+    }
+
+    @Test
+    void encodedTokenIsUrlSafe() {
+        String token = new KeysetCursor("???>>>~~~", "id").encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    void missingTokenMeansFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode("  "));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+        // Корректный Base64, но без разделителя id/значение
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("YWJj"));
+    }
+
+    @Test
+    void sortFieldParsesCursorValue() {
+        assertEquals(12, ItemSortField.QUANTITY.parseValue("12"));
+        assertEquals("abc", ItemSortField.NAME.parseValue("abc"));
+        assertThrows(IllegalArgumentException.class, () -> ItemSortField.SOLD.parseValue("abc"));
+        assertThrows(IllegalArgumentException.class, () -> ItemSortField.from("price"));
+    }
+}
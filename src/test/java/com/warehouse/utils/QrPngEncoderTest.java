@@ -0,0 +1,79 @@
+package com.warehouse.utils;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import com.google.zxing.qrcode.QRCodeWriter;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class QrPngEncoderTest {
+
+    @Test
+    void pngDecodesBackToTheSameMatrix() throws Exception {
+        // 200 — размер скачивания; 21 и 203 — ширина не кратна 8, последний байт строки дополняется
+        for (int size : new int[]{21, 200, 203}) {
+            BitMatrix matrix = new QRCodeWriter().encode("ORDER-2515303-01-01", BarcodeFormat.QR_CODE, size, size);
+
+            assertSamePixels(matrix, decode(QrPngEncoder.encode(matrix)));
+        }
+    }
+
+    @Test
+    void nonSquareMatrixKeepsItsShape() throws Exception {
+        BitMatrix matrix = new BitMatrix(13, 5);
+        matrix.setRegion(0, 0, 13, 1);
+        matrix.set(12, 4);
+        matrix.set(0, 2);
+
+        assertSamePixels(matrix, decode(QrPngEncoder.encode(matrix)));
+    }
+
+    @Test
+    void reusedThreadBuffersDoNotLeakIntoSmallerImage() throws Exception {
+        QRCodeWriter writer = new QRCodeWriter();
+        BitMatrix large = writer.encode("large-" + "x".repeat(200), BarcodeFormat.QR_CODE, 800, 800);
+        BitMatrix small = writer.encode("small", BarcodeFormat.QR_CODE, 64, 64);
+
+        QrPngEncoder.encode(large);
+        assertSamePixels(small, decode(QrPngEncoder.encode(small)));
+    }
+
+    @Test
+    void qrCodeIsReadableFromPng() throws Exception {
+        BitMatrix matrix = new QRCodeWriter().encode("ORDER-42_item-7", BarcodeFormat.QR_CODE, 200, 200);
+        BufferedImage image = decode(QrPngEncoder.encode(matrix));
+
+        String text = new QRCodeReader()
+                .decode(new BinaryBitmap(new HybridBinarizer(new BufferedImageLuminanceSource(image))))
+                .getText();
+
+        assertEquals("ORDER-42_item-7", text);
+    }
+
+    private static BufferedImage decode(byte[] png) throws Exception {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertNotNull(image, "ImageIO не смог прочитать PNG");
+        return image;
+    }
+
+    private static void assertSamePixels(BitMatrix matrix, BufferedImage image) {
+        assertEquals(matrix.getWidth(), image.getWidth());
+        assertEquals(matrix.getHeight(), image.getHeight());
+        for (int y = 0; y < matrix.getHeight(); y++) {
+            for (int x = 0; x < matrix.getWidth(); x++) {
+                boolean black = (image.getRGB(x, y) & 0xFFFFFF) == 0;
+                assertEquals(matrix.get(x, y), black, "пиксель (" + x + ", " + y + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.warehouse.utils;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QrSvgEncoderTest {
+
+    private static final Pattern RUN = Pattern.compile("M(\\d+) (\\d+)h(\\d+)v1h-(\\d+)z");
+
+    @Test
+    void knownMatrixGivesExactRunsViewBoxAndMargin() {
+        // ■■□□■
+        // □■■■■
+        ByteMatrix matrix = matrix("11001", "01111");
+
+        String svg = svg(matrix, 120, 2);
+
+        assertTrue(svg.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"120\" height=\"120\"" +
+                " viewBox=\"0 0 9 9\" shape-rendering=\"crispEdges\">"), svg);
+        assertTrue(svg.endsWith("<path fill=\"#000\" d=\"M2 2h2v1h-2zM6 2h1v1h-1zM3 3h4v1h-4z\"/></svg>"), svg);
+    }
+
+    @Test
+    void zeroMarginAndEmptyRows() {
+        String svg = svg(matrix("000", "101"), 30, 0);
+
+        assertTrue(svg.contains(" viewBox=\"0 0 3 3\""), svg);
+        assertTrue(svg.endsWith("d=\"M0 1h1v1h-1zM2 1h1v1h-1z\"/></svg>"), svg);
+    }
+
+    @Test
+    void runsCoverEveryDarkModuleOfARealCode() throws Exception {
+        ByteMatrix modules = Encoder.encode("ORD-2024-0099", ErrorCorrectionLevel.L).getMatrix();
+        int margin = 4;
+
+        String svg = svg(modules, 200, margin);
+
+        int box = modules.getWidth() + 2 * margin;
+        assertTrue(svg.contains(" viewBox=\"0 0 " + box + " " + box + "\""), svg);
+        boolean[][] painted = new boolean[modules.getHeight()][modules.getWidth()];
+        Matcher run = RUN.matcher(svg);
+        while (run.find()) {
+            int x = Integer.parseInt(run.group(1)) - margin;
+            int y = Integer.parseInt(run.group(2)) - margin;
+            int length = Integer.parseInt(run.group(3));
+            assertEquals(length, Integer.parseInt(run.group(4)));
+            for (int i = 0; i < length; i++) {
+                assertTrue(!painted[y][x + i], "модуль закрашен дважды: " + (x + i) + "," + y);
+                painted[y][x + i] = true;
+            }
+        }
+        for (int y = 0; y < modules.getHeight(); y++) {
+            for (int x = 0; x < modules.getWidth(); x++) {
+                assertEquals(modules.get(x, y) == 1, painted[y][x], "модуль " + x + "," + y);
+            }
+        }
+    }
+
+    private static ByteMatrix matrix(String... rows) {
+        ByteMatrix matrix = new ByteMatrix(rows[0].length(), rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            for (int x = 0; x < rows[y].length(); x++) {
+                matrix.set(x, y, rows[y].charAt(x) == '1');
+            }
+        }
+        return matrix;
+    }
+
+    private static String svg(ByteMatrix matrix, int size, int margin) {
+        return new String(QrSvgEncoder.encode(matrix, size, margin), StandardCharsets.UTF_8);
+    }
+}
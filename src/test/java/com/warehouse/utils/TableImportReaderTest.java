@@ -0,0 +1,101 @@
+package com.warehouse.utils;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TableImportReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void csvWithCommaDelimiterAndQuotes() throws IOException {
+        List<String> rows = readCsv("name,quantity,description\r\n"
+                + "\"Box, large\",5,\"He said \"\"hi\"\"\"\r\n"
+                + "Tape,7,\"two\nlines\"\r\n");
+
+        assertEquals(List.of(
+                "1:[name|quantity|description]",
+                "2:[Box, large|5|He said \"hi\"]",
+                "3:[Tape|7|two\nlines]"), rows);
+    }
+
+    @Test
+    void csvWithSemicolonDelimiterBomAndNoTrailingNewline() throws IOException {
+        List<String> rows = readCsv("\uFEFFname;price\nМолоко;1,50\nХлеб;");
+
+        // ';' встретился раньше ',' — запятая в цене остаётся частью значения
+        assertEquals(List.of("1:[name|price]", "2:[Молоко|1,50]", "3:[Хлеб|]"), rows);
+    }
+
+    @Test
+    void csvKeepsEmptyCellsInPlace() throws IOException {
+        List<String> rows = readCsv("a,,c\n,b,\n");
+
+        assertEquals(List.of("1:[a||c]", "2:[|b|]"), rows);
+    }
+
+    @Test
+    void xlsxReadsFirstSheetAsDisplayedStrings() throws IOException {
+        Path file = dir.resolve("items.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("Items");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("quantity");
+            header.createCell(2).setCellValue("price");
+
+            Row data = sheet.createRow(1);
+            data.createCell(0).setCellValue("Box");
+            // B2 пустая: в XML ячейки нет, позиция C восстанавливается по ссылке
+            CellStyle money = workbook.createCellStyle();
+            money.setDataFormat(workbook.createDataFormat().getFormat("0.00"));
+            data.createCell(2).setCellValue(2.5);
+            data.getCell(2).setCellStyle(money);
+
+            // Строка 4 (индекс 3): между строками данных есть пропуск
+            sheet.createRow(3).createCell(1).setCellValue(12);
+
+            workbook.createSheet("Ignored").createRow(0).createCell(0).setCellValue("other");
+            workbook.write(out);
+        }
+
+        List<String> rows = new ArrayList<>();
+        TableImportReader.read(ExportFormat.XLSX, file, (rowNum, cells) -> rows.add(rowNum + ":" + String.join("|", cells)));
+
+        assertEquals(List.of("1:name|quantity|price", "2:Box||2.50", "4:|12"), rows);
+    }
+
+    @Test
+    void brokenXlsxIsReportedAsIoException() throws IOException {
+        Path file = dir.resolve("broken.xlsx");
+        Files.writeString(file, "not a zip");
+
+        assertThrows(IOException.class, () -> TableImportReader.read(ExportFormat.XLSX, file, (rowNum, cells) -> { }));
+    }
+
+    // Строка — "номер:[ячейка|ячейка|...]"
+    private List<String> readCsv(String content) throws IOException {
+        Path file = dir.resolve("items.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        List<String> rows = new ArrayList<>();
+        TableImportReader.read(ExportFormat.CSV, file, (rowNum, cells) ->
+                rows.add(rowNum + ":[" + String.join("|", cells) + "]"));
+        return rows;
+    }
+}
@@ -0,0 +1,86 @@
+package com.warehouse.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    @Test
+    void normalizeFoldsCaseDiacriticsAndYo() {
+        assertEquals("елка zołw uber", TrigramIndex.normalize("Ёлка  Żółw-Über!"));
+        assertEquals("чай йогурт", TrigramIndex.normalize("Чай, ЙОГУРТ"));
+        assertEquals("", TrigramIndex.normalize(null));
+    }
+
+    @Test
+    void findsSubstringAndRanksPrefixFirst() {
+        TrigramIndex index = new TrigramIndex();
+        index.put("1", "Коробка большая", null);
+        index.put("2", "Большая коробка", null);
+        index.put("3", "Скотч", null);
+
+        List<TrigramIndex.Hit> hits = index.search("короб", 10);
+
+        assertEquals(List.of("1", "2"), ids(hits));
+    }
+
+    @Test
+    void nameMatchOutranksDescriptionMatch() {
+        TrigramIndex index = new TrigramIndex();
+        index.put("desc", "Пакет", "для молока");
+        index.put("name", "Молоко 3.2%", null);
+
+        assertEquals(List.of("name", "desc"), ids(index.search("молоко", 10)));
+    }
+
+    @Test
+    void ignoresCaseAndDiacriticsInQuery() {
+        TrigramIndex index = new TrigramIndex();
+        index.put("1", "Crème brûlée", null);
+
+        assertEquals(List.of("1"), ids(index.search("CREME BRULEE", 10)));
+    }
+
+    @Test
+    void putReplacesOldTextAndRemoveDropsItem() {
+        TrigramIndex index = new TrigramIndex();
+        index.put("1", "Молоток", null);
+        index.put("1", "Отвёртка", null);
+
+        assertTrue(index.search("молоток", 10).isEmpty());
+        assertEquals(List.of("1"), ids(index.search("отвертка", 10)));
+        assertEquals(1, index.size());
+
+        index.remove("1");
+        assertTrue(index.search("отвертка", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void unrelatedTextIsBelowThreshold() {
+        TrigramIndex index = new TrigramIndex();
+        index.put("1", "Стол", null);
+
+        assertTrue(index.search("кабель", 10).isEmpty());
+    }
+
+    @Test
+    void respectsLimitAndEmptyQuery() {
+        TrigramIndex index = new TrigramIndex();
+        for (int i = 0; i < 30; i++) {
+            index.put(String.valueOf(i), "Лампа " + i, null);
+        }
+
+        assertEquals(5, index.search("лампа", 5).size());
+        assertTrue(index.search("  ", 5).isEmpty());
+        assertTrue(index.search("лампа", 0).isEmpty());
+    }
+
+    private static List<String> ids(List<TrigramIndex.Hit> hits) {
+        return hits.stream().map(TrigramIndex.Hit::id).toList();
+    }
+}